@@ -13,6 +13,7 @@ import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -24,6 +25,9 @@ import java.util.List;
  * <p>The builder uses the {@link Specification} interface to dynamically
  * create predicates based on the provided filter values. If a filter value is
  * not provided (i.e., null or empty), it will be ignored in the specification.</p>
+ *
+ * <p>{@code updatedAfter} and {@code updatedAfterId} give a position in the order of
+ * modification time and ID; only appointments modified after that position are kept.</p>
  */
 @Builder
 public class AppointmentFilterBuilder extends BaseFilterBuilder<Appointment> {
@@ -31,6 +35,13 @@ public class AppointmentFilterBuilder extends BaseFilterBuilder<Appointment> {
 	private String note;
 	private LocalDateTime startDateTime;
 	private LocalDateTime endDateTime;
+	private LocalDateTime startDateTimeFrom;
+	private LocalDateTime startDateTimeTo;
+	private LocalDateTime endDateTimeAfter;
+	private LocalDateTime updatedAfter;
+	private Long updatedAfterId;
+	private LocalDateTime updatedBefore;
+	private Collection<Long> employeeIds;
 	private Client client;
 	private User employee;
 	private AppointmentType appointmentType;
@@ -51,13 +62,30 @@ public class AppointmentFilterBuilder extends BaseFilterBuilder<Appointment> {
 
 		addEqualPredicate(predicates, root, criteriaBuilder, "startDateTime", startDateTime);
 		addEqualPredicate(predicates, root, criteriaBuilder, "endDateTime", endDateTime);
+		addRangePredicate(predicates, root, criteriaBuilder, "startDateTime", startDateTimeFrom, startDateTimeTo);
+		if (endDateTimeAfter != null) {
+			predicates.add(criteriaBuilder.greaterThan(root.get("endDateTime"), endDateTimeAfter));
+		}
+		if (updatedAfter != null) {
+			predicates.add(criteriaBuilder.or(
+				criteriaBuilder.greaterThan(root.get("updatedAt"), updatedAfter),
+				criteriaBuilder.and(
+					criteriaBuilder.equal(root.get("updatedAt"), updatedAfter),
+					criteriaBuilder.greaterThan(root.get("id"), updatedAfterId != null ? updatedAfterId : Long.MIN_VALUE)
+				)
+			));
+		}
+		if (updatedBefore != null) {
+			predicates.add(criteriaBuilder.lessThan(root.get("updatedAt"), updatedBefore));
+		}
 		addLikePredicate(predicates, root, criteriaBuilder, "note", note);
 		addEqualPredicate(predicates, root, criteriaBuilder, "client", client);
 		addEqualPredicate(predicates, root, criteriaBuilder, "appointmentType", appointmentType);
-		addEqualPredicate(predicates, root, criteriaBuilder, "taskedEmployee", employee);
+		addEqualPredicate(predicates, root, criteriaBuilder, "employee", employee);
+		addInPredicate(predicates, root, criteriaBuilder, "employee.id", employeeIds);
 		addEqualPredicate(predicates, root, criteriaBuilder, "firm", firm);
-		addEqualPredicate(predicates, root, criteriaBuilder, "paidAppointment", paidAppointment);
-		addEqualPredicate(predicates, root, criteriaBuilder, "attendedAppointment", attendedAppointment);
+		addEqualPredicate(predicates, root, criteriaBuilder, "isPaid", paidAppointment);
+		addEqualPredicate(predicates, root, criteriaBuilder, "isAttended", attendedAppointment);
 
 		return predicates;
 	}
@@ -0,0 +1,71 @@
+package com.sinergy.chronosync.builder;
+
+import com.sinergy.chronosync.model.Firm;
+import com.sinergy.chronosync.model.series.AppointmentSeries;
+import com.sinergy.chronosync.model.user.User;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.Builder;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Filter builder for creating specifications to query {@link AppointmentSeries} entities.
+ *
+ * <p>The active range keeps the series whose occurrences may overlap {@code [activeFrom, activeTo)},
+ * that is series starting before its end and not ending before its start. If a filter value
+ * is not provided (i.e., null or empty), it will be ignored in the specification.</p>
+ */
+@Builder
+public class AppointmentSeriesFilterBuilder extends BaseFilterBuilder<AppointmentSeries> {
+
+	private Firm firm;
+	private User employee;
+	private Collection<Long> employeeIds;
+	private LocalDateTime activeFrom;
+	private LocalDateTime activeTo;
+
+	/**
+	 * Builds a list of predicates based on the provided filter criteria for querying {@link AppointmentSeries} entities.
+	 *
+	 * @param criteriaBuilder {@link CriteriaBuilder} used for constructing predicates
+	 * @param root            {@link Root} representing the {@link AppointmentSeries} entity in the query
+	 * @return {@link List} of {@link Predicate} objects representing the filtering conditions
+	 */
+	public List<Predicate> buildPredicates(CriteriaBuilder criteriaBuilder, Root<AppointmentSeries> root) {
+		List<Predicate> predicates = new ArrayList<>();
+
+		addEqualPredicate(predicates, root, criteriaBuilder, "firm", firm);
+		addEqualPredicate(predicates, root, criteriaBuilder, "employee", employee);
+		addInPredicate(predicates, root, criteriaBuilder, "employee.id", employeeIds);
+		if (activeTo != null) {
+			predicates.add(criteriaBuilder.lessThan(root.get("startDateTime"), activeTo));
+		}
+		if (activeFrom != null) {
+			predicates.add(criteriaBuilder.or(
+				criteriaBuilder.isNull(root.get("lastEndDateTime")),
+				criteriaBuilder.greaterThan(root.get("lastEndDateTime"), activeFrom)
+			));
+		}
+
+		return predicates;
+	}
+
+	/**
+	 * Converts the filter criteria defined in this builder into a
+	 * {@link Specification} for querying {@link AppointmentSeries} entities.
+	 *
+	 * @return a {@link Specification} that can be used to filter {@link AppointmentSeries} entities
+	 */
+	@Override
+	public Specification<AppointmentSeries> toSpecification() {
+		return (root, query, criteriaBuilder) -> criteriaBuilder.and(
+			buildPredicates(criteriaBuilder, root).toArray(new Predicate[0])
+		);
+	}
+}
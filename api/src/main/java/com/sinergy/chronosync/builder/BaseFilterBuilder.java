@@ -1,11 +1,13 @@
 package com.sinergy.chronosync.builder;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -79,6 +81,65 @@ public abstract class BaseFilterBuilder<T> implements FilterBuilder<T> {
 		}
 	}
 
+	/**
+	 * Adds predicates restricting an attribute to a half-open range.
+	 * <p>
+	 * The lower bound is inclusive and the upper bound is exclusive, so adjacent
+	 * ranges never overlap. A bound that is null is ignored.
+	 * </p>
+	 *
+	 * @param predicates      {@link List<Predicate>} the list of predicates to which the new predicates will be added
+	 * @param root            {@link Root<T>} the root of the query, representing the entity type
+	 * @param criteriaBuilder {@link CriteriaBuilder} the criteria builder used to construct the predicates
+	 * @param attributeName   {@link String} the name of the attribute in the entity to filter by
+	 * @param from            inclusive lower bound of the attribute
+	 * @param to              exclusive upper bound of the attribute
+	 * @param <Y>             the type of the compared attribute
+	 */
+	<Y extends Comparable<? super Y>> void addRangePredicate(
+		List<Predicate> predicates,
+		Root<T> root,
+		CriteriaBuilder criteriaBuilder,
+		String attributeName,
+		Y from,
+		Y to
+	) {
+		if (from != null) {
+			predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get(attributeName), from));
+		}
+		if (to != null) {
+			predicates.add(criteriaBuilder.lessThan(root.get(attributeName), to));
+		}
+	}
+
+	/**
+	 * Adds a predicate restricting an attribute to the given values.
+	 * <p>
+	 * A null or empty collection of values is ignored, so the attribute is not restricted.
+	 * </p>
+	 *
+	 * @param predicates      {@link List<Predicate>} the list of predicates to which the new predicate will be added
+	 * @param root            {@link Root<T>} the root of the query, representing the entity type
+	 * @param criteriaBuilder {@link CriteriaBuilder} the criteria builder used to construct the predicate
+	 * @param attributePath   {@link String} the attribute to filter by, with nested attributes separated by dots
+	 * @param values          {@link Collection} of allowed values
+	 */
+	void addInPredicate(
+		List<Predicate> predicates,
+		Root<T> root,
+		CriteriaBuilder criteriaBuilder,
+		String attributePath,
+		Collection<?> values
+	) {
+		if (values != null && !values.isEmpty()) {
+			Path<?> path = root;
+			for (String attribute : attributePath.split("\\.")) {
+				path = path.get(attribute);
+			}
+			predicates.add(path.in(values));
+		}
+	}
+
 	/**
 	 * Adds a predicate for string matching using the LIKE operator based on the given attribute name and value.
 	 * <p>
@@ -0,0 +1,78 @@
+package com.sinergy.chronosync.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Limits of the per-firm request admission.
+ *
+ * <p>Bound from {@code admission.*} properties. Every firm is admitted under the quotas
+ * of its tier from {@code admission.tiers.<name>.*}; firms without a tier, or with a tier
+ * that is not configured, are admitted under the default tier.</p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "admission")
+public class AdmissionProperties {
+
+	/**
+	 * Whether requests are admitted through the per-firm limits at all.
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * Maximum number of requests handled at once on this instance, across all firms.
+	 */
+	private int maxConcurrent = 64;
+
+	/**
+	 * Time a request waits for a free slot before it is rejected.
+	 */
+	private Duration queueTimeout = Duration.ofSeconds(5);
+
+	/**
+	 * Maximum number of firms whose request rates are tracked.
+	 */
+	private long maximumFirms = 10000;
+
+	/**
+	 * Name of the tier of firms without a configured tier.
+	 */
+	private String defaultTier = "standard";
+
+	private Map<String, Tier> tiers = new LinkedHashMap<>();
+
+	/**
+	 * Quotas of a single tier.
+	 */
+	@Getter
+	@Setter
+	public static class Tier {
+
+		/**
+		 * Sustained number of requests per second a firm may send.
+		 */
+		private double requestsPerSecond = 20;
+
+		/**
+		 * Number of requests a firm may send at once above its sustained rate.
+		 */
+		private int burst = 40;
+
+		/**
+		 * Share of the free slots a firm gets relative to firms of other tiers, when
+		 * requests wait for one.
+		 */
+		private int weight = 1;
+
+		/**
+		 * Maximum number of a firm's requests waiting for a slot at once.
+		 */
+		private int maxQueued = 16;
+	}
+}
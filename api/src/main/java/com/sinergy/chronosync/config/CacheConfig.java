@@ -0,0 +1,62 @@
+package com.sinergy.chronosync.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.cache.JCacheManagerCustomizer;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.jcache.JCacheCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.OptionalLong;
+
+/**
+ * Configuration class for the in-process JCache (Caffeine) cache manager.
+ *
+ * <p>The same cache manager backs the Hibernate second-level and query caches, so
+ * every region gets the size and time-to-live limits from {@link CacheRegionProperties}
+ * and its statistics are published together with the other cache metrics.</p>
+ */
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(CacheRegionProperties.class)
+public class CacheConfig {
+
+	public static final String FIRM_REGION = "firms";
+	public static final String APPOINTMENT_TYPE_REGION = "appointment-types";
+	public static final String APPOINTMENT_TYPE_QUERY_REGION = "appointment-type-queries";
+
+	/**
+	 * Creates every configured region with its size and time-to-live limits.
+	 *
+	 * @param properties {@link CacheRegionProperties} configured regions
+	 * @return {@link JCacheManagerCustomizer} creating the regions on startup
+	 */
+	@Bean
+	public JCacheManagerCustomizer cacheRegionsCustomizer(CacheRegionProperties properties) {
+		return cacheManager -> properties.getRegions().forEach((name, region) -> {
+			CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+			configuration.setMaximumSize(OptionalLong.of(region.getMaximumSize()));
+			if (region.getTimeToLive() != null) {
+				configuration.setExpireAfterWrite(OptionalLong.of(region.getTimeToLive().toNanos()));
+			}
+			configuration.setStatisticsEnabled(true);
+
+			cacheManager.createCache(name, configuration);
+		});
+	}
+
+	/**
+	 * Hands the Spring managed cache manager to Hibernate, so the second-level cache
+	 * uses the regions created above instead of creating its own.
+	 *
+	 * @param cacheManager {@link JCacheCacheManager} Spring managed cache manager
+	 * @return {@link HibernatePropertiesCustomizer} registering the cache manager
+	 */
+	@Bean
+	public HibernatePropertiesCustomizer hibernateSecondLevelCacheCustomizer(JCacheCacheManager cacheManager) {
+		return properties -> properties.put(ConfigSettings.CACHE_MANAGER, cacheManager.getCacheManager());
+	}
+}
@@ -0,0 +1,41 @@
+package com.sinergy.chronosync.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Size and time-to-live limits of the in-process cache regions.
+ *
+ * <p>Bound from {@code cache.regions.<name>.*} properties. Every configured region is
+ * created up front, so Hibernate never falls back to an unbounded default cache.</p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cache")
+public class CacheRegionProperties {
+
+	private Map<String, Region> regions = new LinkedHashMap<>();
+
+	/**
+	 * Limits of a single cache region.
+	 */
+	@Getter
+	@Setter
+	public static class Region {
+
+		/**
+		 * Maximum number of entries kept in the region.
+		 */
+		private long maximumSize = 1000;
+
+		/**
+		 * Time after which an entry expires once written, or {@code null} to never expire.
+		 */
+		private Duration timeToLive;
+	}
+}
@@ -0,0 +1,131 @@
+package com.sinergy.chronosync.config;
+
+import com.sinergy.chronosync.exception.AdmissionRejectedException;
+import com.sinergy.chronosync.service.RequestAdmissionService;
+import com.sinergy.chronosync.service.RequestAdmissionService.Permit;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Filter admitting authenticated requests under the per-firm limits of
+ * {@link RequestAdmissionService}.
+ *
+ * <p>Runs after authorization, so only requests that would be handled count against
+ * their firm. Requests without a firm, such as logins and calendar feeds, are not limited.
+ * Rejected requests are answered with the status of the rejection and a
+ * {@code Retry-After} header in seconds.</p>
+ *
+ * <p>A request that goes asynchronous, such as a streamed export or report, keeps its
+ * slot until the asynchronous processing completes rather than until its first dispatch
+ * returns, so long-running responses count against their firm for as long as they hold
+ * a connection and a database cursor.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class FirmAdmissionFilter extends OncePerRequestFilter {
+
+	private final RequestAdmissionService requestAdmissionService;
+	private final AdmissionProperties admissionProperties;
+
+	/**
+	 * Admits the request under its firm's limits and holds its slot while it is handled,
+	 * including any asynchronous processing it starts.
+	 *
+	 * @param request     {@link HttpServletRequest} HTTP request
+	 * @param response    {@link HttpServletResponse} HTTP response
+	 * @param filterChain {@link FilterChain} filter chain to continue processing
+	 * @throws ServletException {@link ServletException} if a servlet-related error occurs
+	 * @throws IOException      {@link IOException} if an I/O error occurs
+	 */
+	@Override
+	protected void doFilterInternal(
+		@NonNull HttpServletRequest request,
+		@NonNull HttpServletResponse response,
+		@NonNull FilterChain filterChain
+	) throws ServletException, IOException {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (
+			authentication == null ||
+			!(authentication.getPrincipal() instanceof JwtUserPrincipal principal) ||
+			principal.getFirmId() == null
+		) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		Permit permit;
+		try {
+			permit = requestAdmissionService.admit(principal.getFirmId(), principal.getTier());
+		} catch (AdmissionRejectedException e) {
+			long retryAfterSeconds = Math.max(1, e.getRetryAfter().plusMillis(999).toSeconds());
+			response.setStatus(e.getReason().getStatus().value());
+			response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+			response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+			response.getWriter().write(e.getMessage());
+			return;
+		}
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			if (request.isAsyncStarted()) {
+				request.getAsyncContext().addListener(new PermitReleasingListener(permit));
+			} else {
+				permit.close();
+			}
+		}
+	}
+
+	/**
+	 * Skips the filter when admission is disabled.
+	 *
+	 * @param request {@link HttpServletRequest} HTTP request
+	 * @return {@code true} if admission is disabled
+	 */
+	@Override
+	protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+		return !admissionProperties.isEnabled();
+	}
+
+	/**
+	 * Releases the slot of an asynchronous request once its processing completes, following
+	 * the request into any further asynchronous cycle it starts. Timeouts and errors are
+	 * always followed by completion, so the slot is kept until the error handling is done.
+	 */
+	@RequiredArgsConstructor
+	private static final class PermitReleasingListener implements AsyncListener {
+
+		private final Permit permit;
+
+		@Override
+		public void onComplete(AsyncEvent event) {
+			permit.close();
+		}
+
+		@Override
+		public void onTimeout(AsyncEvent event) {
+		}
+
+		@Override
+		public void onError(AsyncEvent event) {
+		}
+
+		@Override
+		public void onStartAsync(AsyncEvent event) {
+			event.getAsyncContext().addListener(this);
+		}
+	}
+}
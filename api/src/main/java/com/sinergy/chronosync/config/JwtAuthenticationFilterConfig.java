@@ -16,6 +16,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -64,6 +65,8 @@ public class JwtAuthenticationFilterConfig extends OncePerRequestFilter {
 		String username = jwtUtils.extractUsername(jwt);
 		Long userId = jwtUtils.extractUserId(jwt);
 		Long firmId = jwtUtils.extractFirmId(jwt);
+		ZoneId timeZone = jwtUtils.extractTimeZone(jwt);
+		String tier = jwtUtils.extractTier(jwt);
 		List<String> roles = jwtUtils.extractRoles(jwt);
 
 		List<GrantedAuthority> authorities = roles.stream()
@@ -80,6 +83,8 @@ public class JwtAuthenticationFilterConfig extends OncePerRequestFilter {
 			JwtUserPrincipal userPrincipal = new JwtUserPrincipal(
 				userId,
 				firmId,
+				timeZone,
+				tier,
 				username,
 				authorities
 			);
@@ -5,10 +5,11 @@ import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.time.ZoneId;
 import java.util.List;
 
 /**
- * JwtUserPrincipal class that wraps user id, firm id, username and user roles to JWT.
+ * JwtUserPrincipal class that wraps user id, firm id, firm time zone, firm tier, username and user roles to JWT.
  */
 @Getter
 @AllArgsConstructor
@@ -16,6 +17,8 @@ public class JwtUserPrincipal implements UserDetails {
 
 	private Long id;
 	private Long firmId;
+	private ZoneId timeZone;
+	private String tier;
 	private String username;
 	private List<GrantedAuthority> authorities;
 
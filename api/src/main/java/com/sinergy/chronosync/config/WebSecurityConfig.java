@@ -1,7 +1,9 @@
 package com.sinergy.chronosync.config;
 
 import com.sinergy.chronosync.model.user.UserRole;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationProvider;
@@ -11,6 +13,7 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.authentication.logout.LogoutHandler;
 
@@ -27,29 +30,40 @@ import static org.springframework.security.config.http.SessionCreationPolicy.STA
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
+@EnableConfigurationProperties(AdmissionProperties.class)
 @RequiredArgsConstructor
 public class WebSecurityConfig {
 
 	private final JwtAuthenticationFilterConfig jwtAuthenticationFilterConfig;
+	private final FirmAdmissionFilter firmAdmissionFilter;
 	private final AuthenticationProvider authenticationProvider;
 	private final LogoutHandler logoutHandler;
 	private final CorsConfig corsConfig;
 
-	private static final List<String> WHITE_LIST_URL = List.of("/api/v1/auth/login");
+	private static final List<String> WHITE_LIST_URL = List.of(
+		"/api/v1/auth/login",
+		"/api/v1/calendar-feed/ics/*"
+	);
 
 	private static final List<String> EMPLOYEE_LIST_URL = List.of(
 		"/api/v1/auth/logout",
 		"/api/v1/client/**",
 		"/api/v1/appointment/**",
+		"/api/v1/calendar-feed/token",
+		"/api/v1/schedule/search",
 		"/api/v1/auth/validate-token"
 	);
 
 	private static final List<String> MANAGER_LIST_URL = List.of(
-		"/api/v1/appointment-type/**"
+		"/api/v1/appointment-type/**",
+		"/api/v1/schedule/**",
+		"/api/v1/report/**"
 	);
 
 	private static final List<String> ADMIN_LIST_URL = List.of(
-		"/api/v1/user/create"
+		"/api/v1/user/create",
+		"/api/v1/firm/**",
+		"/actuator/**"
 	);
 
 	/**
@@ -57,7 +71,13 @@ public class WebSecurityConfig {
 	 *
 	 * <p> Sets up HTTP security configurations such as disabling CSRF protection,
 	 * allowing unauthenticated access to specific URL patterns,\ managing session creation policy,
-	 * adding filters for JWT authentication and logout handling.</p>
+	 * adding filters for JWT authentication, per-firm request admission and logout handling.</p>
+	 *
+	 * <p>Async dispatches of streamed responses are permitted, since the original request
+	 * was already authorized and the JWT filter does not run again on the dispatch.</p>
+	 *
+	 * <p>Request admission runs after authorization, so requests that are denied never
+	 * take a firm's quota or a request slot.</p>
 	 *
 	 * @param http {@link HttpSecurity} http object to configure security settings
 	 * @return {@link SecurityFilterChain} object that contains the security filter configuration
@@ -68,6 +88,7 @@ public class WebSecurityConfig {
 		return http
 			.csrf(AbstractHttpConfigurer::disable)
 			.authorizeHttpRequests(req -> req
+				.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
 				.requestMatchers(WHITE_LIST_URL.toArray(String[]::new)).permitAll()
 				.requestMatchers(EMPLOYEE_LIST_URL.toArray(String[]::new))
 					.hasAnyRole(UserRole.EMPLOYEE.name(), UserRole.MANAGER.name(), UserRole.ADMINISTRATOR.name())
@@ -79,6 +100,7 @@ public class WebSecurityConfig {
 			.sessionManagement(session -> session.sessionCreationPolicy(STATELESS))
 			.authenticationProvider(authenticationProvider)
 			.addFilterBefore(jwtAuthenticationFilterConfig, UsernamePasswordAuthenticationFilter.class)
+			.addFilterAfter(firmAdmissionFilter, AuthorizationFilter.class)
 			.logout(logout ->
 				logout.logoutUrl("/api/v1/auth/logout")
 					.addLogoutHandler(logoutHandler)
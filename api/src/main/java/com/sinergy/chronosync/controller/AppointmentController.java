@@ -1,15 +1,38 @@
 package com.sinergy.chronosync.controller;
 
+import com.sinergy.chronosync.dto.request.AppointmentBatchItemDTO;
+import com.sinergy.chronosync.dto.request.AppointmentExportRequestDTO;
 import com.sinergy.chronosync.dto.request.AppointmentRequestDTO;
+import com.sinergy.chronosync.dto.request.AvailabilityRequestDTO;
 import com.sinergy.chronosync.dto.request.BasePaginationRequest;
+import com.sinergy.chronosync.dto.request.CalendarRequestDTO;
+import com.sinergy.chronosync.dto.response.AppointmentChangesDTO;
+import com.sinergy.chronosync.dto.response.AppointmentSearchResponseDTO;
+import com.sinergy.chronosync.dto.response.BatchItemResultDTO;
+import com.sinergy.chronosync.dto.response.CalendarEntryDTO;
+import com.sinergy.chronosync.dto.response.EmployeeAvailabilityDTO;
 import com.sinergy.chronosync.model.Appointment;
+import com.sinergy.chronosync.service.AppointmentBatchService;
+import com.sinergy.chronosync.service.AppointmentEventService;
+import com.sinergy.chronosync.service.AppointmentExportService;
+import com.sinergy.chronosync.service.AppointmentSeriesService;
 import com.sinergy.chronosync.service.AppointmentService;
+import com.sinergy.chronosync.service.AppointmentSyncService;
+import com.sinergy.chronosync.service.AvailabilityService;
+import com.sinergy.chronosync.service.IdempotencyService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 /**
  * Controller for managing appointments.
@@ -20,6 +43,13 @@ import org.springframework.web.bind.annotation.*;
 public class AppointmentController {
 
 	private final AppointmentService appointmentService;
+	private final AppointmentExportService appointmentExportService;
+	private final AppointmentBatchService appointmentBatchService;
+	private final AvailabilityService availabilityService;
+	private final AppointmentSeriesService appointmentSeriesService;
+	private final AppointmentSyncService appointmentSyncService;
+	private final AppointmentEventService appointmentEventService;
+	private final IdempotencyService idempotencyService;
 
 	/**
 	 * Retrieves a paginated list of appointments.
@@ -29,28 +59,113 @@ public class AppointmentController {
 	 * are used if not specified.</p>
 	 */
 	@PostMapping("/search")
-	public ResponseEntity<Page<Appointment>> getAppointments(
+	public ResponseEntity<Page<AppointmentSearchResponseDTO>> getAppointments(
 		@RequestBody BasePaginationRequest paginationRequest
 	) {
 		int page = paginationRequest.getPage();
 		int size = paginationRequest.getPageSize();
 		PageRequest pageRequest = PageRequest.of(page, size);
-		Page<Appointment> appointments = appointmentService.getAppointments(pageRequest);
+		Page<AppointmentSearchResponseDTO> appointments = appointmentService.getAppointments(pageRequest);
 		return ResponseEntity.ok(appointments);
 	}
 
 	/**
-	 * Creates new appointment.
+	 * Retrieves the appointments and recurring appointment occurrences overlapping a time range.
+	 *
+	 * @param request {@link CalendarRequestDTO} employees and range to return
+	 * @return {@link ResponseEntity} containing the {@link CalendarEntryDTO} entries ordered by start
+	 */
+	@PostMapping("/calendar")
+	public ResponseEntity<List<CalendarEntryDTO>> getCalendar(
+		@RequestBody CalendarRequestDTO request
+	) {
+		return ResponseEntity.ok(appointmentSeriesService.getCalendar(request));
+	}
+
+	/**
+	 * Retrieves the appointments created, updated and deleted since a previous call, so a
+	 * client can keep a local copy of the firm's or one employee's appointments.
+	 *
+	 * <p>Without a token the feed starts from the beginning. Each response carries the token
+	 * for the next call; while {@code hasMore} is set, the next page can be requested right away.</p>
+	 *
+	 * @param token      {@link String} token returned by the previous call, if any
+	 * @param employeeId {@link Long} ID of the employee to follow, or none for the whole firm
+	 * @return {@link ResponseEntity} containing the {@link AppointmentChangesDTO} page of changes
+	 */
+	@GetMapping("/changes")
+	public ResponseEntity<AppointmentChangesDTO> getChanges(
+		@RequestParam(required = false) String token,
+		@RequestParam(required = false) Long employeeId
+	) {
+		return ResponseEntity.ok(appointmentSyncService.getChanges(token, employeeId));
+	}
+
+	/**
+	 * Opens a server-sent event stream of the appointment changes in the current user's firm.
+	 *
+	 * <p>Each {@code appointment} event carries the kind of change and the appointment IDs.
+	 * A client that falls behind is disconnected; after reconnecting it catches up through
+	 * the change feed.</p>
+	 *
+	 * @return {@link ResponseEntity} containing the {@link SseEmitter} streaming the changes
+	 */
+	@GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public ResponseEntity<SseEmitter> subscribe() {
+		return ResponseEntity.ok(appointmentEventService.subscribe());
+	}
+
+	/**
+	 * Finds free time of the current user's firm employees for an appointment type.
+	 *
+	 * @param request {@link AvailabilityRequestDTO} employees, appointment type and range to search
+	 * @return {@link ResponseEntity} containing one {@link EmployeeAvailabilityDTO} per employee
+	 */
+	@PostMapping("/availability")
+	public ResponseEntity<List<EmployeeAvailabilityDTO>> findAvailability(
+		@RequestBody AvailabilityRequestDTO request
+	) {
+		return ResponseEntity.ok(availabilityService.findAvailability(request));
+	}
+
+	/**
+	 * Exports the appointments of the current user's firm starting within the requested range,
+	 * limited to the employee's own appointments for employees.
 	 *
-	 * @param request {@link AppointmentRequestDTO} containing the details of the new appointment
+	 * <p>The rows are streamed to the client as they are read, as newline delimited JSON
+	 * or CSV depending on the requested format. Closing the connection cancels the export.</p>
+	 *
+	 * @param request {@link AppointmentExportRequestDTO} export range and format
+	 * @return {@link ResponseEntity} containing the streamed export as an attachment
+	 */
+	@GetMapping("/export")
+	public ResponseEntity<StreamingResponseBody> exportAppointments(AppointmentExportRequestDTO request) {
+		StreamingResponseBody body = appointmentExportService.exportAppointments(request);
+		String fileName = "appointments." + request.getFormat().getFileExtension();
+
+		return ResponseEntity.ok()
+			.contentType(MediaType.parseMediaType(request.getFormat().getContentType()))
+			.header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+			.body(body);
+	}
+
+	/**
+	 * Creates new appointment. A retry with the same idempotency key is answered with the
+	 * response of the first attempt instead of creating the appointment again.
+	 *
+	 * @param request        {@link AppointmentRequestDTO} containing the details of the new appointment
+	 * @param idempotencyKey {@link String} key identifying the attempts of one request, or {@code null}
 	 * @return created {@link Appointment} along with an HTTP status of 201 (Created)
 	 */
 	@PostMapping("/create")
 	public ResponseEntity<Appointment> createAppointment(
-		@RequestBody AppointmentRequestDTO request
+		@RequestBody AppointmentRequestDTO request,
+		@RequestHeader(name = IdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
 	) {
-		Appointment appointment = appointmentService.createAppointment(request);
-		return ResponseEntity.status(HttpStatus.CREATED).body(appointment);
+		return idempotencyService.execute(idempotencyKey, "appointment/create", request.toContentKey(), () -> {
+			Appointment appointment = appointmentService.createAppointment(request);
+			return ResponseEntity.status(HttpStatus.CREATED).body(appointment);
+		});
 	}
 
 	/**
@@ -68,15 +183,54 @@ public class AppointmentController {
 	}
 
 	/**
-	 * Deletes an appointment by its ID.
+	 * Deletes one or more appointments by their IDs, e.g. {@code ?id=1&id=2}.
 	 *
-	 * @param id {@link Long} ID of the appointment to delete
+	 * @param ids {@link List} of IDs of the appointments to delete
 	 */
 	@DeleteMapping
 	public ResponseEntity<Void> deleteAppointment(
-		@RequestParam Long id
+		@RequestParam("id") List<Long> ids
 	) {
-		appointmentService.deleteAppointment(id);
+		appointmentService.deleteAppointment(ids);
 		return ResponseEntity.noContent().build();
 	}
+
+	/**
+	 * Creates many appointments in one transaction.
+	 *
+	 * @param request {@link List} of {@link AppointmentBatchItemDTO} appointments to create
+	 * @return {@link ResponseEntity} containing one {@link BatchItemResultDTO} per request item
+	 */
+	@PostMapping("/batch/create")
+	public ResponseEntity<List<BatchItemResultDTO>> createAppointments(
+		@RequestBody List<AppointmentBatchItemDTO> request
+	) {
+		return ResponseEntity.ok(appointmentBatchService.createAppointments(request));
+	}
+
+	/**
+	 * Updates many appointments in one transaction. Only the fields present on each item are changed.
+	 *
+	 * @param request {@link List} of {@link AppointmentBatchItemDTO} changes, each with an appointment ID
+	 * @return {@link ResponseEntity} containing one {@link BatchItemResultDTO} per request item
+	 */
+	@PutMapping("/batch")
+	public ResponseEntity<List<BatchItemResultDTO>> updateAppointments(
+		@RequestBody List<AppointmentBatchItemDTO> request
+	) {
+		return ResponseEntity.ok(appointmentBatchService.updateAppointments(request));
+	}
+
+	/**
+	 * Deletes many appointments in one transaction.
+	 *
+	 * @param ids {@link List} of appointment IDs to delete
+	 * @return {@link ResponseEntity} containing one {@link BatchItemResultDTO} per ID
+	 */
+	@DeleteMapping("/batch")
+	public ResponseEntity<List<BatchItemResultDTO>> deleteAppointments(
+		@RequestParam List<Long> ids
+	) {
+		return ResponseEntity.ok(appointmentBatchService.deleteAppointments(ids));
+	}
 }
@@ -0,0 +1,81 @@
+package com.sinergy.chronosync.controller;
+
+import com.sinergy.chronosync.dto.request.AppointmentSeriesRequestDTO;
+import com.sinergy.chronosync.dto.request.SeriesOccurrenceRequestDTO;
+import com.sinergy.chronosync.model.Appointment;
+import com.sinergy.chronosync.model.series.AppointmentSeries;
+import com.sinergy.chronosync.service.AppointmentSeriesService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Controller for managing recurring appointments.
+ */
+@RestController
+@RequestMapping(path = "api/v1/appointment/series")
+@RequiredArgsConstructor
+public class AppointmentSeriesController {
+
+	private final AppointmentSeriesService appointmentSeriesService;
+
+	/**
+	 * Creates new appointment series.
+	 *
+	 * @param request {@link AppointmentSeriesRequestDTO} containing the first occurrence and recurrence rule
+	 * @return created {@link AppointmentSeries} along with an HTTP status of 201 (Created)
+	 */
+	@PostMapping("/create")
+	public ResponseEntity<AppointmentSeries> createSeries(
+		@RequestBody AppointmentSeriesRequestDTO request
+	) {
+		AppointmentSeries series = appointmentSeriesService.createSeries(request);
+		return ResponseEntity.status(HttpStatus.CREATED).body(series);
+	}
+
+	/**
+	 * Deletes one or more appointment series by their IDs, e.g. {@code ?id=1&id=2}.
+	 *
+	 * @param ids {@link List} of IDs of the series to delete
+	 */
+	@DeleteMapping
+	public ResponseEntity<Void> deleteSeries(
+		@RequestParam("id") List<Long> ids
+	) {
+		appointmentSeriesService.deleteSeries(ids);
+		return ResponseEntity.noContent().build();
+	}
+
+	/**
+	 * Moves or changes one occurrence of a series, replacing it with an appointment.
+	 *
+	 * @param request {@link SeriesOccurrenceRequestDTO} identifying the occurrence and its changes
+	 * @return {@link ResponseEntity} containing the {@link Appointment} replacing the occurrence
+	 */
+	@PutMapping("/occurrence")
+	public ResponseEntity<Appointment> moveOccurrence(
+		@RequestBody SeriesOccurrenceRequestDTO request
+	) {
+		return ResponseEntity.ok(appointmentSeriesService.moveOccurrence(request));
+	}
+
+	/**
+	 * Cancels one occurrence of a series, e.g. {@code ?seriesId=1&occurrenceStartDateTime=2025-01-06T10:00}.
+	 *
+	 * @param seriesId                {@link Long} ID of the series
+	 * @param occurrenceStartDateTime {@link LocalDateTime} original start of the occurrence
+	 */
+	@DeleteMapping("/occurrence")
+	public ResponseEntity<Void> cancelOccurrence(
+		@RequestParam Long seriesId,
+		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime occurrenceStartDateTime
+	) {
+		appointmentSeriesService.cancelOccurrence(seriesId, occurrenceStartDateTime);
+		return ResponseEntity.noContent().build();
+	}
+}
@@ -3,14 +3,20 @@ package com.sinergy.chronosync.controller;
 import com.sinergy.chronosync.dto.request.AppointmentTypeRequestDTO;
 import com.sinergy.chronosync.dto.request.BasePaginationRequest;
 import com.sinergy.chronosync.dto.request.PaginatedAppointmentTypeRequestDTO;
+import com.sinergy.chronosync.dto.response.AppointmentTypeSearchResponseDTO;
 import com.sinergy.chronosync.model.appointmentType.AppointmentType;
 import com.sinergy.chronosync.service.impl.AppointmentTypeServiceImpl;
+import com.sinergy.chronosync.util.ETagUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * Controller for managing appointment types.
  * <p>
@@ -22,8 +28,38 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class AppointmentTypeController {
 
+	private static final CacheControl LIST_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
 	private final AppointmentTypeServiceImpl appointmentTypeService;
 
+	/**
+	 * Retrieves a page of appointment types of the current user's firm, as
+	 * {@link #getAppointmentTypes} does, from query parameters.
+	 *
+	 * <p>The response carries an entity tag derived from the firm's appointment type
+	 * version and must be revalidated before reuse. When the {@code If-None-Match} header
+	 * holds the current tag, {@code 304 Not Modified} is answered without querying or
+	 * serializing the appointment types.</p>
+	 *
+	 * @param request     {@link PaginatedAppointmentTypeRequestDTO} name filter and page
+	 * @param ifNoneMatch {@link String} entity tags of the client's copy, if any
+	 * @return {@link ResponseEntity} containing the {@link Page} of appointment types
+	 */
+	@GetMapping
+	public ResponseEntity<Page<AppointmentTypeSearchResponseDTO>> listAppointmentTypes(
+		PaginatedAppointmentTypeRequestDTO request,
+		@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+	) {
+		String eTag = appointmentTypeService.getAppointmentTypesETag(request);
+		if (ETagUtils.matches(ifNoneMatch, eTag)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(LIST_CACHE_CONTROL).build();
+		}
+		return ResponseEntity.ok()
+			.eTag(eTag)
+			.cacheControl(LIST_CACHE_CONTROL)
+			.body(appointmentTypeService.getAppointmentTypes(request));
+	}
+
 	/**
 	 * Retrieves a paginated list of appointment types associated with the current user's firm.
 	 *
@@ -37,10 +73,10 @@ public class AppointmentTypeController {
 	 *
 	 */
 	@PostMapping("/search")
-	public ResponseEntity<Page<AppointmentType>> getAppointmentTypes(
+	public ResponseEntity<Page<AppointmentTypeSearchResponseDTO>> getAppointmentTypes(
 		@RequestBody PaginatedAppointmentTypeRequestDTO paginationRequest
 	) {
-		Page<AppointmentType> appointmentTypes = appointmentTypeService.getAppointmentTypes(paginationRequest);
+		Page<AppointmentTypeSearchResponseDTO> appointmentTypes = appointmentTypeService.getAppointmentTypes(paginationRequest);
 		return ResponseEntity.ok(appointmentTypes);
 	}
 
@@ -73,15 +109,15 @@ public class AppointmentTypeController {
 	}
 
 	/**
-	 * Deletes an appointment type by its ID.
+	 * Deletes one or more appointment types by their IDs, e.g. {@code ?id=1&id=2}.
 	 *
-	 * @param id {@link Long} ID of the appointment type to delete
+	 * @param ids {@link List} of IDs of the appointment types to delete
 	 */
 	@DeleteMapping
 	public ResponseEntity<Void> deleteAppointmentType(
-		@RequestParam Long id
+		@RequestParam("id") List<Long> ids
 	) {
-		appointmentTypeService.deleteAppointmentType(id);
+		appointmentTypeService.deleteAppointmentType(ids);
 		return ResponseEntity.noContent().build();
 	}
 }
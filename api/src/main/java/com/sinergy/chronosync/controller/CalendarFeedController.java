@@ -0,0 +1,77 @@
+package com.sinergy.chronosync.controller;
+
+import com.sinergy.chronosync.dto.response.CalendarFeedTokenDTO;
+import com.sinergy.chronosync.service.CalendarFeedService;
+import com.sinergy.chronosync.service.CalendarFeedService.CalendarFeed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Controller for the iCalendar feeds of employees. Tokens are managed by the signed in
+ * employee, while the feed itself is read by calendar applications with the token alone.
+ */
+@RestController
+@RequestMapping(path = "api/v1/calendar-feed")
+@RequiredArgsConstructor
+public class CalendarFeedController {
+
+	private static final MediaType TEXT_CALENDAR = new MediaType("text", "calendar", StandardCharsets.UTF_8);
+
+	private final CalendarFeedService calendarFeedService;
+
+	/**
+	 * Issues a feed token for the current user, revoking the previous one.
+	 *
+	 * @return {@link ResponseEntity} containing the {@link CalendarFeedTokenDTO}
+	 */
+	@PostMapping("/token")
+	public ResponseEntity<CalendarFeedTokenDTO> createToken() {
+		return ResponseEntity.status(HttpStatus.CREATED).body(calendarFeedService.createToken());
+	}
+
+	/**
+	 * Revokes the feed token of the current user.
+	 *
+	 * @return {@link ResponseEntity} with no content
+	 */
+	@DeleteMapping("/token")
+	public ResponseEntity<Void> revokeToken() {
+		calendarFeedService.revokeToken();
+		return ResponseEntity.noContent().build();
+	}
+
+	/**
+	 * Retrieves the feed a token grants access to. Answers {@code 304 Not Modified} when
+	 * the {@code If-None-Match} header holds the current entity tag.
+	 *
+	 * @param token       {@link String} feed token
+	 * @param ifNoneMatch {@link String} entity tags of the client's copy, if any
+	 * @return {@link ResponseEntity} containing the streamed feed
+	 */
+	@GetMapping("/ics/{token}")
+	public ResponseEntity<StreamingResponseBody> getFeed(
+		@PathVariable String token,
+		@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+	) {
+		CalendarFeed feed = calendarFeedService.getFeed(token, ifNoneMatch);
+		ResponseEntity.BodyBuilder response = ResponseEntity
+			.status(feed.isModified() ? HttpStatus.OK : HttpStatus.NOT_MODIFIED)
+			.eTag(feed.eTag())
+			.cacheControl(CacheControl.noCache().cachePrivate());
+		return feed.isModified() ? response.contentType(TEXT_CALENDAR).body(feed.body()) : response.build();
+	}
+}
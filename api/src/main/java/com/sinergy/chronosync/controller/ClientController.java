@@ -2,14 +2,22 @@ package com.sinergy.chronosync.controller;
 
 import com.sinergy.chronosync.dto.request.ClientRequestDTO;
 import com.sinergy.chronosync.dto.request.PaginatedClientRequestDTO;
+import com.sinergy.chronosync.dto.response.ClientImportResponseDTO;
+import com.sinergy.chronosync.dto.response.ClientSearchResponseDTO;
 import com.sinergy.chronosync.model.Client;
+import com.sinergy.chronosync.service.ClientImportService;
+import com.sinergy.chronosync.service.IdempotencyService;
 import com.sinergy.chronosync.service.impl.ClientServiceImpl;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.Reader;
+import java.util.List;
+
 /**
  * Controller for managing clients.
  */
@@ -19,30 +27,61 @@ import org.springframework.web.bind.annotation.*;
 public class ClientController {
 
 	private final ClientServiceImpl clientService;
+	private final ClientImportService clientImportService;
+	private final IdempotencyService idempotencyService;
 
 	/**
 	 * Retrieves a paginated list of clients associated with the current user's firm.
 	 */
 	@PostMapping("/search")
-	public ResponseEntity<Page<Client>> getClients(
+	public ResponseEntity<Page<ClientSearchResponseDTO>> getClients(
 		@RequestBody PaginatedClientRequestDTO paginationRequest
 	) {
-		Page<Client> clients = clientService.getClients(paginationRequest);
+		Page<ClientSearchResponseDTO> clients = clientService.getClients(paginationRequest);
 		return ResponseEntity.ok(clients);
 	}
 
 	/**
-	 * Creates new client.
+	 * Creates new client. A retry with the same idempotency key is answered with the
+	 * response of the first attempt instead of creating the client again.
 	 *
-	 * @param request {@link ClientRequestDTO} containing the details of the new client
+	 * @param request        {@link ClientRequestDTO} containing the details of the new client
+	 * @param idempotencyKey {@link String} key identifying the attempts of one request, or {@code null}
 	 * @return created {@link Client} along with an HTTP status of 201 (Created)
 	 */
 	@PostMapping("/create")
 	public ResponseEntity<Client> createClient(
-		@RequestBody ClientRequestDTO request
+		@RequestBody ClientRequestDTO request,
+		@RequestHeader(name = IdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
 	) {
-		Client client = clientService.createClient(request);
-		return ResponseEntity.status(HttpStatus.CREATED).body(client);
+		return idempotencyService.execute(idempotencyKey, "client/create", request, () -> {
+			Client client = clientService.createClient(request);
+			return ResponseEntity.status(HttpStatus.CREATED).body(client);
+		});
+	}
+
+	/**
+	 * Imports clients in bulk from a JSON array.
+	 *
+	 * @param request {@link List} of {@link ClientRequestDTO} clients to import
+	 * @return {@link ClientImportResponseDTO} with the import outcome and the rejected rows
+	 */
+	@PostMapping(path = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<ClientImportResponseDTO> importClients(
+		@RequestBody List<ClientRequestDTO> request
+	) {
+		return ResponseEntity.ok(clientImportService.importClients(request));
+	}
+
+	/**
+	 * Imports clients in bulk from CSV with a header line naming the client fields.
+	 *
+	 * @param csv {@link Reader} request body
+	 * @return {@link ClientImportResponseDTO} with the import outcome and the rejected rows
+	 */
+	@PostMapping(path = "/import", consumes = "text/csv")
+	public ResponseEntity<ClientImportResponseDTO> importClientsCsv(Reader csv) {
+		return ResponseEntity.ok(clientImportService.importClientsCsv(csv));
 	}
 
 	/**
@@ -60,15 +99,15 @@ public class ClientController {
 	}
 
 	/**
-	 * Deletes a client by its ID.
+	 * Deletes one or more clients by their IDs, e.g. {@code ?id=1&id=2}.
 	 *
-	 * @param id {@link Long} ID of the client to delete
+	 * @param ids {@link List} of IDs of the clients to delete
 	 */
 	@DeleteMapping
 	public ResponseEntity<Client> deleteClient(
-		@RequestParam Long id
+		@RequestParam("id") List<Long> ids
 	) {
-		clientService.deleteClient(id);
+		clientService.deleteClient(ids);
 		return ResponseEntity.noContent().build();
 	}
 }
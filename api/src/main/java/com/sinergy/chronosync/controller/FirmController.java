@@ -0,0 +1,43 @@
+package com.sinergy.chronosync.controller;
+
+import com.sinergy.chronosync.dto.request.FirmTimeZoneDTO;
+import com.sinergy.chronosync.service.FirmService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller for the settings of the current user's firm. Available to administrators.
+ */
+@RestController
+@RequestMapping(path = "api/v1/firm")
+@RequiredArgsConstructor
+public class FirmController {
+
+	private final FirmService firmService;
+
+	/**
+	 * Retrieves the firm's time zone, in which days of reports and schedules are counted.
+	 *
+	 * @return {@link ResponseEntity} containing the {@link FirmTimeZoneDTO}
+	 */
+	@GetMapping("/time-zone")
+	public ResponseEntity<FirmTimeZoneDTO> getTimeZone() {
+		return ResponseEntity.ok(firmService.getTimeZone());
+	}
+
+	/**
+	 * Changes the firm's time zone. Users see the change from their next login.
+	 *
+	 * @param request {@link FirmTimeZoneDTO} holding a region ID such as {@code Europe/Sarajevo}
+	 * @return {@link ResponseEntity} containing the stored {@link FirmTimeZoneDTO}
+	 */
+	@PutMapping("/time-zone")
+	public ResponseEntity<FirmTimeZoneDTO> updateTimeZone(@RequestBody FirmTimeZoneDTO request) {
+		return ResponseEntity.ok(firmService.updateTimeZone(request));
+	}
+}
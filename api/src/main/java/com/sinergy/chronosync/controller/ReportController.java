@@ -0,0 +1,69 @@
+package com.sinergy.chronosync.controller;
+
+import com.sinergy.chronosync.dto.request.AppointmentReportRequestDTO;
+import com.sinergy.chronosync.dto.request.ExchangeRateDTO;
+import com.sinergy.chronosync.service.AppointmentReportService;
+import com.sinergy.chronosync.service.ExchangeRateService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+
+/**
+ * Controller for reports on the current user's firm. Available to managers.
+ */
+@RestController
+@RequestMapping(path = "api/v1/report")
+@RequiredArgsConstructor
+public class ReportController {
+
+	private final AppointmentReportService appointmentReportService;
+	private final ExchangeRateService exchangeRateService;
+
+	/**
+	 * Reports the revenue, counts, attendance and payments of the appointments starting
+	 * within the requested range, grouped by period, employee and appointment type.
+	 *
+	 * <p>The response holds the column names and the rows as arrays of values, streamed
+	 * as the database returns them. Revenue is reported per currency unless a currency
+	 * to convert into is requested. Appointments are priced as they were written, as
+	 * stated by the {@code prices} field being {@code written}.</p>
+	 *
+	 * @param request {@link AppointmentReportRequestDTO} range, grouping and period
+	 * @return {@link ResponseEntity} containing the streamed report
+	 */
+	@GetMapping("/appointments")
+	public ResponseEntity<StreamingResponseBody> reportAppointments(AppointmentReportRequestDTO request) {
+		return ResponseEntity.ok()
+			.contentType(MediaType.APPLICATION_JSON)
+			.body(appointmentReportService.reportAppointments(request));
+	}
+
+	/**
+	 * Retrieves the exchange rates used to convert reports.
+	 *
+	 * @return {@link List} of {@link ExchangeRateDTO} ordered by currency and target currency
+	 */
+	@GetMapping("/exchange-rates")
+	public ResponseEntity<List<ExchangeRateDTO>> getExchangeRates() {
+		return ResponseEntity.ok(exchangeRateService.getExchangeRates());
+	}
+
+	/**
+	 * Replaces the exchange rates used to convert reports.
+	 *
+	 * @param exchangeRates {@link List} of {@link ExchangeRateDTO} making up the new table
+	 * @return {@link List} of the stored {@link ExchangeRateDTO} ordered by currency and target currency
+	 */
+	@PutMapping("/exchange-rates")
+	public ResponseEntity<List<ExchangeRateDTO>> replaceExchangeRates(@RequestBody List<ExchangeRateDTO> exchangeRates) {
+		return ResponseEntity.ok(exchangeRateService.replaceExchangeRates(exchangeRates));
+	}
+}
@@ -0,0 +1,113 @@
+package com.sinergy.chronosync.controller;
+
+import com.sinergy.chronosync.dto.request.ScheduleExceptionRequestDTO;
+import com.sinergy.chronosync.dto.request.ScheduleRequestDTO;
+import com.sinergy.chronosync.dto.request.TimeOffRequestDTO;
+import com.sinergy.chronosync.dto.request.WorkingHoursRequestDTO;
+import com.sinergy.chronosync.dto.response.EmployeeScheduleDTO;
+import com.sinergy.chronosync.model.schedule.ScheduleException;
+import com.sinergy.chronosync.model.schedule.TimeOff;
+import com.sinergy.chronosync.service.ScheduleService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Controller for managing employees' working hours, schedule exceptions and time off.
+ * <p>
+ * Effective schedules can be read by every employee. Working hours, exceptions and time off
+ * are managed by managers.
+ * </p>
+ */
+@RestController
+@RequestMapping(path = "api/v1/schedule")
+@RequiredArgsConstructor
+public class ScheduleController {
+
+	private final ScheduleService scheduleService;
+
+	/**
+	 * Retrieves the effective working hours of employees of the current user's firm,
+	 * after exceptions and time off.
+	 *
+	 * @param request {@link ScheduleRequestDTO} employees and range
+	 * @return {@link List} of {@link EmployeeScheduleDTO}, one per employee
+	 */
+	@PostMapping("/search")
+	public ResponseEntity<List<EmployeeScheduleDTO>> getSchedules(@RequestBody ScheduleRequestDTO request) {
+		return ResponseEntity.ok(scheduleService.getSchedules(request));
+	}
+
+	/**
+	 * Retrieves the weekly working hours of an employee.
+	 *
+	 * @param employeeId {@link Long} ID of the employee
+	 * @return {@link List} of {@link WorkingHoursRequestDTO} ordered by day and start
+	 */
+	@GetMapping("/working-hours")
+	public ResponseEntity<List<WorkingHoursRequestDTO>> getWorkingHours(@RequestParam Long employeeId) {
+		return ResponseEntity.ok(scheduleService.getWorkingHours(employeeId));
+	}
+
+	/**
+	 * Replaces the weekly working hours of an employee.
+	 *
+	 * @param employeeId   {@link Long} ID of the employee
+	 * @param workingHours {@link List} of {@link WorkingHoursRequestDTO} making up the new template
+	 * @return {@link List} of the stored {@link WorkingHoursRequestDTO} ordered by day and start
+	 */
+	@PutMapping("/working-hours")
+	public ResponseEntity<List<WorkingHoursRequestDTO>> replaceWorkingHours(
+		@RequestParam Long employeeId,
+		@RequestBody List<WorkingHoursRequestDTO> workingHours
+	) {
+		return ResponseEntity.ok(scheduleService.replaceWorkingHours(employeeId, workingHours));
+	}
+
+	/**
+	 * Creates a schedule exception for an employee.
+	 *
+	 * @param request {@link ScheduleExceptionRequestDTO} containing exception details
+	 * @return created {@link ScheduleException} along with an HTTP status of 201 (Created)
+	 */
+	@PostMapping("/exception/create")
+	public ResponseEntity<ScheduleException> createScheduleException(@RequestBody ScheduleExceptionRequestDTO request) {
+		return ResponseEntity.status(HttpStatus.CREATED).body(scheduleService.createScheduleException(request));
+	}
+
+	/**
+	 * Deletes one or more schedule exceptions by their IDs, e.g. {@code ?id=1&id=2}.
+	 *
+	 * @param ids {@link List} of IDs of the exceptions to delete
+	 */
+	@DeleteMapping("/exception")
+	public ResponseEntity<Void> deleteScheduleExceptions(@RequestParam("id") List<Long> ids) {
+		scheduleService.deleteScheduleExceptions(ids);
+		return ResponseEntity.noContent().build();
+	}
+
+	/**
+	 * Creates time off for an employee.
+	 *
+	 * @param request {@link TimeOffRequestDTO} containing time off details
+	 * @return created {@link TimeOff} along with an HTTP status of 201 (Created)
+	 */
+	@PostMapping("/time-off/create")
+	public ResponseEntity<TimeOff> createTimeOff(@RequestBody TimeOffRequestDTO request) {
+		return ResponseEntity.status(HttpStatus.CREATED).body(scheduleService.createTimeOff(request));
+	}
+
+	/**
+	 * Deletes one or more time off entries by their IDs, e.g. {@code ?id=1&id=2}.
+	 *
+	 * @param ids {@link List} of IDs of the time off to delete
+	 */
+	@DeleteMapping("/time-off")
+	public ResponseEntity<Void> deleteTimeOff(@RequestParam("id") List<Long> ids) {
+		scheduleService.deleteTimeOff(ids);
+		return ResponseEntity.noContent().build();
+	}
+}
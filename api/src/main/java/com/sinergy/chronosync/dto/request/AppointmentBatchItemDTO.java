@@ -0,0 +1,61 @@
+package com.sinergy.chronosync.dto.request;
+
+import com.sinergy.chronosync.model.Appointment;
+import com.sinergy.chronosync.model.Client;
+import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import com.sinergy.chronosync.model.user.User;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for a single appointment in a batch create or update.
+ * Related entities are referenced by ID.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentBatchItemDTO {
+
+	private Long id;
+	private Long version;
+	private String note;
+	private LocalDateTime startDateTime;
+	private LocalDateTime endDateTime;
+	private Boolean isPaid;
+	private Boolean isAttended;
+	private Long employeeId;
+	private Long clientId;
+	private Long appointmentTypeId;
+
+	/**
+	 * Creates and returns Appointment model from Data Transfer Object.
+	 * Related entities are set as references carrying only their ID.
+	 *
+	 * @return {@link Appointment} appointment model
+	 */
+	public Appointment toModel() {
+		User employee = null;
+		if (employeeId != null) {
+			employee = new User();
+			employee.setId(employeeId);
+		}
+
+		return Appointment.builder()
+			.id(id)
+			.version(version != null ? version : 0L)
+			.note(note)
+			.startDateTime(startDateTime)
+			.endDateTime(endDateTime)
+			.isPaid(isPaid)
+			.isAttended(isAttended)
+			.employee(employee)
+			.client(clientId != null ? Client.builder().id(clientId).build() : null)
+			.appointmentType(appointmentTypeId != null ? AppointmentType.builder().id(appointmentTypeId).build() : null)
+			.build();
+	}
+}
@@ -0,0 +1,40 @@
+package com.sinergy.chronosync.dto.request;
+
+import com.sinergy.chronosync.model.appointmentType.Currency;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Appointment report request DTO.
+ *
+ * <p>Aggregates the appointments of the authenticated user's firm starting within the
+ * half-open range {@code [from, to)}, grouped by the given dimensions. Periods are
+ * aligned to the calendar. Revenue is reported per currency, or converted into the
+ * given currency with the firm's exchange rates.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentReportRequestDTO {
+
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+	private LocalDateTime from;
+
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+	private LocalDateTime to;
+
+	@Builder.Default
+	private List<ReportDimension> groupBy = List.of(ReportDimension.PERIOD);
+
+	@Builder.Default
+	private ReportPeriod period = ReportPeriod.MONTH;
+
+	private Currency currency;
+}
@@ -1,6 +1,7 @@
 package com.sinergy.chronosync.dto.request;
 
 import com.sinergy.chronosync.model.Appointment;
+import com.sinergy.chronosync.model.BaseEntity;
 import com.sinergy.chronosync.model.Client;
 import com.sinergy.chronosync.model.Firm;
 import com.sinergy.chronosync.model.appointmentType.AppointmentType;
@@ -8,6 +9,8 @@ import com.sinergy.chronosync.model.user.User;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * DTO for creating or updating an appointment.
@@ -21,6 +24,7 @@ import java.time.LocalDateTime;
 public class AppointmentRequestDTO {
 
 	private Long id;
+	private Long version;
 	private String note;
 	private LocalDateTime startDateTime;
 	private LocalDateTime endDateTime;
@@ -39,6 +43,7 @@ public class AppointmentRequestDTO {
 	public Appointment toModel() {
 		return Appointment.builder()
 			.id(id)
+			.version(version != null ? version : 0L)
 			.note(note)
 			.startDateTime(startDateTime)
 			.endDateTime(endDateTime)
@@ -50,4 +55,30 @@ public class AppointmentRequestDTO {
 			.isAttended(isAttended)
 			.build();
 	}
+
+	/**
+	 * Returns the content of the request with the referenced entities reduced to their
+	 * IDs, so that two requests with the same content are equal.
+	 *
+	 * @return {@link List} of the request's values
+	 */
+	public List<Object> toContentKey() {
+		return Arrays.asList(
+			id,
+			version,
+			note,
+			startDateTime,
+			endDateTime,
+			idOf(appointmentType),
+			idOf(employee),
+			idOf(client),
+			idOf(firm),
+			isAttended,
+			isPaid
+		);
+	}
+
+	private static Long idOf(BaseEntity entity) {
+		return entity != null ? entity.getId() : null;
+	}
 }
@@ -0,0 +1,56 @@
+package com.sinergy.chronosync.dto.request;
+
+import com.sinergy.chronosync.model.Client;
+import com.sinergy.chronosync.model.Firm;
+import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import com.sinergy.chronosync.model.series.AppointmentSeries;
+import com.sinergy.chronosync.model.user.User;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for creating an appointment series.
+ *
+ * <p>The start and end are those of the first occurrence. The recurrence rule is an
+ * iCalendar {@code RRULE}, e.g. {@code FREQ=WEEKLY;BYDAY=MO,TH;COUNT=20}.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentSeriesRequestDTO {
+
+	private String note;
+	private LocalDateTime startDateTime;
+	private LocalDateTime endDateTime;
+	private String recurrenceRule;
+	private AppointmentType appointmentType;
+	private User employee;
+	private Client client;
+
+	/**
+	 * Creates and returns AppointmentSeries model from Data Transfer Object.
+	 *
+	 * @param recurrenceRule  {@link String} normalized recurrence rule
+	 * @param lastEndDateTime {@link LocalDateTime} end of the last occurrence, or {@code null}
+	 * @param firm            {@link Firm} of the series
+	 * @return {@link AppointmentSeries} model
+	 */
+	public AppointmentSeries toModel(String recurrenceRule, LocalDateTime lastEndDateTime, Firm firm) {
+		return AppointmentSeries.builder()
+			.note(note)
+			.startDateTime(startDateTime)
+			.endDateTime(endDateTime)
+			.recurrenceRule(recurrenceRule)
+			.lastEndDateTime(lastEndDateTime)
+			.appointmentType(appointmentType)
+			.employee(employee)
+			.client(client)
+			.firm(firm)
+			.build();
+	}
+}
@@ -3,11 +3,14 @@ package com.sinergy.chronosync.dto.request;
 import com.sinergy.chronosync.model.Firm;
 import com.sinergy.chronosync.model.appointmentType.AppointmentType;
 import com.sinergy.chronosync.model.appointmentType.Currency;
+import com.sinergy.chronosync.util.Money;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
+
 /**
  * DTO for creating or updating an appointment type.
  */
@@ -18,24 +21,28 @@ import lombok.NoArgsConstructor;
 public class AppointmentTypeRequestDTO {
 
 	private Long id;
+	private Long version;
 	private String name;
 	private Integer durationMinutes;
-	private Double price;
+	private BigDecimal price;
 	private Currency currency;
 	private String colorCode;
 	private Long firmId;
 
 	/**
 	 * Creates and returns AppointmentType model from Data Transfer Object.
+	 * The price is converted to minor units of the currency.
 	 *
 	 * @return {@link AppointmentType} user model
+	 * @throws IllegalArgumentException if the price has no currency or more decimals than its currency
 	 */
 	public AppointmentType toModel(Firm firm) {
 		return AppointmentType.builder()
 			.id(id)
+			.version(version != null ? version : 0L)
 			.name(name)
 			.durationMinutes(durationMinutes)
-			.price(price)
+			.priceMinorUnits(price != null ? Money.of(price, currency).minorUnits() : null)
 			.currency(currency)
 			.colorCode(colorCode)
 			.firm(firm)
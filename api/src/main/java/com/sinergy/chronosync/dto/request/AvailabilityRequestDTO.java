@@ -0,0 +1,28 @@
+package com.sinergy.chronosync.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Availability search request DTO.
+ *
+ * <p>Looks for time within the half-open range {@code [from, to)} long enough for an
+ * appointment of the given type. Without employee IDs, every bookable employee of
+ * the authenticated user's firm is searched.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailabilityRequestDTO {
+
+	private List<Long> employeeIds;
+	private Long appointmentTypeId;
+	private LocalDateTime from;
+	private LocalDateTime to;
+}
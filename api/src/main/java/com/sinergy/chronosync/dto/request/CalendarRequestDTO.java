@@ -0,0 +1,28 @@
+package com.sinergy.chronosync.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Calendar request DTO.
+ *
+ * <p>Requests the appointments and series occurrences overlapping the half-open range
+ * {@code [from, to)}. Without employee IDs, the whole firm is returned. Times are in UTC,
+ * unless they are requested in the firm's time zone.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalendarRequestDTO {
+
+	private List<Long> employeeIds;
+	private LocalDateTime from;
+	private LocalDateTime to;
+	private Boolean inFirmTimeZone;
+}
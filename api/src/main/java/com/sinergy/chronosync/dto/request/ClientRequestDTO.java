@@ -17,6 +17,7 @@ import lombok.NoArgsConstructor;
 public class ClientRequestDTO {
 
 	private Long id;
+	private Long version;
 	private String firstName;
 	private String lastName;
 	private String email;
@@ -32,6 +33,7 @@ public class ClientRequestDTO {
 	public Client toModel(Firm firm) {
 		return Client.builder()
 			.id(id)
+			.version(version != null ? version : 0L)
 			.firstName(firstName)
 			.lastName(lastName)
 			.email(email)
@@ -0,0 +1,40 @@
+package com.sinergy.chronosync.dto.request;
+
+import com.sinergy.chronosync.model.ExchangeRate;
+import com.sinergy.chronosync.model.Firm;
+import com.sinergy.chronosync.model.appointmentType.Currency;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for one exchange rate of a firm's reports.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExchangeRateDTO {
+
+	private Currency currency;
+	private Currency targetCurrency;
+	private BigDecimal rate;
+
+	/**
+	 * Creates and returns ExchangeRate model from Data Transfer Object.
+	 *
+	 * @param firm {@link Firm} the rate belongs to
+	 * @return {@link ExchangeRate} model
+	 */
+	public ExchangeRate toModel(Firm firm) {
+		return ExchangeRate.builder()
+			.currency(currency)
+			.targetCurrency(targetCurrency)
+			.rate(rate)
+			.firm(firm)
+			.build();
+	}
+}
@@ -0,0 +1,17 @@
+package com.sinergy.chronosync.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Export file formats enum.
+ */
+@Getter
+@AllArgsConstructor
+public enum ExportFormat {
+	NDJSON("application/x-ndjson", "ndjson"),
+	CSV("text/csv", "csv");
+
+	private final String contentType;
+	private final String fileExtension;
+}
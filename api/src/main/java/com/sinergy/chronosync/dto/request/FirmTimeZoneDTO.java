@@ -0,0 +1,18 @@
+package com.sinergy.chronosync.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the time zone of a firm, as a region ID such as {@code Europe/Sarajevo}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FirmTimeZoneDTO {
+
+	private String timeZone;
+}
@@ -0,0 +1,17 @@
+package com.sinergy.chronosync.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Report grouping dimensions enum.
+ */
+@Getter
+@AllArgsConstructor
+public enum ReportDimension {
+	PERIOD("period"),
+	EMPLOYEE("employeeId"),
+	APPOINTMENT_TYPE("appointmentTypeId");
+
+	private final String columnName;
+}
@@ -0,0 +1,18 @@
+package com.sinergy.chronosync.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Report period lengths enum. Weeks start on Monday.
+ */
+@Getter
+@AllArgsConstructor
+public enum ReportPeriod {
+	DAY("day"),
+	WEEK("week"),
+	MONTH("month"),
+	YEAR("year");
+
+	private final String truncateUnit;
+}
@@ -0,0 +1,45 @@
+package com.sinergy.chronosync.dto.request;
+
+import com.sinergy.chronosync.model.Firm;
+import com.sinergy.chronosync.model.schedule.ScheduleException;
+import com.sinergy.chronosync.model.user.User;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * DTO for creating a schedule exception.
+ * Without start and end time, the day is not worked.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleExceptionRequestDTO {
+
+	private Long employeeId;
+	private LocalDate exceptionDate;
+	private LocalTime startTime;
+	private LocalTime endTime;
+
+	/**
+	 * Creates and returns ScheduleException model from Data Transfer Object.
+	 *
+	 * @param employee {@link User} the exception belongs to
+	 * @param firm     {@link Firm} of the employee
+	 * @return {@link ScheduleException} model
+	 */
+	public ScheduleException toModel(User employee, Firm firm) {
+		return ScheduleException.builder()
+			.exceptionDate(exceptionDate)
+			.startTime(startTime)
+			.endTime(endTime)
+			.employee(employee)
+			.firm(firm)
+			.build();
+	}
+}
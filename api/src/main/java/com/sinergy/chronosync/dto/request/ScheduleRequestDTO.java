@@ -0,0 +1,26 @@
+package com.sinergy.chronosync.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Effective schedule request DTO.
+ *
+ * <p>Requests the working hours within the half-open range {@code [from, to)}. Without
+ * employee IDs, every bookable employee of the authenticated user's firm is returned.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleRequestDTO {
+
+	private List<Long> employeeIds;
+	private LocalDateTime from;
+	private LocalDateTime to;
+}
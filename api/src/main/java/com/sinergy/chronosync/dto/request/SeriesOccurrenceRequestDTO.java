@@ -0,0 +1,29 @@
+package com.sinergy.chronosync.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for moving or changing one occurrence of an appointment series.
+ *
+ * <p>The occurrence is identified by its series and original start. Fields left empty
+ * are taken from the series and the original occurrence.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeriesOccurrenceRequestDTO {
+
+	private Long seriesId;
+	private LocalDateTime occurrenceStartDateTime;
+	private LocalDateTime startDateTime;
+	private LocalDateTime endDateTime;
+	private String note;
+	private Boolean isPaid;
+	private Boolean isAttended;
+}
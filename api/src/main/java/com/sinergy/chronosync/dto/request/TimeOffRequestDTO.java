@@ -0,0 +1,43 @@
+package com.sinergy.chronosync.dto.request;
+
+import com.sinergy.chronosync.model.Firm;
+import com.sinergy.chronosync.model.schedule.TimeOff;
+import com.sinergy.chronosync.model.user.User;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for creating time off of an employee.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimeOffRequestDTO {
+
+	private Long employeeId;
+	private LocalDateTime startDateTime;
+	private LocalDateTime endDateTime;
+	private String note;
+
+	/**
+	 * Creates and returns TimeOff model from Data Transfer Object.
+	 *
+	 * @param employee {@link User} the time off belongs to
+	 * @param firm     {@link Firm} of the employee
+	 * @return {@link TimeOff} model
+	 */
+	public TimeOff toModel(User employee, Firm firm) {
+		return TimeOff.builder()
+			.startDateTime(startDateTime)
+			.endDateTime(endDateTime)
+			.note(note)
+			.employee(employee)
+			.firm(firm)
+			.build();
+	}
+}
@@ -0,0 +1,43 @@
+package com.sinergy.chronosync.dto.request;
+
+import com.sinergy.chronosync.model.Firm;
+import com.sinergy.chronosync.model.schedule.WorkingHours;
+import com.sinergy.chronosync.model.user.User;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ * DTO for one interval of an employee's weekly working hours.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkingHoursRequestDTO {
+
+	private DayOfWeek dayOfWeek;
+	private LocalTime startTime;
+	private LocalTime endTime;
+
+	/**
+	 * Creates and returns WorkingHours model from Data Transfer Object.
+	 *
+	 * @param employee {@link User} the working hours belong to
+	 * @param firm     {@link Firm} of the employee
+	 * @return {@link WorkingHours} model
+	 */
+	public WorkingHours toModel(User employee, Firm firm) {
+		return WorkingHours.builder()
+			.dayOfWeek(dayOfWeek)
+			.startTime(startTime)
+			.endTime(endTime)
+			.employee(employee)
+			.firm(firm)
+			.build();
+	}
+}
@@ -0,0 +1,72 @@
+package com.sinergy.chronosync.dto.response;
+
+import com.sinergy.chronosync.model.Appointment;
+import com.sinergy.chronosync.model.Client;
+import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import com.sinergy.chronosync.model.user.User;
+import com.sinergy.chronosync.repository.Projection;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Selection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Created or updated appointment returned by the appointment change feed.
+ *
+ * <p>Carries the columns of {@link AppointmentSearchResponseDTO} together with the
+ * modification time, so a client can keep a local copy and update it optimistically.</p>
+ */
+public record AppointmentChangeDTO(
+	Long id,
+	Long version,
+	LocalDateTime updatedAt,
+	String note,
+	LocalDateTime startDateTime,
+	LocalDateTime endDateTime,
+	Boolean isPaid,
+	Boolean isAttended,
+	Long employeeId,
+	String employeeFirstName,
+	String employeeLastName,
+	Long clientId,
+	String clientFirstName,
+	String clientLastName,
+	Long appointmentTypeId,
+	String appointmentTypeName,
+	String appointmentTypeColorCode
+) {
+
+	/**
+	 * Projection selecting the columns of this record from {@link Appointment}.
+	 */
+	public static final Projection<Appointment, AppointmentChangeDTO> PROJECTION = new Projection<>(
+		Appointment.class,
+		AppointmentChangeDTO.class,
+		root -> {
+			Join<Appointment, User> employee = root.join("employee", JoinType.LEFT);
+			Join<Appointment, Client> client = root.join("client", JoinType.LEFT);
+			Join<Appointment, AppointmentType> appointmentType = root.join("appointmentType", JoinType.LEFT);
+
+			return new Selection<?>[]{
+				root.get("id"),
+				root.get("version"),
+				root.get("updatedAt"),
+				root.get("note"),
+				root.get("startDateTime"),
+				root.get("endDateTime"),
+				root.get("isPaid"),
+				root.get("isAttended"),
+				employee.get("id"),
+				employee.get("firstName"),
+				employee.get("lastName"),
+				client.get("id"),
+				client.get("firstName"),
+				client.get("lastName"),
+				appointmentType.get("id"),
+				appointmentType.get("name"),
+				appointmentType.get("colorCode")
+			};
+		}
+	);
+}
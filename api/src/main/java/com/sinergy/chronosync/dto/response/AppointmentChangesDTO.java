@@ -0,0 +1,25 @@
+package com.sinergy.chronosync.dto.response;
+
+import java.util.List;
+
+/**
+ * One page of the appointment change feed.
+ *
+ * <p>An appointment ID appears in at most one of {@code changed} and {@code removed}, so
+ * the two lists can be applied in any order. When {@code reset} is set, the client must
+ * discard its local copy first: the page starts over from the beginning of the feed.</p>
+ *
+ * @param changed {@link List} of {@link AppointmentChangeDTO} created or updated since the token
+ * @param removed {@link List} of IDs of appointments deleted, or reassigned away, since the token
+ * @param token   opaque token to request the next page with
+ * @param reset   whether the feed starts over and the local copy must be discarded
+ * @param hasMore whether further changes can be requested right away
+ */
+public record AppointmentChangesDTO(
+	List<AppointmentChangeDTO> changed,
+	List<Long> removed,
+	String token,
+	boolean reset,
+	boolean hasMore
+) {
+}
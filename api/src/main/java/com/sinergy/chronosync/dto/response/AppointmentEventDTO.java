@@ -0,0 +1,27 @@
+package com.sinergy.chronosync.dto.response;
+
+import java.util.List;
+
+/**
+ * Appointment change pushed to the clients connected to a firm's event stream.
+ *
+ * <p>Only the kind of change and the IDs are sent. Clients pull the changed appointments
+ * from the change feed, which also covers anything missed while disconnected.</p>
+ *
+ * @param type {@link Type} kind of change
+ * @param ids  {@link List} of IDs of the changed appointments
+ */
+public record AppointmentEventDTO(
+	Type type,
+	List<Long> ids
+) {
+
+	/**
+	 * Kind of appointment change.
+	 */
+	public enum Type {
+		CREATED,
+		UPDATED,
+		DELETED
+	}
+}
@@ -0,0 +1,47 @@
+package com.sinergy.chronosync.dto.response;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Reminder of an upcoming appointment handed to a reminder channel.
+ *
+ * @param appointmentId       {@link Long} ID of the appointment
+ * @param firmId              {@link Long} ID of the firm
+ * @param minutesBefore       {@link Long} minutes between the reminder and the start
+ * @param startDateTime       {@link LocalDateTime} start of the appointment
+ * @param endDateTime         {@link LocalDateTime} end of the appointment
+ * @param note                {@link String} note of the appointment
+ * @param appointmentTypeName {@link String} name of the appointment type
+ * @param clientFirstName     {@link String} first name of the client
+ * @param clientLastName      {@link String} last name of the client
+ * @param clientEmail         {@link String} email of the client
+ * @param employeeFirstName   {@link String} first name of the employee
+ * @param employeeLastName    {@link String} last name of the employee
+ */
+public record AppointmentReminderDTO(
+	Long appointmentId,
+	Long firmId,
+	Long minutesBefore,
+	LocalDateTime startDateTime,
+	LocalDateTime endDateTime,
+	String note,
+	String appointmentTypeName,
+	String clientFirstName,
+	String clientLastName,
+	String clientEmail,
+	String employeeFirstName,
+	String employeeLastName
+) {
+
+	private static final DateTimeFormatter KEY_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+	/**
+	 * Returns a key identifying this reminder, which receivers use to drop duplicates.
+	 *
+	 * @return {@link String} key of the reminder
+	 */
+	public String key() {
+		return appointmentId + "-" + minutesBefore + "-" + startDateTime.format(KEY_FORMAT);
+	}
+}
@@ -0,0 +1,70 @@
+package com.sinergy.chronosync.dto.response;
+
+import com.sinergy.chronosync.model.Appointment;
+import com.sinergy.chronosync.model.Client;
+import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import com.sinergy.chronosync.model.user.User;
+import com.sinergy.chronosync.repository.Projection;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Selection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Appointment list item returned by the appointment search endpoint.
+ *
+ * <p>Carries only the columns the calendar and list views display, flattened
+ * from the employee, client and appointment type associations.</p>
+ */
+public record AppointmentSearchResponseDTO(
+	Long id,
+	Long version,
+	String note,
+	LocalDateTime startDateTime,
+	LocalDateTime endDateTime,
+	Boolean isPaid,
+	Boolean isAttended,
+	Long employeeId,
+	String employeeFirstName,
+	String employeeLastName,
+	Long clientId,
+	String clientFirstName,
+	String clientLastName,
+	Long appointmentTypeId,
+	String appointmentTypeName,
+	String appointmentTypeColorCode
+) {
+
+	/**
+	 * Projection selecting the columns of this record from {@link Appointment}.
+	 */
+	public static final Projection<Appointment, AppointmentSearchResponseDTO> PROJECTION = new Projection<>(
+		Appointment.class,
+		AppointmentSearchResponseDTO.class,
+		root -> {
+			Join<Appointment, User> employee = root.join("employee", JoinType.LEFT);
+			Join<Appointment, Client> client = root.join("client", JoinType.LEFT);
+			Join<Appointment, AppointmentType> appointmentType = root.join("appointmentType", JoinType.LEFT);
+
+			return new Selection<?>[]{
+				root.get("id"),
+				root.get("version"),
+				root.get("note"),
+				root.get("startDateTime"),
+				root.get("endDateTime"),
+				root.get("isPaid"),
+				root.get("isAttended"),
+				employee.get("id"),
+				employee.get("firstName"),
+				employee.get("lastName"),
+				client.get("id"),
+				client.get("firstName"),
+				client.get("lastName"),
+				appointmentType.get("id"),
+				appointmentType.get("name"),
+				appointmentType.get("colorCode")
+			};
+		}
+	);
+}
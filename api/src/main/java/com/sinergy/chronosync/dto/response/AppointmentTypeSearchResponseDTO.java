@@ -0,0 +1,53 @@
+package com.sinergy.chronosync.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.sinergy.chronosync.config.CacheConfig;
+import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import com.sinergy.chronosync.model.appointmentType.Currency;
+import com.sinergy.chronosync.repository.Projection;
+import com.sinergy.chronosync.util.Money;
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * Appointment type list item returned by the appointment type search endpoint.
+ * The price is selected in minor units and written as {@link Money}.
+ */
+public record AppointmentTypeSearchResponseDTO(
+	Long id,
+	Long version,
+	String name,
+	Integer durationMinutes,
+	@JsonIgnore Long priceMinorUnits,
+	Currency currency,
+	String colorCode
+) {
+
+	/**
+	 * Returns the price of the appointment type.
+	 *
+	 * @return {@link Money} price, or {@code null} if it has no price or currency
+	 */
+	@JsonProperty("price")
+	public Money price() {
+		return Money.ofNullable(priceMinorUnits, currency);
+	}
+
+	/**
+	 * Projection selecting the columns of this record from {@link AppointmentType}.
+	 * Results are kept in the appointment type query cache region.
+	 */
+	public static final Projection<AppointmentType, AppointmentTypeSearchResponseDTO> PROJECTION = new Projection<>(
+		AppointmentType.class,
+		AppointmentTypeSearchResponseDTO.class,
+		root -> new Selection<?>[]{
+			root.get("id"),
+			root.get("version"),
+			root.get("name"),
+			root.get("durationMinutes"),
+			root.get("priceMinorUnits"),
+			root.get("currency"),
+			root.get("colorCode")
+		}
+	).cachedIn(CacheConfig.APPOINTMENT_TYPE_QUERY_REGION);
+}
@@ -0,0 +1,30 @@
+package com.sinergy.chronosync.dto.response;
+
+/**
+ * Outcome of a single item in a batch request.
+ *
+ * @param index   0-based position of the item in the request
+ * @param id      ID of the affected entity, if known
+ * @param status  {@link Status} outcome of the item
+ * @param message reason the item was not applied, or {@code null}
+ */
+public record BatchItemResultDTO(
+	int index,
+	Long id,
+	Status status,
+	String message
+) {
+
+	/**
+	 * Outcome of a batch item.
+	 */
+	public enum Status {
+		CREATED,
+		UPDATED,
+		DELETED,
+		NOT_FOUND,
+		CONFLICT,
+		OVERLAP,
+		INVALID
+	}
+}
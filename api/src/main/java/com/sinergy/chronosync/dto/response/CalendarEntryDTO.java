@@ -0,0 +1,170 @@
+package com.sinergy.chronosync.dto.response;
+
+import com.sinergy.chronosync.model.Appointment;
+import com.sinergy.chronosync.model.Client;
+import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import com.sinergy.chronosync.model.series.AppointmentSeries;
+import com.sinergy.chronosync.model.user.User;
+import com.sinergy.chronosync.repository.Projection;
+import com.sinergy.chronosync.service.OccurrenceService.Occurrence;
+import com.sinergy.chronosync.service.OccurrenceService.Recurrence;
+import com.sinergy.chronosync.util.ZoneOffsets;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Selection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Calendar item returned by the calendar endpoint.
+ *
+ * <p>Either a stored appointment, with an ID, or an occurrence of an appointment series
+ * generated from its recurrence rule, without one. Appointments that replace a moved
+ * occurrence carry their ID as well as the series and the original start.</p>
+ */
+public record CalendarEntryDTO(
+	Long id,
+	Long seriesId,
+	String recurrenceRule,
+	LocalDateTime occurrenceStartDateTime,
+	String note,
+	LocalDateTime startDateTime,
+	LocalDateTime endDateTime,
+	Boolean isPaid,
+	Boolean isAttended,
+	Long employeeId,
+	String employeeFirstName,
+	String employeeLastName,
+	Long clientId,
+	String clientFirstName,
+	String clientLastName,
+	Long appointmentTypeId,
+	String appointmentTypeName,
+	String appointmentTypeColorCode
+) {
+
+	/**
+	 * Projection selecting the columns of this record from {@link Appointment}.
+	 */
+	public static final Projection<Appointment, CalendarEntryDTO> PROJECTION = new Projection<>(
+		Appointment.class,
+		CalendarEntryDTO.class,
+		root -> {
+			Join<Appointment, AppointmentSeries> series = root.join("series", JoinType.LEFT);
+			Join<Appointment, User> employee = root.join("employee", JoinType.LEFT);
+			Join<Appointment, Client> client = root.join("client", JoinType.LEFT);
+			Join<Appointment, AppointmentType> appointmentType = root.join("appointmentType", JoinType.LEFT);
+
+			return new Selection<?>[]{
+				root.get("id"),
+				series.get("id"),
+				series.get("recurrenceRule"),
+				root.get("occurrenceStartDateTime"),
+				root.get("note"),
+				root.get("startDateTime"),
+				root.get("endDateTime"),
+				root.get("isPaid"),
+				root.get("isAttended"),
+				employee.get("id"),
+				employee.get("firstName"),
+				employee.get("lastName"),
+				client.get("id"),
+				client.get("firstName"),
+				client.get("lastName"),
+				appointmentType.get("id"),
+				appointmentType.get("name"),
+				appointmentType.get("colorCode")
+			};
+		}
+	);
+
+	/**
+	 * Projection selecting the first occurrence of an {@link AppointmentSeries}, from which
+	 * {@link #at(Occurrence)} creates the other occurrences.
+	 */
+	public static final Projection<AppointmentSeries, CalendarEntryDTO> SERIES_PROJECTION = new Projection<>(
+		AppointmentSeries.class,
+		CalendarEntryDTO.class,
+		root -> {
+			Join<AppointmentSeries, User> employee = root.join("employee", JoinType.LEFT);
+			Join<AppointmentSeries, Client> client = root.join("client", JoinType.LEFT);
+			Join<AppointmentSeries, AppointmentType> appointmentType = root.join("appointmentType", JoinType.LEFT);
+
+			return new Selection<?>[]{
+				root.get("id"),
+				root.get("recurrenceRule"),
+				root.get("note"),
+				root.get("startDateTime"),
+				root.get("endDateTime"),
+				employee.get("id"),
+				employee.get("firstName"),
+				employee.get("lastName"),
+				client.get("id"),
+				client.get("firstName"),
+				client.get("lastName"),
+				appointmentType.get("id"),
+				appointmentType.get("name"),
+				appointmentType.get("colorCode")
+			};
+		}
+	);
+
+	/**
+	 * Creates the first occurrence of a series, as selected by {@link #SERIES_PROJECTION}.
+	 */
+	public CalendarEntryDTO(
+		Long seriesId,
+		String recurrenceRule,
+		String note,
+		LocalDateTime startDateTime,
+		LocalDateTime endDateTime,
+		Long employeeId,
+		String employeeFirstName,
+		String employeeLastName,
+		Long clientId,
+		String clientFirstName,
+		String clientLastName,
+		Long appointmentTypeId,
+		String appointmentTypeName,
+		String appointmentTypeColorCode
+	) {
+		this(null, seriesId, recurrenceRule, startDateTime, note, startDateTime, endDateTime, null, null,
+			employeeId, employeeFirstName, employeeLastName, clientId, clientFirstName, clientLastName,
+			appointmentTypeId, appointmentTypeName, appointmentTypeColorCode);
+	}
+
+	/**
+	 * Returns another occurrence of the series this entry is the first occurrence of.
+	 *
+	 * @param occurrence {@link Occurrence} of the series
+	 * @return {@link CalendarEntryDTO} of the occurrence
+	 */
+	public CalendarEntryDTO at(Occurrence occurrence) {
+		return new CalendarEntryDTO(null, seriesId, recurrenceRule, occurrence.startDateTime(), note,
+			occurrence.startDateTime(), occurrence.endDateTime(), null, null,
+			employeeId, employeeFirstName, employeeLastName, clientId, clientFirstName, clientLastName,
+			appointmentTypeId, appointmentTypeName, appointmentTypeColorCode);
+	}
+
+	/**
+	 * Returns this entry with its times converted from UTC into a time zone.
+	 *
+	 * @param offsets {@link ZoneOffsets} of the time zone
+	 * @return {@link CalendarEntryDTO} with local times
+	 */
+	public CalendarEntryDTO inZone(ZoneOffsets offsets) {
+		return new CalendarEntryDTO(id, seriesId, recurrenceRule, offsets.fromUtc(occurrenceStartDateTime), note,
+			offsets.fromUtc(startDateTime), offsets.fromUtc(endDateTime), isPaid, isAttended,
+			employeeId, employeeFirstName, employeeLastName, clientId, clientFirstName, clientLastName,
+			appointmentTypeId, appointmentTypeName, appointmentTypeColorCode);
+	}
+
+	/**
+	 * Returns the recurrence of the series this entry is the first occurrence of.
+	 *
+	 * @return {@link Recurrence} of the series
+	 */
+	public Recurrence toRecurrence() {
+		return new Recurrence(seriesId, employeeId, startDateTime, endDateTime, recurrenceRule);
+	}
+}
@@ -0,0 +1,14 @@
+package com.sinergy.chronosync.dto.response;
+
+/**
+ * Calendar feed token issued to an employee. The token is shown only once, as only its
+ * hash is stored.
+ *
+ * @param token {@link String} secret token granting access to the feed
+ * @param path  {@link String} path of the feed, for calendar applications to subscribe to
+ */
+public record CalendarFeedTokenDTO(
+	String token,
+	String path
+) {
+}
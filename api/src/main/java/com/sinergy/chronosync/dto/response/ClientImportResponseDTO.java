@@ -0,0 +1,26 @@
+package com.sinergy.chronosync.dto.response;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk client import.
+ *
+ * @param received number of rows received
+ * @param imported number of rows inserted
+ * @param errors   rows that were rejected, in row order
+ */
+public record ClientImportResponseDTO(
+	int received,
+	int imported,
+	List<RowError> errors
+) {
+
+	/**
+	 * A rejected import row.
+	 *
+	 * @param row     1-based position of the row in the import, not counting a CSV header
+	 * @param message reason the row was rejected
+	 */
+	public record RowError(int row, String message) {
+	}
+}
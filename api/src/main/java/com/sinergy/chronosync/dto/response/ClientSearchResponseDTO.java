@@ -0,0 +1,38 @@
+package com.sinergy.chronosync.dto.response;
+
+import com.sinergy.chronosync.model.Client;
+import com.sinergy.chronosync.repository.Projection;
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * Client list item returned by the client search endpoint.
+ */
+public record ClientSearchResponseDTO(
+	Long id,
+	Long version,
+	String firstName,
+	String lastName,
+	String email,
+	String phone,
+	String address,
+	String uniqueIdentifier
+) {
+
+	/**
+	 * Projection selecting the columns of this record from {@link Client}.
+	 */
+	public static final Projection<Client, ClientSearchResponseDTO> PROJECTION = new Projection<>(
+		Client.class,
+		ClientSearchResponseDTO.class,
+		root -> new Selection<?>[]{
+			root.get("id"),
+			root.get("version"),
+			root.get("firstName"),
+			root.get("lastName"),
+			root.get("email"),
+			root.get("phone"),
+			root.get("address"),
+			root.get("uniqueIdentifier")
+		}
+	);
+}
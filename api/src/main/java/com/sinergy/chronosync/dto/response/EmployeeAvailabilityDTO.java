@@ -0,0 +1,15 @@
+package com.sinergy.chronosync.dto.response;
+
+import java.util.List;
+
+/**
+ * Free time of one employee.
+ *
+ * @param employeeId ID of the employee
+ * @param slots      free {@link TimeSlotDTO} ranges in chronological order, each long enough for the appointment
+ */
+public record EmployeeAvailabilityDTO(
+	Long employeeId,
+	List<TimeSlotDTO> slots
+) {
+}
@@ -0,0 +1,15 @@
+package com.sinergy.chronosync.dto.response;
+
+import java.util.List;
+
+/**
+ * Effective working hours of one employee.
+ *
+ * @param employeeId   ID of the employee
+ * @param workingHours worked {@link TimeSlotDTO} ranges in chronological order, after exceptions and time off
+ */
+public record EmployeeScheduleDTO(
+	Long employeeId,
+	List<TimeSlotDTO> workingHours
+) {
+}
@@ -0,0 +1,15 @@
+package com.sinergy.chronosync.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * Half-open time range {@code [start, end)}.
+ *
+ * @param start inclusive start
+ * @param end   exclusive end
+ */
+public record TimeSlotDTO(
+	LocalDateTime start,
+	LocalDateTime end
+) {
+}
@@ -0,0 +1,39 @@
+package com.sinergy.chronosync.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+
+/**
+ * Exception indicating a request was not admitted because its firm exceeded its quotas
+ * or the server is saturated.
+ */
+@Getter
+public class AdmissionRejectedException extends RuntimeException {
+
+	/**
+	 * Reasons a request is rejected, with the status it is answered with.
+	 */
+	@Getter
+	public enum Reason {
+		RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS),
+		QUEUE_FULL(HttpStatus.TOO_MANY_REQUESTS),
+		QUEUE_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE);
+
+		private final HttpStatus status;
+
+		Reason(HttpStatus status) {
+			this.status = status;
+		}
+	}
+
+	private final Reason reason;
+	private final Duration retryAfter;
+
+	public AdmissionRejectedException(Reason reason, Duration retryAfter, String message) {
+		super(message);
+		this.reason = reason;
+		this.retryAfter = retryAfter;
+	}
+}
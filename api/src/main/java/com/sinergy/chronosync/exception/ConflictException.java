@@ -0,0 +1,10 @@
+package com.sinergy.chronosync.exception;
+
+/**
+ * Exception indicating an entity was changed concurrently since the caller last read it.
+ */
+public class ConflictException extends RuntimeException {
+	public ConflictException(String message) {
+		super(message);
+	}
+}
@@ -1,6 +1,7 @@
 package com.sinergy.chronosync.exception;
 
 import org.hibernate.service.spi.ServiceException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -44,4 +45,27 @@ public class GlobalExceptionHandler {
 	public ResponseEntity<String> handleUserNotFoundException(UserNotFoundException e) {
 		return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
 	}
+
+	/**
+	 * Handles EntityNotFoundException globally and returns a 404 Not Found response with the exception message.
+	 *
+	 * @param e the exception to handle
+	 * @return a 404 Not Found response with the exception message
+	 */
+	@ExceptionHandler(EntityNotFoundException.class)
+	public ResponseEntity<String> handleEntityNotFoundException(EntityNotFoundException e) {
+		return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+	}
+
+	/**
+	 * Handles ConflictException and optimistic locking failures globally and returns a 409 Conflict
+	 * response with the exception message.
+	 *
+	 * @param e the exception to handle
+	 * @return a 409 Conflict response with the exception message
+	 */
+	@ExceptionHandler({ConflictException.class, OptimisticLockingFailureException.class})
+	public ResponseEntity<String> handleConflictException(RuntimeException e) {
+		return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+	}
 }
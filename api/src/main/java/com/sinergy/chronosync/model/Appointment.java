@@ -1,9 +1,18 @@
 package com.sinergy.chronosync.model;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import com.sinergy.chronosync.model.appointmentType.Currency;
+import com.sinergy.chronosync.model.series.AppointmentSeries;
 import com.sinergy.chronosync.model.user.User;
+import com.sinergy.chronosync.util.Money;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -17,6 +26,10 @@ import java.time.LocalDateTime;
 
 /**
  * Appointment model class.
+ * An appointment linked to an {@link AppointmentSeries} replaces the occurrence starting at
+ * {@code occurrenceStartDateTime}. The link is set when the occurrence is moved and never updated.
+ * The price is a copy of the appointment type's price taken when the appointment is created or its
+ * appointment type is set, so later changes of the type's price leave booked appointments alone.
  */
 @NoArgsConstructor
 @AllArgsConstructor
@@ -24,7 +37,17 @@ import java.time.LocalDateTime;
 @Setter
 @Entity
 @SuperBuilder
-@Table(name = "appointments")
+@Table(
+	name = "appointments",
+	indexes = {
+		@Index(name = "idx_appointment_firm_start", columnList = "firm_id, start_date_time"),
+		@Index(name = "idx_appointment_start", columnList = "start_date_time"),
+		@Index(name = "idx_appointment_employee_end", columnList = "employee_id, end_date_time"),
+		@Index(name = "idx_appointment_firm_updated", columnList = "firm_id, updated_at, id"),
+		@Index(name = "idx_appointment_employee_updated", columnList = "employee_id, updated_at, id"),
+		@Index(name = "uk_appointment_series_occurrence", columnList = "series_id, occurrence_start_date_time", unique = true)
+	}
+)
 public class Appointment extends BaseEntity {
 
 	private String note;
@@ -32,6 +55,10 @@ public class Appointment extends BaseEntity {
 	private LocalDateTime endDateTime;
 	private Boolean isPaid;
 	private Boolean isAttended;
+	@JsonIgnore
+	private Long priceMinorUnits;
+	@Enumerated(EnumType.STRING)
+	private Currency currency;
 
 	@JsonBackReference
 	@ManyToOne
@@ -52,4 +79,21 @@ public class Appointment extends BaseEntity {
 	@ManyToOne
 	@JoinColumn(name = "firm_id")
 	private Firm firm;
+
+	@JsonBackReference
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "series_id", updatable = false)
+	private AppointmentSeries series;
+
+	@Column(updatable = false)
+	private LocalDateTime occurrenceStartDateTime;
+
+	/**
+	 * Returns the price the appointment was booked at.
+	 *
+	 * @return {@link Money} price, or {@code null} if it has no price or currency
+	 */
+	public Money getPrice() {
+		return Money.ofNullable(priceMinorUnits, currency);
+	}
 }
@@ -0,0 +1,64 @@
+package com.sinergy.chronosync.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDate;
+
+/**
+ * Appointment daily rollup model class.
+ * Sums the appointments of a firm starting on a day, per employee, appointment type and
+ * currency. Appointments without an employee or appointment type are summed under ID
+ * {@code 0}, and those without a currency under an empty currency, so every group has
+ * exactly one row. Being derived data, rollups refer to their firm, employee and
+ * appointment type by ID only. Revenue is the sum of the appointment type prices at the
+ * time the appointments were written, in minor units of the currency they were written in,
+ * so a later change of a type's currency starts new rollups instead of relabelling old ones.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Entity
+@SuperBuilder
+@Table(
+	name = "appointmentDailyRollups",
+	uniqueConstraints = @UniqueConstraint(
+		name = "uk_rollup_firm_date_employee_type",
+		columnNames = {"firm_id", "rollup_date", "employee_id", "appointment_type_id", "currency"}
+	)
+)
+public class AppointmentDailyRollup extends BaseEntity {
+
+	private Long firmId;
+
+	private LocalDate rollupDate;
+
+	private Long employeeId;
+
+	private Long appointmentTypeId;
+
+	@ColumnDefault("''")
+	@Column(nullable = false)
+	private String currency;
+
+	private Long bookings;
+
+	private Long minutes;
+
+	private Long revenueMinorUnits;
+
+	private Long paidRevenueMinorUnits;
+
+	private Long attended;
+
+	private Long paid;
+}
@@ -0,0 +1,50 @@
+package com.sinergy.chronosync.model;
+
+import com.fasterxml.jackson.annotation.JsonBackReference;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+/**
+ * Appointment tombstone model class.
+ * Records that an appointment left a change feed: it was deleted, or it was reassigned away
+ * from the employee it belonged to. Tombstones are kept for a limited time only.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Entity
+@SuperBuilder
+@Table(
+	name = "appointmentTombstones",
+	indexes = {
+		@Index(name = "idx_tombstone_firm_removed", columnList = "firm_id, removed_at, id"),
+		@Index(name = "idx_tombstone_employee_removed", columnList = "employee_id, removed_at, id")
+	}
+)
+public class AppointmentTombstone extends BaseEntity {
+
+	private Long appointmentId;
+
+	private Long employeeId;
+
+	private LocalDateTime removedAt;
+
+	private boolean reassigned;
+
+	@JsonBackReference
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "firm_id")
+	private Firm firm;
+}
@@ -7,6 +7,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedBy;
@@ -18,6 +19,8 @@ import java.time.LocalDateTime;
 
 /**
  * Base entity abstract class.
+ * The version column guards updates against overwriting concurrent changes. Being a primitive,
+ * it never decides whether an entity is new; that is told by the ID alone.
  */
 @MappedSuperclass
 @Getter
@@ -32,6 +35,11 @@ public abstract class BaseEntity implements Serializable {
 	@Column(name = "id", updatable = false, nullable = false)
 	private Long id;
 
+	@Version
+	@ColumnDefault("0")
+	@Column(name = "version", nullable = false)
+	private long version;
+
 	@CreatedDate
 	@Column(name = "created_at", updatable = false)
 	private LocalDateTime createdAt;
@@ -0,0 +1,44 @@
+package com.sinergy.chronosync.model;
+
+import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.sinergy.chronosync.model.user.User;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * Calendar feed token model class.
+ * Grants read access to an employee's calendar feed without signing in, for calendar
+ * applications subscribing to it. Only a hash of the token is stored, and an employee has
+ * at most one token, so issuing a new token or deleting the row revokes the old one.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Entity
+@SuperBuilder
+@Table(
+	name = "calendarFeedTokens",
+	uniqueConstraints = {
+		@UniqueConstraint(name = "uk_calendar_feed_token_hash", columnNames = "token_hash"),
+		@UniqueConstraint(name = "uk_calendar_feed_token_employee", columnNames = "employee_id")
+	}
+)
+public class CalendarFeedToken extends BaseEntity {
+
+	private String tokenHash;
+
+	@JsonBackReference
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "employee_id")
+	private User employee;
+
+	@JsonBackReference
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "firm_id")
+	private Firm firm;
+}
@@ -0,0 +1,52 @@
+package com.sinergy.chronosync.model;
+
+import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.sinergy.chronosync.model.appointmentType.Currency;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+import java.math.BigDecimal;
+
+/**
+ * Exchange rate model class.
+ * One row is the amount of the target currency that one major unit of the currency buys
+ * in a firm's reports, held as a fixed-point decimal.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Entity
+@SuperBuilder
+@Table(
+	name = "exchangeRates",
+	uniqueConstraints = @UniqueConstraint(
+		name = "uk_exchange_rate_firm_currencies",
+		columnNames = {"firm_id", "currency", "target_currency"}
+	)
+)
+public class ExchangeRate extends BaseEntity {
+
+	/**
+	 * Number of decimals a rate is stored with.
+	 */
+	public static final int RATE_SCALE = 8;
+
+	@Enumerated(EnumType.STRING)
+	private Currency currency;
+
+	@Enumerated(EnumType.STRING)
+	private Currency targetCurrency;
+
+	@Column(precision = 20, scale = RATE_SCALE)
+	private BigDecimal rate;
+
+	@JsonBackReference
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "firm_id")
+	private Firm firm;
+}
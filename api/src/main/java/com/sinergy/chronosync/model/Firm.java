@@ -1,16 +1,29 @@
 package com.sinergy.chronosync.model;
 
+import com.sinergy.chronosync.config.CacheConfig;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 /**
  * Firm model class.
+ * Cached in the second-level cache, since firms are read with almost every entity and rarely change.
+ * The time zone is an IANA time zone ID; a firm without one keeps its times in UTC.
+ * The appointment type version is raised with every change to the firm's appointment types,
+ * so that clients can revalidate cached appointment type lists without reading them.
+ * The tier names the request quotas the firm is admitted under; a firm without one gets the default tier.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConfig.FIRM_REGION)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -18,5 +31,10 @@ import lombok.Setter;
 @Table(name = "firms")
 public class Firm extends BaseEntity {
 	private String name;
+	private String timeZone;
+	private String tier;
 
+	@ColumnDefault("0")
+	@Column(nullable = false)
+	private Long appointmentTypeVersion = 0L;
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.sinergy.chronosync.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+/**
+ * Sent reminder model class.
+ * Records that the reminder given a number of minutes before an appointment starting at a
+ * time was sent, so it is never sent twice. A moved appointment is reminded again.
+ * Sent reminders are kept for a limited time only.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Entity
+@SuperBuilder
+@Table(
+	name = "sentReminders",
+	uniqueConstraints = @UniqueConstraint(
+		name = "uk_sent_reminder",
+		columnNames = {"appointment_id", "minutes_before", "start_date_time"}
+	),
+	indexes = @Index(name = "idx_sent_reminder_sent", columnList = "sent_at")
+)
+public class SentReminder extends BaseEntity {
+
+	private Long appointmentId;
+
+	private Long minutesBefore;
+
+	private LocalDateTime startDateTime;
+
+	private LocalDateTime sentAt;
+}
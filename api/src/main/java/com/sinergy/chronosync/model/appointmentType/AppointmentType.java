@@ -1,17 +1,24 @@
 package com.sinergy.chronosync.model.appointmentType;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.sinergy.chronosync.config.CacheConfig;
 import com.sinergy.chronosync.model.BaseEntity;
 import com.sinergy.chronosync.model.Firm;
+import com.sinergy.chronosync.util.Money;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Appointment type model class.
+ * Cached in the second-level cache, since every appointment references one and they rarely change.
+ * The price is stored as a whole number of minor units of its currency and exposed as {@link Money}.
  */
 @NoArgsConstructor
 @AllArgsConstructor
@@ -19,12 +26,15 @@ import lombok.experimental.SuperBuilder;
 @Setter
 @Entity
 @SuperBuilder
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConfig.APPOINTMENT_TYPE_REGION)
 @Table(name = "appointmentTypes")
 public class AppointmentType extends BaseEntity {
 
 	private String name;
 	private Integer durationMinutes;
-	private Double price;
+	@JsonIgnore
+	private Long priceMinorUnits;
 	private String colorCode;
 	@Enumerated(EnumType.STRING)
 	private Currency currency;
@@ -34,4 +44,12 @@ public class AppointmentType extends BaseEntity {
 	@JoinColumn(name = "firm_id")
 	private Firm firm;
 
+	/**
+	 * Returns the price of the appointment type.
+	 *
+	 * @return {@link Money} price, or {@code null} if it has no price or currency
+	 */
+	public Money getPrice() {
+		return Money.ofNullable(priceMinorUnits, currency);
+	}
 }
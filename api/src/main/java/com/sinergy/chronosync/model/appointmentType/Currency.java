@@ -1,12 +1,19 @@
 package com.sinergy.chronosync.model.appointmentType;
 
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
 /**
- * Appointment types currency enum.
+ * Appointment types currency enum, with the number of decimals of each currency's minor unit.
  */
+@Getter
+@AllArgsConstructor
 public enum Currency {
-	EUR,
-	CHF,
-	GBP,
-	BAM,
-	USD
+	EUR(2),
+	CHF(2),
+	GBP(2),
+	BAM(2),
+	USD(2);
+
+	private final int fractionDigits;
 }
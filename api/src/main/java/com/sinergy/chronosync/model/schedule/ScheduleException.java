@@ -0,0 +1,47 @@
+package com.sinergy.chronosync.model.schedule;
+
+import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.sinergy.chronosync.model.BaseEntity;
+import com.sinergy.chronosync.model.Firm;
+import com.sinergy.chronosync.model.user.User;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Schedule exception model class.
+ * The exceptions of a day replace the weekly template on that day. An exception without
+ * times marks the day as not worked.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Entity
+@SuperBuilder
+@Table(
+	name = "scheduleExceptions",
+	indexes = @Index(name = "idx_schedule_exception_employee_day", columnList = "employee_id, exception_date")
+)
+public class ScheduleException extends BaseEntity {
+
+	private LocalDate exceptionDate;
+	private LocalTime startTime;
+	private LocalTime endTime;
+
+	@JsonBackReference
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "employee_id")
+	private User employee;
+
+	@JsonBackReference
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "firm_id")
+	private Firm firm;
+}
@@ -0,0 +1,45 @@
+package com.sinergy.chronosync.model.schedule;
+
+import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.sinergy.chronosync.model.BaseEntity;
+import com.sinergy.chronosync.model.Firm;
+import com.sinergy.chronosync.model.user.User;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+/**
+ * Time off model class.
+ * An absence of an employee, such as a vacation or sick leave, removed from their working hours.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Entity
+@SuperBuilder
+@Table(
+	name = "timeOff",
+	indexes = @Index(name = "idx_time_off_employee_end", columnList = "employee_id, end_date_time")
+)
+public class TimeOff extends BaseEntity {
+
+	private LocalDateTime startDateTime;
+	private LocalDateTime endDateTime;
+	private String note;
+
+	@JsonBackReference
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "employee_id")
+	private User employee;
+
+	@JsonBackReference
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "firm_id")
+	private Firm firm;
+}
@@ -0,0 +1,47 @@
+package com.sinergy.chronosync.model.schedule;
+
+import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.sinergy.chronosync.model.BaseEntity;
+import com.sinergy.chronosync.model.Firm;
+import com.sinergy.chronosync.model.user.User;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ * Working hours model class.
+ * One row is one interval of an employee's weekly template; a day may have several.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Entity
+@SuperBuilder
+@Table(
+	name = "workingHours",
+	indexes = @Index(name = "idx_working_hours_employee", columnList = "employee_id")
+)
+public class WorkingHours extends BaseEntity {
+
+	@Enumerated(EnumType.STRING)
+	private DayOfWeek dayOfWeek;
+	private LocalTime startTime;
+	private LocalTime endTime;
+
+	@JsonBackReference
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "employee_id")
+	private User employee;
+
+	@JsonBackReference
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "firm_id")
+	private Firm firm;
+}
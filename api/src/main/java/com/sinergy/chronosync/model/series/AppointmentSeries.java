@@ -0,0 +1,77 @@
+package com.sinergy.chronosync.model.series;
+
+import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.sinergy.chronosync.model.BaseEntity;
+import com.sinergy.chronosync.model.Client;
+import com.sinergy.chronosync.model.Firm;
+import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import com.sinergy.chronosync.model.user.User;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+/**
+ * Appointment series model class.
+ * An appointment repeating by a recurrence rule. Occurrences are generated on demand and
+ * only moved or cancelled occurrences are stored, as {@link com.sinergy.chronosync.model.Appointment}
+ * and {@link CancelledOccurrence} rows.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Entity
+@SuperBuilder
+@Table(
+	name = "appointmentSeries",
+	indexes = {
+		@Index(name = "idx_series_firm_start", columnList = "firm_id, start_date_time"),
+		@Index(name = "idx_series_employee_last_end", columnList = "employee_id, last_end_date_time")
+	}
+)
+public class AppointmentSeries extends BaseEntity {
+
+	private String note;
+
+	/**
+	 * Start of the first occurrence.
+	 */
+	private LocalDateTime startDateTime;
+
+	/**
+	 * End of the first occurrence. Every occurrence lasts as long as the first.
+	 */
+	private LocalDateTime endDateTime;
+
+	private String recurrenceRule;
+
+	/**
+	 * End of the last occurrence, or {@code null} if the series never ends.
+	 */
+	private LocalDateTime lastEndDateTime;
+
+	@JsonBackReference
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "employee_id")
+	private User employee;
+
+	@JsonBackReference
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "client_id")
+	private Client client;
+
+	@JsonBackReference
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "appointment_type_id")
+	private AppointmentType appointmentType;
+
+	@JsonBackReference
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "firm_id")
+	private Firm firm;
+}
@@ -0,0 +1,45 @@
+package com.sinergy.chronosync.model.series;
+
+import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.sinergy.chronosync.model.BaseEntity;
+import com.sinergy.chronosync.model.Firm;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cancelled occurrence model class.
+ * An occurrence of an {@link AppointmentSeries} that does not take place.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Entity
+@SuperBuilder
+@Table(
+	name = "cancelledOccurrences",
+	uniqueConstraints = @UniqueConstraint(
+		name = "uk_cancelled_occurrence_series_start",
+		columnNames = {"series_id", "occurrence_start_date_time"}
+	)
+)
+public class CancelledOccurrence extends BaseEntity {
+
+	private LocalDateTime occurrenceStartDateTime;
+
+	@JsonBackReference
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "series_id")
+	private AppointmentSeries series;
+
+	@JsonBackReference
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "firm_id")
+	private Firm firm;
+}
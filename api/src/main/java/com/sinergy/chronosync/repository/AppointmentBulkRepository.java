@@ -0,0 +1,41 @@
+package com.sinergy.chronosync.repository;
+
+import com.sinergy.chronosync.model.Appointment;
+
+import java.util.List;
+
+/**
+ * Repository fragment for writing {@link Appointment} entities in bulk over plain JDBC.
+ */
+public interface AppointmentBulkRepository {
+
+	/**
+	 * Reserves a block of appointment IDs from the ID sequence in a single round trip.
+	 *
+	 * @param count number of IDs to reserve
+	 * @return {@link List} of reserved IDs
+	 */
+	List<Long> reserveIds(int count);
+
+	/**
+	 * Inserts appointments in a single JDBC batch.
+	 *
+	 * <p>Every appointment must already carry its ID, firm and audit fields.</p>
+	 *
+	 * @param appointments {@link List} of appointments to insert
+	 */
+	void insertAll(List<Appointment> appointments);
+
+	/**
+	 * Applies partial updates to appointments of a firm in a single JDBC batch.
+	 *
+	 * <p>Only non-null fields of each appointment are written and the version is
+	 * incremented. A row is left untouched when it belongs to another firm or no
+	 * longer has the expected version.</p>
+	 *
+	 * @param appointments {@link List} of changes, each carrying the appointment ID, expected version and audit fields
+	 * @param firmId       {@link Long} ID of the firm owning the appointments
+	 * @return array with one flag per appointment, {@code false} where the row was not updated
+	 */
+	boolean[] patchAll(List<Appointment> appointments, Long firmId);
+}
@@ -0,0 +1,113 @@
+package com.sinergy.chronosync.repository;
+
+import com.sinergy.chronosync.model.Appointment;
+import com.sinergy.chronosync.model.BaseEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JDBC implementation of {@link AppointmentBulkRepository}.
+ *
+ * <p>Hibernate cannot batch inserts of identity mapped entities and updates through
+ * {@link BaseRepository#update} read every row first, so batch changes are written with
+ * {@link JdbcTemplate} in one round trip each. New rows use IDs reserved up front from
+ * the sequence backing the identity column.</p>
+ */
+@RequiredArgsConstructor
+public class AppointmentBulkRepositoryImpl implements AppointmentBulkRepository {
+
+	private static final String RESERVE_IDS_SQL =
+		"SELECT nextval(pg_get_serial_sequence('appointments', 'id')) FROM generate_series(1, ?)";
+
+	private static final String INSERT_SQL = """
+		INSERT INTO appointments (id, note, start_date_time, end_date_time, is_paid, is_attended,
+			employee_id, client_id, appointment_type_id, firm_id, created_at, updated_at, created_by, updated_by, version)
+		VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)
+		""";
+
+	private static final String PATCH_SQL = """
+		UPDATE appointments SET
+			note = COALESCE(?, note),
+			start_date_time = COALESCE(?, start_date_time),
+			end_date_time = COALESCE(?, end_date_time),
+			is_paid = COALESCE(?, is_paid),
+			is_attended = COALESCE(?, is_attended),
+			employee_id = COALESCE(?, employee_id),
+			client_id = COALESCE(?, client_id),
+			appointment_type_id = COALESCE(?, appointment_type_id),
+			updated_at = ?,
+			updated_by = ?,
+			version = version + 1
+		WHERE id = ? AND firm_id = ? AND version = ?
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public List<Long> reserveIds(int count) {
+		return jdbcTemplate.queryForList(RESERVE_IDS_SQL, Long.class, count);
+	}
+
+	@Override
+	public void insertAll(List<Appointment> appointments) {
+		jdbcTemplate.batchUpdate(INSERT_SQL, appointments, appointments.size(), (ps, appointment) -> {
+			ps.setLong(1, appointment.getId());
+			ps.setString(2, appointment.getNote());
+			setTimestamp(ps, 3, appointment.getStartDateTime());
+			setTimestamp(ps, 4, appointment.getEndDateTime());
+			ps.setObject(5, appointment.getIsPaid(), Types.BOOLEAN);
+			ps.setObject(6, appointment.getIsAttended(), Types.BOOLEAN);
+			ps.setObject(7, idOf(appointment.getEmployee()), Types.BIGINT);
+			ps.setObject(8, idOf(appointment.getClient()), Types.BIGINT);
+			ps.setObject(9, idOf(appointment.getAppointmentType()), Types.BIGINT);
+			ps.setLong(10, appointment.getFirm().getId());
+			setTimestamp(ps, 11, appointment.getCreatedAt());
+			setTimestamp(ps, 12, appointment.getCreatedAt());
+			ps.setObject(13, idOf(appointment.getCreatedBy()), Types.BIGINT);
+			ps.setObject(14, idOf(appointment.getCreatedBy()), Types.BIGINT);
+		});
+	}
+
+	@Override
+	public boolean[] patchAll(List<Appointment> appointments, Long firmId) {
+		int[][] counts = jdbcTemplate.batchUpdate(PATCH_SQL, appointments, appointments.size(), (ps, appointment) -> {
+			ps.setString(1, appointment.getNote());
+			setTimestamp(ps, 2, appointment.getStartDateTime());
+			setTimestamp(ps, 3, appointment.getEndDateTime());
+			ps.setObject(4, appointment.getIsPaid(), Types.BOOLEAN);
+			ps.setObject(5, appointment.getIsAttended(), Types.BOOLEAN);
+			ps.setObject(6, idOf(appointment.getEmployee()), Types.BIGINT);
+			ps.setObject(7, idOf(appointment.getClient()), Types.BIGINT);
+			ps.setObject(8, idOf(appointment.getAppointmentType()), Types.BIGINT);
+			setTimestamp(ps, 9, appointment.getUpdatedAt());
+			ps.setObject(10, idOf(appointment.getUpdatedBy()), Types.BIGINT);
+			ps.setLong(11, appointment.getId());
+			ps.setLong(12, firmId);
+			ps.setLong(13, appointment.getVersion());
+		});
+
+		boolean[] updated = new boolean[appointments.size()];
+		int row = 0;
+		for (int[] batch : counts) {
+			for (int count : batch) {
+				updated[row++] = count != 0;
+			}
+		}
+		return updated;
+	}
+
+	private static void setTimestamp(PreparedStatement ps, int index, LocalDateTime value) throws SQLException {
+		ps.setObject(index, value != null ? Timestamp.valueOf(value) : null, Types.TIMESTAMP);
+	}
+
+	private static Long idOf(BaseEntity entity) {
+		return entity != null ? entity.getId() : null;
+	}
+}
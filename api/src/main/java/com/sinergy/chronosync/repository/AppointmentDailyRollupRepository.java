@@ -0,0 +1,195 @@
+package com.sinergy.chronosync.repository;
+
+import com.sinergy.chronosync.model.AppointmentDailyRollup;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for managing {@link AppointmentDailyRollup} entities.
+ */
+@Repository
+public interface AppointmentDailyRollupRepository
+		extends BaseRepository<AppointmentDailyRollup>,
+		OptimisticUpdateRepository<AppointmentDailyRollup> {
+
+	/**
+	 * Sums the given appointments of a firm per rollup, without writing anything. Revenue
+	 * is summed from the prices stored on the appointments.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @param ids    {@link Collection} of appointment IDs
+	 * @return {@link List} of sums, one per day, employee, appointment type and currency
+	 */
+	@Query("""
+		select cast(a.startDateTime as LocalDate) as rollupDate,
+			coalesce(a.employee.id, 0L) as employeeId,
+			coalesce(a.appointmentType.id, 0L) as appointmentTypeId,
+			coalesce(cast(a.currency as String), '') as currency,
+			count(a) as bookings,
+			sum((a.endDateTime - a.startDateTime) by minute) as minutes,
+			sum(coalesce(a.priceMinorUnits, 0L)) as revenueMinorUnits,
+			sum(case when a.isPaid = true then coalesce(a.priceMinorUnits, 0L) else 0L end) as paidRevenueMinorUnits,
+			sum(case when a.isAttended = true then 1L else 0L end) as attended,
+			sum(case when a.isPaid = true then 1L else 0L end) as paid
+		from Appointment a
+		where a.firm.id = :firmId and a.id in :ids and a.startDateTime is not null
+		group by cast(a.startDateTime as LocalDate), coalesce(a.employee.id, 0L), coalesce(a.appointmentType.id, 0L),
+			coalesce(cast(a.currency as String), '')
+		""")
+	List<Delta> sumAppointments(@Param("firmId") Long firmId, @Param("ids") Collection<Long> ids);
+
+	/**
+	 * Adds a sum to an existing rollup in a single statement.
+	 *
+	 * @param firmId                {@link Long} ID of the firm
+	 * @param rollupDate            {@link LocalDate} day of the rollup
+	 * @param employeeId            {@link Long} ID of the employee, or {@code 0}
+	 * @param appointmentTypeId     {@link Long} ID of the appointment type, or {@code 0}
+	 * @param currency              {@link String} code of the currency, or empty
+	 * @param bookings              bookings to add
+	 * @param minutes               minutes to add
+	 * @param revenueMinorUnits     revenue to add, in minor units
+	 * @param paidRevenueMinorUnits paid revenue to add, in minor units
+	 * @param attended              attended appointments to add
+	 * @param paid                  paid appointments to add
+	 * @return number of updated rollups, {@code 0} if the rollup does not exist
+	 */
+	@Modifying
+	@Query("""
+		update AppointmentDailyRollup r set
+			r.bookings = r.bookings + :bookings,
+			r.minutes = r.minutes + :minutes,
+			r.revenueMinorUnits = r.revenueMinorUnits + :revenueMinorUnits,
+			r.paidRevenueMinorUnits = r.paidRevenueMinorUnits + :paidRevenueMinorUnits,
+			r.attended = r.attended + :attended,
+			r.paid = r.paid + :paid,
+			r.version = r.version + 1
+		where r.firmId = :firmId and r.rollupDate = :rollupDate
+			and r.employeeId = :employeeId and r.appointmentTypeId = :appointmentTypeId and r.currency = :currency
+		""")
+	int add(
+		@Param("firmId") Long firmId,
+		@Param("rollupDate") LocalDate rollupDate,
+		@Param("employeeId") Long employeeId,
+		@Param("appointmentTypeId") Long appointmentTypeId,
+		@Param("currency") String currency,
+		@Param("bookings") long bookings,
+		@Param("minutes") long minutes,
+		@Param("revenueMinorUnits") long revenueMinorUnits,
+		@Param("paidRevenueMinorUnits") long paidRevenueMinorUnits,
+		@Param("attended") long attended,
+		@Param("paid") long paid
+	);
+
+	/**
+	 * Creates a rollup holding a sum in a single statement, unless the rollup exists.
+	 *
+	 * @param firmId                {@link Long} ID of the firm
+	 * @param rollupDate            {@link LocalDate} day of the rollup
+	 * @param employeeId            {@link Long} ID of the employee, or {@code 0}
+	 * @param appointmentTypeId     {@link Long} ID of the appointment type, or {@code 0}
+	 * @param currency              {@link String} code of the currency, or empty
+	 * @param bookings              bookings of the rollup
+	 * @param minutes               minutes of the rollup
+	 * @param revenueMinorUnits     revenue of the rollup, in minor units
+	 * @param paidRevenueMinorUnits paid revenue of the rollup, in minor units
+	 * @param attended              attended appointments of the rollup
+	 * @param paid                  paid appointments of the rollup
+	 * @return number of created rollups, {@code 0} if the rollup already exists
+	 */
+	@Modifying
+	@Query("""
+		insert into AppointmentDailyRollup (firmId, rollupDate, employeeId, appointmentTypeId, currency,
+			bookings, minutes, revenueMinorUnits, paidRevenueMinorUnits, attended, paid, version)
+		values (
+			:firmId, :rollupDate, :employeeId, :appointmentTypeId, :currency,
+			:bookings, :minutes, :revenueMinorUnits, :paidRevenueMinorUnits, :attended, :paid, 0L
+		)
+		on conflict do nothing
+		""")
+	int create(
+		@Param("firmId") Long firmId,
+		@Param("rollupDate") LocalDate rollupDate,
+		@Param("employeeId") Long employeeId,
+		@Param("appointmentTypeId") Long appointmentTypeId,
+		@Param("currency") String currency,
+		@Param("bookings") long bookings,
+		@Param("minutes") long minutes,
+		@Param("revenueMinorUnits") long revenueMinorUnits,
+		@Param("paidRevenueMinorUnits") long paidRevenueMinorUnits,
+		@Param("attended") long attended,
+		@Param("paid") long paid
+	);
+
+	/**
+	 * Computes the rollups of a firm's appointments starting on or after a day in a single
+	 * statement, from the prices stored on the appointments. The firm's rollups from that day
+	 * on must have been deleted first.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @param from   {@link LocalDateTime} start of the first day to compute
+	 * @return number of written rollups
+	 */
+	@Modifying
+	@Query("""
+		insert into AppointmentDailyRollup (firmId, rollupDate, employeeId, appointmentTypeId, currency,
+			bookings, minutes, revenueMinorUnits, paidRevenueMinorUnits, attended, paid, version)
+		select a.firm.id, cast(a.startDateTime as LocalDate), coalesce(a.employee.id, 0L), coalesce(a.appointmentType.id, 0L),
+			coalesce(cast(a.currency as String), ''),
+			count(a),
+			sum((a.endDateTime - a.startDateTime) by minute),
+			sum(coalesce(a.priceMinorUnits, 0L)),
+			sum(case when a.isPaid = true then coalesce(a.priceMinorUnits, 0L) else 0L end),
+			sum(case when a.isAttended = true then 1L else 0L end),
+			sum(case when a.isPaid = true then 1L else 0L end),
+			0L
+		from Appointment a
+		where a.firm.id = :firmId and a.startDateTime >= :from
+		group by a.firm.id, cast(a.startDateTime as LocalDate), coalesce(a.employee.id, 0L), coalesce(a.appointmentType.id, 0L),
+			coalesce(cast(a.currency as String), '')
+		""")
+	int rebuild(@Param("firmId") Long firmId, @Param("from") LocalDateTime from);
+
+	/**
+	 * Deletes the rollups of a firm from a day on in a single statement.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @param from   {@link LocalDate} first day to delete
+	 * @return number of deleted rollups
+	 */
+	@Modifying
+	@Query("delete from AppointmentDailyRollup r where r.firmId = :firmId and r.rollupDate >= :from")
+	int deleteByFirmIdAndRollupDateGreaterThanEqual(@Param("firmId") Long firmId, @Param("from") LocalDate from);
+
+	/**
+	 * Sum of appointments belonging to one rollup.
+	 */
+	interface Delta {
+		LocalDate getRollupDate();
+
+		Long getEmployeeId();
+
+		Long getAppointmentTypeId();
+
+		String getCurrency();
+
+		Long getBookings();
+
+		Long getMinutes();
+
+		Long getRevenueMinorUnits();
+
+		Long getPaidRevenueMinorUnits();
+
+		Long getAttended();
+
+		Long getPaid();
+	}
+}
@@ -0,0 +1,74 @@
+package com.sinergy.chronosync.repository;
+
+import com.sinergy.chronosync.dto.request.ReportDimension;
+import com.sinergy.chronosync.dto.request.ReportPeriod;
+import com.sinergy.chronosync.model.Appointment;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Repository fragment aggregating {@link Appointment} entities in the database over plain JDBC.
+ */
+public interface AppointmentReportRepository {
+
+	/**
+	 * Names of the columns following the grouping columns in every report row.
+	 */
+	List<String> MEASURE_COLUMNS = List.of(
+		"currency",
+		"appointments",
+		"attended",
+		"paid",
+		"attendedRatio",
+		"paidRatio",
+		"revenue",
+		"paidRevenue",
+		"minutes"
+	);
+
+	/**
+	 * Streams the appointment counts and revenue of a firm within a range, grouped by the
+	 * given dimensions and currency, in one aggregate query. A range of whole days is
+	 * summed from the firm's daily rollups with the prices at the time the appointments
+	 * were written, anything else from the appointments themselves with the current
+	 * prices of their appointment types.
+	 *
+	 * <p>Each row holds the value of every dimension in the given order, followed by the
+	 * {@link #MEASURE_COLUMNS}. Periods are the first day of the period as a
+	 * {@link java.time.LocalDate}, the currency is a
+	 * {@link com.sinergy.chronosync.model.appointmentType.Currency} and revenues are
+	 * {@link com.sinergy.chronosync.util.Money} of that currency. The stream holds an open
+	 * cursor and must be closed.</p>
+	 *
+	 * @param firmId    {@link Long} ID of the firm
+	 * @param from      {@link LocalDateTime} inclusive start of the range
+	 * @param to        {@link LocalDateTime} exclusive end of the range
+	 * @param groupBy   {@link List} of distinct {@link ReportDimension} to group by
+	 * @param period    {@link ReportPeriod} length of a period
+	 * @param fetchSize number of rows fetched per round trip
+	 * @return {@link Stream} of rows ordered by the grouping columns
+	 */
+	Stream<Object[]> streamReport(
+		Long firmId,
+		LocalDateTime from,
+		LocalDateTime to,
+		List<ReportDimension> groupBy,
+		ReportPeriod period,
+		int fetchSize
+	);
+
+	/**
+	 * Tells whether a report over a range is summed from the daily rollups, and so with
+	 * the prices at the time the appointments were written.
+	 *
+	 * @param from {@link LocalDateTime} inclusive start of the range
+	 * @param to   {@link LocalDateTime} exclusive end of the range
+	 * @return {@code true} if both ends of the range are at midnight
+	 */
+	static boolean isSummedFromRollups(LocalDateTime from, LocalDateTime to) {
+		return from.toLocalTime().equals(LocalTime.MIDNIGHT) && to.toLocalTime().equals(LocalTime.MIDNIGHT);
+	}
+}
@@ -0,0 +1,172 @@
+package com.sinergy.chronosync.repository;
+
+import com.sinergy.chronosync.dto.request.ReportDimension;
+import com.sinergy.chronosync.dto.request.ReportPeriod;
+import com.sinergy.chronosync.model.appointmentType.Currency;
+import com.sinergy.chronosync.util.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * JDBC implementation of {@link AppointmentReportRepository}.
+ *
+ * <p>Reports are grouped and summed by the database, so only one row per group crosses
+ * the wire and no entity is loaded. The grouping expressions come from the dimension
+ * enums, never from input.</p>
+ *
+ * <p>A range starting and ending at midnight is summed from the daily rollups, which
+ * hold at most one row per day, employee, appointment type and currency, instead of every
+ * appointment. Other ranges are summed from the appointments, selected through the firm
+ * and start time index. Both hold the prices and currencies at the time the appointments
+ * were written, so either way a report sums the same amounts.</p>
+ *
+ * <p>Prices are summed as whole minor units by the database and read as {@link Money}
+ * of the row's currency, so totals are exact.</p>
+ */
+@RequiredArgsConstructor
+public class AppointmentReportRepositoryImpl implements AppointmentReportRepository {
+
+	private static final String MEASURES_SQL = """
+		a.currency,
+		COUNT(*),
+		SUM(CASE WHEN a.is_attended THEN 1 ELSE 0 END),
+		SUM(CASE WHEN a.is_paid THEN 1 ELSE 0 END),
+		AVG(CASE WHEN a.is_attended THEN 1.0 ELSE 0.0 END),
+		AVG(CASE WHEN a.is_paid THEN 1.0 ELSE 0.0 END),
+		SUM(a.price_minor_units),
+		SUM(CASE WHEN a.is_paid THEN a.price_minor_units ELSE 0 END),
+		SUM(EXTRACT(EPOCH FROM a.end_date_time - a.start_date_time)) / 60
+		""";
+
+	private static final String FROM_SQL = """
+		FROM appointments a
+		WHERE a.firm_id = ? AND a.start_date_time >= ? AND a.start_date_time < ?
+		""";
+
+	private static final String ROLLUP_MEASURES_SQL = """
+		NULLIF(r.currency, ''),
+		SUM(r.bookings),
+		SUM(r.attended),
+		SUM(r.paid),
+		SUM(r.attended) * 1.0 / SUM(r.bookings),
+		SUM(r.paid) * 1.0 / SUM(r.bookings),
+		SUM(r.revenue_minor_units),
+		SUM(r.paid_revenue_minor_units),
+		SUM(r.minutes)
+		""";
+
+	private static final String ROLLUP_FROM_SQL = """
+		FROM appointment_daily_rollups r
+		WHERE r.firm_id = ? AND r.rollup_date >= ? AND r.rollup_date < ?
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public Stream<Object[]> streamReport(
+		Long firmId,
+		LocalDateTime from,
+		LocalDateTime to,
+		List<ReportDimension> groupBy,
+		ReportPeriod period,
+		int fetchSize
+	) {
+		boolean wholeDays = AppointmentReportRepository.isSummedFromRollups(from, to);
+		List<String> groups = new ArrayList<>();
+		for (ReportDimension dimension : groupBy) {
+			groups.add(wholeDays
+				? switch (dimension) {
+					case PERIOD -> "DATE_TRUNC('" + period.getTruncateUnit() + "', CAST(r.rollup_date AS TIMESTAMP))";
+					case EMPLOYEE -> "NULLIF(r.employee_id, 0)";
+					case APPOINTMENT_TYPE -> "NULLIF(r.appointment_type_id, 0)";
+				}
+				: switch (dimension) {
+					case PERIOD -> "DATE_TRUNC('" + period.getTruncateUnit() + "', a.start_date_time)";
+					case EMPLOYEE -> "a.employee_id";
+					case APPOINTMENT_TYPE -> "a.appointment_type_id";
+				});
+		}
+		groups.add(wholeDays ? "NULLIF(r.currency, '')" : "a.currency");
+		String grouping = String.join(", ", groups);
+		String dimensions = groupBy.isEmpty() ? "" : String.join(", ", groups.subList(0, groupBy.size())) + ", ";
+		String sql = wholeDays
+			? "SELECT " + dimensions + ROLLUP_MEASURES_SQL + ROLLUP_FROM_SQL
+				+ "GROUP BY " + grouping + " HAVING SUM(r.bookings) > 0 ORDER BY " + grouping
+			: "SELECT " + dimensions + MEASURES_SQL + FROM_SQL
+				+ "GROUP BY " + grouping + " ORDER BY " + grouping;
+
+		return jdbcTemplate.queryForStream(
+			connection -> {
+				PreparedStatement ps = connection.prepareStatement(sql);
+				ps.setFetchSize(fetchSize);
+				ps.setLong(1, firmId);
+				if (wholeDays) {
+					ps.setDate(2, Date.valueOf(from.toLocalDate()));
+					ps.setDate(3, Date.valueOf(to.toLocalDate()));
+				} else {
+					ps.setTimestamp(2, Timestamp.valueOf(from));
+					ps.setTimestamp(3, Timestamp.valueOf(to));
+				}
+				return ps;
+			},
+			(rs, rowNum) -> readRow(rs, groupBy)
+		);
+	}
+
+	/**
+	 * Reads a report row into plain values.
+	 *
+	 * @param rs      {@link ResultSet} positioned at the row
+	 * @param groupBy {@link List} of {@link ReportDimension} selected before the measures
+	 * @return array of the row's values
+	 * @throws SQLException if reading the row fails
+	 */
+	private static Object[] readRow(ResultSet rs, List<ReportDimension> groupBy) throws SQLException {
+		Object[] row = new Object[groupBy.size() + MEASURE_COLUMNS.size()];
+		for (int i = 0; i < groupBy.size(); i++) {
+			if (groupBy.get(i) == ReportDimension.PERIOD) {
+				Timestamp start = rs.getTimestamp(i + 1);
+				row[i] = start != null ? start.toLocalDateTime().toLocalDate() : null;
+			} else {
+				row[i] = rs.getObject(i + 1, Long.class);
+			}
+		}
+		int measures = groupBy.size();
+		String currencyCode = rs.getString(measures + 1);
+		Currency currency = currencyCode != null ? Currency.valueOf(currencyCode) : null;
+		row[measures] = currency;
+		row[measures + 1] = rs.getLong(measures + 2);
+		row[measures + 2] = rs.getLong(measures + 3);
+		row[measures + 3] = rs.getLong(measures + 4);
+		row[measures + 4] = rs.getDouble(measures + 5);
+		row[measures + 5] = rs.getDouble(measures + 6);
+		row[measures + 6] = readMoney(rs, measures + 7, currency);
+		row[measures + 7] = readMoney(rs, measures + 8, currency);
+		row[measures + 8] = rs.getLong(measures + 9);
+		return row;
+	}
+
+	/**
+	 * Reads a sum of minor units as an amount of money.
+	 *
+	 * @param rs       {@link ResultSet} positioned at the row
+	 * @param column   index of the column
+	 * @param currency {@link Currency} of the row, or {@code null}
+	 * @return {@link Money}, or {@code null} if the sum or the currency is missing
+	 * @throws SQLException if reading the column fails
+	 */
+	private static Money readMoney(ResultSet rs, int column, Currency currency) throws SQLException {
+		long minorUnits = rs.getLong(column);
+		return rs.wasNull() ? null : Money.ofNullable(minorUnits, currency);
+	}
+}
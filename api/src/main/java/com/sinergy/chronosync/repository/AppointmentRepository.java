@@ -2,9 +2,284 @@ package com.sinergy.chronosync.repository;
 
 import com.sinergy.chronosync.model.Appointment;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Repository interface for managing {@link Appointment} entities.
  */
-public interface AppointmentRepository extends BaseRepository<Appointment>, JpaSpecificationExecutor<Appointment> {
+public interface AppointmentRepository
+		extends BaseRepository<Appointment>,
+		JpaSpecificationExecutor<Appointment>,
+		OptimisticUpdateRepository<Appointment>,
+		ProjectionRepository<Appointment>,
+		AppointmentBulkRepository,
+		AppointmentReportRepository {
+
+	/**
+	 * Finds which of the given appointment IDs belong to a firm.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @param ids    {@link Collection} of appointment IDs to look up
+	 * @return {@link Set} of the IDs that exist within the firm
+	 */
+	@Query("select a.id from Appointment a where a.firm.id = :firmId and a.id in :ids")
+	Set<Long> findIdsByFirmIdAndIdIn(@Param("firmId") Long firmId, @Param("ids") Collection<Long> ids);
+
+	/**
+	 * Finds the version and time range of the given appointments of a firm.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @param ids    {@link Collection} of appointment IDs to look up
+	 * @return {@link List} of {@link VersionedRange} for the IDs that exist within the firm
+	 */
+	@Query("""
+		select a.id as id, a.version as version, a.employee.id as employeeId,
+			a.startDateTime as startDateTime, a.endDateTime as endDateTime
+		from Appointment a where a.firm.id = :firmId and a.id in :ids
+		""")
+	List<VersionedRange> findVersionedRangesByFirmIdAndIdIn(@Param("firmId") Long firmId, @Param("ids") Collection<Long> ids);
+
+	/**
+	 * Checks whether an employee has an appointment overlapping the given time range.
+	 * The range scan runs on {@code idx_appointment_employee_end}.
+	 *
+	 * @param employeeId {@link Long} ID of the employee
+	 * @param start      {@link LocalDateTime} inclusive start of the range
+	 * @param end        {@link LocalDateTime} exclusive end of the range
+	 * @param excludeId  {@link Long} ID of an appointment to ignore, or {@code null}
+	 * @return {@code true} if an overlapping appointment exists
+	 */
+	@Query("""
+		select count(a) > 0 from Appointment a
+		where a.employee.id = :employeeId and a.endDateTime > :start and a.startDateTime < :end
+			and (:excludeId is null or a.id <> :excludeId)
+		""")
+	boolean existsOverlapping(
+		@Param("employeeId") Long employeeId,
+		@Param("start") LocalDateTime start,
+		@Param("end") LocalDateTime end,
+		@Param("excludeId") Long excludeId
+	);
+
+	/**
+	 * Finds the time ranges of the given employees' appointments overlapping a time range.
+	 *
+	 * @param employeeIds {@link Collection} of employee IDs
+	 * @param start       {@link LocalDateTime} inclusive start of the range
+	 * @param end         {@link LocalDateTime} exclusive end of the range
+	 * @return {@link List} of {@link EmployeeRange} for the overlapping appointments, ordered by start
+	 */
+	@Query("""
+		select a.id as id, a.employee.id as employeeId, a.startDateTime as startDateTime, a.endDateTime as endDateTime
+		from Appointment a
+		where a.employee.id in :employeeIds and a.endDateTime > :start and a.startDateTime < :end
+		order by a.startDateTime
+		""")
+	List<EmployeeRange> findEmployeeRanges(
+		@Param("employeeIds") Collection<Long> employeeIds,
+		@Param("start") LocalDateTime start,
+		@Param("end") LocalDateTime end
+	);
+
+	/**
+	 * Finds the occurrences of the given series replaced by appointments, by their original
+	 * start within a time range.
+	 *
+	 * @param seriesIds {@link Collection} of series IDs
+	 * @param start     {@link LocalDateTime} inclusive start of the range
+	 * @param end       {@link LocalDateTime} exclusive end of the range
+	 * @return {@link List} of {@link OccurrenceKey}
+	 */
+	@Query("""
+		select a.series.id as seriesId, a.occurrenceStartDateTime as occurrenceStartDateTime
+		from Appointment a
+		where a.series.id in :seriesIds and a.occurrenceStartDateTime >= :start and a.occurrenceStartDateTime < :end
+		""")
+	List<OccurrenceKey> findOccurrenceKeys(
+		@Param("seriesIds") Collection<Long> seriesIds,
+		@Param("start") LocalDateTime start,
+		@Param("end") LocalDateTime end
+	);
+
+	/**
+	 * Checks whether an occurrence of a series is replaced by an appointment.
+	 *
+	 * @param seriesId                {@link Long} ID of the series
+	 * @param occurrenceStartDateTime {@link LocalDateTime} original start of the occurrence
+	 * @return {@code true} if an appointment replaces the occurrence
+	 */
+	boolean existsBySeriesIdAndOccurrenceStartDateTime(Long seriesId, LocalDateTime occurrenceStartDateTime);
+
+	/**
+	 * Unlinks the appointments replacing occurrences of the given series, which keeps them
+	 * as single appointments. The appointments are marked as modified, so change feeds
+	 * report them again.
+	 *
+	 * @param seriesIds {@link Collection} of series IDs
+	 * @param updatedAt {@link LocalDateTime} modification time to record
+	 * @return number of unlinked appointments
+	 */
+	@Modifying
+	@Query("""
+		update Appointment a set a.series = null, a.occurrenceStartDateTime = null,
+			a.updatedAt = :updatedAt, a.version = a.version + 1
+		where a.series.id in :seriesIds
+		""")
+	int detachFromSeries(@Param("seriesIds") Collection<Long> seriesIds, @Param("updatedAt") LocalDateTime updatedAt);
+
+	/**
+	 * Copies the current price and currency of each given appointment's type onto the
+	 * appointment, clearing them for appointments without a type.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @param ids    {@link Collection} of appointment IDs
+	 * @return number of updated appointments
+	 */
+	@Modifying
+	@Query("""
+		update Appointment a set
+			a.priceMinorUnits = (select t.priceMinorUnits from AppointmentType t where t.id = a.appointmentType.id),
+			a.currency = (select t.currency from AppointmentType t where t.id = a.appointmentType.id)
+		where a.firm.id = :firmId and a.id in :ids
+		""")
+	int snapshotPrices(@Param("firmId") Long firmId, @Param("ids") Collection<Long> ids);
+
+	/**
+	 * Finds the appointments of all firms starting within a time range.
+	 *
+	 * @param start {@link LocalDateTime} inclusive start of the range
+	 * @param end   {@link LocalDateTime} exclusive end of the range
+	 * @return {@link List} of {@link StartTime}
+	 */
+	@Query("""
+		select a.id as id, a.startDateTime as startDateTime
+		from Appointment a
+		where a.startDateTime >= :start and a.startDateTime < :end
+		""")
+	List<StartTime> findStartTimes(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+	/**
+	 * Finds what a reminder of an appointment tells its client.
+	 *
+	 * @param id {@link Long} ID of the appointment
+	 * @return {@link Optional} of {@link ReminderDetails}
+	 */
+	@Query("""
+		select a.id as id, a.firm.id as firmId, a.startDateTime as startDateTime, a.endDateTime as endDateTime,
+			a.note as note, t.name as appointmentTypeName,
+			c.firstName as clientFirstName, c.lastName as clientLastName, c.email as clientEmail,
+			e.firstName as employeeFirstName, e.lastName as employeeLastName
+		from Appointment a left join a.appointmentType t left join a.client c left join a.employee e
+		where a.id = :id
+		""")
+	Optional<ReminderDetails> findReminderDetails(@Param("id") Long id);
+
+	/**
+	 * Summarizes the appointments of an employee, so that any insert, update or delete changes
+	 * the summary. Answered from {@code idx_appointment_employee_updated} alone.
+	 *
+	 * @param employeeId {@link Long} ID of the employee
+	 * @return {@link ChangeSummary} of the employee's appointments
+	 */
+	@Query("""
+		select count(a) as count, max(a.id) as maxId, max(a.updatedAt) as updatedAt
+		from Appointment a where a.employee.id = :employeeId
+		""")
+	ChangeSummary summarizeByEmployeeId(@Param("employeeId") Long employeeId);
+
+	/**
+	 * Deletes the given appointments of a firm in a single statement.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @param ids    {@link Collection} of appointment IDs to delete
+	 * @return number of deleted appointments
+	 */
+	@Modifying
+	@Query("delete from Appointment a where a.firm.id = :firmId and a.id in :ids")
+	int deleteByFirmIdAndIdIn(@Param("firmId") Long firmId, @Param("ids") Collection<Long> ids);
+
+	/**
+	 * Employee and time range of an appointment.
+	 */
+	interface EmployeeRange {
+		Long getId();
+
+		Long getEmployeeId();
+
+		LocalDateTime getStartDateTime();
+
+		LocalDateTime getEndDateTime();
+	}
+
+	/**
+	 * Series and original start of an occurrence.
+	 */
+	interface OccurrenceKey {
+		Long getSeriesId();
+
+		LocalDateTime getOccurrenceStartDateTime();
+	}
+
+	/**
+	 * Start of an appointment.
+	 */
+	interface StartTime {
+		Long getId();
+
+		LocalDateTime getStartDateTime();
+	}
+
+	/**
+	 * Appointment details sent in a reminder.
+	 */
+	interface ReminderDetails {
+		Long getId();
+
+		Long getFirmId();
+
+		LocalDateTime getStartDateTime();
+
+		LocalDateTime getEndDateTime();
+
+		String getNote();
+
+		String getAppointmentTypeName();
+
+		String getClientFirstName();
+
+		String getClientLastName();
+
+		String getClientEmail();
+
+		String getEmployeeFirstName();
+
+		String getEmployeeLastName();
+	}
+
+	/**
+	 * Current version, employee and time range of an appointment.
+	 */
+	interface VersionedRange extends EmployeeRange {
+		Long getVersion();
+	}
+
+	/**
+	 * Row count, highest ID and latest modification time of a set of rows. Inserts raise
+	 * the highest ID or the count, deletes lower the count and updates move the time.
+	 */
+	interface ChangeSummary {
+		Long getCount();
+
+		Long getMaxId();
+
+		LocalDateTime getUpdatedAt();
+	}
 }
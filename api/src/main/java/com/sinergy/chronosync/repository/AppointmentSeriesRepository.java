@@ -0,0 +1,105 @@
+package com.sinergy.chronosync.repository;
+
+import com.sinergy.chronosync.model.series.AppointmentSeries;
+import com.sinergy.chronosync.repository.AppointmentRepository.ChangeSummary;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for managing {@link AppointmentSeries} entities.
+ */
+@Repository
+public interface AppointmentSeriesRepository
+		extends BaseRepository<AppointmentSeries>,
+		JpaSpecificationExecutor<AppointmentSeries>,
+		OptimisticUpdateRepository<AppointmentSeries>,
+		ProjectionRepository<AppointmentSeries> {
+
+	/**
+	 * Finds the series of the given employees with occurrences that may overlap a time range.
+	 * The range scan runs on {@code idx_series_employee_last_end}.
+	 *
+	 * @param employeeIds {@link Collection} of employee IDs
+	 * @param start       {@link LocalDateTime} inclusive start of the range
+	 * @param end         {@link LocalDateTime} exclusive end of the range
+	 * @return {@link List} of {@link SeriesRange}
+	 */
+	@Query("""
+		select s.id as id, s.employee.id as employeeId, s.startDateTime as startDateTime,
+			s.endDateTime as endDateTime, s.recurrenceRule as recurrenceRule
+		from AppointmentSeries s
+		where s.employee.id in :employeeIds and s.startDateTime < :end
+			and (s.lastEndDateTime is null or s.lastEndDateTime > :start)
+		""")
+	List<SeriesRange> findRanges(
+		@Param("employeeIds") Collection<Long> employeeIds,
+		@Param("start") LocalDateTime start,
+		@Param("end") LocalDateTime end
+	);
+
+	/**
+	 * Finds a series of a firm.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @param id     {@link Long} ID of the series
+	 * @return {@link Optional} of {@link AppointmentSeries}, empty if the series does not exist within the firm
+	 */
+	Optional<AppointmentSeries> findByFirmIdAndId(Long firmId, Long id);
+
+	/**
+	 * Finds the employees of the given series of a firm.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @param ids    {@link Collection} of series IDs
+	 * @return {@link List} of distinct employee IDs
+	 */
+	@Query("select distinct s.employee.id from AppointmentSeries s where s.firm.id = :firmId and s.id in :ids")
+	List<Long> findEmployeeIdsByFirmIdAndIdIn(@Param("firmId") Long firmId, @Param("ids") Collection<Long> ids);
+
+	/**
+	 * Summarizes the series of an employee, so that any insert, update or delete changes
+	 * the summary.
+	 *
+	 * @param employeeId {@link Long} ID of the employee
+	 * @return {@link ChangeSummary} of the employee's series
+	 */
+	@Query("""
+		select count(s) as count, max(s.id) as maxId, max(s.updatedAt) as updatedAt
+		from AppointmentSeries s where s.employee.id = :employeeId
+		""")
+	ChangeSummary summarizeByEmployeeId(@Param("employeeId") Long employeeId);
+
+	/**
+	 * Deletes the given series of a firm in a single statement.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @param ids    {@link Collection} of series IDs to delete
+	 * @return number of deleted series
+	 */
+	@Modifying
+	@Query("delete from AppointmentSeries s where s.firm.id = :firmId and s.id in :ids")
+	int deleteByFirmIdAndIdIn(@Param("firmId") Long firmId, @Param("ids") Collection<Long> ids);
+
+	/**
+	 * Employee, first occurrence and recurrence rule of a series.
+	 */
+	interface SeriesRange {
+		Long getId();
+
+		Long getEmployeeId();
+
+		LocalDateTime getStartDateTime();
+
+		LocalDateTime getEndDateTime();
+
+		String getRecurrenceRule();
+	}
+}
@@ -0,0 +1,140 @@
+package com.sinergy.chronosync.repository;
+
+import com.sinergy.chronosync.model.AppointmentTombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for managing {@link AppointmentTombstone} entities.
+ */
+@Repository
+public interface AppointmentTombstoneRepository
+		extends BaseRepository<AppointmentTombstone>,
+		OptimisticUpdateRepository<AppointmentTombstone> {
+
+	/**
+	 * Records tombstones for the given appointments of a firm in a single statement.
+	 * Must run before the appointments are deleted.
+	 *
+	 * @param firmId    {@link Long} ID of the firm
+	 * @param ids       {@link Collection} of appointment IDs
+	 * @param removedAt {@link LocalDateTime} time of the deletion
+	 * @return number of recorded tombstones
+	 */
+	@Modifying
+	@Query("""
+		insert into AppointmentTombstone (appointmentId, employeeId, removedAt, reassigned, firm, version)
+		select a.id, a.employee.id, :removedAt, false, a.firm, 0L from Appointment a
+		where a.firm.id = :firmId and a.id in :ids
+		""")
+	int recordDeleted(
+		@Param("firmId") Long firmId,
+		@Param("ids") Collection<Long> ids,
+		@Param("removedAt") LocalDateTime removedAt
+	);
+
+	/**
+	 * Records a tombstone for the current employee of an appointment of a firm if the
+	 * appointment is about to be assigned to another employee, or to none. Must run before
+	 * the appointment is updated.
+	 *
+	 * @param firmId     {@link Long} ID of the firm
+	 * @param id         {@link Long} ID of the appointment
+	 * @param employeeId {@link Long} ID of the new employee, or {@code null}
+	 * @param removedAt  {@link LocalDateTime} time of the update
+	 * @return number of recorded tombstones
+	 */
+	@Modifying
+	@Query("""
+		insert into AppointmentTombstone (appointmentId, employeeId, removedAt, reassigned, firm, version)
+		select a.id, a.employee.id, :removedAt, true, a.firm, 0L from Appointment a
+		where a.firm.id = :firmId and a.id = :id and a.employee.id is not null
+			and (:employeeId is null or a.employee.id <> :employeeId)
+		""")
+	int recordReassigned(
+		@Param("firmId") Long firmId,
+		@Param("id") Long id,
+		@Param("employeeId") Long employeeId,
+		@Param("removedAt") LocalDateTime removedAt
+	);
+
+	/**
+	 * Finds the deletions in a firm after a position in the firm's change feed, in feed order.
+	 *
+	 * @param firmId  {@link Long} ID of the firm
+	 * @param after   {@link LocalDateTime} removal time of the last seen tombstone
+	 * @param afterId {@link Long} ID of the last seen tombstone
+	 * @param before  {@link LocalDateTime} exclusive upper bound of the removal time
+	 * @param limit   {@link Limit} maximum number of tombstones
+	 * @return {@link List} of {@link Removal} ordered by removal time and ID
+	 */
+	@Query("""
+		select t.id as id, t.appointmentId as appointmentId, t.removedAt as removedAt
+		from AppointmentTombstone t
+		where t.firm.id = :firmId and t.reassigned = false
+			and (t.removedAt > :after or (t.removedAt = :after and t.id > :afterId)) and t.removedAt < :before
+		order by t.removedAt, t.id
+		""")
+	List<Removal> findFirmRemovals(
+		@Param("firmId") Long firmId,
+		@Param("after") LocalDateTime after,
+		@Param("afterId") Long afterId,
+		@Param("before") LocalDateTime before,
+		Limit limit
+	);
+
+	/**
+	 * Finds the deletions and reassignments away from an employee after a position in the
+	 * employee's change feed, in feed order.
+	 *
+	 * @param employeeId {@link Long} ID of the employee
+	 * @param after      {@link LocalDateTime} removal time of the last seen tombstone
+	 * @param afterId    {@link Long} ID of the last seen tombstone
+	 * @param before     {@link LocalDateTime} exclusive upper bound of the removal time
+	 * @param limit      {@link Limit} maximum number of tombstones
+	 * @return {@link List} of {@link Removal} ordered by removal time and ID
+	 */
+	@Query("""
+		select t.id as id, t.appointmentId as appointmentId, t.removedAt as removedAt
+		from AppointmentTombstone t
+		where t.employeeId = :employeeId
+			and (t.removedAt > :after or (t.removedAt = :after and t.id > :afterId)) and t.removedAt < :before
+		order by t.removedAt, t.id
+		""")
+	List<Removal> findEmployeeRemovals(
+		@Param("employeeId") Long employeeId,
+		@Param("after") LocalDateTime after,
+		@Param("afterId") Long afterId,
+		@Param("before") LocalDateTime before,
+		Limit limit
+	);
+
+	/**
+	 * Deletes the tombstones of a firm recorded before a time in a single statement.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @param before {@link LocalDateTime} exclusive upper bound of the removal time
+	 * @return number of deleted tombstones
+	 */
+	@Modifying
+	@Query("delete from AppointmentTombstone t where t.firm.id = :firmId and t.removedAt < :before")
+	int deleteByFirmIdAndRemovedAtBefore(@Param("firmId") Long firmId, @Param("before") LocalDateTime before);
+
+	/**
+	 * Position and appointment of a tombstone.
+	 */
+	interface Removal {
+		Long getId();
+
+		Long getAppointmentId();
+
+		LocalDateTime getRemovedAt();
+	}
+}
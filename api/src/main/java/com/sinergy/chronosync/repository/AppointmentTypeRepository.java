@@ -1,9 +1,16 @@
 package com.sinergy.chronosync.repository;
 
 import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import com.sinergy.chronosync.model.appointmentType.Currency;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Repository interface for managing {@link AppointmentType} entities.
  * This interface extends {@link BaseRepository} to provide CRUD operations for {@link AppointmentType} entities.
@@ -11,5 +18,37 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface AppointmentTypeRepository
 		extends BaseRepository<AppointmentType>,
-		JpaSpecificationExecutor<AppointmentType> {
-}
\ No newline at end of file
+		JpaSpecificationExecutor<AppointmentType>,
+		OptimisticUpdateRepository<AppointmentType>,
+		ProjectionRepository<AppointmentType> {
+
+	/**
+	 * Finds which of the given appointment type IDs belong to a firm.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @param ids    {@link Collection} of appointment type IDs to look up
+	 * @return {@link List} of the IDs that exist within the firm, in ascending order
+	 */
+	@Query("select t.id from AppointmentType t where t.firm.id = :firmId and t.id in :ids order by t.id")
+	List<Long> findIdsByFirmIdAndIdIn(@Param("firmId") Long firmId, @Param("ids") Collection<Long> ids);
+
+	/**
+	 * Deletes the given appointment types of a firm in a single statement.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @param ids    {@link Collection} of appointment type IDs to delete
+	 * @return number of deleted appointment types
+	 */
+	@Modifying
+	@Query("delete from AppointmentType t where t.firm.id = :firmId and t.id in :ids")
+	int deleteByFirmIdAndIdIn(@Param("firmId") Long firmId, @Param("ids") Collection<Long> ids);
+
+	/**
+	 * Finds the distinct currencies of the priced appointment types of a firm.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @return {@link List} of {@link Currency}
+	 */
+	@Query("select distinct t.currency from AppointmentType t where t.firm.id = :firmId and t.currency is not null")
+	List<Currency> findCurrenciesByFirmId(@Param("firmId") Long firmId);
+}
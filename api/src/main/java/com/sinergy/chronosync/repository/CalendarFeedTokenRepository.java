@@ -0,0 +1,49 @@
+package com.sinergy.chronosync.repository;
+
+import com.sinergy.chronosync.model.CalendarFeedToken;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository interface for managing {@link CalendarFeedToken} entities.
+ */
+@Repository
+public interface CalendarFeedTokenRepository
+		extends BaseRepository<CalendarFeedToken>,
+		OptimisticUpdateRepository<CalendarFeedToken> {
+
+	/**
+	 * Finds the employee a feed token grants access to, without loading the employee.
+	 *
+	 * @param tokenHash {@link String} hash of the token
+	 * @return {@link Optional} of {@link FeedOwner}, empty if the token does not exist
+	 */
+	@Query("""
+		select t.employee.id as employeeId, t.firm.id as firmId
+		from CalendarFeedToken t where t.tokenHash = :tokenHash
+		""")
+	Optional<FeedOwner> findOwnerByTokenHash(@Param("tokenHash") String tokenHash);
+
+	/**
+	 * Deletes the feed token of an employee in a single statement.
+	 *
+	 * @param employeeId {@link Long} ID of the employee
+	 * @return number of deleted tokens
+	 */
+	@Modifying
+	@Query("delete from CalendarFeedToken t where t.employee.id = :employeeId")
+	int deleteByEmployeeId(@Param("employeeId") Long employeeId);
+
+	/**
+	 * Employee and firm of a feed token.
+	 */
+	interface FeedOwner {
+		Long getEmployeeId();
+
+		Long getFirmId();
+	}
+}
@@ -0,0 +1,89 @@
+package com.sinergy.chronosync.repository;
+
+import com.sinergy.chronosync.model.series.CancelledOccurrence;
+import com.sinergy.chronosync.repository.AppointmentRepository.ChangeSummary;
+import com.sinergy.chronosync.repository.AppointmentRepository.OccurrenceKey;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for managing {@link CancelledOccurrence} entities.
+ */
+@Repository
+public interface CancelledOccurrenceRepository
+		extends BaseRepository<CancelledOccurrence>,
+		OptimisticUpdateRepository<CancelledOccurrence> {
+
+	/**
+	 * Finds the cancelled occurrences of the given series originally starting within a time range.
+	 *
+	 * @param seriesIds {@link Collection} of series IDs
+	 * @param start     {@link LocalDateTime} inclusive start of the range
+	 * @param end       {@link LocalDateTime} exclusive end of the range
+	 * @return {@link List} of {@link OccurrenceKey}
+	 */
+	@Query("""
+		select c.series.id as seriesId, c.occurrenceStartDateTime as occurrenceStartDateTime
+		from CancelledOccurrence c
+		where c.series.id in :seriesIds and c.occurrenceStartDateTime >= :start and c.occurrenceStartDateTime < :end
+		""")
+	List<OccurrenceKey> findKeys(
+		@Param("seriesIds") Collection<Long> seriesIds,
+		@Param("start") LocalDateTime start,
+		@Param("end") LocalDateTime end
+	);
+
+	/**
+	 * Checks whether an occurrence of a series is cancelled.
+	 *
+	 * @param seriesId                {@link Long} ID of the series
+	 * @param occurrenceStartDateTime {@link LocalDateTime} original start of the occurrence
+	 * @return {@code true} if the occurrence is cancelled
+	 */
+	boolean existsBySeriesIdAndOccurrenceStartDateTime(Long seriesId, LocalDateTime occurrenceStartDateTime);
+
+	/**
+	 * Cancels the occurrences replaced by the given appointments of a firm in a single
+	 * statement, so that deleting the appointments does not bring the occurrences back.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @param ids    {@link Collection} of appointment IDs
+	 * @return number of cancelled occurrences
+	 */
+	@Modifying
+	@Query("""
+		insert into CancelledOccurrence (series, occurrenceStartDateTime, firm, version)
+		select a.series, a.occurrenceStartDateTime, a.firm, 0L from Appointment a
+		where a.firm.id = :firmId and a.id in :ids and a.series is not null
+		""")
+	int cancelReplacedBy(@Param("firmId") Long firmId, @Param("ids") Collection<Long> ids);
+
+	/**
+	 * Summarizes the cancelled occurrences of an employee's series, so that cancelling an
+	 * occurrence or deleting a cancellation changes the summary.
+	 *
+	 * @param employeeId {@link Long} ID of the employee
+	 * @return {@link ChangeSummary} of the cancelled occurrences
+	 */
+	@Query("""
+		select count(c) as count, max(c.id) as maxId, max(c.updatedAt) as updatedAt
+		from CancelledOccurrence c where c.series.employee.id = :employeeId
+		""")
+	ChangeSummary summarizeByEmployeeId(@Param("employeeId") Long employeeId);
+
+	/**
+	 * Deletes the cancelled occurrences of the given series in a single statement.
+	 *
+	 * @param seriesIds {@link Collection} of series IDs
+	 * @return number of deleted rows
+	 */
+	@Modifying
+	@Query("delete from CancelledOccurrence c where c.series.id in :seriesIds")
+	int deleteBySeriesIdIn(@Param("seriesIds") Collection<Long> seriesIds);
+}
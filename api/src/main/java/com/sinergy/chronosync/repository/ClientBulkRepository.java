@@ -0,0 +1,31 @@
+package com.sinergy.chronosync.repository;
+
+import com.sinergy.chronosync.model.Client;
+
+import java.util.List;
+
+/**
+ * Repository fragment for loading {@link Client} entities in bulk over plain JDBC.
+ */
+public interface ClientBulkRepository {
+
+	/**
+	 * Reserves a block of client IDs from the ID sequence in a single round trip.
+	 *
+	 * @param count number of IDs to reserve
+	 * @return {@link List} of reserved IDs
+	 */
+	List<Long> reserveIds(int count);
+
+	/**
+	 * Inserts clients in JDBC batches, skipping rows that violate the per-firm
+	 * uniqueness constraint instead of failing the whole load.
+	 *
+	 * <p>Every client must already carry its ID, firm and audit fields.</p>
+	 *
+	 * @param clients   {@link List} of clients to insert
+	 * @param batchSize number of rows sent per JDBC batch
+	 * @return array with one flag per client, {@code false} where the row was a duplicate
+	 */
+	boolean[] insertAllSkippingDuplicates(List<Client> clients, int batchSize);
+}
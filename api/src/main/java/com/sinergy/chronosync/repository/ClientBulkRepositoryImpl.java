@@ -0,0 +1,68 @@
+package com.sinergy.chronosync.repository;
+
+import com.sinergy.chronosync.model.Client;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * JDBC implementation of {@link ClientBulkRepository}.
+ *
+ * <p>Entities mapped with identity IDs cannot be batched by Hibernate, so rows are
+ * written with {@link JdbcTemplate} instead, using IDs reserved up front from the
+ * sequence backing the identity column. Duplicates are skipped with
+ * {@code ON CONFLICT DO NOTHING} and show up as zero update counts, which is why
+ * the driver must not rewrite batched inserts into multi-row statements.</p>
+ */
+@RequiredArgsConstructor
+public class ClientBulkRepositoryImpl implements ClientBulkRepository {
+
+	private static final String RESERVE_IDS_SQL =
+		"SELECT nextval(pg_get_serial_sequence('clients', 'id')) FROM generate_series(1, ?)";
+
+	private static final String INSERT_SQL = """
+		INSERT INTO clients (id, first_name, last_name, address, phone, email, unique_identifier,
+			firm_id, created_at, updated_at, created_by, updated_by, version)
+		VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)
+		ON CONFLICT ON CONSTRAINT uk_client_identifiers_per_firm DO NOTHING
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public List<Long> reserveIds(int count) {
+		return jdbcTemplate.queryForList(RESERVE_IDS_SQL, Long.class, count);
+	}
+
+	@Override
+	public boolean[] insertAllSkippingDuplicates(List<Client> clients, int batchSize) {
+		int[][] counts = jdbcTemplate.batchUpdate(INSERT_SQL, clients, batchSize, (ps, client) -> {
+			Long createdBy = client.getCreatedBy() != null ? client.getCreatedBy().getId() : null;
+
+			ps.setLong(1, client.getId());
+			ps.setString(2, client.getFirstName());
+			ps.setString(3, client.getLastName());
+			ps.setString(4, client.getAddress());
+			ps.setString(5, client.getPhone());
+			ps.setString(6, client.getEmail());
+			ps.setString(7, client.getUniqueIdentifier());
+			ps.setLong(8, client.getFirm().getId());
+			ps.setTimestamp(9, Timestamp.valueOf(client.getCreatedAt()));
+			ps.setTimestamp(10, Timestamp.valueOf(client.getCreatedAt()));
+			ps.setObject(11, createdBy, Types.BIGINT);
+			ps.setObject(12, createdBy, Types.BIGINT);
+		});
+
+		boolean[] inserted = new boolean[clients.size()];
+		int row = 0;
+		for (int[] batch : counts) {
+			for (int count : batch) {
+				inserted[row++] = count != 0;
+			}
+		}
+		return inserted;
+	}
+}
@@ -2,11 +2,43 @@ package com.sinergy.chronosync.repository;
 
 import com.sinergy.chronosync.model.Client;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Repository interface for managing {@link Client} entities.
  */
 @Repository
-public interface ClientRepository extends BaseRepository<Client>, JpaSpecificationExecutor<Client> {
+public interface ClientRepository
+		extends BaseRepository<Client>,
+		JpaSpecificationExecutor<Client>,
+		OptimisticUpdateRepository<Client>,
+		ProjectionRepository<Client>,
+		ClientBulkRepository {
+
+	/**
+	 * Finds which of the given client IDs belong to a firm.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @param ids    {@link Collection} of client IDs to look up
+	 * @return {@link List} of the IDs that exist within the firm, in ascending order
+	 */
+	@Query("select c.id from Client c where c.firm.id = :firmId and c.id in :ids order by c.id")
+	List<Long> findIdsByFirmIdAndIdIn(@Param("firmId") Long firmId, @Param("ids") Collection<Long> ids);
+
+	/**
+	 * Deletes the given clients of a firm in a single statement.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @param ids    {@link Collection} of client IDs to delete
+	 * @return number of deleted clients
+	 */
+	@Modifying
+	@Query("delete from Client c where c.firm.id = :firmId and c.id in :ids")
+	int deleteByFirmIdAndIdIn(@Param("firmId") Long firmId, @Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,54 @@
+package com.sinergy.chronosync.repository;
+
+import com.sinergy.chronosync.model.ExchangeRate;
+import com.sinergy.chronosync.model.appointmentType.Currency;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Repository interface for managing {@link ExchangeRate} entities.
+ */
+@Repository
+public interface ExchangeRateRepository
+		extends BaseRepository<ExchangeRate>,
+		OptimisticUpdateRepository<ExchangeRate> {
+
+	/**
+	 * Finds the exchange rates of a firm, without loading the firm.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @return {@link List} of {@link ExchangeRateRow} ordered by currency and target currency
+	 */
+	@Query("""
+		select r.currency as currency, r.targetCurrency as targetCurrency, r.rate as rate
+		from ExchangeRate r where r.firm.id = :firmId
+		order by r.currency, r.targetCurrency
+		""")
+	List<ExchangeRateRow> findRowsByFirmId(@Param("firmId") Long firmId);
+
+	/**
+	 * Deletes the exchange rates of a firm in a single statement.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @return number of deleted rows
+	 */
+	@Modifying
+	@Query("delete from ExchangeRate r where r.firm.id = :firmId")
+	int deleteByFirmId(@Param("firmId") Long firmId);
+
+	/**
+	 * One exchange rate of a firm.
+	 */
+	interface ExchangeRateRow {
+		Currency getCurrency();
+
+		Currency getTargetCurrency();
+
+		BigDecimal getRate();
+	}
+}
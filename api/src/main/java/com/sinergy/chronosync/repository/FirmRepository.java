@@ -3,11 +3,34 @@ package com.sinergy.chronosync.repository;
 import com.sinergy.chronosync.model.Firm;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * Firm repository class for managing firms.
  */
 @Repository
 public interface FirmRepository extends JpaRepository<Firm, Long>, JpaSpecificationExecutor<Firm> {
+
+	/**
+	 * Retrieves the IDs of all firms.
+	 *
+	 * @return {@link List} of firm IDs in ascending order
+	 */
+	@Query("select f.id from Firm f order by f.id")
+	List<Long> findAllIds();
+
+	/**
+	 * Raises the appointment type version of a firm in a single statement.
+	 *
+	 * @param id {@link Long} ID of the firm
+	 * @return number of updated firms
+	 */
+	@Modifying
+	@Query("update Firm f set f.appointmentTypeVersion = f.appointmentTypeVersion + 1 where f.id = :id")
+	int incrementAppointmentTypeVersion(@Param("id") Long id);
 }
\ No newline at end of file
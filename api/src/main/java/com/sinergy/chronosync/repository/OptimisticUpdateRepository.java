@@ -0,0 +1,41 @@
+package com.sinergy.chronosync.repository;
+
+import com.sinergy.chronosync.exception.ConflictException;
+import com.sinergy.chronosync.exception.RepositoryException;
+import com.sinergy.chronosync.model.BaseEntity;
+
+/**
+ * Repository fragment for updating entities with optimistic locking in a single statement.
+ *
+ * @param <T> the entity type, extending {@link BaseEntity}
+ */
+public interface OptimisticUpdateRepository<T extends BaseEntity> {
+
+	/**
+	 * Updates the entity in the database.
+	 *
+	 * <p>The row is only updated if it still has the version the entity carries, so the
+	 * entity must hold the version its data was read at.</p>
+	 *
+	 * @param entity {@link T} The entity with updated data to be saved.
+	 * @return {@link T} The updated entity, carrying its new version.
+	 * @throws RepositoryException in case the entity does not exist
+	 * @throws ConflictException   in case the entity was changed since the given version
+	 */
+	T update(T entity) throws RepositoryException, ConflictException;
+
+	/**
+	 * Updates the entity in the database if it belongs to the given firm.
+	 *
+	 * <p>Behaves like {@link #update(BaseEntity)}, but only matches the row while it still
+	 * belongs to the firm, so an entity of another firm is reported as missing and is
+	 * never moved into the firm.</p>
+	 *
+	 * @param entity {@link T} The entity with updated data to be saved.
+	 * @param firmId {@link Long} ID of the firm the entity must belong to
+	 * @return {@link T} The updated entity, carrying its new version.
+	 * @throws RepositoryException in case the entity does not exist within the firm
+	 * @throws ConflictException   in case the entity was changed since the given version
+	 */
+	T update(T entity, Long firmId) throws RepositoryException, ConflictException;
+}
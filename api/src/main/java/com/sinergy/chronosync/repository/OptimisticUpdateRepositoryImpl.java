@@ -0,0 +1,166 @@
+package com.sinergy.chronosync.repository;
+
+import com.sinergy.chronosync.exception.ConflictException;
+import com.sinergy.chronosync.exception.RepositoryException;
+import com.sinergy.chronosync.model.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.SingularAttribute;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.auditing.AuditingHandler;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+
+/**
+ * Criteria API implementation of {@link OptimisticUpdateRepository}.
+ *
+ * <p>The update is issued as a single {@code UPDATE ... WHERE id = ? AND version = ?}
+ * without reading the row first. Every updatable column is written from the given
+ * entity, associations by reference, and the version is incremented. The version is
+ * always matched, so a caller must pass the version it read. Only when no row is
+ * affected is the row looked up, to tell a missing entity from a concurrent change.
+ * The firm-scoped variant adds {@code AND firm_id = ?} to both statements.</p>
+ *
+ * @param <T> the entity type, extending {@link BaseEntity}
+ */
+public class OptimisticUpdateRepositoryImpl<T extends BaseEntity> implements OptimisticUpdateRepository<T> {
+
+	private static final String FIRM = "firm";
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	private final ObjectProvider<AuditingHandler> auditingHandler;
+
+	public OptimisticUpdateRepositoryImpl(ObjectProvider<AuditingHandler> auditingHandler) {
+		this.auditingHandler = auditingHandler;
+	}
+
+	@Override
+	@Transactional
+	public T update(T entity) {
+		return update(entity, null);
+	}
+
+	@Override
+	@Transactional
+	@SuppressWarnings("unchecked")
+	public T update(T entity, Long firmId) {
+		Class<T> entityClass = (Class<T>) entity.getClass();
+		auditingHandler.ifAvailable(handler -> handler.markModified(entity));
+
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaUpdate<T> update = cb.createCriteriaUpdate(entityClass);
+		Root<T> root = update.from(entityClass);
+
+		EntityType<T> entityType = entityManager.getMetamodel().entity(entityClass);
+		String idName = entityType.getId(Long.class).getName();
+		String versionName = entityType.getSingularAttributes().stream()
+			.filter(SingularAttribute::isVersion)
+			.findFirst()
+			.orElseThrow(() -> new IllegalStateException(entityClass.getName() + " has no version attribute."))
+			.getName();
+
+		for (SingularAttribute<? super T, ?> attribute : entityType.getSingularAttributes()) {
+			if (attribute.getName().equals(idName) || attribute.getName().equals(versionName)
+				|| !isUpdatable(attribute.getJavaMember())) {
+				continue;
+			}
+			Path<Object> path = root.get(attribute.getName());
+			Object value = read(attribute.getJavaMember(), entity);
+			if (value instanceof BaseEntity reference && attribute.isAssociation()) {
+				value = entityManager.getReference(attribute.getJavaType(), reference.getId());
+			}
+			if (value == null) {
+				update.<Object>set(path, (Expression<Object>) cb.nullLiteral(attribute.getJavaType()));
+			} else {
+				update.<Object, Object>set(path, value);
+			}
+		}
+
+		Path<Long> version = root.get(versionName);
+		update.set(version, cb.sum(version, 1L));
+
+		Predicate matches = cb.and(cb.equal(root.get(idName), entity.getId()), cb.equal(version, entity.getVersion()));
+		if (firmId != null) {
+			matches = cb.and(matches, cb.equal(root.get(FIRM).get(idName), firmId));
+		}
+		update.where(matches);
+
+		if (entityManager.createQuery(update).executeUpdate() == 0) {
+			if (!exists(entityClass, entity.getId(), firmId)) {
+				throw new RepositoryException("Entity with ID " + entity.getId() + " not found.");
+			}
+			throw new ConflictException("Entity with ID " + entity.getId() + " was changed by someone else.");
+		}
+
+		entity.setVersion(entity.getVersion() + 1);
+		return entity;
+	}
+
+	/**
+	 * Checks whether a row with the given ID exists, within the firm if one is given.
+	 *
+	 * @param entityClass {@link Class} of the entity
+	 * @param id          {@link Long} ID to look up
+	 * @param firmId      {@link Long} ID of the firm the row must belong to, or {@code null}
+	 * @return {@code true} if the row exists
+	 */
+	private boolean exists(Class<T> entityClass, Long id, Long firmId) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Long> query = cb.createQuery(Long.class);
+		Root<T> root = query.from(entityClass);
+		Predicate matches = cb.equal(root.get("id"), id);
+		if (firmId != null) {
+			matches = cb.and(matches, cb.equal(root.get(FIRM).get("id"), firmId));
+		}
+		query.select(cb.count(root)).where(matches);
+
+		return entityManager.createQuery(query).getSingleResult() > 0;
+	}
+
+	/**
+	 * Checks whether the mapped column of an attribute may be written by an update.
+	 *
+	 * @param member {@link Member} the attribute is mapped from
+	 * @return {@code false} if the column is mapped with {@code updatable = false}
+	 */
+	private static boolean isUpdatable(Member member) {
+		if (!(member instanceof Field field)) {
+			return true;
+		}
+		Column column = field.getAnnotation(Column.class);
+		JoinColumn joinColumn = field.getAnnotation(JoinColumn.class);
+
+		return (column == null || column.updatable()) && (joinColumn == null || joinColumn.updatable());
+	}
+
+	/**
+	 * Reads the value of an attribute from an entity.
+	 *
+	 * @param member {@link Member} the attribute is mapped from
+	 * @param entity the entity to read
+	 * @return the attribute value
+	 */
+	private static Object read(Member member, Object entity) {
+		try {
+			Field field = (Field) member;
+			field.setAccessible(true);
+			return field.get(entity);
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException("Cannot read attribute " + member.getName(), e);
+		}
+	}
+}
@@ -0,0 +1,49 @@
+package com.sinergy.chronosync.repository;
+
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.util.function.Function;
+
+/**
+ * Describes a read-only projection of an entity into a flat result type.
+ *
+ * <p>The selector receives the query root and returns the selections that are
+ * passed, in order, to the canonical constructor of the result type. Only the
+ * selected columns are fetched and no managed entity is created.</p>
+ *
+ * @param entityClass      the queried entity type
+ * @param resultClass      the type every row is constructed into
+ * @param selector         function producing the constructor arguments from the query root
+ * @param queryCacheRegion query cache region the results are cached in, or {@code null} to not cache them
+ * @param <T>              the entity type
+ * @param <P>              the projected result type
+ */
+public record Projection<T, P>(
+	Class<T> entityClass,
+	Class<P> resultClass,
+	Function<Root<T>, Selection<?>[]> selector,
+	String queryCacheRegion
+) {
+
+	/**
+	 * Creates a projection whose results are not cached.
+	 *
+	 * @param entityClass the queried entity type
+	 * @param resultClass the type every row is constructed into
+	 * @param selector    function producing the constructor arguments from the query root
+	 */
+	public Projection(Class<T> entityClass, Class<P> resultClass, Function<Root<T>, Selection<?>[]> selector) {
+		this(entityClass, resultClass, selector, null);
+	}
+
+	/**
+	 * Returns a copy of this projection whose results are cached in the given query cache region.
+	 *
+	 * @param region {@link String} query cache region name
+	 * @return {@link Projection} cached copy of this projection
+	 */
+	public Projection<T, P> cachedIn(String region) {
+		return new Projection<>(entityClass, resultClass, selector, region);
+	}
+}
@@ -0,0 +1,51 @@
+package com.sinergy.chronosync.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.stream.Stream;
+
+/**
+ * Repository fragment for read-only projection queries.
+ *
+ * <p>Reuses the {@link Specification} produced by the filter builders, but selects
+ * only the columns described by a {@link Projection} instead of loading full entity graphs.</p>
+ *
+ * @param <T> the entity type the specification applies to
+ */
+public interface ProjectionRepository<T> {
+
+	/**
+	 * Retrieves a page of projected rows matching the given specification.
+	 *
+	 * @param specification {@link Specification} filtering the queried entities
+	 * @param projection    {@link Projection} describing the selected columns and the result type
+	 * @param pageable      {@link Pageable} pagination and sorting information
+	 * @param <P>           the projected result type
+	 * @return {@link Page} of projected rows
+	 */
+	<P> Page<P> findAllProjected(Specification<T> specification, Projection<T, P> projection, Pageable pageable);
+
+	/**
+	 * Streams all projected rows matching the given specification from a forward-only cursor.
+	 *
+	 * <p>Rows are fetched from the database in batches of {@code fetchSize}, so memory use does
+	 * not depend on the number of matching rows. The caller must consume and close the stream
+	 * inside a transaction, since the cursor is only held open while the connection is.</p>
+	 *
+	 * @param specification {@link Specification} filtering the queried entities
+	 * @param projection    {@link Projection} describing the selected columns and the result type
+	 * @param sort          {@link Sort} order of the streamed rows
+	 * @param fetchSize     number of rows fetched from the database per round trip
+	 * @param <P>           the projected result type
+	 * @return {@link Stream} of projected rows, which must be closed after use
+	 */
+	<P> Stream<P> streamAllProjected(
+		Specification<T> specification,
+		Projection<T, P> projection,
+		Sort sort,
+		int fetchSize
+	);
+}
@@ -0,0 +1,185 @@
+package com.sinergy.chronosync.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.FlushModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Criteria API implementation of {@link ProjectionRepository}.
+ *
+ * <p>Queries run in a read-only transaction with flushing disabled, so neither the
+ * select nor the count query triggers dirty checking of the persistence context.
+ * Projections with a query cache region are served from the Hibernate query cache.</p>
+ *
+ * @param <T> the entity type the specification applies to
+ */
+public class ProjectionRepositoryImpl<T> implements ProjectionRepository<T> {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	/**
+	 * Retrieves a page of projected rows matching the given specification.
+	 *
+	 * <p>The count query is skipped when the total can be derived from the page content.</p>
+	 *
+	 * @param specification {@link Specification} filtering the queried entities
+	 * @param projection    {@link Projection} describing the selected columns and the result type
+	 * @param pageable      {@link Pageable} pagination and sorting information
+	 * @param <P>           the projected result type
+	 * @return {@link Page} of projected rows
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public <P> Page<P> findAllProjected(
+		Specification<T> specification,
+		Projection<T, P> projection,
+		Pageable pageable
+	) {
+		TypedQuery<P> typedQuery = readOnly(
+			createQuery(specification, projection, pageable.getSort()),
+			projection.queryCacheRegion()
+		);
+
+		if (pageable.isPaged()) {
+			typedQuery.setFirstResult((int) pageable.getOffset());
+			typedQuery.setMaxResults(pageable.getPageSize());
+		}
+
+		List<P> content = typedQuery.getResultList();
+
+		return PageableExecutionUtils.getPage(
+			content,
+			pageable,
+			() -> count(specification, projection)
+		);
+	}
+
+	/**
+	 * Streams all projected rows matching the given specification from a forward-only cursor.
+	 *
+	 * <p>The query result is never cached, and the rows are projections rather than managed
+	 * entities, so the persistence context does not grow while the stream is consumed.</p>
+	 *
+	 * @param specification {@link Specification} filtering the queried entities
+	 * @param projection    {@link Projection} describing the selected columns and the result type
+	 * @param sort          {@link Sort} order of the streamed rows
+	 * @param fetchSize     number of rows fetched from the database per round trip
+	 * @param <P>           the projected result type
+	 * @return {@link Stream} of projected rows, which must be closed after use
+	 */
+	@Override
+	public <P> Stream<P> streamAllProjected(
+		Specification<T> specification,
+		Projection<T, P> projection,
+		Sort sort,
+		int fetchSize
+	) {
+		return readOnly(createQuery(specification, projection, sort), null)
+			.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+			.getResultStream();
+	}
+
+	/**
+	 * Creates the projected select query for the given specification and order.
+	 *
+	 * @param specification {@link Specification} filtering the queried entities
+	 * @param projection    {@link Projection} describing the selected columns and the result type
+	 * @param sort          {@link Sort} order of the selected rows
+	 * @param <P>           the projected result type
+	 * @return {@link TypedQuery} selecting the projected rows
+	 */
+	private <P> TypedQuery<P> createQuery(Specification<T> specification, Projection<T, P> projection, Sort sort) {
+		CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<P> query = criteriaBuilder.createQuery(projection.resultClass());
+		Root<T> root = query.from(projection.entityClass());
+
+		query.select(criteriaBuilder.construct(projection.resultClass(), projection.selector().apply(root)));
+		applySpecification(specification, root, query, criteriaBuilder);
+
+		if (sort.isSorted()) {
+			query.orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+		}
+
+		return entityManager.createQuery(query);
+	}
+
+	/**
+	 * Counts the entities matching the given specification.
+	 *
+	 * @param specification {@link Specification} filtering the queried entities
+	 * @param projection    {@link Projection} providing the queried entity and the query cache region
+	 * @return number of matching rows
+	 */
+	private long count(Specification<T> specification, Projection<T, ?> projection) {
+		CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+		Root<T> root = query.from(projection.entityClass());
+
+		query.select(criteriaBuilder.count(root));
+		applySpecification(specification, root, query, criteriaBuilder);
+
+		return readOnly(entityManager.createQuery(query), projection.queryCacheRegion()).getSingleResult();
+	}
+
+	/**
+	 * Applies the specification predicate, if any, to the given query.
+	 *
+	 * @param specification   {@link Specification} to apply, may be null
+	 * @param root            {@link Root} of the query
+	 * @param query           {@link CriteriaQuery} to restrict
+	 * @param criteriaBuilder {@link CriteriaBuilder} used for constructing predicates
+	 */
+	private void applySpecification(
+		Specification<T> specification,
+		Root<T> root,
+		CriteriaQuery<?> query,
+		CriteriaBuilder criteriaBuilder
+	) {
+		if (specification == null) {
+			return;
+		}
+		Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+		if (predicate != null) {
+			query.where(predicate);
+		}
+	}
+
+	/**
+	 * Marks the query as read-only and prevents it from flushing pending changes.
+	 * When a query cache region is given, the query is made cacheable in that region.
+	 *
+	 * @param query            {@link TypedQuery} to configure
+	 * @param queryCacheRegion {@link String} query cache region, or {@code null} to not cache the results
+	 * @param <R>              the query result type
+	 * @return the configured query
+	 */
+	private <R> TypedQuery<R> readOnly(TypedQuery<R> query, String queryCacheRegion) {
+		query
+			.setFlushMode(FlushModeType.COMMIT)
+			.setHint(HibernateHints.HINT_READ_ONLY, true);
+
+		if (queryCacheRegion != null) {
+			query
+				.setHint(HibernateHints.HINT_CACHEABLE, true)
+				.setHint(HibernateHints.HINT_CACHE_REGION, queryCacheRegion);
+		}
+		return query;
+	}
+}
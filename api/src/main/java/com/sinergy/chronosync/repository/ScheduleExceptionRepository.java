@@ -0,0 +1,74 @@
+package com.sinergy.chronosync.repository;
+
+import com.sinergy.chronosync.model.schedule.ScheduleException;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for managing {@link ScheduleException} entities.
+ */
+@Repository
+public interface ScheduleExceptionRepository
+		extends BaseRepository<ScheduleException>,
+		OptimisticUpdateRepository<ScheduleException> {
+
+	/**
+	 * Finds the exceptions of the given employees within a date range.
+	 *
+	 * @param employeeIds {@link Collection} of employee IDs
+	 * @param from        {@link LocalDate} first day of the range
+	 * @param to          {@link LocalDate} day after the last day of the range
+	 * @return {@link List} of {@link ScheduleExceptionRow}
+	 */
+	@Query("""
+		select e.employee.id as employeeId, e.exceptionDate as exceptionDate, e.startTime as startTime, e.endTime as endTime
+		from ScheduleException e
+		where e.employee.id in :employeeIds and e.exceptionDate >= :from and e.exceptionDate < :to
+		""")
+	List<ScheduleExceptionRow> findRows(
+		@Param("employeeIds") Collection<Long> employeeIds,
+		@Param("from") LocalDate from,
+		@Param("to") LocalDate to
+	);
+
+	/**
+	 * Finds the employees of the given exceptions of a firm.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @param ids    {@link Collection} of exception IDs
+	 * @return {@link List} of distinct employee IDs
+	 */
+	@Query("select distinct e.employee.id from ScheduleException e where e.firm.id = :firmId and e.id in :ids")
+	List<Long> findEmployeeIdsByFirmIdAndIdIn(@Param("firmId") Long firmId, @Param("ids") Collection<Long> ids);
+
+	/**
+	 * Deletes the given exceptions of a firm in a single statement.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @param ids    {@link Collection} of exception IDs to delete
+	 * @return number of deleted exceptions
+	 */
+	@Modifying
+	@Query("delete from ScheduleException e where e.firm.id = :firmId and e.id in :ids")
+	int deleteByFirmIdAndIdIn(@Param("firmId") Long firmId, @Param("ids") Collection<Long> ids);
+
+	/**
+	 * One working interval, or a day off, of an employee's exception.
+	 */
+	interface ScheduleExceptionRow {
+		Long getEmployeeId();
+
+		LocalDate getExceptionDate();
+
+		LocalTime getStartTime();
+
+		LocalTime getEndTime();
+	}
+}
@@ -0,0 +1,75 @@
+package com.sinergy.chronosync.repository;
+
+import com.sinergy.chronosync.model.SentReminder;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repository interface for managing {@link SentReminder} entities.
+ */
+@Repository
+public interface SentReminderRepository
+		extends BaseRepository<SentReminder>,
+		OptimisticUpdateRepository<SentReminder> {
+
+	/**
+	 * Records a reminder as sent unless it already was, in a single statement. The unique
+	 * constraint lets only one of several concurrent claims succeed.
+	 *
+	 * @param appointmentId {@link Long} ID of the appointment
+	 * @param minutesBefore {@link Long} minutes between the reminder and the start
+	 * @param startDateTime {@link LocalDateTime} start of the appointment
+	 * @param sentAt        {@link LocalDateTime} time of sending
+	 * @return {@code 1} if the reminder was claimed, {@code 0} if it was already sent
+	 */
+	@Transactional
+	@Modifying
+	@Query("""
+		insert into SentReminder (appointmentId, minutesBefore, startDateTime, sentAt, version)
+		values (:appointmentId, :minutesBefore, :startDateTime, :sentAt, 0L)
+		on conflict do nothing
+		""")
+	int claim(
+		@Param("appointmentId") Long appointmentId,
+		@Param("minutesBefore") Long minutesBefore,
+		@Param("startDateTime") LocalDateTime startDateTime,
+		@Param("sentAt") LocalDateTime sentAt
+	);
+
+	/**
+	 * Removes the claim of a reminder whose delivery failed, so it can be sent again.
+	 *
+	 * @param appointmentId {@link Long} ID of the appointment
+	 * @param minutesBefore {@link Long} minutes between the reminder and the start
+	 * @param startDateTime {@link LocalDateTime} start of the appointment
+	 * @return number of removed claims
+	 */
+	@Transactional
+	@Modifying
+	@Query("""
+		delete from SentReminder r
+		where r.appointmentId = :appointmentId and r.minutesBefore = :minutesBefore
+			and r.startDateTime = :startDateTime
+		""")
+	int release(
+		@Param("appointmentId") Long appointmentId,
+		@Param("minutesBefore") Long minutesBefore,
+		@Param("startDateTime") LocalDateTime startDateTime
+	);
+
+	/**
+	 * Deletes the reminders sent before a time in a single statement.
+	 *
+	 * @param before {@link LocalDateTime} exclusive upper bound of the sending time
+	 * @return number of deleted reminders
+	 */
+	@Transactional
+	@Modifying
+	@Query("delete from SentReminder r where r.sentAt < :before")
+	int deleteBySentAtBefore(@Param("before") LocalDateTime before);
+}
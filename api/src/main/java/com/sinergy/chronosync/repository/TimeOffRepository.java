@@ -0,0 +1,71 @@
+package com.sinergy.chronosync.repository;
+
+import com.sinergy.chronosync.model.schedule.TimeOff;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for managing {@link TimeOff} entities.
+ */
+@Repository
+public interface TimeOffRepository
+		extends BaseRepository<TimeOff>,
+		OptimisticUpdateRepository<TimeOff> {
+
+	/**
+	 * Finds the time off of the given employees overlapping a time range.
+	 *
+	 * @param employeeIds {@link Collection} of employee IDs
+	 * @param start       {@link LocalDateTime} inclusive start of the range
+	 * @param end         {@link LocalDateTime} exclusive end of the range
+	 * @return {@link List} of {@link TimeOffRange}
+	 */
+	@Query("""
+		select t.employee.id as employeeId, t.startDateTime as startDateTime, t.endDateTime as endDateTime
+		from TimeOff t
+		where t.employee.id in :employeeIds and t.endDateTime > :start and t.startDateTime < :end
+		""")
+	List<TimeOffRange> findRanges(
+		@Param("employeeIds") Collection<Long> employeeIds,
+		@Param("start") LocalDateTime start,
+		@Param("end") LocalDateTime end
+	);
+
+	/**
+	 * Finds the employees of the given time off of a firm.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @param ids    {@link Collection} of time off IDs
+	 * @return {@link List} of distinct employee IDs
+	 */
+	@Query("select distinct t.employee.id from TimeOff t where t.firm.id = :firmId and t.id in :ids")
+	List<Long> findEmployeeIdsByFirmIdAndIdIn(@Param("firmId") Long firmId, @Param("ids") Collection<Long> ids);
+
+	/**
+	 * Deletes the given time off of a firm in a single statement.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @param ids    {@link Collection} of time off IDs to delete
+	 * @return number of deleted rows
+	 */
+	@Modifying
+	@Query("delete from TimeOff t where t.firm.id = :firmId and t.id in :ids")
+	int deleteByFirmIdAndIdIn(@Param("firmId") Long firmId, @Param("ids") Collection<Long> ids);
+
+	/**
+	 * Employee and time range of an absence.
+	 */
+	interface TimeOffRange {
+		Long getEmployeeId();
+
+		LocalDateTime getStartDateTime();
+
+		LocalDateTime getEndDateTime();
+	}
+}
@@ -1,13 +1,53 @@
 package com.sinergy.chronosync.repository;
 
 import com.sinergy.chronosync.model.user.User;
+import com.sinergy.chronosync.model.user.UserRole;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * User repository class for managing users.
  */
 @Repository
 public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User> {
+
+	/**
+	 * Finds the IDs of a firm's users having one of the given roles.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @param roles  {@link Collection} of {@link UserRole} to match
+	 * @return {@link List} of user IDs in ascending order
+	 */
+	@Query("select u.id from User u where u.firm.id = :firmId and u.role in :roles order by u.id")
+	List<Long> findIdsByFirmIdAndRoleIn(@Param("firmId") Long firmId, @Param("roles") Collection<UserRole> roles);
+
+	/**
+	 * Finds which of the given user IDs belong to a firm.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @param ids    {@link Collection} of user IDs to look up
+	 * @return {@link List} of the IDs that exist within the firm, in ascending order
+	 */
+	@Query("select u.id from User u where u.firm.id = :firmId and u.id in :ids order by u.id")
+	List<Long> findIdsByFirmIdAndIdIn(@Param("firmId") Long firmId, @Param("ids") Collection<Long> ids);
+
+	/**
+	 * Locks the rows of the given users until the current transaction ends. Rows are
+	 * locked in ascending ID order, so transactions locking overlapping sets of users
+	 * cannot deadlock.
+	 *
+	 * @param ids {@link Collection} of user IDs to lock
+	 * @return {@link List} of the IDs that were locked, in ascending order
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select u.id from User u where u.id in :ids order by u.id")
+	List<Long> lockByIdIn(@Param("ids") Collection<Long> ids);
 }
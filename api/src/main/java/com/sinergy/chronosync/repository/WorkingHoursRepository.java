@@ -0,0 +1,56 @@
+package com.sinergy.chronosync.repository;
+
+import com.sinergy.chronosync.model.schedule.WorkingHours;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for managing {@link WorkingHours} entities.
+ */
+@Repository
+public interface WorkingHoursRepository
+		extends BaseRepository<WorkingHours>,
+		OptimisticUpdateRepository<WorkingHours> {
+
+	/**
+	 * Finds the weekly templates of the given employees.
+	 *
+	 * @param employeeIds {@link Collection} of employee IDs
+	 * @return {@link List} of {@link WorkingHoursRow}
+	 */
+	@Query("""
+		select w.employee.id as employeeId, w.dayOfWeek as dayOfWeek, w.startTime as startTime, w.endTime as endTime
+		from WorkingHours w where w.employee.id in :employeeIds
+		""")
+	List<WorkingHoursRow> findRowsByEmployeeIdIn(@Param("employeeIds") Collection<Long> employeeIds);
+
+	/**
+	 * Deletes the weekly template of an employee in a single statement.
+	 *
+	 * @param employeeId {@link Long} ID of the employee
+	 * @return number of deleted rows
+	 */
+	@Modifying
+	@Query("delete from WorkingHours w where w.employee.id = :employeeId")
+	int deleteByEmployeeId(@Param("employeeId") Long employeeId);
+
+	/**
+	 * One interval of an employee's weekly template.
+	 */
+	interface WorkingHoursRow {
+		Long getEmployeeId();
+
+		DayOfWeek getDayOfWeek();
+
+		LocalTime getStartTime();
+
+		LocalTime getEndTime();
+	}
+}
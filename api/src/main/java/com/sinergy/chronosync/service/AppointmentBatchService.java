@@ -0,0 +1,36 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.dto.request.AppointmentBatchItemDTO;
+import com.sinergy.chronosync.dto.response.BatchItemResultDTO;
+
+import java.util.List;
+
+/**
+ * Service interface for changing many appointments in one request.
+ */
+public interface AppointmentBatchService {
+
+	/**
+	 * Creates appointments in the authenticated user's firm.
+	 *
+	 * @param requests {@link List} of {@link AppointmentBatchItemDTO} appointments to create
+	 * @return {@link List} of {@link BatchItemResultDTO} with one result per request item
+	 */
+	List<BatchItemResultDTO> createAppointments(List<AppointmentBatchItemDTO> requests);
+
+	/**
+	 * Applies partial updates to appointments of the authenticated user's firm.
+	 *
+	 * @param requests {@link List} of {@link AppointmentBatchItemDTO} changes, each with an appointment ID
+	 * @return {@link List} of {@link BatchItemResultDTO} with one result per request item
+	 */
+	List<BatchItemResultDTO> updateAppointments(List<AppointmentBatchItemDTO> requests);
+
+	/**
+	 * Deletes appointments of the authenticated user's firm.
+	 *
+	 * @param ids {@link List} of appointment IDs to delete
+	 * @return {@link List} of {@link BatchItemResultDTO} with one result per ID
+	 */
+	List<BatchItemResultDTO> deleteAppointments(List<Long> ids);
+}
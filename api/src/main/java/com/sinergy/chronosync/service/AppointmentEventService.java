@@ -0,0 +1,29 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.dto.response.AppointmentEventDTO;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Collection;
+
+/**
+ * Service interface for pushing appointment changes to connected clients.
+ */
+public interface AppointmentEventService {
+
+	/**
+	 * Opens an event stream of the appointment changes in the current user's firm.
+	 *
+	 * @return {@link SseEmitter} streaming the changes
+	 */
+	SseEmitter subscribe();
+
+	/**
+	 * Pushes a change of appointments of a firm to its connected clients once the current
+	 * transaction commits.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @param type   {@link AppointmentEventDTO.Type} kind of change
+	 * @param ids    {@link Collection} of IDs of the changed appointments
+	 */
+	void publish(Long firmId, AppointmentEventDTO.Type type, Collection<Long> ids);
+}
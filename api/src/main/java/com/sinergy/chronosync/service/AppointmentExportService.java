@@ -0,0 +1,22 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.dto.request.AppointmentExportRequestDTO;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Service interface for exporting appointments.
+ */
+public interface AppointmentExportService {
+
+	/**
+	 * Prepares an export of the authenticated user's firm appointments. Employees only
+	 * export the appointments assigned to them.
+	 *
+	 * <p>The request is validated and the firm resolved immediately. The returned body
+	 * streams the rows when it is written, so nothing is read before the response starts.</p>
+	 *
+	 * @param request {@link AppointmentExportRequestDTO} export range and format
+	 * @return {@link StreamingResponseBody} writing the exported appointments
+	 */
+	StreamingResponseBody exportAppointments(AppointmentExportRequestDTO request);
+}
@@ -0,0 +1,62 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.exception.ConflictException;
+import com.sinergy.chronosync.util.IntervalTree;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Service interface for detecting overlapping appointments of an employee.
+ */
+public interface AppointmentOverlapService {
+
+	/**
+	 * Checks that an employee has no appointment or series occurrence overlapping the given time range.
+	 * Nothing is checked if the employee or either bound is missing. Otherwise the employee is
+	 * locked until the current transaction ends, so the write guarded by the check cannot race
+	 * with another transaction booking the same employee.
+	 *
+	 * @param employeeId {@link Long} ID of the employee
+	 * @param start      {@link LocalDateTime} inclusive start of the range
+	 * @param end        {@link LocalDateTime} exclusive end of the range
+	 * @param excludeId  {@link Long} ID of the appointment being changed, or {@code null}
+	 * @throws ConflictException if an overlapping appointment exists
+	 */
+	void checkAvailable(Long employeeId, LocalDateTime start, LocalDateTime end, Long excludeId);
+
+	/**
+	 * Loads the appointments and series occurrences of the given employees overlapping a time range.
+	 * The employees are locked until the current transaction ends, like by
+	 * {@link #checkAvailable(Long, LocalDateTime, LocalDateTime, Long)}.
+	 *
+	 * @param employeeIds {@link Collection} of employee IDs
+	 * @param start       {@link LocalDateTime} inclusive start of the range
+	 * @param end         {@link LocalDateTime} exclusive end of the range
+	 * @return {@link Map} of employee ID to an {@link IntervalTree} of appointment IDs and time ranges
+	 */
+	Map<Long, IntervalTree<LocalDateTime>> loadSchedules(
+		Collection<Long> employeeIds,
+		LocalDateTime start,
+		LocalDateTime end
+	);
+
+	/**
+	 * Records a created or updated appointment in the in-memory index when the current
+	 * transaction commits.
+	 *
+	 * @param id         {@link Long} ID of the appointment
+	 * @param employeeId {@link Long} ID of its employee, or {@code null}
+	 * @param start      {@link LocalDateTime} start of the appointment
+	 * @param end        {@link LocalDateTime} end of the appointment
+	 */
+	void indexSaved(Long id, Long employeeId, LocalDateTime start, LocalDateTime end);
+
+	/**
+	 * Removes deleted appointments from the in-memory index once the current transaction commits.
+	 *
+	 * @param ids {@link Collection} of IDs of the deleted appointments
+	 */
+	void indexDeleted(Collection<Long> ids);
+}
@@ -0,0 +1,26 @@
+package com.sinergy.chronosync.service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Service interface for reminding clients of their upcoming appointments.
+ */
+public interface AppointmentReminderService {
+
+	/**
+	 * Schedules the reminders of a created or updated appointment once the current
+	 * transaction commits, replacing the reminders scheduled for its previous start.
+	 *
+	 * @param id            {@link Long} ID of the appointment
+	 * @param startDateTime {@link LocalDateTime} start of the appointment
+	 */
+	void scheduleSaved(Long id, LocalDateTime startDateTime);
+
+	/**
+	 * Cancels the reminders of deleted appointments once the current transaction commits.
+	 *
+	 * @param ids {@link Collection} of IDs of the deleted appointments
+	 */
+	void cancelDeleted(Collection<Long> ids);
+}
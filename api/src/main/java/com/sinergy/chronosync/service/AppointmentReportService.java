@@ -0,0 +1,22 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.dto.request.AppointmentReportRequestDTO;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Service interface for reporting on appointments.
+ */
+public interface AppointmentReportService {
+
+	/**
+	 * Prepares a report of the revenue, counts, attendance and payments of the authenticated
+	 * user's firm appointments.
+	 *
+	 * <p>The request is validated and the firm resolved immediately. The returned body
+	 * streams the rows when it is written, so nothing is read before the response starts.</p>
+	 *
+	 * @param request {@link AppointmentReportRequestDTO} range, grouping and period
+	 * @return {@link StreamingResponseBody} writing the report
+	 */
+	StreamingResponseBody reportAppointments(AppointmentReportRequestDTO request);
+}
@@ -0,0 +1,35 @@
+package com.sinergy.chronosync.service;
+
+import java.util.Collection;
+
+/**
+ * Service interface for keeping the daily appointment rollups of firms up to date.
+ */
+public interface AppointmentRollupService {
+
+	/**
+	 * Adds appointments to the rollups within the current transaction. Called after the
+	 * appointments were created, or after they were updated.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @param ids    {@link Collection} of IDs of the appointments
+	 */
+	void addAppointments(Long firmId, Collection<Long> ids);
+
+	/**
+	 * Subtracts appointments from the rollups within the current transaction. Called
+	 * before the appointments are updated or deleted.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @param ids    {@link Collection} of IDs of the appointments
+	 */
+	void subtractAppointments(Long firmId, Collection<Long> ids);
+
+	/**
+	 * Rebuilds the recent rollups of a firm from its appointments, repairing any drift.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @return number of rollups written
+	 */
+	int reconcile(Long firmId);
+}
@@ -0,0 +1,57 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.dto.request.AppointmentSeriesRequestDTO;
+import com.sinergy.chronosync.dto.request.CalendarRequestDTO;
+import com.sinergy.chronosync.dto.request.SeriesOccurrenceRequestDTO;
+import com.sinergy.chronosync.dto.response.CalendarEntryDTO;
+import com.sinergy.chronosync.model.Appointment;
+import com.sinergy.chronosync.model.series.AppointmentSeries;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Service interface for managing recurring appointments.
+ */
+public interface AppointmentSeriesService {
+
+	/**
+	 * Creates an appointment series in the current user's firm.
+	 *
+	 * @param requestDto {@link AppointmentSeriesRequestDTO} containing series details
+	 * @return {@link AppointmentSeries} representing the saved series
+	 */
+	AppointmentSeries createSeries(AppointmentSeriesRequestDTO requestDto);
+
+	/**
+	 * Deletes one or more appointment series of the current user's firm by their IDs.
+	 * Either all of them are deleted or none is.
+	 *
+	 * @param ids {@link List} of IDs of the series to delete
+	 */
+	void deleteSeries(List<Long> ids);
+
+	/**
+	 * Replaces one occurrence of a series with an appointment, e.g. to move it.
+	 *
+	 * @param requestDto {@link SeriesOccurrenceRequestDTO} identifying the occurrence and its changes
+	 * @return {@link Appointment} replacing the occurrence
+	 */
+	Appointment moveOccurrence(SeriesOccurrenceRequestDTO requestDto);
+
+	/**
+	 * Cancels one occurrence of a series.
+	 *
+	 * @param seriesId                {@link Long} ID of the series
+	 * @param occurrenceStartDateTime {@link LocalDateTime} original start of the occurrence
+	 */
+	void cancelOccurrence(Long seriesId, LocalDateTime occurrenceStartDateTime);
+
+	/**
+	 * Retrieves the appointments and series occurrences overlapping a time range.
+	 *
+	 * @param request {@link CalendarRequestDTO} employees and range to return
+	 * @return {@link List} of {@link CalendarEntryDTO} ordered by start
+	 */
+	List<CalendarEntryDTO> getCalendar(CalendarRequestDTO request);
+}
@@ -1,10 +1,13 @@
 package com.sinergy.chronosync.service;
 
 import com.sinergy.chronosync.dto.request.AppointmentRequestDTO;
+import com.sinergy.chronosync.dto.response.AppointmentSearchResponseDTO;
 import com.sinergy.chronosync.model.Appointment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 
+import java.util.List;
+
 /**
  * Service interface for managing appointments.
  */
@@ -13,9 +16,9 @@ public interface AppointmentService {
 	/**
 	 * Retrieves a paginated list of appointments associated with the authenticated user.
 	 *
-	 * @return {@link Page} of {@link Appointment} containing all appointments for the authenticated user.
+	 * @return {@link Page} of {@link AppointmentSearchResponseDTO} containing all appointments for the authenticated user.
 	 */
-	Page<Appointment> getAppointments(PageRequest pageRequest);
+	Page<AppointmentSearchResponseDTO> getAppointments(PageRequest pageRequest);
 
 	/**
 	 * Creates a new appointment and stores it in the database.
@@ -34,9 +37,10 @@ public interface AppointmentService {
 	Appointment updateAppointment(AppointmentRequestDTO requestDto);
 
 	/**
-	 * Deletes an appointment by its ID.
+	 * Deletes one or more appointments of the current user's firm by their IDs.
+	 * Either all of them are deleted or none is.
 	 *
-	 * @param id {@link Long} ID of the appointment to delete
+	 * @param ids {@link List} of IDs of the appointments to delete
 	 */
-	void deleteAppointment(Long id);
+	void deleteAppointment(List<Long> ids);
 }
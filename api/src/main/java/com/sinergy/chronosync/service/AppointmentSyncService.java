@@ -0,0 +1,48 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.dto.response.AppointmentChangesDTO;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Service interface for the appointment change feed.
+ */
+public interface AppointmentSyncService {
+
+	/**
+	 * Retrieves the appointments changed and removed since a token, either in the current
+	 * user's firm or for one employee.
+	 *
+	 * @param token      {@link String} token returned by the previous call, or {@code null} to start over
+	 * @param employeeId {@link Long} ID of the employee to follow, or {@code null} for the whole firm
+	 * @return {@link AppointmentChangesDTO} page of changes with the token for the next call
+	 */
+	AppointmentChangesDTO getChanges(String token, Long employeeId);
+
+	/**
+	 * Records that appointments of a firm are about to be deleted.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @param ids    {@link Collection} of IDs of the appointments
+	 */
+	void recordDeleted(Long firmId, Collection<Long> ids);
+
+	/**
+	 * Records that an appointment of a firm is about to be assigned to an employee, which
+	 * removes it from the feed of its current employee, if any other.
+	 *
+	 * @param firmId     {@link Long} ID of the firm
+	 * @param id         {@link Long} ID of the appointment
+	 * @param employeeId {@link Long} ID of the new employee, or {@code null}
+	 */
+	void recordReassigned(Long firmId, Long id, Long employeeId);
+
+	/**
+	 * Records that appointments of a firm were reassigned away from known employees.
+	 *
+	 * @param firmId            {@link Long} ID of the firm
+	 * @param previousEmployees {@link Map} of appointment ID to the ID of its previous employee
+	 */
+	void recordReassigned(Long firmId, Map<Long, Long> previousEmployees);
+}
@@ -2,9 +2,12 @@ package com.sinergy.chronosync.service;
 
 import com.sinergy.chronosync.dto.request.AppointmentTypeRequestDTO;
 import com.sinergy.chronosync.dto.request.PaginatedAppointmentTypeRequestDTO;
+import com.sinergy.chronosync.dto.response.AppointmentTypeSearchResponseDTO;
 import com.sinergy.chronosync.model.appointmentType.AppointmentType;
 import org.springframework.data.domain.Page;
 
+import java.util.List;
+
 /**
  * Service interface for managing appointment types.
  */
@@ -13,9 +16,18 @@ public interface AppointmentTypeService {
 	/**
 	 * Retrieves a paginated list of appointment types associated with the user's firm.
 	 *
-	 * @return {@link Page} of {@link AppointmentType} containing all appointment types for the user's firm
+	 * @return {@link Page} of {@link AppointmentTypeSearchResponseDTO} containing all appointment types for the user's firm
+	 */
+	Page<AppointmentTypeSearchResponseDTO> getAppointmentTypes(PaginatedAppointmentTypeRequestDTO request);
+
+	/**
+	 * Derives the entity tag of an appointment type list of the user's firm from the firm's
+	 * appointment type version, without reading any appointment type.
+	 *
+	 * @param request {@link PaginatedAppointmentTypeRequestDTO} name filter and page of the list
+	 * @return {@link String} quoted strong entity tag
 	 */
-	Page<AppointmentType> getAppointmentTypes(PaginatedAppointmentTypeRequestDTO request);
+	String getAppointmentTypesETag(PaginatedAppointmentTypeRequestDTO request);
 
 	/**
 	 * Creates a new appointment type and stores it in the database.
@@ -34,9 +46,10 @@ public interface AppointmentTypeService {
 	AppointmentType updateAppointmentType(AppointmentTypeRequestDTO requestDto);
 
 	/**
-	 * Deletes an appointment type by its ID.
+	 * Deletes one or more appointment types of the current user's firm by their IDs.
+	 * Either all of them are deleted or none is.
 	 *
-	 * @param id {@link Long} ID of the appointment type to delete
+	 * @param ids {@link List} of IDs of the appointment types to delete
 	 */
-	void deleteAppointmentType(Long id);
+	void deleteAppointmentType(List<Long> ids);
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.dto.request.AvailabilityRequestDTO;
+import com.sinergy.chronosync.dto.response.EmployeeAvailabilityDTO;
+
+import java.util.List;
+
+/**
+ * Service interface for finding free time of employees.
+ */
+public interface AvailabilityService {
+
+	/**
+	 * Finds the time each requested employee of the authenticated user's firm has free
+	 * for an appointment of the requested type.
+	 *
+	 * @param request {@link AvailabilityRequestDTO} employees, appointment type and range to search
+	 * @return {@link List} of {@link EmployeeAvailabilityDTO}, one per employee, ordered by employee ID
+	 */
+	List<EmployeeAvailabilityDTO> findAvailability(AvailabilityRequestDTO request);
+}
@@ -0,0 +1,50 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.util.SlotBitmap;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Service interface for the five-minute slots in which employees have appointments,
+ * single or recurring.
+ */
+public interface BusySlotService {
+
+	/**
+	 * Finds the busy slots of the given employees for every day of a date range.
+	 * The returned bitmaps may be shared and must not be changed.
+	 *
+	 * @param employeeIds {@link Collection} of employee IDs
+	 * @param from        {@link LocalDate} first day of the range
+	 * @param to          {@link LocalDate} day after the last day of the range
+	 * @return {@link Map} of employee ID to one {@link SlotBitmap} per day, starting at {@code from}
+	 */
+	Map<Long, SlotBitmap[]> findBusySlots(Collection<Long> employeeIds, LocalDate from, LocalDate to);
+
+	/**
+	 * Discards the cached slots of a created or updated appointment's old and new employee
+	 * once the current transaction commits.
+	 *
+	 * @param id         {@link Long} ID of the appointment
+	 * @param employeeId {@link Long} ID of its employee, or {@code null}
+	 */
+	void evictSaved(Long id, Long employeeId);
+
+	/**
+	 * Discards the cached slots of the employees of deleted appointments once the current
+	 * transaction commits.
+	 *
+	 * @param ids {@link Collection} of IDs of the deleted appointments
+	 */
+	void evictDeleted(Collection<Long> ids);
+
+	/**
+	 * Discards the cached slots of the given employees once the current transaction commits,
+	 * e.g. after one of their appointment series changed.
+	 *
+	 * @param employeeIds {@link Collection} of employee IDs
+	 */
+	void evictEmployees(Collection<Long> employeeIds);
+}
@@ -0,0 +1,51 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.dto.response.CalendarFeedTokenDTO;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Service interface for the iCalendar feeds of employees.
+ */
+public interface CalendarFeedService {
+
+	/**
+	 * Issues a feed token for the current user, revoking the previous one.
+	 *
+	 * @return {@link CalendarFeedTokenDTO} holding the new token
+	 */
+	CalendarFeedTokenDTO createToken();
+
+	/**
+	 * Revokes the feed token of the current user.
+	 */
+	void revokeToken();
+
+	/**
+	 * Prepares the feed a token grants access to. The feed is only written when none of
+	 * the entity tags the client holds matches the current one.
+	 *
+	 * @param token       {@link String} feed token
+	 * @param ifNoneMatch {@link String} value of the {@code If-None-Match} header, or {@code null}
+	 * @return {@link CalendarFeed} with the current entity tag
+	 */
+	CalendarFeed getFeed(String token, String ifNoneMatch);
+
+	/**
+	 * Entity tag and body of a feed.
+	 *
+	 * @param eTag {@link String} quoted strong entity tag of the feed
+	 * @param body {@link StreamingResponseBody} writing the feed, or {@code null} if the
+	 *             client's copy is current
+	 */
+	record CalendarFeed(String eTag, StreamingResponseBody body) {
+
+		/**
+		 * Checks whether the client's copy of the feed is out of date.
+		 *
+		 * @return {@code true} if the feed has to be sent
+		 */
+		public boolean isModified() {
+			return body != null;
+		}
+	}
+}
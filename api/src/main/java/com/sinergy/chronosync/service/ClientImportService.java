@@ -0,0 +1,29 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.dto.request.ClientRequestDTO;
+import com.sinergy.chronosync.dto.response.ClientImportResponseDTO;
+
+import java.io.Reader;
+import java.util.List;
+
+/**
+ * Client import service interface class.
+ */
+public interface ClientImportService {
+
+	/**
+	 * Imports clients into the authenticated user's firm.
+	 *
+	 * @param rows {@link List} of {@link ClientRequestDTO} clients to import
+	 * @return {@link ClientImportResponseDTO} import outcome with per-row errors
+	 */
+	ClientImportResponseDTO importClients(List<ClientRequestDTO> rows);
+
+	/**
+	 * Imports clients from CSV text with a header line naming the client fields.
+	 *
+	 * @param csv {@link Reader} CSV source
+	 * @return {@link ClientImportResponseDTO} import outcome with per-row errors
+	 */
+	ClientImportResponseDTO importClientsCsv(Reader csv);
+}
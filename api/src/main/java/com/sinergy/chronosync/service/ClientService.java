@@ -2,9 +2,12 @@ package com.sinergy.chronosync.service;
 
 import com.sinergy.chronosync.dto.request.ClientRequestDTO;
 import com.sinergy.chronosync.dto.request.PaginatedClientRequestDTO;
+import com.sinergy.chronosync.dto.response.ClientSearchResponseDTO;
 import com.sinergy.chronosync.model.Client;
 import org.springframework.data.domain.Page;
 
+import java.util.List;
+
 /**
  * Client service interface class.
  */
@@ -13,9 +16,9 @@ public interface ClientService {
 	/**
 	 * Retrieves a paginated list of clients associated with the user's firm.
 	 *
-	 * @return {@link Page} of {@link Client} containing all clients for the user's firm
+	 * @return {@link Page} of {@link ClientSearchResponseDTO} containing all clients for the user's firm
 	 */
-	Page<Client> getClients(PaginatedClientRequestDTO pageRequest);
+	Page<ClientSearchResponseDTO> getClients(PaginatedClientRequestDTO pageRequest);
 
 	/**
 	 * Creates a new client.
@@ -34,9 +37,10 @@ public interface ClientService {
 	Client updateClient(ClientRequestDTO requestDto);
 
 	/**
-	 * Deletes a client by its ID.
+	 * Deletes one or more clients of the current user's firm by their IDs.
+	 * Either all of them are deleted or none is.
 	 *
-	 * @param id {@link Long} ID of the client to delete
+	 * @param ids {@link List} of IDs of the clients to delete
 	 */
-	void deleteClient(Long id);
+	void deleteClient(List<Long> ids);
 }
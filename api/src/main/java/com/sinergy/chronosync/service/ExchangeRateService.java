@@ -0,0 +1,39 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.dto.request.ExchangeRateDTO;
+import com.sinergy.chronosync.model.appointmentType.Currency;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service interface for the exchange rates converting a firm's reports into one currency.
+ */
+public interface ExchangeRateService {
+
+	/**
+	 * Retrieves the exchange rates of the current user's firm.
+	 *
+	 * @return {@link List} of {@link ExchangeRateDTO} ordered by currency and target currency
+	 */
+	List<ExchangeRateDTO> getExchangeRates();
+
+	/**
+	 * Replaces the exchange rates of the current user's firm.
+	 *
+	 * @param exchangeRates {@link List} of {@link ExchangeRateDTO} making up the new table
+	 * @return {@link List} of the stored {@link ExchangeRateDTO} ordered by currency and target currency
+	 */
+	List<ExchangeRateDTO> replaceExchangeRates(List<ExchangeRateDTO> exchangeRates);
+
+	/**
+	 * Finds the rates converting every currency of a firm's appointment types into a target
+	 * currency. The target currency converts into itself at a rate of one.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @param target {@link Currency} to convert into
+	 * @return {@link Map} of currency to the amount of the target currency one major unit of it buys
+	 */
+	Map<Currency, BigDecimal> getRatesInto(Long firmId, Currency target);
+}
@@ -0,0 +1,24 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.dto.request.FirmTimeZoneDTO;
+
+/**
+ * Service interface for the settings of the current user's firm.
+ */
+public interface FirmService {
+
+	/**
+	 * Retrieves the time zone of the current user's firm.
+	 *
+	 * @return {@link FirmTimeZoneDTO} holding the firm's time zone, or none if it is UTC
+	 */
+	FirmTimeZoneDTO getTimeZone();
+
+	/**
+	 * Changes the time zone of the current user's firm.
+	 *
+	 * @param request {@link FirmTimeZoneDTO} holding the new time zone
+	 * @return {@link FirmTimeZoneDTO} holding the stored time zone
+	 */
+	FirmTimeZoneDTO updateTimeZone(FirmTimeZoneDTO request);
+}
@@ -0,0 +1,46 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.exception.ConflictException;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import org.springframework.http.ResponseEntity;
+
+import java.util.function.Supplier;
+
+/**
+ * Service interface for answering retried requests with the response of their first
+ * execution, identified by an idempotency key the client sends with each attempt.
+ */
+public interface IdempotencyService {
+
+	/**
+	 * Request header carrying the idempotency key.
+	 */
+	String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+	/**
+	 * Response header marking a response stored by an earlier execution.
+	 */
+	String REPLAYED_HEADER = "Idempotent-Replayed";
+
+	/**
+	 * Executes a request once per idempotency key of the current user. A retry with the
+	 * same key gets the stored response of the first execution without executing again,
+	 * and a concurrent retry waits for the first execution to finish. Failed executions
+	 * are not stored, so they can be retried with the same key.
+	 *
+	 * @param idempotencyKey {@link String} key sent by the client, or {@code null} to always execute
+	 * @param operation      {@link String} name of the operation, so keys of different operations never match
+	 * @param request        content of the request, compared with {@link Object#equals} to detect a reused key
+	 * @param execution      {@link Supplier} executing the request
+	 * @param <T>            type of the response body
+	 * @return {@link ResponseEntity} of the first execution
+	 * @throws InvalidStateException if the key is too long or was used for a different request
+	 * @throws ConflictException     if the first execution is still running after the wait timeout
+	 */
+	<T> ResponseEntity<T> execute(
+		String idempotencyKey,
+		String operation,
+		Object request,
+		Supplier<ResponseEntity<T>> execution
+	);
+}
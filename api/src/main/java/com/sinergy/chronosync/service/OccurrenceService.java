@@ -0,0 +1,91 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.repository.AppointmentSeriesRepository.SeriesRange;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Service interface for the occurrences of appointment series.
+ */
+public interface OccurrenceService {
+
+	/**
+	 * Finds the occurrences of the given employees' series overlapping a time range,
+	 * without the moved and cancelled ones.
+	 *
+	 * @param employeeIds {@link Collection} of employee IDs
+	 * @param start       {@link LocalDateTime} inclusive start of the range
+	 * @param end         {@link LocalDateTime} exclusive end of the range
+	 * @return {@link List} of {@link Occurrence} ordered by start
+	 */
+	List<Occurrence> findOccurrences(Collection<Long> employeeIds, LocalDateTime start, LocalDateTime end);
+
+	/**
+	 * Checks whether an employee has an occurrence overlapping a time range.
+	 *
+	 * @param employeeId {@link Long} ID of the employee
+	 * @param start      {@link LocalDateTime} inclusive start of the range
+	 * @param end        {@link LocalDateTime} exclusive end of the range
+	 * @return {@code true} if an occurrence overlaps the range
+	 */
+	boolean overlapsOccurrence(Long employeeId, LocalDateTime start, LocalDateTime end);
+
+	/**
+	 * Lazily generates the occurrences of the given series overlapping a time range,
+	 * without the moved and cancelled ones.
+	 *
+	 * @param series {@link Collection} of {@link Recurrence} to expand
+	 * @param start  {@link LocalDateTime} inclusive start of the range
+	 * @param end    {@link LocalDateTime} exclusive end of the range
+	 * @return {@link Iterator} of {@link Occurrence} ordered by start
+	 */
+	Iterator<Occurrence> expand(Collection<Recurrence> series, LocalDateTime start, LocalDateTime end);
+
+	/**
+	 * First occurrence and recurrence rule of a series.
+	 *
+	 * @param seriesId       ID of the series
+	 * @param employeeId     ID of the employee, or {@code null}
+	 * @param startDateTime  start of the first occurrence
+	 * @param endDateTime    end of the first occurrence
+	 * @param recurrenceRule recurrence rule of the series
+	 */
+	record Recurrence(
+		Long seriesId,
+		Long employeeId,
+		LocalDateTime startDateTime,
+		LocalDateTime endDateTime,
+		String recurrenceRule
+	) {
+
+		/**
+		 * Creates the recurrence of a queried series.
+		 *
+		 * @param range {@link SeriesRange} queried series
+		 * @return {@link Recurrence} of the series
+		 */
+		public static Recurrence of(SeriesRange range) {
+			return new Recurrence(
+				range.getId(),
+				range.getEmployeeId(),
+				range.getStartDateTime(),
+				range.getEndDateTime(),
+				range.getRecurrenceRule()
+			);
+		}
+	}
+
+	/**
+	 * Occurrence of a series that has not been moved or cancelled.
+	 *
+	 * @param seriesId      ID of the series
+	 * @param employeeId    ID of the employee, or {@code null}
+	 * @param startDateTime start of the occurrence
+	 * @param endDateTime   end of the occurrence
+	 */
+	record Occurrence(Long seriesId, Long employeeId, LocalDateTime startDateTime, LocalDateTime endDateTime) {
+	}
+}
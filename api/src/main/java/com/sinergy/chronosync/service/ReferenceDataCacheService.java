@@ -0,0 +1,21 @@
+package com.sinergy.chronosync.service;
+
+/**
+ * Service interface for invalidating cached firm-scoped reference data after it changed.
+ */
+public interface ReferenceDataCacheService {
+
+	/**
+	 * Evicts an appointment type and every cached appointment type list.
+	 *
+	 * @param id {@link Long} ID of the changed appointment type, or {@code null} if only the lists changed
+	 */
+	void evictAppointmentType(Long id);
+
+	/**
+	 * Evicts a firm from the second-level cache.
+	 *
+	 * @param id {@link Long} ID of the changed firm
+	 */
+	void evictFirm(Long id);
+}
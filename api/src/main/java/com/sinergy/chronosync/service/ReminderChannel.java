@@ -0,0 +1,20 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.dto.response.AppointmentReminderDTO;
+
+import java.io.IOException;
+
+/**
+ * Channel delivering appointment reminders. The channel in use is chosen by the
+ * {@code appointment.reminders.channel} property.
+ */
+public interface ReminderChannel {
+
+	/**
+	 * Delivers a reminder.
+	 *
+	 * @param reminder {@link AppointmentReminderDTO} reminder to deliver
+	 * @throws IOException if the reminder could not be delivered
+	 */
+	void deliver(AppointmentReminderDTO reminder) throws IOException;
+}
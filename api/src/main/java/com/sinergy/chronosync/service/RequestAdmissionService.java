@@ -0,0 +1,33 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.exception.AdmissionRejectedException;
+
+/**
+ * Service interface for admitting requests under per-firm rate limits and a fair share
+ * of the server's request slots.
+ */
+public interface RequestAdmissionService {
+
+	/**
+	 * Slot held by an admitted request, released once the request is handled.
+	 */
+	interface Permit extends AutoCloseable {
+
+		/**
+		 * Releases the slot. Releasing it more than once has no effect.
+		 */
+		@Override
+		void close();
+	}
+
+	/**
+	 * Admits a request of a firm, waiting for a free slot if the server is saturated.
+	 *
+	 * @param firmId {@link Long} ID of the firm sending the request
+	 * @param tier   {@link String} tier of the firm, or {@code null} for the default tier
+	 * @return {@link Permit} to release once the request is handled
+	 * @throws AdmissionRejectedException if the firm exceeded its rate, too many of its
+	 *                                    requests are waiting, or no slot freed up in time
+	 */
+	Permit admit(Long firmId, String tier);
+}
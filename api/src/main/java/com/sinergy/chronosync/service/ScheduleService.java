@@ -0,0 +1,89 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.dto.request.ScheduleExceptionRequestDTO;
+import com.sinergy.chronosync.dto.request.ScheduleRequestDTO;
+import com.sinergy.chronosync.dto.request.TimeOffRequestDTO;
+import com.sinergy.chronosync.dto.request.WorkingHoursRequestDTO;
+import com.sinergy.chronosync.dto.response.EmployeeScheduleDTO;
+import com.sinergy.chronosync.model.schedule.ScheduleException;
+import com.sinergy.chronosync.model.schedule.TimeOff;
+import com.sinergy.chronosync.util.SlotBitmap;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service interface for managing employees' working hours, schedule exceptions and time off.
+ */
+public interface ScheduleService {
+
+	/**
+	 * Retrieves the weekly working hours of an employee of the current user's firm.
+	 *
+	 * @param employeeId {@link Long} ID of the employee
+	 * @return {@link List} of {@link WorkingHoursRequestDTO} ordered by day and start
+	 */
+	List<WorkingHoursRequestDTO> getWorkingHours(Long employeeId);
+
+	/**
+	 * Replaces the weekly working hours of an employee of the current user's firm.
+	 *
+	 * @param employeeId   {@link Long} ID of the employee
+	 * @param workingHours {@link List} of {@link WorkingHoursRequestDTO} making up the new template
+	 * @return {@link List} of the stored {@link WorkingHoursRequestDTO} ordered by day and start
+	 */
+	List<WorkingHoursRequestDTO> replaceWorkingHours(Long employeeId, List<WorkingHoursRequestDTO> workingHours);
+
+	/**
+	 * Creates a schedule exception for an employee of the current user's firm.
+	 *
+	 * @param requestDto {@link ScheduleExceptionRequestDTO} containing exception details
+	 * @return {@link ScheduleException} representing the saved exception
+	 */
+	ScheduleException createScheduleException(ScheduleExceptionRequestDTO requestDto);
+
+	/**
+	 * Deletes schedule exceptions of the current user's firm by their IDs.
+	 * Either all of them are deleted or none is.
+	 *
+	 * @param ids {@link List} of IDs of the exceptions to delete
+	 */
+	void deleteScheduleExceptions(List<Long> ids);
+
+	/**
+	 * Creates time off for an employee of the current user's firm.
+	 *
+	 * @param requestDto {@link TimeOffRequestDTO} containing time off details
+	 * @return {@link TimeOff} representing the saved time off
+	 */
+	TimeOff createTimeOff(TimeOffRequestDTO requestDto);
+
+	/**
+	 * Deletes time off of the current user's firm by their IDs.
+	 * Either all of them are deleted or none is.
+	 *
+	 * @param ids {@link List} of IDs of the time off to delete
+	 */
+	void deleteTimeOff(List<Long> ids);
+
+	/**
+	 * Retrieves the effective working hours of employees of the current user's firm.
+	 *
+	 * @param request {@link ScheduleRequestDTO} employees and range
+	 * @return {@link List} of {@link EmployeeScheduleDTO}, one per employee, ordered by employee ID
+	 */
+	List<EmployeeScheduleDTO> getSchedules(ScheduleRequestDTO request);
+
+	/**
+	 * Finds the effective working slots of the given employees for every day of a date range.
+	 * The returned bitmaps may be shared and must not be changed.
+	 *
+	 * @param employeeIds {@link Collection} of employee IDs
+	 * @param from        {@link LocalDate} first day of the range
+	 * @param to          {@link LocalDate} day after the last day of the range
+	 * @return {@link Map} of employee ID to one {@link SlotBitmap} per day, starting at {@code from}
+	 */
+	Map<Long, SlotBitmap[]> findWorkingSlots(Collection<Long> employeeIds, LocalDate from, LocalDate to);
+}
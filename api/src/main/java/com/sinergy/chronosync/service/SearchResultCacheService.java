@@ -0,0 +1,46 @@
+package com.sinergy.chronosync.service;
+
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Service interface for caching search results per firm until the entities they were
+ * read from change.
+ */
+public interface SearchResultCacheService {
+
+	/**
+	 * Entities search results are read from. Each firm keeps a generation number per
+	 * entity, which is raised whenever one of the firm's entities of that kind changes.
+	 */
+	enum Entity {
+		APPOINTMENT,
+		APPOINTMENT_TYPE,
+		CLIENT
+	}
+
+	/**
+	 * Returns the cached result of a search, or runs the search and caches its result.
+	 * String filters are compared without case, and empty strings are treated as missing,
+	 * the same way the filter builders apply them. Concurrent requests for the same search
+	 * share one run of it. The returned result may be shared and must not be changed.
+	 *
+	 * @param firmId   {@link Long} ID of the firm searched in
+	 * @param endpoint {@link String} name of the search
+	 * @param entities {@link Set} of {@link Entity} kinds the result is read from
+	 * @param search   {@link Supplier} running the search
+	 * @param filter   filter and page of the search, with {@link Object#equals} semantics
+	 * @param <T>      type of the result
+	 * @return cached or fresh result of the search
+	 */
+	<T> T get(Long firmId, String endpoint, Set<Entity> entities, Supplier<T> search, Object... filter);
+
+	/**
+	 * Raises the firm's generation of an entity kind once the current transaction commits,
+	 * which discards the firm's cached results read from it.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @param entity {@link Entity} kind that changed
+	 */
+	void invalidate(Long firmId, Entity entity);
+}
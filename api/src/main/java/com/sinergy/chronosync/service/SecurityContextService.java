@@ -5,10 +5,15 @@ import com.sinergy.chronosync.exception.InvalidStateException;
 import com.sinergy.chronosync.exception.UserNotFoundException;
 import com.sinergy.chronosync.model.Firm;
 import com.sinergy.chronosync.model.user.User;
+import com.sinergy.chronosync.model.user.UserRole;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
 /**
  * Service responsible for retrieving security context information.
  */
@@ -16,6 +21,8 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class SecurityContextService {
 
+	private static final String ROLE_PREFIX = "ROLE_";
+
 	/**
 	 * Helper function that extracts UserPrincipal from Security Context Holder.
 	 *
@@ -31,14 +38,21 @@ public class SecurityContextService {
 	/**
 	 * Retrieves the authenticated user.
 	 *
-	 * <p>This method extracts the currently authenticated username from the security context
-	 * and constructs a filter to query the user repository. If the user is found, it is returned.
+	 * <p>This method extracts the currently authenticated user's ID and role from the
+	 * security context, without querying the user repository.
 	 *
 	 * @throws UserNotFoundException if no user is found with the authenticated username
 	 */
 	public User getAuthUser() {
+		JwtUserPrincipal principal = getUserPrincipal();
 		User user = new User();
-		user.setId(getUserPrincipal().getId());
+		user.setId(principal.getId());
+		principal.getAuthorities().stream()
+			.map(GrantedAuthority::getAuthority)
+			.filter(authority -> authority.startsWith(ROLE_PREFIX))
+			.map(authority -> UserRole.valueOf(authority.substring(ROLE_PREFIX.length())))
+			.findFirst()
+			.ifPresent(user::setRole);
 
 		return user;
 	}
@@ -55,8 +69,12 @@ public class SecurityContextService {
 	 * @throws InvalidStateException if the user is not associated with any firm
 	 */
 	public Firm getAuthUserFirm() {
+		JwtUserPrincipal principal = getUserPrincipal();
 		Firm firm = new Firm();
-		firm.setId(getUserPrincipal().getFirmId());
+		firm.setId(principal.getFirmId());
+		if (principal.getTimeZone() != null) {
+			firm.setTimeZone(principal.getTimeZone().getId());
+		}
 
 		if (firm.getId() == null) {
 			throw new InvalidStateException("User is not associated with any firm.");
@@ -64,4 +82,14 @@ public class SecurityContextService {
 
 		return firm;
 	}
+
+	/**
+	 * Retrieves the time zone of the authenticated user's firm, without querying the firm.
+	 *
+	 * @return {@link ZoneId} of the firm, or UTC if the firm has none
+	 */
+	public ZoneId getAuthUserTimeZone() {
+		ZoneId timeZone = getUserPrincipal().getTimeZone();
+		return timeZone != null ? timeZone : ZoneOffset.UTC;
+	}
 }
@@ -0,0 +1,498 @@
+package com.sinergy.chronosync.service.impl;
+
+import com.sinergy.chronosync.dto.request.AppointmentBatchItemDTO;
+import com.sinergy.chronosync.dto.response.AppointmentEventDTO;
+import com.sinergy.chronosync.dto.response.BatchItemResultDTO;
+import com.sinergy.chronosync.dto.response.BatchItemResultDTO.Status;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.model.Appointment;
+import com.sinergy.chronosync.model.Firm;
+import com.sinergy.chronosync.model.user.User;
+import com.sinergy.chronosync.repository.AppointmentRepository;
+import com.sinergy.chronosync.repository.AppointmentRepository.VersionedRange;
+import com.sinergy.chronosync.repository.AppointmentTypeRepository;
+import com.sinergy.chronosync.repository.CancelledOccurrenceRepository;
+import com.sinergy.chronosync.repository.ClientRepository;
+import com.sinergy.chronosync.repository.UserRepository;
+import com.sinergy.chronosync.service.AppointmentBatchService;
+import com.sinergy.chronosync.service.AppointmentEventService;
+import com.sinergy.chronosync.service.AppointmentReminderService;
+import com.sinergy.chronosync.service.AppointmentRollupService;
+import com.sinergy.chronosync.service.AppointmentOverlapService;
+import com.sinergy.chronosync.service.AppointmentSyncService;
+import com.sinergy.chronosync.service.BusySlotService;
+import com.sinergy.chronosync.service.SearchResultCacheService;
+import com.sinergy.chronosync.service.SearchResultCacheService.Entity;
+import com.sinergy.chronosync.service.SecurityContextService;
+import com.sinergy.chronosync.util.IntervalTree;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service implementation for changing many appointments in one request.
+ *
+ * <p>Each batch runs in one transaction and costs a fixed number of round trips,
+ * whatever its size. Items that fail validation, do not exist in the caller's firm
+ * or reference an employee, client or appointment type outside of it are reported
+ * individually and the remaining items are still applied.</p>
+ *
+ * <p>Double bookings are detected against the affected employees' appointments, loaded
+ * with one query into interval trees, and against the earlier items of the same batch.
+ * The employees stay locked from that load until the transaction ends, so concurrent
+ * bookings of the same employees are checked one after another.</p>
+ *
+ * <p>Created appointments, and updated ones whose appointment type is set, take the
+ * current price of their type with one statement. The applied items of a batch are added
+ * to the firm's daily rollups within the transaction. They are pushed to the firm's connected clients as one event, and their
+ * reminders are rescheduled, once the transaction commits.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class AppointmentBatchServiceImpl implements AppointmentBatchService {
+
+	private static final String INVALID_RANGE_MESSAGE = "Appointment start must be before its end.";
+	private static final String NOT_FOUND_MESSAGE = "Appointment does not exist.";
+	private static final String CONFLICT_MESSAGE = "Appointment was changed by someone else.";
+	private static final String OVERLAP_MESSAGE = "Employee already has an appointment at this time.";
+	private static final String REFERENCE_MESSAGE = "Employee, client or appointment type does not exist.";
+	private static final String VERSION_MESSAGE = "Appointment version is required for an update.";
+
+	private final AppointmentRepository appointmentRepository;
+	private final CancelledOccurrenceRepository cancelledOccurrenceRepository;
+	private final UserRepository userRepository;
+	private final ClientRepository clientRepository;
+	private final AppointmentTypeRepository appointmentTypeRepository;
+	private final SecurityContextService securityContextService;
+	private final AppointmentOverlapService appointmentOverlapService;
+	private final BusySlotService busySlotService;
+	private final AppointmentSyncService appointmentSyncService;
+	private final AppointmentEventService appointmentEventService;
+	private final AppointmentReminderService appointmentReminderService;
+	private final AppointmentRollupService appointmentRollupService;
+	private final SearchResultCacheService searchResultCacheService;
+
+	@Value("${appointment.batch.max-items:1000}")
+	private int maxItems;
+
+	/**
+	 * Creates appointments in the authenticated user's firm with one lookup per referenced
+	 * entity kind, one schedule lookup, one ID reservation and one batched insert.
+	 *
+	 * @param requests {@link List} of {@link AppointmentBatchItemDTO} appointments to create
+	 * @return {@link List} of {@link BatchItemResultDTO} with one result per request item
+	 * @throws InvalidStateException if the batch is empty, too large or references unknown entities
+	 */
+	@Override
+	@Transactional
+	public List<BatchItemResultDTO> createAppointments(List<AppointmentBatchItemDTO> requests) {
+		checkSize(requests);
+
+		Firm firm = securityContextService.getAuthUserFirm();
+		User user = securityContextService.getAuthUser();
+		LocalDateTime now = LocalDateTime.now();
+		References references = findReferences(firm.getId(), requests);
+
+		BatchItemResultDTO[] results = new BatchItemResultDTO[requests.size()];
+		List<Integer> candidates = new ArrayList<>();
+		List<Slot> slots = new ArrayList<>();
+		for (int i = 0; i < requests.size(); i++) {
+			AppointmentBatchItemDTO request = requests.get(i);
+			if (request.getStartDateTime() == null || request.getEndDateTime() == null
+				|| !request.getStartDateTime().isBefore(request.getEndDateTime())) {
+				results[i] = new BatchItemResultDTO(i, null, Status.INVALID, INVALID_RANGE_MESSAGE);
+				continue;
+			}
+			if (!references.resolve(request)) {
+				results[i] = new BatchItemResultDTO(i, null, Status.INVALID, REFERENCE_MESSAGE);
+				continue;
+			}
+			candidates.add(i);
+			slots.add(new Slot(-(i + 1L), request.getEmployeeId(), request.getStartDateTime(), request.getEndDateTime()));
+		}
+
+		Map<Long, IntervalTree<LocalDateTime>> schedules = loadSchedules(slots);
+		List<Integer> indexes = new ArrayList<>();
+		List<Appointment> appointments = new ArrayList<>();
+		for (int k = 0; k < candidates.size(); k++) {
+			int i = candidates.get(k);
+			if (!reserve(schedules, slots.get(k), null)) {
+				results[i] = new BatchItemResultDTO(i, null, Status.OVERLAP, OVERLAP_MESSAGE);
+				continue;
+			}
+			Appointment appointment = requests.get(i).toModel();
+			appointment.setFirm(firm);
+			appointment.setCreatedAt(now);
+			appointment.setCreatedBy(user);
+			indexes.add(i);
+			appointments.add(appointment);
+		}
+
+		if (!appointments.isEmpty()) {
+			List<Long> ids = appointmentRepository.reserveIds(appointments.size());
+			for (int i = 0; i < appointments.size(); i++) {
+				appointments.get(i).setId(ids.get(i));
+			}
+
+			try {
+				appointmentRepository.insertAll(appointments);
+			} catch (DataIntegrityViolationException e) {
+				throw new InvalidStateException("The batch references an employee, client or appointment type that does not exist.");
+			}
+			appointmentRepository.snapshotPrices(firm.getId(), ids);
+			appointmentRollupService.addAppointments(firm.getId(), ids);
+
+			for (int i = 0; i < appointments.size(); i++) {
+				Appointment appointment = appointments.get(i);
+				Long employeeId = appointment.getEmployee() != null ? appointment.getEmployee().getId() : null;
+				results[indexes.get(i)] = new BatchItemResultDTO(indexes.get(i), ids.get(i), Status.CREATED, null);
+				appointmentOverlapService.indexSaved(
+					ids.get(i),
+					employeeId,
+					appointment.getStartDateTime(),
+					appointment.getEndDateTime()
+				);
+				busySlotService.evictSaved(ids.get(i), employeeId);
+				appointmentReminderService.scheduleSaved(ids.get(i), appointment.getStartDateTime());
+			}
+			appointmentEventService.publish(firm.getId(), AppointmentEventDTO.Type.CREATED, ids);
+			searchResultCacheService.invalidate(firm.getId(), Entity.APPOINTMENT);
+		}
+		return Arrays.asList(results);
+	}
+
+	/**
+	 * Applies partial updates with one lookup of the current versions, one lookup per
+	 * referenced entity kind, one schedule lookup and one batched update. Only the fields
+	 * present on each item are changed.
+	 *
+	 * <p>An item is only applied if the appointment still has the version it carries, and
+	 * an item without a version is rejected. Appointments moved to another employee are recorded as removed from the previous
+	 * employee's change feed.</p>
+	 *
+	 * @param requests {@link List} of {@link AppointmentBatchItemDTO} changes, each with an appointment ID
+	 * @return {@link List} of {@link BatchItemResultDTO} with one result per request item
+	 * @throws InvalidStateException if the batch is empty, too large or references unknown entities
+	 */
+	@Override
+	@Transactional
+	public List<BatchItemResultDTO> updateAppointments(List<AppointmentBatchItemDTO> requests) {
+		checkSize(requests);
+
+		Firm firm = securityContextService.getAuthUserFirm();
+		User user = securityContextService.getAuthUser();
+		LocalDateTime now = LocalDateTime.now();
+
+		List<Long> lookup = requests.stream().map(AppointmentBatchItemDTO::getId).filter(Objects::nonNull).distinct().toList();
+		Map<Long, VersionedRange> current = lookup.isEmpty()
+			? Map.of()
+			: appointmentRepository.findVersionedRangesByFirmIdAndIdIn(firm.getId(), lookup).stream()
+				.collect(Collectors.toMap(VersionedRange::getId, Function.identity()));
+		References references = findReferences(firm.getId(), requests);
+
+		BatchItemResultDTO[] results = new BatchItemResultDTO[requests.size()];
+		List<Integer> candidates = new ArrayList<>();
+		List<Slot> slots = new ArrayList<>();
+		for (int i = 0; i < requests.size(); i++) {
+			AppointmentBatchItemDTO request = requests.get(i);
+			VersionedRange state = request.getId() != null ? current.get(request.getId()) : null;
+			if (state == null) {
+				results[i] = new BatchItemResultDTO(i, request.getId(), Status.NOT_FOUND, NOT_FOUND_MESSAGE);
+				continue;
+			}
+			if (request.getVersion() == null) {
+				results[i] = new BatchItemResultDTO(i, request.getId(), Status.INVALID, VERSION_MESSAGE);
+				continue;
+			}
+			if (!request.getVersion().equals(state.getVersion())) {
+				results[i] = new BatchItemResultDTO(i, request.getId(), Status.CONFLICT, CONFLICT_MESSAGE);
+				continue;
+			}
+			if (!references.resolve(request)) {
+				results[i] = new BatchItemResultDTO(i, request.getId(), Status.INVALID, REFERENCE_MESSAGE);
+				continue;
+			}
+			LocalDateTime start = request.getStartDateTime() != null ? request.getStartDateTime() : state.getStartDateTime();
+			LocalDateTime end = request.getEndDateTime() != null ? request.getEndDateTime() : state.getEndDateTime();
+			if (start != null && end != null && !start.isBefore(end)) {
+				results[i] = new BatchItemResultDTO(i, request.getId(), Status.INVALID, INVALID_RANGE_MESSAGE);
+				continue;
+			}
+			Long employeeId = request.getEmployeeId() != null ? request.getEmployeeId() : state.getEmployeeId();
+			candidates.add(i);
+			slots.add(new Slot(request.getId(), employeeId, start, end));
+		}
+
+		Map<Long, IntervalTree<LocalDateTime>> schedules = loadSchedules(slots);
+		List<Integer> indexes = new ArrayList<>();
+		List<Slot> applied = new ArrayList<>();
+		List<Appointment> changes = new ArrayList<>();
+		for (int k = 0; k < candidates.size(); k++) {
+			int i = candidates.get(k);
+			AppointmentBatchItemDTO request = requests.get(i);
+			Slot slot = slots.get(k);
+			if (!reserve(schedules, slot, current.get(request.getId()).getEmployeeId())) {
+				results[i] = new BatchItemResultDTO(i, request.getId(), Status.OVERLAP, OVERLAP_MESSAGE);
+				continue;
+			}
+			Appointment change = request.toModel();
+			change.setVersion(current.get(request.getId()).getVersion());
+			change.setUpdatedAt(now);
+			change.setUpdatedBy(user);
+			indexes.add(i);
+			applied.add(slot);
+			changes.add(change);
+		}
+
+		if (!changes.isEmpty()) {
+			List<Long> changedIds = changes.stream().map(Appointment::getId).toList();
+			appointmentRollupService.subtractAppointments(firm.getId(), changedIds);
+			boolean[] updated;
+			try {
+				updated = appointmentRepository.patchAll(changes, firm.getId());
+			} catch (DataIntegrityViolationException e) {
+				throw new InvalidStateException("The batch references an employee, client or appointment type that does not exist.");
+			}
+			List<Long> repricedIds = new ArrayList<>();
+			for (int i = 0; i < changes.size(); i++) {
+				if (updated[i] && changes.get(i).getAppointmentType() != null) {
+					repricedIds.add(changes.get(i).getId());
+				}
+			}
+			if (!repricedIds.isEmpty()) {
+				appointmentRepository.snapshotPrices(firm.getId(), repricedIds);
+			}
+			appointmentRollupService.addAppointments(firm.getId(), changedIds);
+
+			List<Long> updatedIds = new ArrayList<>();
+			Map<Long, Long> reassigned = new HashMap<>();
+			for (int i = 0; i < changes.size(); i++) {
+				int index = indexes.get(i);
+				Long id = changes.get(i).getId();
+				if (!updated[i]) {
+					results[index] = new BatchItemResultDTO(index, id, Status.CONFLICT, CONFLICT_MESSAGE);
+					continue;
+				}
+				results[index] = new BatchItemResultDTO(index, id, Status.UPDATED, null);
+				updatedIds.add(id);
+				Slot slot = applied.get(i);
+				Long previousEmployeeId = current.get(id).getEmployeeId();
+				if (previousEmployeeId != null && !previousEmployeeId.equals(slot.employeeId())) {
+					reassigned.put(id, previousEmployeeId);
+				}
+				appointmentOverlapService.indexSaved(id, slot.employeeId(), slot.start(), slot.end());
+				busySlotService.evictSaved(id, slot.employeeId());
+				appointmentReminderService.scheduleSaved(id, slot.start());
+			}
+			appointmentSyncService.recordReassigned(firm.getId(), reassigned);
+			appointmentEventService.publish(firm.getId(), AppointmentEventDTO.Type.UPDATED, updatedIds);
+			searchResultCacheService.invalidate(firm.getId(), Entity.APPOINTMENT);
+		}
+		return Arrays.asList(results);
+	}
+
+	/**
+	 * Deletes appointments with one existence lookup and one set-based delete. Occurrences
+	 * of a series replaced by the deleted appointments stay cancelled, and tombstones are
+	 * recorded for change feeds.
+	 *
+	 * @param ids {@link List} of appointment IDs to delete
+	 * @return {@link List} of {@link BatchItemResultDTO} with one result per ID
+	 * @throws InvalidStateException if the batch is empty or too large
+	 */
+	@Override
+	@Transactional
+	public List<BatchItemResultDTO> deleteAppointments(List<Long> ids) {
+		checkSize(ids);
+
+		Long firmId = securityContextService.getAuthUserFirm().getId();
+		Set<Long> existing = findExisting(firmId, ids);
+		if (!existing.isEmpty()) {
+			cancelledOccurrenceRepository.cancelReplacedBy(firmId, existing);
+			appointmentSyncService.recordDeleted(firmId, existing);
+			appointmentRollupService.subtractAppointments(firmId, existing);
+			appointmentRepository.deleteByFirmIdAndIdIn(firmId, existing);
+			appointmentOverlapService.indexDeleted(existing);
+			busySlotService.evictDeleted(existing);
+			appointmentReminderService.cancelDeleted(existing);
+			appointmentEventService.publish(firmId, AppointmentEventDTO.Type.DELETED, existing);
+			searchResultCacheService.invalidate(firmId, Entity.APPOINTMENT);
+		}
+
+		List<BatchItemResultDTO> results = new ArrayList<>(ids.size());
+		for (int i = 0; i < ids.size(); i++) {
+			Long id = ids.get(i);
+			results.add(id != null && existing.contains(id)
+				? new BatchItemResultDTO(i, id, Status.DELETED, null)
+				: new BatchItemResultDTO(i, id, Status.NOT_FOUND, NOT_FOUND_MESSAGE));
+		}
+		return results;
+	}
+
+	/**
+	 * Loads the schedules of the employees referenced by the given slots, covering
+	 * all of their time ranges.
+	 *
+	 * @param slots {@link List} of {@link Slot} requested time ranges
+	 * @return {@link Map} of employee ID to an {@link IntervalTree} of appointment time ranges
+	 */
+	private Map<Long, IntervalTree<LocalDateTime>> loadSchedules(List<Slot> slots) {
+		List<Slot> checked = slots.stream().filter(Slot::isComplete).toList();
+		if (checked.isEmpty()) {
+			return new HashMap<>();
+		}
+		return new HashMap<>(appointmentOverlapService.loadSchedules(
+			checked.stream().map(Slot::employeeId).collect(Collectors.toSet()),
+			checked.stream().map(Slot::start).min(Comparator.naturalOrder()).orElseThrow(),
+			checked.stream().map(Slot::end).max(Comparator.naturalOrder()).orElseThrow()
+		));
+	}
+
+	/**
+	 * Books a slot in the loaded schedules unless it overlaps another appointment of
+	 * the employee. Slots without an employee or time range are always accepted.
+	 *
+	 * @param schedules          {@link Map} of employee ID to loaded {@link IntervalTree}
+	 * @param slot               {@link Slot} requested time range
+	 * @param previousEmployeeId {@link Long} ID of the employee the appointment belonged to, or {@code null}
+	 * @return {@code true} if the slot was booked
+	 */
+	private boolean reserve(Map<Long, IntervalTree<LocalDateTime>> schedules, Slot slot, Long previousEmployeeId) {
+		if (!slot.isComplete()) {
+			return true;
+		}
+		IntervalTree<LocalDateTime> schedule = schedules.computeIfAbsent(slot.employeeId(), id -> new IntervalTree<>());
+		if (schedule.overlaps(slot.start(), slot.end(), slot.key())) {
+			return false;
+		}
+		if (previousEmployeeId != null && !previousEmployeeId.equals(slot.employeeId())
+			&& schedules.containsKey(previousEmployeeId)) {
+			schedules.get(previousEmployeeId).remove(slot.key());
+		}
+		schedule.put(slot.key(), slot.start(), slot.end());
+		return true;
+	}
+
+	/**
+	 * Looks up which of the given IDs are appointments of the firm.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @param ids    {@link List} of requested IDs, possibly containing nulls
+	 * @return {@link Set} of the IDs that exist within the firm
+	 */
+	private Set<Long> findExisting(Long firmId, List<Long> ids) {
+		List<Long> lookup = ids.stream().filter(Objects::nonNull).distinct().toList();
+		return lookup.isEmpty() ? Set.of() : appointmentRepository.findIdsByFirmIdAndIdIn(firmId, lookup);
+	}
+
+	/**
+	 * Looks up which of the employees, clients and appointment types referenced by the
+	 * items belong to the firm, with one query per kind.
+	 *
+	 * @param firmId   {@link Long} ID of the firm
+	 * @param requests {@link List} of {@link AppointmentBatchItemDTO} batch items
+	 * @return {@link References} found within the firm
+	 */
+	private References findReferences(Long firmId, List<AppointmentBatchItemDTO> requests) {
+		return new References(
+			findIds(firmId, requests, AppointmentBatchItemDTO::getEmployeeId, userRepository::findIdsByFirmIdAndIdIn),
+			findIds(firmId, requests, AppointmentBatchItemDTO::getClientId, clientRepository::findIdsByFirmIdAndIdIn),
+			findIds(
+				firmId,
+				requests,
+				AppointmentBatchItemDTO::getAppointmentTypeId,
+				appointmentTypeRepository::findIdsByFirmIdAndIdIn
+			)
+		);
+	}
+
+	/**
+	 * Looks up which of the IDs referenced by the items exist within the firm.
+	 *
+	 * @param firmId    {@link Long} ID of the firm
+	 * @param requests  {@link List} of {@link AppointmentBatchItemDTO} batch items
+	 * @param reference {@link Function} reading the referenced ID from an item
+	 * @param lookup    {@link BiFunction} finding the IDs of the firm among the given IDs
+	 * @return {@link Set} of the referenced IDs that exist within the firm
+	 */
+	private static Set<Long> findIds(
+		Long firmId,
+		List<AppointmentBatchItemDTO> requests,
+		Function<AppointmentBatchItemDTO, Long> reference,
+		BiFunction<Long, Collection<Long>, List<Long>> lookup
+	) {
+		List<Long> ids = requests.stream().map(reference).filter(Objects::nonNull).distinct().toList();
+		return ids.isEmpty() ? Set.of() : new HashSet<>(lookup.apply(firmId, ids));
+	}
+
+	/**
+	 * Rejects empty batches and batches above the configured limit.
+	 *
+	 * @param items {@link List} of batch items
+	 * @throws InvalidStateException if the batch is empty or too large
+	 */
+	private void checkSize(List<?> items) {
+		if (items == null || items.isEmpty()) {
+			throw new InvalidStateException("The batch contains no items.");
+		}
+		if (items.size() > maxItems) {
+			throw new InvalidStateException("The batch exceeds the limit of " + maxItems + " items.");
+		}
+	}
+
+	/**
+	 * Employees, clients and appointment types referenced by a batch that belong to the
+	 * caller's firm.
+	 *
+	 * @param employeeIds        IDs of the firm's referenced employees
+	 * @param clientIds          IDs of the firm's referenced clients
+	 * @param appointmentTypeIds IDs of the firm's referenced appointment types
+	 */
+	private record References(Set<Long> employeeIds, Set<Long> clientIds, Set<Long> appointmentTypeIds) {
+
+		/**
+		 * Checks that every entity the item references belongs to the firm. References the
+		 * item does not set are not checked.
+		 *
+		 * @param request {@link AppointmentBatchItemDTO} batch item
+		 * @return {@code true} if all references of the item belong to the firm
+		 */
+		private boolean resolve(AppointmentBatchItemDTO request) {
+			return (request.getEmployeeId() == null || employeeIds.contains(request.getEmployeeId()))
+				&& (request.getClientId() == null || clientIds.contains(request.getClientId()))
+				&& (request.getAppointmentTypeId() == null || appointmentTypeIds.contains(request.getAppointmentTypeId()));
+		}
+	}
+
+	/**
+	 * Time range an item would occupy in its employee's schedule.
+	 *
+	 * @param key        appointment ID, or a negative placeholder for a new appointment
+	 * @param employeeId ID of the employee, or {@code null}
+	 * @param start      start of the appointment, or {@code null}
+	 * @param end        end of the appointment, or {@code null}
+	 */
+	private record Slot(Long key, Long employeeId, LocalDateTime start, LocalDateTime end) {
+
+		private boolean isComplete() {
+			return employeeId != null && start != null && end != null;
+		}
+	}
+}
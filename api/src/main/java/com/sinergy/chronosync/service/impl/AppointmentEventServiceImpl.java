@@ -0,0 +1,229 @@
+package com.sinergy.chronosync.service.impl;
+
+import com.sinergy.chronosync.dto.response.AppointmentEventDTO;
+import com.sinergy.chronosync.service.AppointmentEventService;
+import com.sinergy.chronosync.service.SecurityContextService;
+import com.sinergy.chronosync.util.TransactionUtils;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Service implementation pushing appointment changes to connected clients as server-sent events.
+ *
+ * <p>Connected clients are kept per firm. An idle connection holds no thread: the request
+ * is handed back to the container as an asynchronous response, and only its emitter and a
+ * bounded queue are kept. Events are queued per client and written by a virtual thread that
+ * runs only while the client's queue is not empty, so a slow client delays neither the
+ * transaction that published the change nor the other clients.</p>
+ *
+ * <p>A client whose queue fills up is too slow and is disconnected; it reconnects and
+ * catches up through the change feed. A heartbeat is queued for every client at a fixed
+ * interval, which keeps proxies from closing idle connections and finds clients that
+ * went away.</p>
+ */
+@Service
+public class AppointmentEventServiceImpl implements AppointmentEventService {
+
+	private static final String EVENT_NAME = "appointment";
+
+	private final SecurityContextService securityContextService;
+	private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+	private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+	private final ScheduledExecutorService heartbeats;
+	private final long timeoutMillis;
+	private final int bufferSize;
+
+	/**
+	 * Creates the service and schedules the heartbeats.
+	 *
+	 * @param timeout           {@link Duration} after which a stream is closed and the client reconnects
+	 * @param heartbeatInterval {@link Duration} between heartbeats
+	 * @param bufferSize        largest number of events queued for a client
+	 */
+	public AppointmentEventServiceImpl(
+		SecurityContextService securityContextService,
+		@Value("${appointment.events.timeout:30m}") Duration timeout,
+		@Value("${appointment.events.heartbeat-interval:20s}") Duration heartbeatInterval,
+		@Value("${appointment.events.buffer-size:32}") int bufferSize
+	) {
+		this.securityContextService = securityContextService;
+		this.timeoutMillis = timeout.toMillis();
+		this.bufferSize = bufferSize;
+
+		this.heartbeats = Executors.newSingleThreadScheduledExecutor(
+			Thread.ofPlatform().name("appointment-events-heartbeat").daemon().factory()
+		);
+		long interval = heartbeatInterval.toMillis();
+		heartbeats.scheduleAtFixedRate(this::sendHeartbeats, interval, interval, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Opens an event stream of the appointment changes in the current user's firm.
+	 *
+	 * @return {@link SseEmitter} streaming the changes
+	 */
+	@Override
+	public SseEmitter subscribe() {
+		Long firmId = securityContextService.getAuthUserFirm().getId();
+		SseEmitter emitter = new SseEmitter(timeoutMillis);
+		Subscriber subscriber = new Subscriber(firmId, emitter, new ArrayBlockingQueue<>(bufferSize));
+		emitter.onCompletion(() -> remove(subscriber));
+		emitter.onTimeout(() -> remove(subscriber));
+		emitter.onError(error -> remove(subscriber));
+
+		subscribers.compute(firmId, (id, firm) -> {
+			Set<Subscriber> connected = firm != null ? firm : ConcurrentHashMap.newKeySet();
+			connected.add(subscriber);
+			return connected;
+		});
+		enqueue(subscriber, SseEmitter.event().comment("connected").build());
+		return emitter;
+	}
+
+	/**
+	 * Queues a change of appointments of a firm for each of its connected clients once the
+	 * current transaction commits.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @param type   {@link AppointmentEventDTO.Type} kind of change
+	 * @param ids    {@link Collection} of IDs of the changed appointments
+	 */
+	@Override
+	public void publish(Long firmId, AppointmentEventDTO.Type type, Collection<Long> ids) {
+		if (ids.isEmpty()) {
+			return;
+		}
+		Set<DataWithMediaType> event = SseEmitter.event()
+			.name(EVENT_NAME)
+			.data(new AppointmentEventDTO(type, List.copyOf(ids)), MediaType.APPLICATION_JSON)
+			.build();
+		TransactionUtils.afterCommit(() -> subscribers.getOrDefault(firmId, Set.of())
+			.forEach(subscriber -> enqueue(subscriber, event)));
+	}
+
+	/**
+	 * Disconnects all clients and stops the heartbeats.
+	 */
+	@PreDestroy
+	public void shutdown() {
+		heartbeats.shutdownNow();
+		subscribers.values().forEach(firm -> firm.forEach(this::disconnect));
+		senders.shutdown();
+	}
+
+	/**
+	 * Queues a heartbeat for every connected client.
+	 */
+	private void sendHeartbeats() {
+		Set<DataWithMediaType> heartbeat = SseEmitter.event().comment("heartbeat").build();
+		subscribers.values().forEach(firm -> firm.forEach(subscriber -> enqueue(subscriber, heartbeat)));
+	}
+
+	/**
+	 * Queues an event for a client and starts writing its queue unless already writing.
+	 * A client whose queue is full is disconnected.
+	 *
+	 * @param subscriber {@link Subscriber} client to send to
+	 * @param event      {@link Set} of {@link DataWithMediaType} parts of the event
+	 */
+	private void enqueue(Subscriber subscriber, Set<DataWithMediaType> event) {
+		if (subscriber.closed.get()) {
+			return;
+		}
+		if (!subscriber.queue.offer(event)) {
+			disconnect(subscriber);
+			return;
+		}
+		if (subscriber.draining.compareAndSet(false, true)) {
+			senders.execute(() -> drain(subscriber));
+		}
+	}
+
+	/**
+	 * Writes a client's queued events in order until the queue is empty. The write of a
+	 * client that went away fails, and the client is removed.
+	 *
+	 * @param subscriber {@link Subscriber} client to write to
+	 */
+	private void drain(Subscriber subscriber) {
+		do {
+			Set<DataWithMediaType> event;
+			while (!subscriber.closed.get() && (event = subscriber.queue.poll()) != null) {
+				try {
+					subscriber.emitter.send(event);
+				} catch (IOException | IllegalStateException e) {
+					remove(subscriber);
+					return;
+				}
+			}
+			subscriber.draining.set(false);
+		} while (!subscriber.closed.get() && !subscriber.queue.isEmpty() && subscriber.draining.compareAndSet(false, true));
+	}
+
+	/**
+	 * Removes a client and closes its stream. The stream is closed on a sender thread,
+	 * since it waits for a write to the client that may be in progress.
+	 *
+	 * @param subscriber {@link Subscriber} client to disconnect
+	 */
+	private void disconnect(Subscriber subscriber) {
+		if (remove(subscriber)) {
+			senders.execute(subscriber.emitter::complete);
+		}
+	}
+
+	/**
+	 * Removes a client from its firm and drops its queued events.
+	 *
+	 * @param subscriber {@link Subscriber} client to remove
+	 * @return {@code true} if the client was still connected
+	 */
+	private boolean remove(Subscriber subscriber) {
+		if (!subscriber.closed.compareAndSet(false, true)) {
+			return false;
+		}
+		subscribers.computeIfPresent(subscriber.firmId, (id, firm) -> {
+			firm.remove(subscriber);
+			return firm.isEmpty() ? null : firm;
+		});
+		subscriber.queue.clear();
+		return true;
+	}
+
+	/**
+	 * Connected client with its queue of events not yet written.
+	 */
+	private static final class Subscriber {
+
+		private final Long firmId;
+		private final SseEmitter emitter;
+		private final BlockingQueue<Set<DataWithMediaType>> queue;
+		private final AtomicBoolean draining = new AtomicBoolean();
+		private final AtomicBoolean closed = new AtomicBoolean();
+
+		private Subscriber(Long firmId, SseEmitter emitter, BlockingQueue<Set<DataWithMediaType>> queue) {
+			this.firmId = firmId;
+			this.emitter = emitter;
+			this.queue = queue;
+		}
+	}
+}
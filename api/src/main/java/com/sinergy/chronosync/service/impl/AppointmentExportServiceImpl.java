@@ -0,0 +1,169 @@
+package com.sinergy.chronosync.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sinergy.chronosync.builder.AppointmentFilterBuilder;
+import com.sinergy.chronosync.dto.request.AppointmentExportRequestDTO;
+import com.sinergy.chronosync.dto.request.ExportFormat;
+import com.sinergy.chronosync.dto.response.AppointmentSearchResponseDTO;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.model.Firm;
+import com.sinergy.chronosync.model.user.User;
+import com.sinergy.chronosync.model.user.UserRole;
+import com.sinergy.chronosync.repository.AppointmentRepository;
+import com.sinergy.chronosync.service.AppointmentExportService;
+import com.sinergy.chronosync.service.SecurityContextService;
+import com.sinergy.chronosync.util.CsvUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Service implementation for exporting appointments.
+ *
+ * <p>Appointments are read as projected rows from a forward-only cursor and written
+ * straight to the response, so memory use stays flat regardless of the row count.
+ * When the client disconnects, the next write fails, which closes the cursor and
+ * ends the read-only transaction.</p>
+ *
+ * <p>Managers and administrators export the appointments of their whole firm, while
+ * employees export only the appointments assigned to them, as in the search.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class AppointmentExportServiceImpl implements AppointmentExportService {
+
+	private static final RecordComponent[] CSV_COLUMNS = AppointmentSearchResponseDTO.class.getRecordComponents();
+	private static final Sort EXPORT_ORDER = Sort.by("startDateTime", "id");
+
+	private final AppointmentRepository appointmentRepository;
+	private final SecurityContextService securityContextService;
+	private final PlatformTransactionManager transactionManager;
+	private final ObjectMapper objectMapper;
+
+	@Value("${export.fetch-size:500}")
+	private int fetchSize;
+
+	/**
+	 * Prepares an export of the authenticated user's firm appointments, limited to their
+	 * own appointments unless they are a manager or administrator.
+	 *
+	 * @param request {@link AppointmentExportRequestDTO} export range and format
+	 * @return {@link StreamingResponseBody} writing the exported appointments
+	 * @throws InvalidStateException if the range is missing or empty
+	 */
+	@Override
+	public StreamingResponseBody exportAppointments(AppointmentExportRequestDTO request) {
+		if (request.getFrom() == null || request.getTo() == null || !request.getFrom().isBefore(request.getTo())) {
+			throw new InvalidStateException("Export range must have a start before its end.");
+		}
+
+		User authUser = securityContextService.getAuthUser();
+		Firm firm = securityContextService.getAuthUserFirm();
+		boolean firmWide = authUser.getRole() == UserRole.MANAGER || authUser.getRole() == UserRole.ADMINISTRATOR;
+		AppointmentFilterBuilder filterBuilder = AppointmentFilterBuilder.builder()
+			.firm(firm)
+			.employee(firmWide ? null : authUser)
+			.startDateTimeFrom(request.getFrom())
+			.startDateTimeTo(request.getTo())
+			.build();
+		ExportFormat format = request.getFormat() != null ? request.getFormat() : ExportFormat.NDJSON;
+
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setReadOnly(true);
+
+		return outputStream -> transactionTemplate.executeWithoutResult(status -> {
+			try (Stream<AppointmentSearchResponseDTO> rows = appointmentRepository.streamAllProjected(
+				filterBuilder.toSpecification(),
+				AppointmentSearchResponseDTO.PROJECTION,
+				EXPORT_ORDER,
+				fetchSize
+			)) {
+				if (format == ExportFormat.CSV) {
+					writeCsv(rows.iterator(), outputStream);
+				} else {
+					writeNdjson(rows.iterator(), outputStream);
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+	}
+
+	/**
+	 * Writes rows as newline delimited JSON, one object per line.
+	 *
+	 * @param rows         {@link Iterator} of rows to write
+	 * @param outputStream {@link OutputStream} response body
+	 * @throws IOException if writing to the client fails
+	 */
+	private void writeNdjson(Iterator<AppointmentSearchResponseDTO> rows, OutputStream outputStream) throws IOException {
+		try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+			while (rows.hasNext()) {
+				objectMapper.writeValue(generator, rows.next());
+				generator.writeRaw('\n');
+			}
+		}
+	}
+
+	/**
+	 * Writes rows as comma separated values with a header line of the field names.
+	 *
+	 * @param rows         {@link Iterator} of rows to write
+	 * @param outputStream {@link OutputStream} response body
+	 * @throws IOException if writing to the client fails
+	 */
+	private void writeCsv(Iterator<AppointmentSearchResponseDTO> rows, OutputStream outputStream) throws IOException {
+		Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+		for (int i = 0; i < CSV_COLUMNS.length; i++) {
+			writer.write(i == 0 ? "" : ",");
+			writer.write(CSV_COLUMNS[i].getName());
+		}
+		writer.write("\r\n");
+
+		while (rows.hasNext()) {
+			AppointmentSearchResponseDTO row = rows.next();
+
+			for (int i = 0; i < CSV_COLUMNS.length; i++) {
+				writer.write(i == 0 ? "" : ",");
+				writer.write(CsvUtils.escape(readColumn(row, CSV_COLUMNS[i])));
+			}
+			writer.write("\r\n");
+		}
+		writer.flush();
+	}
+
+	/**
+	 * Reads a single record component of a row.
+	 *
+	 * @param row    {@link AppointmentSearchResponseDTO} row to read
+	 * @param column {@link RecordComponent} component to read
+	 * @return the component value
+	 */
+	private Object readColumn(AppointmentSearchResponseDTO row, RecordComponent column) {
+		try {
+			return column.getAccessor().invoke(row);
+		} catch (IllegalAccessException | InvocationTargetException e) {
+			throw new IllegalStateException("Cannot read export column " + column.getName(), e);
+		}
+	}
+}
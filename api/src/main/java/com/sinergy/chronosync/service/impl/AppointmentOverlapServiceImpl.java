@@ -0,0 +1,357 @@
+package com.sinergy.chronosync.service.impl;
+
+import com.sinergy.chronosync.exception.ConflictException;
+import com.sinergy.chronosync.repository.AppointmentRepository;
+import com.sinergy.chronosync.repository.AppointmentRepository.EmployeeRange;
+import com.sinergy.chronosync.repository.UserRepository;
+import com.sinergy.chronosync.service.AppointmentOverlapService;
+import com.sinergy.chronosync.service.OccurrenceService;
+import com.sinergy.chronosync.service.OccurrenceService.Occurrence;
+import com.sinergy.chronosync.util.IntervalTree;
+import com.sinergy.chronosync.util.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Service implementation for detecting overlapping appointments of an employee.
+ *
+ * <p>Every check and schedule load first locks the employees' rows until the transaction
+ * ends, so a check and the write it guards cannot interleave with those of another
+ * transaction for the same employee.</p>
+ *
+ * <p>By default every check is a single indexed range query. When the in-memory index is
+ * enabled, each employee's appointments within the scheduling horizon are loaded once into
+ * an {@link IntervalTree}, and checks falling inside the horizon are answered from the tree
+ * instead of a range query. Saved appointments are applied to the tree just before their
+ * transaction commits, while the employee is still locked, and the employee's tree is
+ * dropped if the transaction then rolls back. The index only sees writes made through this
+ * application instance, so it must stay disabled when several instances share the database.</p>
+ *
+ * <p>Occurrences of appointment series are not part of the index. They are expanded for
+ * the checked range on every check.</p>
+ *
+ * <p>Each employee's tree is held as a {@link CompletableFuture}, claimed with a single map
+ * operation and loaded outside of the map's locks. Checks of an employee whose tree is
+ * being loaded wait for it, and writes committed meanwhile are chained onto the future,
+ * so they are applied once loading finishes.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class AppointmentOverlapServiceImpl implements AppointmentOverlapService {
+
+	private static final String OVERLAP_MESSAGE = "Employee already has an appointment at this time.";
+
+	private final AppointmentRepository appointmentRepository;
+	private final UserRepository userRepository;
+	private final OccurrenceService occurrenceService;
+
+	private final Map<Long, CompletableFuture<Schedule>> schedules = new ConcurrentHashMap<>();
+	private final Map<Long, Long> employeeByAppointment = new ConcurrentHashMap<>();
+
+	@Value("${appointment.overlap.index.enabled:false}")
+	private boolean indexEnabled;
+
+	@Value("${appointment.overlap.index.horizon-days:60}")
+	private int horizonDays;
+
+	/**
+	 * Checks that an employee has no appointment or series occurrence overlapping the given
+	 * time range, using the in-memory index for appointments when it covers the range. The
+	 * employee stays locked until the current transaction ends.
+	 *
+	 * @param employeeId {@link Long} ID of the employee
+	 * @param start      {@link LocalDateTime} inclusive start of the range
+	 * @param end        {@link LocalDateTime} exclusive end of the range
+	 * @param excludeId  {@link Long} ID of the appointment being changed, or {@code null}
+	 * @throws ConflictException if an overlapping appointment exists
+	 */
+	@Override
+	public void checkAvailable(Long employeeId, LocalDateTime start, LocalDateTime end, Long excludeId) {
+		if (employeeId == null || start == null || end == null) {
+			return;
+		}
+
+		userRepository.lockByIdIn(List.of(employeeId));
+		Boolean overlaps = indexEnabled ? overlapsIndexed(employeeId, start, end, excludeId) : null;
+		if (overlaps == null) {
+			overlaps = appointmentRepository.existsOverlapping(employeeId, start, end, excludeId);
+		}
+		if (overlaps || occurrenceService.overlapsOccurrence(employeeId, start, end)) {
+			throw new ConflictException(OVERLAP_MESSAGE);
+		}
+	}
+
+	/**
+	 * Loads the appointments and series occurrences of the given employees overlapping a
+	 * time range. Occurrences are stored under negative keys below those of any placeholder.
+	 * The employees stay locked until the current transaction ends.
+	 *
+	 * @param employeeIds {@link Collection} of employee IDs
+	 * @param start       {@link LocalDateTime} inclusive start of the range
+	 * @param end         {@link LocalDateTime} exclusive end of the range
+	 * @return {@link Map} of employee ID to an {@link IntervalTree} of appointment IDs and time ranges
+	 */
+	@Override
+	public Map<Long, IntervalTree<LocalDateTime>> loadSchedules(
+		Collection<Long> employeeIds,
+		LocalDateTime start,
+		LocalDateTime end
+	) {
+		Map<Long, IntervalTree<LocalDateTime>> result = new HashMap<>();
+		if (employeeIds.isEmpty()) {
+			return result;
+		}
+		userRepository.lockByIdIn(employeeIds);
+		for (EmployeeRange range : appointmentRepository.findEmployeeRanges(employeeIds, start, end)) {
+			result.computeIfAbsent(range.getEmployeeId(), id -> new IntervalTree<>())
+				.put(range.getId(), range.getStartDateTime(), range.getEndDateTime());
+		}
+		long key = Long.MIN_VALUE;
+		for (Occurrence occurrence : occurrenceService.findOccurrences(employeeIds, start, end)) {
+			result.computeIfAbsent(occurrence.employeeId(), id -> new IntervalTree<>())
+				.put(key++, occurrence.startDateTime(), occurrence.endDateTime());
+		}
+		return result;
+	}
+
+	/**
+	 * Records a created or updated appointment in the in-memory index just before the
+	 * current transaction commits, while its employee is still locked, and removes it from
+	 * its previous employee's schedule once the transaction commits. Only employees whose
+	 * schedule is loaded are affected. If the transaction then rolls back, the employee's
+	 * schedule is dropped.
+	 *
+	 * @param id         {@link Long} ID of the appointment
+	 * @param employeeId {@link Long} ID of its employee, or {@code null}
+	 * @param start      {@link LocalDateTime} start of the appointment
+	 * @param end        {@link LocalDateTime} end of the appointment
+	 */
+	@Override
+	public void indexSaved(Long id, Long employeeId, LocalDateTime start, LocalDateTime end) {
+		if (!indexEnabled) {
+			return;
+		}
+		Long[] previous = new Long[1];
+		TransactionUtils.beforeCommit(() -> {
+			previous[0] = employeeByAppointment.get(id);
+			if (employeeId != null) {
+				change(employeeId, schedule -> {
+					if (start != null && end != null && start.isBefore(end)) {
+						schedule.put(id, start, end);
+						employeeByAppointment.put(id, employeeId);
+					} else {
+						schedule.remove(id);
+						employeeByAppointment.remove(id, employeeId);
+					}
+				});
+			}
+		}, () -> evict(employeeId));
+		TransactionUtils.afterCommit(() -> {
+			if (previous[0] != null && !previous[0].equals(employeeId)) {
+				employeeByAppointment.remove(id, previous[0]);
+				change(previous[0], schedule -> schedule.remove(id));
+			}
+		});
+	}
+
+	/**
+	 * Removes deleted appointments from the in-memory index once the current transaction commits.
+	 * An appointment not known to the index yet is removed from every tree still being loaded,
+	 * as the load may have read it before the deletion committed.
+	 *
+	 * @param ids {@link Collection} of IDs of the deleted appointments
+	 */
+	@Override
+	public void indexDeleted(Collection<Long> ids) {
+		if (!indexEnabled) {
+			return;
+		}
+		List<Long> deleted = List.copyOf(ids);
+		TransactionUtils.afterCommit(() -> {
+			for (Long id : deleted) {
+				Long employeeId = employeeByAppointment.remove(id);
+				if (employeeId != null) {
+					change(employeeId, schedule -> schedule.remove(id));
+					continue;
+				}
+				schedules.forEach((key, future) -> {
+					if (!future.isDone()) {
+						future.thenAccept(schedule -> {
+							schedule.remove(id);
+							employeeByAppointment.remove(id, key);
+						});
+					}
+				});
+			}
+		});
+	}
+
+	/**
+	 * Applies a change to an employee's schedule if it is loaded, or once it finishes
+	 * loading if a load is in progress. A change made after the write committed is thus
+	 * never lost to a load that read the database before it.
+	 *
+	 * @param employeeId {@link Long} ID of the employee
+	 * @param change     {@link Consumer} changing the {@link Schedule}
+	 */
+	private void change(Long employeeId, Consumer<Schedule> change) {
+		CompletableFuture<Schedule> future = schedules.get(employeeId);
+		if (future != null) {
+			future.thenAccept(change);
+		}
+	}
+
+	/**
+	 * Drops an employee's schedule from the in-memory index, so it is reloaded by the next check.
+	 *
+	 * @param employeeId {@link Long} ID of the employee, or {@code null}
+	 */
+	private void evict(Long employeeId) {
+		if (employeeId == null) {
+			return;
+		}
+		CompletableFuture<Schedule> future = schedules.remove(employeeId);
+		if (future != null) {
+			future.thenAccept(schedule -> schedule.keys().forEach(id -> employeeByAppointment.remove(id, employeeId)));
+		}
+	}
+
+	/**
+	 * Answers an overlap check from the employee's in-memory schedule, loading or
+	 * reloading it first if needed.
+	 *
+	 * @return whether an overlap exists, or {@code null} if the range lies outside the horizon
+	 */
+	private Boolean overlapsIndexed(Long employeeId, LocalDateTime start, LocalDateTime end, Long excludeId) {
+		LocalDateTime now = LocalDateTime.now();
+		if (start.isBefore(now) || end.isAfter(now.plusDays(horizonDays))) {
+			return null;
+		}
+
+		Schedule schedule = schedule(employeeId, now);
+		if (start.isBefore(schedule.from()) || end.isAfter(schedule.to())) {
+			return null;
+		}
+		return schedule.overlaps(start, end, excludeId);
+	}
+
+	/**
+	 * Returns an employee's schedule, waiting for a load already in progress, or loading
+	 * it if it is missing or ends too soon. Only the thread that claims the schedule's slot
+	 * in the map loads it.
+	 *
+	 * @param employeeId {@link Long} ID of the employee
+	 * @param now        {@link LocalDateTime} current time
+	 * @return the loaded {@link Schedule}
+	 */
+	private Schedule schedule(Long employeeId, LocalDateTime now) {
+		while (true) {
+			CompletableFuture<Schedule> current = schedules.get(employeeId);
+			Schedule schedule = current != null ? join(current) : null;
+			if (schedule != null && !schedule.to().isBefore(now.plusDays(horizonDays / 2 + 1))) {
+				return schedule;
+			}
+
+			CompletableFuture<Schedule> loading = new CompletableFuture<>();
+			boolean claimed = current == null
+				? schedules.putIfAbsent(employeeId, loading) == null
+				: schedules.replace(employeeId, current, loading);
+			if (claimed) {
+				return load(employeeId, schedule, loading, now);
+			}
+		}
+	}
+
+	/**
+	 * Loads an employee's appointments within the horizon and completes the given future
+	 * with them. If loading fails, the future is removed again so the next check retries.
+	 *
+	 * @param employeeId {@link Long} ID of the employee
+	 * @param previous   {@link Schedule} being replaced, or {@code null}
+	 * @param loading    {@link CompletableFuture} claimed for the new schedule
+	 * @param now        {@link LocalDateTime} current time
+	 * @return the loaded {@link Schedule}
+	 */
+	private Schedule load(
+		Long employeeId,
+		Schedule previous,
+		CompletableFuture<Schedule> loading,
+		LocalDateTime now
+	) {
+		try {
+			LocalDateTime from = now.truncatedTo(ChronoUnit.MINUTES);
+			LocalDateTime to = from.plusDays(horizonDays + 1);
+			Schedule schedule = new Schedule(from, to, new IntervalTree<>());
+			for (EmployeeRange range : appointmentRepository.findEmployeeRanges(List.of(employeeId), from, to)) {
+				schedule.put(range.getId(), range.getStartDateTime(), range.getEndDateTime());
+			}
+
+			if (previous != null) {
+				previous.keys().forEach(id -> employeeByAppointment.remove(id, employeeId));
+			}
+			schedule.keys().forEach(id -> employeeByAppointment.put(id, employeeId));
+			loading.complete(schedule);
+			return schedule;
+		} catch (RuntimeException | Error e) {
+			schedules.remove(employeeId, loading);
+			loading.completeExceptionally(e);
+			throw e;
+		}
+	}
+
+	/**
+	 * Waits for a schedule being loaded by another thread.
+	 *
+	 * @param future {@link CompletableFuture} of the schedule
+	 * @return the loaded {@link Schedule}
+	 */
+	private static Schedule join(CompletableFuture<Schedule> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof Error cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Appointments of one employee overlapping {@code [from, to)}. The tree is guarded by
+	 * the schedule's monitor, as checks and committed writes reach it from different threads.
+	 */
+	private record Schedule(LocalDateTime from, LocalDateTime to, IntervalTree<LocalDateTime> tree) {
+
+		private synchronized void put(Long id, LocalDateTime start, LocalDateTime end) {
+			tree.put(id, start, end);
+		}
+
+		private synchronized void remove(Long id) {
+			tree.remove(id);
+		}
+
+		private synchronized boolean overlaps(LocalDateTime start, LocalDateTime end, Long excludeId) {
+			return tree.overlaps(start, end, excludeId);
+		}
+
+		private synchronized Set<Long> keys() {
+			return Set.copyOf(tree.keys());
+		}
+	}
+}
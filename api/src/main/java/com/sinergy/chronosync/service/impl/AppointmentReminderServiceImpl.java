@@ -0,0 +1,348 @@
+package com.sinergy.chronosync.service.impl;
+
+import com.sinergy.chronosync.dto.response.AppointmentReminderDTO;
+import com.sinergy.chronosync.repository.AppointmentRepository;
+import com.sinergy.chronosync.repository.AppointmentRepository.ReminderDetails;
+import com.sinergy.chronosync.repository.AppointmentRepository.StartTime;
+import com.sinergy.chronosync.repository.SentReminderRepository;
+import com.sinergy.chronosync.service.AppointmentReminderService;
+import com.sinergy.chronosync.service.ReminderChannel;
+import com.sinergy.chronosync.util.TimingWheel;
+import com.sinergy.chronosync.util.TransactionUtils;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service implementation sending reminders a configured time before appointments start.
+ *
+ * <p>Only the reminders due within the next window are held in memory, in a hierarchical
+ * {@link TimingWheel} ticking at a fixed rate. The window is refilled at an interval with
+ * the appointments of all firms starting within its next part, read through the start
+ * time index. Appointments saved or deleted in the meantime update the wheel once their
+ * transaction commits.</p>
+ *
+ * <p>Due reminders are delivered through the configured {@link ReminderChannel} on
+ * virtual threads. Before delivering, the appointment is read again, and a reminder of an
+ * appointment deleted or moved since is dropped. A reminder is claimed in the database
+ * before it is delivered, so reminders reloaded after a restart or claimed by another
+ * instance are sent at most once. A failed delivery releases its claim and is retried
+ * until the appointment starts. On startup, reminders due within the catch-up period
+ * before it are sent late rather than not at all.</p>
+ *
+ * <p>Occurrences of a series are reminded once they are replaced by an appointment.</p>
+ */
+@Slf4j
+@Service
+public class AppointmentReminderServiceImpl implements AppointmentReminderService {
+
+	private static final int WHEEL_SIZE = 64;
+	private static final int WHEEL_LEVELS = 4;
+
+	private final AppointmentRepository appointmentRepository;
+	private final SentReminderRepository sentReminderRepository;
+	private final ReminderChannel reminderChannel;
+	private final List<Duration> offsets;
+	private final Duration window;
+	private final Duration refillInterval;
+	private final Duration catchUp;
+	private final Duration retryDelay;
+	private final Duration retention;
+	private final long tickMillis;
+	private final boolean enabled;
+	private final TimingWheel<Reminder> wheel;
+	private final Map<Long, Set<Reminder>> scheduled = new HashMap<>();
+	private final ScheduledExecutorService scheduler;
+	private final ExecutorService deliveries = Executors.newVirtualThreadPerTaskExecutor();
+	private LocalDateTime loadedUntil;
+
+	/**
+	 * Creates the service. The wheel starts ticking once the application is ready.
+	 *
+	 * @param offsets        {@link List} of {@link Duration} before the start at which reminders are sent
+	 * @param window         {@link Duration} ahead for which reminders are held in memory
+	 * @param refillInterval {@link Duration} between loads of the window, at most the window
+	 * @param tick           {@link Duration} of a tick of the wheel
+	 * @param catchUp        {@link Duration} before startup within which missed reminders are still sent
+	 * @param retryDelay     {@link Duration} after which a failed delivery is retried
+	 * @param retention      {@link Duration} for which sent reminders are remembered
+	 * @param enabled        whether reminders are sent at all
+	 */
+	public AppointmentReminderServiceImpl(
+		AppointmentRepository appointmentRepository,
+		SentReminderRepository sentReminderRepository,
+		ReminderChannel reminderChannel,
+		@Value("${appointment.reminders.offsets:24h,1h}") List<Duration> offsets,
+		@Value("${appointment.reminders.window:6h}") Duration window,
+		@Value("${appointment.reminders.refill-interval:1h}") Duration refillInterval,
+		@Value("${appointment.reminders.tick:1s}") Duration tick,
+		@Value("${appointment.reminders.catch-up:15m}") Duration catchUp,
+		@Value("${appointment.reminders.retry-delay:5m}") Duration retryDelay,
+		@Value("${appointment.reminders.retention:7d}") Duration retention,
+		@Value("${appointment.reminders.enabled:true}") boolean enabled
+	) {
+		this.appointmentRepository = appointmentRepository;
+		this.sentReminderRepository = sentReminderRepository;
+		this.reminderChannel = reminderChannel;
+		this.offsets = List.copyOf(offsets);
+		this.window = window;
+		this.refillInterval = refillInterval;
+		this.catchUp = catchUp;
+		this.retryDelay = retryDelay;
+		this.retention = retention;
+		this.tickMillis = tick.toMillis();
+		this.enabled = enabled;
+
+		if (tickMillis <= 0 || refillInterval.compareTo(window) > 0) {
+			throw new IllegalArgumentException("Reminders need a positive tick and a refill interval within the window.");
+		}
+		this.wheel = new TimingWheel<>(WHEEL_SIZE, WHEEL_LEVELS, toTick(LocalDateTime.now()));
+		if (window.toMillis() / tickMillis >= wheel.getReach()) {
+			throw new IllegalArgumentException("The reminder window is too long for the tick.");
+		}
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(
+			Thread.ofPlatform().name("appointment-reminders").daemon().factory()
+		);
+	}
+
+	/**
+	 * Starts loading the window and ticking the wheel.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void start() {
+		if (!enabled) {
+			return;
+		}
+		scheduler.scheduleAtFixedRate(
+			() -> refill(LocalDateTime.now()), 0, refillInterval.toMillis(), TimeUnit.MILLISECONDS
+		);
+		scheduler.scheduleAtFixedRate(
+			() -> advance(LocalDateTime.now()), tickMillis, tickMillis, TimeUnit.MILLISECONDS
+		);
+	}
+
+	/**
+	 * Stops ticking the wheel and lets the deliveries in progress finish.
+	 */
+	@PreDestroy
+	public void shutdown() {
+		scheduler.shutdownNow();
+		deliveries.shutdown();
+	}
+
+	/**
+	 * Schedules the reminders of a created or updated appointment falling within the window
+	 * once the current transaction commits, replacing the reminders scheduled for its
+	 * previous start.
+	 *
+	 * @param id            {@link Long} ID of the appointment
+	 * @param startDateTime {@link LocalDateTime} start of the appointment
+	 */
+	@Override
+	public void scheduleSaved(Long id, LocalDateTime startDateTime) {
+		if (!enabled) {
+			return;
+		}
+		TransactionUtils.afterCommit(() -> {
+			LocalDateTime now = LocalDateTime.now();
+			synchronized (wheel) {
+				unschedule(id);
+				if (startDateTime == null) {
+					return;
+				}
+				for (Duration offset : offsets) {
+					LocalDateTime due = startDateTime.minus(offset);
+					if (!due.isBefore(now) && due.isBefore(now.plus(window))) {
+						schedule(new Reminder(id, offset, startDateTime), due);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Cancels the scheduled reminders of deleted appointments once the current transaction
+	 * commits.
+	 *
+	 * @param ids {@link Collection} of IDs of the deleted appointments
+	 */
+	@Override
+	public void cancelDeleted(Collection<Long> ids) {
+		if (!enabled || ids.isEmpty()) {
+			return;
+		}
+		List<Long> deleted = List.copyOf(ids);
+		TransactionUtils.afterCommit(() -> {
+			synchronized (wheel) {
+				deleted.forEach(this::unschedule);
+			}
+		});
+	}
+
+	/**
+	 * Loads the reminders due between the end of the previous load and the end of the
+	 * window, and forgets the reminders sent before the retention period. A failed load
+	 * is repeated by the next one.
+	 *
+	 * @param now {@link LocalDateTime} current time
+	 */
+	private void refill(LocalDateTime now) {
+		try {
+			LocalDateTime from = loadedUntil != null ? loadedUntil : now.minus(catchUp);
+			LocalDateTime to = now.plus(window);
+			if (from.isBefore(to)) {
+				for (Duration offset : offsets) {
+					List<StartTime> starts = appointmentRepository.findStartTimes(from.plus(offset), to.plus(offset));
+					synchronized (wheel) {
+						for (StartTime start : starts) {
+							schedule(new Reminder(start.getId(), offset, start.getStartDateTime()), start.getStartDateTime().minus(offset));
+						}
+					}
+				}
+				loadedUntil = to;
+			}
+			sentReminderRepository.deleteBySentAtBefore(now.minus(retention));
+		} catch (RuntimeException e) {
+			log.error("Loading appointment reminders failed.", e);
+		}
+	}
+
+	/**
+	 * Advances the wheel to the current time and delivers the due reminders.
+	 *
+	 * @param now {@link LocalDateTime} current time
+	 */
+	private void advance(LocalDateTime now) {
+		List<Reminder> due;
+		synchronized (wheel) {
+			due = wheel.advance(toTick(now));
+			for (Reminder reminder : due) {
+				Set<Reminder> reminders = scheduled.get(reminder.appointmentId());
+				if (reminders != null && reminders.remove(reminder) && reminders.isEmpty()) {
+					scheduled.remove(reminder.appointmentId());
+				}
+			}
+		}
+		for (Reminder reminder : due) {
+			deliveries.execute(() -> deliver(reminder, now));
+		}
+	}
+
+	/**
+	 * Delivers a reminder unless its appointment was deleted, moved or has started, or the
+	 * reminder was already sent. A failed delivery is scheduled again.
+	 *
+	 * @param reminder {@link Reminder} reminder to deliver
+	 * @param now      {@link LocalDateTime} time the reminder was found due
+	 */
+	private void deliver(Reminder reminder, LocalDateTime now) {
+		try {
+			Optional<ReminderDetails> details = appointmentRepository.findReminderDetails(reminder.appointmentId());
+			if (details.isEmpty()
+				|| !reminder.startDateTime().equals(details.get().getStartDateTime())
+				|| !now.isBefore(reminder.startDateTime())) {
+				return;
+			}
+			long minutesBefore = reminder.offset().toMinutes();
+			if (sentReminderRepository.claim(reminder.appointmentId(), minutesBefore, reminder.startDateTime(), now) == 0) {
+				return;
+			}
+			try {
+				reminderChannel.deliver(toReminderDTO(details.get(), minutesBefore));
+			} catch (IOException | RuntimeException e) {
+				log.warn("Delivering the reminder of appointment {} failed.", reminder.appointmentId(), e);
+				sentReminderRepository.release(reminder.appointmentId(), minutesBefore, reminder.startDateTime());
+				LocalDateTime retryAt = now.plus(retryDelay);
+				if (retryAt.isBefore(reminder.startDateTime())) {
+					synchronized (wheel) {
+						schedule(reminder, retryAt);
+					}
+				}
+			}
+		} catch (RuntimeException e) {
+			log.error("Sending the reminder of appointment {} failed.", reminder.appointmentId(), e);
+		}
+	}
+
+	/**
+	 * Puts a reminder on the wheel. Must be called holding the wheel's lock.
+	 *
+	 * @param reminder {@link Reminder} reminder to schedule
+	 * @param due      {@link LocalDateTime} time the reminder is due
+	 */
+	private void schedule(Reminder reminder, LocalDateTime due) {
+		if (wheel.schedule(reminder, toTick(due))) {
+			scheduled.computeIfAbsent(reminder.appointmentId(), id -> new HashSet<>()).add(reminder);
+		}
+	}
+
+	/**
+	 * Takes the reminders of an appointment off the wheel. Must be called holding the
+	 * wheel's lock.
+	 *
+	 * @param id {@link Long} ID of the appointment
+	 */
+	private void unschedule(Long id) {
+		Set<Reminder> reminders = scheduled.remove(id);
+		if (reminders != null) {
+			reminders.forEach(wheel::cancel);
+		}
+	}
+
+	/**
+	 * Converts a time to the tick of the wheel it falls into.
+	 *
+	 * @param time {@link LocalDateTime} time to convert
+	 * @return tick of the time
+	 */
+	private long toTick(LocalDateTime time) {
+		return Math.floorDiv(time.toInstant(ZoneOffset.UTC).toEpochMilli(), tickMillis);
+	}
+
+	private static AppointmentReminderDTO toReminderDTO(ReminderDetails details, long minutesBefore) {
+		return new AppointmentReminderDTO(
+			details.getId(),
+			details.getFirmId(),
+			minutesBefore,
+			details.getStartDateTime(),
+			details.getEndDateTime(),
+			details.getNote(),
+			details.getAppointmentTypeName(),
+			details.getClientFirstName(),
+			details.getClientLastName(),
+			details.getClientEmail(),
+			details.getEmployeeFirstName(),
+			details.getEmployeeLastName()
+		);
+	}
+
+	/**
+	 * Reminder given a time before an appointment starting at a time. A moved appointment
+	 * gets new reminders, and those of its previous start are dropped when due.
+	 *
+	 * @param appointmentId {@link Long} ID of the appointment
+	 * @param offset        {@link Duration} before the start at which the reminder is sent
+	 * @param startDateTime {@link LocalDateTime} start of the appointment
+	 */
+	private record Reminder(Long appointmentId, Duration offset, LocalDateTime startDateTime) {
+	}
+}
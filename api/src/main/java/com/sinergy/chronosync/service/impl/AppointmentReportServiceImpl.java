@@ -0,0 +1,208 @@
+package com.sinergy.chronosync.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sinergy.chronosync.dto.request.AppointmentReportRequestDTO;
+import com.sinergy.chronosync.dto.request.ReportDimension;
+import com.sinergy.chronosync.dto.request.ReportPeriod;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.model.appointmentType.Currency;
+import com.sinergy.chronosync.repository.AppointmentReportRepository;
+import com.sinergy.chronosync.repository.AppointmentRepository;
+import com.sinergy.chronosync.service.AppointmentReportService;
+import com.sinergy.chronosync.service.ExchangeRateService;
+import com.sinergy.chronosync.service.SecurityContextService;
+import com.sinergy.chronosync.util.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+/**
+ * Service implementation for reporting on appointments.
+ *
+ * <p>Reports are aggregated by the database and written as one JSON object holding the
+ * column names once and every row as a plain array, which keeps the response compact.
+ * Rows are written as they are read from a forward-only cursor. The object also states
+ * that the prices are those at the time the appointments were written.</p>
+ *
+ * <p>Revenue is the sum of the prices the appointments were written with and is reported per
+ * currency, since prices in different currencies cannot be added up. When a currency is
+ * requested, the firm's cached exchange rates are read once and every row is converted as
+ * it streams past. Rows differing only in currency arrive next to each other and are
+ * merged, adding their converted amounts as whole minor units.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class AppointmentReportServiceImpl implements AppointmentReportService {
+
+	private final AppointmentRepository appointmentRepository;
+	private final SecurityContextService securityContextService;
+	private final ExchangeRateService exchangeRateService;
+	private final PlatformTransactionManager transactionManager;
+	private final ObjectMapper objectMapper;
+
+	@Value("${report.fetch-size:500}")
+	private int fetchSize;
+
+	/**
+	 * Prepares a report of the authenticated user's firm appointments.
+	 *
+	 * @param request {@link AppointmentReportRequestDTO} range, grouping and period
+	 * @return {@link StreamingResponseBody} writing the report
+	 * @throws InvalidStateException if the range is missing or empty, or a currency of the
+	 *                               firm has no exchange rate into the requested currency
+	 */
+	@Override
+	public StreamingResponseBody reportAppointments(AppointmentReportRequestDTO request) {
+		if (request.getFrom() == null || request.getTo() == null || !request.getFrom().isBefore(request.getTo())) {
+			throw new InvalidStateException("Report range must have a start before its end.");
+		}
+
+		Long firmId = securityContextService.getAuthUserFirm().getId();
+		List<ReportDimension> groupBy = request.getGroupBy() != null
+			? List.copyOf(new LinkedHashSet<>(request.getGroupBy()))
+			: List.of();
+		ReportPeriod period = request.getPeriod() != null ? request.getPeriod() : ReportPeriod.MONTH;
+		Currency target = request.getCurrency();
+		Map<Currency, BigDecimal> rates = target != null ? exchangeRateService.getRatesInto(firmId, target) : null;
+
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setReadOnly(true);
+
+		return outputStream -> transactionTemplate.executeWithoutResult(status -> {
+			try (
+				Stream<Object[]> rows = appointmentRepository.streamReport(
+					firmId, request.getFrom(), request.getTo(), groupBy, period, fetchSize
+				);
+				JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)
+			) {
+				generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+				writeReport(
+					generator,
+					groupBy,
+					target != null ? convert(rows.iterator(), groupBy.size(), target, rates) : rows.iterator()
+				);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+	}
+
+	/**
+	 * Writes the pricing, the column names and the rows.
+	 *
+	 * @param generator {@link JsonGenerator} writing the response body
+	 * @param groupBy   {@link List} of {@link ReportDimension} leading each row
+	 * @param rows      {@link Iterator} of rows to write
+	 * @throws IOException if writing to the client fails
+	 */
+	private void writeReport(
+		JsonGenerator generator,
+		List<ReportDimension> groupBy,
+		Iterator<Object[]> rows
+	) throws IOException {
+		generator.writeStartObject();
+		generator.writeStringField("prices", "written");
+		generator.writeArrayFieldStart("columns");
+		for (ReportDimension dimension : groupBy) {
+			generator.writeString(dimension.getColumnName());
+		}
+		for (String column : AppointmentReportRepository.MEASURE_COLUMNS) {
+			generator.writeString(column);
+		}
+		generator.writeEndArray();
+
+		generator.writeArrayFieldStart("rows");
+		while (rows.hasNext()) {
+			objectMapper.writeValue(generator, rows.next());
+		}
+		generator.writeEndArray();
+		generator.writeEndObject();
+	}
+
+	/**
+	 * Converts the revenue of every row into one currency, merging rows that only differ
+	 * in currency. Counts and minutes are added up and the ratios computed again.
+	 *
+	 * @param rows       {@link Iterator} of rows ordered by their dimensions and currency
+	 * @param dimensions number of dimensions leading each row
+	 * @param target     {@link Currency} to convert into
+	 * @param rates      {@link Map} of currency to the amount of the target currency one major unit of it buys
+	 * @return {@link Iterator} of converted rows
+	 */
+	private static Iterator<Object[]> convert(
+		Iterator<Object[]> rows,
+		int dimensions,
+		Currency target,
+		Map<Currency, BigDecimal> rates
+	) {
+		return new Iterator<>() {
+			private Object[] pending = rows.hasNext() ? rows.next() : null;
+
+			@Override
+			public boolean hasNext() {
+				return pending != null;
+			}
+
+			@Override
+			public Object[] next() {
+				if (pending == null) {
+					throw new NoSuchElementException();
+				}
+				Object[] merged = pending.clone();
+				merged[dimensions] = target;
+				merged[dimensions + 6] = convert((Money) pending[dimensions + 6], target, rates);
+				merged[dimensions + 7] = convert((Money) pending[dimensions + 7], target, rates);
+				pending = rows.hasNext() ? rows.next() : null;
+				while (pending != null && Arrays.equals(merged, 0, dimensions, pending, 0, dimensions)) {
+					for (int column : new int[]{1, 2, 3, 8}) {
+						merged[dimensions + column] = (Long) merged[dimensions + column] + (Long) pending[dimensions + column];
+					}
+					for (int column : new int[]{6, 7}) {
+						merged[dimensions + column] = ((Money) merged[dimensions + column])
+							.plus(convert((Money) pending[dimensions + column], target, rates));
+					}
+					pending = rows.hasNext() ? rows.next() : null;
+				}
+				long appointments = (Long) merged[dimensions + 1];
+				merged[dimensions + 4] = appointments > 0 ? (Long) merged[dimensions + 2] * 1.0 / appointments : 0.0;
+				merged[dimensions + 5] = appointments > 0 ? (Long) merged[dimensions + 3] * 1.0 / appointments : 0.0;
+				return merged;
+			}
+		};
+	}
+
+	/**
+	 * Converts an amount into the target currency.
+	 *
+	 * @param amount {@link Money} to convert, or {@code null} for none
+	 * @param target {@link Currency} to convert into
+	 * @param rates  {@link Map} of currency to the amount of the target currency one major unit of it buys
+	 * @return {@link Money} in the target currency, zero for none
+	 * @throws InvalidStateException if the amount's currency has no rate into the target
+	 */
+	private static Money convert(Money amount, Currency target, Map<Currency, BigDecimal> rates) {
+		if (amount == null) {
+			return new Money(0, target);
+		}
+		BigDecimal rate = rates.get(amount.currency());
+		if (rate == null) {
+			throw new InvalidStateException("No exchange rate from " + amount.currency() + " into " + target + ".");
+		}
+		return amount.convert(target, rate);
+	}
+}
@@ -0,0 +1,225 @@
+package com.sinergy.chronosync.service.impl;
+
+import com.sinergy.chronosync.repository.AppointmentDailyRollupRepository;
+import com.sinergy.chronosync.repository.AppointmentDailyRollupRepository.Delta;
+import com.sinergy.chronosync.repository.FirmRepository;
+import com.sinergy.chronosync.service.AppointmentRollupService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service implementation maintaining the daily appointment rollups of firms.
+ *
+ * <p>Appointment changes are applied to the rollups in the transaction that writes them:
+ * the touched appointments are summed per rollup in one query and each sum is added to its
+ * rollup in one statement, so a change costs a few statements however many appointments
+ * a rollup holds. An update subtracts the appointments before writing them and adds them
+ * again afterwards, which moves them between rollups when their day, employee or
+ * appointment type changes.</p>
+ *
+ * <p>Revenue is summed from the price stored on each appointment when it was written, so
+ * subtracting an appointment removes exactly what adding it contributed, whatever happened
+ * to its appointment type in between.</p>
+ *
+ * <p>A reconciliation job rebuilds the rollups of each firm's recent days from its
+ * appointments at an interval, starting when the application is ready. It repairs drift
+ * from writes that bypassed the services; older rollups are left as the writes maintained
+ * them. A rebuild racing an appointment change may fail on the unique constraint or a
+ * lock, and is retried.</p>
+ */
+@Slf4j
+@Service
+public class AppointmentRollupServiceImpl implements AppointmentRollupService {
+
+	private final AppointmentDailyRollupRepository appointmentDailyRollupRepository;
+	private final FirmRepository firmRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final Duration reconcileInterval;
+	private final Duration reconcileWindow;
+	private final int reconcileAttempts;
+	private final ScheduledExecutorService scheduler;
+
+	/**
+	 * Creates the service. Reconciliation starts once the application is ready.
+	 *
+	 * @param transactionManager {@link PlatformTransactionManager} running each rebuild
+	 * @param reconcileInterval  {@link Duration} between reconciliations, or zero to never reconcile
+	 * @param reconcileWindow    {@link Duration} of past days rebuilt by each reconciliation
+	 * @param reconcileAttempts  number of times the rebuild of a firm is attempted
+	 */
+	public AppointmentRollupServiceImpl(
+		AppointmentDailyRollupRepository appointmentDailyRollupRepository,
+		FirmRepository firmRepository,
+		PlatformTransactionManager transactionManager,
+		@Value("${appointment.rollups.reconcile-interval:24h}") Duration reconcileInterval,
+		@Value("${appointment.rollups.reconcile-window:30d}") Duration reconcileWindow,
+		@Value("${appointment.rollups.reconcile-attempts:3}") int reconcileAttempts
+	) {
+		this.appointmentDailyRollupRepository = appointmentDailyRollupRepository;
+		this.firmRepository = firmRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setPropagationBehavior(TransactionTemplate.PROPAGATION_REQUIRES_NEW);
+		this.reconcileInterval = reconcileInterval;
+		this.reconcileWindow = reconcileWindow;
+		this.reconcileAttempts = Math.max(1, reconcileAttempts);
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(
+			Thread.ofPlatform().name("appointment-rollups").daemon().factory()
+		);
+	}
+
+	/**
+	 * Starts reconciling the rollups of all firms.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void start() {
+		if (reconcileInterval.isZero() || reconcileInterval.isNegative()) {
+			return;
+		}
+		scheduler.scheduleWithFixedDelay(
+			this::reconcileAll, 0, reconcileInterval.toMillis(), TimeUnit.MILLISECONDS
+		);
+	}
+
+	/**
+	 * Stops reconciling.
+	 */
+	@PreDestroy
+	public void shutdown() {
+		scheduler.shutdownNow();
+	}
+
+	/**
+	 * Adds appointments to the rollups of their days.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @param ids    {@link Collection} of IDs of the appointments
+	 */
+	@Override
+	@Transactional
+	public void addAppointments(Long firmId, Collection<Long> ids) {
+		apply(firmId, ids, 1);
+	}
+
+	/**
+	 * Subtracts appointments from the rollups of their days.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @param ids    {@link Collection} of IDs of the appointments
+	 */
+	@Override
+	@Transactional
+	public void subtractAppointments(Long firmId, Collection<Long> ids) {
+		apply(firmId, ids, -1);
+	}
+
+	/**
+	 * Deletes the rollups of a firm from the first day of the reconciliation window on and
+	 * computes them again, in a transaction of its own.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @return number of rollups written
+	 */
+	@Override
+	public int reconcile(Long firmId) {
+		LocalDate from = LocalDate.now().minusDays(reconcileWindow.toDays());
+		Integer written = transactionTemplate.execute(status -> {
+			appointmentDailyRollupRepository.deleteByFirmIdAndRollupDateGreaterThanEqual(firmId, from);
+			return appointmentDailyRollupRepository.rebuild(firmId, from.atStartOfDay());
+		});
+		return written != null ? written : 0;
+	}
+
+	/**
+	 * Reconciles the rollups of every firm, one firm at a time. A firm whose rebuild keeps
+	 * failing is skipped until the next run.
+	 */
+	private void reconcileAll() {
+		try {
+			int firms = 0;
+			int rollups = 0;
+			for (Long firmId : firmRepository.findAllIds()) {
+				for (int attempt = 1; attempt <= reconcileAttempts; attempt++) {
+					try {
+						rollups += reconcile(firmId);
+						firms++;
+						break;
+					} catch (ConcurrencyFailureException | DataIntegrityViolationException e) {
+						if (attempt == reconcileAttempts) {
+							log.warn("Reconciling the appointment rollups of firm {} failed.", firmId, e);
+						}
+					}
+				}
+			}
+			log.info("Reconciled {} appointment rollups of {} firms.", rollups, firms);
+		} catch (RuntimeException e) {
+			log.error("Reconciling appointment rollups failed.", e);
+		}
+	}
+
+	/**
+	 * Adds the sums of appointments to their rollups. A rollup is created when missing;
+	 * if another transaction creates it first, the sum is added to that rollup instead.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @param ids    {@link Collection} of IDs of the appointments
+	 * @param sign   {@code 1} to add the appointments, {@code -1} to subtract them
+	 */
+	private void apply(Long firmId, Collection<Long> ids, int sign) {
+		if (ids.isEmpty()) {
+			return;
+		}
+		for (Delta delta : appointmentDailyRollupRepository.sumAppointments(firmId, ids)) {
+			if (add(firmId, delta, sign) == 0 && create(firmId, delta, sign) == 0) {
+				add(firmId, delta, sign);
+			}
+		}
+	}
+
+	private int add(Long firmId, Delta delta, int sign) {
+		return appointmentDailyRollupRepository.add(
+			firmId,
+			delta.getRollupDate(),
+			delta.getEmployeeId(),
+			delta.getAppointmentTypeId(),
+			delta.getCurrency(),
+			sign * delta.getBookings(),
+			sign * delta.getMinutes(),
+			sign * delta.getRevenueMinorUnits(),
+			sign * delta.getPaidRevenueMinorUnits(),
+			sign * delta.getAttended(),
+			sign * delta.getPaid()
+		);
+	}
+
+	private int create(Long firmId, Delta delta, int sign) {
+		return appointmentDailyRollupRepository.create(
+			firmId,
+			delta.getRollupDate(),
+			delta.getEmployeeId(),
+			delta.getAppointmentTypeId(),
+			delta.getCurrency(),
+			sign * delta.getBookings(),
+			sign * delta.getMinutes(),
+			sign * delta.getRevenueMinorUnits(),
+			sign * delta.getPaidRevenueMinorUnits(),
+			sign * delta.getAttended(),
+			sign * delta.getPaid()
+		);
+	}
+}
@@ -0,0 +1,421 @@
+package com.sinergy.chronosync.service.impl;
+
+import com.sinergy.chronosync.builder.AppointmentFilterBuilder;
+import com.sinergy.chronosync.builder.AppointmentSeriesFilterBuilder;
+import com.sinergy.chronosync.dto.request.AppointmentSeriesRequestDTO;
+import com.sinergy.chronosync.dto.request.CalendarRequestDTO;
+import com.sinergy.chronosync.dto.request.SeriesOccurrenceRequestDTO;
+import com.sinergy.chronosync.dto.response.AppointmentEventDTO;
+import com.sinergy.chronosync.dto.response.CalendarEntryDTO;
+import com.sinergy.chronosync.exception.ConflictException;
+import com.sinergy.chronosync.exception.EntityNotFoundException;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.model.Appointment;
+import com.sinergy.chronosync.model.Firm;
+import com.sinergy.chronosync.model.series.AppointmentSeries;
+import com.sinergy.chronosync.model.series.CancelledOccurrence;
+import com.sinergy.chronosync.model.user.User;
+import com.sinergy.chronosync.model.user.UserRole;
+import com.sinergy.chronosync.repository.AppointmentRepository;
+import com.sinergy.chronosync.repository.AppointmentSeriesRepository;
+import com.sinergy.chronosync.repository.AppointmentTypeRepository;
+import com.sinergy.chronosync.repository.CancelledOccurrenceRepository;
+import com.sinergy.chronosync.repository.ClientRepository;
+import com.sinergy.chronosync.repository.UserRepository;
+import com.sinergy.chronosync.service.AppointmentEventService;
+import com.sinergy.chronosync.service.AppointmentOverlapService;
+import com.sinergy.chronosync.service.AppointmentReminderService;
+import com.sinergy.chronosync.service.AppointmentRollupService;
+import com.sinergy.chronosync.service.AppointmentSeriesService;
+import com.sinergy.chronosync.service.BusySlotService;
+import com.sinergy.chronosync.service.OccurrenceService;
+import com.sinergy.chronosync.service.SearchResultCacheService;
+import com.sinergy.chronosync.service.SearchResultCacheService.Entity;
+import com.sinergy.chronosync.service.SecurityContextService;
+import com.sinergy.chronosync.util.DateTimeUtils;
+import com.sinergy.chronosync.util.IntervalTree;
+import com.sinergy.chronosync.util.MergingIterator;
+import com.sinergy.chronosync.util.RecurrenceRule;
+import com.sinergy.chronosync.util.ZoneOffsets;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Service implementation for managing recurring appointments.
+ *
+ * <p>A series stores only its first occurrence and recurrence rule. A moved occurrence
+ * is replaced by an appointment linked to the series, and a cancelled occurrence is
+ * stored as a {@link CancelledOccurrence}; every other occurrence is generated when read.</p>
+ *
+ * <p>The daily rollups of the firm sum stored appointments only, so an occurrence counts
+ * towards them once it is moved.</p>
+ *
+ * <p>Calendar reads stream the stored appointments of the range from a cursor ordered by
+ * start and merge them with the occurrences generated for the range, so neither side is
+ * sorted in memory.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class AppointmentSeriesServiceImpl implements AppointmentSeriesService {
+
+	private static final String NOT_FOUND_MESSAGE = "Appointment series does not exist.";
+	private static final Sort CALENDAR_ORDER = Sort.by("startDateTime", "id");
+
+	private final AppointmentSeriesRepository appointmentSeriesRepository;
+	private final CancelledOccurrenceRepository cancelledOccurrenceRepository;
+	private final AppointmentRepository appointmentRepository;
+	private final UserRepository userRepository;
+	private final ClientRepository clientRepository;
+	private final AppointmentTypeRepository appointmentTypeRepository;
+	private final SecurityContextService securityContextService;
+	private final OccurrenceService occurrenceService;
+	private final AppointmentOverlapService appointmentOverlapService;
+	private final AppointmentEventService appointmentEventService;
+	private final BusySlotService busySlotService;
+	private final AppointmentReminderService appointmentReminderService;
+	private final AppointmentRollupService appointmentRollupService;
+	private final SearchResultCacheService searchResultCacheService;
+
+	@Value("${appointment.series.check-days:90}")
+	private int checkDays;
+
+	@Value("${appointment.calendar.max-days:62}")
+	private int maxCalendarDays;
+
+	@Value("${export.fetch-size:500}")
+	private int fetchSize;
+
+	/**
+	 * Creates an appointment series in the current user's firm. The occurrences within
+	 * the configured number of days from the start are checked against the employee's
+	 * appointments and other series.
+	 *
+	 * @param requestDto {@link AppointmentSeriesRequestDTO} containing series details
+	 * @return {@link AppointmentSeries} representing the saved series
+	 * @throws InvalidStateException   if the range or the recurrence rule is invalid
+	 * @throws EntityNotFoundException if the employee, client or appointment type does not exist within the firm
+	 * @throws ConflictException       if an occurrence overlaps another appointment of the employee
+	 */
+	@Override
+	@Transactional
+	public AppointmentSeries createSeries(AppointmentSeriesRequestDTO requestDto) {
+		LocalDateTime start = requestDto.getStartDateTime();
+		LocalDateTime end = requestDto.getEndDateTime();
+		if (start == null || end == null || !start.isBefore(end)) {
+			throw new InvalidStateException("Series start must be before its end.");
+		}
+		RecurrenceRule rule = parse(requestDto.getRecurrenceRule());
+		if (!rule.isOccurrence(start, start)) {
+			throw new InvalidStateException("Series start must be an occurrence of its recurrence rule.");
+		}
+
+		Firm firm = securityContextService.getAuthUserFirm();
+		Long employeeId = requestDto.getEmployee() != null ? requestDto.getEmployee().getId() : null;
+		if (employeeId != null) {
+			if (userRepository.findIdsByFirmIdAndIdIn(firm.getId(), List.of(employeeId)).isEmpty()) {
+				throw new EntityNotFoundException("Employee does not exist.");
+			}
+			checkAvailable(employeeId, start, Duration.between(start, end), rule);
+		}
+		if (requestDto.getClient() != null
+			&& clientRepository.findIdsByFirmIdAndIdIn(firm.getId(), List.of(requestDto.getClient().getId())).isEmpty()) {
+			throw new EntityNotFoundException("Client does not exist.");
+		}
+		if (requestDto.getAppointmentType() != null
+			&& appointmentTypeRepository.findIdsByFirmIdAndIdIn(
+				firm.getId(),
+				List.of(requestDto.getAppointmentType().getId())
+			).isEmpty()) {
+			throw new EntityNotFoundException("Appointment type does not exist.");
+		}
+
+		LocalDateTime lastStart = rule.lastStart(start);
+		AppointmentSeries series = appointmentSeriesRepository.create(requestDto.toModel(
+			rule.toString(),
+			lastStart != null ? lastStart.plus(Duration.between(start, end)) : null,
+			firm
+		));
+		if (employeeId != null) {
+			busySlotService.evictEmployees(List.of(employeeId));
+		}
+		return series;
+	}
+
+	/**
+	 * Deletes appointment series of the current user's firm with set-based statements.
+	 * Appointments that replaced moved occurrences are kept as single appointments.
+	 * If fewer series are deleted than IDs were given, the transaction is rolled back.
+	 *
+	 * @param ids {@link List} of IDs of the series to delete
+	 * @throws EntityNotFoundException if any of the series does not exist within the firm
+	 */
+	@Override
+	@Transactional
+	public void deleteSeries(List<Long> ids) {
+		Long firmId = securityContextService.getAuthUserFirm().getId();
+		Set<Long> distinctIds = new HashSet<>(ids);
+		List<Long> employeeIds = appointmentSeriesRepository.findEmployeeIdsByFirmIdAndIdIn(firmId, distinctIds);
+
+		cancelledOccurrenceRepository.deleteBySeriesIdIn(distinctIds);
+		appointmentRepository.detachFromSeries(distinctIds, LocalDateTime.now());
+		if (appointmentSeriesRepository.deleteByFirmIdAndIdIn(firmId, distinctIds) != distinctIds.size()) {
+			throw new EntityNotFoundException(NOT_FOUND_MESSAGE);
+		}
+		busySlotService.evictEmployees(employeeIds);
+	}
+
+	/**
+	 * Replaces one occurrence of a series with an appointment. Fields missing from the
+	 * request are taken from the series and the original occurrence. The new appointment is
+	 * pushed to the firm's connected clients once the transaction commits.
+	 *
+	 * @param requestDto {@link SeriesOccurrenceRequestDTO} identifying the occurrence and its changes
+	 * @return {@link Appointment} replacing the occurrence
+	 * @throws EntityNotFoundException if the series does not exist within the firm
+	 * @throws InvalidStateException   if the series has no such occurrence or the new range is invalid
+	 * @throws ConflictException       if the occurrence was already moved or cancelled, or the employee is not free
+	 */
+	@Override
+	@Transactional
+	public Appointment moveOccurrence(SeriesOccurrenceRequestDTO requestDto) {
+		Firm firm = securityContextService.getAuthUserFirm();
+		AppointmentSeries series = findOccurrence(firm, requestDto.getSeriesId(), requestDto.getOccurrenceStartDateTime());
+
+		LocalDateTime occurrenceStart = requestDto.getOccurrenceStartDateTime();
+		LocalDateTime start = requestDto.getStartDateTime() != null ? requestDto.getStartDateTime() : occurrenceStart;
+		LocalDateTime end = requestDto.getEndDateTime() != null
+			? requestDto.getEndDateTime()
+			: start.plus(Duration.between(series.getStartDateTime(), series.getEndDateTime()));
+		if (!start.isBefore(end)) {
+			throw new InvalidStateException("Appointment start must be before its end.");
+		}
+
+		Appointment appointment;
+		try {
+			appointment = appointmentRepository.create(Appointment.builder()
+				.note(requestDto.getNote() != null ? requestDto.getNote() : series.getNote())
+				.startDateTime(start)
+				.endDateTime(end)
+				.isPaid(requestDto.getIsPaid())
+				.isAttended(requestDto.getIsAttended())
+				.employee(series.getEmployee())
+				.client(series.getClient())
+				.appointmentType(series.getAppointmentType())
+				.firm(firm)
+				.series(series)
+				.occurrenceStartDateTime(occurrenceStart)
+				.build());
+		} catch (DataIntegrityViolationException e) {
+			throw new ConflictException("Occurrence was already moved.");
+		}
+
+		Long employeeId = series.getEmployee() != null ? series.getEmployee().getId() : null;
+		appointmentOverlapService.checkAvailable(employeeId, start, end, appointment.getId());
+		appointmentRepository.snapshotPrices(firm.getId(), List.of(appointment.getId()));
+		appointmentRollupService.addAppointments(firm.getId(), List.of(appointment.getId()));
+		appointmentOverlapService.indexSaved(appointment.getId(), employeeId, start, end);
+		busySlotService.evictSaved(appointment.getId(), employeeId);
+		appointmentReminderService.scheduleSaved(appointment.getId(), start);
+		appointmentEventService.publish(firm.getId(), AppointmentEventDTO.Type.CREATED, List.of(appointment.getId()));
+		searchResultCacheService.invalidate(firm.getId(), Entity.APPOINTMENT);
+		return appointment;
+	}
+
+	/**
+	 * Cancels one occurrence of a series.
+	 *
+	 * @param seriesId                {@link Long} ID of the series
+	 * @param occurrenceStartDateTime {@link LocalDateTime} original start of the occurrence
+	 * @throws EntityNotFoundException if the series does not exist within the firm
+	 * @throws InvalidStateException   if the series has no such occurrence
+	 * @throws ConflictException       if the occurrence was already moved or cancelled
+	 */
+	@Override
+	@Transactional
+	public void cancelOccurrence(Long seriesId, LocalDateTime occurrenceStartDateTime) {
+		Firm firm = securityContextService.getAuthUserFirm();
+		AppointmentSeries series = findOccurrence(firm, seriesId, occurrenceStartDateTime);
+
+		try {
+			cancelledOccurrenceRepository.create(CancelledOccurrence.builder()
+				.series(series)
+				.occurrenceStartDateTime(occurrenceStartDateTime)
+				.firm(firm)
+				.build());
+		} catch (DataIntegrityViolationException e) {
+			throw new ConflictException("Occurrence was already cancelled.");
+		}
+		if (series.getEmployee() != null) {
+			busySlotService.evictEmployees(List.of(series.getEmployee().getId()));
+		}
+	}
+
+	/**
+	 * Retrieves the appointments and series occurrences overlapping a time range. Employees
+	 * only see their own calendar; managers and administrators see the requested employees,
+	 * or the whole firm. A range in the firm's time zone is converted to UTC, and the entries
+	 * are converted back in one pass over the offsets of the range.
+	 *
+	 * @param request {@link CalendarRequestDTO} employees and range to return
+	 * @return {@link List} of {@link CalendarEntryDTO} ordered by start
+	 * @throws InvalidStateException if the range is missing, empty or too long
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public List<CalendarEntryDTO> getCalendar(CalendarRequestDTO request) {
+		LocalDateTime from = request.getFrom();
+		LocalDateTime to = request.getTo();
+		if (from == null || to == null || !from.isBefore(to) || from.plusDays(maxCalendarDays).isBefore(to)) {
+			throw new InvalidStateException("Calendar range must have a start before its end and span at most " + maxCalendarDays + " days.");
+		}
+
+		ZoneId timeZone = Boolean.TRUE.equals(request.getInFirmTimeZone()) ? securityContextService.getAuthUserTimeZone() : null;
+		if (timeZone != null) {
+			from = DateTimeUtils.convertFromZoneToUtc(from, timeZone);
+			to = DateTimeUtils.convertFromZoneToUtc(to, timeZone);
+		}
+
+		User authUser = securityContextService.getAuthUser();
+		Firm firm = securityContextService.getAuthUserFirm();
+		boolean ownOnly = authUser.getRole() != UserRole.MANAGER && authUser.getRole() != UserRole.ADMINISTRATOR;
+		User employee = ownOnly ? authUser : null;
+		List<Long> employeeIds = ownOnly ? null : request.getEmployeeIds();
+
+		List<CalendarEntryDTO> firstOccurrences = appointmentSeriesRepository.findAllProjected(
+			AppointmentSeriesFilterBuilder.builder()
+				.firm(firm)
+				.employee(employee)
+				.employeeIds(employeeIds)
+				.activeFrom(from)
+				.activeTo(to)
+				.build()
+				.toSpecification(),
+			CalendarEntryDTO.SERIES_PROJECTION,
+			Pageable.unpaged()
+		).getContent();
+		Map<Long, CalendarEntryDTO> seriesById = firstOccurrences.stream()
+			.collect(Collectors.toMap(CalendarEntryDTO::seriesId, Function.identity()));
+		Iterator<CalendarEntryDTO> occurrences = map(
+			occurrenceService.expand(firstOccurrences.stream().map(CalendarEntryDTO::toRecurrence).toList(), from, to),
+			occurrence -> seriesById.get(occurrence.seriesId()).at(occurrence)
+		);
+
+		try (Stream<CalendarEntryDTO> appointments = appointmentRepository.streamAllProjected(
+			AppointmentFilterBuilder.builder()
+				.firm(firm)
+				.employee(employee)
+				.employeeIds(employeeIds)
+				.endDateTimeAfter(from)
+				.startDateTimeTo(to)
+				.build()
+				.toSpecification(),
+			CalendarEntryDTO.PROJECTION,
+			CALENDAR_ORDER,
+			fetchSize
+		)) {
+			List<CalendarEntryDTO> entries = new ArrayList<>();
+			new MergingIterator<>(
+				List.of(appointments.iterator(), occurrences),
+				Comparator.comparing(CalendarEntryDTO::startDateTime)
+			).forEachRemaining(entries::add);
+			if (timeZone != null) {
+				ZoneOffsets offsets = ZoneOffsets.covering(timeZone, from, to);
+				entries.replaceAll(entry -> entry.inZone(offsets));
+			}
+			return entries;
+		}
+	}
+
+	/**
+	 * Looks up a series of a firm and checks that it has an occurrence at the given start
+	 * that was neither moved nor cancelled.
+	 *
+	 * @param firm                    {@link Firm} of the current user
+	 * @param seriesId                {@link Long} ID of the series
+	 * @param occurrenceStartDateTime {@link LocalDateTime} original start of the occurrence
+	 * @return the {@link AppointmentSeries}
+	 */
+	private AppointmentSeries findOccurrence(Firm firm, Long seriesId, LocalDateTime occurrenceStartDateTime) {
+		AppointmentSeries series = seriesId == null ? null
+			: appointmentSeriesRepository.findByFirmIdAndId(firm.getId(), seriesId).orElse(null);
+		if (series == null) {
+			throw new EntityNotFoundException(NOT_FOUND_MESSAGE);
+		}
+		if (occurrenceStartDateTime == null
+			|| !parse(series.getRecurrenceRule()).isOccurrence(series.getStartDateTime(), occurrenceStartDateTime)) {
+			throw new InvalidStateException("The series has no occurrence starting at this time.");
+		}
+		if (appointmentRepository.existsBySeriesIdAndOccurrenceStartDateTime(seriesId, occurrenceStartDateTime)
+			|| cancelledOccurrenceRepository.existsBySeriesIdAndOccurrenceStartDateTime(seriesId, occurrenceStartDateTime)) {
+			throw new ConflictException("Occurrence was already moved or cancelled.");
+		}
+		return series;
+	}
+
+	/**
+	 * Checks the occurrences of a new series within the checked days against the
+	 * employee's appointments and other series, loaded with one lookup.
+	 *
+	 * @param employeeId {@link Long} ID of the employee
+	 * @param start      {@link LocalDateTime} start of the first occurrence
+	 * @param duration   {@link Duration} of every occurrence
+	 * @param rule       {@link RecurrenceRule} of the series
+	 * @throws ConflictException if an occurrence overlaps another appointment of the employee
+	 */
+	private void checkAvailable(Long employeeId, LocalDateTime start, Duration duration, RecurrenceRule rule) {
+		LocalDateTime checkEnd = start.plusDays(checkDays);
+		IntervalTree<LocalDateTime> schedule = appointmentOverlapService
+			.loadSchedules(List.of(employeeId), start, checkEnd.plus(duration))
+			.get(employeeId);
+		if (schedule == null) {
+			return;
+		}
+		for (Iterator<LocalDateTime> starts = rule.startsFrom(start, start); starts.hasNext(); ) {
+			LocalDateTime occurrenceStart = starts.next();
+			if (!occurrenceStart.isBefore(checkEnd)) {
+				return;
+			}
+			if (schedule.overlaps(occurrenceStart, occurrenceStart.plus(duration), null)) {
+				throw new ConflictException("Employee already has an appointment at "
+					+ occurrenceStart.truncatedTo(ChronoUnit.MINUTES) + ".");
+			}
+		}
+	}
+
+	private static RecurrenceRule parse(String recurrenceRule) {
+		try {
+			return RecurrenceRule.parse(recurrenceRule);
+		} catch (IllegalArgumentException e) {
+			throw new InvalidStateException(e.getMessage());
+		}
+	}
+
+	private static <T, R> Iterator<R> map(Iterator<T> source, Function<T, R> mapper) {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(source, Spliterator.ORDERED), false)
+			.map(mapper)
+			.iterator();
+	}
+}
@@ -2,51 +2,101 @@ package com.sinergy.chronosync.service.impl;
 
 import com.sinergy.chronosync.builder.AppointmentFilterBuilder;
 import com.sinergy.chronosync.dto.request.AppointmentRequestDTO;
+import com.sinergy.chronosync.dto.response.AppointmentEventDTO;
+import com.sinergy.chronosync.dto.response.AppointmentSearchResponseDTO;
+import com.sinergy.chronosync.exception.ConflictException;
 import com.sinergy.chronosync.exception.EntityNotFoundException;
 import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.exception.RepositoryException;
 import com.sinergy.chronosync.model.Appointment;
+import com.sinergy.chronosync.model.Firm;
 import com.sinergy.chronosync.model.user.User;
 import com.sinergy.chronosync.model.user.UserRole;
 import com.sinergy.chronosync.repository.AppointmentRepository;
+import com.sinergy.chronosync.repository.CancelledOccurrenceRepository;
+import com.sinergy.chronosync.service.AppointmentOverlapService;
+import com.sinergy.chronosync.service.AppointmentEventService;
+import com.sinergy.chronosync.service.AppointmentReminderService;
+import com.sinergy.chronosync.service.AppointmentRollupService;
 import com.sinergy.chronosync.service.AppointmentService;
+import com.sinergy.chronosync.service.AppointmentSyncService;
+import com.sinergy.chronosync.service.BusySlotService;
+import com.sinergy.chronosync.service.SearchResultCacheService;
+import com.sinergy.chronosync.service.SearchResultCacheService.Entity;
 import com.sinergy.chronosync.service.SecurityContextService;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * Service implementation for managing appointments.
+ *
+ * <p>Every change is applied to the firm's daily rollups in its own transaction, and is
+ * pushed to the firm's connected clients and rescheduled for reminders once that
+ * transaction commits. Searches are served from the firm's search result cache until
+ * an appointment, client, appointment type or user of the firm changes.</p>
  */
 @Service
 @AllArgsConstructor
 public class AppointmentServiceImpl implements AppointmentService {
 
+	private static final Set<Entity> SEARCH_ENTITIES = Set.of(
+		Entity.APPOINTMENT,
+		Entity.CLIENT,
+		Entity.APPOINTMENT_TYPE
+	);
+
 	private final AppointmentRepository appointmentRepository;
+	private final CancelledOccurrenceRepository cancelledOccurrenceRepository;
 	private final SecurityContextService securityContextService;
+	private final AppointmentOverlapService appointmentOverlapService;
+	private final BusySlotService busySlotService;
+	private final AppointmentSyncService appointmentSyncService;
+	private final AppointmentEventService appointmentEventService;
+	private final AppointmentReminderService appointmentReminderService;
+	private final AppointmentRollupService appointmentRollupService;
+	private final SearchResultCacheService searchResultCacheService;
 
 	/**
 	 * Retrieves all appointments.
 	 * This method checks the current logged-in user's firm and returns
-	 * a list of {@link Appointment} objects linked to that user's ID.
+	 * a list of {@link AppointmentSearchResponseDTO} rows linked to that user's ID.
+	 * Only the listed columns are selected, in a read-only transaction, and the page is
+	 * cached per firm and employee.
 	 *
-	 * @return {@link Page} of {@link Appointment} objects associated with the current user.
+	 * @return {@link Page} of {@link AppointmentSearchResponseDTO} objects associated with the current user.
 	 */
 	@Override
-	public Page<Appointment> getAppointments(PageRequest pageRequest) {
+	public Page<AppointmentSearchResponseDTO> getAppointments(PageRequest pageRequest) {
 		User authUser = securityContextService.getAuthUser();
-		AppointmentFilterBuilder filterBuilder;
-
-		if (authUser.getRole() == UserRole.MANAGER || authUser.getRole() == UserRole.ADMINISTRATOR) {
-			filterBuilder = AppointmentFilterBuilder.builder()
-				.firm(securityContextService.getAuthUserFirm())
-				.build();
-		} else {
-			filterBuilder = AppointmentFilterBuilder.builder()
-				.employee(securityContextService.getAuthUser())
-				.build();
-		}
-		return appointmentRepository.findAll(filterBuilder.toSpecification(), filterBuilder.getPageable());
+		Firm firm = securityContextService.getAuthUserFirm();
+		boolean firmWide = authUser.getRole() == UserRole.MANAGER || authUser.getRole() == UserRole.ADMINISTRATOR;
+
+		return searchResultCacheService.get(
+			firm.getId(),
+			"appointments",
+			SEARCH_ENTITIES,
+			() -> {
+				AppointmentFilterBuilder filterBuilder = firmWide
+					? AppointmentFilterBuilder.builder().firm(firm).build()
+					: AppointmentFilterBuilder.builder().employee(authUser).build();
+				filterBuilder.setPageable(pageRequest);
+
+				return appointmentRepository.findAllProjected(
+					filterBuilder.toSpecification(),
+					AppointmentSearchResponseDTO.PROJECTION,
+					filterBuilder.getPageable()
+				);
+			},
+			firmWide ? null : authUser.getId(),
+			pageRequest
+		);
 	}
 
 	/**
@@ -54,36 +104,124 @@ public class AppointmentServiceImpl implements AppointmentService {
 	 *
 	 * @param requestDto {@link AppointmentRequestDTO} containing appointment details.
 	 * @return {@link Appointment} representing the saved appointment.
+	 * @throws ConflictException if the employee already has an appointment at this time.
 	 */
 	@Override
+	@Transactional
 	public Appointment createAppointment(AppointmentRequestDTO requestDto) {
 		Appointment appointment = requestDto.toModel();
 		appointment.setFirm(securityContextService.getAuthUserFirm());
-		return appointmentRepository.create(appointment);
+		checkAvailable(appointment);
+
+		Appointment created = appointmentRepository.create(appointment);
+		appointmentRepository.snapshotPrices(appointment.getFirm().getId(), List.of(created.getId()));
+		appointmentRollupService.addAppointments(appointment.getFirm().getId(), List.of(created.getId()));
+		indexSaved(created);
+		appointmentEventService.publish(appointment.getFirm().getId(), AppointmentEventDTO.Type.CREATED, List.of(created.getId()));
+		searchResultCacheService.invalidate(appointment.getFirm().getId(), Entity.APPOINTMENT);
+		return created;
 	}
 
 	/**
-	 * Updates an existing appointment.
+	 * Updates an existing appointment of the current user's firm. If the appointment moves
+	 * to another employee, it is recorded as removed from the previous employee's change feed.
 	 *
 	 * @param requestDto {@link AppointmentRequestDTO} containing appointment details
 	 * @return {@link Appointment} representing the updated or newly created appointment
+	 * @throws InvalidStateException   if the request carries no version
+	 * @throws ConflictException       if the employee already has another appointment at this time.
+	 * @throws EntityNotFoundException if the appointment does not exist within the firm
 	 */
 	@Override
+	@Transactional
 	public Appointment updateAppointment(AppointmentRequestDTO requestDto) {
-		return appointmentRepository.update(requestDto.toModel());
+		if (requestDto.getVersion() == null) {
+			throw new InvalidStateException("Appointment version is required for an update.");
+		}
+		Appointment appointment = requestDto.toModel();
+		appointment.setFirm(securityContextService.getAuthUserFirm());
+		checkAvailable(appointment);
+		Long firmId = appointment.getFirm().getId();
+		appointmentSyncService.recordReassigned(
+			firmId,
+			appointment.getId(),
+			appointment.getEmployee() != null ? appointment.getEmployee().getId() : null
+		);
+
+		appointmentRollupService.subtractAppointments(firmId, List.of(appointment.getId()));
+
+		Appointment updated;
+		try {
+			updated = appointmentRepository.update(appointment, firmId);
+		} catch (RepositoryException e) {
+			throw new EntityNotFoundException("Appointment does not exist.");
+		}
+		appointmentRepository.snapshotPrices(firmId, List.of(updated.getId()));
+		appointmentRollupService.addAppointments(firmId, List.of(updated.getId()));
+		indexSaved(updated);
+		appointmentEventService.publish(firmId, AppointmentEventDTO.Type.UPDATED, List.of(updated.getId()));
+		searchResultCacheService.invalidate(firmId, Entity.APPOINTMENT);
+		return updated;
 	}
 
 	/**
-	 * Deletes an appointment identified by its ID.
+	 * Deletes appointments of the current user's firm with a single set-based statement.
+	 * Appointments of other firms are never matched. If fewer rows are deleted than IDs
+	 * were given, the transaction is rolled back. Occurrences of a series replaced by the
+	 * deleted appointments stay cancelled, and tombstones are recorded for change feeds.
 	 *
-	 * @param id {@link Long} ID of the appointment type to delete
-	 * @throws InvalidStateException if deletion fails or the appointment does not exist
+	 * @param ids {@link List} of IDs of the appointments to delete
+	 * @throws EntityNotFoundException if any of the appointments does not exist within the firm
 	 */
 	@Override
-	public void deleteAppointment(Long id) {
-		if (!appointmentRepository.existsById(id)) {
+	@Transactional
+	public void deleteAppointment(List<Long> ids) {
+		Long firmId = securityContextService.getAuthUserFirm().getId();
+		Set<Long> distinctIds = new HashSet<>(ids);
+		cancelledOccurrenceRepository.cancelReplacedBy(firmId, distinctIds);
+		appointmentSyncService.recordDeleted(firmId, distinctIds);
+		appointmentRollupService.subtractAppointments(firmId, distinctIds);
+		int deleted = appointmentRepository.deleteByFirmIdAndIdIn(firmId, distinctIds);
+		if (deleted != distinctIds.size()) {
 			throw new EntityNotFoundException("Appointment does not exist.");
 		}
-		appointmentRepository.deleteById(id);
+		appointmentOverlapService.indexDeleted(distinctIds);
+		busySlotService.evictDeleted(distinctIds);
+		appointmentReminderService.cancelDeleted(distinctIds);
+		appointmentEventService.publish(firmId, AppointmentEventDTO.Type.DELETED, distinctIds);
+		searchResultCacheService.invalidate(firmId, Entity.APPOINTMENT);
+	}
+
+	/**
+	 * Checks that the appointment's employee is free during the appointment.
+	 *
+	 * @param appointment {@link Appointment} to check
+	 * @throws ConflictException if the employee already has another appointment at this time
+	 */
+	private void checkAvailable(Appointment appointment) {
+		appointmentOverlapService.checkAvailable(
+			appointment.getEmployee() != null ? appointment.getEmployee().getId() : null,
+			appointment.getStartDateTime(),
+			appointment.getEndDateTime(),
+			appointment.getId()
+		);
+	}
+
+	/**
+	 * Records a saved appointment in the overlap index, discards the cached busy slots
+	 * of its employees and schedules its reminders.
+	 *
+	 * @param appointment {@link Appointment} that was saved
+	 */
+	private void indexSaved(Appointment appointment) {
+		Long employeeId = appointment.getEmployee() != null ? appointment.getEmployee().getId() : null;
+		appointmentOverlapService.indexSaved(
+			appointment.getId(),
+			employeeId,
+			appointment.getStartDateTime(),
+			appointment.getEndDateTime()
+		);
+		busySlotService.evictSaved(appointment.getId(), employeeId);
+		appointmentReminderService.scheduleSaved(appointment.getId(), appointment.getStartDateTime());
 	}
 }
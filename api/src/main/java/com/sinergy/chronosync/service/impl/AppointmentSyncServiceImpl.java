@@ -0,0 +1,280 @@
+package com.sinergy.chronosync.service.impl;
+
+import com.sinergy.chronosync.builder.AppointmentFilterBuilder;
+import com.sinergy.chronosync.dto.response.AppointmentChangeDTO;
+import com.sinergy.chronosync.dto.response.AppointmentChangesDTO;
+import com.sinergy.chronosync.exception.EntityNotFoundException;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.model.AppointmentTombstone;
+import com.sinergy.chronosync.model.Firm;
+import com.sinergy.chronosync.model.user.User;
+import com.sinergy.chronosync.model.user.UserRole;
+import com.sinergy.chronosync.repository.AppointmentRepository;
+import com.sinergy.chronosync.repository.AppointmentTombstoneRepository;
+import com.sinergy.chronosync.repository.AppointmentTombstoneRepository.Removal;
+import com.sinergy.chronosync.repository.UserRepository;
+import com.sinergy.chronosync.service.AppointmentSyncService;
+import com.sinergy.chronosync.service.SecurityContextService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Service implementation for the appointment change feed.
+ *
+ * <p>The feed is ordered by modification time and ID. Created and updated appointments are
+ * read with a keyset query on {@code (updated_at, id)}, and deletions from tombstones written
+ * in the same statements as the deletes. The token holds the position reached in both, so
+ * every call reads only rows after it, through an index, regardless of the firm's size.</p>
+ *
+ * <p>Rows modified within the settle time are held back, so a change stamped shortly
+ * before a slower transaction commits is not skipped. Tombstones older than the retention
+ * are purged when new ones are written; a token older than that starts the feed over.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class AppointmentSyncServiceImpl implements AppointmentSyncService {
+
+	private static final Sort FEED_ORDER = Sort.by("updatedAt", "id");
+	private static final String TOKEN_SEPARATOR = "|";
+
+	private final AppointmentRepository appointmentRepository;
+	private final AppointmentTombstoneRepository appointmentTombstoneRepository;
+	private final UserRepository userRepository;
+	private final SecurityContextService securityContextService;
+
+	@Value("${appointment.sync.page-size:500}")
+	private int pageSize;
+
+	@Value("${appointment.sync.settle-time:5s}")
+	private Duration settleTime;
+
+	@Value("${appointment.sync.tombstone-retention:30d}")
+	private Duration tombstoneRetention;
+
+	/**
+	 * Retrieves the appointments changed and removed since a token. Employees always follow
+	 * their own appointments; managers and administrators follow one employee or the whole firm.
+	 * A missing token, a token of another feed or a token older than the tombstone retention
+	 * starts the feed over.
+	 *
+	 * @param token      {@link String} token returned by the previous call, or {@code null} to start over
+	 * @param employeeId {@link Long} ID of the employee to follow, or {@code null} for the whole firm
+	 * @return {@link AppointmentChangesDTO} page of changes with the token for the next call
+	 * @throws InvalidStateException   if the token is malformed
+	 * @throws EntityNotFoundException if the employee does not exist within the firm
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public AppointmentChangesDTO getChanges(String token, Long employeeId) {
+		User authUser = securityContextService.getAuthUser();
+		Firm firm = securityContextService.getAuthUserFirm();
+		boolean ownOnly = authUser.getRole() != UserRole.MANAGER && authUser.getRole() != UserRole.ADMINISTRATOR;
+		Long followed = ownOnly ? authUser.getId() : employeeId;
+		if (!ownOnly && followed != null
+			&& userRepository.findIdsByFirmIdAndIdIn(firm.getId(), List.of(followed)).isEmpty()) {
+			throw new EntityNotFoundException("Employee does not exist.");
+		}
+		String feed = followed != null ? "e" + followed : "f" + firm.getId();
+
+		LocalDateTime now = LocalDateTime.now();
+		LocalDateTime horizon = now.minus(settleTime);
+		Position position = token == null || token.isBlank() ? null : Position.decode(token);
+		boolean reset = position == null
+			|| !position.feed().equals(feed)
+			|| position.removed().time().isBefore(now.minus(tombstoneRetention));
+		if (reset) {
+			position = new Position(feed, new Cursor(null, null), Cursor.before(horizon));
+		}
+
+		int limit = pageSize + 1;
+		List<AppointmentChangeDTO> changes;
+		try (Stream<AppointmentChangeDTO> stream = appointmentRepository.streamAllProjected(
+			AppointmentFilterBuilder.builder()
+				.firm(firm)
+				.employeeIds(followed != null ? List.of(followed) : null)
+				.updatedAfter(position.changed().time())
+				.updatedAfterId(position.changed().id())
+				.updatedBefore(horizon)
+				.build()
+				.toSpecification(),
+			AppointmentChangeDTO.PROJECTION,
+			FEED_ORDER,
+			limit
+		)) {
+			changes = stream.limit(limit).toList();
+		}
+		Cursor after = position.removed();
+		List<Removal> removals = followed != null
+			? appointmentTombstoneRepository.findEmployeeRemovals(followed, after.time(), after.id(), horizon, Limit.of(limit))
+			: appointmentTombstoneRepository.findFirmRemovals(firm.getId(), after.time(), after.id(), horizon, Limit.of(limit));
+
+		Map<Long, AppointmentChangeDTO> changed = new LinkedHashMap<>();
+		Set<Long> removed = new LinkedHashSet<>();
+		Cursor changedCursor = position.changed();
+		Cursor removedCursor = position.removed();
+		int c = 0;
+		int r = 0;
+		for (int taken = 0; taken < pageSize && (c < changes.size() || r < removals.size()); taken++) {
+			if (c == changes.size()
+				|| r < removals.size() && !removals.get(r).getRemovedAt().isAfter(changes.get(c).updatedAt())) {
+				Removal removal = removals.get(r++);
+				changed.remove(removal.getAppointmentId());
+				removed.add(removal.getAppointmentId());
+				removedCursor = new Cursor(removal.getRemovedAt(), removal.getId());
+			} else {
+				AppointmentChangeDTO change = changes.get(c++);
+				removed.remove(change.id());
+				changed.put(change.id(), change);
+				changedCursor = new Cursor(change.updatedAt(), change.id());
+			}
+		}
+		if (c == changes.size()) {
+			changedCursor = Cursor.before(horizon);
+		}
+		if (r == removals.size()) {
+			removedCursor = Cursor.before(horizon);
+		}
+
+		return new AppointmentChangesDTO(
+			new ArrayList<>(changed.values()),
+			new ArrayList<>(removed),
+			new Position(feed, changedCursor, removedCursor).encode(),
+			reset,
+			c < changes.size() || r < removals.size()
+		);
+	}
+
+	/**
+	 * Records tombstones for appointments of a firm about to be deleted, and purges the
+	 * firm's tombstones older than the retention.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @param ids    {@link Collection} of IDs of the appointments
+	 */
+	@Override
+	@Transactional
+	public void recordDeleted(Long firmId, Collection<Long> ids) {
+		LocalDateTime now = LocalDateTime.now();
+		appointmentTombstoneRepository.recordDeleted(firmId, ids, now);
+		appointmentTombstoneRepository.deleteByFirmIdAndRemovedAtBefore(firmId, now.minus(tombstoneRetention));
+	}
+
+	/**
+	 * Records a tombstone for the current employee of an appointment about to be assigned
+	 * to another employee, with one statement that reads the current employee itself.
+	 *
+	 * @param firmId     {@link Long} ID of the firm
+	 * @param id         {@link Long} ID of the appointment
+	 * @param employeeId {@link Long} ID of the new employee, or {@code null}
+	 */
+	@Override
+	@Transactional
+	public void recordReassigned(Long firmId, Long id, Long employeeId) {
+		appointmentTombstoneRepository.recordReassigned(firmId, id, employeeId, LocalDateTime.now());
+	}
+
+	/**
+	 * Records tombstones for appointments reassigned away from known employees.
+	 *
+	 * @param firmId            {@link Long} ID of the firm
+	 * @param previousEmployees {@link Map} of appointment ID to the ID of its previous employee
+	 */
+	@Override
+	@Transactional
+	public void recordReassigned(Long firmId, Map<Long, Long> previousEmployees) {
+		if (previousEmployees.isEmpty()) {
+			return;
+		}
+		LocalDateTime now = LocalDateTime.now();
+		Firm firm = new Firm();
+		firm.setId(firmId);
+		appointmentTombstoneRepository.saveAll(previousEmployees.entrySet().stream()
+			.map(entry -> AppointmentTombstone.builder()
+				.appointmentId(entry.getKey())
+				.employeeId(entry.getValue())
+				.removedAt(now)
+				.reassigned(true)
+				.firm(firm)
+				.build())
+			.toList());
+	}
+
+	/**
+	 * Position in the feed: the last modification time and ID seen, or nothing yet.
+	 *
+	 * @param time modification time of the last row seen, or {@code null}
+	 * @param id   ID of the last row seen, or {@code null}
+	 */
+	private record Cursor(LocalDateTime time, Long id) {
+
+		/**
+		 * Returns the position right before everything modified at or after a time.
+		 *
+		 * @param time {@link LocalDateTime} earliest modification time not yet seen
+		 * @return {@link Cursor} before that time
+		 */
+		private static Cursor before(LocalDateTime time) {
+			return new Cursor(time, Long.MIN_VALUE);
+		}
+	}
+
+	/**
+	 * Decoded token: the feed it belongs to and the positions reached in the changed
+	 * appointments and in the tombstones.
+	 *
+	 * @param feed    {@code f} and a firm ID, or {@code e} and an employee ID
+	 * @param changed {@link Cursor} in the changed appointments
+	 * @param removed {@link Cursor} in the tombstones
+	 */
+	private record Position(String feed, Cursor changed, Cursor removed) {
+
+		private String encode() {
+			String value = String.join(TOKEN_SEPARATOR,
+				feed,
+				changed.time() != null ? changed.time().toString() : "",
+				changed.id() != null ? changed.id().toString() : "",
+				removed.time().toString(),
+				removed.id().toString()
+			);
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+		}
+
+		private static Position decode(String token) {
+			try {
+				String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+					.split("\\" + TOKEN_SEPARATOR, -1);
+				if (parts.length != 5) {
+					throw new IllegalArgumentException();
+				}
+				return new Position(
+					parts[0],
+					new Cursor(
+						parts[1].isEmpty() ? null : LocalDateTime.parse(parts[1]),
+						parts[2].isEmpty() ? null : Long.valueOf(parts[2])
+					),
+					new Cursor(LocalDateTime.parse(parts[3]), Long.valueOf(parts[4]))
+				);
+			} catch (IllegalArgumentException | DateTimeParseException e) {
+				throw new InvalidStateException("Sync token is invalid.");
+			}
+		}
+	}
+}
@@ -3,82 +3,192 @@ package com.sinergy.chronosync.service.impl;
 import com.sinergy.chronosync.builder.AppointmentTypeFilterBuilder;
 import com.sinergy.chronosync.dto.request.AppointmentTypeRequestDTO;
 import com.sinergy.chronosync.dto.request.PaginatedAppointmentTypeRequestDTO;
+import com.sinergy.chronosync.dto.response.AppointmentTypeSearchResponseDTO;
 import com.sinergy.chronosync.exception.EntityNotFoundException;
 import com.sinergy.chronosync.exception.InvalidStateException;
 import com.sinergy.chronosync.exception.UserNotFoundException;
+import com.sinergy.chronosync.model.Firm;
 import com.sinergy.chronosync.model.appointmentType.AppointmentType;
 import com.sinergy.chronosync.repository.AppointmentTypeRepository;
+import com.sinergy.chronosync.repository.FirmRepository;
 import com.sinergy.chronosync.service.AppointmentTypeService;
+import com.sinergy.chronosync.service.ReferenceDataCacheService;
+import com.sinergy.chronosync.service.SearchResultCacheService;
+import com.sinergy.chronosync.service.SearchResultCacheService.Entity;
 import com.sinergy.chronosync.service.SecurityContextService;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * Service implementation for managing appointment types.
+ *
+ * <p>Every change raises the appointment type version of the firm in the same transaction.
+ * Lists are tagged with the version read before the list, so a list read during a change
+ * is sent again on the next request rather than kept under a newer tag. Lists are also
+ * kept in the firm's search result cache until an appointment type of the firm changes.</p>
  */
 @Service
 @AllArgsConstructor
 public class AppointmentTypeServiceImpl implements AppointmentTypeService {
 
 	private final AppointmentTypeRepository appointmentTypeRepository;
+	private final FirmRepository firmRepository;
 	private final SecurityContextService securityContextService;
+	private final ReferenceDataCacheService referenceDataCacheService;
+	private final SearchResultCacheService searchResultCacheService;
 
 	/**
 	 * Retrieves all appointment types associated with the current user's firm.
 	 * <p>
 	 * This method checks the current logged-in user's firm and returns
-	 * a list of {@link AppointmentType} objects linked to that firm's ID.
+	 * a list of {@link AppointmentTypeSearchResponseDTO} rows linked to that firm's ID.
+	 * Only the listed columns are selected, in a read-only transaction, and the page is
+	 * cached per firm and filter.
 	 *
-	 * @return {@link Page} of {@link AppointmentType} objects associated with the current user's firm.
+	 * @return {@link Page} of {@link AppointmentTypeSearchResponseDTO} objects associated with the current user's firm.
 	 */
-	public Page<AppointmentType> getAppointmentTypes(PaginatedAppointmentTypeRequestDTO request) {
-		AppointmentTypeFilterBuilder filterBuilder = AppointmentTypeFilterBuilder.builder()
-			.firmId(securityContextService.getAuthUserFirm().getId())
-			.name(request.getName())
-			.build();
+	@Override
+	public Page<AppointmentTypeSearchResponseDTO> getAppointmentTypes(PaginatedAppointmentTypeRequestDTO request) {
+		Long firmId = securityContextService.getAuthUserFirm().getId();
+
+		return searchResultCacheService.get(
+			firmId,
+			"appointment-types",
+			Set.of(Entity.APPOINTMENT_TYPE),
+			() -> {
+				AppointmentTypeFilterBuilder filterBuilder = AppointmentTypeFilterBuilder.builder()
+					.firmId(firmId)
+					.name(request.getName())
+					.build();
 
-		filterBuilder.setPageable(PageRequest.of(request.getPage(), request.getPageSize()));
+				filterBuilder.setPageable(PageRequest.of(request.getPage(), request.getPageSize()));
+
+				return appointmentTypeRepository.findAllProjected(
+					filterBuilder.toSpecification(),
+					AppointmentTypeSearchResponseDTO.PROJECTION,
+					filterBuilder.getPageable()
+				);
+			},
+			request.getName(),
+			request.getPage(),
+			request.getPageSize()
+		);
+	}
 
-		return appointmentTypeRepository.findAll(filterBuilder.toSpecification(), filterBuilder.getPageable());
+	/**
+	 * Derives the entity tag of an appointment type list of the current user's firm. The
+	 * firm is read from the second-level cache, so an unchanged list is revalidated without
+	 * querying the database.
+	 *
+	 * @param request {@link PaginatedAppointmentTypeRequestDTO} name filter and page of the list
+	 * @return {@link String} quoted strong entity tag
+	 * @throws EntityNotFoundException if the firm does not exist
+	 */
+	@Override
+	public String getAppointmentTypesETag(PaginatedAppointmentTypeRequestDTO request) {
+		Long firmId = securityContextService.getAuthUserFirm().getId();
+		Firm firm = firmRepository.findById(firmId)
+			.orElseThrow(() -> new EntityNotFoundException("Firm does not exist."));
+		return "\"%d-%d-%08x\"".formatted(
+			firmId,
+			firm.getAppointmentTypeVersion(),
+			Objects.hash(request.getName(), request.getPage(), request.getPageSize())
+		);
 	}
 
 	/**
 	 * Creates a new appointment type and stores it in the database.
+	 * The firm's appointment type version is raised and cached appointment type lists are evicted.
 	 *
 	 * @param requestDto {@link AppointmentTypeRequestDTO} containing appointment type details.
 	 * @return {@link AppointmentType} representing the saved appointment type.
+	 * @throws InvalidStateException if the price is not a valid amount of its currency.
 	 */
 	@Override
+	@Transactional
 	public AppointmentType createAppointmentType(AppointmentTypeRequestDTO requestDto) {
-		return appointmentTypeRepository.create(requestDto.toModel(securityContextService.getAuthUserFirm()));
+		AppointmentType appointmentType = appointmentTypeRepository.create(toModel(requestDto));
+		firmRepository.incrementAppointmentTypeVersion(appointmentType.getFirm().getId());
+		searchResultCacheService.invalidate(appointmentType.getFirm().getId(), Entity.APPOINTMENT_TYPE);
+		referenceDataCacheService.evictAppointmentType(null);
+
+		return appointmentType;
 	}
 
 	/**
 	 * Updates an existing appointment type.
+	 * The firm's appointment type version is raised, and the cached appointment type and
+	 * cached appointment type lists are evicted.
 	 *
 	 * @param requestDto {@link AppointmentTypeRequestDTO} containing appointment type details
 	 * @return {@link AppointmentType} representing the updated or newly created appointment type
 	 * @throws UserNotFoundException if the user cannot be found.
-	 * @throws InvalidStateException if the appointment type cannot be found for update.
+	 * @throws InvalidStateException if the request carries no version, the appointment type
+	 *                               cannot be found for update, or the price is not a valid
+	 *                               amount of its currency.
 	 */
 	@Override
+	@Transactional
 	public AppointmentType updateAppointmentType(AppointmentTypeRequestDTO requestDto) {
-		return appointmentTypeRepository.update(requestDto.toModel(securityContextService.getAuthUserFirm()));
+		if (requestDto.getVersion() == null) {
+			throw new InvalidStateException("Appointment type version is required for an update.");
+		}
+		AppointmentType model = toModel(requestDto);
+		AppointmentType appointmentType = appointmentTypeRepository.update(model, model.getFirm().getId());
+		firmRepository.incrementAppointmentTypeVersion(model.getFirm().getId());
+		searchResultCacheService.invalidate(model.getFirm().getId(), Entity.APPOINTMENT_TYPE);
+		referenceDataCacheService.evictAppointmentType(requestDto.getId());
+
+		return appointmentType;
 	}
 
 	/**
-	 * Deletes an appointment type identified by its ID.
+	 * Deletes appointment types of the current user's firm with a single set-based statement.
+	 * Appointment types of other firms are never matched. If fewer rows are deleted than IDs
+	 * were given, the transaction is rolled back.
+	 * The firm's appointment type version is raised, and the cached appointment types and
+	 * cached appointment type lists are evicted.
 	 *
-	 * @param id {@link Long} ID of the appointment type to delete
-	 * @throws InvalidStateException if deletion fails or the appointment type does not exist
+	 * @param ids {@link List} of IDs of the appointment types to delete
+	 * @throws EntityNotFoundException if any of the appointment types does not exist within the firm
 	 */
 	@Override
-	public void deleteAppointmentType(Long id) {
-		if (!appointmentTypeRepository.existsById(id)) {
+	@Transactional
+	public void deleteAppointmentType(List<Long> ids) {
+		Set<Long> distinctIds = new HashSet<>(ids);
+		Long firmId = securityContextService.getAuthUserFirm().getId();
+		int deleted = appointmentTypeRepository.deleteByFirmIdAndIdIn(firmId, distinctIds);
+		if (deleted != distinctIds.size()) {
 			throw new EntityNotFoundException("Appointment type does not exist.");
 		}
-		appointmentTypeRepository.deleteById(id);
+		firmRepository.incrementAppointmentTypeVersion(firmId);
+		searchResultCacheService.invalidate(firmId, Entity.APPOINTMENT_TYPE);
+		distinctIds.forEach(referenceDataCacheService::evictAppointmentType);
+	}
+
+	/**
+	 * Creates the appointment type model of the current user's firm from a request.
+	 *
+	 * @param requestDto {@link AppointmentTypeRequestDTO} containing appointment type details
+	 * @return {@link AppointmentType} model
+	 * @throws InvalidStateException if the price has no currency or more decimals than its currency
+	 */
+	private AppointmentType toModel(AppointmentTypeRequestDTO requestDto) {
+		if (requestDto.getPrice() != null && requestDto.getCurrency() == null) {
+			throw new InvalidStateException("Appointment type price must have a currency.");
+		}
+		try {
+			return requestDto.toModel(securityContextService.getAuthUserFirm());
+		} catch (IllegalArgumentException e) {
+			throw new InvalidStateException(e.getMessage());
+		}
 	}
 }
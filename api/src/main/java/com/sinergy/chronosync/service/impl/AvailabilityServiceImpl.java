@@ -0,0 +1,239 @@
+package com.sinergy.chronosync.service.impl;
+
+import com.sinergy.chronosync.dto.request.AvailabilityRequestDTO;
+import com.sinergy.chronosync.dto.response.EmployeeAvailabilityDTO;
+import com.sinergy.chronosync.dto.response.TimeSlotDTO;
+import com.sinergy.chronosync.exception.EntityNotFoundException;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import com.sinergy.chronosync.model.user.UserRole;
+import com.sinergy.chronosync.repository.AppointmentTypeRepository;
+import com.sinergy.chronosync.repository.UserRepository;
+import com.sinergy.chronosync.service.AvailabilityService;
+import com.sinergy.chronosync.service.BusySlotService;
+import com.sinergy.chronosync.service.ScheduleService;
+import com.sinergy.chronosync.service.SecurityContextService;
+import com.sinergy.chronosync.util.CollectionUtils;
+import com.sinergy.chronosync.util.SlotBitmap;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Service implementation for finding free time of employees.
+ *
+ * <p>Free time is computed on five-minute {@link SlotBitmap}s. Each employee's free time
+ * is their effective working hours from {@link ScheduleService} minus the busy slots from
+ * {@link BusySlotService}, one word-wide difference per day. Busy slots are rounded
+ * outwards and working hours inwards, so a reported slot never overlaps an appointment. Employees are processed in parallel on a
+ * bounded pool, and a search that does not finish within the configured time is
+ * abandoned.</p>
+ */
+@Service
+public class AvailabilityServiceImpl implements AvailabilityService {
+
+	private static final List<UserRole> BOOKABLE_ROLES = List.of(UserRole.EMPLOYEE, UserRole.MANAGER);
+
+	private final BusySlotService busySlotService;
+	private final ScheduleService scheduleService;
+	private final AppointmentTypeRepository appointmentTypeRepository;
+	private final UserRepository userRepository;
+	private final SecurityContextService securityContextService;
+	private final ExecutorService executor;
+	private final int maxDays;
+	private final int maxEmployees;
+	private final long timeoutMillis;
+
+	/**
+	 * Creates the service and its sweep pool.
+	 *
+	 * @param maxDays       longest searchable range in days
+	 * @param maxEmployees  largest number of employees per search
+	 * @param poolSize      number of sweep threads
+	 * @param timeoutMillis time budget of a search in milliseconds
+	 */
+	public AvailabilityServiceImpl(
+		BusySlotService busySlotService,
+		ScheduleService scheduleService,
+		AppointmentTypeRepository appointmentTypeRepository,
+		UserRepository userRepository,
+		SecurityContextService securityContextService,
+		@Value("${availability.max-days:62}") int maxDays,
+		@Value("${availability.max-employees:200}") int maxEmployees,
+		@Value("${availability.pool-size:4}") int poolSize,
+		@Value("${availability.timeout-ms:2000}") long timeoutMillis
+	) {
+		this.busySlotService = busySlotService;
+		this.scheduleService = scheduleService;
+		this.appointmentTypeRepository = appointmentTypeRepository;
+		this.userRepository = userRepository;
+		this.securityContextService = securityContextService;
+		this.maxDays = maxDays;
+		this.maxEmployees = maxEmployees;
+		this.timeoutMillis = timeoutMillis;
+
+		AtomicInteger threads = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(
+			poolSize,
+			poolSize,
+			0L,
+			TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(maxEmployees),
+			task -> {
+				Thread thread = new Thread(task, "availability-" + threads.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			},
+			new ThreadPoolExecutor.CallerRunsPolicy()
+		);
+	}
+
+	/**
+	 * Finds the time each requested employee of the authenticated user's firm has free
+	 * for an appointment of the requested type, within their working hours.
+	 *
+	 * @param request {@link AvailabilityRequestDTO} employees, appointment type and range to search
+	 * @return {@link List} of {@link EmployeeAvailabilityDTO}, one per employee, ordered by employee ID
+	 * @throws InvalidStateException  if the range or employee set is invalid or too large, or the search times out
+	 * @throws EntityNotFoundException if the appointment type does not exist within the firm
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public List<EmployeeAvailabilityDTO> findAvailability(AvailabilityRequestDTO request) {
+		LocalDateTime from = request.getFrom();
+		LocalDateTime to = request.getTo();
+		if (from == null || to == null || !from.isBefore(to)) {
+			throw new InvalidStateException("Availability range must have a start before its end.");
+		}
+		if (Duration.between(from, to).compareTo(Duration.ofDays(maxDays)) > 0) {
+			throw new InvalidStateException("Availability range must not exceed " + maxDays + " days.");
+		}
+
+		Long firmId = securityContextService.getAuthUserFirm().getId();
+		Duration duration = Duration.ofMinutes(findAppointmentType(firmId, request.getAppointmentTypeId()).getDurationMinutes());
+
+		List<Long> employeeIds = CollectionUtils.isEmpty(request.getEmployeeIds())
+			? userRepository.findIdsByFirmIdAndRoleIn(firmId, BOOKABLE_ROLES)
+			: userRepository.findIdsByFirmIdAndIdIn(firmId, request.getEmployeeIds());
+		if (employeeIds.size() > maxEmployees) {
+			throw new InvalidStateException("Availability can be searched for at most " + maxEmployees + " employees.");
+		}
+		if (employeeIds.isEmpty()) {
+			return List.of();
+		}
+
+		LocalDate firstDay = from.toLocalDate();
+		LocalDate lastDay = to.minusNanos(1).toLocalDate();
+		Map<Long, SlotBitmap[]> busy = busySlotService.findBusySlots(employeeIds, firstDay, lastDay.plusDays(1));
+		Map<Long, SlotBitmap[]> working = scheduleService.findWorkingSlots(employeeIds, firstDay, lastDay.plusDays(1));
+		int firstSlot = SlotBitmap.ceilSlot(firstDay, from);
+		int lastSlot = SlotBitmap.floorSlot(lastDay, to);
+		int minSlots = (int) ((duration.toMinutes() + SlotBitmap.SLOT_MINUTES - 1) / SlotBitmap.SLOT_MINUTES);
+
+		List<CompletableFuture<EmployeeAvailabilityDTO>> sweeps = employeeIds.stream()
+			.map(id -> CompletableFuture.supplyAsync(
+				() -> new EmployeeAvailabilityDTO(
+					id,
+					freeSlots(firstDay, working.get(id), busy.get(id), firstSlot, lastSlot, minSlots)
+				),
+				executor
+			))
+			.toList();
+		try {
+			CompletableFuture.allOf(sweeps.toArray(CompletableFuture[]::new)).get(timeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			sweeps.forEach(sweep -> sweep.cancel(true));
+			throw new InvalidStateException("Availability search took too long. Narrow the range or the employees searched.");
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Availability search was interrupted.", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("Availability search failed.", e.getCause());
+		}
+		return sweeps.stream().map(CompletableFuture::join).toList();
+	}
+
+	/**
+	 * Stops the sweep pool.
+	 */
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * Finds an appointment type of the firm, usually from the second-level cache.
+	 *
+	 * @param firmId            {@link Long} ID of the firm
+	 * @param appointmentTypeId {@link Long} ID of the appointment type
+	 * @return {@link AppointmentType} with a positive duration
+	 * @throws EntityNotFoundException if the appointment type does not exist within the firm
+	 * @throws InvalidStateException   if the appointment type has no duration
+	 */
+	private AppointmentType findAppointmentType(Long firmId, Long appointmentTypeId) {
+		if (appointmentTypeId == null) {
+			throw new EntityNotFoundException("Appointment type does not exist.");
+		}
+		AppointmentType appointmentType = appointmentTypeRepository.findById(appointmentTypeId)
+			.filter(type -> type.getFirm() != null && firmId.equals(type.getFirm().getId()))
+			.orElseThrow(() -> new EntityNotFoundException("Appointment type does not exist."));
+		if (appointmentType.getDurationMinutes() == null || appointmentType.getDurationMinutes() <= 0) {
+			throw new InvalidStateException("Appointment type has no duration.");
+		}
+		return appointmentType;
+	}
+
+	/**
+	 * Subtracts an employee's busy slots from their working hours of every day, clips the
+	 * first and last day to the range and collects the runs of free slots that are long enough.
+	 *
+	 * @param firstDay  {@link LocalDate} day of the first bitmaps
+	 * @param working   working slots of the employee per day
+	 * @param busy      busy slots of the employee per day
+	 * @param firstSlot first slot of the range on the first day
+	 * @param lastSlot  slot after the range on the last day
+	 * @param minSlots  shortest useful run of slots
+	 * @return {@link List} of free {@link TimeSlotDTO} in chronological order
+	 */
+	private static List<TimeSlotDTO> freeSlots(
+		LocalDate firstDay,
+		SlotBitmap[] working,
+		SlotBitmap[] busy,
+		int firstSlot,
+		int lastSlot,
+		int minSlots
+	) {
+		List<TimeSlotDTO> free = new ArrayList<>();
+		SlotBitmap day = new SlotBitmap();
+		for (int i = 0; i < working.length; i++) {
+			LocalDate date = firstDay.plusDays(i);
+			day.clear().or(working[i]).andNot(busy[i]);
+			if (i == 0) {
+				day.retain(firstSlot, SlotBitmap.SLOTS_PER_DAY);
+			}
+			if (i == working.length - 1) {
+				day.retain(0, lastSlot);
+			}
+			day.forEachRun(minSlots, (start, end) -> free.add(
+				new TimeSlotDTO(SlotBitmap.startOf(date, start), SlotBitmap.startOf(date, end))
+			));
+		}
+		return free;
+	}
+}
@@ -0,0 +1,246 @@
+package com.sinergy.chronosync.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sinergy.chronosync.repository.AppointmentRepository;
+import com.sinergy.chronosync.repository.AppointmentRepository.EmployeeRange;
+import com.sinergy.chronosync.service.BusySlotService;
+import com.sinergy.chronosync.service.OccurrenceService;
+import com.sinergy.chronosync.service.OccurrenceService.Occurrence;
+import com.sinergy.chronosync.util.SlotBitmap;
+import com.sinergy.chronosync.util.TransactionUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service implementation for the five-minute slots in which employees have appointments.
+ *
+ * <p>Each employee's busy slots are kept per day as a {@link SlotBitmap} in a bounded
+ * cache. Days missing from the cache are loaded for all employees at once with a single
+ * range query, together with the occurrences of their appointment series, and cached for
+ * later searches.</p>
+ *
+ * <p>Every employee has a generation that is increased after a write to one of their
+ * appointments commits. Cached days remember the generation they were loaded under and
+ * are ignored once it changes, so a load racing with a write never caches the old state.
+ * The employee a changed appointment previously belonged to is remembered from the loads,
+ * for as long as the days loaded with it are cached.</p>
+ */
+@Service
+public class BusySlotServiceImpl implements BusySlotService {
+
+	private final AppointmentRepository appointmentRepository;
+	private final OccurrenceService occurrenceService;
+	private final Cache<DayKey, CachedDay> days;
+	private final Cache<Long, Long> employeeByAppointment;
+	private final Map<Long, Long> generations = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates the service and its caches.
+	 *
+	 * @param maximumSize largest number of cached employee days
+	 * @param timeToLive  {@link Duration} after which a cached day is reloaded
+	 */
+	public BusySlotServiceImpl(
+		AppointmentRepository appointmentRepository,
+		OccurrenceService occurrenceService,
+		@Value("${availability.slot-cache.maximum-size:100000}") long maximumSize,
+		@Value("${availability.slot-cache.time-to-live:10m}") Duration timeToLive
+	) {
+		this.appointmentRepository = appointmentRepository;
+		this.occurrenceService = occurrenceService;
+		this.days = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(timeToLive)
+			.build();
+		this.employeeByAppointment = Caffeine.newBuilder()
+			.expireAfterWrite(timeToLive)
+			.build();
+	}
+
+	/**
+	 * Finds the busy slots of the given employees for every day of a date range,
+	 * loading the days missing from the cache with one query.
+	 *
+	 * @param employeeIds {@link Collection} of employee IDs
+	 * @param from        {@link LocalDate} first day of the range
+	 * @param to          {@link LocalDate} day after the last day of the range
+	 * @return {@link Map} of employee ID to one {@link SlotBitmap} per day, starting at {@code from}
+	 */
+	@Override
+	public Map<Long, SlotBitmap[]> findBusySlots(Collection<Long> employeeIds, LocalDate from, LocalDate to) {
+		int dayCount = (int) ChronoUnit.DAYS.between(from, to);
+		Map<Long, SlotBitmap[]> result = new HashMap<>();
+		Set<Long> missing = new LinkedHashSet<>();
+		int firstMissing = dayCount;
+		int lastMissing = -1;
+
+		for (Long employeeId : employeeIds) {
+			long generation = generations.getOrDefault(employeeId, 0L);
+			SlotBitmap[] slots = new SlotBitmap[dayCount];
+			for (int i = 0; i < dayCount; i++) {
+				CachedDay cached = days.getIfPresent(new DayKey(employeeId, from.plusDays(i)));
+				if (cached != null && cached.generation() == generation) {
+					slots[i] = cached.slots();
+				} else {
+					missing.add(employeeId);
+					firstMissing = Math.min(firstMissing, i);
+					lastMissing = Math.max(lastMissing, i);
+				}
+			}
+			result.put(employeeId, slots);
+		}
+
+		if (!missing.isEmpty()) {
+			load(missing, from.plusDays(firstMissing), from.plusDays(lastMissing + 1), from, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Increases the generation of the appointment's old and new employee once the
+	 * current transaction commits.
+	 *
+	 * @param id         {@link Long} ID of the appointment
+	 * @param employeeId {@link Long} ID of its employee, or {@code null}
+	 */
+	@Override
+	public void evictSaved(Long id, Long employeeId) {
+		TransactionUtils.afterCommit(() -> {
+			evict(id);
+			if (employeeId != null) {
+				generations.merge(employeeId, 1L, Long::sum);
+			}
+		});
+	}
+
+	/**
+	 * Increases the generation of the deleted appointments' employees once the current
+	 * transaction commits.
+	 *
+	 * @param ids {@link Collection} of IDs of the deleted appointments
+	 */
+	@Override
+	public void evictDeleted(Collection<Long> ids) {
+		List<Long> deleted = List.copyOf(ids);
+		TransactionUtils.afterCommit(() -> deleted.forEach(this::evict));
+	}
+
+	/**
+	 * Increases the generation of the given employees once the current transaction commits.
+	 *
+	 * @param employeeIds {@link Collection} of employee IDs
+	 */
+	@Override
+	public void evictEmployees(Collection<Long> employeeIds) {
+		List<Long> evicted = List.copyOf(employeeIds);
+		TransactionUtils.afterCommit(() -> evicted.forEach(id -> generations.merge(id, 1L, Long::sum)));
+	}
+
+	/**
+	 * Loads the busy slots of the given employees for a date range and caches them.
+	 *
+	 * @param employeeIds {@link Set} of employee IDs to load
+	 * @param from        {@link LocalDate} first day to load
+	 * @param to          {@link LocalDate} day after the last day to load
+	 * @param resultFrom  {@link LocalDate} first day of the result arrays
+	 * @param result      {@link Map} of result arrays to fill
+	 */
+	private void load(
+		Set<Long> employeeIds,
+		LocalDate from,
+		LocalDate to,
+		LocalDate resultFrom,
+		Map<Long, SlotBitmap[]> result
+	) {
+		int dayCount = (int) ChronoUnit.DAYS.between(from, to);
+		int offset = (int) ChronoUnit.DAYS.between(resultFrom, from);
+		Map<Long, Long> loadedGenerations = new HashMap<>();
+		Map<Long, SlotBitmap[]> loaded = new HashMap<>();
+		for (Long employeeId : employeeIds) {
+			loadedGenerations.put(employeeId, generations.getOrDefault(employeeId, 0L));
+			SlotBitmap[] slots = new SlotBitmap[dayCount];
+			for (int i = 0; i < dayCount; i++) {
+				slots[i] = new SlotBitmap();
+			}
+			loaded.put(employeeId, slots);
+		}
+
+		Map<Long, Long> appointments = new HashMap<>();
+		for (EmployeeRange range : appointmentRepository.findEmployeeRanges(
+			employeeIds,
+			from.atStartOfDay(),
+			to.atStartOfDay()
+		)) {
+			mark(loaded.get(range.getEmployeeId()), from, to, range.getStartDateTime(), range.getEndDateTime());
+			appointments.put(range.getId(), range.getEmployeeId());
+		}
+		for (Occurrence occurrence : occurrenceService.findOccurrences(
+			employeeIds,
+			from.atStartOfDay(),
+			to.atStartOfDay()
+		)) {
+			mark(loaded.get(occurrence.employeeId()), from, to, occurrence.startDateTime(), occurrence.endDateTime());
+		}
+
+		loaded.forEach((employeeId, slots) -> {
+			long generation = loadedGenerations.get(employeeId);
+			SlotBitmap[] target = result.get(employeeId);
+			for (int i = 0; i < dayCount; i++) {
+				days.put(new DayKey(employeeId, from.plusDays(i)), new CachedDay(generation, slots[i]));
+				target[offset + i] = slots[i];
+			}
+		});
+		employeeByAppointment.putAll(appointments);
+	}
+
+	/**
+	 * Sets the slots covered by a time range on every loaded day it touches.
+	 *
+	 * @param slots {@link SlotBitmap} array of the loaded days
+	 * @param from  {@link LocalDate} first loaded day
+	 * @param to    {@link LocalDate} day after the last loaded day
+	 * @param start {@link LocalDateTime} start of the range
+	 * @param end   {@link LocalDateTime} end of the range
+	 */
+	private static void mark(SlotBitmap[] slots, LocalDate from, LocalDate to, LocalDateTime start, LocalDateTime end) {
+		LocalDate day = start.toLocalDate();
+		if (day.isBefore(from)) {
+			day = from;
+		}
+		for (; day.isBefore(to) && day.atStartOfDay().isBefore(end); day = day.plusDays(1)) {
+			slots[(int) ChronoUnit.DAYS.between(from, day)].setCovering(day, start, end);
+		}
+	}
+
+	/**
+	 * Increases the generation of the employee an appointment was loaded with, if known.
+	 *
+	 * @param id {@link Long} ID of the appointment
+	 */
+	private void evict(Long id) {
+		Long previous = employeeByAppointment.getIfPresent(id);
+		if (previous != null) {
+			employeeByAppointment.invalidate(id);
+			generations.merge(previous, 1L, Long::sum);
+		}
+	}
+
+	private record DayKey(Long employeeId, LocalDate day) {
+	}
+
+	private record CachedDay(long generation, SlotBitmap slots) {
+	}
+}
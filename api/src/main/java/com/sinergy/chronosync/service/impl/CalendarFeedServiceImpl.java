@@ -0,0 +1,320 @@
+package com.sinergy.chronosync.service.impl;
+
+import com.sinergy.chronosync.builder.AppointmentFilterBuilder;
+import com.sinergy.chronosync.builder.AppointmentSeriesFilterBuilder;
+import com.sinergy.chronosync.dto.response.CalendarEntryDTO;
+import com.sinergy.chronosync.dto.response.CalendarFeedTokenDTO;
+import com.sinergy.chronosync.exception.EntityNotFoundException;
+import com.sinergy.chronosync.model.CalendarFeedToken;
+import com.sinergy.chronosync.model.Firm;
+import com.sinergy.chronosync.model.user.User;
+import com.sinergy.chronosync.repository.AppointmentRepository;
+import com.sinergy.chronosync.repository.AppointmentRepository.ChangeSummary;
+import com.sinergy.chronosync.repository.AppointmentSeriesRepository;
+import com.sinergy.chronosync.repository.CalendarFeedTokenRepository;
+import com.sinergy.chronosync.repository.CalendarFeedTokenRepository.FeedOwner;
+import com.sinergy.chronosync.repository.CancelledOccurrenceRepository;
+import com.sinergy.chronosync.service.CalendarFeedService;
+import com.sinergy.chronosync.service.OccurrenceService;
+import com.sinergy.chronosync.service.SecurityContextService;
+import com.sinergy.chronosync.util.ETagUtils;
+import com.sinergy.chronosync.util.IcsUtils;
+import com.sinergy.chronosync.util.MergingIterator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Service implementation for the iCalendar feeds of employees.
+ *
+ * <p>A feed covers the employee's appointments and series occurrences within a window of
+ * days around today. Its entity tag is a hash of the window and of a summary of the
+ * employee's appointments, series and cancelled occurrences, each a count, highest ID and
+ * latest modification read from an index. A client whose copy is current is answered
+ * without reading any appointment row; otherwise the feed is written from a cursor merged
+ * with the generated occurrences, as the calendar endpoint reads it.</p>
+ *
+ * <p>Renaming a client or an appointment type does not change the entity tag, so the feed
+ * shows the new name after the next change to the employee's appointments.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class CalendarFeedServiceImpl implements CalendarFeedService {
+
+	private static final String FEED_PATH = "/api/v1/calendar-feed/ics/";
+
+	private static final String NOT_FOUND_MESSAGE = "Calendar feed does not exist.";
+	private static final Sort FEED_ORDER = Sort.by("startDateTime", "id");
+	private static final SecureRandom RANDOM = new SecureRandom();
+	private static final int TOKEN_BYTES = 32;
+
+	private final CalendarFeedTokenRepository calendarFeedTokenRepository;
+	private final AppointmentRepository appointmentRepository;
+	private final AppointmentSeriesRepository appointmentSeriesRepository;
+	private final CancelledOccurrenceRepository cancelledOccurrenceRepository;
+	private final OccurrenceService occurrenceService;
+	private final SecurityContextService securityContextService;
+	private final PlatformTransactionManager transactionManager;
+
+	@Value("${calendar-feed.past-days:90}")
+	private int pastDays;
+
+	@Value("${calendar-feed.future-days:365}")
+	private int futureDays;
+
+	@Value("${export.fetch-size:500}")
+	private int fetchSize;
+
+	/**
+	 * Issues a feed token for the current user, revoking the previous one.
+	 *
+	 * @return {@link CalendarFeedTokenDTO} holding the new token
+	 */
+	@Override
+	@Transactional
+	public CalendarFeedTokenDTO createToken() {
+		User employee = securityContextService.getAuthUser();
+		Firm firm = securityContextService.getAuthUserFirm();
+
+		byte[] bytes = new byte[TOKEN_BYTES];
+		RANDOM.nextBytes(bytes);
+		String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+		calendarFeedTokenRepository.deleteByEmployeeId(employee.getId());
+		calendarFeedTokenRepository.create(CalendarFeedToken.builder()
+			.tokenHash(hash(token))
+			.employee(employee)
+			.firm(firm)
+			.build());
+		return new CalendarFeedTokenDTO(token, FEED_PATH + token);
+	}
+
+	/**
+	 * Revokes the feed token of the current user.
+	 *
+	 * @throws EntityNotFoundException if the user has no feed token
+	 */
+	@Override
+	@Transactional
+	public void revokeToken() {
+		if (calendarFeedTokenRepository.deleteByEmployeeId(securityContextService.getAuthUser().getId()) == 0) {
+			throw new EntityNotFoundException(NOT_FOUND_MESSAGE);
+		}
+	}
+
+	/**
+	 * Prepares the feed a token grants access to.
+	 *
+	 * @param token       {@link String} feed token
+	 * @param ifNoneMatch {@link String} value of the {@code If-None-Match} header, or {@code null}
+	 * @return {@link CalendarFeed} with the current entity tag
+	 * @throws EntityNotFoundException if the token does not exist or was revoked
+	 */
+	@Override
+	public CalendarFeed getFeed(String token, String ifNoneMatch) {
+		FeedOwner owner = (token == null ? null : calendarFeedTokenRepository.findOwnerByTokenHash(hash(token)).orElse(null));
+		if (owner == null) {
+			throw new EntityNotFoundException(NOT_FOUND_MESSAGE);
+		}
+
+		LocalDate today = LocalDate.now();
+		LocalDateTime from = today.minusDays(pastDays).atStartOfDay();
+		LocalDateTime to = today.plusDays(futureDays).atStartOfDay();
+		List<ChangeSummary> summaries = List.of(
+			appointmentRepository.summarizeByEmployeeId(owner.getEmployeeId()),
+			appointmentSeriesRepository.summarizeByEmployeeId(owner.getEmployeeId()),
+			cancelledOccurrenceRepository.summarizeByEmployeeId(owner.getEmployeeId())
+		);
+
+		String eTag = eTag(owner, from, summaries);
+		if (ETagUtils.matches(ifNoneMatch, eTag)) {
+			return new CalendarFeed(eTag, null);
+		}
+
+		LocalDateTime stamp = summaries.stream()
+			.map(ChangeSummary::getUpdatedAt)
+			.filter(Objects::nonNull)
+			.max(Comparator.naturalOrder())
+			.orElse(from);
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setReadOnly(true);
+
+		return new CalendarFeed(eTag, outputStream -> transactionTemplate.executeWithoutResult(status -> {
+			try {
+				Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+				writeFeed(writer, owner, from, to, IcsUtils.formatUtc(stamp));
+				writer.flush();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}));
+	}
+
+	/**
+	 * Writes the calendar of an employee within a window.
+	 *
+	 * @param writer {@link Writer} response body
+	 * @param owner  {@link FeedOwner} employee and firm of the feed
+	 * @param from   {@link LocalDateTime} inclusive start of the window
+	 * @param to     {@link LocalDateTime} exclusive end of the window
+	 * @param stamp  {@link String} time every event was last revised at, as an iCalendar date-time
+	 * @throws IOException if writing to the client fails
+	 */
+	private void writeFeed(Writer writer, FeedOwner owner, LocalDateTime from, LocalDateTime to, String stamp)
+		throws IOException {
+		Firm firm = new Firm();
+		firm.setId(owner.getFirmId());
+		User employee = new User();
+		employee.setId(owner.getEmployeeId());
+
+		List<CalendarEntryDTO> firstOccurrences = appointmentSeriesRepository.findAllProjected(
+			AppointmentSeriesFilterBuilder.builder()
+				.firm(firm)
+				.employee(employee)
+				.activeFrom(from)
+				.activeTo(to)
+				.build()
+				.toSpecification(),
+			CalendarEntryDTO.SERIES_PROJECTION,
+			Pageable.unpaged()
+		).getContent();
+		Map<Long, CalendarEntryDTO> seriesById = firstOccurrences.stream()
+			.collect(Collectors.toMap(CalendarEntryDTO::seriesId, Function.identity()));
+		Iterator<CalendarEntryDTO> occurrences = StreamSupport.stream(
+				Spliterators.spliteratorUnknownSize(
+					occurrenceService.expand(firstOccurrences.stream().map(CalendarEntryDTO::toRecurrence).toList(), from, to),
+					Spliterator.ORDERED
+				),
+				false
+			)
+			.map(occurrence -> seriesById.get(occurrence.seriesId()).at(occurrence))
+			.iterator();
+
+		IcsUtils.writeLine(writer, "BEGIN:VCALENDAR");
+		IcsUtils.writeLine(writer, "VERSION:2.0");
+		IcsUtils.writeLine(writer, "PRODID:-//ChronoSync//Calendar Feed//EN");
+		IcsUtils.writeLine(writer, "CALSCALE:GREGORIAN");
+		IcsUtils.writeLine(writer, "METHOD:PUBLISH");
+
+		try (Stream<CalendarEntryDTO> appointments = appointmentRepository.streamAllProjected(
+			AppointmentFilterBuilder.builder()
+				.firm(firm)
+				.employee(employee)
+				.endDateTimeAfter(from)
+				.startDateTimeTo(to)
+				.build()
+				.toSpecification(),
+			CalendarEntryDTO.PROJECTION,
+			FEED_ORDER,
+			fetchSize
+		)) {
+			Iterator<CalendarEntryDTO> entries = new MergingIterator<>(
+				List.of(appointments.iterator(), occurrences),
+				Comparator.comparing(CalendarEntryDTO::startDateTime)
+			);
+			while (entries.hasNext()) {
+				writeEvent(writer, entries.next(), stamp);
+			}
+		}
+
+		IcsUtils.writeLine(writer, "END:VCALENDAR");
+	}
+
+	/**
+	 * Writes a calendar entry as an event. Stored appointments are identified by their ID
+	 * and generated occurrences by their series and start.
+	 *
+	 * @param writer {@link Writer} response body
+	 * @param entry  {@link CalendarEntryDTO} to write
+	 * @param stamp  {@link String} time the event was last revised at
+	 * @throws IOException if writing to the client fails
+	 */
+	private void writeEvent(Writer writer, CalendarEntryDTO entry, String stamp) throws IOException {
+		String uid = entry.id() != null
+			? "appointment-" + entry.id()
+			: "series-" + entry.seriesId() + "-" + IcsUtils.formatUtc(entry.startDateTime());
+		String client = Stream.of(entry.clientFirstName(), entry.clientLastName())
+			.filter(Objects::nonNull)
+			.collect(Collectors.joining(" "));
+		String summary = Stream.of(entry.appointmentTypeName(), client)
+			.filter(part -> part != null && !part.isBlank())
+			.collect(Collectors.joining(" - "));
+
+		IcsUtils.writeLine(writer, "BEGIN:VEVENT");
+		IcsUtils.writeLine(writer, "UID:" + uid + "@chronosync");
+		IcsUtils.writeLine(writer, "DTSTAMP:" + stamp);
+		IcsUtils.writeLine(writer, "DTSTART:" + IcsUtils.formatUtc(entry.startDateTime()));
+		IcsUtils.writeLine(writer, "DTEND:" + IcsUtils.formatUtc(entry.endDateTime()));
+		IcsUtils.writeLine(writer, "SUMMARY:" + IcsUtils.escape(summary.isEmpty() ? "Appointment" : summary));
+		if (entry.note() != null && !entry.note().isBlank()) {
+			IcsUtils.writeLine(writer, "DESCRIPTION:" + IcsUtils.escape(entry.note()));
+		}
+		IcsUtils.writeLine(writer, "END:VEVENT");
+	}
+
+	/**
+	 * Derives the entity tag of a feed from its window and the summaries of its rows.
+	 *
+	 * @param owner     {@link FeedOwner} employee of the feed
+	 * @param from      {@link LocalDateTime} start of the window
+	 * @param summaries {@link List} of {@link ChangeSummary} of the appointments, series and cancellations
+	 * @return {@link String} quoted strong entity tag
+	 */
+	private String eTag(FeedOwner owner, LocalDateTime from, List<ChangeSummary> summaries) {
+		StringBuilder version = new StringBuilder()
+			.append(owner.getEmployeeId()).append('|')
+			.append(from).append('|')
+			.append(futureDays);
+		for (ChangeSummary summary : summaries) {
+			version.append('|').append(summary.getCount())
+				.append(',').append(summary.getMaxId())
+				.append(',').append(summary.getUpdatedAt());
+		}
+		return '"' + hash(version.toString()).substring(0, 32) + '"';
+	}
+
+	/**
+	 * Hashes a value with SHA-256.
+	 *
+	 * @param value {@link String} value to hash
+	 * @return {@link String} lowercase hex digest
+	 */
+	private static String hash(String value) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available.", e);
+		}
+	}
+}
@@ -0,0 +1,218 @@
+package com.sinergy.chronosync.service.impl;
+
+import com.sinergy.chronosync.dto.request.ClientRequestDTO;
+import com.sinergy.chronosync.dto.response.ClientImportResponseDTO;
+import com.sinergy.chronosync.dto.response.ClientImportResponseDTO.RowError;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.model.Client;
+import com.sinergy.chronosync.model.Firm;
+import com.sinergy.chronosync.model.user.User;
+import com.sinergy.chronosync.repository.ClientRepository;
+import com.sinergy.chronosync.service.ClientImportService;
+import com.sinergy.chronosync.service.SearchResultCacheService;
+import com.sinergy.chronosync.service.SearchResultCacheService.Entity;
+import com.sinergy.chronosync.service.SecurityContextService;
+import com.sinergy.chronosync.util.CsvUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+/**
+ * Service implementation for importing clients in bulk.
+ *
+ * <p>Rows are validated in parallel, then the valid ones are inserted in JDBC batches
+ * with IDs reserved from the client ID sequence. Rows rejected by validation or by
+ * the per-firm uniqueness constraint are reported individually and do not stop
+ * the rest of the import.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class ClientImportServiceImpl implements ClientImportService {
+
+	private static final int MAX_FIELD_LENGTH = 255;
+	private static final Pattern EMAIL_PATTERN = Pattern.compile("^[^@\\s]+@[^@\\s]+$");
+	private static final String DUPLICATE_MESSAGE = "A client with the same details already exists for this firm.";
+
+	private static final Map<String, BiConsumer<ClientRequestDTO, String>> CSV_COLUMNS = Map.of(
+		"firstname", ClientRequestDTO::setFirstName,
+		"lastname", ClientRequestDTO::setLastName,
+		"email", ClientRequestDTO::setEmail,
+		"phone", ClientRequestDTO::setPhone,
+		"address", ClientRequestDTO::setAddress,
+		"uniqueidentifier", ClientRequestDTO::setUniqueIdentifier
+	);
+
+	private final ClientRepository clientRepository;
+	private final SecurityContextService securityContextService;
+	private final SearchResultCacheService searchResultCacheService;
+
+	@Value("${client.import.batch-size:500}")
+	private int batchSize;
+
+	@Value("${client.import.max-rows:100000}")
+	private int maxRows;
+
+	/**
+	 * Imports clients into the authenticated user's firm.
+	 *
+	 * @param rows {@link List} of {@link ClientRequestDTO} clients to import
+	 * @return {@link ClientImportResponseDTO} import outcome with per-row errors
+	 * @throws InvalidStateException if there are no rows or more than the allowed maximum
+	 */
+	@Override
+	@Transactional
+	public ClientImportResponseDTO importClients(List<ClientRequestDTO> rows) {
+		if (rows == null || rows.isEmpty()) {
+			throw new InvalidStateException("The import contains no clients.");
+		}
+		if (rows.size() > maxRows) {
+			throw new InvalidStateException("The import exceeds the limit of " + maxRows + " clients.");
+		}
+
+		List<RowError> errors = new ArrayList<>(IntStream.range(0, rows.size())
+			.parallel()
+			.mapToObj(i -> validate(i + 1, rows.get(i)))
+			.filter(Objects::nonNull)
+			.toList());
+
+		Firm firm = securityContextService.getAuthUserFirm();
+		User user = securityContextService.getAuthUser();
+		LocalDateTime now = LocalDateTime.now();
+
+		List<Integer> rowNumbers = new ArrayList<>();
+		List<Client> clients = new ArrayList<>();
+		int nextError = 0;
+		for (int i = 0; i < rows.size(); i++) {
+			if (nextError < errors.size() && errors.get(nextError).row() == i + 1) {
+				nextError++;
+				continue;
+			}
+			Client client = rows.get(i).toModel(firm);
+			client.setCreatedAt(now);
+			client.setCreatedBy(user);
+			rowNumbers.add(i + 1);
+			clients.add(client);
+		}
+
+		int imported = 0;
+		for (int from = 0; from < clients.size(); from += batchSize) {
+			List<Client> batch = clients.subList(from, Math.min(from + batchSize, clients.size()));
+			List<Long> ids = clientRepository.reserveIds(batch.size());
+			for (int i = 0; i < batch.size(); i++) {
+				batch.get(i).setId(ids.get(i));
+			}
+
+			boolean[] inserted = clientRepository.insertAllSkippingDuplicates(batch, batchSize);
+			for (int i = 0; i < inserted.length; i++) {
+				if (inserted[i]) {
+					imported++;
+				} else {
+					errors.add(new RowError(rowNumbers.get(from + i), DUPLICATE_MESSAGE));
+				}
+			}
+		}
+
+		if (imported > 0) {
+			searchResultCacheService.invalidate(firm.getId(), Entity.CLIENT);
+		}
+		errors.sort(Comparator.comparingInt(RowError::row));
+		return new ClientImportResponseDTO(rows.size(), imported, errors);
+	}
+
+	/**
+	 * Imports clients from CSV text with a header line naming the client fields.
+	 *
+	 * <p>Header names match the {@link ClientRequestDTO} fields, ignoring case. Unknown
+	 * columns are ignored and empty fields are imported as missing values.</p>
+	 *
+	 * @param csv {@link Reader} CSV source
+	 * @return {@link ClientImportResponseDTO} import outcome with per-row errors
+	 * @throws InvalidStateException if the CSV cannot be read or has no header line
+	 */
+	@Override
+	@Transactional
+	public ClientImportResponseDTO importClientsCsv(Reader csv) {
+		List<List<String>> records;
+		try {
+			records = CsvUtils.parse(csv);
+		} catch (IOException e) {
+			throw new InvalidStateException("The client import could not be read.");
+		}
+		if (records.isEmpty()) {
+			throw new InvalidStateException("The import contains no clients.");
+		}
+
+		List<String> header = records.getFirst();
+		Map<Integer, BiConsumer<ClientRequestDTO, String>> setters = new HashMap<>();
+		for (int i = 0; i < header.size(); i++) {
+			BiConsumer<ClientRequestDTO, String> setter = CSV_COLUMNS.get(header.get(i).trim().toLowerCase());
+			if (setter != null) {
+				setters.put(i, setter);
+			}
+		}
+
+		List<ClientRequestDTO> rows = records.subList(1, records.size()).stream()
+			.map(fields -> {
+				ClientRequestDTO row = new ClientRequestDTO();
+				setters.forEach((column, setter) -> {
+					if (column < fields.size() && !fields.get(column).isEmpty()) {
+						setter.accept(row, fields.get(column));
+					}
+				});
+				return row;
+			})
+			.toList();
+
+		return importClients(rows);
+	}
+
+	/**
+	 * Validates a single import row.
+	 *
+	 * @param row    1-based row number
+	 * @param client {@link ClientRequestDTO} row to validate
+	 * @return {@link RowError} describing the problem, or {@code null} if the row is valid
+	 */
+	private RowError validate(int row, ClientRequestDTO client) {
+		if (client == null) {
+			return new RowError(row, "Row is empty.");
+		}
+		if (isBlank(client.getFirstName()) || isBlank(client.getLastName())) {
+			return new RowError(row, "First name and last name are required.");
+		}
+		if (client.getEmail() != null && !EMAIL_PATTERN.matcher(client.getEmail()).matches()) {
+			return new RowError(row, "Email address is not valid.");
+		}
+		for (String value : new String[]{
+			client.getFirstName(),
+			client.getLastName(),
+			client.getEmail(),
+			client.getPhone(),
+			client.getAddress(),
+			client.getUniqueIdentifier()
+		}) {
+			if (value != null && value.length() > MAX_FIELD_LENGTH) {
+				return new RowError(row, "Values must be at most " + MAX_FIELD_LENGTH + " characters long.");
+			}
+		}
+		return null;
+	}
+
+	private static boolean isBlank(String value) {
+		return value == null || value.isBlank();
+	}
+}
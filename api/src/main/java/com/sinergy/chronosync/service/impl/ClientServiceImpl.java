@@ -3,22 +3,33 @@ package com.sinergy.chronosync.service.impl;
 import com.sinergy.chronosync.builder.ClientFilterBuilder;
 import com.sinergy.chronosync.dto.request.ClientRequestDTO;
 import com.sinergy.chronosync.dto.request.PaginatedClientRequestDTO;
+import com.sinergy.chronosync.dto.response.ClientSearchResponseDTO;
 import com.sinergy.chronosync.exception.EntityNotFoundException;
 import com.sinergy.chronosync.exception.InvalidStateException;
 import com.sinergy.chronosync.exception.RepositoryException;
 import com.sinergy.chronosync.model.Client;
+import com.sinergy.chronosync.model.Firm;
 import com.sinergy.chronosync.repository.ClientRepository;
 import com.sinergy.chronosync.service.ClientService;
+import com.sinergy.chronosync.service.SearchResultCacheService;
+import com.sinergy.chronosync.service.SearchResultCacheService.Entity;
 import com.sinergy.chronosync.service.SecurityContextService;
-import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * Service implementation for managing clients.
+ *
+ * <p>Searches are served from the firm's search result cache until a client of the firm
+ * changes.</p>
  */
 @Service
 @AllArgsConstructor
@@ -26,30 +37,53 @@ public class ClientServiceImpl implements ClientService {
 
 	private final ClientRepository clientRepository;
 	private final SecurityContextService securityContextService;
+	private final SearchResultCacheService searchResultCacheService;
 
 	/**
 	 * Retrieves all clients associated with the current user's firm.
 	 * <p>
 	 * This method checks the current logged-in user's firm and returns
-	 * a list of {@link Client} objects linked to that firm's ID.
+	 * a list of {@link ClientSearchResponseDTO} rows linked to that firm's ID.
+	 * Only the listed columns are selected, in a read-only transaction, and the page is
+	 * cached per firm and filter.
 	 *
 	 * @param pageRequest The pagination and sorting information
 	 * @return {@link Page} clients associated with the authenticated user's firm
 	 */
 	@Override
-	public Page<Client> getClients(PaginatedClientRequestDTO pageRequest) {
-		ClientFilterBuilder filterBuilder = ClientFilterBuilder.builder()
-			.firmId(securityContextService.getAuthUserFirm().getId())
-			.firstName(pageRequest.getFirstName())
-			.lastName(pageRequest.getLastName())
-			.email(pageRequest.getEmail())
-			.phone(pageRequest.getPhone())
-			.uniqueIdentifier(pageRequest.getUniqueIdentifier())
-			.build();
+	public Page<ClientSearchResponseDTO> getClients(PaginatedClientRequestDTO pageRequest) {
+		Long firmId = securityContextService.getAuthUserFirm().getId();
+
+		return searchResultCacheService.get(
+			firmId,
+			"clients",
+			Set.of(Entity.CLIENT),
+			() -> {
+				ClientFilterBuilder filterBuilder = ClientFilterBuilder.builder()
+					.firmId(firmId)
+					.firstName(pageRequest.getFirstName())
+					.lastName(pageRequest.getLastName())
+					.email(pageRequest.getEmail())
+					.phone(pageRequest.getPhone())
+					.uniqueIdentifier(pageRequest.getUniqueIdentifier())
+					.build();
 
-		filterBuilder.setPageable(PageRequest.of(pageRequest.getPage(), pageRequest.getPageSize()));
+				filterBuilder.setPageable(PageRequest.of(pageRequest.getPage(), pageRequest.getPageSize()));
 
-		return clientRepository.findAll(filterBuilder.toSpecification(), filterBuilder.getPageable());
+				return clientRepository.findAllProjected(
+					filterBuilder.toSpecification(),
+					ClientSearchResponseDTO.PROJECTION,
+					filterBuilder.getPageable()
+				);
+			},
+			pageRequest.getFirstName(),
+			pageRequest.getLastName(),
+			pageRequest.getEmail(),
+			pageRequest.getPhone(),
+			pageRequest.getUniqueIdentifier(),
+			pageRequest.getPage(),
+			pageRequest.getPageSize()
+		);
 	}
 
 	/**
@@ -64,35 +98,50 @@ public class ClientServiceImpl implements ClientService {
 		Client client = requestDto.toModel(securityContextService.getAuthUserFirm());
 		client.setFirm(securityContextService.getAuthUserFirm());
 		try {
-			return clientRepository.create(client);
+			Client created = clientRepository.create(client);
+			searchResultCacheService.invalidate(client.getFirm().getId(), Entity.CLIENT);
+			return created;
 		} catch (DataIntegrityViolationException e) {
 			throw new RepositoryException("A client with the same details already exists for this firm.");
 		}
 	}
 
 	/**
-	 * Updates an existing client.
+	 * Updates an existing client of the current user's firm.
 	 *
 	 * @param requestDto {@link ClientRequestDTO} containing client details
 	 * @return {@link Client} representing the updated or newly created client
-	 * @throws RepositoryException if the client cannot be found for update
+	 * @throws InvalidStateException if the request carries no version
+	 * @throws RepositoryException   if the client cannot be found for update within the firm
 	 */
 	@Override
 	public Client updateClient(ClientRequestDTO requestDto) {
-		return clientRepository.update(requestDto.toModel(securityContextService.getAuthUserFirm()));
+		if (requestDto.getVersion() == null) {
+			throw new InvalidStateException("Client version is required for an update.");
+		}
+		Firm firm = securityContextService.getAuthUserFirm();
+		Client updated = clientRepository.update(requestDto.toModel(firm), firm.getId());
+		searchResultCacheService.invalidate(firm.getId(), Entity.CLIENT);
+		return updated;
 	}
 
 	/**
-	 * Deletes a client identified by its ID.
+	 * Deletes clients of the current user's firm with a single set-based statement.
+	 * Clients of other firms are never matched. If fewer rows are deleted than IDs
+	 * were given, the transaction is rolled back.
 	 *
-	 * @param id {@link Long} ID of the appointment type to delete
-	 * @throws InvalidStateException if deletion fails or the client does not exist
+	 * @param ids {@link List} of IDs of the clients to delete
+	 * @throws EntityNotFoundException if any of the clients does not exist within the firm
 	 */
 	@Override
-	public void deleteClient(Long id) {
-		if (!clientRepository.existsById(id)) {
+	@Transactional
+	public void deleteClient(List<Long> ids) {
+		Set<Long> distinctIds = new HashSet<>(ids);
+		Long firmId = securityContextService.getAuthUserFirm().getId();
+		int deleted = clientRepository.deleteByFirmIdAndIdIn(firmId, distinctIds);
+		if (deleted != distinctIds.size()) {
 			throw new EntityNotFoundException("Client not found");
 		}
-		clientRepository.deleteById(id);
+		searchResultCacheService.invalidate(firmId, Entity.CLIENT);
 	}
 }
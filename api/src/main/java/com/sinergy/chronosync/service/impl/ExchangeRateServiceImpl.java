@@ -0,0 +1,166 @@
+package com.sinergy.chronosync.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sinergy.chronosync.dto.request.ExchangeRateDTO;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.model.ExchangeRate;
+import com.sinergy.chronosync.model.Firm;
+import com.sinergy.chronosync.model.appointmentType.Currency;
+import com.sinergy.chronosync.repository.AppointmentTypeRepository;
+import com.sinergy.chronosync.repository.ExchangeRateRepository;
+import com.sinergy.chronosync.repository.ExchangeRateRepository.ExchangeRateRow;
+import com.sinergy.chronosync.service.ExchangeRateService;
+import com.sinergy.chronosync.service.SecurityContextService;
+import com.sinergy.chronosync.util.TransactionUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Service implementation for the exchange rates of firms.
+ *
+ * <p>Each firm's rates are read with one query and kept in a bounded cache, so converting
+ * a report costs a lookup per row and no query. The cached rates of a firm are discarded
+ * after its rates are replaced and commit; other instances see the change once their
+ * cached copy expires.</p>
+ */
+@Service
+public class ExchangeRateServiceImpl implements ExchangeRateService {
+
+	private static final Comparator<ExchangeRateDTO> TABLE_ORDER = Comparator
+		.comparing(ExchangeRateDTO::getCurrency)
+		.thenComparing(ExchangeRateDTO::getTargetCurrency);
+
+	private final ExchangeRateRepository exchangeRateRepository;
+	private final AppointmentTypeRepository appointmentTypeRepository;
+	private final SecurityContextService securityContextService;
+	private final Cache<Long, Map<Currency, Map<Currency, BigDecimal>>> rates;
+
+	/**
+	 * Creates the service and its cache.
+	 *
+	 * @param maximumSize largest number of firms whose rates are cached
+	 * @param timeToLive  {@link Duration} after which the rates of a firm are read again
+	 */
+	public ExchangeRateServiceImpl(
+		ExchangeRateRepository exchangeRateRepository,
+		AppointmentTypeRepository appointmentTypeRepository,
+		SecurityContextService securityContextService,
+		@Value("${report.exchange-rates.cache.maximum-size:10000}") long maximumSize,
+		@Value("${report.exchange-rates.cache.time-to-live:1h}") Duration timeToLive
+	) {
+		this.exchangeRateRepository = exchangeRateRepository;
+		this.appointmentTypeRepository = appointmentTypeRepository;
+		this.securityContextService = securityContextService;
+		this.rates = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(timeToLive)
+			.build();
+	}
+
+	/**
+	 * Retrieves the exchange rates of the current user's firm.
+	 *
+	 * @return {@link List} of {@link ExchangeRateDTO} ordered by currency and target currency
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public List<ExchangeRateDTO> getExchangeRates() {
+		return exchangeRateRepository.findRowsByFirmId(securityContextService.getAuthUserFirm().getId()).stream()
+			.map(row -> new ExchangeRateDTO(row.getCurrency(), row.getTargetCurrency(), row.getRate()))
+			.toList();
+	}
+
+	/**
+	 * Replaces the exchange rates of the current user's firm.
+	 * The firm's cached rates are discarded after the change commits.
+	 *
+	 * @param exchangeRates {@link List} of {@link ExchangeRateDTO} making up the new table
+	 * @return {@link List} of the stored {@link ExchangeRateDTO} ordered by currency and target currency
+	 * @throws InvalidStateException if a rate lacks a currency, converts a currency into itself,
+	 *                               is not positive, has too many decimals or is given twice
+	 */
+	@Override
+	@Transactional
+	public List<ExchangeRateDTO> replaceExchangeRates(List<ExchangeRateDTO> exchangeRates) {
+		Firm firm = securityContextService.getAuthUserFirm();
+		Set<List<Currency>> pairs = new HashSet<>();
+		for (ExchangeRateDTO rate : exchangeRates) {
+			if (rate.getCurrency() == null || rate.getTargetCurrency() == null || rate.getCurrency() == rate.getTargetCurrency()) {
+				throw new InvalidStateException("Exchange rate must convert between two different currencies.");
+			}
+			if (rate.getRate() == null || rate.getRate().signum() <= 0
+				|| rate.getRate().stripTrailingZeros().scale() > ExchangeRate.RATE_SCALE) {
+				throw new InvalidStateException(
+					"Exchange rate must be positive with at most " + ExchangeRate.RATE_SCALE + " decimals."
+				);
+			}
+			if (!pairs.add(List.of(rate.getCurrency(), rate.getTargetCurrency()))) {
+				throw new InvalidStateException(
+					"Exchange rate from " + rate.getCurrency() + " into " + rate.getTargetCurrency() + " is given twice."
+				);
+			}
+		}
+
+		exchangeRateRepository.deleteByFirmId(firm.getId());
+		exchangeRateRepository.saveAll(exchangeRates.stream().map(rate -> rate.toModel(firm)).toList());
+		TransactionUtils.afterCommit(() -> rates.invalidate(firm.getId()));
+
+		return exchangeRates.stream().sorted(TABLE_ORDER).toList();
+	}
+
+	/**
+	 * Finds the rates converting every currency of a firm's appointment types into a target
+	 * currency, from the cached rates of the firm.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @param target {@link Currency} to convert into
+	 * @return {@link Map} of currency to the amount of the target currency one major unit of it buys
+	 * @throws InvalidStateException if a currency of the firm's appointment types has no rate into the target
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public Map<Currency, BigDecimal> getRatesInto(Long firmId, Currency target) {
+		Map<Currency, Map<Currency, BigDecimal>> firmRates = rates.get(firmId, this::load);
+		Map<Currency, BigDecimal> into = new EnumMap<>(Currency.class);
+		firmRates.forEach((currency, targets) -> {
+			BigDecimal rate = targets.get(target);
+			if (rate != null) {
+				into.put(currency, rate);
+			}
+		});
+		into.put(target, BigDecimal.ONE);
+
+		for (Currency currency : appointmentTypeRepository.findCurrenciesByFirmId(firmId)) {
+			if (!into.containsKey(currency)) {
+				throw new InvalidStateException("No exchange rate from " + currency + " into " + target + ".");
+			}
+		}
+		return into;
+	}
+
+	/**
+	 * Reads the exchange rates of a firm.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @return {@link Map} of currency to target currency to rate
+	 */
+	private Map<Currency, Map<Currency, BigDecimal>> load(Long firmId) {
+		Map<Currency, Map<Currency, BigDecimal>> firmRates = new EnumMap<>(Currency.class);
+		for (ExchangeRateRow row : exchangeRateRepository.findRowsByFirmId(firmId)) {
+			firmRates.computeIfAbsent(row.getCurrency(), currency -> new EnumMap<>(Currency.class))
+				.put(row.getTargetCurrency(), row.getRate());
+		}
+		return firmRates;
+	}
+}
@@ -0,0 +1,77 @@
+package com.sinergy.chronosync.service.impl;
+
+import com.sinergy.chronosync.dto.request.FirmTimeZoneDTO;
+import com.sinergy.chronosync.exception.EntityNotFoundException;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.model.Firm;
+import com.sinergy.chronosync.repository.FirmRepository;
+import com.sinergy.chronosync.service.FirmService;
+import com.sinergy.chronosync.service.ReferenceDataCacheService;
+import com.sinergy.chronosync.service.SecurityContextService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DateTimeException;
+import java.time.ZoneId;
+
+/**
+ * Service implementation for the settings of firms.
+ *
+ * <p>The time zone is carried in the tokens of the firm's users, so a change applies to
+ * each user from their next login.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class FirmServiceImpl implements FirmService {
+
+	private final FirmRepository firmRepository;
+	private final SecurityContextService securityContextService;
+	private final ReferenceDataCacheService referenceDataCacheService;
+
+	/**
+	 * Retrieves the time zone of the current user's firm.
+	 *
+	 * @return {@link FirmTimeZoneDTO} holding the firm's time zone, or none if it is UTC
+	 * @throws EntityNotFoundException if the firm does not exist
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public FirmTimeZoneDTO getTimeZone() {
+		return new FirmTimeZoneDTO(findFirm().getTimeZone());
+	}
+
+	/**
+	 * Changes the time zone of the current user's firm. The ID is stored in its normalized
+	 * form and the cached firm is evicted after the change commits.
+	 *
+	 * @param request {@link FirmTimeZoneDTO} holding the new time zone
+	 * @return {@link FirmTimeZoneDTO} holding the stored time zone
+	 * @throws InvalidStateException   if the time zone is missing or not a valid zone ID
+	 * @throws EntityNotFoundException if the firm does not exist
+	 */
+	@Override
+	@Transactional
+	public FirmTimeZoneDTO updateTimeZone(FirmTimeZoneDTO request) {
+		if (request.getTimeZone() == null) {
+			throw new InvalidStateException("Time zone is required.");
+		}
+		ZoneId zone;
+		try {
+			zone = ZoneId.of(request.getTimeZone());
+		} catch (DateTimeException e) {
+			throw new InvalidStateException("Time zone " + request.getTimeZone() + " is not valid.");
+		}
+
+		Firm firm = findFirm();
+		firm.setTimeZone(zone.getId());
+		firmRepository.save(firm);
+		referenceDataCacheService.evictFirm(firm.getId());
+		return new FirmTimeZoneDTO(firm.getTimeZone());
+	}
+
+	private Firm findFirm() {
+		return firmRepository.findById(securityContextService.getAuthUserFirm().getId())
+			.orElseThrow(() -> new EntityNotFoundException("Firm does not exist."));
+	}
+}
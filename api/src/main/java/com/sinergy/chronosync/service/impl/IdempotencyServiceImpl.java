@@ -0,0 +1,166 @@
+package com.sinergy.chronosync.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sinergy.chronosync.exception.ConflictException;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.service.IdempotencyService;
+import com.sinergy.chronosync.service.SecurityContextService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Service implementation for idempotent requests, keeping the responses of executed
+ * requests in memory.
+ *
+ * <p>Keys are scoped to the user and operation, and their responses are kept in a bounded
+ * cache until they expire. The first request with a key registers its execution before
+ * running it, so concurrent retries wait for its response instead of writing again. Keys
+ * are kept per instance; a retry reaching another instance is executed again.</p>
+ */
+@Service
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+	private static final int MAX_KEY_LENGTH = 255;
+
+	private final SecurityContextService securityContextService;
+	private final Cache<Key, Execution> executions;
+	private final long waitTimeoutNanos;
+
+	/**
+	 * Creates the service and its store.
+	 *
+	 * @param maximumSize largest number of stored responses
+	 * @param timeToLive  {@link Duration} for which a response is stored
+	 * @param waitTimeout {@link Duration} a concurrent retry waits for the first execution
+	 */
+	public IdempotencyServiceImpl(
+		SecurityContextService securityContextService,
+		@Value("${idempotency.maximum-size:100000}") long maximumSize,
+		@Value("${idempotency.time-to-live:24h}") Duration timeToLive,
+		@Value("${idempotency.wait-timeout:30s}") Duration waitTimeout
+	) {
+		this.securityContextService = securityContextService;
+		this.waitTimeoutNanos = waitTimeout.toNanos();
+		this.executions = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(timeToLive)
+			.build();
+	}
+
+	/**
+	 * Executes a request once per idempotency key of the current user.
+	 *
+	 * @param idempotencyKey {@link String} key sent by the client, or {@code null} to always execute
+	 * @param operation      {@link String} name of the operation
+	 * @param request        content of the request
+	 * @param execution      {@link Supplier} executing the request
+	 * @param <T>            type of the response body
+	 * @return {@link ResponseEntity} of the first execution
+	 * @throws InvalidStateException if the key is too long or was used for a different request
+	 * @throws ConflictException     if the first execution is still running after the wait timeout
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> ResponseEntity<T> execute(
+		String idempotencyKey,
+		String operation,
+		Object request,
+		Supplier<ResponseEntity<T>> execution
+	) {
+		if (idempotencyKey == null || idempotencyKey.isBlank()) {
+			return execution.get();
+		}
+		if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+			throw new InvalidStateException("Idempotency key must not be longer than " + MAX_KEY_LENGTH + " characters.");
+		}
+
+		Key key = new Key(securityContextService.getAuthUser().getId(), operation, idempotencyKey);
+		Execution first = new Execution(request, new CompletableFuture<>());
+		Execution existing = executions.asMap().putIfAbsent(key, first);
+		if (existing != null) {
+			if (!Objects.equals(existing.request(), request)) {
+				throw new InvalidStateException("Idempotency key was already used for a different request.");
+			}
+			return replay((ResponseEntity<T>) await(existing.response()));
+		}
+
+		try {
+			ResponseEntity<T> response = execution.get();
+			first.response().complete(response);
+			return response;
+		} catch (RuntimeException | Error e) {
+			executions.asMap().remove(key, first);
+			first.response().completeExceptionally(e);
+			throw e;
+		}
+	}
+
+	/**
+	 * Waits for the response of the first execution of a key.
+	 *
+	 * @param response {@link CompletableFuture} response of the first execution
+	 * @return {@link ResponseEntity} of the first execution
+	 * @throws ConflictException if the first execution is still running after the wait timeout
+	 */
+	private ResponseEntity<?> await(CompletableFuture<ResponseEntity<?>> response) {
+		try {
+			return response.get(waitTimeoutNanos, TimeUnit.NANOSECONDS);
+		} catch (TimeoutException e) {
+			throw new ConflictException("A request with the same idempotency key is still in progress.");
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ConflictException("A request with the same idempotency key is still in progress.");
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof Error cause) {
+				throw cause;
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	/**
+	 * Copies a stored response and marks it as replayed.
+	 *
+	 * @param response {@link ResponseEntity} stored response
+	 * @param <T>      type of the response body
+	 * @return {@link ResponseEntity} with the stored status, headers and body
+	 */
+	private static <T> ResponseEntity<T> replay(ResponseEntity<T> response) {
+		return ResponseEntity.status(response.getStatusCode())
+			.headers(response.getHeaders())
+			.header(REPLAYED_HEADER, "true")
+			.body(response.getBody());
+	}
+
+	/**
+	 * Idempotency key of a user and operation.
+	 *
+	 * @param userId         ID of the user sending the request
+	 * @param operation      name of the operation
+	 * @param idempotencyKey key sent by the client
+	 */
+	private record Key(Long userId, String operation, String idempotencyKey) {
+	}
+
+	/**
+	 * Content and response of the first request with a key.
+	 *
+	 * @param request  content of the request
+	 * @param response response of its execution, completed once it has finished
+	 */
+	private record Execution(Object request, CompletableFuture<ResponseEntity<?>> response) {
+	}
+}
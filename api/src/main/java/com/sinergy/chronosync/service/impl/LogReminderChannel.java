@@ -0,0 +1,35 @@
+package com.sinergy.chronosync.service.impl;
+
+import com.sinergy.chronosync.dto.response.AppointmentReminderDTO;
+import com.sinergy.chronosync.service.ReminderChannel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * Reminder channel writing reminders to the application log. Used unless another channel
+ * is configured.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "appointment.reminders.channel", havingValue = "log", matchIfMissing = true)
+public class LogReminderChannel implements ReminderChannel {
+
+	/**
+	 * Logs a reminder.
+	 *
+	 * @param reminder {@link AppointmentReminderDTO} reminder to deliver
+	 */
+	@Override
+	public void deliver(AppointmentReminderDTO reminder) {
+		log.info(
+			"Reminder {}: appointment {} of firm {} with {} {} starts at {}.",
+			reminder.key(),
+			reminder.appointmentId(),
+			reminder.firmId(),
+			reminder.clientFirstName(),
+			reminder.clientLastName(),
+			reminder.startDateTime()
+		);
+	}
+}
@@ -0,0 +1,172 @@
+package com.sinergy.chronosync.service.impl;
+
+import com.sinergy.chronosync.repository.AppointmentRepository;
+import com.sinergy.chronosync.repository.AppointmentRepository.OccurrenceKey;
+import com.sinergy.chronosync.repository.AppointmentSeriesRepository;
+import com.sinergy.chronosync.repository.CancelledOccurrenceRepository;
+import com.sinergy.chronosync.service.OccurrenceService;
+import com.sinergy.chronosync.util.MergingIterator;
+import com.sinergy.chronosync.util.RecurrenceRule;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Service implementation for the occurrences of appointment series.
+ *
+ * <p>Occurrences are never stored. Each series is expanded from its recurrence rule only
+ * within the requested range, and the series are merged into one sequence ordered by start
+ * as they are read. The moved and cancelled occurrences of the range are looked up with one
+ * query each and skipped.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class OccurrenceServiceImpl implements OccurrenceService {
+
+	private static final Comparator<Occurrence> BY_START = Comparator
+		.comparing(Occurrence::startDateTime)
+		.thenComparing(Occurrence::seriesId);
+
+	private final AppointmentSeriesRepository appointmentSeriesRepository;
+	private final CancelledOccurrenceRepository cancelledOccurrenceRepository;
+	private final AppointmentRepository appointmentRepository;
+
+	/**
+	 * Finds the occurrences of the given employees' series overlapping a time range.
+	 *
+	 * @param employeeIds {@link Collection} of employee IDs
+	 * @param start       {@link LocalDateTime} inclusive start of the range
+	 * @param end         {@link LocalDateTime} exclusive end of the range
+	 * @return {@link List} of {@link Occurrence} ordered by start
+	 */
+	@Override
+	public List<Occurrence> findOccurrences(Collection<Long> employeeIds, LocalDateTime start, LocalDateTime end) {
+		List<Occurrence> occurrences = new ArrayList<>();
+		expand(findRecurrences(employeeIds, start, end), start, end).forEachRemaining(occurrences::add);
+		return occurrences;
+	}
+
+	/**
+	 * Checks whether an employee has an occurrence overlapping a time range, expanding
+	 * the series only up to the first overlapping occurrence.
+	 *
+	 * @param employeeId {@link Long} ID of the employee
+	 * @param start      {@link LocalDateTime} inclusive start of the range
+	 * @param end        {@link LocalDateTime} exclusive end of the range
+	 * @return {@code true} if an occurrence overlaps the range
+	 */
+	@Override
+	public boolean overlapsOccurrence(Long employeeId, LocalDateTime start, LocalDateTime end) {
+		return expand(findRecurrences(List.of(employeeId), start, end), start, end).hasNext();
+	}
+
+	/**
+	 * Lazily generates the occurrences of the given series overlapping a time range.
+	 *
+	 * @param series {@link Collection} of {@link Recurrence} to expand
+	 * @param start  {@link LocalDateTime} inclusive start of the range
+	 * @param end    {@link LocalDateTime} exclusive end of the range
+	 * @return {@link Iterator} of {@link Occurrence} ordered by start
+	 */
+	@Override
+	public Iterator<Occurrence> expand(Collection<Recurrence> series, LocalDateTime start, LocalDateTime end) {
+		if (series.isEmpty()) {
+			return Collections.emptyIterator();
+		}
+
+		Duration longest = series.stream()
+			.map(recurrence -> Duration.between(recurrence.startDateTime(), recurrence.endDateTime()))
+			.max(Comparator.naturalOrder())
+			.orElseThrow();
+		List<Long> seriesIds = series.stream().map(Recurrence::seriesId).toList();
+		LocalDateTime earliestStart = start.minus(longest);
+
+		Set<Key> replaced = new HashSet<>();
+		for (OccurrenceKey key : cancelledOccurrenceRepository.findKeys(seriesIds, earliestStart, end)) {
+			replaced.add(new Key(key.getSeriesId(), key.getOccurrenceStartDateTime()));
+		}
+		for (OccurrenceKey key : appointmentRepository.findOccurrenceKeys(seriesIds, earliestStart, end)) {
+			replaced.add(new Key(key.getSeriesId(), key.getOccurrenceStartDateTime()));
+		}
+
+		List<Iterator<Occurrence>> sources = new ArrayList<>(series.size());
+		for (Recurrence recurrence : series) {
+			sources.add(new SeriesOccurrences(recurrence, start, end, replaced));
+		}
+		return new MergingIterator<>(sources, BY_START);
+	}
+
+	private List<Recurrence> findRecurrences(Collection<Long> employeeIds, LocalDateTime start, LocalDateTime end) {
+		if (employeeIds.isEmpty()) {
+			return List.of();
+		}
+		return appointmentSeriesRepository.findRanges(employeeIds, start, end).stream()
+			.map(Recurrence::of)
+			.toList();
+	}
+
+	private record Key(Long seriesId, LocalDateTime occurrenceStartDateTime) {
+	}
+
+	/**
+	 * Occurrences of one series overlapping a time range, in order of start.
+	 */
+	private static final class SeriesOccurrences implements Iterator<Occurrence> {
+
+		private final Recurrence recurrence;
+		private final Duration duration;
+		private final LocalDateTime start;
+		private final LocalDateTime end;
+		private final Set<Key> replaced;
+		private final Iterator<LocalDateTime> starts;
+		private Occurrence next;
+		private boolean done;
+
+		private SeriesOccurrences(Recurrence recurrence, LocalDateTime start, LocalDateTime end, Set<Key> replaced) {
+			this.recurrence = recurrence;
+			this.duration = Duration.between(recurrence.startDateTime(), recurrence.endDateTime());
+			this.start = start;
+			this.end = end;
+			this.replaced = replaced;
+			this.starts = RecurrenceRule.parse(recurrence.recurrenceRule())
+				.startsFrom(recurrence.startDateTime(), start.minus(duration));
+		}
+
+		@Override
+		public boolean hasNext() {
+			while (next == null && !done && starts.hasNext()) {
+				LocalDateTime occurrenceStart = starts.next();
+				if (!occurrenceStart.isBefore(end)) {
+					done = true;
+					break;
+				}
+				LocalDateTime occurrenceEnd = occurrenceStart.plus(duration);
+				if (occurrenceEnd.isAfter(start) && !replaced.contains(new Key(recurrence.seriesId(), occurrenceStart))) {
+					next = new Occurrence(recurrence.seriesId(), recurrence.employeeId(), occurrenceStart, occurrenceEnd);
+				}
+			}
+			return next != null;
+		}
+
+		@Override
+		public Occurrence next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			Occurrence result = next;
+			next = null;
+			return result;
+		}
+	}
+}
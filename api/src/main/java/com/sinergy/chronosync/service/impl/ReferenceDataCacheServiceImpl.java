@@ -0,0 +1,55 @@
+package com.sinergy.chronosync.service.impl;
+
+import com.sinergy.chronosync.config.CacheConfig;
+import com.sinergy.chronosync.model.Firm;
+import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import com.sinergy.chronosync.service.ReferenceDataCacheService;
+import com.sinergy.chronosync.util.TransactionUtils;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service implementation for invalidating cached firm-scoped reference data.
+ *
+ * <p>Hibernate keeps its own regions consistent for writes made through the persistence
+ * context. This service additionally evicts entries explicitly after a write, so cached
+ * reference data never outlives a change made through the services. Eviction is deferred
+ * until the surrounding transaction commits, so a concurrent reader cannot re-populate
+ * the cache with the old state in between.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class ReferenceDataCacheServiceImpl implements ReferenceDataCacheService {
+
+	private final EntityManagerFactory entityManagerFactory;
+
+	/**
+	 * Evicts an appointment type and every cached appointment type list once the current
+	 * transaction commits.
+	 *
+	 * @param id {@link Long} ID of the changed appointment type, or {@code null} if only the lists changed
+	 */
+	@Override
+	public void evictAppointmentType(Long id) {
+		TransactionUtils.afterCommit(() -> {
+			if (id != null) {
+				entityManagerFactory.getCache().evict(AppointmentType.class, id);
+			}
+			entityManagerFactory.unwrap(SessionFactory.class)
+				.getCache()
+				.evictQueryRegion(CacheConfig.APPOINTMENT_TYPE_QUERY_REGION);
+		});
+	}
+
+	/**
+	 * Evicts a firm from the second-level cache once the current transaction commits.
+	 *
+	 * @param id {@link Long} ID of the changed firm
+	 */
+	@Override
+	public void evictFirm(Long id) {
+		TransactionUtils.afterCommit(() -> entityManagerFactory.getCache().evict(Firm.class, id));
+	}
+}
@@ -0,0 +1,312 @@
+package com.sinergy.chronosync.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sinergy.chronosync.config.AdmissionProperties;
+import com.sinergy.chronosync.config.AdmissionProperties.Tier;
+import com.sinergy.chronosync.exception.AdmissionRejectedException;
+import com.sinergy.chronosync.exception.AdmissionRejectedException.Reason;
+import com.sinergy.chronosync.service.RequestAdmissionService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Service implementation for admitting requests per firm.
+ *
+ * <p>Every firm has a token bucket holding up to the burst of its tier, refilled at the
+ * tier's sustained rate. A request takes a token on arrival, and is rejected with the
+ * time until the next token if the bucket is empty.</p>
+ *
+ * <p>Admitted requests then take one of a fixed number of slots shared by all firms.
+ * While slots are free, requests take them right away. Once all are taken, requests
+ * wait in a queue ordered by self-clocked weighted fair queuing: each waiting request is
+ * tagged with a virtual finish time one weight-th after the later of the current virtual
+ * time and its firm's previous tag, and freed slots go to the smallest tag. A firm
+ * sending many requests therefore queues behind firms sending few, and under contention
+ * every firm gets slots in proportion to its tier's weight. The number of a firm's
+ * waiting requests is bounded, so a single firm cannot hold all request threads while it
+ * waits either.</p>
+ *
+ * <p>Firm states are cached and dropped once idle or when too many firms are cached.
+ * States of firms with waiting requests are pinned outside the cache until the queue of
+ * the firm drains, so dropping them cannot reset the count of waiting requests or the
+ * virtual finish time and let a firm queue past its limit.</p>
+ *
+ * <p>The limits apply per instance. Rejections are counted in the
+ * {@code admission.rejections} metric, tagged with the reason and tier, and the numbers of
+ * requests holding and waiting for a slot are published as gauges.</p>
+ */
+@Service
+public class RequestAdmissionServiceImpl implements RequestAdmissionService {
+
+	private static final String REJECTIONS_METRIC = "admission.rejections";
+	private static final Duration FIRM_IDLE_TIMEOUT = Duration.ofMinutes(10);
+	private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+	private final AdmissionProperties properties;
+	private final MeterRegistry meterRegistry;
+	private final Tier defaultQuotas = new Tier();
+	private final Cache<Long, FirmState> firms;
+	private final Map<Long, FirmState> queuedFirms = new ConcurrentHashMap<>();
+	private final ReentrantLock lock = new ReentrantLock();
+	private final PriorityQueue<Waiter> waiting = new PriorityQueue<>(
+		Comparator.comparingDouble((Waiter waiter) -> waiter.finish).thenComparingLong(waiter -> waiter.sequence)
+	);
+	private int inFlight;
+	private int queued;
+	private double virtualTime;
+	private long sequence;
+
+	/**
+	 * Creates the service and registers its metrics.
+	 *
+	 * @param meterRegistry {@link MeterRegistry} the rejections and slot usage are published to
+	 * @param properties    {@link AdmissionProperties} limits and tier quotas
+	 */
+	public RequestAdmissionServiceImpl(MeterRegistry meterRegistry, AdmissionProperties properties) {
+		this.meterRegistry = meterRegistry;
+		this.properties = properties;
+		this.firms = Caffeine.newBuilder()
+			.maximumSize(properties.getMaximumFirms())
+			.expireAfterAccess(FIRM_IDLE_TIMEOUT)
+			.build();
+		Gauge.builder("admission.in-flight", this, service -> service.inFlight)
+			.description("Requests holding an admission slot")
+			.register(meterRegistry);
+		Gauge.builder("admission.queued", this, service -> service.queued)
+			.description("Requests waiting for an admission slot")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * Admits a request of a firm, waiting for a free slot if all are taken. A request
+	 * interrupted while it waits is rejected as timed out, with the interrupt kept.
+	 *
+	 * @param firmId {@link Long} ID of the firm sending the request
+	 * @param tier   {@link String} tier of the firm, or {@code null} for the default tier
+	 * @return {@link Permit} to release once the request is handled
+	 */
+	@Override
+	public Permit admit(Long firmId, String tier) {
+		String tierName = tier != null && properties.getTiers().containsKey(tier) ? tier : properties.getDefaultTier();
+		Tier quotas = properties.getTiers().getOrDefault(tierName, defaultQuotas);
+		FirmState firm = firms.get(firmId, id -> {
+			FirmState queuedFirm = queuedFirms.get(id);
+			return queuedFirm != null ? queuedFirm : new FirmState(quotas.getBurst());
+		});
+
+		long nanosUntilToken = firm.take(quotas);
+		if (nanosUntilToken > 0) {
+			throw reject(Reason.RATE_LIMITED, tierName, Duration.ofNanos(nanosUntilToken), "Request rate of the firm exceeded.");
+		}
+
+		lock.lock();
+		try {
+			if (inFlight < properties.getMaxConcurrent() && waiting.isEmpty()) {
+				inFlight++;
+				return new SlotPermit();
+			}
+			FirmState queuing = queuedFirms.getOrDefault(firmId, firm);
+			if (queuing.queued >= quotas.getMaxQueued()) {
+				throw reject(Reason.QUEUE_FULL, tierName, properties.getQueueTimeout(), "Too many requests of the firm are waiting.");
+			}
+			return await(enqueue(firmId, queuing, quotas), tierName);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Tags a request with its virtual finish time and adds it to the queue, pinning the
+	 * state of its firm while it waits. Must be called while holding the lock.
+	 *
+	 * @param firmId {@link Long} ID of the request's firm
+	 * @param firm   {@link FirmState} of the request's firm
+	 * @param quotas {@link Tier} quotas of the firm
+	 * @return {@link Waiter} of the request
+	 */
+	private Waiter enqueue(Long firmId, FirmState firm, Tier quotas) {
+		firm.finish = Math.max(virtualTime, firm.finish) + 1d / Math.max(1, quotas.getWeight());
+		Waiter waiter = new Waiter(firmId, firm, firm.finish, sequence++, lock.newCondition());
+		waiting.add(waiter);
+		if (firm.queued++ == 0) {
+			queuedFirms.put(firmId, firm);
+		}
+		queued++;
+		return waiter;
+	}
+
+	/**
+	 * Waits until the request is given a slot, or removes it from the queue once the
+	 * queue timeout passes. Must be called while holding the lock.
+	 *
+	 * @param waiter   {@link Waiter} of the request
+	 * @param tierName {@link String} tier of the request's firm
+	 * @return {@link Permit} of the given slot
+	 */
+	private Permit await(Waiter waiter, String tierName) {
+		long nanos = properties.getQueueTimeout().toNanos();
+		boolean interrupted = false;
+		try {
+			while (!waiter.admitted) {
+				if (nanos <= 0 || interrupted) {
+					dequeue(waiter);
+					throw reject(Reason.QUEUE_TIMEOUT, tierName, properties.getQueueTimeout(), "Server is busy, no request slot freed up in time.");
+				}
+				try {
+					nanos = waiter.ready.awaitNanos(nanos);
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+			return new SlotPermit();
+		} finally {
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * Frees a slot and hands free slots to the waiting requests with the smallest tags.
+	 */
+	private void release() {
+		lock.lock();
+		try {
+			inFlight--;
+			while (inFlight < properties.getMaxConcurrent() && !waiting.isEmpty()) {
+				Waiter next = waiting.poll();
+				leave(next);
+				virtualTime = next.finish;
+				inFlight++;
+				next.admitted = true;
+				next.ready.signal();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Removes a request that gave up waiting from the queue. Must be called while holding the lock.
+	 *
+	 * @param waiter {@link Waiter} of the request
+	 */
+	private void dequeue(Waiter waiter) {
+		waiting.remove(waiter);
+		leave(waiter);
+	}
+
+	/**
+	 * Counts a request as no longer waiting, unpinning its firm's state once none of the
+	 * firm's requests wait. Must be called while holding the lock.
+	 *
+	 * @param waiter {@link Waiter} of the request
+	 */
+	private void leave(Waiter waiter) {
+		if (--waiter.firm.queued == 0) {
+			queuedFirms.remove(waiter.firmId);
+		}
+		queued--;
+	}
+
+	/**
+	 * Counts a rejection and creates its exception.
+	 *
+	 * @param reason     {@link Reason} of the rejection
+	 * @param tierName   {@link String} tier of the request's firm
+	 * @param retryAfter {@link Duration} after which the request may be retried
+	 * @param message    {@link String} message of the rejection
+	 * @return {@link AdmissionRejectedException} to throw
+	 */
+	private AdmissionRejectedException reject(Reason reason, String tierName, Duration retryAfter, String message) {
+		Counter.builder(REJECTIONS_METRIC)
+			.description("Requests rejected by the per-firm admission")
+			.tag("reason", reason.name().toLowerCase())
+			.tag("tier", tierName)
+			.register(meterRegistry)
+			.increment();
+		return new AdmissionRejectedException(reason, retryAfter, message);
+	}
+
+	/**
+	 * Slot held by an admitted request.
+	 */
+	private final class SlotPermit implements Permit {
+
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		@Override
+		public void close() {
+			if (released.compareAndSet(false, true)) {
+				release();
+			}
+		}
+	}
+
+	/**
+	 * Token bucket and fair queuing state of one firm. The bucket is guarded by the state
+	 * itself, the queuing fields by the service's lock. Pinned while {@code queued} is not zero.
+	 */
+	private static final class FirmState {
+
+		private double tokens;
+		private long refilledAt = System.nanoTime();
+		private double finish;
+		private int queued;
+
+		private FirmState(int burst) {
+			this.tokens = burst;
+		}
+
+		/**
+		 * Refills the bucket for the time since its last refill and takes a token.
+		 *
+		 * @param quotas {@link Tier} quotas of the firm
+		 * @return 0 if a token was taken, otherwise the nanoseconds until the next token
+		 */
+		private synchronized long take(Tier quotas) {
+			long now = System.nanoTime();
+			double tokensPerNano = quotas.getRequestsPerSecond() / NANOS_PER_SECOND;
+			tokens = Math.min(quotas.getBurst(), tokens + (now - refilledAt) * tokensPerNano);
+			refilledAt = now;
+			if (tokens >= 1) {
+				tokens--;
+				return 0;
+			}
+			return Math.max(1, (long) Math.ceil((1 - tokens) / tokensPerNano));
+		}
+	}
+
+	/**
+	 * Request waiting for a slot, with its virtual finish time.
+	 */
+	private static final class Waiter {
+
+		private final Long firmId;
+		private final FirmState firm;
+		private final double finish;
+		private final long sequence;
+		private final Condition ready;
+		private boolean admitted;
+
+		private Waiter(Long firmId, FirmState firm, double finish, long sequence, Condition ready) {
+			this.firmId = firmId;
+			this.firm = firm;
+			this.finish = finish;
+			this.sequence = sequence;
+			this.ready = ready;
+		}
+	}
+}
@@ -0,0 +1,534 @@
+package com.sinergy.chronosync.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sinergy.chronosync.dto.request.ScheduleExceptionRequestDTO;
+import com.sinergy.chronosync.dto.request.ScheduleRequestDTO;
+import com.sinergy.chronosync.dto.request.TimeOffRequestDTO;
+import com.sinergy.chronosync.dto.request.WorkingHoursRequestDTO;
+import com.sinergy.chronosync.dto.response.EmployeeScheduleDTO;
+import com.sinergy.chronosync.dto.response.TimeSlotDTO;
+import com.sinergy.chronosync.exception.EntityNotFoundException;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.model.Firm;
+import com.sinergy.chronosync.model.schedule.ScheduleException;
+import com.sinergy.chronosync.model.schedule.TimeOff;
+import com.sinergy.chronosync.model.user.UserRole;
+import com.sinergy.chronosync.repository.ScheduleExceptionRepository;
+import com.sinergy.chronosync.repository.ScheduleExceptionRepository.ScheduleExceptionRow;
+import com.sinergy.chronosync.repository.TimeOffRepository;
+import com.sinergy.chronosync.repository.TimeOffRepository.TimeOffRange;
+import com.sinergy.chronosync.repository.UserRepository;
+import com.sinergy.chronosync.repository.WorkingHoursRepository;
+import com.sinergy.chronosync.repository.WorkingHoursRepository.WorkingHoursRow;
+import com.sinergy.chronosync.service.ScheduleService;
+import com.sinergy.chronosync.service.SecurityContextService;
+import com.sinergy.chronosync.util.CollectionUtils;
+import com.sinergy.chronosync.util.SlotBitmap;
+import com.sinergy.chronosync.util.TransactionUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service implementation for managing employees' working hours, schedule exceptions and time off.
+ *
+ * <p>Each employee's weekly template is turned once into seven five-minute
+ * {@link SlotBitmap}s and cached. The effective schedule of a week, the template with the
+ * week's exceptions and time off applied, is materialized the first time it is needed and
+ * cached as well, so reads never evaluate the template rules again. Weeks missing from the
+ * cache are built for all requested employees together, with one query each for templates,
+ * exceptions and time off.</p>
+ *
+ * <p>A change to an employee's template, exceptions or time off increases their generation
+ * once it commits, and cached weeks of an older generation are rebuilt on the next read.
+ * Only template changes discard the cached template, so a new exception or absence rebuilds
+ * the affected weeks from the template already in memory.</p>
+ */
+@Service
+public class ScheduleServiceImpl implements ScheduleService {
+
+	private static final List<UserRole> BOOKABLE_ROLES = List.of(UserRole.EMPLOYEE, UserRole.MANAGER);
+	private static final Comparator<WorkingHoursRequestDTO> TEMPLATE_ORDER = Comparator
+		.comparing(WorkingHoursRequestDTO::getDayOfWeek)
+		.thenComparing(WorkingHoursRequestDTO::getStartTime);
+
+	private final WorkingHoursRepository workingHoursRepository;
+	private final ScheduleExceptionRepository scheduleExceptionRepository;
+	private final TimeOffRepository timeOffRepository;
+	private final UserRepository userRepository;
+	private final SecurityContextService securityContextService;
+	private final SlotBitmap[] defaultTemplate;
+	private final int maxDays;
+	private final int maxEmployees;
+	private final Cache<Long, CachedTemplate> templates;
+	private final Cache<WeekKey, CachedWeek> weeks;
+	private final Map<Long, Long> templateGenerations = new ConcurrentHashMap<>();
+	private final Map<Long, Long> generations = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates the service and its caches.
+	 *
+	 * @param defaultDayStart {@link String} start of the default working day, e.g. {@code 08:00}
+	 * @param defaultDayEnd   {@link String} end of the default working day, e.g. {@code 17:00}
+	 * @param defaultDays     {@link List} of days worked by employees without a template
+	 * @param maxDays         longest range in days returned by {@link #getSchedules}
+	 * @param maxEmployees    largest number of employees returned by {@link #getSchedules}
+	 * @param maximumSize     largest number of cached templates and employee weeks
+	 * @param timeToLive      {@link Duration} after which cached templates and weeks are rebuilt
+	 */
+	public ScheduleServiceImpl(
+		WorkingHoursRepository workingHoursRepository,
+		ScheduleExceptionRepository scheduleExceptionRepository,
+		TimeOffRepository timeOffRepository,
+		UserRepository userRepository,
+		SecurityContextService securityContextService,
+		@Value("${schedule.default.day-start:08:00}") String defaultDayStart,
+		@Value("${schedule.default.day-end:17:00}") String defaultDayEnd,
+		@Value("${schedule.default.days:MONDAY,TUESDAY,WEDNESDAY,THURSDAY,FRIDAY,SATURDAY,SUNDAY}")
+		List<DayOfWeek> defaultDays,
+		@Value("${schedule.max-days:62}") int maxDays,
+		@Value("${schedule.max-employees:200}") int maxEmployees,
+		@Value("${schedule.cache.maximum-size:50000}") long maximumSize,
+		@Value("${schedule.cache.time-to-live:1h}") Duration timeToLive
+	) {
+		this.workingHoursRepository = workingHoursRepository;
+		this.scheduleExceptionRepository = scheduleExceptionRepository;
+		this.timeOffRepository = timeOffRepository;
+		this.userRepository = userRepository;
+		this.securityContextService = securityContextService;
+		this.maxDays = maxDays;
+		this.maxEmployees = maxEmployees;
+
+		this.defaultTemplate = emptyWeek();
+		SlotBitmap workingDay = new SlotBitmap().set(
+			SlotBitmap.ceilSlot(LocalTime.parse(defaultDayStart)),
+			SlotBitmap.floorSlot(LocalTime.parse(defaultDayEnd))
+		);
+		defaultDays.forEach(day -> defaultTemplate[day.getValue() - 1] = workingDay);
+
+		this.templates = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(timeToLive).build();
+		this.weeks = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(timeToLive).build();
+	}
+
+	/**
+	 * Retrieves the weekly working hours of an employee of the current user's firm.
+	 *
+	 * @param employeeId {@link Long} ID of the employee
+	 * @return {@link List} of {@link WorkingHoursRequestDTO} ordered by day and start
+	 * @throws EntityNotFoundException if the employee does not exist within the firm
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public List<WorkingHoursRequestDTO> getWorkingHours(Long employeeId) {
+		checkEmployee(securityContextService.getAuthUserFirm(), employeeId);
+
+		return workingHoursRepository.findRowsByEmployeeIdIn(List.of(employeeId)).stream()
+			.map(row -> new WorkingHoursRequestDTO(row.getDayOfWeek(), row.getStartTime(), row.getEndTime()))
+			.sorted(TEMPLATE_ORDER)
+			.toList();
+	}
+
+	/**
+	 * Replaces the weekly working hours of an employee of the current user's firm.
+	 * The employee's cached template and weeks are rebuilt after the change commits.
+	 *
+	 * @param employeeId   {@link Long} ID of the employee
+	 * @param workingHours {@link List} of {@link WorkingHoursRequestDTO} making up the new template
+	 * @return {@link List} of the stored {@link WorkingHoursRequestDTO} ordered by day and start
+	 * @throws EntityNotFoundException if the employee does not exist within the firm
+	 * @throws InvalidStateException   if an interval has no day or does not start before it ends
+	 */
+	@Override
+	@Transactional
+	public List<WorkingHoursRequestDTO> replaceWorkingHours(Long employeeId, List<WorkingHoursRequestDTO> workingHours) {
+		Firm firm = securityContextService.getAuthUserFirm();
+		checkEmployee(firm, employeeId);
+		for (WorkingHoursRequestDTO hours : workingHours) {
+			if (hours.getDayOfWeek() == null || !isRange(hours.getStartTime(), hours.getEndTime())) {
+				throw new InvalidStateException("Working hours must have a day and start before they end.");
+			}
+		}
+
+		workingHoursRepository.deleteByEmployeeId(employeeId);
+		workingHoursRepository.saveAll(workingHours.stream()
+			.map(hours -> hours.toModel(userRepository.getReferenceById(employeeId), firm))
+			.toList());
+		TransactionUtils.afterCommit(() -> {
+			templateGenerations.merge(employeeId, 1L, Long::sum);
+			generations.merge(employeeId, 1L, Long::sum);
+		});
+
+		return workingHours.stream().sorted(TEMPLATE_ORDER).toList();
+	}
+
+	/**
+	 * Creates a schedule exception for an employee of the current user's firm.
+	 * The employee's cached weeks are rebuilt after the change commits.
+	 *
+	 * @param requestDto {@link ScheduleExceptionRequestDTO} containing exception details
+	 * @return {@link ScheduleException} representing the saved exception
+	 * @throws EntityNotFoundException if the employee does not exist within the firm
+	 * @throws InvalidStateException   if the exception has no date or an invalid time range
+	 */
+	@Override
+	@Transactional
+	public ScheduleException createScheduleException(ScheduleExceptionRequestDTO requestDto) {
+		Firm firm = securityContextService.getAuthUserFirm();
+		checkEmployee(firm, requestDto.getEmployeeId());
+		boolean dayOff = requestDto.getStartTime() == null && requestDto.getEndTime() == null;
+		if (requestDto.getExceptionDate() == null || !dayOff && !isRange(requestDto.getStartTime(), requestDto.getEndTime())) {
+			throw new InvalidStateException("Schedule exception must have a date, and either no times or a start before its end.");
+		}
+
+		ScheduleException exception = scheduleExceptionRepository.create(
+			requestDto.toModel(userRepository.getReferenceById(requestDto.getEmployeeId()), firm)
+		);
+		evict(requestDto.getEmployeeId());
+		return exception;
+	}
+
+	/**
+	 * Deletes schedule exceptions of the current user's firm with a single set-based statement.
+	 * If fewer rows are deleted than IDs were given, the transaction is rolled back.
+	 *
+	 * @param ids {@link List} of IDs of the exceptions to delete
+	 * @throws EntityNotFoundException if any of the exceptions does not exist within the firm
+	 */
+	@Override
+	@Transactional
+	public void deleteScheduleExceptions(List<Long> ids) {
+		Long firmId = securityContextService.getAuthUserFirm().getId();
+		Set<Long> distinctIds = new HashSet<>(ids);
+		List<Long> employeeIds = scheduleExceptionRepository.findEmployeeIdsByFirmIdAndIdIn(firmId, distinctIds);
+		if (scheduleExceptionRepository.deleteByFirmIdAndIdIn(firmId, distinctIds) != distinctIds.size()) {
+			throw new EntityNotFoundException("Schedule exception does not exist.");
+		}
+		employeeIds.forEach(this::evict);
+	}
+
+	/**
+	 * Creates time off for an employee of the current user's firm.
+	 * The employee's cached weeks are rebuilt after the change commits.
+	 *
+	 * @param requestDto {@link TimeOffRequestDTO} containing time off details
+	 * @return {@link TimeOff} representing the saved time off
+	 * @throws EntityNotFoundException if the employee does not exist within the firm
+	 * @throws InvalidStateException   if the time off does not start before it ends
+	 */
+	@Override
+	@Transactional
+	public TimeOff createTimeOff(TimeOffRequestDTO requestDto) {
+		Firm firm = securityContextService.getAuthUserFirm();
+		checkEmployee(firm, requestDto.getEmployeeId());
+		if (!isRange(requestDto.getStartDateTime(), requestDto.getEndDateTime())) {
+			throw new InvalidStateException("Time off must start before it ends.");
+		}
+
+		TimeOff timeOff = timeOffRepository.create(
+			requestDto.toModel(userRepository.getReferenceById(requestDto.getEmployeeId()), firm)
+		);
+		evict(requestDto.getEmployeeId());
+		return timeOff;
+	}
+
+	/**
+	 * Deletes time off of the current user's firm with a single set-based statement.
+	 * If fewer rows are deleted than IDs were given, the transaction is rolled back.
+	 *
+	 * @param ids {@link List} of IDs of the time off to delete
+	 * @throws EntityNotFoundException if any of the time off does not exist within the firm
+	 */
+	@Override
+	@Transactional
+	public void deleteTimeOff(List<Long> ids) {
+		Long firmId = securityContextService.getAuthUserFirm().getId();
+		Set<Long> distinctIds = new HashSet<>(ids);
+		List<Long> employeeIds = timeOffRepository.findEmployeeIdsByFirmIdAndIdIn(firmId, distinctIds);
+		if (timeOffRepository.deleteByFirmIdAndIdIn(firmId, distinctIds) != distinctIds.size()) {
+			throw new EntityNotFoundException("Time off does not exist.");
+		}
+		employeeIds.forEach(this::evict);
+	}
+
+	/**
+	 * Retrieves the effective working hours of employees of the current user's firm,
+	 * clipped to the requested range.
+	 *
+	 * @param request {@link ScheduleRequestDTO} employees and range
+	 * @return {@link List} of {@link EmployeeScheduleDTO}, one per employee, ordered by employee ID
+	 * @throws InvalidStateException if the range or employee set is invalid or too large
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public List<EmployeeScheduleDTO> getSchedules(ScheduleRequestDTO request) {
+		LocalDateTime from = request.getFrom();
+		LocalDateTime to = request.getTo();
+		if (!isRange(from, to)) {
+			throw new InvalidStateException("Schedule range must have a start before its end.");
+		}
+		if (Duration.between(from, to).compareTo(Duration.ofDays(maxDays)) > 0) {
+			throw new InvalidStateException("Schedule range must not exceed " + maxDays + " days.");
+		}
+
+		Long firmId = securityContextService.getAuthUserFirm().getId();
+		List<Long> employeeIds = CollectionUtils.isEmpty(request.getEmployeeIds())
+			? userRepository.findIdsByFirmIdAndRoleIn(firmId, BOOKABLE_ROLES)
+			: userRepository.findIdsByFirmIdAndIdIn(firmId, request.getEmployeeIds());
+		if (employeeIds.size() > maxEmployees) {
+			throw new InvalidStateException("Schedules can be retrieved for at most " + maxEmployees + " employees.");
+		}
+		if (employeeIds.isEmpty()) {
+			return List.of();
+		}
+
+		LocalDate firstDay = from.toLocalDate();
+		LocalDate lastDay = to.minusNanos(1).toLocalDate();
+		Map<Long, SlotBitmap[]> working = findWorkingSlots(employeeIds, firstDay, lastDay.plusDays(1));
+		int firstSlot = SlotBitmap.ceilSlot(firstDay, from);
+		int lastSlot = SlotBitmap.floorSlot(lastDay, to);
+
+		List<EmployeeScheduleDTO> schedules = new ArrayList<>(employeeIds.size());
+		SlotBitmap day = new SlotBitmap();
+		for (Long employeeId : employeeIds) {
+			SlotBitmap[] days = working.get(employeeId);
+			List<TimeSlotDTO> hours = new ArrayList<>();
+			for (int i = 0; i < days.length; i++) {
+				LocalDate date = firstDay.plusDays(i);
+				day.clear().or(days[i]);
+				if (i == 0) {
+					day.retain(firstSlot, SlotBitmap.SLOTS_PER_DAY);
+				}
+				if (i == days.length - 1) {
+					day.retain(0, lastSlot);
+				}
+				day.forEachRun(1, (start, end) -> hours.add(
+					new TimeSlotDTO(SlotBitmap.startOf(date, start), SlotBitmap.startOf(date, end))
+				));
+			}
+			schedules.add(new EmployeeScheduleDTO(employeeId, hours));
+		}
+		return schedules;
+	}
+
+	/**
+	 * Finds the effective working slots of the given employees for every day of a date range,
+	 * building the weeks missing from the cache together.
+	 *
+	 * @param employeeIds {@link Collection} of employee IDs
+	 * @param from        {@link LocalDate} first day of the range
+	 * @param to          {@link LocalDate} day after the last day of the range
+	 * @return {@link Map} of employee ID to one {@link SlotBitmap} per day, starting at {@code from}
+	 */
+	@Override
+	public Map<Long, SlotBitmap[]> findWorkingSlots(Collection<Long> employeeIds, LocalDate from, LocalDate to) {
+		LocalDate firstMonday = from.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+		int weekCount = (int) ChronoUnit.WEEKS.between(firstMonday, to.minusDays(1)) + 1;
+
+		Map<Long, SlotBitmap[][]> employeeWeeks = new HashMap<>();
+		Set<Long> missing = new LinkedHashSet<>();
+		int firstMissing = weekCount;
+		int lastMissing = -1;
+		for (Long employeeId : employeeIds) {
+			long generation = generations.getOrDefault(employeeId, 0L);
+			SlotBitmap[][] days = new SlotBitmap[weekCount][];
+			for (int w = 0; w < weekCount; w++) {
+				CachedWeek cached = weeks.getIfPresent(new WeekKey(employeeId, firstMonday.plusWeeks(w)));
+				if (cached != null && cached.generation() == generation) {
+					days[w] = cached.days();
+				} else {
+					missing.add(employeeId);
+					firstMissing = Math.min(firstMissing, w);
+					lastMissing = Math.max(lastMissing, w);
+				}
+			}
+			employeeWeeks.put(employeeId, days);
+		}
+		if (!missing.isEmpty()) {
+			buildWeeks(missing, firstMonday.plusWeeks(firstMissing), lastMissing - firstMissing + 1, firstMissing, employeeWeeks);
+		}
+
+		int dayCount = (int) ChronoUnit.DAYS.between(from, to);
+		int firstOffset = (int) ChronoUnit.DAYS.between(firstMonday, from);
+		Map<Long, SlotBitmap[]> result = new HashMap<>();
+		employeeWeeks.forEach((employeeId, days) -> {
+			SlotBitmap[] slots = new SlotBitmap[dayCount];
+			for (int i = 0; i < dayCount; i++) {
+				slots[i] = days[(firstOffset + i) / 7][(firstOffset + i) % 7];
+			}
+			result.put(employeeId, slots);
+		});
+		return result;
+	}
+
+	/**
+	 * Materializes and caches weeks of the given employees: each week starts as a copy of
+	 * the template, exceptions replace whole days and time off is cleared.
+	 *
+	 * @param employeeIds   {@link Set} of employee IDs
+	 * @param monday        {@link LocalDate} Monday of the first week to build
+	 * @param weekCount     number of weeks to build
+	 * @param offset        index of the first built week in the target arrays
+	 * @param employeeWeeks {@link Map} of target arrays to fill
+	 */
+	private void buildWeeks(
+		Set<Long> employeeIds,
+		LocalDate monday,
+		int weekCount,
+		int offset,
+		Map<Long, SlotBitmap[][]> employeeWeeks
+	) {
+		Map<Long, Long> loadedGenerations = new HashMap<>();
+		employeeIds.forEach(id -> loadedGenerations.put(id, generations.getOrDefault(id, 0L)));
+		Map<Long, SlotBitmap[]> employeeTemplates = findTemplates(employeeIds);
+		LocalDate end = monday.plusWeeks(weekCount);
+
+		Map<Long, SlotBitmap[][]> built = new HashMap<>();
+		for (Long employeeId : employeeIds) {
+			SlotBitmap[] template = employeeTemplates.get(employeeId);
+			SlotBitmap[][] days = new SlotBitmap[weekCount][7];
+			for (int w = 0; w < weekCount; w++) {
+				for (int d = 0; d < 7; d++) {
+					days[w][d] = template[d].copy();
+				}
+			}
+			built.put(employeeId, days);
+		}
+
+		Set<ExceptionDay> replaced = new HashSet<>();
+		for (ScheduleExceptionRow row : scheduleExceptionRepository.findRows(employeeIds, monday, end)) {
+			int index = (int) ChronoUnit.DAYS.between(monday, row.getExceptionDate());
+			SlotBitmap day = built.get(row.getEmployeeId())[index / 7][index % 7];
+			if (replaced.add(new ExceptionDay(row.getEmployeeId(), row.getExceptionDate()))) {
+				day.clear();
+			}
+			if (row.getStartTime() != null && row.getEndTime() != null) {
+				day.set(SlotBitmap.ceilSlot(row.getStartTime()), SlotBitmap.floorSlot(row.getEndTime()));
+			}
+		}
+
+		for (TimeOffRange range : timeOffRepository.findRanges(employeeIds, monday.atStartOfDay(), end.atStartOfDay())) {
+			SlotBitmap[][] days = built.get(range.getEmployeeId());
+			LocalDate date = range.getStartDateTime().toLocalDate();
+			if (date.isBefore(monday)) {
+				date = monday;
+			}
+			for (; date.isBefore(end) && date.atStartOfDay().isBefore(range.getEndDateTime()); date = date.plusDays(1)) {
+				int index = (int) ChronoUnit.DAYS.between(monday, date);
+				days[index / 7][index % 7].clear(
+					SlotBitmap.floorSlot(date, range.getStartDateTime()),
+					SlotBitmap.ceilSlot(date, range.getEndDateTime())
+				);
+			}
+		}
+
+		built.forEach((employeeId, days) -> {
+			long generation = loadedGenerations.get(employeeId);
+			SlotBitmap[][] target = employeeWeeks.get(employeeId);
+			for (int w = 0; w < weekCount; w++) {
+				weeks.put(new WeekKey(employeeId, monday.plusWeeks(w)), new CachedWeek(generation, days[w]));
+				target[offset + w] = days[w];
+			}
+		});
+	}
+
+	/**
+	 * Finds the weekly templates of the given employees, loading those missing from the
+	 * cache with one query. Employees without working hours get the default template.
+	 *
+	 * @param employeeIds {@link Set} of employee IDs
+	 * @return {@link Map} of employee ID to seven {@link SlotBitmap}s, Monday first
+	 */
+	private Map<Long, SlotBitmap[]> findTemplates(Set<Long> employeeIds) {
+		Map<Long, SlotBitmap[]> result = new HashMap<>();
+		Map<Long, Long> missing = new HashMap<>();
+		for (Long employeeId : employeeIds) {
+			long generation = templateGenerations.getOrDefault(employeeId, 0L);
+			CachedTemplate cached = templates.getIfPresent(employeeId);
+			if (cached != null && cached.generation() == generation) {
+				result.put(employeeId, cached.days());
+			} else {
+				missing.put(employeeId, generation);
+			}
+		}
+		if (missing.isEmpty()) {
+			return result;
+		}
+
+		Map<Long, SlotBitmap[]> loaded = new HashMap<>();
+		for (WorkingHoursRow row : workingHoursRepository.findRowsByEmployeeIdIn(missing.keySet())) {
+			loaded.computeIfAbsent(row.getEmployeeId(), id -> emptyWeek())[row.getDayOfWeek().getValue() - 1]
+				.set(SlotBitmap.ceilSlot(row.getStartTime()), SlotBitmap.floorSlot(row.getEndTime()));
+		}
+		missing.forEach((employeeId, generation) -> {
+			SlotBitmap[] days = loaded.getOrDefault(employeeId, defaultTemplate);
+			templates.put(employeeId, new CachedTemplate(generation, days));
+			result.put(employeeId, days);
+		});
+		return result;
+	}
+
+	/**
+	 * Checks that an employee belongs to a firm.
+	 *
+	 * @param firm       {@link Firm} of the current user
+	 * @param employeeId {@link Long} ID of the employee
+	 * @throws EntityNotFoundException if the employee does not exist within the firm
+	 */
+	private void checkEmployee(Firm firm, Long employeeId) {
+		if (employeeId == null || userRepository.findIdsByFirmIdAndIdIn(firm.getId(), List.of(employeeId)).isEmpty()) {
+			throw new EntityNotFoundException("Employee does not exist.");
+		}
+	}
+
+	/**
+	 * Rebuilds the cached weeks of an employee on their next read, once the current transaction commits.
+	 *
+	 * @param employeeId {@link Long} ID of the employee
+	 */
+	private void evict(Long employeeId) {
+		TransactionUtils.afterCommit(() -> generations.merge(employeeId, 1L, Long::sum));
+	}
+
+	private static <T extends Comparable<? super T>> boolean isRange(T start, T end) {
+		return start != null && end != null && start.compareTo(end) < 0;
+	}
+
+	private static SlotBitmap[] emptyWeek() {
+		SlotBitmap[] days = new SlotBitmap[7];
+		for (int d = 0; d < 7; d++) {
+			days[d] = new SlotBitmap();
+		}
+		return days;
+	}
+
+	private record WeekKey(Long employeeId, LocalDate monday) {
+	}
+
+	private record CachedWeek(long generation, SlotBitmap[] days) {
+	}
+
+	private record CachedTemplate(long generation, SlotBitmap[] days) {
+	}
+
+	private record ExceptionDay(Long employeeId, LocalDate date) {
+	}
+}
@@ -0,0 +1,261 @@
+package com.sinergy.chronosync.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sinergy.chronosync.service.SearchResultCacheService;
+import com.sinergy.chronosync.util.SizeUtils;
+import com.sinergy.chronosync.util.TransactionUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * Service implementation for caching search results per firm.
+ *
+ * <p>Every firm gets its own cache, bounded by the estimated bytes of its results, so a
+ * firm with many or large results evicts only its own entries. Evictions run on the
+ * thread that cached the result, so a firm never holds more than its share for long.
+ * The number of firms with cached results is bounded as well, which bounds the memory
+ * of the whole cache by the product of both limits.</p>
+ *
+ * <p>Results are keyed by the sum of the firm's generations of the entities they were
+ * read from, and the generations are read before the search runs. A result read while a
+ * change commits is therefore kept under the old sum, and is never returned after the
+ * generation is raised. Generations are raised after commit; other instances see the
+ * change once their cached results expire.</p>
+ *
+ * <p>Concurrent misses of the same search are coalesced: the first request runs the
+ * search and the others wait for its result, up to a timeout after which they run the
+ * search themselves. Requests are counted in the {@code search.requests} metric, tagged
+ * with whether they were served from the cache, ran the search, waited for another
+ * request's search or timed out waiting.</p>
+ */
+@Service
+public class SearchResultCacheServiceImpl implements SearchResultCacheService {
+
+	private static final long KEY_SIZE = 128;
+	private static final String REQUESTS_METRIC = "search.requests";
+
+	private final Cache<Long, FirmResults> firms;
+	private final long firmMaximumBytes;
+	private final Duration timeToLive;
+	private final long coalescingTimeoutNanos;
+	private final Counter hits;
+	private final Counter searches;
+	private final Counter coalesced;
+	private final Counter timeouts;
+
+	/**
+	 * Creates the service, its cache and its metrics.
+	 *
+	 * @param meterRegistry     {@link MeterRegistry} the request counts are published to
+	 * @param maximumFirms      largest number of firms whose results are cached
+	 * @param firmMaximumSize   {@link DataSize} of the results cached per firm
+	 * @param timeToLive        {@link Duration} after which a result is searched again
+	 * @param coalescingTimeout {@link Duration} a request waits for the same search of another request
+	 */
+	public SearchResultCacheServiceImpl(
+		MeterRegistry meterRegistry,
+		@Value("${search.cache.maximum-firms:256}") long maximumFirms,
+		@Value("${search.cache.firm-maximum-size:1MB}") DataSize firmMaximumSize,
+		@Value("${search.cache.time-to-live:5m}") Duration timeToLive,
+		@Value("${search.coalescing.timeout:2s}") Duration coalescingTimeout
+	) {
+		this.firmMaximumBytes = firmMaximumSize.toBytes();
+		this.timeToLive = timeToLive;
+		this.coalescingTimeoutNanos = coalescingTimeout.toNanos();
+		this.hits = requests(meterRegistry, "hit");
+		this.searches = requests(meterRegistry, "search");
+		this.coalesced = requests(meterRegistry, "coalesced");
+		this.timeouts = requests(meterRegistry, "timeout");
+		this.firms = Caffeine.newBuilder()
+			.maximumSize(maximumFirms)
+			.expireAfterAccess(timeToLive)
+			.build();
+	}
+
+	/**
+	 * Returns the cached result of a search, or runs the search and caches its result.
+	 * The search runs outside of the cache's locks. While it runs, requests for the same
+	 * search wait for its result instead of running it again, and fail with its exception.
+	 *
+	 * @param firmId   {@link Long} ID of the firm searched in
+	 * @param endpoint {@link String} name of the search
+	 * @param entities {@link Set} of {@link Entity} kinds the result is read from
+	 * @param search   {@link Supplier} running the search
+	 * @param filter   filter and page of the search
+	 * @param <T>      type of the result
+	 * @return cached or fresh result of the search
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Long firmId, String endpoint, Set<Entity> entities, Supplier<T> search, Object... filter) {
+		FirmResults firm = firms.get(firmId, id -> new FirmResults());
+		Key key = new Key(endpoint, normalize(filter), entities, firm.generation(entities));
+
+		Object cached = firm.results.getIfPresent(key);
+		if (cached != null) {
+			hits.increment();
+			return (T) cached;
+		}
+
+		CompletableFuture<Object> flight = new CompletableFuture<>();
+		CompletableFuture<Object> leader = firm.flights.putIfAbsent(key, flight);
+		if (leader != null) {
+			return (T) await(leader, search);
+		}
+		searches.increment();
+		try {
+			T result = search.get();
+			if (result != null) {
+				firm.results.put(key, result);
+			}
+			flight.complete(result);
+			return result;
+		} catch (RuntimeException | Error e) {
+			flight.completeExceptionally(e);
+			throw e;
+		} finally {
+			firm.flights.remove(key, flight);
+		}
+	}
+
+	/**
+	 * Raises the firm's generation of an entity kind once the current transaction commits,
+	 * and removes the firm's cached results read from it.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @param entity {@link Entity} kind that changed
+	 */
+	@Override
+	public void invalidate(Long firmId, Entity entity) {
+		TransactionUtils.afterCommit(() -> {
+			FirmResults firm = firms.getIfPresent(firmId);
+			if (firm == null) {
+				return;
+			}
+			firm.generations.incrementAndGet(entity.ordinal());
+			firm.results.asMap().keySet().removeIf(key -> key.entities().contains(entity));
+		});
+	}
+
+	/**
+	 * Waits for the result of the same search run by another request. If it takes longer
+	 * than the timeout, or the waiting thread is interrupted, the search is run again.
+	 *
+	 * @param leader {@link CompletableFuture} result of the other request's search
+	 * @param search {@link Supplier} running the search
+	 * @return result of the search
+	 */
+	private Object await(CompletableFuture<Object> leader, Supplier<?> search) {
+		try {
+			Object result = leader.get(coalescingTimeoutNanos, TimeUnit.NANOSECONDS);
+			coalesced.increment();
+			return result;
+		} catch (TimeoutException e) {
+			timeouts.increment();
+			return search.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			timeouts.increment();
+			return search.get();
+		} catch (ExecutionException e) {
+			coalesced.increment();
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof Error cause) {
+				throw cause;
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	/**
+	 * Registers the counter of search requests with the given result.
+	 *
+	 * @param meterRegistry {@link MeterRegistry} to register in
+	 * @param result        {@link String} tag of the result
+	 * @return {@link Counter} of the requests
+	 */
+	private static Counter requests(MeterRegistry meterRegistry, String result) {
+		return Counter.builder(REQUESTS_METRIC)
+			.description("Search requests by how they were served")
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+
+	/**
+	 * Normalizes string filters the way the filter builders apply them.
+	 *
+	 * @param filter filter and page of a search
+	 * @return {@link List} of normalized filter values
+	 */
+	private static List<Object> normalize(Object[] filter) {
+		Object[] normalized = new Object[filter.length];
+		for (int i = 0; i < filter.length; i++) {
+			normalized[i] = filter[i] instanceof String value
+				? (value.isEmpty() ? null : value.toLowerCase())
+				: filter[i];
+		}
+		return Arrays.asList(normalized);
+	}
+
+	/**
+	 * Key of a cached result.
+	 *
+	 * @param endpoint   name of the search
+	 * @param filter     normalized filter and page
+	 * @param entities   entity kinds the result is read from
+	 * @param generation sum of the firm's generations of those kinds
+	 */
+	private record Key(String endpoint, List<Object> filter, Set<Entity> entities, long generation) {
+	}
+
+	/**
+	 * Generations, cached results and running searches of one firm.
+	 */
+	private final class FirmResults {
+
+		private final AtomicLongArray generations = new AtomicLongArray(Entity.values().length);
+		private final Map<Key, CompletableFuture<Object>> flights = new ConcurrentHashMap<>();
+		private final Cache<Key, Object> results = Caffeine.newBuilder()
+			.maximumWeight(firmMaximumBytes)
+			.weigher((Key key, Object result) ->
+				(int) Math.min(Integer.MAX_VALUE, KEY_SIZE + SizeUtils.estimate(key.filter()) + SizeUtils.estimate(result))
+			)
+			.expireAfterWrite(timeToLive)
+			.executor(Runnable::run)
+			.build();
+
+		/**
+		 * Sums the generations of the given entity kinds. As generations only grow, the sum
+		 * changes whenever one of them is raised.
+		 *
+		 * @param entities {@link Set} of {@link Entity} kinds
+		 * @return sum of their generations
+		 */
+		private long generation(Set<Entity> entities) {
+			long generation = 0;
+			for (Entity entity : entities) {
+				generation += generations.get(entity.ordinal());
+			}
+			return generation;
+		}
+	}
+}
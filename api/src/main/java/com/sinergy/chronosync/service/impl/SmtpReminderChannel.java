@@ -0,0 +1,183 @@
+package com.sinergy.chronosync.service.impl;
+
+import com.sinergy.chronosync.dto.response.AppointmentReminderDTO;
+import com.sinergy.chronosync.service.ReminderChannel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Reminder channel mailing reminders to clients over plain SMTP.
+ *
+ * <p>Meant for a local relay or mail catcher, which forwards the mail on: the channel
+ * speaks plain SMTP without authentication or encryption and sends one message per
+ * connection. Clients without a valid email address are skipped. The key of the reminder is
+ * the local part of the message ID, so a relay can drop duplicates.</p>
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "appointment.reminders.channel", havingValue = "smtp")
+public class SmtpReminderChannel implements ReminderChannel {
+
+	private static final String CRLF = "\r\n";
+	private static final DateTimeFormatter START_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+	private final String host;
+	private final int port;
+	private final String from;
+	private final int timeoutMillis;
+
+	/**
+	 * Creates the channel.
+	 *
+	 * @param host    {@link String} host of the SMTP server
+	 * @param port    port of the SMTP server
+	 * @param from    {@link String} sender address
+	 * @param timeout {@link Duration} to wait for connecting and for each reply
+	 */
+	public SmtpReminderChannel(
+		@Value("${appointment.reminders.smtp.host:localhost}") String host,
+		@Value("${appointment.reminders.smtp.port:1025}") int port,
+		@Value("${appointment.reminders.smtp.from:reminders@chronosync.local}") String from,
+		@Value("${appointment.reminders.smtp.timeout:10s}") Duration timeout
+	) {
+		this.host = host;
+		this.port = port;
+		this.from = from;
+		this.timeoutMillis = (int) timeout.toMillis();
+	}
+
+	/**
+	 * Mails a reminder to the client of the appointment.
+	 *
+	 * @param reminder {@link AppointmentReminderDTO} reminder to deliver
+	 * @throws IOException if the server could not be reached or refused the message
+	 */
+	@Override
+	public void deliver(AppointmentReminderDTO reminder) throws IOException {
+		String to = reminder.clientEmail();
+		if (to == null || to.isBlank() || !isValidAddress(to)) {
+			log.info("Reminder {} skipped, the client has no valid email address.", reminder.key());
+			return;
+		}
+		if (!isValidAddress(from)) {
+			throw new IOException("Invalid sender address " + from.strip());
+		}
+
+		try (Socket socket = new Socket()) {
+			socket.connect(new InetSocketAddress(host, port), timeoutMillis);
+			socket.setSoTimeout(timeoutMillis);
+			BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+			Writer out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+
+			expect(in, 220);
+			command(out, in, "HELO " + socket.getLocalAddress().getHostName(), 250);
+			command(out, in, "MAIL FROM:<" + from + ">", 250);
+			command(out, in, "RCPT TO:<" + to + ">", 250);
+			command(out, in, "DATA", 354);
+			out.write(message(reminder, to));
+			command(out, in, ".", 250);
+			command(out, in, "QUIT", 221);
+		}
+	}
+
+	/**
+	 * Builds the headers and body of the message, ending with a line break. Lines starting
+	 * with a dot are escaped by doubling the dot.
+	 *
+	 * @param reminder {@link AppointmentReminderDTO} reminder to mail
+	 * @param to       {@link String} recipient address
+	 * @return {@link String} message data
+	 */
+	private String message(AppointmentReminderDTO reminder, String to) {
+		String body = String.join(
+			"\n",
+			"Hello " + valueOrEmpty(reminder.clientFirstName()) + ",",
+			"",
+			"this is a reminder of your appointment"
+				+ (reminder.appointmentTypeName() != null ? " " + reminder.appointmentTypeName() : "")
+				+ " on " + reminder.startDateTime().format(START_FORMAT)
+				+ (reminder.employeeFirstName() != null
+					? " with " + reminder.employeeFirstName() + " " + valueOrEmpty(reminder.employeeLastName())
+					: "")
+				+ "."
+		);
+
+		StringBuilder data = new StringBuilder()
+			.append("From: ").append(from).append(CRLF)
+			.append("To: ").append(to).append(CRLF)
+			.append("Subject: Appointment reminder").append(CRLF)
+			.append("Date: ").append(ZonedDateTime.now().format(DateTimeFormatter.RFC_1123_DATE_TIME)).append(CRLF)
+			.append("Message-ID: <").append(reminder.key()).append('@').append(host).append('>').append(CRLF)
+			.append("MIME-Version: 1.0").append(CRLF)
+			.append("Content-Type: text/plain; charset=UTF-8").append(CRLF)
+			.append("Content-Transfer-Encoding: 8bit").append(CRLF)
+			.append(CRLF);
+		for (String line : body.split("\r?\n|\r", -1)) {
+			data.append(line.startsWith(".") ? "." : "").append(line).append(CRLF);
+		}
+		return data.toString();
+	}
+
+	/**
+	 * Sends a command and checks the reply.
+	 *
+	 * @param out     {@link Writer} to the server
+	 * @param in      {@link BufferedReader} from the server
+	 * @param command {@link String} command to send
+	 * @param code    expected reply code
+	 * @throws IOException if the server replied with another code or closed the connection
+	 */
+	private static void command(Writer out, BufferedReader in, String command, int code) throws IOException {
+		out.write(command + CRLF);
+		out.flush();
+		expect(in, code);
+	}
+
+	/**
+	 * Reads a reply, which may span several lines, and checks its code.
+	 *
+	 * @param in   {@link BufferedReader} from the server
+	 * @param code expected reply code
+	 * @throws IOException if the server replied with another code or closed the connection
+	 */
+	private static void expect(BufferedReader in, int code) throws IOException {
+		String line;
+		do {
+			line = in.readLine();
+			if (line == null || line.length() < 3) {
+				throw new IOException("The SMTP server closed the connection.");
+			}
+		} while (line.length() > 3 && line.charAt(3) == '-');
+		if (!line.startsWith(Integer.toString(code))) {
+			throw new IOException("The SMTP server replied " + line);
+		}
+	}
+
+	/**
+	 * Checks that an address cannot break out of a command or header.
+	 *
+	 * @param address {@link String} address to check
+	 * @return {@code false} if the address contains a line break or angle bracket
+	 */
+	private static boolean isValidAddress(String address) {
+		return address.chars().noneMatch(c -> c == '\r' || c == '\n' || c == '<' || c == '>');
+	}
+
+	private static String valueOrEmpty(String value) {
+		return value != null ? value : "";
+	}
+}
@@ -3,6 +3,8 @@ package com.sinergy.chronosync.service.impl;
 import com.sinergy.chronosync.dto.request.UserRequestDTO;
 import com.sinergy.chronosync.model.user.User;
 import com.sinergy.chronosync.repository.UserRepository;
+import com.sinergy.chronosync.service.SearchResultCacheService;
+import com.sinergy.chronosync.service.SearchResultCacheService.Entity;
 import com.sinergy.chronosync.service.SecurityContextService;
 import com.sinergy.chronosync.service.UserService;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +13,9 @@ import org.springframework.stereotype.Service;
 
 /**
  * User service implementation.
+ *
+ * <p>Cached appointment search results carry the names of their employees, so every write
+ * to a user discards the firm's cached appointment searches once it commits.</p>
  */
 @Service
 @RequiredArgsConstructor
@@ -19,6 +24,7 @@ public class UserServiceImpl implements UserService {
 	private final UserRepository userRepository;
 	private final PasswordEncoder passwordEncoder;
 	private final SecurityContextService securityContextService;
+	private final SearchResultCacheService searchResultCacheService;
 
 	/**
 	 * Creates new user.
@@ -33,6 +39,7 @@ public class UserServiceImpl implements UserService {
 
 		User createdUser = userRepository.save(user);
 		createdUser.setPassword(null);
+		searchResultCacheService.invalidate(securityContextService.getAuthUserFirm().getId(), Entity.APPOINTMENT);
 
 		return createdUser;
 	}
@@ -0,0 +1,77 @@
+package com.sinergy.chronosync.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sinergy.chronosync.dto.response.AppointmentReminderDTO;
+import com.sinergy.chronosync.service.ReminderChannel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * Reminder channel posting reminders as JSON to a webhook.
+ *
+ * <p>Each request carries the key of its reminder in an {@code Idempotency-Key} header, so
+ * the receiver can drop a reminder it already got when a delivery is retried after a
+ * response was lost. Any response other than a success fails the delivery.</p>
+ */
+@Service
+@ConditionalOnProperty(name = "appointment.reminders.channel", havingValue = "webhook")
+public class WebhookReminderChannel implements ReminderChannel {
+
+	private final ObjectMapper objectMapper;
+	private final URI url;
+	private final Duration timeout;
+	private final HttpClient client;
+
+	/**
+	 * Creates the channel.
+	 *
+	 * @param url     {@link URI} of the webhook
+	 * @param timeout {@link Duration} to wait for connecting and for a response
+	 */
+	public WebhookReminderChannel(
+		ObjectMapper objectMapper,
+		@Value("${appointment.reminders.webhook.url}") URI url,
+		@Value("${appointment.reminders.webhook.timeout:10s}") Duration timeout
+	) {
+		this.objectMapper = objectMapper;
+		this.url = url;
+		this.timeout = timeout;
+		this.client = HttpClient.newBuilder().connectTimeout(timeout).build();
+	}
+
+	/**
+	 * Posts a reminder to the webhook.
+	 *
+	 * @param reminder {@link AppointmentReminderDTO} reminder to deliver
+	 * @throws IOException if the request failed or the webhook did not accept the reminder
+	 */
+	@Override
+	public void deliver(AppointmentReminderDTO reminder) throws IOException {
+		HttpRequest request = HttpRequest.newBuilder(url)
+			.timeout(timeout)
+			.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+			.header("Idempotency-Key", reminder.key())
+			.POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(reminder)))
+			.build();
+		HttpResponse<Void> response;
+		try {
+			response = client.send(request, HttpResponse.BodyHandlers.discarding());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Posting the reminder was interrupted.", e);
+		}
+		if (response.statusCode() / 100 != 2) {
+			throw new IOException("The webhook responded with status " + response.statusCode() + ".");
+		}
+	}
+}
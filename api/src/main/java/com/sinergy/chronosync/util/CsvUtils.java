@@ -0,0 +1,114 @@
+package com.sinergy.chronosync.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Utility class for writing RFC 4180 comma separated values.
+ */
+public final class CsvUtils {
+
+	private CsvUtils() {
+	}
+
+	/**
+	 * Formats a single value as a CSV field.
+	 *
+	 * <p>Null values become empty fields. Values containing a separator, a quote or a
+	 * line break are quoted, with embedded quotes doubled.</p>
+	 *
+	 * @param value the value to format
+	 * @return {@link String} the CSV field
+	 */
+	public static String escape(Object value) {
+		if (value == null) {
+			return "";
+		}
+
+		String text = value.toString();
+		boolean quote = false;
+
+		for (int i = 0; i < text.length() && !quote; i++) {
+			char c = text.charAt(i);
+			quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+		}
+
+		return quote ? '"' + text.replace("\"", "\"\"") + '"' : text;
+	}
+
+	/**
+	 * Parses comma separated values into records of fields.
+	 *
+	 * <p>Quoted fields may contain separators, doubled quotes and line breaks. Both LF
+	 * and CRLF line endings are accepted, and blank lines are skipped.</p>
+	 *
+	 * @param source {@link Reader} source of the CSV text
+	 * @return {@link List} of records, each a list of field values
+	 * @throws IOException if reading fails
+	 */
+	public static List<List<String>> parse(Reader source) throws IOException {
+		Reader reader = source.markSupported() ? source : new BufferedReader(source);
+		List<List<String>> records = new ArrayList<>();
+		List<String> fields = new ArrayList<>();
+		StringBuilder field = new StringBuilder();
+		boolean quoted = false;
+		boolean pending = false;
+		int c;
+
+		while ((c = reader.read()) != -1) {
+			if (quoted) {
+				if (c != '"') {
+					field.append((char) c);
+					continue;
+				}
+				reader.mark(1);
+				int next = reader.read();
+				if (next == '"') {
+					field.append('"');
+				} else {
+					quoted = false;
+					if (next != -1) {
+						reader.reset();
+					}
+				}
+				continue;
+			}
+
+			switch (c) {
+				case '"' -> {
+					quoted = true;
+					pending = true;
+				}
+				case ',' -> {
+					fields.add(field.toString());
+					field.setLength(0);
+					pending = true;
+				}
+				case '\r' -> {
+				}
+				case '\n' -> {
+					if (pending || !field.isEmpty()) {
+						fields.add(field.toString());
+						records.add(fields);
+						fields = new ArrayList<>();
+					}
+					field.setLength(0);
+					pending = false;
+				}
+				default -> {
+					field.append((char) c);
+					pending = true;
+				}
+			}
+		}
+
+		if (pending || !field.isEmpty()) {
+			fields.add(field.toString());
+			records.add(fields);
+		}
+		return records;
+	}
+}
@@ -3,6 +3,9 @@ package com.sinergy.chronosync.util;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 
 /**
  * Utility class providing helper methods for date and time conversion.
@@ -21,4 +24,40 @@ public final class DateTimeUtils {
 			.withZoneSameInstant(targetZone)
 			.toLocalDateTime();
 	}
+
+	/**
+	 * Converts a list of {@link LocalDateTime} from UTC to the specified target time zone.
+	 * The offsets of the zone are looked up once for the range of the times, see {@link ZoneOffsets}.
+	 *
+	 * @param utcTimes   {@link List} of UTC times to convert, which may contain {@code null}
+	 * @param targetZone the {@link ZoneId} to convert the UTC times to
+	 * @return {@link List} of the times in the specified time zone, in the same order
+	 */
+	public static List<LocalDateTime> convertFromUtcToZone(List<LocalDateTime> utcTimes, ZoneId targetZone) {
+		LocalDateTime first = utcTimes.stream().filter(Objects::nonNull).min(LocalDateTime::compareTo).orElse(null);
+		if (first == null) {
+			return new ArrayList<>(utcTimes);
+		}
+		LocalDateTime last = utcTimes.stream().filter(Objects::nonNull).max(LocalDateTime::compareTo).orElseThrow();
+		ZoneOffsets offsets = ZoneOffsets.covering(targetZone, first, last);
+
+		List<LocalDateTime> converted = new ArrayList<>(utcTimes.size());
+		for (LocalDateTime utcTime : utcTimes) {
+			converted.add(offsets.fromUtc(utcTime));
+		}
+		return converted;
+	}
+
+	/**
+	 * Converts a {@link LocalDateTime} from the specified time zone to UTC. A local time
+	 * skipped by a transition is moved forward by the length of the gap, and a local time
+	 * repeated by a transition is read with the earlier offset.
+	 *
+	 * @param localTime  the local time to convert
+	 * @param sourceZone the {@link ZoneId} of the local time
+	 * @return a {@link LocalDateTime} in UTC
+	 */
+	public static LocalDateTime convertFromZoneToUtc(LocalDateTime localTime, ZoneId sourceZone) {
+		return localTime.minusSeconds(ZoneOffsets.rulesOf(sourceZone).getOffset(localTime).getTotalSeconds());
+	}
 }
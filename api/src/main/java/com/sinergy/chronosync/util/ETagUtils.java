@@ -0,0 +1,28 @@
+package com.sinergy.chronosync.util;
+
+import org.springframework.http.ETag;
+
+/**
+ * Utility class for answering conditional requests with entity tags.
+ */
+public final class ETagUtils {
+
+	private ETagUtils() {
+	}
+
+	/**
+	 * Checks an {@code If-None-Match} header against the current entity tag, using the weak
+	 * comparison the header calls for.
+	 *
+	 * @param ifNoneMatch {@link String} header value, or {@code null}
+	 * @param eTag        {@link String} current strong entity tag, quoted
+	 * @return {@code true} if the client's copy is current
+	 */
+	public static boolean matches(String ifNoneMatch, String eTag) {
+		if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+			return false;
+		}
+		return ETag.parse(ifNoneMatch).stream()
+			.anyMatch(candidate -> candidate.isWildcard() || new ETag(candidate.tag(), false).formattedTag().equals(eTag));
+	}
+}
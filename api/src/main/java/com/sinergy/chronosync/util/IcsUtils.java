@@ -0,0 +1,84 @@
+package com.sinergy.chronosync.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Utility class for writing RFC 5545 iCalendar content.
+ */
+public final class IcsUtils {
+
+	private static final DateTimeFormatter UTC_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+	private static final int MAX_LINE_OCTETS = 75;
+
+	private IcsUtils() {
+	}
+
+	/**
+	 * Escapes a text value. Backslashes, semicolons and commas are escaped, and line
+	 * breaks become {@code \n}.
+	 *
+	 * @param text the text to escape, or {@code null}
+	 * @return {@link String} the escaped text, empty for {@code null}
+	 */
+	public static String escape(String text) {
+		if (text == null) {
+			return "";
+		}
+
+		StringBuilder escaped = new StringBuilder(text.length());
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			switch (c) {
+				case '\\', ';', ',' -> escaped.append('\\').append(c);
+				case '\n' -> escaped.append("\\n");
+				case '\r' -> {
+					if (i + 1 >= text.length() || text.charAt(i + 1) != '\n') {
+						escaped.append("\\n");
+					}
+				}
+				default -> escaped.append(c);
+			}
+		}
+		return escaped.toString();
+	}
+
+	/**
+	 * Formats a UTC time as an iCalendar date-time in UTC.
+	 *
+	 * @param utcTime {@link LocalDateTime} in UTC
+	 * @return {@link String} such as {@code 20250203T094500Z}
+	 */
+	public static String formatUtc(LocalDateTime utcTime) {
+		return UTC_FORMAT.format(utcTime);
+	}
+
+	/**
+	 * Writes a content line ending with CRLF. Lines longer than 75 octets of UTF-8 are
+	 * folded onto continuation lines starting with a space, never within a character.
+	 *
+	 * @param writer {@link Writer} to write to
+	 * @param line   {@link String} unfolded content line
+	 * @throws IOException if writing fails
+	 */
+	public static void writeLine(Writer writer, String line) throws IOException {
+		int octets = 0;
+		int start = 0;
+		for (int i = 0; i < line.length(); ) {
+			int codePoint = line.codePointAt(i);
+			int size = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+			if (octets + size > MAX_LINE_OCTETS) {
+				writer.write(line, start, i - start);
+				writer.write("\r\n ");
+				start = i;
+				octets = 1;
+			}
+			octets += size;
+			i += Character.charCount(codePoint);
+		}
+		writer.write(line, start, line.length() - start);
+		writer.write("\r\n");
+	}
+}
@@ -0,0 +1,229 @@
+package com.sinergy.chronosync.util;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Balanced interval tree of half-open intervals {@code [start, end)} identified by a {@link Long} key.
+ *
+ * <p>Nodes are ordered by start and key and kept balanced as an AVL tree. Every node
+ * also stores the greatest end of its subtree, so subtrees that end before a query
+ * starts are skipped. Insertion, removal and an overlap query all take
+ * {@code O(log n)} time.</p>
+ *
+ * <p>The tree is not thread safe.</p>
+ *
+ * @param <T> the type of the interval bounds
+ */
+public final class IntervalTree<T extends Comparable<? super T>> {
+
+	private final Map<Long, Node<T>> nodes = new HashMap<>();
+	private Node<T> root;
+
+	/**
+	 * Adds an interval, replacing any interval previously stored under the same key.
+	 *
+	 * @param key   {@link Long} key of the interval
+	 * @param start inclusive start of the interval
+	 * @param end   exclusive end of the interval
+	 */
+	public void put(Long key, T start, T end) {
+		remove(key);
+		Node<T> node = new Node<>(key, start, end);
+		root = insert(root, node);
+		nodes.put(key, node);
+	}
+
+	/**
+	 * Removes the interval stored under a key, if any.
+	 *
+	 * @param key {@link Long} key of the interval
+	 * @return {@code true} if an interval was removed
+	 */
+	public boolean remove(Long key) {
+		Node<T> node = nodes.remove(key);
+		if (node == null) {
+			return false;
+		}
+		root = delete(root, node);
+		return true;
+	}
+
+	/**
+	 * Checks whether any stored interval overlaps {@code [start, end)}.
+	 *
+	 * @param start      inclusive start of the queried interval
+	 * @param end        exclusive end of the queried interval
+	 * @param excludeKey {@link Long} key of an interval to ignore, or {@code null}
+	 * @return {@code true} if an overlapping interval exists
+	 */
+	public boolean overlaps(T start, T end, Long excludeKey) {
+		return overlaps(root, start, end, excludeKey);
+	}
+
+	/**
+	 * Checks whether an interval is stored under a key.
+	 *
+	 * @param key {@link Long} key of the interval
+	 * @return {@code true} if the key is present
+	 */
+	public boolean contains(Long key) {
+		return nodes.containsKey(key);
+	}
+
+	/**
+	 * Returns the keys of the stored intervals.
+	 *
+	 * @return unmodifiable {@link Set} view of the keys
+	 */
+	public Set<Long> keys() {
+		return Collections.unmodifiableSet(nodes.keySet());
+	}
+
+	/**
+	 * Returns the number of stored intervals.
+	 *
+	 * @return number of intervals
+	 */
+	public int size() {
+		return nodes.size();
+	}
+
+	private boolean overlaps(Node<T> node, T start, T end, Long excludeKey) {
+		while (node != null && node.maxEnd.compareTo(start) > 0) {
+			if (node.start.compareTo(end) < 0 && node.end.compareTo(start) > 0 && !node.key.equals(excludeKey)) {
+				return true;
+			}
+			if (overlaps(node.left, start, end, excludeKey)) {
+				return true;
+			}
+			if (node.start.compareTo(end) >= 0) {
+				return false;
+			}
+			node = node.right;
+		}
+		return false;
+	}
+
+	private Node<T> insert(Node<T> node, Node<T> added) {
+		if (node == null) {
+			return added;
+		}
+		if (compare(added, node) < 0) {
+			node.left = insert(node.left, added);
+		} else {
+			node.right = insert(node.right, added);
+		}
+		return rebalance(node);
+	}
+
+	private Node<T> delete(Node<T> node, Node<T> removed) {
+		if (node == null) {
+			return null;
+		}
+		int cmp = compare(removed, node);
+		if (cmp < 0) {
+			node.left = delete(node.left, removed);
+		} else if (cmp > 0) {
+			node.right = delete(node.right, removed);
+		} else {
+			if (node.left == null) {
+				return node.right;
+			}
+			if (node.right == null) {
+				return node.left;
+			}
+			Node<T> successor = node.right;
+			while (successor.left != null) {
+				successor = successor.left;
+			}
+			successor.right = deleteMin(node.right);
+			successor.left = node.left;
+			node = successor;
+		}
+		return rebalance(node);
+	}
+
+	private Node<T> deleteMin(Node<T> node) {
+		if (node.left == null) {
+			return node.right;
+		}
+		node.left = deleteMin(node.left);
+		return rebalance(node);
+	}
+
+	private int compare(Node<T> a, Node<T> b) {
+		int cmp = a.start.compareTo(b.start);
+		return cmp != 0 ? cmp : a.key.compareTo(b.key);
+	}
+
+	private Node<T> rebalance(Node<T> node) {
+		update(node);
+		int balance = height(node.left) - height(node.right);
+		if (balance > 1) {
+			if (height(node.left.left) < height(node.left.right)) {
+				node.left = rotateLeft(node.left);
+			}
+			return rotateRight(node);
+		}
+		if (balance < -1) {
+			if (height(node.right.right) < height(node.right.left)) {
+				node.right = rotateRight(node.right);
+			}
+			return rotateLeft(node);
+		}
+		return node;
+	}
+
+	private Node<T> rotateRight(Node<T> node) {
+		Node<T> pivot = node.left;
+		node.left = pivot.right;
+		pivot.right = node;
+		update(node);
+		update(pivot);
+		return pivot;
+	}
+
+	private Node<T> rotateLeft(Node<T> node) {
+		Node<T> pivot = node.right;
+		node.right = pivot.left;
+		pivot.left = node;
+		update(node);
+		update(pivot);
+		return pivot;
+	}
+
+	private void update(Node<T> node) {
+		node.height = 1 + Math.max(height(node.left), height(node.right));
+		node.maxEnd = node.end;
+		if (node.left != null && node.left.maxEnd.compareTo(node.maxEnd) > 0) {
+			node.maxEnd = node.left.maxEnd;
+		}
+		if (node.right != null && node.right.maxEnd.compareTo(node.maxEnd) > 0) {
+			node.maxEnd = node.right.maxEnd;
+		}
+	}
+
+	private int height(Node<T> node) {
+		return node == null ? 0 : node.height;
+	}
+
+	private static final class Node<T> {
+		private final Long key;
+		private final T start;
+		private final T end;
+		private T maxEnd;
+		private int height = 1;
+		private Node<T> left;
+		private Node<T> right;
+
+		private Node(Long key, T start, T end) {
+			this.key = key;
+			this.start = start;
+			this.end = end;
+			this.maxEnd = end;
+		}
+	}
+}
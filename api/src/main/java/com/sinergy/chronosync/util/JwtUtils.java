@@ -7,12 +7,16 @@ import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -26,6 +30,7 @@ import java.util.function.Function;
  * from JWTs. It handles the signing and claims management of tokens, including
  * expiration handling and user information extraction.</p>
  */
+@Slf4j
 @Service
 public class JwtUtils {
 
@@ -87,6 +92,35 @@ public class JwtUtils {
 		return extractClaim(jwtString, claims -> claims.get("firm_id", Long.class));
 	}
 
+	/**
+	 * Extracts the firm's time zone claim from the JWT.
+	 *
+	 * @param jwtString {@link String} JWT from which to extract the claim
+	 * @return {@link ZoneId} of the firm, or UTC if the token has none or an invalid one
+	 */
+	public ZoneId extractTimeZone(String jwtString) {
+		String timeZone = extractClaim(jwtString, claims -> claims.get("time_zone", String.class));
+		if (timeZone == null) {
+			return ZoneOffset.UTC;
+		}
+		try {
+			return ZoneId.of(timeZone);
+		} catch (DateTimeException e) {
+			log.warn("Invalid time zone {} in token, using UTC.", timeZone);
+			return ZoneOffset.UTC;
+		}
+	}
+
+	/**
+	 * Extracts the firm's tier claim from the JWT.
+	 *
+	 * @param jwtString {@link String} JWT from which to extract the claim
+	 * @return {@link String} tier of the firm, or {@code null} if the token has none
+	 */
+	public String extractTier(String jwtString) {
+		return extractClaim(jwtString, claims -> claims.get("tier", String.class));
+	}
+
 	/**
 	 * Extracts roles from the JWT.
 	 *
@@ -108,6 +142,12 @@ public class JwtUtils {
 		if (userDetails instanceof User user) {
 			additionalClaims.put("user_id", user.getId());
 			additionalClaims.put("firm_id", user.getFirm().getId());
+			if (user.getFirm().getTimeZone() != null) {
+				additionalClaims.put("time_zone", user.getFirm().getTimeZone());
+			}
+			if (user.getFirm().getTier() != null) {
+				additionalClaims.put("tier", user.getFirm().getTier());
+			}
 			additionalClaims.put("roles", user.getAuthorities().stream()
 				.map(GrantedAuthority::getAuthority)
 				.toList());
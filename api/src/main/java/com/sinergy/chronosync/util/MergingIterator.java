@@ -0,0 +1,59 @@
+package com.sinergy.chronosync.util;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Iterator merging several sorted iterators into one sorted sequence.
+ *
+ * <p>Only the next element of every source is held, in a heap, so merging {@code k} sources
+ * costs {@code O(log k)} per element and the sources are read no further than consumed.
+ * Elements comparing equal are returned in the order of their sources.</p>
+ *
+ * @param <T> the element type
+ */
+public final class MergingIterator<T> implements Iterator<T> {
+
+	private final PriorityQueue<Head<T>> heads;
+
+	/**
+	 * Creates an iterator merging the given sources.
+	 *
+	 * @param sources    {@link Collection} of {@link Iterator} sources, each sorted by {@code comparator}
+	 * @param comparator {@link Comparator} the sources are sorted by
+	 */
+	public MergingIterator(Collection<? extends Iterator<? extends T>> sources, Comparator<? super T> comparator) {
+		Comparator<Head<T>> byValue = Comparator.comparing(Head::value, comparator);
+		this.heads = new PriorityQueue<>(Math.max(sources.size(), 1), byValue.thenComparingInt(Head::source));
+		int source = 0;
+		for (Iterator<? extends T> iterator : sources) {
+			if (iterator.hasNext()) {
+				heads.add(new Head<>(iterator.next(), source, iterator));
+			}
+			source++;
+		}
+	}
+
+	@Override
+	public boolean hasNext() {
+		return !heads.isEmpty();
+	}
+
+	@Override
+	public T next() {
+		Head<T> head = heads.poll();
+		if (head == null) {
+			throw new NoSuchElementException();
+		}
+		if (head.rest().hasNext()) {
+			heads.add(new Head<>(head.rest().next(), head.source(), head.rest()));
+		}
+		return head.value();
+	}
+
+	private record Head<T>(T value, int source, Iterator<? extends T> rest) {
+	}
+}
@@ -0,0 +1,112 @@
+package com.sinergy.chronosync.util;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.sinergy.chronosync.model.appointmentType.Currency;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+/**
+ * Immutable amount of money, held as a whole number of minor units of its currency.
+ *
+ * <p>Amounts are added with exact {@code long} arithmetic, so sums never drift the way
+ * floating point sums do. Only conversions between currencies round, to the nearest
+ * minor unit of the target currency with ties to even. Serialized as a plain decimal
+ * number with the currency's number of decimals.</p>
+ *
+ * @param minorUnits amount in minor units, such as cents
+ * @param currency   {@link Currency} of the amount
+ */
+public record Money(long minorUnits, Currency currency) {
+
+	/**
+	 * Creates an amount.
+	 *
+	 * @throws NullPointerException if the currency is missing
+	 */
+	public Money {
+		Objects.requireNonNull(currency, "Money needs a currency.");
+	}
+
+	/**
+	 * Creates an amount from a decimal number.
+	 *
+	 * @param amount   {@link BigDecimal} amount in major units, such as euros
+	 * @param currency {@link Currency} of the amount
+	 * @return {@link Money} holding the exact amount
+	 * @throws IllegalArgumentException if the amount has more decimals than the currency
+	 *                                  or does not fit into a {@code long}
+	 */
+	public static Money of(BigDecimal amount, Currency currency) {
+		Objects.requireNonNull(currency, "Money needs a currency.");
+		try {
+			return new Money(
+				amount.setScale(currency.getFractionDigits(), RoundingMode.UNNECESSARY).unscaledValue().longValueExact(),
+				currency
+			);
+		} catch (ArithmeticException e) {
+			throw new IllegalArgumentException(
+				"Amount " + amount.toPlainString() + " is not a valid amount of " + currency + ".", e
+			);
+		}
+	}
+
+	/**
+	 * Creates an amount, or {@code null} if either part is missing.
+	 *
+	 * @param minorUnits {@link Long} amount in minor units, or {@code null}
+	 * @param currency   {@link Currency} of the amount, or {@code null}
+	 * @return {@link Money}, or {@code null}
+	 */
+	public static Money ofNullable(Long minorUnits, Currency currency) {
+		return minorUnits != null && currency != null ? new Money(minorUnits, currency) : null;
+	}
+
+	/**
+	 * Adds an amount of the same currency.
+	 *
+	 * @param other {@link Money} to add
+	 * @return {@link Money} sum
+	 * @throws IllegalArgumentException if the currencies differ
+	 * @throws ArithmeticException      if the sum overflows
+	 */
+	public Money plus(Money other) {
+		if (other.currency != currency) {
+			throw new IllegalArgumentException("Cannot add " + other.currency + " to " + currency + ".");
+		}
+		return new Money(Math.addExact(minorUnits, other.minorUnits), currency);
+	}
+
+	/**
+	 * Converts the amount into another currency.
+	 *
+	 * @param target {@link Currency} to convert into
+	 * @param rate   {@link BigDecimal} amount of the target currency one major unit of this currency buys
+	 * @return {@link Money} in the target currency, rounded to its minor unit
+	 */
+	public Money convert(Currency target, BigDecimal rate) {
+		if (target == currency) {
+			return this;
+		}
+		BigDecimal converted = BigDecimal.valueOf(minorUnits, currency.getFractionDigits())
+			.multiply(rate)
+			.setScale(target.getFractionDigits(), RoundingMode.HALF_EVEN);
+		return new Money(converted.unscaledValue().longValueExact(), target);
+	}
+
+	/**
+	 * Returns the amount in major units.
+	 *
+	 * @return {@link BigDecimal} with the currency's number of decimals
+	 */
+	@JsonValue
+	public BigDecimal toDecimal() {
+		return BigDecimal.valueOf(minorUnits, currency.getFractionDigits());
+	}
+
+	@Override
+	public String toString() {
+		return toDecimal().toPlainString() + " " + currency;
+	}
+}
@@ -0,0 +1,338 @@
+package com.sinergy.chronosync.util;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Subset of an iCalendar {@code RRULE} describing when a recurring appointment repeats,
+ * e.g. {@code FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,TH;COUNT=10}.
+ *
+ * <p>Supported parts are {@code FREQ} ({@code DAILY}, {@code WEEKLY} or {@code MONTHLY}),
+ * {@code INTERVAL}, {@code BYDAY} for weekly rules, and at most one of {@code COUNT} and
+ * {@code UNTIL}. Weeks start on Monday and monthly rules repeat on the day of month of the
+ * first occurrence, skipping months without that day.</p>
+ *
+ * <p>Occurrences are generated lazily and in order. Unless the rule has a count, generation
+ * starts at the period containing the requested time instead of at the first occurrence,
+ * so the cost of a lookup depends on the size of the window and not on the age of the series.</p>
+ */
+public final class RecurrenceRule {
+
+	public static final int MAX_COUNT = 1000;
+	public static final int MAX_INTERVAL = 366;
+
+	private static final DateTimeFormatter UNTIL_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+	private static final DateTimeFormatter UNTIL_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+	private final Frequency frequency;
+	private final int interval;
+	private final Set<DayOfWeek> byDay;
+	private final Integer count;
+	private final LocalDateTime until;
+
+	private RecurrenceRule(Frequency frequency, int interval, Set<DayOfWeek> byDay, Integer count, LocalDateTime until) {
+		this.frequency = frequency;
+		this.interval = interval;
+		this.byDay = byDay;
+		this.count = count;
+		this.until = until;
+	}
+
+	/**
+	 * Parses a rule, with or without the {@code RRULE:} prefix. Part names and values are
+	 * case-insensitive.
+	 *
+	 * @param value {@link String} rule to parse
+	 * @return the parsed {@link RecurrenceRule}
+	 * @throws IllegalArgumentException if the rule is malformed or uses an unsupported part
+	 */
+	public static RecurrenceRule parse(String value) {
+		if (value == null || value.isBlank()) {
+			throw new IllegalArgumentException("Recurrence rule is missing.");
+		}
+		String rule = value.trim().toUpperCase(Locale.ROOT);
+		if (rule.startsWith("RRULE:")) {
+			rule = rule.substring("RRULE:".length());
+		}
+
+		Frequency frequency = null;
+		int interval = 1;
+		Set<DayOfWeek> byDay = EnumSet.noneOf(DayOfWeek.class);
+		Integer count = null;
+		LocalDateTime until = null;
+		for (String part : rule.split(";")) {
+			int separator = part.indexOf('=');
+			if (separator <= 0) {
+				throw new IllegalArgumentException("Malformed recurrence rule part: " + part);
+			}
+			String name = part.substring(0, separator);
+			String partValue = part.substring(separator + 1);
+			switch (name) {
+				case "FREQ" -> frequency = Frequency.parse(partValue);
+				case "INTERVAL" -> interval = parseNumber(name, partValue, MAX_INTERVAL);
+				case "COUNT" -> count = parseNumber(name, partValue, MAX_COUNT);
+				case "UNTIL" -> until = parseUntil(partValue);
+				case "BYDAY" -> {
+					for (String day : partValue.split(",")) {
+						byDay.add(parseDay(day));
+					}
+				}
+				case "WKST" -> {
+					if (!partValue.equals("MO")) {
+						throw new IllegalArgumentException("Only weeks starting on Monday are supported.");
+					}
+				}
+				default -> throw new IllegalArgumentException("Unsupported recurrence rule part: " + name);
+			}
+		}
+
+		if (frequency == null) {
+			throw new IllegalArgumentException("Recurrence rule has no FREQ.");
+		}
+		if (count != null && until != null) {
+			throw new IllegalArgumentException("Recurrence rule cannot have both COUNT and UNTIL.");
+		}
+		if (!byDay.isEmpty() && frequency != Frequency.WEEKLY) {
+			throw new IllegalArgumentException("BYDAY is only supported for weekly rules.");
+		}
+		return new RecurrenceRule(frequency, interval, byDay, count, until);
+	}
+
+	/**
+	 * Checks whether the rule generates a given start.
+	 *
+	 * @param first {@link LocalDateTime} start of the first occurrence
+	 * @param start {@link LocalDateTime} start to check
+	 * @return {@code true} if an occurrence starts at {@code start}
+	 */
+	public boolean isOccurrence(LocalDateTime first, LocalDateTime start) {
+		Iterator<LocalDateTime> starts = startsFrom(first, start);
+		return starts.hasNext() && starts.next().equals(start);
+	}
+
+	/**
+	 * Returns the start of the last occurrence.
+	 *
+	 * @param first {@link LocalDateTime} start of the first occurrence
+	 * @return {@link LocalDateTime} start of the last occurrence, or {@code null} if the rule never ends
+	 */
+	public LocalDateTime lastStart(LocalDateTime first) {
+		if (count == null && until == null) {
+			return null;
+		}
+		LocalDateTime last = null;
+		for (Iterator<LocalDateTime> starts = startsFrom(first, first); starts.hasNext(); ) {
+			last = starts.next();
+		}
+		return last;
+	}
+
+	/**
+	 * Lazily generates, in order, the starts of the occurrences not before a given time.
+	 *
+	 * @param first {@link LocalDateTime} start of the first occurrence
+	 * @param from  {@link LocalDateTime} earliest start to generate
+	 * @return {@link Iterator} of occurrence starts, endless if the rule never ends
+	 */
+	public Iterator<LocalDateTime> startsFrom(LocalDateTime first, LocalDateTime from) {
+		return new Starts(first, from);
+	}
+
+	/**
+	 * Formats the rule in its canonical form.
+	 *
+	 * @return {@link String} rule without the {@code RRULE:} prefix
+	 */
+	@Override
+	public String toString() {
+		StringBuilder rule = new StringBuilder("FREQ=").append(frequency);
+		if (interval != 1) {
+			rule.append(";INTERVAL=").append(interval);
+		}
+		if (!byDay.isEmpty()) {
+			rule.append(";BYDAY=").append(byDay.stream()
+				.map(day -> day.name().substring(0, 2))
+				.collect(Collectors.joining(",")));
+		}
+		if (count != null) {
+			rule.append(";COUNT=").append(count);
+		}
+		if (until != null) {
+			rule.append(";UNTIL=").append(UNTIL_DATE_TIME.format(until));
+		}
+		return rule.toString();
+	}
+
+	private static int parseNumber(String name, String value, int max) {
+		try {
+			int number = Integer.parseInt(value);
+			if (number >= 1 && number <= max) {
+				return number;
+			}
+		} catch (NumberFormatException e) {
+			// reported below
+		}
+		throw new IllegalArgumentException(name + " must be a number between 1 and " + max + ".");
+	}
+
+	private static LocalDateTime parseUntil(String value) {
+		try {
+			if (value.length() == 8) {
+				return LocalDate.parse(value, UNTIL_DATE).atTime(LocalTime.MAX);
+			}
+			return LocalDateTime.parse(value.endsWith("Z") ? value.substring(0, value.length() - 1) : value, UNTIL_DATE_TIME);
+		} catch (DateTimeParseException e) {
+			throw new IllegalArgumentException("UNTIL must be a date or a date-time in basic format.");
+		}
+	}
+
+	private static DayOfWeek parseDay(String value) {
+		for (DayOfWeek day : DayOfWeek.values()) {
+			if (day.name().startsWith(value) && value.length() == 2) {
+				return day;
+			}
+		}
+		throw new IllegalArgumentException("Unsupported BYDAY value: " + value);
+	}
+
+	/**
+	 * How often a rule repeats.
+	 */
+	private enum Frequency {
+		DAILY,
+		WEEKLY,
+		MONTHLY;
+
+		private static Frequency parse(String value) {
+			try {
+				return valueOf(value);
+			} catch (IllegalArgumentException e) {
+				throw new IllegalArgumentException("Unsupported FREQ value: " + value);
+			}
+		}
+	}
+
+	/**
+	 * Generates the occurrence starts of one series, one period at a time.
+	 */
+	private final class Starts implements Iterator<LocalDateTime> {
+
+		private final LocalDateTime first;
+		private final LocalDateTime from;
+		private final LocalDate firstPeriod;
+		private final DayOfWeek[] days;
+		private long period;
+		private int emitted;
+		private LocalDateTime[] pending = new LocalDateTime[0];
+		private int position;
+		private LocalDateTime next;
+		private boolean done;
+
+		private Starts(LocalDateTime first, LocalDateTime from) {
+			this.first = first;
+			this.from = from.isBefore(first) ? first : from;
+			this.firstPeriod = switch (frequency) {
+				case DAILY -> first.toLocalDate();
+				case WEEKLY -> first.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+				case MONTHLY -> first.toLocalDate().withDayOfMonth(1);
+			};
+			this.days = byDay.isEmpty()
+				? new DayOfWeek[]{first.getDayOfWeek()}
+				: byDay.toArray(new DayOfWeek[0]);
+			this.period = count != null ? 0 : Math.floorDiv(periodsBetween(firstPeriod, this.from.toLocalDate()), interval);
+		}
+
+		@Override
+		public boolean hasNext() {
+			while (next == null && !done) {
+				advance();
+			}
+			return next != null;
+		}
+
+		@Override
+		public LocalDateTime next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			LocalDateTime result = next;
+			next = null;
+			return result;
+		}
+
+		private void advance() {
+			if (position == pending.length) {
+				LocalDate periodStart = periodStart(period++);
+				if (until != null && periodStart.atStartOfDay().isAfter(until)) {
+					done = true;
+					return;
+				}
+				pending = candidates(periodStart);
+				position = 0;
+				return;
+			}
+
+			LocalDateTime candidate = pending[position++];
+			if (candidate == null || candidate.isBefore(first)) {
+				return;
+			}
+			if (until != null && candidate.isAfter(until) || count != null && emitted == count) {
+				done = true;
+				return;
+			}
+			emitted++;
+			if (!candidate.isBefore(from)) {
+				next = candidate;
+			}
+		}
+
+		private LocalDate periodStart(long index) {
+			long offset = index * interval;
+			return switch (frequency) {
+				case DAILY -> firstPeriod.plusDays(offset);
+				case WEEKLY -> firstPeriod.plusWeeks(offset);
+				case MONTHLY -> firstPeriod.plusMonths(offset);
+			};
+		}
+
+		private LocalDateTime[] candidates(LocalDate periodStart) {
+			LocalTime time = first.toLocalTime();
+			return switch (frequency) {
+				case DAILY -> new LocalDateTime[]{periodStart.atTime(time)};
+				case WEEKLY -> {
+					LocalDateTime[] starts = new LocalDateTime[days.length];
+					for (int i = 0; i < days.length; i++) {
+						starts[i] = periodStart.plusDays(days[i].ordinal()).atTime(time);
+					}
+					yield starts;
+				}
+				case MONTHLY -> {
+					YearMonth month = YearMonth.from(periodStart);
+					int day = first.getDayOfMonth();
+					yield new LocalDateTime[]{month.isValidDay(day) ? month.atDay(day).atTime(time) : null};
+				}
+			};
+		}
+
+		private long periodsBetween(LocalDate start, LocalDate end) {
+			return switch (frequency) {
+				case DAILY -> ChronoUnit.DAYS.between(start, end);
+				case WEEKLY -> ChronoUnit.WEEKS.between(start, end);
+				case MONTHLY -> ChronoUnit.MONTHS.between(start, end);
+			};
+		}
+	}
+}
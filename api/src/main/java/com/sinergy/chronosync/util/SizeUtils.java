@@ -0,0 +1,114 @@
+package com.sinergy.chronosync.util;
+
+import org.springframework.data.domain.Slice;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.temporal.TemporalAccessor;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Utility class for estimating the memory held by response objects.
+ *
+ * <p>The estimate follows a 64-bit JVM with eight byte references and covers records,
+ * strings, numbers, dates and times, collections, maps, arrays and pages. It is meant
+ * for bounding caches by size, so it errs on the high side and counts shared objects
+ * such as interned strings each time they are referenced. Enum constants are not
+ * counted, and objects of other classes are counted as a fixed size.</p>
+ */
+public final class SizeUtils {
+
+	private static final long REFERENCE = 8;
+	private static final long HEADER = 16;
+	private static final long UNKNOWN = 64;
+	private static final int MAXIMUM_DEPTH = 16;
+	private static final Map<Class<?>, RecordComponent[]> COMPONENTS = new ConcurrentHashMap<>();
+
+	private SizeUtils() {
+	}
+
+	/**
+	 * Estimates the bytes held by an object and everything it references.
+	 *
+	 * @param value object to estimate, or {@code null}
+	 * @return estimated size in bytes
+	 */
+	public static long estimate(Object value) {
+		return estimate(value, 0);
+	}
+
+	private static long estimate(Object value, int depth) {
+		if (value == null || value instanceof Enum<?>) {
+			return 0;
+		}
+		if (depth > MAXIMUM_DEPTH) {
+			return UNKNOWN;
+		}
+		return switch (value) {
+			case String string -> HEADER + 24 + 2L * string.length();
+			case Boolean ignored -> HEADER;
+			case Character ignored -> HEADER;
+			case BigDecimal decimal -> 40 + HEADER + 24 + decimal.unscaledValue().bitLength() / 8;
+			case BigInteger integer -> 40 + HEADER + integer.bitLength() / 8;
+			case Number ignored -> 24;
+			case TemporalAccessor ignored -> 72;
+			case Slice<?> slice -> 64 + estimate(slice.getContent(), depth + 1);
+			case Collection<?> collection -> estimateElements(collection, depth);
+			case Map<?, ?> map -> estimateEntries(map, depth);
+			case Record record -> estimateRecord(record, depth);
+			default -> value.getClass().isArray() ? estimateArray(value, depth) : UNKNOWN;
+		};
+	}
+
+	private static long estimateElements(Collection<?> collection, int depth) {
+		long size = HEADER + 16 + REFERENCE * collection.size();
+		for (Object element : collection) {
+			size += estimate(element, depth + 1);
+		}
+		return size;
+	}
+
+	private static long estimateEntries(Map<?, ?> map, int depth) {
+		long size = HEADER + 32 + (REFERENCE + 32) * map.size();
+		for (Map.Entry<?, ?> entry : map.entrySet()) {
+			size += estimate(entry.getKey(), depth + 1) + estimate(entry.getValue(), depth + 1);
+		}
+		return size;
+	}
+
+	private static long estimateRecord(Record record, int depth) {
+		RecordComponent[] components = COMPONENTS.computeIfAbsent(
+			record.getClass(),
+			Class::getRecordComponents
+		);
+		long size = HEADER;
+		for (RecordComponent component : components) {
+			size += REFERENCE;
+			if (component.getType().isPrimitive()) {
+				continue;
+			}
+			try {
+				size += estimate(component.getAccessor().invoke(record), depth + 1);
+			} catch (ReflectiveOperationException e) {
+				size += UNKNOWN;
+			}
+		}
+		return size;
+	}
+
+	private static long estimateArray(Object array, int depth) {
+		int length = Array.getLength(array);
+		if (array.getClass().getComponentType().isPrimitive()) {
+			return HEADER + REFERENCE * length;
+		}
+		long size = HEADER + REFERENCE * length;
+		for (int i = 0; i < length; i++) {
+			size += estimate(Array.get(array, i), depth + 1);
+		}
+		return size;
+	}
+}
@@ -0,0 +1,342 @@
+package com.sinergy.chronosync.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+
+/**
+ * Set of the five-minute slots of one day, stored as a fixed array of 64-bit words.
+ *
+ * <p>Slot {@code i} covers {@code [i * 5, (i + 1) * 5)} minutes after midnight, so a day
+ * has {@value #SLOTS_PER_DAY} slots packed into five words. Intersections, unions and
+ * differences touch one word at a time and never allocate.</p>
+ *
+ * <p>Bitmaps are mutable and not thread safe. Bitmaps shared through a cache must be
+ * copied with {@link #copy()} before they are changed.</p>
+ */
+public final class SlotBitmap {
+
+	public static final int SLOT_MINUTES = 5;
+	public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+
+	private static final int WORDS = (SLOTS_PER_DAY + Long.SIZE - 1) / Long.SIZE;
+
+	private final long[] words;
+
+	/**
+	 * Creates an empty bitmap.
+	 */
+	public SlotBitmap() {
+		this.words = new long[WORDS];
+	}
+
+	private SlotBitmap(long[] words) {
+		this.words = words;
+	}
+
+	/**
+	 * Returns a copy of this bitmap.
+	 *
+	 * @return new {@link SlotBitmap} with the same slots set
+	 */
+	public SlotBitmap copy() {
+		return new SlotBitmap(words.clone());
+	}
+
+	/**
+	 * Clears every slot.
+	 *
+	 * @return this bitmap
+	 */
+	public SlotBitmap clear() {
+		Arrays.fill(words, 0L);
+		return this;
+	}
+
+	/**
+	 * Sets the slots {@code [from, to)}. Bounds are clamped to the day.
+	 *
+	 * @param from first slot to set
+	 * @param to   slot after the last slot to set
+	 * @return this bitmap
+	 */
+	public SlotBitmap set(int from, int to) {
+		from = Math.max(from, 0);
+		to = Math.min(to, SLOTS_PER_DAY);
+		if (from >= to) {
+			return this;
+		}
+		int first = from / Long.SIZE;
+		int last = (to - 1) / Long.SIZE;
+		long firstMask = -1L << from;
+		long lastMask = -1L >>> -to;
+		if (first == last) {
+			words[first] |= firstMask & lastMask;
+			return this;
+		}
+		words[first] |= firstMask;
+		for (int i = first + 1; i < last; i++) {
+			words[i] = -1L;
+		}
+		words[last] |= lastMask;
+		return this;
+	}
+
+	/**
+	 * Clears the slots {@code [from, to)}. Bounds are clamped to the day.
+	 *
+	 * @param from first slot to clear
+	 * @param to   slot after the last slot to clear
+	 * @return this bitmap
+	 */
+	public SlotBitmap clear(int from, int to) {
+		from = Math.max(from, 0);
+		to = Math.min(to, SLOTS_PER_DAY);
+		if (from >= to) {
+			return this;
+		}
+		int first = from / Long.SIZE;
+		int last = (to - 1) / Long.SIZE;
+		long firstMask = -1L << from;
+		long lastMask = -1L >>> -to;
+		if (first == last) {
+			words[first] &= ~(firstMask & lastMask);
+			return this;
+		}
+		words[first] &= ~firstMask;
+		for (int i = first + 1; i < last; i++) {
+			words[i] = 0L;
+		}
+		words[last] &= ~lastMask;
+		return this;
+	}
+
+	/**
+	 * Clears every slot outside {@code [from, to)}.
+	 *
+	 * @param from first slot to keep
+	 * @param to   slot after the last slot to keep
+	 * @return this bitmap
+	 */
+	public SlotBitmap retain(int from, int to) {
+		return clear(0, from).clear(to, SLOTS_PER_DAY);
+	}
+
+	/**
+	 * Sets the slots touched by a time range on the given day, rounding outwards to
+	 * whole slots. Parts of the range outside the day are ignored.
+	 *
+	 * @param day   {@link LocalDate} day of this bitmap
+	 * @param start {@link LocalDateTime} inclusive start of the range
+	 * @param end   {@link LocalDateTime} exclusive end of the range
+	 * @return this bitmap
+	 */
+	public SlotBitmap setCovering(LocalDate day, LocalDateTime start, LocalDateTime end) {
+		return set(floorSlot(day, start), ceilSlot(day, end));
+	}
+
+	/**
+	 * Keeps only the slots also set in another bitmap.
+	 *
+	 * @param other {@link SlotBitmap} to intersect with
+	 * @return this bitmap
+	 */
+	public SlotBitmap and(SlotBitmap other) {
+		for (int i = 0; i < WORDS; i++) {
+			words[i] &= other.words[i];
+		}
+		return this;
+	}
+
+	/**
+	 * Adds the slots set in another bitmap.
+	 *
+	 * @param other {@link SlotBitmap} to unite with
+	 * @return this bitmap
+	 */
+	public SlotBitmap or(SlotBitmap other) {
+		for (int i = 0; i < WORDS; i++) {
+			words[i] |= other.words[i];
+		}
+		return this;
+	}
+
+	/**
+	 * Clears the slots set in another bitmap.
+	 *
+	 * @param other {@link SlotBitmap} to subtract
+	 * @return this bitmap
+	 */
+	public SlotBitmap andNot(SlotBitmap other) {
+		for (int i = 0; i < WORDS; i++) {
+			words[i] &= ~other.words[i];
+		}
+		return this;
+	}
+
+	/**
+	 * Checks whether a slot is set.
+	 *
+	 * @param slot slot index
+	 * @return {@code true} if the slot is set
+	 */
+	public boolean get(int slot) {
+		return (words[slot / Long.SIZE] & 1L << slot) != 0;
+	}
+
+	/**
+	 * Counts the set slots.
+	 *
+	 * @return number of set slots
+	 */
+	public int cardinality() {
+		int count = 0;
+		for (long word : words) {
+			count += Long.bitCount(word);
+		}
+		return count;
+	}
+
+	/**
+	 * Checks whether no slot is set.
+	 *
+	 * @return {@code true} if the bitmap is empty
+	 */
+	public boolean isEmpty() {
+		for (long word : words) {
+			if (word != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Passes every run of consecutive set slots that is at least {@code minLength} long
+	 * to the consumer, in order.
+	 *
+	 * @param minLength shortest run to report
+	 * @param consumer  {@link RunConsumer} receiving the bounds of each run
+	 */
+	public void forEachRun(int minLength, RunConsumer consumer) {
+		int from = nextSetBit(0);
+		while (from >= 0) {
+			int to = nextClearBit(from);
+			if (to - from >= minLength) {
+				consumer.accept(from, to);
+			}
+			from = nextSetBit(to);
+		}
+	}
+
+	/**
+	 * Returns the start of a slot on the given day.
+	 *
+	 * @param day  {@link LocalDate} day of the slot
+	 * @param slot slot index, {@value #SLOTS_PER_DAY} meaning the next midnight
+	 * @return {@link LocalDateTime} start of the slot
+	 */
+	public static LocalDateTime startOf(LocalDate day, int slot) {
+		return day.atStartOfDay().plusMinutes((long) slot * SLOT_MINUTES);
+	}
+
+	/**
+	 * Returns the slot containing a time of day.
+	 *
+	 * @param time {@link LocalTime} time of day
+	 * @return index of the slot containing the time
+	 */
+	public static int floorSlot(LocalTime time) {
+		return time.toSecondOfDay() / (SLOT_MINUTES * 60);
+	}
+
+	/**
+	 * Returns the first slot starting at or after a time of day.
+	 *
+	 * @param time {@link LocalTime} time of day
+	 * @return index of the first slot not before the time
+	 */
+	public static int ceilSlot(LocalTime time) {
+		int seconds = SLOT_MINUTES * 60;
+		return (time.toSecondOfDay() + seconds - 1 + (time.getNano() > 0 ? 1 : 0)) / seconds;
+	}
+
+	/**
+	 * Returns the slot of a day containing a point in time, clamped to {@code [0, SLOTS_PER_DAY]}.
+	 *
+	 * @param day      {@link LocalDate} day of the slots
+	 * @param dateTime {@link LocalDateTime} point in time
+	 * @return slot index
+	 */
+	public static int floorSlot(LocalDate day, LocalDateTime dateTime) {
+		int cmp = dateTime.toLocalDate().compareTo(day);
+		return cmp < 0 ? 0 : cmp > 0 ? SLOTS_PER_DAY : floorSlot(dateTime.toLocalTime());
+	}
+
+	/**
+	 * Returns the first slot of a day starting at or after a point in time, clamped to
+	 * {@code [0, SLOTS_PER_DAY]}.
+	 *
+	 * @param day      {@link LocalDate} day of the slots
+	 * @param dateTime {@link LocalDateTime} point in time
+	 * @return slot index
+	 */
+	public static int ceilSlot(LocalDate day, LocalDateTime dateTime) {
+		int cmp = dateTime.toLocalDate().compareTo(day);
+		return cmp < 0 ? 0 : cmp > 0 ? SLOTS_PER_DAY : ceilSlot(dateTime.toLocalTime());
+	}
+
+	private int nextSetBit(int from) {
+		if (from >= SLOTS_PER_DAY) {
+			return -1;
+		}
+		int i = from / Long.SIZE;
+		long word = words[i] & -1L << from;
+		while (word == 0) {
+			if (++i == WORDS) {
+				return -1;
+			}
+			word = words[i];
+		}
+		int bit = i * Long.SIZE + Long.numberOfTrailingZeros(word);
+		return bit < SLOTS_PER_DAY ? bit : -1;
+	}
+
+	private int nextClearBit(int from) {
+		int i = from / Long.SIZE;
+		long word = ~words[i] & -1L << from;
+		while (word == 0) {
+			if (++i == WORDS) {
+				return SLOTS_PER_DAY;
+			}
+			word = ~words[i];
+		}
+		return Math.min(i * Long.SIZE + Long.numberOfTrailingZeros(word), SLOTS_PER_DAY);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		return o instanceof SlotBitmap other && Arrays.equals(words, other.words);
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(words);
+	}
+
+	/**
+	 * Receives a run of consecutive slots.
+	 */
+	@FunctionalInterface
+	public interface RunConsumer {
+
+		/**
+		 * Accepts a run of slots.
+		 *
+		 * @param from first slot of the run
+		 * @param to   slot after the last slot of the run
+		 */
+		void accept(int from, int to);
+	}
+}
@@ -0,0 +1,219 @@
+package com.sinergy.chronosync.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hierarchical timing wheel of items that expire at a tick.
+ *
+ * <p>Each level is a ring of {@code wheelSize} slots, and a slot of level {@code l}
+ * spans {@code wheelSize^l} ticks. An item is placed on the lowest level whose ring
+ * reaches its deadline. Whenever the wheel enters a slot of a higher level, the items
+ * of that slot are moved down to finer slots, so an item is moved at most once per level.
+ * Scheduling, cancelling and expiring an item take {@code O(1)} time, and advancing by
+ * one tick takes {@code O(levels)} time besides the items expired or moved.</p>
+ *
+ * <p>The wheel is not thread safe.</p>
+ *
+ * @param <T> the type of the items, identified by their equality
+ */
+public final class TimingWheel<T> {
+
+	private static final int DUE = -1;
+
+	private final int wheelSize;
+	private final long[] spans;
+	private final Set<T>[][] slots;
+	private final Map<T, Position> positions = new HashMap<>();
+	private final Set<T> due = new LinkedHashSet<>();
+	private long currentTick;
+
+	/**
+	 * Creates an empty wheel.
+	 *
+	 * @param wheelSize   number of slots of each level
+	 * @param levels      number of levels
+	 * @param currentTick tick the wheel starts at
+	 */
+	@SuppressWarnings("unchecked")
+	public TimingWheel(int wheelSize, int levels, long currentTick) {
+		if (wheelSize < 2 || levels < 1) {
+			throw new IllegalArgumentException("A timing wheel needs at least two slots and one level.");
+		}
+		this.wheelSize = wheelSize;
+		this.spans = new long[levels];
+		this.slots = new Set[levels][wheelSize];
+		this.currentTick = currentTick;
+
+		long span = 1;
+		for (int level = 0; level < levels; level++) {
+			spans[level] = span;
+			span = Math.multiplyExact(span, wheelSize);
+		}
+	}
+
+	/**
+	 * Schedules an item to expire at a tick, replacing any earlier schedule of the same item.
+	 * An item whose tick has already passed expires on the next advance.
+	 *
+	 * @param item     item to schedule
+	 * @param deadline tick the item expires at
+	 * @return {@code false} if the deadline lies beyond the reach of the wheel
+	 */
+	public boolean schedule(T item, long deadline) {
+		cancel(item);
+		if (deadline <= currentTick) {
+			due.add(item);
+			positions.put(item, new Position(DUE, 0, deadline));
+			return true;
+		}
+		for (int level = 0; level < spans.length; level++) {
+			long slot = deadline / spans[level];
+			if (slot - currentTick / spans[level] < wheelSize) {
+				int index = (int) (slot % wheelSize);
+				if (slots[level][index] == null) {
+					slots[level][index] = new LinkedHashSet<>();
+				}
+				slots[level][index].add(item);
+				positions.put(item, new Position(level, index, deadline));
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Removes a scheduled item.
+	 *
+	 * @param item item to remove
+	 * @return {@code true} if the item was scheduled
+	 */
+	public boolean cancel(T item) {
+		Position position = positions.remove(item);
+		if (position == null) {
+			return false;
+		}
+		if (position.level == DUE) {
+			due.remove(item);
+		} else {
+			slots[position.level][position.index].remove(item);
+		}
+		return true;
+	}
+
+	/**
+	 * Advances the wheel to a tick and removes the items expired on the way.
+	 *
+	 * @param tick tick to advance to; earlier ticks leave the wheel where it is
+	 * @return {@link List} of the expired items, in the order of their deadlines
+	 */
+	public List<T> advance(long tick) {
+		List<T> expired = new ArrayList<>();
+		drainDue(expired);
+		while (currentTick < tick) {
+			if (positions.isEmpty()) {
+				currentTick = tick;
+				break;
+			}
+			currentTick++;
+			for (int level = spans.length - 1; level > 0; level--) {
+				if (currentTick % spans[level] == 0) {
+					cascade(level, (int) ((currentTick / spans[level]) % wheelSize));
+				}
+			}
+			drainDue(expired);
+			Set<T> slot = slots[0][(int) (currentTick % wheelSize)];
+			if (slot != null && !slot.isEmpty()) {
+				for (T item : slot) {
+					positions.remove(item);
+					expired.add(item);
+				}
+				slot.clear();
+			}
+		}
+		return expired;
+	}
+
+	/**
+	 * Returns the tick the wheel is at.
+	 *
+	 * @return current tick
+	 */
+	public long getCurrentTick() {
+		return currentTick;
+	}
+
+	/**
+	 * Returns the number of ticks ahead of the current tick that any deadline is accepted.
+	 *
+	 * @return number of ticks the wheel reaches
+	 */
+	public long getReach() {
+		return spans[spans.length - 1] * (wheelSize - 1);
+	}
+
+	/**
+	 * Checks whether an item is scheduled.
+	 *
+	 * @param item item to look up
+	 * @return {@code true} if the item is scheduled
+	 */
+	public boolean contains(T item) {
+		return positions.containsKey(item);
+	}
+
+	/**
+	 * Returns the number of scheduled items.
+	 *
+	 * @return number of items
+	 */
+	public int size() {
+		return positions.size();
+	}
+
+	/**
+	 * Moves the items of a slot of a higher level down to the levels below it.
+	 *
+	 * @param level level of the slot
+	 * @param index index of the slot in its level
+	 */
+	private void cascade(int level, int index) {
+		Set<T> slot = slots[level][index];
+		if (slot == null || slot.isEmpty()) {
+			return;
+		}
+		List<T> items = new ArrayList<>(slot);
+		slot.clear();
+		for (T item : items) {
+			Position position = positions.remove(item);
+			schedule(item, position.deadline);
+		}
+	}
+
+	/**
+	 * Moves the items whose deadline had already passed when scheduled to the expired items.
+	 *
+	 * @param expired {@link List} collecting the expired items
+	 */
+	private void drainDue(List<T> expired) {
+		for (T item : due) {
+			positions.remove(item);
+			expired.add(item);
+		}
+		due.clear();
+	}
+
+	/**
+	 * Slot holding a scheduled item.
+	 *
+	 * @param level    level of the slot, or {@link #DUE} for an item already expired
+	 * @param index    index of the slot in its level
+	 * @param deadline tick the item expires at
+	 */
+	private record Position(int level, int index, long deadline) {
+	}
+}
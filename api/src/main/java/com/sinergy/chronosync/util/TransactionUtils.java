@@ -0,0 +1,63 @@
+package com.sinergy.chronosync.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Utility class for working with Spring managed transactions.
+ */
+public final class TransactionUtils {
+
+	private TransactionUtils() {
+	}
+
+	/**
+	 * Runs the given action once the current transaction commits, or immediately
+	 * when no transaction is active.
+	 *
+	 * @param action {@link Runnable} action to run
+	 */
+	public static void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+
+	/**
+	 * Runs the given action just before the current transaction commits, while its locks
+	 * are still held, or immediately when no transaction is active. If the action ran but
+	 * the transaction does not commit, the rollback action is run instead.
+	 *
+	 * @param action   {@link Runnable} action to run
+	 * @param rollback {@link Runnable} action undoing its effects
+	 */
+	public static void beforeCommit(Runnable action, Runnable rollback) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			private boolean applied;
+
+			@Override
+			public void beforeCommit(boolean readOnly) {
+				applied = true;
+				action.run();
+			}
+
+			@Override
+			public void afterCompletion(int status) {
+				if (applied && status != STATUS_COMMITTED) {
+					rollback.run();
+				}
+			}
+		});
+	}
+}
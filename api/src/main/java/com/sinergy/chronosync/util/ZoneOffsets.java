@@ -0,0 +1,107 @@
+package com.sinergy.chronosync.util;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Offsets of a time zone from UTC over a window of time, for converting many UTC times
+ * into local times.
+ *
+ * <p>The offset transitions within the window are looked up once, so converting a time
+ * is a search over a few transitions and an addition, without creating a
+ * {@link java.time.ZonedDateTime}. Times outside the window are converted through the
+ * zone's rules, which are looked up once per zone and cached.</p>
+ */
+public final class ZoneOffsets {
+
+	private static final Map<ZoneId, ZoneRules> RULES = new ConcurrentHashMap<>();
+
+	private final ZoneRules rules;
+	private final long from;
+	private final long to;
+	private final long[] transitions;
+	private final int[] offsets;
+
+	private ZoneOffsets(ZoneRules rules, long from, long to, long[] transitions, int[] offsets) {
+		this.rules = rules;
+		this.from = from;
+		this.to = to;
+		this.transitions = transitions;
+		this.offsets = offsets;
+	}
+
+	/**
+	 * Looks up the offsets of a time zone within a window.
+	 *
+	 * @param zone    {@link ZoneId} to convert into
+	 * @param utcFrom {@link LocalDateTime} inclusive start of the window, in UTC
+	 * @param utcTo   {@link LocalDateTime} inclusive end of the window, in UTC
+	 * @return {@link ZoneOffsets} of the zone within the window
+	 */
+	public static ZoneOffsets covering(ZoneId zone, LocalDateTime utcFrom, LocalDateTime utcTo) {
+		ZoneRules rules = rulesOf(zone);
+		long from = utcFrom.toEpochSecond(ZoneOffset.UTC);
+		long to = utcTo.toEpochSecond(ZoneOffset.UTC);
+		Instant start = Instant.ofEpochSecond(from);
+
+		List<ZoneOffsetTransition> changes = new ArrayList<>();
+		if (!rules.isFixedOffset()) {
+			for (
+				ZoneOffsetTransition transition = rules.nextTransition(start);
+				transition != null && transition.toEpochSecond() <= to;
+				transition = rules.nextTransition(transition.getInstant())
+			) {
+				changes.add(transition);
+			}
+		}
+
+		long[] transitions = new long[changes.size()];
+		int[] offsets = new int[changes.size() + 1];
+		offsets[0] = rules.getOffset(start).getTotalSeconds();
+		for (int i = 0; i < changes.size(); i++) {
+			transitions[i] = changes.get(i).toEpochSecond();
+			offsets[i + 1] = changes.get(i).getOffsetAfter().getTotalSeconds();
+		}
+		return new ZoneOffsets(rules, from, to, transitions, offsets);
+	}
+
+	/**
+	 * Returns the cached rules of a time zone.
+	 *
+	 * @param zone {@link ZoneId} of the time zone
+	 * @return {@link ZoneRules} of the zone
+	 */
+	public static ZoneRules rulesOf(ZoneId zone) {
+		return RULES.computeIfAbsent(zone, ZoneId::getRules);
+	}
+
+	/**
+	 * Converts a UTC time into the local time of the zone.
+	 *
+	 * @param utcTime {@link LocalDateTime} in UTC, or {@code null}
+	 * @return {@link LocalDateTime} in the zone, or {@code null}
+	 */
+	public LocalDateTime fromUtc(LocalDateTime utcTime) {
+		if (utcTime == null) {
+			return null;
+		}
+		long epochSecond = utcTime.toEpochSecond(ZoneOffset.UTC);
+		int offset;
+		if (epochSecond >= from && epochSecond <= to) {
+			int index = Arrays.binarySearch(transitions, epochSecond);
+			offset = offsets[index >= 0 ? index + 1 : -index - 1];
+		} else {
+			offset = rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+		}
+		return utcTime.plusSeconds(offset);
+	}
+}
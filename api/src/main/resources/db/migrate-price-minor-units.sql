@@ -0,0 +1,66 @@
+-- Converts decimal prices and revenues into whole minor units of their currency.
+--
+-- Run once with psql against a database created before prices were stored as minor units,
+-- either before or after the new version first starts. Prices without a currency cannot be
+-- converted and are cleared, as the API no longer accepts them. Rollups take the currency
+-- of their appointment type, and those without one keep no revenue.
+--
+-- The fraction digits must match com.sinergy.chronosync.model.appointmentType.Currency.
+
+BEGIN;
+
+-- Appointment type prices
+
+ALTER TABLE appointment_types ADD COLUMN IF NOT EXISTS price_minor_units BIGINT;
+
+UPDATE appointment_types
+SET price_minor_units = ROUND(CAST(price AS NUMERIC) * POWER(CAST(10 AS NUMERIC), CASE currency
+	WHEN 'EUR' THEN 2
+	WHEN 'CHF' THEN 2
+	WHEN 'GBP' THEN 2
+	WHEN 'BAM' THEN 2
+	WHEN 'USD' THEN 2
+END))
+WHERE price IS NOT NULL;
+
+ALTER TABLE appointment_types DROP COLUMN price;
+
+-- Daily rollup revenues
+
+ALTER TABLE appointment_daily_rollups ADD COLUMN IF NOT EXISTS currency VARCHAR(255) DEFAULT '' NOT NULL;
+ALTER TABLE appointment_daily_rollups ADD COLUMN IF NOT EXISTS revenue_minor_units BIGINT;
+ALTER TABLE appointment_daily_rollups ADD COLUMN IF NOT EXISTS paid_revenue_minor_units BIGINT;
+
+UPDATE appointment_daily_rollups r
+SET currency = t.currency
+FROM appointment_types t
+WHERE t.id = r.appointment_type_id AND t.currency IS NOT NULL;
+
+UPDATE appointment_daily_rollups
+SET revenue_minor_units = ROUND(CAST(revenue AS NUMERIC) * POWER(CAST(10 AS NUMERIC), CASE currency
+		WHEN 'EUR' THEN 2
+		WHEN 'CHF' THEN 2
+		WHEN 'GBP' THEN 2
+		WHEN 'BAM' THEN 2
+		WHEN 'USD' THEN 2
+	END)),
+	paid_revenue_minor_units = ROUND(CAST(paid_revenue AS NUMERIC) * POWER(CAST(10 AS NUMERIC), CASE currency
+		WHEN 'EUR' THEN 2
+		WHEN 'CHF' THEN 2
+		WHEN 'GBP' THEN 2
+		WHEN 'BAM' THEN 2
+		WHEN 'USD' THEN 2
+	END));
+
+UPDATE appointment_daily_rollups
+SET revenue_minor_units = 0, paid_revenue_minor_units = 0
+WHERE currency = '';
+
+ALTER TABLE appointment_daily_rollups DROP COLUMN revenue;
+ALTER TABLE appointment_daily_rollups DROP COLUMN paid_revenue;
+
+ALTER TABLE appointment_daily_rollups DROP CONSTRAINT IF EXISTS uk_rollup_firm_date_employee_type;
+ALTER TABLE appointment_daily_rollups ADD CONSTRAINT uk_rollup_firm_date_employee_type
+	UNIQUE (firm_id, rollup_date, employee_id, appointment_type_id, currency);
+
+COMMIT;
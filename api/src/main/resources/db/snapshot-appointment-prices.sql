@@ -0,0 +1,40 @@
+-- Stores on every appointment the price of its appointment type, and rebuilds all daily rollups from these prices.
+--
+-- Run once with psql against a database created before appointments stored their price, after
+-- migrate-price-minor-units.sql and either before or after the new version first starts. Existing
+-- appointments take the current price of their appointment type. Rollups of all days are rebuilt,
+-- as the application only reconciles the recent ones.
+
+BEGIN;
+
+-- Appointment prices
+
+ALTER TABLE appointments ADD COLUMN IF NOT EXISTS price_minor_units BIGINT;
+ALTER TABLE appointments ADD COLUMN IF NOT EXISTS currency VARCHAR(255);
+
+UPDATE appointments a
+SET price_minor_units = t.price_minor_units, currency = t.currency
+FROM appointment_types t
+WHERE t.id = a.appointment_type_id AND a.price_minor_units IS NULL AND a.currency IS NULL;
+
+-- Daily rollups
+
+DELETE FROM appointment_daily_rollups;
+
+INSERT INTO appointment_daily_rollups (firm_id, rollup_date, employee_id, appointment_type_id, currency,
+	bookings, minutes, revenue_minor_units, paid_revenue_minor_units, attended, paid, version)
+SELECT firm_id, CAST(start_date_time AS DATE), COALESCE(employee_id, 0), COALESCE(appointment_type_id, 0),
+	COALESCE(currency, ''),
+	COUNT(id),
+	SUM(EXTRACT(EPOCH FROM end_date_time - start_date_time) / 60),
+	SUM(COALESCE(price_minor_units, 0)),
+	SUM(CASE WHEN is_paid = TRUE THEN COALESCE(price_minor_units, 0) ELSE 0 END),
+	SUM(CASE WHEN is_attended = TRUE THEN 1 ELSE 0 END),
+	SUM(CASE WHEN is_paid = TRUE THEN 1 ELSE 0 END),
+	0
+FROM appointments
+WHERE firm_id IS NOT NULL AND start_date_time IS NOT NULL
+GROUP BY firm_id, CAST(start_date_time AS DATE), COALESCE(employee_id, 0), COALESCE(appointment_type_id, 0),
+	COALESCE(currency, '');
+
+COMMIT;
@@ -111,7 +111,7 @@ public class AppointmentFilterBuilderTest {
 		when(root.<LocalDateTime>get("startDateTime")).thenReturn(startTimePath);
 		when(root.<LocalDateTime>get("endDateTime")).thenReturn(endTimePath);
 		when(root.<Client>get("client")).thenReturn(clientPath);
-		when(root.<User>get("taskedEmployee")).thenReturn(employeePath);
+		when(root.<User>get("employee")).thenReturn(employeePath);
 		when(root.<AppointmentType>get("appointmentType")).thenReturn(appointmentTypePath);
 		when(root.<Firm>get("firm")).thenReturn(firmPath);
 
@@ -0,0 +1,107 @@
+package com.sinergy.chronosync.builder;
+
+import com.sinergy.chronosync.model.Firm;
+import com.sinergy.chronosync.model.series.AppointmentSeries;
+import com.sinergy.chronosync.model.user.User;
+import jakarta.persistence.criteria.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link AppointmentSeriesFilterBuilder}.
+ *
+ * <p>The tests ensure that the {@link AppointmentSeriesFilterBuilder#toSpecification()} method
+ * constructs the firm, employee and active range predicates and combines them using the
+ * criteria builder.</p>
+ */
+public class AppointmentSeriesFilterBuilderTest {
+
+	@Mock
+	private Root<AppointmentSeries> root;
+	@Mock
+	private CriteriaQuery<?> query;
+	@Mock
+	private CriteriaBuilder criteriaBuilder;
+	@Mock
+	private Predicate predicate;
+	@Mock
+	private Path<Firm> firmPath;
+	@Mock
+	private Path<User> employeePath;
+	@Mock
+	private Path<Long> employeeIdPath;
+	@Mock
+	private Path<LocalDateTime> startTimePath;
+	@Mock
+	private Path<LocalDateTime> lastEndTimePath;
+
+	private AutoCloseable mocks;
+
+	@BeforeEach
+	void setUp() {
+		mocks = MockitoAnnotations.openMocks(this);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		mocks.close();
+	}
+
+	/**
+	 * Verifies that the {@link AppointmentSeriesFilterBuilder#toSpecification()} method keeps
+	 * the series starting before the end of the range and either never ending or ending
+	 * after its start.
+	 */
+	@Test
+	void toSpecificationTest() {
+		Firm firm = new Firm();
+		firm.setId(1L);
+		List<Long> employeeIds = List.of(3L, 4L);
+		LocalDateTime from = LocalDateTime.parse("2025-02-02T00:00");
+		LocalDateTime to = LocalDateTime.parse("2025-02-09T00:00");
+
+		AppointmentSeriesFilterBuilder filterBuilder = AppointmentSeriesFilterBuilder.builder()
+			.firm(firm)
+			.employeeIds(employeeIds)
+			.activeFrom(from)
+			.activeTo(to)
+			.build();
+
+		when(root.<Firm>get("firm")).thenReturn(firmPath);
+		when(root.<User>get("employee")).thenReturn(employeePath);
+		when(employeePath.<Long>get("id")).thenReturn(employeeIdPath);
+		when(root.<LocalDateTime>get("startDateTime")).thenReturn(startTimePath);
+		when(root.<LocalDateTime>get("lastEndDateTime")).thenReturn(lastEndTimePath);
+
+		when(criteriaBuilder.equal(firmPath, firm)).thenReturn(predicate);
+		when(employeeIdPath.in(employeeIds)).thenReturn(predicate);
+		when(criteriaBuilder.lessThan(startTimePath, to)).thenReturn(predicate);
+		when(criteriaBuilder.isNull(lastEndTimePath)).thenReturn(predicate);
+		when(criteriaBuilder.greaterThan(lastEndTimePath, from)).thenReturn(predicate);
+		when(criteriaBuilder.or(predicate, predicate)).thenReturn(predicate);
+		when(criteriaBuilder.and(any(Predicate[].class))).thenReturn(predicate);
+
+		Specification<AppointmentSeries> spec = filterBuilder.toSpecification();
+		assertNotNull(spec);
+		spec.toPredicate(root, query, criteriaBuilder);
+
+		verify(criteriaBuilder).equal(firmPath, firm);
+		verify(employeeIdPath).in(employeeIds);
+		verify(criteriaBuilder).lessThan(startTimePath, to);
+		verify(criteriaBuilder).isNull(lastEndTimePath);
+		verify(criteriaBuilder).greaterThan(lastEndTimePath, from);
+		verify(criteriaBuilder).and(any(Predicate[].class));
+	}
+}
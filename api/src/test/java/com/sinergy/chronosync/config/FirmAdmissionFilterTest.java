@@ -0,0 +1,154 @@
+package com.sinergy.chronosync.config;
+
+import com.sinergy.chronosync.exception.AdmissionRejectedException;
+import com.sinergy.chronosync.exception.AdmissionRejectedException.Reason;
+import com.sinergy.chronosync.service.RequestAdmissionService;
+import com.sinergy.chronosync.service.RequestAdmissionService.Permit;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link FirmAdmissionFilter}.
+ */
+class FirmAdmissionFilterTest {
+
+	@Mock
+	private RequestAdmissionService requestAdmissionService;
+
+	@Mock
+	private AdmissionProperties admissionProperties;
+
+	@Mock
+	private FilterChain filterChain;
+
+	@Mock
+	private Permit permit;
+
+	@InjectMocks
+	private FirmAdmissionFilter firmAdmissionFilter;
+
+	private MockHttpServletRequest request;
+	private MockHttpServletResponse response;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		when(admissionProperties.isEnabled()).thenReturn(true);
+		request = new MockHttpServletRequest("GET", "/api/v1/client/search");
+		response = new MockHttpServletResponse();
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	/**
+	 * Verifies that an admitted request is handled and its slot released afterwards.
+	 *
+	 * @throws ServletException if a servlet-related error occurs
+	 * @throws IOException      if an I/O error occurs
+	 */
+	@Test
+	void admittedTest() throws ServletException, IOException {
+		authenticate();
+		when(requestAdmissionService.admit(1L, "premium")).thenReturn(permit);
+
+		firmAdmissionFilter.doFilter(request, response, filterChain);
+
+		verify(filterChain).doFilter(request, response);
+		verify(permit).close();
+	}
+
+	/**
+	 * Verifies that a request going asynchronous keeps its slot after its first dispatch
+	 * returns, and releases it once the asynchronous processing completes.
+	 *
+	 * @throws ServletException if a servlet-related error occurs
+	 * @throws IOException      if an I/O error occurs
+	 */
+	@Test
+	void asyncTest() throws ServletException, IOException {
+		authenticate();
+		when(requestAdmissionService.admit(1L, "premium")).thenReturn(permit);
+		request.setAsyncSupported(true);
+		doAnswer(invocation -> request.startAsync()).when(filterChain).doFilter(request, response);
+
+		firmAdmissionFilter.doFilter(request, response, filterChain);
+
+		verify(permit, never()).close();
+		((MockAsyncContext) request.getAsyncContext()).complete();
+		verify(permit).close();
+	}
+
+	/**
+	 * Verifies that a rejected request is answered with the rejection's status and retry
+	 * time, without being handled.
+	 *
+	 * @throws ServletException if a servlet-related error occurs
+	 * @throws IOException      if an I/O error occurs
+	 */
+	@Test
+	void rejectedTest() throws ServletException, IOException {
+		authenticate();
+		when(requestAdmissionService.admit(1L, "premium")).thenThrow(
+			new AdmissionRejectedException(Reason.RATE_LIMITED, Duration.ofMillis(1500), "Request rate of the firm exceeded.")
+		);
+
+		firmAdmissionFilter.doFilter(request, response, filterChain);
+
+		assertEquals(429, response.getStatus());
+		assertEquals("2", response.getHeader(HttpHeaders.RETRY_AFTER));
+		assertEquals("Request rate of the firm exceeded.", response.getContentAsString());
+		verify(filterChain, never()).doFilter(any(), any());
+	}
+
+	/**
+	 * Verifies that requests without an authenticated firm, and all requests while
+	 * admission is disabled, are handled without admission.
+	 *
+	 * @throws ServletException if a servlet-related error occurs
+	 * @throws IOException      if an I/O error occurs
+	 */
+	@Test
+	void notAdmittedTest() throws ServletException, IOException {
+		firmAdmissionFilter.doFilter(request, response, filterChain);
+
+		authenticate();
+		when(admissionProperties.isEnabled()).thenReturn(false);
+		MockHttpServletRequest disabledRequest = new MockHttpServletRequest("GET", "/api/v1/client/search");
+		firmAdmissionFilter.doFilter(disabledRequest, response, filterChain);
+
+		verify(filterChain).doFilter(request, response);
+		verify(filterChain).doFilter(disabledRequest, response);
+		verifyNoInteractions(requestAdmissionService);
+	}
+
+	private static void authenticate() {
+		JwtUserPrincipal principal = new JwtUserPrincipal(2L, 1L, ZoneOffset.UTC, "premium", "manager", List.of());
+		SecurityContextHolder.getContext().setAuthentication(
+			new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities())
+		);
+	}
+}
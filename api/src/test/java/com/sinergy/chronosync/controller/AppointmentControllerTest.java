@@ -1,9 +1,27 @@
 package com.sinergy.chronosync.controller;
 
+import com.sinergy.chronosync.dto.request.AppointmentBatchItemDTO;
+import com.sinergy.chronosync.dto.request.AppointmentExportRequestDTO;
 import com.sinergy.chronosync.dto.request.AppointmentRequestDTO;
+import com.sinergy.chronosync.dto.request.AvailabilityRequestDTO;
 import com.sinergy.chronosync.dto.request.BasePaginationRequest;
+import com.sinergy.chronosync.dto.request.CalendarRequestDTO;
+import com.sinergy.chronosync.dto.request.ExportFormat;
+import com.sinergy.chronosync.dto.response.AppointmentChangesDTO;
+import com.sinergy.chronosync.dto.response.AppointmentSearchResponseDTO;
+import com.sinergy.chronosync.dto.response.BatchItemResultDTO;
+import com.sinergy.chronosync.dto.response.CalendarEntryDTO;
+import com.sinergy.chronosync.dto.response.EmployeeAvailabilityDTO;
+import com.sinergy.chronosync.dto.response.TimeSlotDTO;
 import com.sinergy.chronosync.model.Appointment;
+import com.sinergy.chronosync.service.AppointmentBatchService;
+import com.sinergy.chronosync.service.AppointmentEventService;
+import com.sinergy.chronosync.service.AppointmentExportService;
+import com.sinergy.chronosync.service.AppointmentSeriesService;
 import com.sinergy.chronosync.service.AppointmentService;
+import com.sinergy.chronosync.service.AppointmentSyncService;
+import com.sinergy.chronosync.service.AvailabilityService;
+import com.sinergy.chronosync.service.IdempotencyService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -12,11 +30,16 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -28,6 +51,20 @@ class AppointmentControllerTest {
 
 	@Mock
 	private AppointmentService appointmentService;
+	@Mock
+	private AppointmentExportService appointmentExportService;
+	@Mock
+	private AppointmentBatchService appointmentBatchService;
+	@Mock
+	private AvailabilityService availabilityService;
+	@Mock
+	private AppointmentSeriesService appointmentSeriesService;
+	@Mock
+	private AppointmentSyncService appointmentSyncService;
+	@Mock
+	private AppointmentEventService appointmentEventService;
+	@Mock
+	private IdempotencyService idempotencyService;
 
 	@InjectMocks
 	private AppointmentController appointmentController;
@@ -35,6 +72,9 @@ class AppointmentControllerTest {
 	@BeforeEach
 	void setUp() {
 		MockitoAnnotations.openMocks(this);
+		when(idempotencyService.execute(any(), any(), any(), any())).thenAnswer(invocation ->
+			invocation.<Supplier<?>>getArgument(3).get()
+		);
 	}
 
 	/**
@@ -50,17 +90,23 @@ class AppointmentControllerTest {
 		paginationRequest.setPageSize(size);
 		PageRequest pageRequest = PageRequest.of(page, size);
 
-		Appointment appointment = Appointment.builder()
-			.id(1L)
-			.note("Test Appointment")
-			.startDateTime(LocalDateTime.parse("2025-02-02T12:45"))
-			.endDateTime(LocalDateTime.parse("2025-02-02T13:45"))
-			.build();
-		Page<Appointment> mockPage = new PageImpl<>(List.of(appointment), pageRequest, 1);
+		AppointmentSearchResponseDTO appointment = new AppointmentSearchResponseDTO(
+			1L,
+			0L,
+			"Test Appointment",
+			LocalDateTime.parse("2025-02-02T12:45"),
+			LocalDateTime.parse("2025-02-02T13:45"),
+			false,
+			false,
+			null, null, null,
+			null, null, null,
+			null, null, null
+		);
+		Page<AppointmentSearchResponseDTO> mockPage = new PageImpl<>(List.of(appointment), pageRequest, 1);
 
 		when(appointmentService.getAppointments(pageRequest)).thenReturn(mockPage);
 
-		ResponseEntity<Page<Appointment>> response = appointmentController.getAppointments(paginationRequest);
+		ResponseEntity<Page<AppointmentSearchResponseDTO>> response = appointmentController.getAppointments(paginationRequest);
 
 		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
 		assertThat(response.getBody()).isNotNull();
@@ -70,8 +116,9 @@ class AppointmentControllerTest {
 	}
 
 	/**
-	 * Tests the {@link AppointmentController#createAppointment(AppointmentRequestDTO)} method.
-	 * Verifies that the service is called with the correct DTO and the response contains the created entity.
+	 * Tests the {@link AppointmentController#createAppointment(AppointmentRequestDTO, String)} method.
+	 * Verifies that the service is called with the correct DTO under the request's idempotency
+	 * key and the response contains the created entity.
 	 */
 	@Test
 	void createAppointmentTest() {
@@ -90,13 +137,14 @@ class AppointmentControllerTest {
 
 		when(appointmentService.createAppointment(requestDto)).thenReturn(createdAppointment);
 
-		ResponseEntity<Appointment> response = appointmentController.createAppointment(requestDto);
+		ResponseEntity<Appointment> response = appointmentController.createAppointment(requestDto, "key-1");
 
 		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
 		assertThat(response.getBody()).isNotNull();
 		assertThat(response.getBody()).isEqualTo(createdAppointment);
 
 		verify(appointmentService, times(1)).createAppointment(requestDto);
+		verify(idempotencyService, times(1)).execute(eq("key-1"), eq("appointment/create"), eq(requestDto.toContentKey()), any());
 	}
 
 	/**
@@ -131,17 +179,166 @@ class AppointmentControllerTest {
 	}
 
 	/**
-	 * Tests the {@link AppointmentController#deleteAppointment(Long)} method.
+	 * Tests the {@link AppointmentController#deleteAppointment(List)} method.
 	 * Verifies that the service is called with the correct ID and the response status is 204 (No Content).
 	 */
 	@Test
 	void deleteAppointmentTest() {
-		Long id = 1L;
-		doNothing().when(appointmentService).deleteAppointment(id);
+		List<Long> ids = List.of(1L);
+		doNothing().when(appointmentService).deleteAppointment(ids);
 
-		ResponseEntity<Void> response = appointmentController.deleteAppointment(id);
+		ResponseEntity<Void> response = appointmentController.deleteAppointment(ids);
 
 		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
-		verify(appointmentService, times(1)).deleteAppointment(id);
+		verify(appointmentService, times(1)).deleteAppointment(ids);
+	}
+
+	/**
+	 * Tests the {@link AppointmentController#exportAppointments(AppointmentExportRequestDTO)} method.
+	 * Verifies that the streamed body is returned as an attachment with the format's content type.
+	 */
+	@Test
+	void exportAppointmentsTest() {
+		AppointmentExportRequestDTO request = AppointmentExportRequestDTO.builder()
+			.from(LocalDateTime.parse("2025-02-01T00:00"))
+			.to(LocalDateTime.parse("2025-03-01T00:00"))
+			.format(ExportFormat.CSV)
+			.build();
+		StreamingResponseBody body = outputStream -> {
+		};
+
+		when(appointmentExportService.exportAppointments(request)).thenReturn(body);
+
+		ResponseEntity<StreamingResponseBody> response = appointmentController.exportAppointments(request);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getBody()).isSameAs(body);
+		assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.parseMediaType("text/csv"));
+		assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION)).contains("appointments.csv");
+
+		verify(appointmentExportService, times(1)).exportAppointments(request);
+	}
+
+	/**
+	 * Tests the {@link AppointmentController#updateAppointments(List)} method.
+	 * Verifies that the items are passed to the batch service and the per-item results are returned.
+	 */
+	@Test
+	void updateAppointmentsTest() {
+		List<AppointmentBatchItemDTO> items = List.of(AppointmentBatchItemDTO.builder().id(1L).isPaid(true).build());
+		List<BatchItemResultDTO> results = List.of(
+			new BatchItemResultDTO(0, 1L, BatchItemResultDTO.Status.UPDATED, null)
+		);
+
+		when(appointmentBatchService.updateAppointments(items)).thenReturn(results);
+
+		ResponseEntity<List<BatchItemResultDTO>> response = appointmentController.updateAppointments(items);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getBody()).isEqualTo(results);
+
+		verify(appointmentBatchService, times(1)).updateAppointments(items);
+	}
+
+	/**
+	 * Tests the {@link AppointmentController#deleteAppointments(List)} method.
+	 * Verifies that the IDs are passed to the batch service and the per-item results are returned.
+	 */
+	@Test
+	void deleteAppointmentsTest() {
+		List<Long> ids = List.of(1L, 2L);
+		List<BatchItemResultDTO> results = List.of(
+			new BatchItemResultDTO(0, 1L, BatchItemResultDTO.Status.DELETED, null),
+			new BatchItemResultDTO(1, 2L, BatchItemResultDTO.Status.NOT_FOUND, "Appointment does not exist.")
+		);
+
+		when(appointmentBatchService.deleteAppointments(ids)).thenReturn(results);
+
+		ResponseEntity<List<BatchItemResultDTO>> response = appointmentController.deleteAppointments(ids);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getBody()).isEqualTo(results);
+
+		verify(appointmentBatchService, times(1)).deleteAppointments(ids);
+	}
+
+	/**
+	 * Tests the {@link AppointmentController#getCalendar(CalendarRequestDTO)} method.
+	 * Verifies that the service result is returned with status 200 (OK).
+	 */
+	@Test
+	void getCalendarTest() {
+		CalendarRequestDTO request = CalendarRequestDTO.builder()
+			.from(LocalDateTime.parse("2025-02-03T00:00"))
+			.to(LocalDateTime.parse("2025-02-10T00:00"))
+			.build();
+		List<CalendarEntryDTO> entries = List.of(new CalendarEntryDTO(
+			3L, "FREQ=WEEKLY", "Weekly",
+			LocalDateTime.parse("2025-02-03T10:00"), LocalDateTime.parse("2025-02-03T11:00"),
+			5L, "Emp", "Loyee", null, null, null, null, null, null
+		));
+		when(appointmentSeriesService.getCalendar(request)).thenReturn(entries);
+
+		ResponseEntity<List<CalendarEntryDTO>> response = appointmentController.getCalendar(request);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getBody()).isEqualTo(entries);
+		verify(appointmentSeriesService, times(1)).getCalendar(request);
+	}
+
+	/**
+	 * Tests the {@link AppointmentController#findAvailability(AvailabilityRequestDTO)} method.
+	 * Verifies that the service result is returned with status 200 (OK).
+	 */
+	@Test
+	void findAvailabilityTest() {
+		AvailabilityRequestDTO request = AvailabilityRequestDTO.builder()
+			.appointmentTypeId(1L)
+			.from(LocalDateTime.parse("2025-02-03T00:00"))
+			.to(LocalDateTime.parse("2025-02-04T00:00"))
+			.build();
+		List<EmployeeAvailabilityDTO> availability = List.of(new EmployeeAvailabilityDTO(
+			5L,
+			List.of(new TimeSlotDTO(LocalDateTime.parse("2025-02-03T08:00"), LocalDateTime.parse("2025-02-03T17:00")))
+		));
+		when(availabilityService.findAvailability(request)).thenReturn(availability);
+
+		ResponseEntity<List<EmployeeAvailabilityDTO>> response = appointmentController.findAvailability(request);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getBody()).isEqualTo(availability);
+		verify(availabilityService, times(1)).findAvailability(request);
+	}
+
+	/**
+	 * Tests the {@link AppointmentController#getChanges(String, Long)} method.
+	 * Verifies that the service result is returned with status 200 (OK).
+	 */
+	@Test
+	void getChangesTest() {
+		AppointmentChangesDTO changes = new AppointmentChangesDTO(List.of(), List.of(4L), "next", false, false);
+		when(appointmentSyncService.getChanges("token", 5L)).thenReturn(changes);
+
+		ResponseEntity<AppointmentChangesDTO> response = appointmentController.getChanges("token", 5L);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getBody()).isEqualTo(changes);
+		verify(appointmentSyncService, times(1)).getChanges("token", 5L);
+	}
+
+	/**
+	 * Tests the {@link AppointmentController#subscribe()} method.
+	 * Verifies that the stream opened by the service is returned with status 200 (OK).
+	 */
+	@Test
+	void subscribeTest() {
+		SseEmitter emitter = new SseEmitter();
+		when(appointmentEventService.subscribe()).thenReturn(emitter);
+
+		ResponseEntity<SseEmitter> response = appointmentController.subscribe();
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getBody()).isSameAs(emitter);
+		verify(appointmentEventService, times(1)).subscribe();
 	}
 }
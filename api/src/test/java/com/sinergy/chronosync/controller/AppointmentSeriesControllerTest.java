@@ -0,0 +1,117 @@
+package com.sinergy.chronosync.controller;
+
+import com.sinergy.chronosync.dto.request.AppointmentSeriesRequestDTO;
+import com.sinergy.chronosync.dto.request.SeriesOccurrenceRequestDTO;
+import com.sinergy.chronosync.model.Appointment;
+import com.sinergy.chronosync.model.series.AppointmentSeries;
+import com.sinergy.chronosync.service.AppointmentSeriesService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link AppointmentSeriesController}.
+ */
+class AppointmentSeriesControllerTest {
+
+	private static final LocalDateTime START = LocalDateTime.parse("2025-02-03T10:00");
+
+	@Mock
+	private AppointmentSeriesService appointmentSeriesService;
+
+	@InjectMocks
+	private AppointmentSeriesController appointmentSeriesController;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+	}
+
+	/**
+	 * Tests the {@link AppointmentSeriesController#createSeries(AppointmentSeriesRequestDTO)} method.
+	 * Verifies that the created series is returned with status 201 (Created).
+	 */
+	@Test
+	void createSeriesTest() {
+		AppointmentSeriesRequestDTO request = AppointmentSeriesRequestDTO.builder()
+			.startDateTime(START)
+			.endDateTime(START.plusHours(1))
+			.recurrenceRule("FREQ=WEEKLY")
+			.build();
+		AppointmentSeries series = AppointmentSeries.builder()
+			.id(1L)
+			.startDateTime(START)
+			.endDateTime(START.plusHours(1))
+			.recurrenceRule("FREQ=WEEKLY")
+			.build();
+		when(appointmentSeriesService.createSeries(request)).thenReturn(series);
+
+		ResponseEntity<AppointmentSeries> response = appointmentSeriesController.createSeries(request);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+		assertThat(response.getBody()).isEqualTo(series);
+		verify(appointmentSeriesService, times(1)).createSeries(request);
+	}
+
+	/**
+	 * Tests the {@link AppointmentSeriesController#deleteSeries(List)} method.
+	 * Verifies that the service is called with the IDs and the response status is 204 (No Content).
+	 */
+	@Test
+	void deleteSeriesTest() {
+		List<Long> ids = List.of(1L, 2L);
+
+		ResponseEntity<Void> response = appointmentSeriesController.deleteSeries(ids);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+		verify(appointmentSeriesService, times(1)).deleteSeries(ids);
+	}
+
+	/**
+	 * Tests the {@link AppointmentSeriesController#moveOccurrence(SeriesOccurrenceRequestDTO)} method.
+	 * Verifies that the replacing appointment is returned with status 200 (OK).
+	 */
+	@Test
+	void moveOccurrenceTest() {
+		SeriesOccurrenceRequestDTO request = SeriesOccurrenceRequestDTO.builder()
+			.seriesId(1L)
+			.occurrenceStartDateTime(START)
+			.startDateTime(START.plusHours(2))
+			.build();
+		Appointment appointment = Appointment.builder()
+			.id(5L)
+			.startDateTime(START.plusHours(2))
+			.endDateTime(START.plusHours(3))
+			.occurrenceStartDateTime(START)
+			.build();
+		when(appointmentSeriesService.moveOccurrence(request)).thenReturn(appointment);
+
+		ResponseEntity<Appointment> response = appointmentSeriesController.moveOccurrence(request);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getBody()).isEqualTo(appointment);
+		verify(appointmentSeriesService, times(1)).moveOccurrence(request);
+	}
+
+	/**
+	 * Tests the {@link AppointmentSeriesController#cancelOccurrence(Long, LocalDateTime)} method.
+	 * Verifies that the service is called with the occurrence and the response status is 204 (No Content).
+	 */
+	@Test
+	void cancelOccurrenceTest() {
+		ResponseEntity<Void> response = appointmentSeriesController.cancelOccurrence(1L, START);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+		verify(appointmentSeriesService, times(1)).cancelOccurrence(1L, START);
+	}
+}
@@ -2,6 +2,7 @@ package com.sinergy.chronosync.controller;
 
 import com.sinergy.chronosync.dto.request.AppointmentTypeRequestDTO;
 import com.sinergy.chronosync.dto.request.PaginatedAppointmentTypeRequestDTO;
+import com.sinergy.chronosync.dto.response.AppointmentTypeSearchResponseDTO;
 import com.sinergy.chronosync.model.appointmentType.AppointmentType;
 import com.sinergy.chronosync.service.impl.AppointmentTypeServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
@@ -45,14 +46,16 @@ class AppointmentTypeControllerTest {
 		int page = 0;
 		int size = 10;
 
-		AppointmentType appointmentType = AppointmentType.builder().name("Test").colorCode("#FFFFFF").build();
-		Page<AppointmentType> mockPage = new PageImpl<>(List.of(appointmentType), PageRequest.of(page, size), 1);
+		AppointmentTypeSearchResponseDTO appointmentType = new AppointmentTypeSearchResponseDTO(
+			1L, 0L, "Test", 30, 5000L, null, "#FFFFFF"
+		);
+		Page<AppointmentTypeSearchResponseDTO> mockPage = new PageImpl<>(List.of(appointmentType), PageRequest.of(page, size), 1);
 
         PaginatedAppointmentTypeRequestDTO pageRequest = new PaginatedAppointmentTypeRequestDTO();
 
 		when(appointmentTypeService.getAppointmentTypes(pageRequest)).thenReturn(mockPage);
 
-		ResponseEntity<Page<AppointmentType>> response = appointmentTypeController.getAppointmentTypes(pageRequest);
+		ResponseEntity<Page<AppointmentTypeSearchResponseDTO>> response = appointmentTypeController.getAppointmentTypes(pageRequest);
 
 		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
 		assertThat(response.getBody()).isNotNull();
@@ -61,6 +64,34 @@ class AppointmentTypeControllerTest {
 		verify(appointmentTypeService, times(1)).getAppointmentTypes(pageRequest);
 	}
 
+	/**
+	 * Tests the {@link AppointmentTypeController#listAppointmentTypes(PaginatedAppointmentTypeRequestDTO, String)} method.
+	 * Verifies that the list is returned with its entity tag, and that a client holding the
+	 * current tag gets status 304 (Not Modified) without the list being read.
+	 */
+	@Test
+	void listAppointmentTypesTest() {
+		PaginatedAppointmentTypeRequestDTO pageRequest = new PaginatedAppointmentTypeRequestDTO();
+		Page<AppointmentTypeSearchResponseDTO> mockPage = new PageImpl<>(List.of());
+		when(appointmentTypeService.getAppointmentTypesETag(pageRequest)).thenReturn("\"1-4-0\"");
+		when(appointmentTypeService.getAppointmentTypes(pageRequest)).thenReturn(mockPage);
+
+		ResponseEntity<Page<AppointmentTypeSearchResponseDTO>> response =
+			appointmentTypeController.listAppointmentTypes(pageRequest, "\"1-3-0\"");
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getBody()).isSameAs(mockPage);
+		assertThat(response.getHeaders().getETag()).isEqualTo("\"1-4-0\"");
+		assertThat(response.getHeaders().getCacheControl()).isEqualTo("no-cache, private");
+
+		ResponseEntity<Page<AppointmentTypeSearchResponseDTO>> unchanged =
+			appointmentTypeController.listAppointmentTypes(pageRequest, "W/\"1-4-0\"");
+
+		assertThat(unchanged.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+		assertThat(unchanged.getBody()).isNull();
+		verify(appointmentTypeService, times(1)).getAppointmentTypes(pageRequest);
+	}
+
 	/**
 	 * Tests the {@link AppointmentTypeController#createAppointmentType(AppointmentTypeRequestDTO)} method.
 	 * Verifies that the service is called with the correct DTO and the response contains the created entity.
@@ -108,19 +139,19 @@ class AppointmentTypeControllerTest {
 	}
 
 	/**
-	 * Tests the {@link AppointmentTypeController#deleteAppointmentType(Long)} method.
+	 * Tests the {@link AppointmentTypeController#deleteAppointmentType(List)} method.
 	 * Verifies that the service is called with the correct ID and the response status is 204 (No Content).
 	 */
 	@Test
 	void deleteAppointmentTypeTest() {
-		Long id = 1L;
+		List<Long> ids = List.of(1L);
 
-		doNothing().when(appointmentTypeService).deleteAppointmentType(id);
+		doNothing().when(appointmentTypeService).deleteAppointmentType(ids);
 
-		ResponseEntity<Void> response = appointmentTypeController.deleteAppointmentType(id);
+		ResponseEntity<Void> response = appointmentTypeController.deleteAppointmentType(ids);
 
 		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
 
-		verify(appointmentTypeService, times(1)).deleteAppointmentType(id);
+		verify(appointmentTypeService, times(1)).deleteAppointmentType(ids);
 	}
 }
@@ -0,0 +1,85 @@
+package com.sinergy.chronosync.controller;
+
+import com.sinergy.chronosync.dto.response.CalendarFeedTokenDTO;
+import com.sinergy.chronosync.service.CalendarFeedService;
+import com.sinergy.chronosync.service.CalendarFeedService.CalendarFeed;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link CalendarFeedController}.
+ */
+class CalendarFeedControllerTest {
+
+	@Mock
+	private CalendarFeedService calendarFeedService;
+
+	@InjectMocks
+	private CalendarFeedController calendarFeedController;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+	}
+
+	/**
+	 * Tests the {@link CalendarFeedController#createToken()} method.
+	 * Verifies that the issued token is returned with status 201 (Created).
+	 */
+	@Test
+	void createTokenTest() {
+		CalendarFeedTokenDTO token = new CalendarFeedTokenDTO("secret", "/api/v1/calendar-feed/ics/secret");
+		when(calendarFeedService.createToken()).thenReturn(token);
+
+		ResponseEntity<CalendarFeedTokenDTO> response = calendarFeedController.createToken();
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+		assertThat(response.getBody()).isEqualTo(token);
+	}
+
+	/**
+	 * Tests the {@link CalendarFeedController#revokeToken()} method.
+	 * Verifies that revoking returns status 204 (No Content).
+	 */
+	@Test
+	void revokeTokenTest() {
+		ResponseEntity<Void> response = calendarFeedController.revokeToken();
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+		verify(calendarFeedService, times(1)).revokeToken();
+	}
+
+	/**
+	 * Tests the {@link CalendarFeedController#getFeed(String, String)} method.
+	 * Verifies that a changed feed is streamed as iCalendar with its entity tag, and that an
+	 * unchanged feed is answered with status 304 (Not Modified) and no body.
+	 */
+	@Test
+	void getFeedTest() {
+		StreamingResponseBody body = outputStream -> {
+		};
+		when(calendarFeedService.getFeed("secret", null)).thenReturn(new CalendarFeed("\"abc\"", body));
+		when(calendarFeedService.getFeed("secret", "\"abc\"")).thenReturn(new CalendarFeed("\"abc\"", null));
+
+		ResponseEntity<StreamingResponseBody> changed = calendarFeedController.getFeed("secret", null);
+		ResponseEntity<StreamingResponseBody> unchanged = calendarFeedController.getFeed("secret", "\"abc\"");
+
+		assertThat(changed.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(changed.getBody()).isSameAs(body);
+		assertThat(changed.getHeaders().getETag()).isEqualTo("\"abc\"");
+		assertThat(changed.getHeaders().getContentType().toString()).isEqualTo("text/calendar;charset=UTF-8");
+		assertThat(changed.getHeaders().getCacheControl()).isEqualTo("no-cache, private");
+		assertThat(unchanged.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+		assertThat(unchanged.getBody()).isNull();
+		assertThat(unchanged.getHeaders().getETag()).isEqualTo("\"abc\"");
+	}
+}
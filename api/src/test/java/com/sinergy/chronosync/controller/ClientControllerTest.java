@@ -2,8 +2,12 @@ package com.sinergy.chronosync.controller;
 
 import com.sinergy.chronosync.dto.request.ClientRequestDTO;
 import com.sinergy.chronosync.dto.request.PaginatedClientRequestDTO;
+import com.sinergy.chronosync.dto.response.ClientImportResponseDTO;
+import com.sinergy.chronosync.dto.response.ClientSearchResponseDTO;
 import com.sinergy.chronosync.model.Client;
 import com.sinergy.chronosync.model.Firm;
+import com.sinergy.chronosync.service.ClientImportService;
+import com.sinergy.chronosync.service.IdempotencyService;
 import com.sinergy.chronosync.service.impl.ClientServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,7 +20,10 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.List;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -28,6 +35,10 @@ class ClientControllerTest {
 
 	@Mock
 	private ClientServiceImpl clientService;
+	@Mock
+	private ClientImportService clientImportService;
+	@Mock
+	private IdempotencyService idempotencyService;
 
 	@InjectMocks
 	private ClientController clientController;
@@ -35,6 +46,9 @@ class ClientControllerTest {
 	@BeforeEach
 	void setUp() {
 		MockitoAnnotations.openMocks(this);
+		when(idempotencyService.execute(any(), any(), any(), any())).thenAnswer(invocation ->
+			invocation.<Supplier<?>>getArgument(3).get()
+		);
 	}
 
 	/**
@@ -46,18 +60,16 @@ class ClientControllerTest {
 		int page = 0;
 		int size = 10;
 
-		Client client = Client.builder()
-			.firstName("John")
-			.lastName("Doe")
-			.email("john.doe@example.com")
-			.build();
-		Page<Client> mockPage = new PageImpl<>(List.of(client), PageRequest.of(page, size), 1);
+		ClientSearchResponseDTO client = new ClientSearchResponseDTO(
+			1L, 0L, "John", "Doe", "john.doe@example.com", null, null, null
+		);
+		Page<ClientSearchResponseDTO> mockPage = new PageImpl<>(List.of(client), PageRequest.of(page, size), 1);
 
 		PaginatedClientRequestDTO pageRequest = new PaginatedClientRequestDTO();
 
 		when(clientService.getClients(pageRequest)).thenReturn(mockPage);
 
-		ResponseEntity<Page<Client>> response = clientController.getClients(pageRequest);
+		ResponseEntity<Page<ClientSearchResponseDTO>> response = clientController.getClients(pageRequest);
 
 		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
 		assertThat(response.getBody()).isNotNull();
@@ -67,8 +79,9 @@ class ClientControllerTest {
 	}
 
 	/**
-	 * Tests the {@link ClientController#createClient(ClientRequestDTO)} method.
-	 * Verifies that the service is called with the correct DTO and the response contains the created entity.
+	 * Tests the {@link ClientController#createClient(ClientRequestDTO, String)} method.
+	 * Verifies that the service is called with the correct DTO under the request's idempotency
+	 * key and the response contains the created entity.
 	 */
 	@Test
 	void createClientTest() {
@@ -87,13 +100,14 @@ class ClientControllerTest {
 
 		when(clientService.createClient(requestDTO)).thenReturn(createdClient);
 
-		ResponseEntity<Client> response = clientController.createClient(requestDTO);
+		ResponseEntity<Client> response = clientController.createClient(requestDTO, "key-1");
 
 		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
 		assertThat(response.getBody()).isNotNull();
 		assertThat(response.getBody()).isEqualTo(createdClient);
 
 		verify(clientService, times(1)).createClient(requestDTO);
+		verify(idempotencyService, times(1)).execute(eq("key-1"), eq("client/create"), eq(requestDTO), any());
 	}
 
 	/**
@@ -135,19 +149,59 @@ class ClientControllerTest {
 	}
 
 	/**
-	 * Tests the {@link ClientController#deleteClient(Long)} method.
+	 * Tests the {@link ClientController#deleteClient(List)} method.
 	 * Verifies that the service is called with the correct ID and the response status is 204 (No Content).
 	 */
 	@Test
 	void deleteClientTest() {
-		Long id = 1L;
+		List<Long> ids = List.of(1L);
 
-		doNothing().when(clientService).deleteClient(id);
+		doNothing().when(clientService).deleteClient(ids);
 
-		ResponseEntity<Client> response = clientController.deleteClient(id);
+		ResponseEntity<Client> response = clientController.deleteClient(ids);
 
 		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
 
-		verify(clientService, times(1)).deleteClient(id);
+		verify(clientService, times(1)).deleteClient(ids);
+	}
+
+	/**
+	 * Tests the {@link ClientController#importClients(List)} method.
+	 * Verifies that the rows are passed to the import service and its outcome is returned.
+	 */
+	@Test
+	void importClientsTest() {
+		List<ClientRequestDTO> rows = List.of(
+			ClientRequestDTO.builder().firstName("John").lastName("Doe").build()
+		);
+		ClientImportResponseDTO outcome = new ClientImportResponseDTO(1, 1, List.of());
+
+		when(clientImportService.importClients(rows)).thenReturn(outcome);
+
+		ResponseEntity<ClientImportResponseDTO> response = clientController.importClients(rows);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getBody()).isEqualTo(outcome);
+
+		verify(clientImportService, times(1)).importClients(rows);
+	}
+
+	/**
+	 * Tests the {@link ClientController#importClientsCsv(Reader)} method.
+	 * Verifies that the CSV body is passed to the import service and its outcome is returned.
+	 */
+	@Test
+	void importClientsCsvTest() {
+		Reader csv = new StringReader("firstName,lastName\nJohn,Doe\n");
+		ClientImportResponseDTO outcome = new ClientImportResponseDTO(1, 1, List.of());
+
+		when(clientImportService.importClientsCsv(csv)).thenReturn(outcome);
+
+		ResponseEntity<ClientImportResponseDTO> response = clientController.importClientsCsv(csv);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getBody()).isEqualTo(outcome);
+
+		verify(clientImportService, times(1)).importClientsCsv(csv);
 	}
 }
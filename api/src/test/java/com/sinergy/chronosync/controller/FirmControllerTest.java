@@ -0,0 +1,60 @@
+package com.sinergy.chronosync.controller;
+
+import com.sinergy.chronosync.dto.request.FirmTimeZoneDTO;
+import com.sinergy.chronosync.service.FirmService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link FirmController}.
+ */
+class FirmControllerTest {
+
+	@Mock
+	private FirmService firmService;
+
+	@InjectMocks
+	private FirmController firmController;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+	}
+
+	/**
+	 * Tests that the firm's time zone is returned.
+	 */
+	@Test
+	void getTimeZoneTest() {
+		FirmTimeZoneDTO timeZone = new FirmTimeZoneDTO("Europe/Sarajevo");
+		when(firmService.getTimeZone()).thenReturn(timeZone);
+
+		ResponseEntity<FirmTimeZoneDTO> result = firmController.getTimeZone();
+
+		assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(result.getBody()).isEqualTo(timeZone);
+	}
+
+	/**
+	 * Tests that the time zone is passed to the service and the stored one returned.
+	 */
+	@Test
+	void updateTimeZoneTest() {
+		FirmTimeZoneDTO request = new FirmTimeZoneDTO("Europe/Sarajevo");
+		when(firmService.updateTimeZone(request)).thenReturn(request);
+
+		ResponseEntity<FirmTimeZoneDTO> result = firmController.updateTimeZone(request);
+
+		assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(result.getBody()).isEqualTo(request);
+		verify(firmService, times(1)).updateTimeZone(request);
+	}
+}
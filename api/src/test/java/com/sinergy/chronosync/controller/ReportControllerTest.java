@@ -0,0 +1,80 @@
+package com.sinergy.chronosync.controller;
+
+import com.sinergy.chronosync.dto.request.AppointmentReportRequestDTO;
+import com.sinergy.chronosync.dto.request.ExchangeRateDTO;
+import com.sinergy.chronosync.model.appointmentType.Currency;
+import com.sinergy.chronosync.service.AppointmentReportService;
+import com.sinergy.chronosync.service.ExchangeRateService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link ReportController}.
+ */
+class ReportControllerTest {
+
+	@Mock
+	private AppointmentReportService appointmentReportService;
+	@Mock
+	private ExchangeRateService exchangeRateService;
+
+	@InjectMocks
+	private ReportController reportController;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+	}
+
+	/**
+	 * Tests the {@link ReportController#reportAppointments(AppointmentReportRequestDTO)} method.
+	 * Verifies that the streamed report is returned as JSON with status 200 (OK).
+	 */
+	@Test
+	void reportAppointmentsTest() {
+		AppointmentReportRequestDTO request = AppointmentReportRequestDTO.builder()
+			.from(LocalDateTime.parse("2025-02-01T00:00"))
+			.to(LocalDateTime.parse("2025-03-01T00:00"))
+			.build();
+		StreamingResponseBody body = outputStream -> {
+		};
+		when(appointmentReportService.reportAppointments(request)).thenReturn(body);
+
+		ResponseEntity<StreamingResponseBody> response = reportController.reportAppointments(request);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getBody()).isSameAs(body);
+		assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+		verify(appointmentReportService, times(1)).reportAppointments(request);
+	}
+
+	/**
+	 * Tests the {@link ReportController#replaceExchangeRates(List)} method.
+	 * Verifies that the stored exchange rates are returned with status 200 (OK).
+	 */
+	@Test
+	void replaceExchangeRatesTest() {
+		List<ExchangeRateDTO> rates = List.of(new ExchangeRateDTO(Currency.CHF, Currency.EUR, new BigDecimal("1.05")));
+		when(exchangeRateService.replaceExchangeRates(rates)).thenReturn(rates);
+
+		ResponseEntity<List<ExchangeRateDTO>> response = reportController.replaceExchangeRates(rates);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getBody()).isEqualTo(rates);
+		verify(exchangeRateService, times(1)).replaceExchangeRates(rates);
+	}
+}
@@ -0,0 +1,126 @@
+package com.sinergy.chronosync.controller;
+
+import com.sinergy.chronosync.dto.request.ScheduleExceptionRequestDTO;
+import com.sinergy.chronosync.dto.request.ScheduleRequestDTO;
+import com.sinergy.chronosync.dto.request.TimeOffRequestDTO;
+import com.sinergy.chronosync.dto.request.WorkingHoursRequestDTO;
+import com.sinergy.chronosync.dto.response.EmployeeScheduleDTO;
+import com.sinergy.chronosync.dto.response.TimeSlotDTO;
+import com.sinergy.chronosync.model.schedule.ScheduleException;
+import com.sinergy.chronosync.model.schedule.TimeOff;
+import com.sinergy.chronosync.service.ScheduleService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link ScheduleController}.
+ */
+class ScheduleControllerTest {
+
+	@Mock
+	private ScheduleService scheduleService;
+
+	@InjectMocks
+	private ScheduleController scheduleController;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+	}
+
+	/**
+	 * Tests the {@link ScheduleController#getSchedules(ScheduleRequestDTO)} method.
+	 * Verifies that the service result is returned with status 200 (OK).
+	 */
+	@Test
+	void getSchedulesTest() {
+		ScheduleRequestDTO request = ScheduleRequestDTO.builder()
+			.from(LocalDateTime.parse("2025-02-03T00:00"))
+			.to(LocalDateTime.parse("2025-02-04T00:00"))
+			.build();
+		List<EmployeeScheduleDTO> schedules = List.of(new EmployeeScheduleDTO(
+			5L,
+			List.of(new TimeSlotDTO(LocalDateTime.parse("2025-02-03T08:00"), LocalDateTime.parse("2025-02-03T17:00")))
+		));
+		when(scheduleService.getSchedules(request)).thenReturn(schedules);
+
+		ResponseEntity<List<EmployeeScheduleDTO>> response = scheduleController.getSchedules(request);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getBody()).isEqualTo(schedules);
+	}
+
+	/**
+	 * Tests the {@link ScheduleController#replaceWorkingHours(Long, List)} method.
+	 * Verifies that the stored template is returned with status 200 (OK).
+	 */
+	@Test
+	void replaceWorkingHoursTest() {
+		List<WorkingHoursRequestDTO> workingHours = List.of(
+			new WorkingHoursRequestDTO(DayOfWeek.MONDAY, LocalTime.parse("08:00"), LocalTime.parse("16:00"))
+		);
+		when(scheduleService.replaceWorkingHours(5L, workingHours)).thenReturn(workingHours);
+
+		ResponseEntity<List<WorkingHoursRequestDTO>> response = scheduleController.replaceWorkingHours(5L, workingHours);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getBody()).isEqualTo(workingHours);
+		verify(scheduleService, times(1)).replaceWorkingHours(5L, workingHours);
+	}
+
+	/**
+	 * Tests the {@link ScheduleController#createScheduleException(ScheduleExceptionRequestDTO)} and
+	 * {@link ScheduleController#createTimeOff(TimeOffRequestDTO)} methods.
+	 * Verifies that the created entities are returned with status 201 (Created).
+	 */
+	@Test
+	void createTest() {
+		ScheduleExceptionRequestDTO exceptionRequest = ScheduleExceptionRequestDTO.builder()
+			.employeeId(5L)
+			.exceptionDate(LocalDate.parse("2025-02-03"))
+			.build();
+		ScheduleException exception = ScheduleException.builder().id(1L).build();
+		when(scheduleService.createScheduleException(exceptionRequest)).thenReturn(exception);
+		TimeOffRequestDTO timeOffRequest = TimeOffRequestDTO.builder().employeeId(5L).build();
+		TimeOff timeOff = TimeOff.builder().id(2L).build();
+		when(scheduleService.createTimeOff(timeOffRequest)).thenReturn(timeOff);
+
+		ResponseEntity<ScheduleException> exceptionResponse = scheduleController.createScheduleException(exceptionRequest);
+		ResponseEntity<TimeOff> timeOffResponse = scheduleController.createTimeOff(timeOffRequest);
+
+		assertThat(exceptionResponse.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+		assertThat(exceptionResponse.getBody()).isEqualTo(exception);
+		assertThat(timeOffResponse.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+		assertThat(timeOffResponse.getBody()).isEqualTo(timeOff);
+	}
+
+	/**
+	 * Tests the {@link ScheduleController#deleteScheduleExceptions(List)} and
+	 * {@link ScheduleController#deleteTimeOff(List)} methods.
+	 * Verifies that status 204 (No Content) is returned.
+	 */
+	@Test
+	void deleteTest() {
+		ResponseEntity<Void> exceptionResponse = scheduleController.deleteScheduleExceptions(List.of(1L, 2L));
+		ResponseEntity<Void> timeOffResponse = scheduleController.deleteTimeOff(List.of(3L));
+
+		assertThat(exceptionResponse.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+		assertThat(timeOffResponse.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+		verify(scheduleService, times(1)).deleteScheduleExceptions(List.of(1L, 2L));
+		verify(scheduleService, times(1)).deleteTimeOff(List.of(3L));
+	}
+}
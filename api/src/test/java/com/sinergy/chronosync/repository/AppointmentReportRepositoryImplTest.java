@@ -0,0 +1,173 @@
+package com.sinergy.chronosync.repository;
+
+import com.sinergy.chronosync.dto.request.ReportDimension;
+import com.sinergy.chronosync.dto.request.ReportPeriod;
+import com.sinergy.chronosync.model.appointmentType.Currency;
+import com.sinergy.chronosync.util.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link AppointmentReportRepositoryImpl}.
+ */
+class AppointmentReportRepositoryImplTest {
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+	@Mock
+	private Connection connection;
+	@Mock
+	private PreparedStatement preparedStatement;
+	@Mock
+	private ResultSet resultSet;
+
+	@InjectMocks
+	private AppointmentReportRepositoryImpl appointmentReportRepository;
+
+	private final ArgumentCaptor<PreparedStatementCreator> statement = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+	@SuppressWarnings("unchecked")
+	private final ArgumentCaptor<RowMapper<Object[]>> rowMapper = ArgumentCaptor.forClass(RowMapper.class);
+
+	@BeforeEach
+	void setUp() throws Exception {
+		MockitoAnnotations.openMocks(this);
+		when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+		when(jdbcTemplate.queryForStream(statement.capture(), rowMapper.capture())).thenReturn(Stream.empty());
+	}
+
+	/**
+	 * Verifies that the query groups by the requested dimensions and currency in the
+	 * database, filters by firm and range, and reads each row into plain values.
+	 */
+	@Test
+	void streamReportTest() throws Exception {
+		LocalDateTime from = LocalDateTime.parse("2025-01-01T08:00");
+		LocalDateTime to = LocalDateTime.parse("2025-04-01T18:00");
+
+		appointmentReportRepository.streamReport(
+			1L, from, to, List.of(ReportDimension.PERIOD, ReportDimension.EMPLOYEE), ReportPeriod.WEEK, 200
+		);
+
+		statement.getValue().createPreparedStatement(connection);
+		ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+		verify(connection).prepareStatement(sql.capture());
+		assertThat(sql.getValue())
+			.startsWith("SELECT DATE_TRUNC('week', a.start_date_time), a.employee_id, a.currency,")
+			.contains("SUM(a.price_minor_units)")
+			.contains("WHERE a.firm_id = ? AND a.start_date_time >= ? AND a.start_date_time < ?")
+			.endsWith("GROUP BY DATE_TRUNC('week', a.start_date_time), a.employee_id, a.currency"
+				+ " ORDER BY DATE_TRUNC('week', a.start_date_time), a.employee_id, a.currency");
+		verify(preparedStatement).setFetchSize(200);
+		verify(preparedStatement).setLong(1, 1L);
+		verify(preparedStatement).setTimestamp(2, Timestamp.valueOf(from));
+		verify(preparedStatement).setTimestamp(3, Timestamp.valueOf(to));
+
+		when(resultSet.getTimestamp(1)).thenReturn(Timestamp.valueOf("2025-01-06 00:00:00"));
+		when(resultSet.getObject(2, Long.class)).thenReturn(5L);
+		when(resultSet.getString(3)).thenReturn("EUR");
+		when(resultSet.getLong(4)).thenReturn(4L);
+		when(resultSet.getLong(5)).thenReturn(3L);
+		when(resultSet.getLong(6)).thenReturn(2L);
+		when(resultSet.getDouble(7)).thenReturn(0.75);
+		when(resultSet.getDouble(8)).thenReturn(0.5);
+		when(resultSet.getLong(9)).thenReturn(20000L);
+		when(resultSet.getLong(10)).thenReturn(10050L);
+		when(resultSet.getLong(11)).thenReturn(240L);
+
+		assertThat(rowMapper.getValue().mapRow(resultSet, 0)).containsExactly(
+			LocalDate.parse("2025-01-06"), 5L, Currency.EUR, 4L, 3L, 2L, 0.75, 0.5,
+			new Money(20000L, Currency.EUR), new Money(10050L, Currency.EUR), 240L
+		);
+	}
+
+	/**
+	 * Verifies that revenue without a sum or a currency is read as {@code null}.
+	 */
+	@Test
+	void readRowWithoutRevenueTest() throws Exception {
+		appointmentReportRepository.streamReport(
+			1L, LocalDateTime.parse("2025-01-01T08:00"), LocalDateTime.parse("2025-01-02T08:00"),
+			List.of(), ReportPeriod.MONTH, 200
+		);
+		when(resultSet.getString(1)).thenReturn(null);
+		when(resultSet.getLong(2)).thenReturn(1L);
+		when(resultSet.getLong(7)).thenReturn(0L);
+		when(resultSet.getLong(8)).thenReturn(0L);
+		when(resultSet.wasNull()).thenReturn(true, false);
+
+		assertThat(rowMapper.getValue().mapRow(resultSet, 0))
+			.containsExactly(null, 1L, 0L, 0L, 0.0, 0.0, null, null, 0L);
+	}
+
+	/**
+	 * Verifies that a range of whole days is summed from the daily rollups in the currency
+	 * they were written in, with missing employees, appointment types and currencies
+	 * reported as {@code null} and empty groups left out.
+	 */
+	@Test
+	void streamReportRollupTest() throws Exception {
+		appointmentReportRepository.streamReport(
+			1L, LocalDateTime.parse("2025-01-01T00:00"), LocalDateTime.parse("2025-04-01T00:00"),
+			List.of(ReportDimension.PERIOD, ReportDimension.EMPLOYEE), ReportPeriod.MONTH, 200
+		);
+
+		statement.getValue().createPreparedStatement(connection);
+		ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+		verify(connection).prepareStatement(sql.capture());
+		assertThat(sql.getValue())
+			.startsWith("SELECT DATE_TRUNC('month', CAST(r.rollup_date AS TIMESTAMP)), NULLIF(r.employee_id, 0), NULLIF(r.currency, ''),")
+			.contains("SUM(r.revenue_minor_units)")
+			.contains("FROM appointment_daily_rollups r")
+			.doesNotContain("appointment_types")
+			.contains("WHERE r.firm_id = ? AND r.rollup_date >= ? AND r.rollup_date < ?")
+			.endsWith("GROUP BY DATE_TRUNC('month', CAST(r.rollup_date AS TIMESTAMP)), NULLIF(r.employee_id, 0), NULLIF(r.currency, '')"
+				+ " HAVING SUM(r.bookings) > 0"
+				+ " ORDER BY DATE_TRUNC('month', CAST(r.rollup_date AS TIMESTAMP)), NULLIF(r.employee_id, 0), NULLIF(r.currency, '')");
+		verify(preparedStatement).setLong(1, 1L);
+		verify(preparedStatement).setDate(2, Date.valueOf("2025-01-01"));
+		verify(preparedStatement).setDate(3, Date.valueOf("2025-04-01"));
+		verify(preparedStatement, never()).setTimestamp(anyInt(), any());
+	}
+
+	/**
+	 * Verifies that a report without dimensions groups by currency only.
+	 */
+	@Test
+	void streamReportTotalsTest() throws Exception {
+		appointmentReportRepository.streamReport(
+			1L, LocalDateTime.parse("2025-01-01T00:00"), LocalDateTime.parse("2025-01-31T12:00"),
+			List.of(), ReportPeriod.MONTH, 200
+		);
+
+		statement.getValue().createPreparedStatement(connection);
+		ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+		verify(connection).prepareStatement(sql.capture());
+		assertThat(sql.getValue())
+			.startsWith("SELECT a.currency,")
+			.endsWith("GROUP BY a.currency ORDER BY a.currency");
+		verify(jdbcTemplate, times(1)).queryForStream(any(PreparedStatementCreator.class), any(RowMapper.class));
+	}
+}
@@ -0,0 +1,156 @@
+package com.sinergy.chronosync.repository;
+
+import com.sinergy.chronosync.exception.ConflictException;
+import com.sinergy.chronosync.exception.RepositoryException;
+import com.sinergy.chronosync.model.BaseEntity;
+import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.*;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.SingularAttribute;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.auditing.AuditingHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link OptimisticUpdateRepositoryImpl}.
+ */
+class OptimisticUpdateRepositoryImplTest {
+
+	@Mock
+	private EntityManager entityManager;
+	@Mock
+	private ObjectProvider<AuditingHandler> auditingHandler;
+	@Mock
+	private CriteriaBuilder criteriaBuilder;
+	@Mock
+	private CriteriaUpdate<AppointmentType> update;
+	@Mock
+	private CriteriaQuery<Long> countQuery;
+	@Mock
+	private Root<AppointmentType> root;
+	@Mock
+	private Path<Object> path;
+	@Mock
+	private Predicate predicate;
+	@Mock
+	private Metamodel metamodel;
+	@Mock
+	private EntityType<AppointmentType> entityType;
+	@Mock
+	private SingularAttribute<BaseEntity, Long> idAttribute;
+	@Mock
+	private SingularAttribute<BaseEntity, Long> versionAttribute;
+	@Mock
+	private SingularAttribute<AppointmentType, String> nameAttribute;
+	@Mock
+	private Query updateQuery;
+	@Mock
+	private TypedQuery<Long> typedCountQuery;
+
+	private OptimisticUpdateRepositoryImpl<AppointmentType> repository;
+
+	@BeforeEach
+	void setUp() throws NoSuchFieldException {
+		MockitoAnnotations.openMocks(this);
+		repository = new OptimisticUpdateRepositoryImpl<>(auditingHandler);
+		ReflectionTestUtils.setField(repository, "entityManager", entityManager);
+
+		when(entityManager.getCriteriaBuilder()).thenReturn(criteriaBuilder);
+		when(entityManager.getMetamodel()).thenReturn(metamodel);
+		when(metamodel.entity(AppointmentType.class)).thenReturn(entityType);
+		doReturn(idAttribute).when(entityType).getId(Long.class);
+		when(versionAttribute.isVersion()).thenReturn(true);
+		when(idAttribute.getName()).thenReturn("id");
+		when(versionAttribute.getName()).thenReturn("version");
+		when(nameAttribute.getName()).thenReturn("name");
+		when(nameAttribute.getJavaMember()).thenReturn(AppointmentType.class.getDeclaredField("name"));
+		doReturn(Set.of(idAttribute, versionAttribute, nameAttribute)).when(entityType).getSingularAttributes();
+
+		when(criteriaBuilder.createCriteriaUpdate(AppointmentType.class)).thenReturn(update);
+		when(update.from(AppointmentType.class)).thenReturn(root);
+		when(root.get(anyString())).thenReturn(path);
+		when(criteriaBuilder.equal(any(Expression.class), any(Object.class))).thenReturn(predicate);
+		when(criteriaBuilder.and(any(Expression.class), any(Expression.class))).thenReturn(predicate);
+		when(entityManager.createQuery(update)).thenReturn(updateQuery);
+
+		when(criteriaBuilder.createQuery(Long.class)).thenReturn(countQuery);
+		when(countQuery.from(AppointmentType.class)).thenReturn(root);
+		when(countQuery.select(any())).thenReturn(countQuery);
+		when(entityManager.createQuery(countQuery)).thenReturn(typedCountQuery);
+	}
+
+	/**
+	 * Verifies that a matching row is updated in a single statement without reading it
+	 * first, and that the returned entity carries the incremented version.
+	 */
+	@Test
+	void updateTest() {
+		AppointmentType appointmentType = AppointmentType.builder().id(1L).version(3L).name("Updated").build();
+		when(updateQuery.executeUpdate()).thenReturn(1);
+
+		AppointmentType result = repository.update(appointmentType);
+
+		assertThat(result.getVersion()).isEqualTo(4L);
+		verify(update).set(path, (Object) "Updated");
+		verify(update, never()).set(eq(path), eq((Object) 1L));
+		verify(criteriaBuilder).equal(path, 3L);
+		verify(entityManager, never()).find(any(), any());
+		verify(entityManager, never()).createQuery(countQuery);
+	}
+
+	/**
+	 * Verifies that a row with a different version is reported as a conflict.
+	 */
+	@Test
+	void updateConflictTest() {
+		AppointmentType appointmentType = AppointmentType.builder().id(1L).version(3L).name("Updated").build();
+		when(updateQuery.executeUpdate()).thenReturn(0);
+		when(typedCountQuery.getSingleResult()).thenReturn(1L);
+
+		assertThatThrownBy(() -> repository.update(appointmentType)).isInstanceOf(ConflictException.class);
+	}
+
+	/**
+	 * Verifies that a missing row is reported as not found.
+	 */
+	@Test
+	void updateNotFoundTest() {
+		AppointmentType appointmentType = AppointmentType.builder().id(1L).version(3L).name("Updated").build();
+		when(updateQuery.executeUpdate()).thenReturn(0);
+		when(typedCountQuery.getSingleResult()).thenReturn(0L);
+
+		assertThatThrownBy(() -> repository.update(appointmentType)).isInstanceOf(RepositoryException.class);
+	}
+
+	/**
+	 * Verifies that the firm-scoped update only matches rows of the firm, and that a row
+	 * of another firm is reported as not found.
+	 */
+	@Test
+	void updateOtherFirmTest() {
+		AppointmentType appointmentType = AppointmentType.builder().id(1L).version(3L).name("Updated").build();
+		doReturn(path).when(path).get("id");
+		when(updateQuery.executeUpdate()).thenReturn(0);
+		when(typedCountQuery.getSingleResult()).thenReturn(0L);
+
+		assertThatThrownBy(() -> repository.update(appointmentType, 2L)).isInstanceOf(RepositoryException.class);
+
+		verify(root, times(2)).get("firm");
+		verify(criteriaBuilder, times(2)).equal(path, 2L);
+	}
+}
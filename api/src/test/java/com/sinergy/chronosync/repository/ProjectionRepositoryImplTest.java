@@ -0,0 +1,122 @@
+package com.sinergy.chronosync.repository;
+
+import com.sinergy.chronosync.dto.response.ClientSearchResponseDTO;
+import com.sinergy.chronosync.model.Client;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.FlushModeType;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.*;
+import org.hibernate.jpa.HibernateHints;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link ProjectionRepositoryImpl}.
+ */
+class ProjectionRepositoryImplTest {
+
+	@Mock
+	private EntityManager entityManager;
+	@Mock
+	private CriteriaBuilder criteriaBuilder;
+	@Mock
+	private CriteriaQuery<ClientSearchResponseDTO> selectQuery;
+	@Mock
+	private CriteriaQuery<Long> countQuery;
+	@Mock
+	private Root<Client> root;
+	@Mock
+	private Path<Object> path;
+	@Mock
+	private CompoundSelection<ClientSearchResponseDTO> selection;
+	@Mock
+	private Predicate predicate;
+	@Mock
+	private TypedQuery<ClientSearchResponseDTO> typedSelectQuery;
+	@Mock
+	private TypedQuery<Long> typedCountQuery;
+
+	@InjectMocks
+	private ProjectionRepositoryImpl<Client> projectionRepository;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+
+		when(entityManager.getCriteriaBuilder()).thenReturn(criteriaBuilder);
+		when(criteriaBuilder.createQuery(ClientSearchResponseDTO.class)).thenReturn(selectQuery);
+		when(criteriaBuilder.createQuery(Long.class)).thenReturn(countQuery);
+		when(selectQuery.from(Client.class)).thenReturn(root);
+		when(countQuery.from(Client.class)).thenReturn(root);
+		when(root.get(anyString())).thenReturn(path);
+		when(criteriaBuilder.construct(eq(ClientSearchResponseDTO.class), any(Selection[].class))).thenReturn(selection);
+
+		when(entityManager.createQuery(selectQuery)).thenReturn(typedSelectQuery);
+		when(typedSelectQuery.setFlushMode(any())).thenReturn(typedSelectQuery);
+		when(typedSelectQuery.setHint(anyString(), any())).thenReturn(typedSelectQuery);
+		when(entityManager.createQuery(countQuery)).thenReturn(typedCountQuery);
+		when(typedCountQuery.setFlushMode(any())).thenReturn(typedCountQuery);
+		when(typedCountQuery.setHint(anyString(), any())).thenReturn(typedCountQuery);
+	}
+
+	/**
+	 * Verifies that the projected query selects through the record constructor, applies
+	 * the specification and paging, and runs as a read-only query without flushing.
+	 */
+	@Test
+	void findAllProjectedTest() {
+		ClientSearchResponseDTO row = new ClientSearchResponseDTO(1L, 0L, "John", "Doe", null, null, null, null);
+		Specification<Client> specification = (r, q, cb) -> predicate;
+
+		when(typedSelectQuery.getResultList()).thenReturn(List.of(row));
+		when(typedCountQuery.getSingleResult()).thenReturn(21L);
+
+		Page<ClientSearchResponseDTO> result = projectionRepository.findAllProjected(
+			specification,
+			ClientSearchResponseDTO.PROJECTION,
+			PageRequest.of(2, 10)
+		);
+
+		assertThat(result.getContent()).containsExactly(row);
+		assertThat(result.getTotalElements()).isEqualTo(21L);
+
+		verify(selectQuery).select(selection);
+		verify(selectQuery).where(predicate);
+		verify(typedSelectQuery).setFirstResult(20);
+		verify(typedSelectQuery).setMaxResults(10);
+		verify(typedSelectQuery).setFlushMode(FlushModeType.COMMIT);
+		verify(typedSelectQuery).setHint(HibernateHints.HINT_READ_ONLY, true);
+		verify(entityManager, never()).createQuery(anyString());
+	}
+
+	/**
+	 * Verifies that the count query is skipped when the first page is not full.
+	 */
+	@Test
+	void findAllProjectedSkipsCountTest() {
+		ClientSearchResponseDTO row = new ClientSearchResponseDTO(1L, 0L, "John", "Doe", null, null, null, null);
+
+		when(typedSelectQuery.getResultList()).thenReturn(List.of(row));
+
+		Page<ClientSearchResponseDTO> result = projectionRepository.findAllProjected(
+			(r, q, cb) -> predicate,
+			ClientSearchResponseDTO.PROJECTION,
+			PageRequest.of(0, 10)
+		);
+
+		assertThat(result.getTotalElements()).isEqualTo(1L);
+		verify(entityManager, never()).createQuery(countQuery);
+	}
+}
@@ -0,0 +1,402 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.dto.request.AppointmentBatchItemDTO;
+import com.sinergy.chronosync.dto.response.AppointmentEventDTO;
+import com.sinergy.chronosync.dto.response.BatchItemResultDTO;
+import com.sinergy.chronosync.dto.response.BatchItemResultDTO.Status;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.model.Appointment;
+import com.sinergy.chronosync.model.Firm;
+import com.sinergy.chronosync.model.user.User;
+import com.sinergy.chronosync.repository.AppointmentRepository;
+import com.sinergy.chronosync.repository.AppointmentRepository.VersionedRange;
+import com.sinergy.chronosync.repository.AppointmentTypeRepository;
+import com.sinergy.chronosync.repository.CancelledOccurrenceRepository;
+import com.sinergy.chronosync.repository.ClientRepository;
+import com.sinergy.chronosync.repository.UserRepository;
+import com.sinergy.chronosync.service.SearchResultCacheService.Entity;
+import com.sinergy.chronosync.service.impl.AppointmentBatchServiceImpl;
+import com.sinergy.chronosync.util.IntervalTree;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link AppointmentBatchServiceImpl}.
+ */
+class AppointmentBatchServiceTest {
+
+	@Mock
+	private AppointmentRepository appointmentRepository;
+	@Mock
+	private CancelledOccurrenceRepository cancelledOccurrenceRepository;
+	@Mock
+	private UserRepository userRepository;
+	@Mock
+	private ClientRepository clientRepository;
+	@Mock
+	private AppointmentTypeRepository appointmentTypeRepository;
+	@Mock
+	private SecurityContextService securityContextService;
+	@Mock
+	private AppointmentOverlapService appointmentOverlapService;
+	@Mock
+	private BusySlotService busySlotService;
+	@Mock
+	private AppointmentSyncService appointmentSyncService;
+	@Mock
+	private AppointmentEventService appointmentEventService;
+	@Mock
+	private AppointmentReminderService appointmentReminderService;
+	@Mock
+	private AppointmentRollupService appointmentRollupService;
+	@Mock
+	private SearchResultCacheService searchResultCacheService;
+
+	@InjectMocks
+	private AppointmentBatchServiceImpl appointmentBatchService;
+
+	private Firm firm;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		ReflectionTestUtils.setField(appointmentBatchService, "maxItems", 7);
+
+		firm = new Firm();
+		firm.setId(1L);
+		User user = new User();
+		user.setId(7L);
+		when(securityContextService.getAuthUserFirm()).thenReturn(firm);
+		when(securityContextService.getAuthUser()).thenReturn(user);
+		when(userRepository.findIdsByFirmIdAndIdIn(eq(1L), anyCollection()))
+			.thenAnswer(invocation -> List.copyOf(invocation.<Collection<Long>>getArgument(1)));
+		when(clientRepository.findIdsByFirmIdAndIdIn(eq(1L), anyCollection()))
+			.thenAnswer(invocation -> List.copyOf(invocation.<Collection<Long>>getArgument(1)));
+		when(appointmentTypeRepository.findIdsByFirmIdAndIdIn(eq(1L), anyCollection()))
+			.thenAnswer(invocation -> List.copyOf(invocation.<Collection<Long>>getArgument(1)));
+	}
+
+	/**
+	 * Tests that valid appointments are inserted with reserved IDs in one batch
+	 * and invalid ones are reported without being inserted.
+	 */
+	@SuppressWarnings("unchecked")
+	@Test
+	void createAppointmentsTest() {
+		List<AppointmentBatchItemDTO> items = List.of(
+			AppointmentBatchItemDTO.builder()
+				.startDateTime(LocalDateTime.parse("2025-02-02T12:00"))
+				.endDateTime(LocalDateTime.parse("2025-02-02T13:00"))
+				.clientId(3L)
+				.build(),
+			AppointmentBatchItemDTO.builder()
+				.startDateTime(LocalDateTime.parse("2025-02-02T13:00"))
+				.endDateTime(LocalDateTime.parse("2025-02-02T12:00"))
+				.build()
+		);
+		when(appointmentRepository.reserveIds(1)).thenReturn(List.of(100L));
+
+		List<BatchItemResultDTO> results = appointmentBatchService.createAppointments(items);
+
+		assertThat(results).extracting(BatchItemResultDTO::status).containsExactly(Status.CREATED, Status.INVALID);
+		assertThat(results.getFirst().id()).isEqualTo(100L);
+
+		ArgumentCaptor<List<Appointment>> inserted = ArgumentCaptor.forClass(List.class);
+		verify(appointmentRepository, times(1)).insertAll(inserted.capture());
+		Appointment appointment = inserted.getValue().getFirst();
+		assertThat(appointment.getId()).isEqualTo(100L);
+		assertThat(appointment.getFirm()).isEqualTo(firm);
+		assertThat(appointment.getClient().getId()).isEqualTo(3L);
+		assertThat(appointment.getCreatedBy().getId()).isEqualTo(7L);
+		InOrder order = inOrder(appointmentRepository, appointmentRollupService);
+		order.verify(appointmentRepository).snapshotPrices(1L, List.of(100L));
+		order.verify(appointmentRollupService).addAppointments(1L, List.of(100L));
+		verify(appointmentEventService, times(1)).publish(1L, AppointmentEventDTO.Type.CREATED, List.of(100L));
+		verify(searchResultCacheService, times(1)).invalidate(1L, Entity.APPOINTMENT);
+		verify(appointmentReminderService, times(1)).scheduleSaved(100L, appointment.getStartDateTime());
+	}
+
+	/**
+	 * Tests that items overlapping an existing appointment or an earlier item of the
+	 * same batch are reported and not inserted.
+	 */
+	@SuppressWarnings("unchecked")
+	@Test
+	void createAppointmentsOverlapTest() {
+		IntervalTree<LocalDateTime> schedule = new IntervalTree<>();
+		schedule.put(50L, LocalDateTime.parse("2025-02-02T12:00"), LocalDateTime.parse("2025-02-02T13:00"));
+		when(appointmentOverlapService.loadSchedules(
+			Set.of(5L),
+			LocalDateTime.parse("2025-02-02T12:30"),
+			LocalDateTime.parse("2025-02-02T14:30")
+		)).thenReturn(Map.of(5L, schedule));
+		when(appointmentRepository.reserveIds(1)).thenReturn(List.of(100L));
+
+		List<BatchItemResultDTO> results = appointmentBatchService.createAppointments(List.of(
+			item(5L, "2025-02-02T12:30", "2025-02-02T13:30"),
+			item(5L, "2025-02-02T13:00", "2025-02-02T14:00"),
+			item(5L, "2025-02-02T13:30", "2025-02-02T14:30")
+		));
+
+		assertThat(results).extracting(BatchItemResultDTO::status)
+			.containsExactly(Status.OVERLAP, Status.CREATED, Status.OVERLAP);
+
+		ArgumentCaptor<List<Appointment>> inserted = ArgumentCaptor.forClass(List.class);
+		verify(appointmentRepository, times(1)).insertAll(inserted.capture());
+		assertThat(inserted.getValue()).extracting(Appointment::getId).containsExactly(100L);
+		verify(appointmentOverlapService, times(1)).indexSaved(
+			100L, 5L, LocalDateTime.parse("2025-02-02T13:00"), LocalDateTime.parse("2025-02-02T14:00")
+		);
+		verify(busySlotService, times(1)).evictSaved(100L, 5L);
+	}
+
+	private static AppointmentBatchItemDTO item(Long employeeId, String start, String end) {
+		return AppointmentBatchItemDTO.builder()
+			.employeeId(employeeId)
+			.startDateTime(LocalDateTime.parse(start))
+			.endDateTime(LocalDateTime.parse(end))
+			.build();
+	}
+
+	/**
+	 * Tests that a batch whose references are deleted before the insert is rejected as a whole.
+	 */
+	@Test
+	void createAppointmentsUnknownReferenceTest() {
+		List<AppointmentBatchItemDTO> items = List.of(
+			AppointmentBatchItemDTO.builder()
+				.startDateTime(LocalDateTime.parse("2025-02-02T12:00"))
+				.endDateTime(LocalDateTime.parse("2025-02-02T13:00"))
+				.clientId(404L)
+				.build()
+		);
+		when(appointmentRepository.reserveIds(1)).thenReturn(List.of(100L));
+		doThrow(new DataIntegrityViolationException("fk")).when(appointmentRepository).insertAll(anyList());
+
+		assertThatThrownBy(() -> appointmentBatchService.createAppointments(items))
+			.isInstanceOf(InvalidStateException.class);
+	}
+
+	/**
+	 * Tests that items referencing an employee, client or appointment type outside of the
+	 * caller's firm are reported and not inserted.
+	 */
+	@SuppressWarnings("unchecked")
+	@Test
+	void createAppointmentsForeignReferenceTest() {
+		when(clientRepository.findIdsByFirmIdAndIdIn(1L, List.of(3L, 30L))).thenReturn(List.of(3L));
+		when(appointmentTypeRepository.findIdsByFirmIdAndIdIn(1L, List.of(40L))).thenReturn(List.of());
+		when(userRepository.findIdsByFirmIdAndIdIn(1L, List.of(50L))).thenReturn(List.of());
+		when(appointmentRepository.reserveIds(1)).thenReturn(List.of(100L));
+
+		List<BatchItemResultDTO> results = appointmentBatchService.createAppointments(List.of(
+			AppointmentBatchItemDTO.builder()
+				.startDateTime(LocalDateTime.parse("2025-02-02T12:00"))
+				.endDateTime(LocalDateTime.parse("2025-02-02T13:00"))
+				.clientId(3L)
+				.build(),
+			AppointmentBatchItemDTO.builder()
+				.startDateTime(LocalDateTime.parse("2025-02-02T12:00"))
+				.endDateTime(LocalDateTime.parse("2025-02-02T13:00"))
+				.clientId(30L)
+				.build(),
+			AppointmentBatchItemDTO.builder()
+				.startDateTime(LocalDateTime.parse("2025-02-02T12:00"))
+				.endDateTime(LocalDateTime.parse("2025-02-02T13:00"))
+				.appointmentTypeId(40L)
+				.build(),
+			item(50L, "2025-02-02T12:00", "2025-02-02T13:00")
+		));
+
+		assertThat(results).extracting(BatchItemResultDTO::status)
+			.containsExactly(Status.CREATED, Status.INVALID, Status.INVALID, Status.INVALID);
+		ArgumentCaptor<List<Appointment>> inserted = ArgumentCaptor.forClass(List.class);
+		verify(appointmentRepository, times(1)).insertAll(inserted.capture());
+		assertThat(inserted.getValue()).extracting(appointment -> appointment.getClient().getId()).containsExactly(3L);
+	}
+
+	/**
+	 * Tests that changes moving an appointment to a client of another firm are reported
+	 * and not applied.
+	 */
+	@Test
+	void updateAppointmentsForeignReferenceTest() {
+		List<VersionedRange> ranges = List.of(range(1L, 5L));
+		when(appointmentRepository.findVersionedRangesByFirmIdAndIdIn(1L, List.of(1L))).thenReturn(ranges);
+		when(clientRepository.findIdsByFirmIdAndIdIn(1L, List.of(30L))).thenReturn(List.of());
+
+		List<BatchItemResultDTO> results = appointmentBatchService.updateAppointments(List.of(
+			AppointmentBatchItemDTO.builder().id(1L).clientId(30L).build()
+		));
+
+		assertThat(results).extracting(BatchItemResultDTO::status).containsExactly(Status.INVALID);
+		verify(appointmentRepository, never()).patchAll(anyList(), any());
+		verify(appointmentRollupService, never()).subtractAppointments(any(), any());
+	}
+
+	/**
+	 * Tests that updates are applied only to appointments of the firm with a matching
+	 * version and a valid resulting range, that items without a version are rejected,
+	 * and that rows rejected by the update are reported as conflicts.
+	 */
+	@SuppressWarnings("unchecked")
+	@Test
+	void updateAppointmentsTest() {
+		List<AppointmentBatchItemDTO> items = List.of(
+			AppointmentBatchItemDTO.builder().id(1L).version(5L).isPaid(true).appointmentTypeId(9L).build(),
+			AppointmentBatchItemDTO.builder().id(2L).version(3L).endDateTime(LocalDateTime.parse("2020-01-01T00:00")).build(),
+			AppointmentBatchItemDTO.builder().id(1L).isPaid(true).build(),
+			AppointmentBatchItemDTO.builder().id(1L).version(4L).isPaid(true).build(),
+			AppointmentBatchItemDTO.builder().id(2L).version(3L).isAttended(true).appointmentTypeId(9L).build(),
+			AppointmentBatchItemDTO.builder().id(3L).isPaid(true).build(),
+			AppointmentBatchItemDTO.builder().isPaid(true).build()
+		);
+		List<VersionedRange> ranges = List.of(range(1L, 5L), range(2L, 3L));
+		when(appointmentRepository.findVersionedRangesByFirmIdAndIdIn(1L, List.of(1L, 2L, 3L))).thenReturn(ranges);
+		when(appointmentTypeRepository.findIdsByFirmIdAndIdIn(1L, List.of(9L))).thenReturn(List.of(9L));
+		when(appointmentRepository.patchAll(anyList(), eq(1L))).thenReturn(new boolean[]{true, false});
+
+		List<BatchItemResultDTO> results = appointmentBatchService.updateAppointments(items);
+
+		assertThat(results).extracting(BatchItemResultDTO::status).containsExactly(
+			Status.UPDATED,
+			Status.INVALID,
+			Status.INVALID,
+			Status.CONFLICT,
+			Status.CONFLICT,
+			Status.NOT_FOUND,
+			Status.NOT_FOUND
+		);
+
+		ArgumentCaptor<List<Appointment>> changes = ArgumentCaptor.forClass(List.class);
+		verify(appointmentRepository).patchAll(changes.capture(), eq(1L));
+		assertThat(changes.getValue()).extracting(Appointment::getVersion).containsExactly(5L, 3L);
+		verify(appointmentRollupService, times(1)).subtractAppointments(1L, List.of(1L, 2L));
+		verify(appointmentRepository, times(1)).snapshotPrices(1L, List.of(1L));
+		verify(appointmentRollupService, times(1)).addAppointments(1L, List.of(1L, 2L));
+		verify(appointmentEventService, times(1)).publish(1L, AppointmentEventDTO.Type.UPDATED, List.of(1L));
+		verify(searchResultCacheService, times(1)).invalidate(1L, Entity.APPOINTMENT);
+		verify(appointmentReminderService, times(1)).scheduleSaved(eq(1L), any(LocalDateTime.class));
+	}
+
+	/**
+	 * Tests that moving an appointment onto another appointment of the employee is
+	 * reported, while moving it onto its own previous slot is allowed.
+	 */
+	@Test
+	void updateAppointmentsOverlapTest() {
+		VersionedRange first = range(1L, 0L);
+		VersionedRange second = range(2L, 0L);
+		when(first.getEmployeeId()).thenReturn(5L);
+		when(second.getEmployeeId()).thenReturn(5L);
+		when(second.getStartDateTime()).thenReturn(LocalDateTime.parse("2025-02-02T14:00"));
+		when(second.getEndDateTime()).thenReturn(LocalDateTime.parse("2025-02-02T15:00"));
+		when(appointmentRepository.findVersionedRangesByFirmIdAndIdIn(1L, List.of(1L, 2L))).thenReturn(List.of(first, second));
+
+		IntervalTree<LocalDateTime> schedule = new IntervalTree<>();
+		schedule.put(1L, LocalDateTime.parse("2025-02-02T12:00"), LocalDateTime.parse("2025-02-02T13:00"));
+		schedule.put(2L, LocalDateTime.parse("2025-02-02T14:00"), LocalDateTime.parse("2025-02-02T15:00"));
+		when(appointmentOverlapService.loadSchedules(eq(Set.of(5L)), any(), any())).thenReturn(Map.of(5L, schedule));
+		when(appointmentRepository.patchAll(anyList(), eq(1L))).thenReturn(new boolean[]{true});
+
+		List<BatchItemResultDTO> results = appointmentBatchService.updateAppointments(List.of(
+			AppointmentBatchItemDTO.builder().id(1L).version(0L).endDateTime(LocalDateTime.parse("2025-02-02T13:30")).build(),
+			AppointmentBatchItemDTO.builder().id(2L).version(0L).startDateTime(LocalDateTime.parse("2025-02-02T13:00")).build()
+		));
+
+		assertThat(results).extracting(BatchItemResultDTO::status).containsExactly(Status.UPDATED, Status.OVERLAP);
+		verify(appointmentOverlapService, times(1)).indexSaved(
+			1L, 5L, LocalDateTime.parse("2025-02-02T12:00"), LocalDateTime.parse("2025-02-02T13:30")
+		);
+	}
+
+	/**
+	 * Tests that only appointments actually moved to another employee are recorded as
+	 * removed from the previous employee's change feed.
+	 */
+	@Test
+	void updateAppointmentsReassignTest() {
+		VersionedRange first = range(1L, 0L);
+		VersionedRange second = range(2L, 0L);
+		VersionedRange third = range(3L, 0L);
+		when(first.getEmployeeId()).thenReturn(5L);
+		when(second.getEmployeeId()).thenReturn(5L);
+		when(appointmentRepository.findVersionedRangesByFirmIdAndIdIn(1L, List.of(1L, 2L, 3L)))
+			.thenReturn(List.of(first, second, third));
+		when(appointmentRepository.patchAll(anyList(), eq(1L))).thenReturn(new boolean[]{true, true, true});
+
+		appointmentBatchService.updateAppointments(List.of(
+			AppointmentBatchItemDTO.builder().id(1L).version(0L).employeeId(6L).build(),
+			AppointmentBatchItemDTO.builder().id(2L).version(0L).employeeId(5L).build(),
+			AppointmentBatchItemDTO.builder().id(3L).version(0L).employeeId(6L).build()
+		));
+
+		verify(appointmentSyncService, times(1)).recordReassigned(1L, Map.of(1L, 5L));
+	}
+
+	private static VersionedRange range(Long id, Long version) {
+		VersionedRange range = mock(VersionedRange.class);
+		when(range.getId()).thenReturn(id);
+		when(range.getVersion()).thenReturn(version);
+		when(range.getEmployeeId()).thenReturn(null);
+		when(range.getStartDateTime()).thenReturn(LocalDateTime.parse("2025-02-02T12:00"));
+		when(range.getEndDateTime()).thenReturn(LocalDateTime.parse("2025-02-02T13:00"));
+		return range;
+	}
+
+	/**
+	 * Tests that existing appointments are deleted in one statement and missing ones are reported.
+	 */
+	@Test
+	void deleteAppointmentsTest() {
+		when(appointmentRepository.findIdsByFirmIdAndIdIn(1L, List.of(1L, 2L))).thenReturn(Set.of(1L));
+
+		List<BatchItemResultDTO> results = appointmentBatchService.deleteAppointments(List.of(1L, 2L));
+
+		assertThat(results).extracting(BatchItemResultDTO::status).containsExactly(Status.DELETED, Status.NOT_FOUND);
+		verify(cancelledOccurrenceRepository, times(1)).cancelReplacedBy(1L, Set.of(1L));
+		verify(appointmentSyncService, times(1)).recordDeleted(1L, Set.of(1L));
+		verify(appointmentRollupService, times(1)).subtractAppointments(1L, Set.of(1L));
+		verify(appointmentRepository, times(1)).deleteByFirmIdAndIdIn(1L, Set.of(1L));
+		verify(appointmentOverlapService, times(1)).indexDeleted(Set.of(1L));
+		verify(busySlotService, times(1)).evictDeleted(Set.of(1L));
+		verify(appointmentReminderService, times(1)).cancelDeleted(Set.of(1L));
+		verify(appointmentEventService, times(1)).publish(1L, AppointmentEventDTO.Type.DELETED, Set.of(1L));
+		verify(searchResultCacheService, times(1)).invalidate(1L, Entity.APPOINTMENT);
+	}
+
+	/**
+	 * Tests that empty and oversized batches are rejected before anything is read.
+	 */
+	@Test
+	void batchSizeTest() {
+		assertThatThrownBy(() -> appointmentBatchService.deleteAppointments(List.of()))
+			.isInstanceOf(InvalidStateException.class);
+		assertThatThrownBy(() -> appointmentBatchService.deleteAppointments(Collections.nCopies(8, 1L)))
+			.isInstanceOf(InvalidStateException.class);
+
+		verifyNoInteractions(appointmentRepository);
+	}
+}
@@ -0,0 +1,129 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.dto.response.AppointmentEventDTO;
+import com.sinergy.chronosync.model.Firm;
+import com.sinergy.chronosync.service.impl.AppointmentEventServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link AppointmentEventServiceImpl}.
+ *
+ * <p>The sender threads are replaced with a mock, so each test decides when the
+ * queued events of a client are written.</p>
+ */
+class AppointmentEventServiceTest {
+
+	@Mock
+	private SecurityContextService securityContextService;
+	@Mock
+	private ExecutorService senders;
+
+	private AppointmentEventServiceImpl appointmentEventService;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		appointmentEventService = new AppointmentEventServiceImpl(
+			securityContextService,
+			Duration.ofMinutes(30),
+			Duration.ofHours(1),
+			2
+		);
+		ReflectionTestUtils.setField(appointmentEventService, "senders", senders);
+
+		Firm firm = new Firm();
+		firm.setId(1L);
+		when(securityContextService.getAuthUserFirm()).thenReturn(firm);
+	}
+
+	@AfterEach
+	void tearDown() {
+		appointmentEventService.shutdown();
+	}
+
+	/**
+	 * Tests that a stream is opened with the configured timeout, and that a change of the
+	 * subscribed firm is written once the previous events were.
+	 */
+	@Test
+	void publishTest() {
+		SseEmitter emitter = appointmentEventService.subscribe();
+		assertThat(emitter.getTimeout()).isEqualTo(Duration.ofMinutes(30).toMillis());
+		runSenders(1);
+
+		appointmentEventService.publish(1L, AppointmentEventDTO.Type.CREATED, List.of(5L));
+
+		verify(senders, times(2)).execute(any(Runnable.class));
+	}
+
+	/**
+	 * Tests that changes of other firms and changes without appointments are not sent.
+	 */
+	@Test
+	void publishOtherFirmTest() {
+		appointmentEventService.subscribe();
+		runSenders(1);
+
+		appointmentEventService.publish(2L, AppointmentEventDTO.Type.UPDATED, List.of(5L));
+		appointmentEventService.publish(1L, AppointmentEventDTO.Type.DELETED, List.of());
+
+		verify(senders, times(1)).execute(any(Runnable.class));
+	}
+
+	/**
+	 * Tests that a client whose queue is full is disconnected and receives nothing more.
+	 */
+	@Test
+	void slowConsumerTest() {
+		appointmentEventService.subscribe();
+
+		appointmentEventService.publish(1L, AppointmentEventDTO.Type.CREATED, List.of(5L));
+		verify(senders, times(1)).execute(any(Runnable.class));
+
+		appointmentEventService.publish(1L, AppointmentEventDTO.Type.CREATED, List.of(6L));
+		verify(senders, times(2)).execute(any(Runnable.class));
+
+		appointmentEventService.publish(1L, AppointmentEventDTO.Type.CREATED, List.of(7L));
+		ReflectionTestUtils.invokeMethod(appointmentEventService, "sendHeartbeats");
+		verify(senders, times(2)).execute(any(Runnable.class));
+	}
+
+	/**
+	 * Tests that a heartbeat is queued for every connected client.
+	 */
+	@Test
+	void heartbeatTest() {
+		appointmentEventService.subscribe();
+		runSenders(1);
+
+		ReflectionTestUtils.invokeMethod(appointmentEventService, "sendHeartbeats");
+
+		verify(senders, times(2)).execute(any(Runnable.class));
+	}
+
+	/**
+	 * Runs the sender tasks submitted so far.
+	 *
+	 * @param count number of submitted tasks
+	 */
+	private void runSenders(int count) {
+		ArgumentCaptor<Runnable> tasks = ArgumentCaptor.forClass(Runnable.class);
+		verify(senders, times(count)).execute(tasks.capture());
+		tasks.getAllValues().forEach(Runnable::run);
+	}
+}
@@ -0,0 +1,185 @@
+package com.sinergy.chronosync.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sinergy.chronosync.dto.request.AppointmentExportRequestDTO;
+import com.sinergy.chronosync.dto.request.ExportFormat;
+import com.sinergy.chronosync.dto.response.AppointmentSearchResponseDTO;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.model.Appointment;
+import com.sinergy.chronosync.model.Firm;
+import com.sinergy.chronosync.model.user.User;
+import com.sinergy.chronosync.model.user.UserRole;
+import com.sinergy.chronosync.repository.AppointmentRepository;
+import com.sinergy.chronosync.service.impl.AppointmentExportServiceImpl;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link AppointmentExportServiceImpl}.
+ */
+class AppointmentExportServiceTest {
+
+	@Mock
+	private AppointmentRepository appointmentRepository;
+	@Mock
+	private SecurityContextService securityContextService;
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private AppointmentExportServiceImpl appointmentExportService;
+
+	private User authUser;
+
+	private final AppointmentSearchResponseDTO row = new AppointmentSearchResponseDTO(
+		1L,
+		7L,
+		"Note, \"quoted\"",
+		LocalDateTime.parse("2025-02-02T12:45"),
+		LocalDateTime.parse("2025-02-02T13:45"),
+		true,
+		false,
+		2L, "Emp", "Loyee",
+		3L, "Cli", "Ent",
+		4L, "Type", "#fff"
+	);
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+
+		ObjectMapper objectMapper = new ObjectMapper()
+			.registerModule(new JavaTimeModule())
+			.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+		appointmentExportService = new AppointmentExportServiceImpl(
+			appointmentRepository,
+			securityContextService,
+			transactionManager,
+			objectMapper
+		);
+
+		authUser = new User();
+		authUser.setId(2L);
+		authUser.setRole(UserRole.MANAGER);
+		when(securityContextService.getAuthUser()).thenReturn(authUser);
+		Firm firm = new Firm();
+		firm.setId(1L);
+		when(securityContextService.getAuthUserFirm()).thenReturn(firm);
+		when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+	}
+
+	/**
+	 * Tests that an empty or inverted range is rejected before anything is read.
+	 */
+	@Test
+	void exportAppointmentsInvalidRangeTest() {
+		AppointmentExportRequestDTO request = AppointmentExportRequestDTO.builder()
+			.from(LocalDateTime.parse("2025-02-03T00:00"))
+			.to(LocalDateTime.parse("2025-02-02T00:00"))
+			.build();
+
+		assertThatThrownBy(() -> appointmentExportService.exportAppointments(request))
+			.isInstanceOf(InvalidStateException.class);
+
+		verifyNoInteractions(appointmentRepository, transactionManager);
+	}
+
+	/**
+	 * Tests that rows are written as one JSON object per line inside a committed
+	 * transaction and that the row stream is closed afterwards.
+	 */
+	@Test
+	void exportAppointmentsNdjsonTest() throws Exception {
+		AtomicBoolean closed = new AtomicBoolean();
+		when(appointmentRepository.streamAllProjected(any(), eq(AppointmentSearchResponseDTO.PROJECTION), any(Sort.class), anyInt()))
+			.thenReturn(Stream.of(row, row).onClose(() -> closed.set(true)));
+
+		String output = export(ExportFormat.NDJSON);
+
+		String[] lines = output.split("\n");
+		assertThat(lines).hasSize(2);
+		assertThat(lines[0]).startsWith("{\"id\":1,").contains("\"startDateTime\":\"2025-02-02T12:45:00\"");
+		assertThat(closed).isTrue();
+		verify(transactionManager, times(1)).commit(any());
+	}
+
+	/**
+	 * Tests that rows are written as CSV with a header line and quoted fields.
+	 */
+	@Test
+	void exportAppointmentsCsvTest() throws Exception {
+		when(appointmentRepository.streamAllProjected(any(), eq(AppointmentSearchResponseDTO.PROJECTION), any(Sort.class), anyInt()))
+			.thenReturn(Stream.of(row));
+
+		String output = export(ExportFormat.CSV);
+
+		String[] lines = output.split("\r\n");
+		assertThat(lines).hasSize(2);
+		assertThat(lines[0]).startsWith("id,version,note,startDateTime,endDateTime,");
+		assertThat(lines[1]).isEqualTo("1,7,\"Note, \"\"quoted\"\"\",2025-02-02T12:45,2025-02-02T13:45,true,false,2,Emp,Loyee,3,Cli,Ent,4,Type,#fff");
+	}
+
+	/**
+	 * Tests that an employee only exports the appointments assigned to them, while a
+	 * manager exports those of the whole firm.
+	 */
+	@Test
+	@SuppressWarnings("unchecked")
+	void exportAppointmentsEmployeeTest() throws Exception {
+		ArgumentCaptor<Specification<Appointment>> specification = ArgumentCaptor.forClass(Specification.class);
+		when(appointmentRepository.streamAllProjected(specification.capture(), eq(AppointmentSearchResponseDTO.PROJECTION), any(Sort.class), anyInt()))
+			.thenAnswer(invocation -> Stream.empty());
+		Root<Appointment> root = mock(Root.class);
+		Path<Object> employeePath = mock(Path.class);
+		when(root.get("employee")).thenReturn(employeePath);
+		CriteriaBuilder criteriaBuilder = mock(CriteriaBuilder.class);
+
+		export(ExportFormat.NDJSON);
+		specification.getValue().toPredicate(root, mock(CriteriaQuery.class), criteriaBuilder);
+		verify(criteriaBuilder, never()).equal(eq(employeePath), any(Object.class));
+
+		authUser.setRole(UserRole.EMPLOYEE);
+		export(ExportFormat.NDJSON);
+		specification.getValue().toPredicate(root, mock(CriteriaQuery.class), criteriaBuilder);
+		verify(criteriaBuilder).equal(employeePath, authUser);
+	}
+
+	private String export(ExportFormat format) throws Exception {
+		AppointmentExportRequestDTO request = AppointmentExportRequestDTO.builder()
+			.from(LocalDateTime.parse("2025-02-01T00:00"))
+			.to(LocalDateTime.parse("2025-03-01T00:00"))
+			.format(format)
+			.build();
+
+		StreamingResponseBody body = appointmentExportService.exportAppointments(request);
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		body.writeTo(outputStream);
+
+		return outputStream.toString(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,239 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.exception.ConflictException;
+import com.sinergy.chronosync.repository.AppointmentRepository;
+import com.sinergy.chronosync.repository.AppointmentRepository.EmployeeRange;
+import com.sinergy.chronosync.repository.UserRepository;
+import com.sinergy.chronosync.service.OccurrenceService.Occurrence;
+import com.sinergy.chronosync.service.impl.AppointmentOverlapServiceImpl;
+import com.sinergy.chronosync.util.IntervalTree;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link AppointmentOverlapServiceImpl}.
+ */
+class AppointmentOverlapServiceTest {
+
+	@Mock
+	private AppointmentRepository appointmentRepository;
+	@Mock
+	private UserRepository userRepository;
+	@Mock
+	private OccurrenceService occurrenceService;
+
+	@InjectMocks
+	private AppointmentOverlapServiceImpl appointmentOverlapService;
+
+	private LocalDateTime tomorrow;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		ReflectionTestUtils.setField(appointmentOverlapService, "horizonDays", 30);
+		tomorrow = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	/**
+	 * Tests that, with the index disabled, every check is a database query made after
+	 * locking the employee.
+	 */
+	@Test
+	void checkAvailableQueryTest() {
+		when(appointmentRepository.existsOverlapping(5L, tomorrow, tomorrow.plusHours(1), 9L)).thenReturn(true);
+
+		assertThatThrownBy(() -> appointmentOverlapService.checkAvailable(5L, tomorrow, tomorrow.plusHours(1), 9L))
+			.isInstanceOf(ConflictException.class);
+		assertThatCode(() -> appointmentOverlapService.checkAvailable(5L, tomorrow.plusHours(1), tomorrow.plusHours(2), 9L))
+			.doesNotThrowAnyException();
+		assertThatCode(() -> appointmentOverlapService.checkAvailable(null, tomorrow, tomorrow.plusHours(1), null))
+			.doesNotThrowAnyException();
+
+		verify(appointmentRepository, times(2)).existsOverlapping(any(), any(), any(), any());
+		verify(appointmentRepository, never()).findEmployeeRanges(anyCollection(), any(), any());
+		InOrder order = inOrder(userRepository, appointmentRepository);
+		order.verify(userRepository).lockByIdIn(List.of(5L));
+		order.verify(appointmentRepository).existsOverlapping(5L, tomorrow, tomorrow.plusHours(1), 9L);
+		verify(userRepository, times(2)).lockByIdIn(anyCollection());
+	}
+
+	/**
+	 * Tests that, with the index enabled, an employee's schedule is loaded once and
+	 * later checks within the horizon are answered from memory, including writes
+	 * applied after loading.
+	 */
+	@Test
+	void checkAvailableIndexedTest() {
+		ReflectionTestUtils.setField(appointmentOverlapService, "indexEnabled", true);
+		List<EmployeeRange> ranges = List.of(range(1L, 5L, tomorrow, tomorrow.plusHours(1)));
+		when(appointmentRepository.findEmployeeRanges(eq(List.of(5L)), any(), any())).thenReturn(ranges);
+
+		assertThatThrownBy(() -> appointmentOverlapService.checkAvailable(5L, tomorrow, tomorrow.plusHours(1), null))
+			.isInstanceOf(ConflictException.class);
+		appointmentOverlapService.checkAvailable(5L, tomorrow, tomorrow.plusHours(1), 1L);
+
+		appointmentOverlapService.indexSaved(2L, 5L, tomorrow.plusHours(2), tomorrow.plusHours(3));
+		assertThatThrownBy(() -> appointmentOverlapService.checkAvailable(5L, tomorrow.plusHours(2), tomorrow.plusHours(4), null))
+			.isInstanceOf(ConflictException.class);
+
+		appointmentOverlapService.indexDeleted(List.of(1L, 2L));
+		appointmentOverlapService.checkAvailable(5L, tomorrow, tomorrow.plusHours(4), null);
+
+		verify(appointmentRepository, times(1)).findEmployeeRanges(anyCollection(), any(), any());
+		verify(appointmentRepository, never()).existsOverlapping(any(), any(), any(), any());
+	}
+
+	/**
+	 * Tests that, within a transaction, a saved appointment is applied to the index just
+	 * before the commit, and that the employee's schedule is reloaded if the transaction
+	 * then rolls back.
+	 */
+	@Test
+	void indexSavedRollbackTest() {
+		ReflectionTestUtils.setField(appointmentOverlapService, "indexEnabled", true);
+		when(appointmentRepository.findEmployeeRanges(eq(List.of(5L)), any(), any())).thenReturn(List.of());
+		appointmentOverlapService.checkAvailable(5L, tomorrow, tomorrow.plusHours(1), null);
+
+		TransactionSynchronizationManager.initSynchronization();
+		appointmentOverlapService.indexSaved(1L, 5L, tomorrow, tomorrow.plusHours(1));
+		appointmentOverlapService.checkAvailable(5L, tomorrow, tomorrow.plusHours(1), null);
+
+		TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.beforeCommit(false));
+		assertThatThrownBy(() -> appointmentOverlapService.checkAvailable(5L, tomorrow, tomorrow.plusHours(1), null))
+			.isInstanceOf(ConflictException.class);
+
+		TransactionSynchronizationManager.getSynchronizations()
+			.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+		appointmentOverlapService.checkAvailable(5L, tomorrow, tomorrow.plusHours(1), null);
+
+		verify(appointmentRepository, times(2)).findEmployeeRanges(anyCollection(), any(), any());
+	}
+
+	/**
+	 * Tests that a schedule is loaded outside of the map's locks: checks of other employees
+	 * proceed while it loads, and an appointment deleted meanwhile is removed from it once
+	 * loading finishes.
+	 */
+	@Test
+	void checkAvailableConcurrentLoadTest() throws Exception {
+		ReflectionTestUtils.setField(appointmentOverlapService, "indexEnabled", true);
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		List<EmployeeRange> ranges = List.of(range(1L, 5L, tomorrow, tomorrow.plusHours(1)));
+		when(appointmentRepository.findEmployeeRanges(eq(List.of(5L)), any(), any())).thenAnswer(invocation -> {
+			loading.countDown();
+			release.await();
+			return ranges;
+		});
+		when(appointmentRepository.findEmployeeRanges(eq(List.of(6L)), any(), any())).thenReturn(List.of());
+
+		CompletableFuture<Void> check = CompletableFuture.runAsync(
+			() -> appointmentOverlapService.checkAvailable(5L, tomorrow.plusHours(2), tomorrow.plusHours(3), null)
+		);
+		assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+		appointmentOverlapService.checkAvailable(6L, tomorrow, tomorrow.plusHours(1), null);
+		appointmentOverlapService.indexDeleted(List.of(1L));
+		release.countDown();
+		check.get(5, TimeUnit.SECONDS);
+
+		appointmentOverlapService.checkAvailable(5L, tomorrow, tomorrow.plusHours(1), null);
+		verify(appointmentRepository, times(1)).findEmployeeRanges(eq(List.of(5L)), any(), any());
+	}
+
+	/**
+	 * Tests that checks outside the scheduling horizon fall back to the database.
+	 */
+	@Test
+	void checkAvailableOutsideHorizonTest() {
+		ReflectionTestUtils.setField(appointmentOverlapService, "indexEnabled", true);
+		LocalDateTime later = tomorrow.plusDays(60);
+
+		appointmentOverlapService.checkAvailable(5L, later, later.plusHours(1), null);
+
+		verify(appointmentRepository, times(1)).existsOverlapping(5L, later, later.plusHours(1), null);
+		verify(appointmentRepository, never()).findEmployeeRanges(anyCollection(), any(), any());
+	}
+
+	/**
+	 * Tests that an occurrence of an appointment series conflicts like a stored appointment.
+	 */
+	@Test
+	void checkAvailableOccurrenceTest() {
+		when(occurrenceService.overlapsOccurrence(5L, tomorrow, tomorrow.plusHours(1))).thenReturn(true);
+
+		assertThatThrownBy(() -> appointmentOverlapService.checkAvailable(5L, tomorrow, tomorrow.plusHours(1), null))
+			.isInstanceOf(ConflictException.class);
+		assertThatCode(() -> appointmentOverlapService.checkAvailable(5L, tomorrow.plusHours(1), tomorrow.plusHours(2), null))
+			.doesNotThrowAnyException();
+	}
+
+	/**
+	 * Tests that schedules for a batch are loaded with one query and grouped by employee,
+	 * including series occurrences under keys that never match an appointment, after
+	 * locking all of the employees.
+	 */
+	@Test
+	void loadSchedulesTest() {
+		List<EmployeeRange> ranges = List.of(
+			range(1L, 5L, tomorrow, tomorrow.plusHours(1)),
+			range(2L, 6L, tomorrow, tomorrow.plusHours(1))
+		);
+		when(appointmentRepository.findEmployeeRanges(Set.of(5L, 6L), tomorrow, tomorrow.plusDays(1))).thenReturn(ranges);
+		when(occurrenceService.findOccurrences(Set.of(5L, 6L), tomorrow, tomorrow.plusDays(1))).thenReturn(List.of(
+			new Occurrence(3L, 6L, tomorrow.plusHours(2), tomorrow.plusHours(3))
+		));
+
+		Map<Long, IntervalTree<LocalDateTime>> schedules =
+			appointmentOverlapService.loadSchedules(Set.of(5L, 6L), tomorrow, tomorrow.plusDays(1));
+
+		assertThat(schedules).containsOnlyKeys(5L, 6L);
+		assertThat(schedules.get(5L).keys()).containsExactly(1L);
+		assertThat(schedules.get(6L).keys()).containsExactlyInAnyOrder(2L, Long.MIN_VALUE);
+		assertThat(schedules.get(6L).overlaps(tomorrow.plusHours(2), tomorrow.plusHours(3), null)).isTrue();
+		InOrder order = inOrder(userRepository, appointmentRepository);
+		order.verify(userRepository).lockByIdIn(Set.of(5L, 6L));
+		order.verify(appointmentRepository).findEmployeeRanges(Set.of(5L, 6L), tomorrow, tomorrow.plusDays(1));
+	}
+
+	private static EmployeeRange range(Long id, Long employeeId, LocalDateTime start, LocalDateTime end) {
+		EmployeeRange range = mock(EmployeeRange.class);
+		when(range.getId()).thenReturn(id);
+		when(range.getEmployeeId()).thenReturn(employeeId);
+		when(range.getStartDateTime()).thenReturn(start);
+		when(range.getEndDateTime()).thenReturn(end);
+		return range;
+	}
+}
@@ -0,0 +1,204 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.dto.response.AppointmentReminderDTO;
+import com.sinergy.chronosync.repository.AppointmentRepository;
+import com.sinergy.chronosync.repository.AppointmentRepository.ReminderDetails;
+import com.sinergy.chronosync.repository.AppointmentRepository.StartTime;
+import com.sinergy.chronosync.repository.SentReminderRepository;
+import com.sinergy.chronosync.service.impl.AppointmentReminderServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link AppointmentReminderServiceImpl}.
+ *
+ * <p>The wheel is loaded and advanced by calling the scheduled tasks with chosen times,
+ * and deliveries run on the calling thread.</p>
+ */
+class AppointmentReminderServiceTest {
+
+	@Mock
+	private AppointmentRepository appointmentRepository;
+	@Mock
+	private SentReminderRepository sentReminderRepository;
+	@Mock
+	private ReminderChannel reminderChannel;
+	@Mock
+	private ExecutorService deliveries;
+
+	private AppointmentReminderServiceImpl appointmentReminderService;
+	private LocalDateTime now;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		appointmentReminderService = new AppointmentReminderServiceImpl(
+			appointmentRepository,
+			sentReminderRepository,
+			reminderChannel,
+			List.of(Duration.ofHours(24), Duration.ofHours(1)),
+			Duration.ofHours(6),
+			Duration.ofHours(1),
+			Duration.ofSeconds(1),
+			Duration.ofMinutes(15),
+			Duration.ofMinutes(5),
+			Duration.ofDays(7),
+			true
+		);
+		ReflectionTestUtils.setField(appointmentReminderService, "deliveries", deliveries);
+		doAnswer(invocation -> {
+			invocation.<Runnable>getArgument(0).run();
+			return null;
+		}).when(deliveries).execute(any(Runnable.class));
+
+		now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).plusMinutes(1);
+		when(sentReminderRepository.claim(anyLong(), anyLong(), any(), any())).thenReturn(1);
+	}
+
+	@AfterEach
+	void tearDown() {
+		appointmentReminderService.shutdown();
+	}
+
+	/**
+	 * Tests that a load reads the window once per offset, that the loaded reminders are
+	 * delivered when due, and that a following load reads only what was not loaded yet.
+	 */
+	@Test
+	void refillTest() throws IOException {
+		LocalDateTime dayAhead = now.plusHours(25);
+		LocalDateTime hourAhead = now.plusHours(2);
+		List<StartTime> dayStarts = List.of(startTime(1L, dayAhead));
+		List<StartTime> hourStarts = List.of(startTime(2L, hourAhead));
+		when(appointmentRepository.findStartTimes(now.minusMinutes(15).plusHours(24), now.plusHours(30)))
+			.thenReturn(dayStarts);
+		when(appointmentRepository.findStartTimes(now.minusMinutes(15).plusHours(1), now.plusHours(7)))
+			.thenReturn(hourStarts);
+		details(1L, dayAhead);
+		details(2L, hourAhead);
+
+		refill(now);
+		advance(now.plusMinutes(59));
+		verify(reminderChannel, never()).deliver(any());
+
+		advance(now.plusHours(1));
+
+		ArgumentCaptor<AppointmentReminderDTO> delivered = ArgumentCaptor.forClass(AppointmentReminderDTO.class);
+		verify(reminderChannel, times(2)).deliver(delivered.capture());
+		assertThat(delivered.getAllValues())
+			.extracting(AppointmentReminderDTO::appointmentId, AppointmentReminderDTO::minutesBefore)
+			.containsExactlyInAnyOrder(tuple(1L, 1440L), tuple(2L, 60L));
+		verify(sentReminderRepository).claim(eq(2L), eq(60L), eq(hourAhead), any());
+		verify(sentReminderRepository).deleteBySentAtBefore(now.minusDays(7));
+
+		refill(now.plusMinutes(30));
+		verify(appointmentRepository).findStartTimes(now.plusHours(30), now.plusMinutes(30).plusHours(30));
+	}
+
+	/**
+	 * Tests that reminders of deleted or moved appointments and reminders sent before
+	 * are not delivered.
+	 */
+	@Test
+	void deliverSkipsTest() throws IOException {
+		LocalDateTime start = now.plusHours(2);
+		appointmentReminderService.scheduleSaved(1L, start);
+		appointmentReminderService.scheduleSaved(2L, start);
+		appointmentReminderService.scheduleSaved(3L, start);
+		when(appointmentRepository.findReminderDetails(1L)).thenReturn(Optional.empty());
+		details(2L, start.plusMinutes(30));
+		details(3L, start);
+		when(sentReminderRepository.claim(eq(3L), anyLong(), any(), any())).thenReturn(0);
+
+		advance(now.plusHours(1));
+
+		verify(appointmentRepository, times(3)).findReminderDetails(anyLong());
+		verify(sentReminderRepository, times(1)).claim(anyLong(), anyLong(), any(), any());
+		verify(reminderChannel, never()).deliver(any());
+	}
+
+	/**
+	 * Tests that a failed delivery releases its claim and is delivered again after the
+	 * retry delay.
+	 */
+	@Test
+	void deliverRetryTest() throws IOException {
+		LocalDateTime start = now.plusHours(2);
+		appointmentReminderService.scheduleSaved(1L, start);
+		details(1L, start);
+		doThrow(new IOException("unreachable")).doNothing().when(reminderChannel).deliver(any());
+
+		advance(now.plusHours(1));
+		verify(sentReminderRepository).release(1L, 60L, start);
+
+		advance(now.plusHours(1).plusMinutes(4));
+		verify(reminderChannel, times(1)).deliver(any());
+
+		advance(now.plusHours(1).plusMinutes(6));
+		verify(reminderChannel, times(2)).deliver(any());
+	}
+
+	/**
+	 * Tests that saving an appointment again replaces its reminders, that only reminders
+	 * due within the window are scheduled, and that deleted appointments are not reminded.
+	 */
+	@Test
+	void scheduleSavedTest() throws IOException {
+		appointmentReminderService.scheduleSaved(1L, now.plusHours(2));
+		appointmentReminderService.scheduleSaved(1L, now.plusHours(3));
+		appointmentReminderService.scheduleSaved(2L, now.plusHours(3));
+		appointmentReminderService.scheduleSaved(3L, now.plusHours(8));
+		appointmentReminderService.cancelDeleted(List.of(2L));
+		details(1L, now.plusHours(3));
+
+		advance(now.plusHours(1));
+		verify(appointmentRepository, never()).findReminderDetails(anyLong());
+
+		advance(now.plusHours(2));
+		verify(appointmentRepository, times(1)).findReminderDetails(anyLong());
+		verify(reminderChannel, times(1)).deliver(any());
+	}
+
+	private void refill(LocalDateTime time) {
+		ReflectionTestUtils.invokeMethod(appointmentReminderService, "refill", time);
+	}
+
+	private void advance(LocalDateTime time) {
+		ReflectionTestUtils.invokeMethod(appointmentReminderService, "advance", time);
+	}
+
+	private void details(Long id, LocalDateTime start) {
+		ReminderDetails details = mock(ReminderDetails.class);
+		when(details.getId()).thenReturn(id);
+		when(details.getFirmId()).thenReturn(1L);
+		when(details.getStartDateTime()).thenReturn(start);
+		when(appointmentRepository.findReminderDetails(id)).thenReturn(Optional.of(details));
+	}
+
+	private static StartTime startTime(Long id, LocalDateTime start) {
+		StartTime startTime = mock(StartTime.class);
+		when(startTime.getId()).thenReturn(id);
+		when(startTime.getStartDateTime()).thenReturn(start);
+		return startTime;
+	}
+}
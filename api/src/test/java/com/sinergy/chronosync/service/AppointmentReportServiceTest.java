@@ -0,0 +1,169 @@
+package com.sinergy.chronosync.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sinergy.chronosync.dto.request.AppointmentReportRequestDTO;
+import com.sinergy.chronosync.dto.request.ReportDimension;
+import com.sinergy.chronosync.dto.request.ReportPeriod;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.model.Firm;
+import com.sinergy.chronosync.model.appointmentType.Currency;
+import com.sinergy.chronosync.repository.AppointmentRepository;
+import com.sinergy.chronosync.service.impl.AppointmentReportServiceImpl;
+import com.sinergy.chronosync.util.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link AppointmentReportServiceImpl}.
+ */
+class AppointmentReportServiceTest {
+
+	@Mock
+	private AppointmentRepository appointmentRepository;
+	@Mock
+	private SecurityContextService securityContextService;
+	@Mock
+	private ExchangeRateService exchangeRateService;
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private AppointmentReportServiceImpl appointmentReportService;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+
+		ObjectMapper objectMapper = new ObjectMapper()
+			.registerModule(new JavaTimeModule())
+			.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+		appointmentReportService = new AppointmentReportServiceImpl(
+			appointmentRepository,
+			securityContextService,
+			exchangeRateService,
+			transactionManager,
+			objectMapper
+		);
+		ReflectionTestUtils.setField(appointmentReportService, "fetchSize", 100);
+
+		Firm firm = new Firm();
+		firm.setId(1L);
+		when(securityContextService.getAuthUserFirm()).thenReturn(firm);
+		when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+	}
+
+	/**
+	 * Tests that an empty or inverted range is rejected before anything is read.
+	 */
+	@Test
+	void reportAppointmentsInvalidRangeTest() {
+		AppointmentReportRequestDTO request = AppointmentReportRequestDTO.builder()
+			.from(LocalDateTime.parse("2025-02-01T00:00"))
+			.to(LocalDateTime.parse("2025-02-01T00:00"))
+			.build();
+
+		assertThatThrownBy(() -> appointmentReportService.reportAppointments(request))
+			.isInstanceOf(InvalidStateException.class);
+
+		verifyNoInteractions(appointmentRepository, transactionManager);
+	}
+
+	/**
+	 * Tests that the column names are written once, followed by every row as an array,
+	 * that repeated dimensions are grouped by once and that the row stream is closed.
+	 */
+	@Test
+	void reportAppointmentsTest() throws Exception {
+		AtomicBoolean closed = new AtomicBoolean();
+		List<ReportDimension> groupBy = List.of(ReportDimension.PERIOD, ReportDimension.APPOINTMENT_TYPE);
+		when(appointmentRepository.streamReport(eq(1L), any(), any(), eq(groupBy), eq(ReportPeriod.DAY), anyInt()))
+			.thenReturn(Stream.<Object[]>of(
+				new Object[]{LocalDate.parse("2025-02-03"), 4L, Currency.EUR, 2L, 1L, 2L, 0.5, 1.0, eur(9000L), eur(9000L), 75L},
+				new Object[]{LocalDate.parse("2025-02-04"), null, null, 1L, 0L, 0L, 0.0, 0.0, null, null, 30L}
+			).onClose(() -> closed.set(true)));
+
+		AppointmentReportRequestDTO request = AppointmentReportRequestDTO.builder()
+			.from(LocalDateTime.parse("2025-02-01T00:00"))
+			.to(LocalDateTime.parse("2025-03-01T00:00"))
+			.groupBy(List.of(ReportDimension.PERIOD, ReportDimension.APPOINTMENT_TYPE, ReportDimension.PERIOD))
+			.period(ReportPeriod.DAY)
+			.build();
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		appointmentReportService.reportAppointments(request).writeTo(outputStream);
+
+		assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo(
+			"{\"prices\":\"written\",\"columns\":[\"period\",\"appointmentTypeId\",\"currency\",\"appointments\",\"attended\",\"paid\","
+				+ "\"attendedRatio\",\"paidRatio\",\"revenue\",\"paidRevenue\",\"minutes\"],"
+				+ "\"rows\":[[\"2025-02-03\",4,\"EUR\",2,1,2,0.5,1.0,90.00,90.00,75],"
+				+ "[\"2025-02-04\",null,null,1,0,0,0.0,0.0,null,null,30]]}"
+		);
+		assertThat(closed).isTrue();
+		verify(appointmentRepository).streamReport(
+			1L, LocalDateTime.parse("2025-02-01T00:00"), LocalDateTime.parse("2025-03-01T00:00"), groupBy, ReportPeriod.DAY, 100
+		);
+		verify(transactionManager, times(1)).commit(any());
+		verifyNoInteractions(exchangeRateService);
+	}
+
+	/**
+	 * Tests that revenue is converted into the requested currency, that rows differing
+	 * only in currency are merged with their counts added up and ratios computed again, and
+	 * that a range not at midnight is reported with the written prices, like the rollups.
+	 */
+	@Test
+	void reportAppointmentsConvertedTest() throws Exception {
+		List<ReportDimension> groupBy = List.of(ReportDimension.PERIOD);
+		when(exchangeRateService.getRatesInto(1L, Currency.EUR))
+			.thenReturn(Map.of(Currency.EUR, BigDecimal.ONE, Currency.CHF, new BigDecimal("1.05")));
+		when(appointmentRepository.streamReport(eq(1L), any(), any(), eq(groupBy), eq(ReportPeriod.DAY), anyInt()))
+			.thenReturn(Stream.<Object[]>of(
+				new Object[]{LocalDate.parse("2025-02-03"), Currency.CHF, 2L, 1L, 2L, 0.5, 1.0,
+					new Money(10000L, Currency.CHF), new Money(10000L, Currency.CHF), 60L},
+				new Object[]{LocalDate.parse("2025-02-03"), Currency.EUR, 1L, 1L, 0L, 1.0, 0.0, eur(5000L), eur(0L), 30L},
+				new Object[]{LocalDate.parse("2025-02-03"), null, 1L, 0L, 0L, 0.0, 0.0, null, null, 15L},
+				new Object[]{LocalDate.parse("2025-02-04"), Currency.EUR, 1L, 0L, 1L, 0.0, 1.0, eur(1999L), eur(1999L), 45L}
+			));
+
+		AppointmentReportRequestDTO request = AppointmentReportRequestDTO.builder()
+			.from(LocalDateTime.parse("2025-02-01T08:00"))
+			.to(LocalDateTime.parse("2025-03-01T18:00"))
+			.groupBy(groupBy)
+			.period(ReportPeriod.DAY)
+			.currency(Currency.EUR)
+			.build();
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		appointmentReportService.reportAppointments(request).writeTo(outputStream);
+
+		assertThat(outputStream.toString(StandardCharsets.UTF_8)).startsWith("{\"prices\":\"written\",").endsWith(
+			"\"rows\":[[\"2025-02-03\",\"EUR\",4,2,2,0.5,0.5,155.00,105.00,105],"
+				+ "[\"2025-02-04\",\"EUR\",1,0,1,0.0,1.0,19.99,19.99,45]]}"
+		);
+	}
+
+	private static Money eur(long minorUnits) {
+		return new Money(minorUnits, Currency.EUR);
+	}
+}
@@ -0,0 +1,150 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.repository.AppointmentDailyRollupRepository;
+import com.sinergy.chronosync.repository.AppointmentDailyRollupRepository.Delta;
+import com.sinergy.chronosync.repository.FirmRepository;
+import com.sinergy.chronosync.service.impl.AppointmentRollupServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link AppointmentRollupServiceImpl}.
+ */
+class AppointmentRollupServiceTest {
+
+	private static final LocalDate DAY = LocalDate.parse("2025-02-03");
+
+	@Mock
+	private AppointmentDailyRollupRepository appointmentDailyRollupRepository;
+	@Mock
+	private FirmRepository firmRepository;
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private AppointmentRollupServiceImpl appointmentRollupService;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		appointmentRollupService = new AppointmentRollupServiceImpl(
+			appointmentDailyRollupRepository,
+			firmRepository,
+			transactionManager,
+			Duration.ofHours(24),
+			Duration.ofDays(30),
+			2
+		);
+	}
+
+	@AfterEach
+	void tearDown() {
+		appointmentRollupService.shutdown();
+	}
+
+	/**
+	 * Tests that the sums of the appointments are added to existing rollups, and that a
+	 * missing rollup is created instead.
+	 */
+	@Test
+	void addAppointmentsTest() {
+		List<Delta> deltas = List.of(delta(5L, 1L), delta(6L, 0L));
+		when(appointmentDailyRollupRepository.sumAppointments(1L, List.of(10L, 11L))).thenReturn(deltas);
+		when(appointmentDailyRollupRepository.add(1L, DAY, 5L, 1L, "EUR", 2L, 90L, 10000L, 5000L, 1L, 1L)).thenReturn(1);
+		when(appointmentDailyRollupRepository.create(any(), any(), any(), any(), any(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong()))
+			.thenReturn(1);
+
+		appointmentRollupService.addAppointments(1L, List.of(10L, 11L));
+
+		verify(appointmentDailyRollupRepository).add(1L, DAY, 5L, 1L, "EUR", 2L, 90L, 10000L, 5000L, 1L, 1L);
+		verify(appointmentDailyRollupRepository).add(1L, DAY, 6L, 0L, "", 2L, 90L, 10000L, 5000L, 1L, 1L);
+		verify(appointmentDailyRollupRepository, times(1)).create(1L, DAY, 6L, 0L, "", 2L, 90L, 10000L, 5000L, 1L, 1L);
+	}
+
+	/**
+	 * Tests that subtracted sums are negated, and that a rollup created concurrently is
+	 * updated again instead.
+	 */
+	@Test
+	void subtractAppointmentsTest() {
+		List<Delta> deltas = List.of(delta(5L, 1L));
+		when(appointmentDailyRollupRepository.sumAppointments(1L, Set.of(10L))).thenReturn(deltas);
+		when(appointmentDailyRollupRepository.add(1L, DAY, 5L, 1L, "EUR", -2L, -90L, -10000L, -5000L, -1L, -1L))
+			.thenReturn(0, 1);
+		when(appointmentDailyRollupRepository.create(any(), any(), any(), any(), any(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong()))
+			.thenReturn(0);
+
+		appointmentRollupService.subtractAppointments(1L, Set.of(10L));
+
+		verify(appointmentDailyRollupRepository, times(2)).add(1L, DAY, 5L, 1L, "EUR", -2L, -90L, -10000L, -5000L, -1L, -1L);
+		verify(appointmentDailyRollupRepository, times(1)).create(1L, DAY, 5L, 1L, "EUR", -2L, -90L, -10000L, -5000L, -1L, -1L);
+	}
+
+	/**
+	 * Tests that nothing is read for an empty list of appointments.
+	 */
+	@Test
+	void addNoAppointmentsTest() {
+		appointmentRollupService.addAppointments(1L, List.of());
+
+		verifyNoInteractions(appointmentDailyRollupRepository);
+	}
+
+	/**
+	 * Tests that a reconciliation rebuilds the rollups of every firm within the window after
+	 * deleting them, retries a firm whose rebuild collided with a concurrent change and gives up on a
+	 * firm after the configured attempts.
+	 */
+	@Test
+	void reconcileAllTest() {
+		LocalDate from = LocalDate.now().minusDays(30);
+		when(firmRepository.findAllIds()).thenReturn(List.of(1L, 2L, 3L));
+		when(appointmentDailyRollupRepository.rebuild(1L, from.atStartOfDay())).thenReturn(4);
+		when(appointmentDailyRollupRepository.rebuild(2L, from.atStartOfDay()))
+			.thenThrow(new DataIntegrityViolationException("duplicate rollup"))
+			.thenReturn(2);
+		when(appointmentDailyRollupRepository.rebuild(3L, from.atStartOfDay()))
+			.thenThrow(new CannotAcquireLockException("locked"));
+
+		ReflectionTestUtils.invokeMethod(appointmentRollupService, "reconcileAll");
+
+		InOrder inOrder = inOrder(appointmentDailyRollupRepository);
+		inOrder.verify(appointmentDailyRollupRepository).deleteByFirmIdAndRollupDateGreaterThanEqual(1L, from);
+		inOrder.verify(appointmentDailyRollupRepository).rebuild(1L, from.atStartOfDay());
+		verify(appointmentDailyRollupRepository, times(2)).rebuild(2L, from.atStartOfDay());
+		verify(appointmentDailyRollupRepository, times(2)).rebuild(3L, from.atStartOfDay());
+		verify(transactionManager, times(5)).getTransaction(any());
+		verify(transactionManager, times(3)).rollback(any());
+	}
+
+	private static Delta delta(Long employeeId, Long appointmentTypeId) {
+		Delta delta = mock(Delta.class);
+		when(delta.getRollupDate()).thenReturn(DAY);
+		when(delta.getEmployeeId()).thenReturn(employeeId);
+		when(delta.getAppointmentTypeId()).thenReturn(appointmentTypeId);
+		when(delta.getCurrency()).thenReturn(appointmentTypeId != 0 ? "EUR" : "");
+		when(delta.getBookings()).thenReturn(2L);
+		when(delta.getMinutes()).thenReturn(90L);
+		when(delta.getRevenueMinorUnits()).thenReturn(10000L);
+		when(delta.getPaidRevenueMinorUnits()).thenReturn(5000L);
+		when(delta.getAttended()).thenReturn(1L);
+		when(delta.getPaid()).thenReturn(1L);
+		return delta;
+	}
+}
@@ -0,0 +1,377 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.dto.request.AppointmentSeriesRequestDTO;
+import com.sinergy.chronosync.dto.request.CalendarRequestDTO;
+import com.sinergy.chronosync.dto.request.SeriesOccurrenceRequestDTO;
+import com.sinergy.chronosync.dto.response.AppointmentEventDTO;
+import com.sinergy.chronosync.dto.response.CalendarEntryDTO;
+import com.sinergy.chronosync.exception.ConflictException;
+import com.sinergy.chronosync.exception.EntityNotFoundException;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.model.Appointment;
+import com.sinergy.chronosync.model.Client;
+import com.sinergy.chronosync.model.Firm;
+import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import com.sinergy.chronosync.model.series.AppointmentSeries;
+import com.sinergy.chronosync.model.series.CancelledOccurrence;
+import com.sinergy.chronosync.model.user.User;
+import com.sinergy.chronosync.model.user.UserRole;
+import com.sinergy.chronosync.repository.AppointmentRepository;
+import com.sinergy.chronosync.repository.AppointmentSeriesRepository;
+import com.sinergy.chronosync.repository.AppointmentTypeRepository;
+import com.sinergy.chronosync.repository.CancelledOccurrenceRepository;
+import com.sinergy.chronosync.repository.ClientRepository;
+import com.sinergy.chronosync.repository.UserRepository;
+import com.sinergy.chronosync.service.OccurrenceService.Occurrence;
+import com.sinergy.chronosync.service.SearchResultCacheService.Entity;
+import com.sinergy.chronosync.service.impl.AppointmentSeriesServiceImpl;
+import com.sinergy.chronosync.util.IntervalTree;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link AppointmentSeriesServiceImpl}.
+ */
+class AppointmentSeriesServiceTest {
+
+	private static final LocalDateTime MONDAY = LocalDateTime.parse("2025-01-06T10:00:00");
+
+	@Mock
+	private AppointmentSeriesRepository appointmentSeriesRepository;
+	@Mock
+	private CancelledOccurrenceRepository cancelledOccurrenceRepository;
+	@Mock
+	private AppointmentRepository appointmentRepository;
+	@Mock
+	private UserRepository userRepository;
+	@Mock
+	private ClientRepository clientRepository;
+	@Mock
+	private AppointmentTypeRepository appointmentTypeRepository;
+	@Mock
+	private SecurityContextService securityContextService;
+	@Mock
+	private OccurrenceService occurrenceService;
+	@Mock
+	private AppointmentOverlapService appointmentOverlapService;
+	@Mock
+	private AppointmentEventService appointmentEventService;
+	@Mock
+	private BusySlotService busySlotService;
+	@Mock
+	private AppointmentReminderService appointmentReminderService;
+	@Mock
+	private AppointmentRollupService appointmentRollupService;
+	@Mock
+	private SearchResultCacheService searchResultCacheService;
+
+	@InjectMocks
+	private AppointmentSeriesServiceImpl appointmentSeriesService;
+
+	private Firm firm;
+	private User employee;
+	private AppointmentSeries series;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		ReflectionTestUtils.setField(appointmentSeriesService, "checkDays", 30);
+		ReflectionTestUtils.setField(appointmentSeriesService, "maxCalendarDays", 31);
+		ReflectionTestUtils.setField(appointmentSeriesService, "fetchSize", 100);
+
+		firm = new Firm();
+		firm.setId(1L);
+		employee = new User();
+		employee.setId(5L);
+		employee.setRole(UserRole.MANAGER);
+		when(securityContextService.getAuthUserFirm()).thenReturn(firm);
+		when(securityContextService.getAuthUser()).thenReturn(employee);
+		when(userRepository.findIdsByFirmIdAndIdIn(1L, List.of(5L))).thenReturn(List.of(5L));
+
+		series = AppointmentSeries.builder()
+			.id(3L)
+			.note("Weekly")
+			.startDateTime(MONDAY)
+			.endDateTime(MONDAY.plusMinutes(45))
+			.recurrenceRule("FREQ=WEEKLY;BYDAY=MO,WE")
+			.employee(employee)
+			.firm(firm)
+			.build();
+		when(appointmentSeriesRepository.findByFirmIdAndId(1L, 3L)).thenReturn(Optional.of(series));
+	}
+
+	/**
+	 * Tests the {@link AppointmentSeriesServiceImpl#createSeries} method.
+	 *
+	 * <p>Verifies that the series is stored with its canonical rule and the end of its last
+	 * occurrence, and that the employee's busy slots are evicted.</p>
+	 */
+	@Test
+	void createSeriesTest() {
+		when(appointmentOverlapService.loadSchedules(List.of(5L), MONDAY, MONDAY.plusDays(30).plusMinutes(45)))
+			.thenReturn(Map.of(5L, new IntervalTree<>()));
+		when(appointmentSeriesRepository.create(any(AppointmentSeries.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+		AppointmentSeries created = appointmentSeriesService.createSeries(request("rrule:freq=daily;count=3"));
+
+		assertThat(created.getRecurrenceRule()).isEqualTo("FREQ=DAILY;COUNT=3");
+		assertThat(created.getLastEndDateTime()).isEqualTo(MONDAY.plusDays(2).plusMinutes(45));
+		assertThat(created.getFirm()).isSameAs(firm);
+		verify(busySlotService).evictEmployees(List.of(5L));
+	}
+
+	/**
+	 * Tests that a series is rejected when one of its checked occurrences overlaps another
+	 * appointment of the employee, or when its range or rule is invalid.
+	 */
+	@Test
+	void createSeriesInvalidTest() {
+		IntervalTree<LocalDateTime> schedule = new IntervalTree<>();
+		schedule.put(9L, MONDAY.plusWeeks(2).plusMinutes(30), MONDAY.plusWeeks(2).plusHours(1));
+		when(appointmentOverlapService.loadSchedules(anyList(), any(), any())).thenReturn(Map.of(5L, schedule));
+
+		assertThatThrownBy(() -> appointmentSeriesService.createSeries(request("FREQ=WEEKLY")))
+			.isInstanceOf(ConflictException.class)
+			.hasMessageContaining("2025-01-20T10:00");
+		assertThatThrownBy(() -> appointmentSeriesService.createSeries(request("FREQ=WEEKLY;BYDAY=TU")))
+			.isInstanceOf(InvalidStateException.class);
+		assertThatThrownBy(() -> appointmentSeriesService.createSeries(request("FREQ=HOURLY")))
+			.isInstanceOf(InvalidStateException.class);
+
+		AppointmentSeriesRequestDTO reversed = request("FREQ=DAILY");
+		reversed.setEndDateTime(MONDAY);
+		assertThatThrownBy(() -> appointmentSeriesService.createSeries(reversed))
+			.isInstanceOf(InvalidStateException.class);
+		verify(appointmentSeriesRepository, never()).create(any());
+	}
+
+	/**
+	 * Tests that a series referencing a client or appointment type of another firm is
+	 * rejected before it is stored.
+	 */
+	@Test
+	void createSeriesForeignReferenceTest() {
+		when(appointmentOverlapService.loadSchedules(anyList(), any(), any())).thenReturn(Map.of(5L, new IntervalTree<>()));
+		when(clientRepository.findIdsByFirmIdAndIdIn(1L, List.of(30L))).thenReturn(List.of());
+		when(appointmentTypeRepository.findIdsByFirmIdAndIdIn(1L, List.of(40L))).thenReturn(List.of());
+		Client client = new Client();
+		client.setId(30L);
+		AppointmentType appointmentType = new AppointmentType();
+		appointmentType.setId(40L);
+
+		AppointmentSeriesRequestDTO foreignClient = request("FREQ=DAILY;COUNT=3");
+		foreignClient.setClient(client);
+		AppointmentSeriesRequestDTO foreignType = request("FREQ=DAILY;COUNT=3");
+		foreignType.setAppointmentType(appointmentType);
+
+		assertThatThrownBy(() -> appointmentSeriesService.createSeries(foreignClient))
+			.isInstanceOf(EntityNotFoundException.class)
+			.hasMessage("Client does not exist.");
+		assertThatThrownBy(() -> appointmentSeriesService.createSeries(foreignType))
+			.isInstanceOf(EntityNotFoundException.class)
+			.hasMessage("Appointment type does not exist.");
+		verify(appointmentSeriesRepository, never()).create(any());
+	}
+
+	/**
+	 * Tests the {@link AppointmentSeriesServiceImpl#deleteSeries} method.
+	 *
+	 * <p>Verifies that cancellations are deleted and moved occurrences detached before the
+	 * series, and that a missing series is reported.</p>
+	 */
+	@Test
+	void deleteSeriesTest() {
+		when(appointmentSeriesRepository.findEmployeeIdsByFirmIdAndIdIn(1L, Set.of(3L))).thenReturn(List.of(5L));
+		when(appointmentSeriesRepository.deleteByFirmIdAndIdIn(1L, Set.of(3L))).thenReturn(1);
+
+		appointmentSeriesService.deleteSeries(List.of(3L, 3L));
+
+		verify(cancelledOccurrenceRepository).deleteBySeriesIdIn(Set.of(3L));
+		verify(appointmentRepository).detachFromSeries(eq(Set.of(3L)), any(LocalDateTime.class));
+		verify(busySlotService).evictEmployees(List.of(5L));
+
+		when(appointmentSeriesRepository.deleteByFirmIdAndIdIn(1L, Set.of(3L, 4L))).thenReturn(1);
+		assertThatThrownBy(() -> appointmentSeriesService.deleteSeries(List.of(3L, 4L)))
+			.isInstanceOf(EntityNotFoundException.class);
+	}
+
+	/**
+	 * Tests the {@link AppointmentSeriesServiceImpl#moveOccurrence} method.
+	 *
+	 * <p>Verifies that the replacing appointment is linked to the occurrence, takes missing
+	 * fields from the series and is checked against the employee's schedule.</p>
+	 */
+	@Test
+	void moveOccurrenceTest() {
+		when(appointmentRepository.create(any(Appointment.class))).thenAnswer(invocation -> {
+			Appointment appointment = invocation.getArgument(0);
+			appointment.setId(8L);
+			return appointment;
+		});
+
+		Appointment moved = appointmentSeriesService.moveOccurrence(SeriesOccurrenceRequestDTO.builder()
+			.seriesId(3L)
+			.occurrenceStartDateTime(MONDAY.plusDays(2))
+			.startDateTime(MONDAY.plusDays(2).plusHours(5))
+			.build());
+
+		assertThat(moved.getSeries()).isSameAs(series);
+		assertThat(moved.getOccurrenceStartDateTime()).isEqualTo(MONDAY.plusDays(2));
+		assertThat(moved.getEndDateTime()).isEqualTo(MONDAY.plusDays(2).plusHours(5).plusMinutes(45));
+		assertThat(moved.getNote()).isEqualTo("Weekly");
+		verify(appointmentOverlapService).checkAvailable(5L, moved.getStartDateTime(), moved.getEndDateTime(), 8L);
+		verify(appointmentOverlapService).indexSaved(8L, 5L, moved.getStartDateTime(), moved.getEndDateTime());
+		verify(busySlotService).evictSaved(8L, 5L);
+		verify(appointmentRepository).snapshotPrices(firm.getId(), List.of(8L));
+		verify(appointmentRollupService).addAppointments(firm.getId(), List.of(8L));
+		verify(appointmentReminderService).scheduleSaved(8L, moved.getStartDateTime());
+		verify(appointmentEventService).publish(firm.getId(), AppointmentEventDTO.Type.CREATED, List.of(8L));
+		verify(searchResultCacheService).invalidate(firm.getId(), Entity.APPOINTMENT);
+	}
+
+	/**
+	 * Tests that occurrences that do not exist, or were already moved or cancelled, cannot
+	 * be moved or cancelled.
+	 */
+	@Test
+	void findOccurrenceInvalidTest() {
+		assertThatThrownBy(() -> appointmentSeriesService.cancelOccurrence(4L, MONDAY))
+			.isInstanceOf(EntityNotFoundException.class);
+		assertThatThrownBy(() -> appointmentSeriesService.cancelOccurrence(3L, MONDAY.plusDays(1)))
+			.isInstanceOf(InvalidStateException.class);
+
+		when(appointmentRepository.existsBySeriesIdAndOccurrenceStartDateTime(3L, MONDAY)).thenReturn(true);
+		assertThatThrownBy(() -> appointmentSeriesService.moveOccurrence(SeriesOccurrenceRequestDTO.builder()
+			.seriesId(3L)
+			.occurrenceStartDateTime(MONDAY)
+			.build()))
+			.isInstanceOf(ConflictException.class);
+		verify(appointmentRepository, never()).create(any());
+	}
+
+	/**
+	 * Tests the {@link AppointmentSeriesServiceImpl#cancelOccurrence} method.
+	 *
+	 * <p>Verifies that the cancellation is stored and that a concurrent cancellation of the
+	 * same occurrence is reported as a conflict.</p>
+	 */
+	@Test
+	void cancelOccurrenceTest() {
+		ArgumentCaptor<CancelledOccurrence> captor = ArgumentCaptor.forClass(CancelledOccurrence.class);
+
+		appointmentSeriesService.cancelOccurrence(3L, MONDAY.plusWeeks(1));
+
+		verify(cancelledOccurrenceRepository).create(captor.capture());
+		assertThat(captor.getValue().getSeries()).isSameAs(series);
+		assertThat(captor.getValue().getOccurrenceStartDateTime()).isEqualTo(MONDAY.plusWeeks(1));
+		verify(busySlotService).evictEmployees(List.of(5L));
+
+		when(cancelledOccurrenceRepository.create(any())).thenThrow(new DataIntegrityViolationException("duplicate"));
+		assertThatThrownBy(() -> appointmentSeriesService.cancelOccurrence(3L, MONDAY.plusWeeks(1)))
+			.isInstanceOf(ConflictException.class);
+	}
+
+	/**
+	 * Tests the {@link AppointmentSeriesServiceImpl#getCalendar} method.
+	 *
+	 * <p>Verifies that stored appointments and generated occurrences are merged by start and
+	 * that occurrences carry the details of their series.</p>
+	 */
+	@Test
+	void getCalendarTest() {
+		CalendarEntryDTO first = new CalendarEntryDTO(3L, "FREQ=DAILY", "Daily", MONDAY, MONDAY.plusHours(1),
+			5L, "Emp", "Loyee", null, null, null, null, null, null);
+		CalendarEntryDTO appointment = new CalendarEntryDTO(9L, null, null, null, "Single", MONDAY.plusDays(1).plusHours(2),
+			MONDAY.plusDays(1).plusHours(3), true, false, 5L, "Emp", "Loyee", null, null, null, null, null, null);
+		when(appointmentSeriesRepository.findAllProjected(any(), eq(CalendarEntryDTO.SERIES_PROJECTION), any()))
+			.thenReturn(new PageImpl<>(List.of(first)));
+		when(occurrenceService.expand(List.of(first.toRecurrence()), MONDAY, MONDAY.plusDays(3)))
+			.thenReturn(List.of(
+				new Occurrence(3L, 5L, MONDAY.plusDays(1), MONDAY.plusDays(1).plusHours(1)),
+				new Occurrence(3L, 5L, MONDAY.plusDays(2), MONDAY.plusDays(2).plusHours(1))
+			).iterator());
+		when(appointmentRepository.streamAllProjected(any(), eq(CalendarEntryDTO.PROJECTION), any(Sort.class), anyInt()))
+			.thenReturn(Stream.of(appointment));
+
+		List<CalendarEntryDTO> entries = appointmentSeriesService.getCalendar(
+			CalendarRequestDTO.builder().from(MONDAY).to(MONDAY.plusDays(3)).build()
+		);
+
+		assertThat(entries).extracting(CalendarEntryDTO::startDateTime).containsExactly(
+			MONDAY.plusDays(1), MONDAY.plusDays(1).plusHours(2), MONDAY.plusDays(2)
+		);
+		assertThat(entries.get(0).id()).isNull();
+		assertThat(entries.get(0).note()).isEqualTo("Daily");
+		assertThat(entries.get(0).occurrenceStartDateTime()).isEqualTo(MONDAY.plusDays(1));
+		assertThat(entries.get(1).id()).isEqualTo(9L);
+
+		assertThatThrownBy(() -> appointmentSeriesService.getCalendar(
+			CalendarRequestDTO.builder().from(MONDAY).to(MONDAY.plusDays(32)).build()
+		)).isInstanceOf(InvalidStateException.class);
+	}
+
+	/**
+	 * Tests the {@link AppointmentSeriesServiceImpl#getCalendar} method in the firm's time zone.
+	 *
+	 * <p>Verifies that the range is read in the firm's time zone across a daylight saving
+	 * change and that the entries are returned in local time.</p>
+	 */
+	@Test
+	void getCalendarInFirmTimeZoneTest() {
+		LocalDateTime utcFrom = LocalDateTime.parse("2025-03-29T23:00");
+		LocalDateTime utcTo = LocalDateTime.parse("2025-03-30T22:00");
+		CalendarEntryDTO appointment = new CalendarEntryDTO(9L, null, null, null, "Single", LocalDateTime.parse("2025-03-30T00:30"),
+			LocalDateTime.parse("2025-03-30T01:30"), true, false, 5L, "Emp", "Loyee", null, null, null, null, null, null);
+		when(securityContextService.getAuthUserTimeZone()).thenReturn(ZoneId.of("Europe/Vienna"));
+		when(appointmentSeriesRepository.findAllProjected(any(), eq(CalendarEntryDTO.SERIES_PROJECTION), any()))
+			.thenReturn(new PageImpl<>(List.of()));
+		when(occurrenceService.expand(List.of(), utcFrom, utcTo)).thenReturn(Collections.emptyIterator());
+		when(appointmentRepository.streamAllProjected(any(), eq(CalendarEntryDTO.PROJECTION), any(Sort.class), anyInt()))
+			.thenReturn(Stream.of(appointment));
+
+		List<CalendarEntryDTO> entries = appointmentSeriesService.getCalendar(CalendarRequestDTO.builder()
+			.from(LocalDateTime.parse("2025-03-30T00:00"))
+			.to(LocalDateTime.parse("2025-03-31T00:00"))
+			.inFirmTimeZone(true)
+			.build());
+
+		assertThat(entries).extracting(CalendarEntryDTO::startDateTime, CalendarEntryDTO::endDateTime)
+			.containsExactly(tuple(LocalDateTime.parse("2025-03-30T01:30"), LocalDateTime.parse("2025-03-30T03:30")));
+		verify(occurrenceService).expand(List.of(), utcFrom, utcTo);
+	}
+
+	private AppointmentSeriesRequestDTO request(String recurrenceRule) {
+		return AppointmentSeriesRequestDTO.builder()
+			.startDateTime(MONDAY)
+			.endDateTime(MONDAY.plusMinutes(45))
+			.recurrenceRule(recurrenceRule)
+			.employee(employee)
+			.build();
+	}
+}
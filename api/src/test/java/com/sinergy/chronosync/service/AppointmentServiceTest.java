@@ -1,7 +1,12 @@
 package com.sinergy.chronosync.service;
 
 import com.sinergy.chronosync.dto.request.AppointmentRequestDTO;
+import com.sinergy.chronosync.dto.response.AppointmentEventDTO;
+import com.sinergy.chronosync.dto.response.AppointmentSearchResponseDTO;
+import com.sinergy.chronosync.exception.ConflictException;
 import com.sinergy.chronosync.exception.EntityNotFoundException;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.exception.RepositoryException;
 import com.sinergy.chronosync.model.Appointment;
 import com.sinergy.chronosync.model.Client;
 import com.sinergy.chronosync.model.Firm;
@@ -10,23 +15,32 @@ import com.sinergy.chronosync.model.user.User;
 import com.sinergy.chronosync.model.user.UserRole;
 import com.sinergy.chronosync.repository.AppointmentRepository;
 import com.sinergy.chronosync.repository.AppointmentTypeRepository;
+import com.sinergy.chronosync.repository.CancelledOccurrenceRepository;
 import com.sinergy.chronosync.repository.ClientRepository;
 import com.sinergy.chronosync.repository.UserRepository;
+import com.sinergy.chronosync.service.SearchResultCacheService.Entity;
 import com.sinergy.chronosync.service.impl.AppointmentServiceImpl;
+import com.sinergy.chronosync.service.impl.SearchResultCacheServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.unit.DataSize;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -42,6 +56,8 @@ class AppointmentServiceImplTest {
 	@Mock
 	private AppointmentRepository appointmentRepository;
 	@Mock
+	private CancelledOccurrenceRepository cancelledOccurrenceRepository;
+	@Mock
 	private UserRepository userRepository;
 	@Mock
 	private ClientRepository clientRepository;
@@ -49,6 +65,22 @@ class AppointmentServiceImplTest {
 	private AppointmentTypeRepository appointmentTypeRepository;
 	@Mock
 	private SecurityContextService securityContextService;
+	@Mock
+	private AppointmentOverlapService appointmentOverlapService;
+	@Mock
+	private BusySlotService busySlotService;
+	@Mock
+	private AppointmentSyncService appointmentSyncService;
+	@Mock
+	private AppointmentEventService appointmentEventService;
+	@Mock
+	private AppointmentReminderService appointmentReminderService;
+	@Mock
+	private AppointmentRollupService appointmentRollupService;
+	@Spy
+	private SearchResultCacheService searchResultCacheService = new SearchResultCacheServiceImpl(
+		new SimpleMeterRegistry(), 10, DataSize.ofMegabytes(1), Duration.ofMinutes(5), Duration.ofSeconds(2)
+	);
 
 	@InjectMocks
 	private AppointmentServiceImpl appointmentService;
@@ -83,38 +115,33 @@ class AppointmentServiceImplTest {
 
 		PageRequest pageRequest = PageRequest.of(0, 10);
 
-		Appointment assignedAppointment = Appointment.builder()
-			.id(1L)
-			.note("Employee Appointment")
-			.startDateTime(LocalDateTime.parse("2025-02-02T12:45"))
-			.endDateTime(LocalDateTime.parse("2025-02-02T13:45"))
-			.employee(authUser)
-			.firm(authFirm)
-			.build();
-
-		User otherEmployee = mock(User.class);
-		when(otherEmployee.getId()).thenReturn(999L);
+		AppointmentSearchResponseDTO assignedAppointment = getAppointmentRow(1L, "Employee Appointment", authUser);
+		AppointmentSearchResponseDTO notAssignedAppointment = getAppointmentRow(
+			2L,
+			"Other Employee's Appointment",
+			new User()
+		);
 
-		Appointment notAssignedAppointment = Appointment.builder()
-			.id(2L)
-			.note("Other Employee's Appointment")
-			.startDateTime(LocalDateTime.parse("2025-02-03T10:00"))
-			.endDateTime(LocalDateTime.parse("2025-02-03T11:00"))
-			.employee(otherEmployee)
-			.firm(authFirm)
-			.build();
-
-		Page<Appointment> mockPage = new PageImpl<>(List.of(assignedAppointment), pageRequest, 1);
-		when(appointmentRepository.findAll(Mockito.<Specification<Appointment>>any(), eq(pageRequest))).thenReturn(mockPage);
+		Page<AppointmentSearchResponseDTO> mockPage = new PageImpl<>(List.of(assignedAppointment), pageRequest, 1);
+		when(appointmentRepository.findAllProjected(
+			Mockito.<Specification<Appointment>>any(),
+			eq(AppointmentSearchResponseDTO.PROJECTION),
+			eq(pageRequest)
+		)).thenReturn(mockPage);
 
-		Page<Appointment> result = appointmentService.getAppointments(pageRequest);
+		Page<AppointmentSearchResponseDTO> result = appointmentService.getAppointments(pageRequest);
 
 		assertThat(result).isNotNull();
 		assertThat(result.getTotalElements()).isEqualTo(1);
 		assertThat(result.getContent()).containsExactly(assignedAppointment);
 		assertThat(result.getContent()).doesNotContain(notAssignedAppointment);
 
-		verify(appointmentRepository, times(1)).findAll(Mockito.<Specification<Appointment>>any(), eq(pageRequest));
+		verify(appointmentRepository, times(1)).findAllProjected(
+			Mockito.<Specification<Appointment>>any(),
+			eq(AppointmentSearchResponseDTO.PROJECTION),
+			eq(pageRequest)
+		);
+		verify(appointmentRepository, never()).findAll(Mockito.<Specification<Appointment>>any(), eq(pageRequest));
 	}
 
 
@@ -125,35 +152,60 @@ class AppointmentServiceImplTest {
 	@Test
 	void getManagerAppointmentsTest() {
 		authUser.setRole(UserRole.MANAGER);
-		Firm mockFirm = mock(Firm.class);
-		mockFirm.setId(1L);
 		PageRequest pageRequest = PageRequest.of(0, 10);
-		Appointment appointment = Appointment.builder()
-			.id(2L)
-			.note("Manager Appointment")
-			.startDateTime(LocalDateTime.parse("2025-02-02T12:45"))
-			.endDateTime(LocalDateTime.parse("2025-02-02T13:45"))
-			.createdBy(authUser)
-			.firm(authFirm)
-			.build();
+		AppointmentSearchResponseDTO appointment = getAppointmentRow(2L, "Manager Appointment", authUser);
 
-		Appointment mockAppointment = mock(Appointment.class);
-		mockAppointment.setFirm(mockFirm);
-		mockAppointment.setNote("Manager Appointment");
+		Page<AppointmentSearchResponseDTO> mockPage = new PageImpl<>(List.of(appointment), pageRequest, 2);
 
-		Page<Appointment> mockPage = new PageImpl<>(List.of(appointment), pageRequest, 2);
+		when(appointmentRepository.findAllProjected(
+			Mockito.<Specification<Appointment>>any(),
+			eq(AppointmentSearchResponseDTO.PROJECTION),
+			eq(pageRequest)
+		)).thenReturn(mockPage);
 
-		when(appointmentRepository.findAll(Mockito.<Specification<Appointment>>any(),
-			eq(pageRequest))).thenReturn(mockPage);
-
-		Page<Appointment> result = appointmentService.getAppointments(pageRequest);
+		Page<AppointmentSearchResponseDTO> result = appointmentService.getAppointments(pageRequest);
 
 		assertThat(result).isNotNull();
 		assertThat(result.getTotalElements()).isEqualTo(1);
-		assertThat(result.getContent().get(0).getNote()).isEqualTo("Manager Appointment");
+		assertThat(result.getContent().get(0).note()).isEqualTo("Manager Appointment");
 
-		verify(appointmentRepository, times(1)).findAll(Mockito.<Specification<Appointment>>any(),
-			eq(pageRequest));
+		verify(appointmentRepository, times(1)).findAllProjected(
+			Mockito.<Specification<Appointment>>any(),
+			eq(AppointmentSearchResponseDTO.PROJECTION),
+			eq(pageRequest)
+		);
+	}
+
+	/**
+	 * Tests that repeated searches are served from the search result cache, per employee,
+	 * until a client of the firm changes.
+	 */
+	@Test
+	void getAppointmentsCachedTest() {
+		PageRequest pageRequest = PageRequest.of(0, 10);
+		Page<AppointmentSearchResponseDTO> page = new PageImpl<>(
+			List.of(getAppointmentRow(1L, "Cached Appointment", authUser)), pageRequest, 1
+		);
+		when(appointmentRepository.findAllProjected(
+			Mockito.<Specification<Appointment>>any(),
+			eq(AppointmentSearchResponseDTO.PROJECTION),
+			eq(pageRequest)
+		)).thenReturn(page);
+
+		authUser.setRole(UserRole.MANAGER);
+		appointmentService.getAppointments(pageRequest);
+		Page<AppointmentSearchResponseDTO> cached = appointmentService.getAppointments(pageRequest);
+		authUser.setRole(UserRole.EMPLOYEE);
+		appointmentService.getAppointments(pageRequest);
+		searchResultCacheService.invalidate(authFirm.getId(), Entity.CLIENT);
+		appointmentService.getAppointments(pageRequest);
+
+		assertThat(cached).isSameAs(page);
+		verify(appointmentRepository, times(3)).findAllProjected(
+			Mockito.<Specification<Appointment>>any(),
+			eq(AppointmentSearchResponseDTO.PROJECTION),
+			eq(pageRequest)
+		);
 	}
 
 	/**
@@ -216,6 +268,53 @@ class AppointmentServiceImplTest {
 		assertThat(result.getAppointmentType()).isEqualTo(appointmentType);
 
 		verify(appointmentRepository, times(1)).create(any(Appointment.class));
+		verify(appointmentOverlapService, times(1)).checkAvailable(
+			taskedEmployee.getId(),
+			LocalDateTime.parse("2025-02-02T12:45"),
+			LocalDateTime.parse("2025-02-02T13:45"),
+			null
+		);
+		verify(appointmentOverlapService, times(1)).indexSaved(
+			createdAppointment.getId(),
+			taskedEmployee.getId(),
+			LocalDateTime.parse("2025-02-02T12:45"),
+			LocalDateTime.parse("2025-02-02T13:45")
+		);
+		verify(busySlotService, times(1)).evictSaved(createdAppointment.getId(), taskedEmployee.getId());
+		InOrder pricing = inOrder(appointmentRepository, appointmentRollupService);
+		pricing.verify(appointmentRepository).snapshotPrices(authFirm.getId(), List.of(createdAppointment.getId()));
+		pricing.verify(appointmentRollupService).addAppointments(authFirm.getId(), List.of(createdAppointment.getId()));
+		verify(appointmentReminderService, times(1)).scheduleSaved(
+			createdAppointment.getId(), LocalDateTime.parse("2025-02-02T12:45")
+		);
+		verify(appointmentEventService, times(1)).publish(
+			authFirm.getId(), AppointmentEventDTO.Type.CREATED, List.of(createdAppointment.getId())
+		);
+		verify(searchResultCacheService, times(1)).invalidate(authFirm.getId(), Entity.APPOINTMENT);
+	}
+
+	/**
+	 * Tests createAppointment method when the employee is already booked.
+	 * Verifies that nothing is stored.
+	 */
+	@Test
+	void createAppointmentOverlapTest() {
+		User employee = new User();
+		employee.setId(200L);
+		AppointmentRequestDTO requestDto = AppointmentRequestDTO.builder()
+			.startDateTime(LocalDateTime.parse("2025-02-02T12:45"))
+			.endDateTime(LocalDateTime.parse("2025-02-02T13:45"))
+			.employee(employee)
+			.build();
+		doThrow(new ConflictException("Employee already has an appointment at this time."))
+			.when(appointmentOverlapService).checkAvailable(eq(200L), any(), any(), any());
+
+		assertThrows(ConflictException.class, () -> appointmentService.createAppointment(requestDto));
+
+		verify(appointmentRepository, never()).create(any(Appointment.class));
+		verify(appointmentOverlapService, never()).indexSaved(any(), any(), any(), any());
+		verify(busySlotService, never()).evictSaved(any(), any());
+		verify(appointmentRollupService, never()).addAppointments(any(), any());
 	}
 
 	/**
@@ -226,13 +325,13 @@ class AppointmentServiceImplTest {
 	void updateAppointmentTest() {
 		AppointmentRequestDTO requestDto = AppointmentRequestDTO.builder()
 			.id(1L)
+			.version(2L)
 			.note("Updated Appointment")
 			.startDateTime(LocalDateTime.parse("2025-02-02T12:45"))
 			.endDateTime(LocalDateTime.parse("2025-02-02T13:45"))
-			.firm(authFirm)
 			.build();
 
-		when(appointmentRepository.update(any(Appointment.class))).thenReturn(requestDto.toModel());
+		when(appointmentRepository.update(any(Appointment.class), eq(authFirm.getId()))).thenReturn(requestDto.toModel());
 
 		Appointment result = appointmentService.updateAppointment(requestDto);
 
@@ -242,37 +341,136 @@ class AppointmentServiceImplTest {
 		assertThat(result.getStartDateTime()).isEqualTo("2025-02-02T12:45");
 		assertThat(result.getEndDateTime()).isEqualTo("2025-02-02T13:45");
 
-		verify(appointmentRepository, times(1)).update(any(Appointment.class));
+		verify(appointmentRepository, times(1)).update(argThat(appointment -> appointment.getFirm() == authFirm), eq(authFirm.getId()));
+		verify(appointmentSyncService, times(1)).recordReassigned(authFirm.getId(), 1L, null);
+		InOrder rollup = inOrder(appointmentRollupService, appointmentRepository);
+		rollup.verify(appointmentRollupService).subtractAppointments(authFirm.getId(), List.of(1L));
+		rollup.verify(appointmentRepository).update(any(Appointment.class), eq(authFirm.getId()));
+		rollup.verify(appointmentRepository).snapshotPrices(authFirm.getId(), List.of(1L));
+		rollup.verify(appointmentRollupService).addAppointments(authFirm.getId(), List.of(1L));
+		verify(appointmentEventService, times(1)).publish(authFirm.getId(), AppointmentEventDTO.Type.UPDATED, List.of(1L));
+		verify(searchResultCacheService, times(1)).invalidate(authFirm.getId(), Entity.APPOINTMENT);
+		verify(appointmentReminderService, times(1)).scheduleSaved(1L, LocalDateTime.parse("2025-02-02T12:45"));
+		verify(appointmentOverlapService, times(1)).checkAvailable(
+			null,
+			LocalDateTime.parse("2025-02-02T12:45"),
+			LocalDateTime.parse("2025-02-02T13:45"),
+			1L
+		);
 	}
 
 	/**
-	 * Tests deleteAppointment method when the appointment exists.
+	 * Tests updateAppointment method when the request carries no version.
+	 * Verifies that the update is rejected before anything is checked or written.
+	 */
+	@Test
+	void updateAppointmentWithoutVersionTest() {
+		AppointmentRequestDTO requestDto = AppointmentRequestDTO.builder()
+			.id(1L)
+			.startDateTime(LocalDateTime.parse("2025-02-02T12:45"))
+			.endDateTime(LocalDateTime.parse("2025-02-02T13:45"))
+			.build();
+
+		InvalidStateException exception = assertThrows(
+			InvalidStateException.class,
+			() -> appointmentService.updateAppointment(requestDto)
+		);
+
+		assertThat(exception.getMessage()).isEqualTo("Appointment version is required for an update.");
+		verify(appointmentRepository, never()).update(any(Appointment.class), any());
+		verify(appointmentOverlapService, never()).checkAvailable(any(), any(), any(), any());
+		verify(appointmentRollupService, never()).subtractAppointments(any(), any());
+	}
+
+	/**
+	 * Tests updateAppointment method when the appointment does not exist within the firm.
+	 * Verifies that an appointment of another firm, or one named without a firm, is
+	 * reported as not found instead of being moved between firms.
+	 */
+	@Test
+	void updateAppointmentNotFoundTest() {
+		Firm otherFirm = new Firm();
+		otherFirm.setId(99L);
+		AppointmentRequestDTO requestDto = AppointmentRequestDTO.builder()
+			.id(1L)
+			.version(2L)
+			.startDateTime(LocalDateTime.parse("2025-02-02T12:45"))
+			.endDateTime(LocalDateTime.parse("2025-02-02T13:45"))
+			.firm(otherFirm)
+			.build();
+		when(appointmentRepository.update(any(Appointment.class), eq(authFirm.getId())))
+			.thenThrow(new RepositoryException("Entity with ID 1 not found."));
+
+		EntityNotFoundException exception = assertThrows(
+			EntityNotFoundException.class,
+			() -> appointmentService.updateAppointment(requestDto)
+		);
+
+		assertThat(exception.getMessage()).isEqualTo("Appointment does not exist.");
+		verify(appointmentRepository, times(1)).update(argThat(appointment -> appointment.getFirm() == authFirm), eq(authFirm.getId()));
+		verify(appointmentRollupService, never()).addAppointments(any(), any());
+		verify(appointmentEventService, never()).publish(any(), any(), any());
+	}
+
+	/**
+	 * Tests deleteAppointment method when the appointment exists within the firm.
+	 * The delete is a single statement scoped to the user's firm.
 	 */
 	@Test
 	void deleteAppointmentTest() {
-		Long id = 1L;
-		when(appointmentRepository.existsById(id)).thenReturn(true);
-		doNothing().when(appointmentRepository).deleteById(id);
+		Long firmId = securityContextService.getAuthUserFirm().getId();
+		when(appointmentRepository.deleteByFirmIdAndIdIn(firmId, Set.of(1L))).thenReturn(1);
 
-		appointmentService.deleteAppointment(id);
+		appointmentService.deleteAppointment(List.of(1L));
 
-		verify(appointmentRepository, times(1)).existsById(id);
-		verify(appointmentRepository, times(1)).deleteById(id);
+		verify(cancelledOccurrenceRepository, times(1)).cancelReplacedBy(firmId, Set.of(1L));
+		verify(appointmentSyncService, times(1)).recordDeleted(firmId, Set.of(1L));
+		verify(appointmentRollupService, times(1)).subtractAppointments(firmId, Set.of(1L));
+		verify(appointmentRepository, times(1)).deleteByFirmIdAndIdIn(firmId, Set.of(1L));
+		verify(appointmentRepository, never()).existsById(anyLong());
+		verify(appointmentRepository, never()).deleteById(anyLong());
+		verify(busySlotService, times(1)).evictDeleted(Set.of(1L));
+		verify(appointmentReminderService, times(1)).cancelDeleted(Set.of(1L));
+		verify(appointmentEventService, times(1)).publish(firmId, AppointmentEventDTO.Type.DELETED, Set.of(1L));
+		verify(searchResultCacheService, times(1)).invalidate(firmId, Entity.APPOINTMENT);
 	}
 
 	/**
-	 * Tests deleteAppointment method when the appointment does not exist.
-	 * Expects an InvalidStateException to be thrown.
+	 * Tests deleteAppointment method when the appointment does not exist within the firm.
+	 * Expects an EntityNotFoundException to be thrown.
 	 */
 	@Test
 	void deleteAppointmentNotFoundTest() {
-		Appointment mockAppointment = new Appointment();
-		mockAppointment.setId(1L);
-		when(appointmentRepository.existsById(mockAppointment.getId())).thenReturn(false);
+		Long firmId = securityContextService.getAuthUserFirm().getId();
+		when(appointmentRepository.deleteByFirmIdAndIdIn(firmId, Set.of(1L))).thenReturn(0);
 
-		assertThrows(EntityNotFoundException.class, () -> appointmentService.deleteAppointment(mockAppointment.getId()));
+		assertThrows(EntityNotFoundException.class, () -> appointmentService.deleteAppointment(List.of(1L)));
+		verify(appointmentEventService, never()).publish(any(), any(), any());
+		verify(searchResultCacheService, never()).invalidate(any(), any());
+	}
 
-		verify(appointmentRepository, times(1)).existsById(mockAppointment.getId());
-		verify(appointmentRepository, never()).deleteById(anyLong());
+	/**
+	 * Helper method that builds a projected appointment row for the given employee.
+	 *
+	 * @param id       {@link Long} appointment ID
+	 * @param note     {@link String} appointment note
+	 * @param employee {@link User} employee the appointment is assigned to
+	 * @return {@link AppointmentSearchResponseDTO} projected row
+	 */
+	private AppointmentSearchResponseDTO getAppointmentRow(Long id, String note, User employee) {
+		return new AppointmentSearchResponseDTO(
+			id,
+			0L,
+			note,
+			LocalDateTime.parse("2025-02-02T12:45"),
+			LocalDateTime.parse("2025-02-02T13:45"),
+			false,
+			false,
+			employee.getId(),
+			employee.getFirstName(),
+			employee.getLastName(),
+			null, null, null,
+			null, null, null
+		);
 	}
 }
@@ -0,0 +1,220 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.dto.response.AppointmentChangeDTO;
+import com.sinergy.chronosync.dto.response.AppointmentChangesDTO;
+import com.sinergy.chronosync.exception.EntityNotFoundException;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.model.AppointmentTombstone;
+import com.sinergy.chronosync.model.Firm;
+import com.sinergy.chronosync.model.user.User;
+import com.sinergy.chronosync.model.user.UserRole;
+import com.sinergy.chronosync.repository.AppointmentRepository;
+import com.sinergy.chronosync.repository.AppointmentTombstoneRepository;
+import com.sinergy.chronosync.repository.AppointmentTombstoneRepository.Removal;
+import com.sinergy.chronosync.repository.UserRepository;
+import com.sinergy.chronosync.service.impl.AppointmentSyncServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link AppointmentSyncServiceImpl}.
+ */
+class AppointmentSyncServiceTest {
+
+	@Mock
+	private AppointmentRepository appointmentRepository;
+	@Mock
+	private AppointmentTombstoneRepository appointmentTombstoneRepository;
+	@Mock
+	private UserRepository userRepository;
+	@Mock
+	private SecurityContextService securityContextService;
+
+	@InjectMocks
+	private AppointmentSyncServiceImpl appointmentSyncService;
+
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		ReflectionTestUtils.setField(appointmentSyncService, "pageSize", 3);
+		ReflectionTestUtils.setField(appointmentSyncService, "settleTime", Duration.ZERO);
+		ReflectionTestUtils.setField(appointmentSyncService, "tombstoneRetention", Duration.ofDays(30));
+
+		Firm firm = new Firm();
+		firm.setId(1L);
+		user = new User();
+		user.setId(10L);
+		user.setRole(UserRole.MANAGER);
+		when(securityContextService.getAuthUser()).thenReturn(user);
+		when(securityContextService.getAuthUserFirm()).thenReturn(firm);
+		when(appointmentRepository.streamAllProjected(any(), eq(AppointmentChangeDTO.PROJECTION), any(Sort.class), anyInt()))
+			.thenAnswer(invocation -> Stream.empty());
+	}
+
+	/**
+	 * Tests that a first call starts the feed over and that changes and removals are merged
+	 * in time order, so an appointment deleted after its update is only reported as removed.
+	 */
+	@Test
+	void getChangesMergesTest() {
+		LocalDateTime now = LocalDateTime.now();
+		Removal first = removal(7L, 1L, now.minusMinutes(3));
+		Removal second = removal(8L, 3L, now.minusMinutes(1));
+		when(appointmentRepository.streamAllProjected(any(), eq(AppointmentChangeDTO.PROJECTION), any(Sort.class), anyInt()))
+			.thenAnswer(invocation -> Stream.of(change(1L, now.minusMinutes(4)), change(2L, now.minusMinutes(2))));
+		when(appointmentTombstoneRepository.findFirmRemovals(eq(1L), any(), eq(Long.MIN_VALUE), any(), eq(Limit.of(4))))
+			.thenReturn(List.of(first, second));
+
+		AppointmentChangesDTO result = appointmentSyncService.getChanges(null, null);
+
+		assertThat(result.reset()).isTrue();
+		assertThat(result.changed()).extracting(AppointmentChangeDTO::id).containsExactly(2L);
+		assertThat(result.removed()).containsExactly(1L);
+		assertThat(result.hasMore()).isTrue();
+		verify(appointmentTombstoneRepository, never()).findEmployeeRemovals(anyLong(), any(), any(), any(), any());
+
+		appointmentSyncService.getChanges(result.token(), null);
+
+		verify(appointmentTombstoneRepository, times(1))
+			.findFirmRemovals(eq(1L), eq(now.minusMinutes(3)), eq(7L), any(), eq(Limit.of(4)));
+	}
+
+	/**
+	 * Tests that a page reading everything up to the settle horizon has nothing more,
+	 * and that its token continues the feed without starting over.
+	 */
+	@Test
+	void getChangesContinuesTest() {
+		when(appointmentRepository.streamAllProjected(any(), eq(AppointmentChangeDTO.PROJECTION), any(Sort.class), anyInt()))
+			.thenReturn(Stream.of(change(1L, LocalDateTime.now().minusMinutes(1))));
+
+		AppointmentChangesDTO first = appointmentSyncService.getChanges(null, null);
+		assertThat(first.hasMore()).isFalse();
+
+		when(appointmentRepository.streamAllProjected(any(), eq(AppointmentChangeDTO.PROJECTION), any(Sort.class), anyInt()))
+			.thenReturn(Stream.empty());
+		AppointmentChangesDTO second = appointmentSyncService.getChanges(first.token(), null);
+
+		assertThat(second.reset()).isFalse();
+		assertThat(second.changed()).isEmpty();
+		assertThat(second.removed()).isEmpty();
+	}
+
+	/**
+	 * Tests that an employee always follows their own appointments, and that a token of
+	 * another feed starts the feed over.
+	 */
+	@Test
+	void getChangesEmployeeTest() {
+		String firmToken = appointmentSyncService.getChanges(null, null).token();
+		user.setRole(UserRole.EMPLOYEE);
+
+		AppointmentChangesDTO result = appointmentSyncService.getChanges(firmToken, 99L);
+
+		assertThat(result.reset()).isTrue();
+		assertThat(appointmentSyncService.getChanges(result.token(), null).reset()).isFalse();
+		verify(appointmentTombstoneRepository, times(2)).findEmployeeRemovals(eq(10L), any(), any(), any(), any());
+		verify(userRepository, never()).findIdsByFirmIdAndIdIn(anyLong(), any());
+	}
+
+	/**
+	 * Tests that a token older than the tombstone retention starts the feed over.
+	 */
+	@Test
+	void getChangesExpiredTokenTest() {
+		String token = Base64.getUrlEncoder().withoutPadding().encodeToString(
+			"f1|||2000-01-01T00:00|5".getBytes(StandardCharsets.UTF_8)
+		);
+
+		assertThat(appointmentSyncService.getChanges(token, null).reset()).isTrue();
+	}
+
+	/**
+	 * Tests that malformed tokens and employees outside the firm are rejected.
+	 */
+	@Test
+	void getChangesInvalidTest() {
+		assertThatThrownBy(() -> appointmentSyncService.getChanges("not a token", null))
+			.isInstanceOf(InvalidStateException.class);
+		assertThatThrownBy(() -> appointmentSyncService.getChanges("Zm9v", null))
+			.isInstanceOf(InvalidStateException.class);
+
+		when(userRepository.findIdsByFirmIdAndIdIn(1L, List.of(5L))).thenReturn(List.of());
+		assertThatThrownBy(() -> appointmentSyncService.getChanges(null, 5L))
+			.isInstanceOf(EntityNotFoundException.class);
+	}
+
+	/**
+	 * Tests that deletions are recorded before expired tombstones are purged.
+	 */
+	@Test
+	void recordDeletedTest() {
+		appointmentSyncService.recordDeleted(1L, Set.of(4L));
+
+		verify(appointmentTombstoneRepository, times(1)).recordDeleted(eq(1L), eq(Set.of(4L)), any(LocalDateTime.class));
+		verify(appointmentTombstoneRepository, times(1)).deleteByFirmIdAndRemovedAtBefore(eq(1L), any(LocalDateTime.class));
+	}
+
+	/**
+	 * Tests that reassignments away from known employees are saved as tombstones of the
+	 * previous employees, and that nothing is written for none.
+	 */
+	@SuppressWarnings("unchecked")
+	@Test
+	void recordReassignedTest() {
+		appointmentSyncService.recordReassigned(1L, Map.of());
+		verify(appointmentTombstoneRepository, never()).saveAll(any());
+
+		appointmentSyncService.recordReassigned(1L, Map.of(4L, 5L));
+
+		ArgumentCaptor<List<AppointmentTombstone>> tombstones = ArgumentCaptor.forClass(List.class);
+		verify(appointmentTombstoneRepository, times(1)).saveAll(tombstones.capture());
+		assertThat(tombstones.getValue()).singleElement().satisfies(tombstone -> {
+			assertThat(tombstone.getAppointmentId()).isEqualTo(4L);
+			assertThat(tombstone.getEmployeeId()).isEqualTo(5L);
+			assertThat(tombstone.isReassigned()).isTrue();
+			assertThat(tombstone.getFirm().getId()).isEqualTo(1L);
+		});
+	}
+
+	private static AppointmentChangeDTO change(Long id, LocalDateTime updatedAt) {
+		return new AppointmentChangeDTO(
+			id, 0L, updatedAt, null, null, null, null, null,
+			null, null, null, null, null, null, null, null, null
+		);
+	}
+
+	private static Removal removal(Long id, Long appointmentId, LocalDateTime removedAt) {
+		Removal removal = mock(Removal.class);
+		when(removal.getId()).thenReturn(id);
+		when(removal.getAppointmentId()).thenReturn(appointmentId);
+		when(removal.getRemovedAt()).thenReturn(removedAt);
+		return removal;
+	}
+}
@@ -2,19 +2,28 @@ package com.sinergy.chronosync.service;
 
 import com.sinergy.chronosync.dto.request.AppointmentTypeRequestDTO;
 import com.sinergy.chronosync.dto.request.PaginatedAppointmentTypeRequestDTO;
+import com.sinergy.chronosync.dto.response.AppointmentTypeSearchResponseDTO;
 import com.sinergy.chronosync.exception.EntityNotFoundException;
+import com.sinergy.chronosync.exception.InvalidStateException;
 import com.sinergy.chronosync.model.Firm;
 import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import com.sinergy.chronosync.model.appointmentType.Currency;
 import com.sinergy.chronosync.model.user.User;
 import com.sinergy.chronosync.repository.AppointmentTypeRepository;
+import com.sinergy.chronosync.repository.FirmRepository;
 import com.sinergy.chronosync.repository.UserRepository;
+import com.sinergy.chronosync.service.SearchResultCacheService.Entity;
 import com.sinergy.chronosync.service.impl.AppointmentTypeServiceImpl;
+import com.sinergy.chronosync.service.impl.SearchResultCacheServiceImpl;
+import com.sinergy.chronosync.util.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -22,9 +31,13 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.unit.DataSize;
 
+import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -40,6 +53,9 @@ class AppointmentTypeServiceTest {
 	@Mock
 	private UserRepository userRepository;
 
+	@Mock
+	private FirmRepository firmRepository;
+
 	@Mock
 	private SecurityContext securityContext;
 
@@ -49,6 +65,14 @@ class AppointmentTypeServiceTest {
 	@Mock
 	private Authentication authentication;
 
+	@Mock
+	private ReferenceDataCacheService referenceDataCacheService;
+
+	@Spy
+	private SearchResultCacheService searchResultCacheService = new SearchResultCacheServiceImpl(
+		new SimpleMeterRegistry(), 10, DataSize.ofMegabytes(1), Duration.ofMinutes(5), Duration.ofSeconds(2)
+	);
+
 	@InjectMocks
 	private AppointmentTypeServiceImpl appointmentTypeService;
 
@@ -76,28 +100,58 @@ class AppointmentTypeServiceTest {
 		when(userRepository.findOne(Mockito.<Specification<User>>any()))
 			.thenReturn(Optional.of(getUser()));
 
-		AppointmentType mockAppointmentType = AppointmentType.builder().name("Test Appointment Type").build();
+		AppointmentTypeSearchResponseDTO mockAppointmentType = new AppointmentTypeSearchResponseDTO(
+			1L, 0L, "Test Appointment Type", 30, 20000L, null, "#FFFFFF"
+		);
 
 		PageRequest pageRequest = PageRequest.of(0, 10);
-		Page<AppointmentType> appointmentTypes = new PageImpl<>(List.of(mockAppointmentType));
+		Page<AppointmentTypeSearchResponseDTO> appointmentTypes = new PageImpl<>(List.of(mockAppointmentType));
 
-		when(appointmentTypeRepository.findAll(Mockito.<Specification<AppointmentType>>any(), eq(pageRequest)))
-			.thenReturn(appointmentTypes);
+		when(appointmentTypeRepository.findAllProjected(
+			Mockito.<Specification<AppointmentType>>any(),
+			eq(AppointmentTypeSearchResponseDTO.PROJECTION),
+			eq(pageRequest)
+		)).thenReturn(appointmentTypes);
 
 		PaginatedAppointmentTypeRequestDTO paginatedRequest = new PaginatedAppointmentTypeRequestDTO();
 
-		Page<AppointmentType> result = appointmentTypeService.getAppointmentTypes(paginatedRequest);
+		Page<AppointmentTypeSearchResponseDTO> result = appointmentTypeService.getAppointmentTypes(paginatedRequest);
 
 		assertNotNull(result);
 		assertEquals(1, result.getTotalElements());
-		assertEquals("Test Appointment Type", result.getContent().getFirst().getName());
+		assertEquals("Test Appointment Type", result.getContent().getFirst().name());
 
-		verify(appointmentTypeRepository, times(1)).findAll(
+		verify(appointmentTypeRepository, times(1)).findAllProjected(
 			Mockito.<Specification<AppointmentType>>any(),
+			eq(AppointmentTypeSearchResponseDTO.PROJECTION),
 			eq(pageRequest)
 		);
 	}
 
+	/**
+	 * Tests the getAppointmentTypesETag method.
+	 * Verifies that the tag follows the firm's appointment type version and the requested page.
+	 */
+	@Test
+	void getAppointmentTypesETagTest() {
+		Firm firm = new Firm();
+		firm.setId(1L);
+		firm.setAppointmentTypeVersion(4L);
+		when(firmRepository.findById(1L)).thenReturn(Optional.of(firm));
+		PaginatedAppointmentTypeRequestDTO request = new PaginatedAppointmentTypeRequestDTO("Test");
+
+		String eTag = appointmentTypeService.getAppointmentTypesETag(request);
+		request.setPage(1);
+		String nextPageETag = appointmentTypeService.getAppointmentTypesETag(request);
+		firm.setAppointmentTypeVersion(5L);
+		String changedETag = appointmentTypeService.getAppointmentTypesETag(request);
+
+		assertTrue(eTag.startsWith("\"1-4-"));
+		assertNotEquals(eTag, nextPageETag);
+		assertTrue(changedETag.startsWith("\"1-5-"));
+		verifyNoInteractions(appointmentTypeRepository);
+	}
+
 	/**
 	 * Tests the createAppointmentType method when the request is valid.
 	 */
@@ -108,7 +162,8 @@ class AppointmentTypeServiceTest {
 		AppointmentTypeRequestDTO requestDto = AppointmentTypeRequestDTO.builder()
 			.name("New Appointment")
 			.durationMinutes(30)
-			.price(200.0)
+			.price(new BigDecimal("200"))
+			.currency(Currency.EUR)
 			.build();
 
 		AppointmentType mockAppointmentType = getAppointmentType();
@@ -120,9 +175,34 @@ class AppointmentTypeServiceTest {
 		assertNotNull(createdAppointmentType);
 		assertEquals("New Appointment", createdAppointmentType.getName());
 		assertEquals(30, createdAppointmentType.getDurationMinutes());
-		assertEquals(200.0, createdAppointmentType.getPrice());
+		assertEquals(new Money(20000L, Currency.EUR), createdAppointmentType.getPrice());
 
 		verify(appointmentTypeRepository, times(1)).create(Mockito.any(AppointmentType.class));
+		verify(firmRepository, times(1)).incrementAppointmentTypeVersion(1L);
+		verify(referenceDataCacheService, times(1)).evictAppointmentType(null);
+		verify(searchResultCacheService, times(1)).invalidate(1L, Entity.APPOINTMENT_TYPE);
+	}
+
+	/**
+	 * Tests the createAppointmentType method when the price has more decimals than its currency
+	 * or no currency.
+	 */
+	@Test
+	void createAppointmentTypeInvalidPriceTest() {
+		AppointmentTypeRequestDTO tooPrecise = AppointmentTypeRequestDTO.builder()
+			.name("New Appointment")
+			.price(new BigDecimal("19.999"))
+			.currency(Currency.EUR)
+			.build();
+		AppointmentTypeRequestDTO noCurrency = AppointmentTypeRequestDTO.builder()
+			.name("New Appointment")
+			.price(new BigDecimal("20"))
+			.build();
+
+		assertThrows(InvalidStateException.class, () -> appointmentTypeService.createAppointmentType(tooPrecise));
+		assertThrows(InvalidStateException.class, () -> appointmentTypeService.createAppointmentType(noCurrency));
+
+		verify(appointmentTypeRepository, never()).create(Mockito.any(AppointmentType.class));
 	}
 
 	/**
@@ -130,13 +210,18 @@ class AppointmentTypeServiceTest {
 	 */
 	@Test
 	void deleteAppointmentTypeTest() {
-		Long appointmentTypeId = 1L;
+		Long firmId = securityContextService.getAuthUserFirm().getId();
 
-		when(appointmentTypeRepository.existsById(appointmentTypeId)).thenReturn(true);
+		when(appointmentTypeRepository.deleteByFirmIdAndIdIn(firmId, Set.of(1L, 2L))).thenReturn(2);
 
-		appointmentTypeService.deleteAppointmentType(appointmentTypeId);
+		appointmentTypeService.deleteAppointmentType(List.of(1L, 2L));
 
-		verify(appointmentTypeRepository, times(1)).deleteById(appointmentTypeId);
+		verify(appointmentTypeRepository, times(1)).deleteByFirmIdAndIdIn(firmId, Set.of(1L, 2L));
+		verify(appointmentTypeRepository, never()).deleteById(anyLong());
+		verify(firmRepository, times(1)).incrementAppointmentTypeVersion(firmId);
+		verify(searchResultCacheService, times(1)).invalidate(firmId, Entity.APPOINTMENT_TYPE);
+		verify(referenceDataCacheService, times(1)).evictAppointmentType(1L);
+		verify(referenceDataCacheService, times(1)).evictAppointmentType(2L);
 	}
 
 	/**
@@ -144,18 +229,20 @@ class AppointmentTypeServiceTest {
 	 */
 	@Test
 	void deleteAppointmentTypeInvalidIdStateExceptionTest() {
-		Long appointmentTypeId = 1L;
+		Long firmId = securityContextService.getAuthUserFirm().getId();
 
-		when(appointmentTypeRepository.existsById(appointmentTypeId)).thenReturn(false);
+		when(appointmentTypeRepository.deleteByFirmIdAndIdIn(firmId, Set.of(1L))).thenReturn(0);
 
 		EntityNotFoundException thrownException = assertThrows(
 			EntityNotFoundException.class,
-			() -> appointmentTypeService.deleteAppointmentType(appointmentTypeId)
+			() -> appointmentTypeService.deleteAppointmentType(List.of(1L))
 		);
 
 		assertEquals("Appointment type does not exist.", thrownException.getMessage());
 
-		verify(appointmentTypeRepository, never()).deleteById(appointmentTypeId);
+		verify(firmRepository, never()).incrementAppointmentTypeVersion(any());
+		verify(referenceDataCacheService, never()).evictAppointmentType(any());
+		verify(searchResultCacheService, never()).invalidate(any(), any());
 	}
 
 	/**
@@ -167,19 +254,45 @@ class AppointmentTypeServiceTest {
 			.id(1L)
 			.name("updatedName")
 			.durationMinutes(60)
-			.price(100.0)
+			.price(new BigDecimal("100.5"))
+			.currency(Currency.CHF)
+			.version(2L)
 			.build();
 
-		when(appointmentTypeRepository.update(Mockito.any(AppointmentType.class))).thenReturn(requestDto.toModel(new Firm()));
+		when(appointmentTypeRepository.update(Mockito.any(AppointmentType.class), eq(1L))).thenReturn(requestDto.toModel(new Firm()));
 
 		AppointmentType updatedAppointmentType = appointmentTypeService.updateAppointmentType(requestDto);
 
 		assertNotNull(updatedAppointmentType);
 		assertEquals(requestDto.getName(), updatedAppointmentType.getName());
 		assertEquals(requestDto.getDurationMinutes(), updatedAppointmentType.getDurationMinutes());
-		assertEquals(requestDto.getPrice(), updatedAppointmentType.getPrice());
+		assertEquals(new Money(10050L, Currency.CHF), updatedAppointmentType.getPrice());
+
+		verify(appointmentTypeRepository, times(1)).update(Mockito.any(AppointmentType.class), eq(1L));
+		verify(firmRepository, times(1)).incrementAppointmentTypeVersion(1L);
+		verify(referenceDataCacheService, times(1)).evictAppointmentType(1L);
+		verify(searchResultCacheService, times(1)).invalidate(1L, Entity.APPOINTMENT_TYPE);
+	}
+
+	/**
+	 * Tests the updateAppointmentType method when the request carries no version.
+	 */
+	@Test
+	void updateAppointmentTypeWithoutVersionTest() {
+		AppointmentTypeRequestDTO requestDto = AppointmentTypeRequestDTO.builder()
+			.id(1L)
+			.name("updatedName")
+			.durationMinutes(60)
+			.build();
+
+		InvalidStateException exception = assertThrows(
+			InvalidStateException.class,
+			() -> appointmentTypeService.updateAppointmentType(requestDto)
+		);
 
-		verify(appointmentTypeRepository, times(1)).update(Mockito.any(AppointmentType.class));
+		assertEquals("Appointment type version is required for an update.", exception.getMessage());
+		verify(appointmentTypeRepository, never()).update(Mockito.any(AppointmentType.class), any());
+		verify(firmRepository, never()).incrementAppointmentTypeVersion(any());
 	}
 
 	/**
@@ -207,7 +320,8 @@ class AppointmentTypeServiceTest {
 		AppointmentType appointmentType = AppointmentType.builder()
 			.name("New Appointment")
 			.durationMinutes(30)
-			.price(200.0)
+			.priceMinorUnits(20000L)
+			.currency(Currency.EUR)
 			.firm(getUser().getFirm())
 			.build();
 
@@ -0,0 +1,261 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.dto.request.AvailabilityRequestDTO;
+import com.sinergy.chronosync.dto.response.EmployeeAvailabilityDTO;
+import com.sinergy.chronosync.dto.response.TimeSlotDTO;
+import com.sinergy.chronosync.exception.EntityNotFoundException;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.model.Firm;
+import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import com.sinergy.chronosync.model.user.UserRole;
+import com.sinergy.chronosync.repository.AppointmentRepository;
+import com.sinergy.chronosync.repository.AppointmentRepository.EmployeeRange;
+import com.sinergy.chronosync.repository.AppointmentTypeRepository;
+import com.sinergy.chronosync.repository.UserRepository;
+import com.sinergy.chronosync.service.impl.AvailabilityServiceImpl;
+import com.sinergy.chronosync.service.impl.BusySlotServiceImpl;
+import com.sinergy.chronosync.util.SlotBitmap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link AvailabilityServiceImpl}.
+ */
+class AvailabilityServiceTest {
+
+	@Mock
+	private AppointmentRepository appointmentRepository;
+	@Mock
+	private OccurrenceService occurrenceService;
+	@Mock
+	private AppointmentTypeRepository appointmentTypeRepository;
+	@Mock
+	private UserRepository userRepository;
+	@Mock
+	private SecurityContextService securityContextService;
+	@Mock
+	private ScheduleService scheduleService;
+
+	private AvailabilityServiceImpl availabilityService;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		availabilityService = new AvailabilityServiceImpl(
+			new BusySlotServiceImpl(appointmentRepository, occurrenceService, 1000, Duration.ofMinutes(10)),
+			scheduleService,
+			appointmentTypeRepository,
+			userRepository,
+			securityContextService,
+			62,
+			200,
+			4,
+			5000
+		);
+
+		Firm firm = new Firm();
+		firm.setId(1L);
+		when(securityContextService.getAuthUserFirm()).thenReturn(firm);
+
+		AppointmentType appointmentType = AppointmentType.builder().id(3L).durationMinutes(45).firm(firm).build();
+		when(appointmentTypeRepository.findById(3L)).thenReturn(Optional.of(appointmentType));
+		stubWorkingHours(new SlotBitmap().set(96, 204));
+	}
+
+	@AfterEach
+	void tearDown() {
+		availabilityService.shutdown();
+	}
+
+	/**
+	 * Tests that free time is the opening hours minus the appointments, keeping only
+	 * gaps long enough for the appointment type, for every bookable employee of the firm.
+	 */
+	@Test
+	void findAvailabilityTest() {
+		when(userRepository.findIdsByFirmIdAndRoleIn(1L, List.of(UserRole.EMPLOYEE, UserRole.MANAGER)))
+			.thenReturn(List.of(5L, 6L));
+		List<EmployeeRange> ranges = List.of(
+			range(5L, "2025-02-03T07:00", "2025-02-03T09:00"),
+			range(5L, "2025-02-03T09:30", "2025-02-03T10:00"),
+			range(5L, "2025-02-03T09:45", "2025-02-03T11:00"),
+			range(5L, "2025-02-03T16:30", "2025-02-04T08:30")
+		);
+		when(appointmentRepository.findEmployeeRanges(Set.of(5L, 6L), at("2025-02-03T00:00"), at("2025-02-05T00:00")))
+			.thenReturn(ranges);
+
+		List<EmployeeAvailabilityDTO> result = availabilityService.findAvailability(AvailabilityRequestDTO.builder()
+			.appointmentTypeId(3L)
+			.from(at("2025-02-03T00:00"))
+			.to(at("2025-02-04T12:00"))
+			.build());
+
+		assertThat(result).extracting(EmployeeAvailabilityDTO::employeeId).containsExactly(5L, 6L);
+		assertThat(result.get(0).slots()).containsExactly(
+			slot("2025-02-03T11:00", "2025-02-03T16:30"),
+			slot("2025-02-04T08:30", "2025-02-04T12:00")
+		);
+		assertThat(result.get(1).slots()).containsExactly(
+			slot("2025-02-03T08:00", "2025-02-03T17:00"),
+			slot("2025-02-04T08:00", "2025-02-04T12:00")
+		);
+	}
+
+	/**
+	 * Tests that busy slots are rounded outwards and the range inwards to whole slots,
+	 * and that slots shorter than the appointment type are left out.
+	 */
+	@Test
+	void findAvailabilityRoundingTest() {
+		when(userRepository.findIdsByFirmIdAndIdIn(1L, List.of(5L))).thenReturn(List.of(5L));
+		List<EmployeeRange> ranges = List.of(
+			range(5L, "2025-02-03T09:02", "2025-02-03T09:58"),
+			range(5L, "2025-02-03T10:40", "2025-02-03T11:00")
+		);
+		when(appointmentRepository.findEmployeeRanges(anyCollection(), any(), any())).thenReturn(ranges);
+
+		List<EmployeeAvailabilityDTO> result = availabilityService.findAvailability(AvailabilityRequestDTO.builder()
+			.employeeIds(List.of(5L))
+			.appointmentTypeId(3L)
+			.from(at("2025-02-03T08:03"))
+			.to(at("2025-02-03T13:59"))
+			.build());
+
+		assertThat(result.get(0).slots()).containsExactly(
+			slot("2025-02-03T08:05", "2025-02-03T09:00"),
+			slot("2025-02-03T11:00", "2025-02-03T13:55")
+		);
+	}
+
+	/**
+	 * Tests that free time is limited to the employee's effective working hours.
+	 */
+	@Test
+	void findAvailabilityWorkingHoursTest() {
+		when(userRepository.findIdsByFirmIdAndIdIn(1L, List.of(5L))).thenReturn(List.of(5L));
+		stubWorkingHours(new SlotBitmap().set(120, 144).set(156, 180));
+		List<EmployeeRange> ranges = List.of(range(5L, "2025-02-03T11:00", "2025-02-03T13:30"));
+		when(appointmentRepository.findEmployeeRanges(anyCollection(), any(), any())).thenReturn(ranges);
+
+		List<EmployeeAvailabilityDTO> result = availabilityService.findAvailability(AvailabilityRequestDTO.builder()
+			.employeeIds(List.of(5L))
+			.appointmentTypeId(3L)
+			.from(at("2025-02-03T00:00"))
+			.to(at("2025-02-04T00:00"))
+			.build());
+
+		assertThat(result.get(0).slots()).containsExactly(
+			slot("2025-02-03T10:00", "2025-02-03T11:00"),
+			slot("2025-02-03T13:30", "2025-02-03T15:00")
+		);
+		verify(scheduleService, times(1))
+			.findWorkingSlots(List.of(5L), LocalDate.parse("2025-02-03"), LocalDate.parse("2025-02-04"));
+	}
+
+	/**
+	 * Tests that requested employees are restricted to the firm and searched in parallel.
+	 */
+	@Test
+	void findAvailabilityManyEmployeesTest() {
+		List<Long> employeeIds = new ArrayList<>();
+		for (long id = 1; id <= 100; id++) {
+			employeeIds.add(id);
+		}
+		when(userRepository.findIdsByFirmIdAndIdIn(1L, employeeIds)).thenReturn(employeeIds);
+
+		List<EmployeeAvailabilityDTO> result = availabilityService.findAvailability(AvailabilityRequestDTO.builder()
+			.employeeIds(employeeIds)
+			.appointmentTypeId(3L)
+			.from(at("2025-02-01T00:00"))
+			.to(at("2025-03-01T00:00"))
+			.build());
+
+		assertThat(result).hasSize(100);
+		assertThat(result).allSatisfy(availability -> assertThat(availability.slots()).hasSize(28));
+		verify(appointmentRepository, times(1)).findEmployeeRanges(anyCollection(), any(), any());
+	}
+
+	/**
+	 * Tests that invalid ranges and appointment types of other firms are rejected.
+	 */
+	@Test
+	void findAvailabilityInvalidRequestTest() {
+		assertThatThrownBy(() -> availabilityService.findAvailability(AvailabilityRequestDTO.builder()
+			.appointmentTypeId(3L)
+			.from(at("2025-02-03T00:00"))
+			.to(at("2025-02-03T00:00"))
+			.build()))
+			.isInstanceOf(InvalidStateException.class);
+		assertThatThrownBy(() -> availabilityService.findAvailability(AvailabilityRequestDTO.builder()
+			.appointmentTypeId(3L)
+			.from(at("2025-01-01T00:00"))
+			.to(at("2025-06-01T00:00"))
+			.build()))
+			.isInstanceOf(InvalidStateException.class);
+
+		Firm otherFirm = new Firm();
+		otherFirm.setId(2L);
+		when(appointmentTypeRepository.findById(4L))
+			.thenReturn(Optional.of(AppointmentType.builder().id(4L).durationMinutes(30).firm(otherFirm).build()));
+		assertThatThrownBy(() -> availabilityService.findAvailability(AvailabilityRequestDTO.builder()
+			.appointmentTypeId(4L)
+			.from(at("2025-02-03T00:00"))
+			.to(at("2025-02-04T00:00"))
+			.build()))
+			.isInstanceOf(EntityNotFoundException.class);
+
+		verifyNoInteractions(appointmentRepository);
+	}
+
+	private void stubWorkingHours(SlotBitmap workingDay) {
+		doAnswer(invocation -> {
+			Collection<Long> employeeIds = invocation.getArgument(0);
+			SlotBitmap[] days = new SlotBitmap[(int) ChronoUnit.DAYS.between(
+				invocation.<LocalDate>getArgument(1),
+				invocation.<LocalDate>getArgument(2)
+			)];
+			Arrays.fill(days, workingDay);
+			Map<Long, SlotBitmap[]> working = new HashMap<>();
+			employeeIds.forEach(id -> working.put(id, days));
+			return working;
+		}).when(scheduleService).findWorkingSlots(anyCollection(), any(), any());
+	}
+
+	private static LocalDateTime at(String dateTime) {
+		return LocalDateTime.parse(dateTime);
+	}
+
+	private static TimeSlotDTO slot(String start, String end) {
+		return new TimeSlotDTO(at(start), at(end));
+	}
+
+	private static EmployeeRange range(Long employeeId, String start, String end) {
+		EmployeeRange range = mock(EmployeeRange.class);
+		when(range.getEmployeeId()).thenReturn(employeeId);
+		when(range.getStartDateTime()).thenReturn(at(start));
+		when(range.getEndDateTime()).thenReturn(at(end));
+		return range;
+	}
+}
@@ -0,0 +1,124 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.repository.AppointmentRepository;
+import com.sinergy.chronosync.repository.AppointmentRepository.EmployeeRange;
+import com.sinergy.chronosync.service.impl.BusySlotServiceImpl;
+import com.sinergy.chronosync.util.SlotBitmap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link BusySlotServiceImpl}.
+ */
+class BusySlotServiceTest {
+
+	private static final LocalDate MONDAY = LocalDate.parse("2025-02-03");
+
+	@Mock
+	private AppointmentRepository appointmentRepository;
+	@Mock
+	private OccurrenceService occurrenceService;
+
+	private BusySlotServiceImpl busySlotService;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		busySlotService = new BusySlotServiceImpl(appointmentRepository, occurrenceService, 1000, Duration.ofMinutes(10));
+	}
+
+	/**
+	 * Tests that the days of all employees are loaded with one query, including
+	 * appointments that span midnight, and served from the cache afterwards.
+	 */
+	@Test
+	void findBusySlotsTest() {
+		List<EmployeeRange> ranges = List.of(
+			range(1L, 5L, "2025-02-03T09:00", "2025-02-03T10:00"),
+			range(2L, 6L, "2025-02-03T23:30", "2025-02-04T00:30")
+		);
+		when(appointmentRepository.findEmployeeRanges(
+			Set.of(5L, 6L), MONDAY.atStartOfDay(), MONDAY.plusDays(2).atStartOfDay()
+		)).thenReturn(ranges);
+
+		Map<Long, SlotBitmap[]> busy = busySlotService.findBusySlots(List.of(5L, 6L), MONDAY, MONDAY.plusDays(2));
+		Map<Long, SlotBitmap[]> cached = busySlotService.findBusySlots(List.of(5L), MONDAY.plusDays(1), MONDAY.plusDays(2));
+
+		assertThat(busy.get(5L)[0]).isEqualTo(new SlotBitmap().set(108, 120));
+		assertThat(busy.get(5L)[1].isEmpty()).isTrue();
+		assertThat(busy.get(6L)[0]).isEqualTo(new SlotBitmap().set(282, SlotBitmap.SLOTS_PER_DAY));
+		assertThat(busy.get(6L)[1]).isEqualTo(new SlotBitmap().set(0, 6));
+		assertThat(cached.get(5L)[0]).isSameAs(busy.get(5L)[1]);
+		verify(appointmentRepository, times(1)).findEmployeeRanges(anyCollection(), any(), any());
+	}
+
+	/**
+	 * Tests that only the employees and days missing from the cache are loaded.
+	 */
+	@Test
+	void findBusySlotsPartiallyCachedTest() {
+		busySlotService.findBusySlots(List.of(5L), MONDAY, MONDAY.plusDays(1));
+
+		busySlotService.findBusySlots(List.of(5L, 6L), MONDAY, MONDAY.plusDays(1));
+		busySlotService.findBusySlots(List.of(5L), MONDAY, MONDAY.plusDays(3));
+
+		verify(appointmentRepository, times(1))
+			.findEmployeeRanges(Set.of(5L), MONDAY.atStartOfDay(), MONDAY.plusDays(1).atStartOfDay());
+		verify(appointmentRepository, times(1))
+			.findEmployeeRanges(Set.of(6L), MONDAY.atStartOfDay(), MONDAY.plusDays(1).atStartOfDay());
+		verify(appointmentRepository, times(1))
+			.findEmployeeRanges(Set.of(5L), MONDAY.plusDays(1).atStartOfDay(), MONDAY.plusDays(3).atStartOfDay());
+	}
+
+	/**
+	 * Tests that saving an appointment discards the cached days of both its previous
+	 * and its new employee, and deleting one discards those of its employee.
+	 */
+	@Test
+	void evictTest() {
+		List<EmployeeRange> ranges = List.of(
+			range(1L, 5L, "2025-02-03T09:00", "2025-02-03T10:00"),
+			range(2L, 7L, "2025-02-03T11:00", "2025-02-03T12:00")
+		);
+		when(appointmentRepository.findEmployeeRanges(anyCollection(), any(), any())).thenAnswer(invocation -> {
+			Collection<Long> employeeIds = invocation.getArgument(0);
+			return ranges.stream().filter(range -> employeeIds.contains(range.getEmployeeId())).toList();
+		});
+		busySlotService.findBusySlots(List.of(5L, 6L, 7L), MONDAY, MONDAY.plusDays(1));
+
+		busySlotService.evictSaved(1L, 6L);
+		busySlotService.findBusySlots(List.of(5L, 6L, 7L), MONDAY, MONDAY.plusDays(1));
+		verify(appointmentRepository, times(1))
+			.findEmployeeRanges(Set.of(5L, 6L), MONDAY.atStartOfDay(), MONDAY.plusDays(1).atStartOfDay());
+
+		busySlotService.evictDeleted(List.of(2L));
+		busySlotService.findBusySlots(List.of(5L, 6L, 7L), MONDAY, MONDAY.plusDays(1));
+		verify(appointmentRepository, times(1))
+			.findEmployeeRanges(Set.of(7L), MONDAY.atStartOfDay(), MONDAY.plusDays(1).atStartOfDay());
+		verify(appointmentRepository, times(3)).findEmployeeRanges(anyCollection(), any(), any());
+	}
+
+	private static EmployeeRange range(Long id, Long employeeId, String start, String end) {
+		EmployeeRange range = mock(EmployeeRange.class);
+		when(range.getId()).thenReturn(id);
+		when(range.getEmployeeId()).thenReturn(employeeId);
+		when(range.getStartDateTime()).thenReturn(LocalDateTime.parse(start));
+		when(range.getEndDateTime()).thenReturn(LocalDateTime.parse(end));
+		return range;
+	}
+}
@@ -0,0 +1,207 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.dto.response.CalendarEntryDTO;
+import com.sinergy.chronosync.dto.response.CalendarFeedTokenDTO;
+import com.sinergy.chronosync.exception.EntityNotFoundException;
+import com.sinergy.chronosync.model.CalendarFeedToken;
+import com.sinergy.chronosync.model.Firm;
+import com.sinergy.chronosync.model.user.User;
+import com.sinergy.chronosync.repository.AppointmentRepository;
+import com.sinergy.chronosync.repository.AppointmentRepository.ChangeSummary;
+import com.sinergy.chronosync.repository.AppointmentSeriesRepository;
+import com.sinergy.chronosync.repository.CalendarFeedTokenRepository;
+import com.sinergy.chronosync.repository.CalendarFeedTokenRepository.FeedOwner;
+import com.sinergy.chronosync.repository.CancelledOccurrenceRepository;
+import com.sinergy.chronosync.service.CalendarFeedService.CalendarFeed;
+import com.sinergy.chronosync.service.OccurrenceService.Occurrence;
+import com.sinergy.chronosync.service.impl.CalendarFeedServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link CalendarFeedServiceImpl}.
+ */
+class CalendarFeedServiceTest {
+
+	private static final LocalDateTime START = LocalDate.now().atTime(9, 0);
+
+	@Mock
+	private CalendarFeedTokenRepository calendarFeedTokenRepository;
+	@Mock
+	private AppointmentRepository appointmentRepository;
+	@Mock
+	private AppointmentSeriesRepository appointmentSeriesRepository;
+	@Mock
+	private CancelledOccurrenceRepository cancelledOccurrenceRepository;
+	@Mock
+	private OccurrenceService occurrenceService;
+	@Mock
+	private SecurityContextService securityContextService;
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@InjectMocks
+	private CalendarFeedServiceImpl calendarFeedService;
+
+	private FeedOwner owner;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		ReflectionTestUtils.setField(calendarFeedService, "pastDays", 30);
+		ReflectionTestUtils.setField(calendarFeedService, "futureDays", 60);
+		ReflectionTestUtils.setField(calendarFeedService, "fetchSize", 100);
+
+		owner = mock(FeedOwner.class);
+		when(owner.getEmployeeId()).thenReturn(5L);
+		when(owner.getFirmId()).thenReturn(1L);
+		when(calendarFeedTokenRepository.findOwnerByTokenHash(anyString())).thenReturn(Optional.empty());
+
+		ChangeSummary appointments = summary(2L, 40L, START.minusDays(1));
+		ChangeSummary series = summary(1L, 3L, START.minusDays(2));
+		ChangeSummary cancelled = summary(0L, null, null);
+		when(appointmentRepository.summarizeByEmployeeId(5L)).thenReturn(appointments);
+		when(appointmentSeriesRepository.summarizeByEmployeeId(5L)).thenReturn(series);
+		when(cancelledOccurrenceRepository.summarizeByEmployeeId(5L)).thenReturn(cancelled);
+		when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+	}
+
+	/**
+	 * Tests that a new token replaces the previous one and that only its hash is stored.
+	 */
+	@Test
+	void createTokenTest() {
+		User user = new User();
+		user.setId(5L);
+		Firm firm = new Firm();
+		firm.setId(1L);
+		when(securityContextService.getAuthUser()).thenReturn(user);
+		when(securityContextService.getAuthUserFirm()).thenReturn(firm);
+
+		CalendarFeedTokenDTO token = calendarFeedService.createToken();
+
+		ArgumentCaptor<CalendarFeedToken> stored = ArgumentCaptor.forClass(CalendarFeedToken.class);
+		verify(calendarFeedTokenRepository).deleteByEmployeeId(5L);
+		verify(calendarFeedTokenRepository).create(stored.capture());
+		assertThat(token.token()).hasSize(43);
+		assertThat(token.path()).isEqualTo("/api/v1/calendar-feed/ics/" + token.token());
+		assertThat(stored.getValue().getTokenHash()).hasSize(64).isNotEqualTo(token.token());
+		assertThat(stored.getValue().getEmployee()).isSameAs(user);
+	}
+
+	/**
+	 * Tests that revoking a missing token fails.
+	 */
+	@Test
+	void revokeTokenTest() {
+		User user = new User();
+		user.setId(5L);
+		when(securityContextService.getAuthUser()).thenReturn(user);
+		when(calendarFeedTokenRepository.deleteByEmployeeId(5L)).thenReturn(1, 0);
+
+		calendarFeedService.revokeToken();
+
+		assertThatThrownBy(() -> calendarFeedService.revokeToken()).isInstanceOf(EntityNotFoundException.class);
+	}
+
+	/**
+	 * Tests that an unknown or revoked token is not found.
+	 */
+	@Test
+	void getFeedUnknownTokenTest() {
+		assertThatThrownBy(() -> calendarFeedService.getFeed("unknown", null))
+			.isInstanceOf(EntityNotFoundException.class);
+		verifyNoInteractions(appointmentRepository);
+	}
+
+	/**
+	 * Tests that the feed merges stored appointments with generated occurrences into events
+	 * in UTC, and that a client holding the returned entity tag is answered without reading
+	 * any appointment.
+	 */
+	@Test
+	void getFeedTest() throws Exception {
+		when(calendarFeedTokenRepository.findOwnerByTokenHash(anyString())).thenReturn(Optional.of(owner));
+		CalendarEntryDTO first = new CalendarEntryDTO(3L, "FREQ=DAILY", "Weekly, check", START, START.plusHours(1),
+			5L, "Emp", "Loyee", 7L, "Cli", "Ent", 2L, "Therapy", "#fff");
+		CalendarEntryDTO appointment = new CalendarEntryDTO(9L, null, null, null, null, START.plusDays(1).plusHours(2),
+			START.plusDays(1).plusHours(3), true, false, 5L, "Emp", "Loyee", null, null, null, null, null, null);
+		when(appointmentSeriesRepository.findAllProjected(any(), eq(CalendarEntryDTO.SERIES_PROJECTION), any()))
+			.thenReturn(new PageImpl<>(List.of(first)));
+		when(occurrenceService.expand(eq(List.of(first.toRecurrence())), any(), any()))
+			.thenReturn(List.of(new Occurrence(3L, 5L, START.plusDays(1), START.plusDays(1).plusHours(1))).iterator());
+		when(appointmentRepository.streamAllProjected(any(), eq(CalendarEntryDTO.PROJECTION), any(Sort.class), anyInt()))
+			.thenReturn(Stream.of(appointment));
+
+		CalendarFeed feed = calendarFeedService.getFeed("token", null);
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		feed.body().writeTo(outputStream);
+		String ics = outputStream.toString(StandardCharsets.UTF_8);
+
+		assertThat(feed.eTag()).matches("\"[0-9a-f]{32}\"");
+		assertThat(ics).startsWith("BEGIN:VCALENDAR\r\n").endsWith("END:VCALENDAR\r\n");
+		assertThat(ics.indexOf("UID:series-3-")).isLessThan(ics.indexOf("UID:appointment-9@chronosync"));
+		assertThat(ics)
+			.contains("SUMMARY:Therapy - Cli Ent\r\n")
+			.contains("DESCRIPTION:Weekly\\, check\r\n")
+			.contains("SUMMARY:Appointment\r\n")
+			.contains("DTSTAMP:" + START.minusDays(1).toLocalDate().toString().replace("-", "") + "T090000Z\r\n");
+
+		clearInvocations(appointmentRepository);
+		CalendarFeed unchanged = calendarFeedService.getFeed("token", "W/\"other\", " + feed.eTag());
+
+		assertThat(unchanged.isModified()).isFalse();
+		assertThat(unchanged.eTag()).isEqualTo(feed.eTag());
+		verify(appointmentRepository, never()).streamAllProjected(any(), any(), any(Sort.class), anyInt());
+	}
+
+	/**
+	 * Tests that any change to the employee's appointments changes the entity tag.
+	 */
+	@Test
+	void getFeedChangedTest() {
+		when(calendarFeedTokenRepository.findOwnerByTokenHash(anyString())).thenReturn(Optional.of(owner));
+		String eTag = calendarFeedService.getFeed("token", null).eTag();
+
+		ChangeSummary deleted = summary(1L, 40L, START.minusDays(1));
+		when(appointmentRepository.summarizeByEmployeeId(5L)).thenReturn(deleted);
+
+		CalendarFeed feed = calendarFeedService.getFeed("token", eTag);
+
+		assertThat(feed.isModified()).isTrue();
+		assertThat(feed.eTag()).isNotEqualTo(eTag);
+	}
+
+	private static ChangeSummary summary(Long count, Long maxId, LocalDateTime updatedAt) {
+		ChangeSummary summary = mock(ChangeSummary.class);
+		when(summary.getCount()).thenReturn(count);
+		when(summary.getMaxId()).thenReturn(maxId);
+		when(summary.getUpdatedAt()).thenReturn(updatedAt);
+		return summary;
+	}
+}
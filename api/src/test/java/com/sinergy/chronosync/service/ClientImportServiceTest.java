@@ -0,0 +1,139 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.dto.request.ClientRequestDTO;
+import com.sinergy.chronosync.dto.response.ClientImportResponseDTO;
+import com.sinergy.chronosync.dto.response.ClientImportResponseDTO.RowError;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.model.Client;
+import com.sinergy.chronosync.model.Firm;
+import com.sinergy.chronosync.model.user.User;
+import com.sinergy.chronosync.repository.ClientRepository;
+import com.sinergy.chronosync.service.SearchResultCacheService.Entity;
+import com.sinergy.chronosync.service.impl.ClientImportServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link ClientImportServiceImpl}.
+ */
+class ClientImportServiceTest {
+
+	@Mock
+	private ClientRepository clientRepository;
+	@Mock
+	private SecurityContextService securityContextService;
+	@Mock
+	private SearchResultCacheService searchResultCacheService;
+
+	@InjectMocks
+	private ClientImportServiceImpl clientImportService;
+
+	private Firm firm;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		ReflectionTestUtils.setField(clientImportService, "batchSize", 2);
+		ReflectionTestUtils.setField(clientImportService, "maxRows", 10);
+
+		firm = new Firm();
+		firm.setId(1L);
+		User user = new User();
+		user.setId(7L);
+		when(securityContextService.getAuthUserFirm()).thenReturn(firm);
+		when(securityContextService.getAuthUser()).thenReturn(user);
+		when(clientRepository.reserveIds(anyInt())).thenAnswer(invocation -> {
+			int count = invocation.getArgument(0);
+			return LongStream.rangeClosed(100, 99 + count).boxed().toList();
+		});
+	}
+
+	/**
+	 * Tests that invalid rows are reported without being inserted, valid rows are
+	 * inserted in batches with reserved IDs, and duplicates are reported per row.
+	 */
+	@SuppressWarnings("unchecked")
+	@Test
+	void importClientsTest() {
+		List<ClientRequestDTO> rows = List.of(
+			ClientRequestDTO.builder().firstName("John").lastName("Doe").build(),
+			ClientRequestDTO.builder().firstName("").lastName("Doe").build(),
+			ClientRequestDTO.builder().firstName("Jane").lastName("Doe").email("not-an-email").build(),
+			ClientRequestDTO.builder().firstName("John").lastName("Doe").build(),
+			ClientRequestDTO.builder().firstName("Mark").lastName("Roe").email("mark@example.com").build()
+		);
+		when(clientRepository.insertAllSkippingDuplicates(anyList(), anyInt()))
+			.thenReturn(new boolean[]{true, false})
+			.thenReturn(new boolean[]{true});
+
+		ClientImportResponseDTO result = clientImportService.importClients(rows);
+
+		assertThat(result.received()).isEqualTo(5);
+		assertThat(result.imported()).isEqualTo(2);
+		assertThat(result.errors()).extracting(RowError::row).containsExactly(2, 3, 4);
+
+		ArgumentCaptor<List<Client>> batches = ArgumentCaptor.forClass(List.class);
+		verify(clientRepository, times(2)).insertAllSkippingDuplicates(batches.capture(), eq(2));
+		Client first = batches.getAllValues().getFirst().getFirst();
+		assertThat(first.getId()).isEqualTo(100L);
+		assertThat(first.getFirm()).isEqualTo(firm);
+		assertThat(first.getCreatedBy().getId()).isEqualTo(7L);
+		assertThat(first.getCreatedAt()).isNotNull();
+		verify(searchResultCacheService, times(1)).invalidate(1L, Entity.CLIENT);
+	}
+
+	/**
+	 * Tests that imports above the row limit are rejected before anything is written.
+	 */
+	@Test
+	void importClientsTooManyRowsTest() {
+		List<ClientRequestDTO> rows = Collections.nCopies(
+			11,
+			ClientRequestDTO.builder().firstName("John").lastName("Doe").build()
+		);
+
+		assertThatThrownBy(() -> clientImportService.importClients(rows))
+			.isInstanceOf(InvalidStateException.class);
+
+		verifyNoInteractions(clientRepository);
+	}
+
+	/**
+	 * Tests that CSV columns are mapped by header name and empty fields are imported as missing values.
+	 */
+	@SuppressWarnings("unchecked")
+	@Test
+	void importClientsCsvTest() {
+		when(clientRepository.insertAllSkippingDuplicates(anyList(), anyInt())).thenReturn(new boolean[]{true});
+
+		ClientImportResponseDTO result = clientImportService.importClientsCsv(
+			new StringReader("LastName,firstName,email,ignored\r\nDoe,John,,x\r\n")
+		);
+
+		assertThat(result.imported()).isEqualTo(1);
+
+		ArgumentCaptor<List<Client>> batch = ArgumentCaptor.forClass(List.class);
+		verify(clientRepository).insertAllSkippingDuplicates(batch.capture(), anyInt());
+		Client client = batch.getValue().getFirst();
+		assertThat(client.getFirstName()).isEqualTo("John");
+		assertThat(client.getLastName()).isEqualTo("Doe");
+		assertThat(client.getEmail()).isNull();
+	}
+}
@@ -2,20 +2,26 @@ package com.sinergy.chronosync.service;
 
 import com.sinergy.chronosync.dto.request.ClientRequestDTO;
 import com.sinergy.chronosync.dto.request.PaginatedClientRequestDTO;
+import com.sinergy.chronosync.dto.response.ClientSearchResponseDTO;
 import com.sinergy.chronosync.exception.EntityNotFoundException;
+import com.sinergy.chronosync.exception.InvalidStateException;
 import com.sinergy.chronosync.exception.RepositoryException;
 import com.sinergy.chronosync.model.Client;
 import com.sinergy.chronosync.model.Firm;
 import com.sinergy.chronosync.model.user.User;
 import com.sinergy.chronosync.repository.ClientRepository;
 import com.sinergy.chronosync.repository.UserRepository;
+import com.sinergy.chronosync.service.SearchResultCacheService.Entity;
 import com.sinergy.chronosync.service.impl.ClientServiceImpl;
+import com.sinergy.chronosync.service.impl.SearchResultCacheServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -23,9 +29,12 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.unit.DataSize;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -41,6 +50,11 @@ class ClientServiceTest {
 	@Mock
 	private UserRepository userRepository;
 
+	@Spy
+	private SearchResultCacheService searchResultCacheService = new SearchResultCacheServiceImpl(
+		new SimpleMeterRegistry(), 10, DataSize.ofMegabytes(1), Duration.ofMinutes(5), Duration.ofSeconds(2)
+	);
+
 	@InjectMocks
 	private ClientServiceImpl clientService;
 
@@ -75,27 +89,60 @@ class ClientServiceTest {
 	@Test
 	void getClientsTest() {
 		PaginatedClientRequestDTO paginatedRequest = new PaginatedClientRequestDTO();
-		ClientRequestDTO newClient = ClientRequestDTO.builder()
-			.firstName("John")
-			.lastName("Doe")
-			.email("john@doe.com")
-			.phone("123-456-789")
-			.build();
-
-		Firm firm = new Firm();
-		firm.setId(1L);
+		ClientSearchResponseDTO newClient = new ClientSearchResponseDTO(
+			1L, 0L, "John", "Doe", "john@doe.com", "123-456-789", null, null
+		);
 
-		Page<Client> clients = new PageImpl<>(List.of(newClient.toModel(firm)));
+		Page<ClientSearchResponseDTO> clients = new PageImpl<>(List.of(newClient));
 
-		when(clientRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(clients);
+		when(clientRepository.findAllProjected(
+			Mockito.<Specification<Client>>any(),
+			eq(ClientSearchResponseDTO.PROJECTION),
+			any(Pageable.class)
+		)).thenReturn(clients);
 
-		Page<Client> result = clientService.getClients(paginatedRequest);
+		Page<ClientSearchResponseDTO> result = clientService.getClients(paginatedRequest);
 
 		assertNotNull(result, "Result should not be null");
 		assertEquals(1, result.getTotalElements(), "Should contain 1 client");
-		assertEquals("John", result.getContent().getFirst().getFirstName());
+		assertEquals("John", result.getContent().getFirst().firstName());
 
-		verify(clientRepository, times(1)).findAll(any(Specification.class), any(Pageable.class));
+		verify(clientRepository, times(1)).findAllProjected(
+			Mockito.<Specification<Client>>any(),
+			eq(ClientSearchResponseDTO.PROJECTION),
+			any(Pageable.class)
+		);
+	}
+
+	/**
+	 * Tests that searches differing only in case or empty filters share a cached page, and
+	 * that the page is searched again after a client of the firm changes.
+	 */
+	@Test
+	void getClientsCachedTest() {
+		when(clientRepository.findAllProjected(
+			Mockito.<Specification<Client>>any(),
+			eq(ClientSearchResponseDTO.PROJECTION),
+			any(Pageable.class)
+		)).thenReturn(new PageImpl<>(List.of()));
+
+		clientService.getClients(new PaginatedClientRequestDTO("John", null, "", null, null));
+		clientService.getClients(new PaginatedClientRequestDTO("john", "", null, null, null));
+		searchResultCacheService.invalidate(1L, Entity.APPOINTMENT_TYPE);
+		clientService.getClients(new PaginatedClientRequestDTO("JOHN", null, null, null, null));
+		verify(clientRepository, times(1)).findAllProjected(
+			Mockito.<Specification<Client>>any(),
+			eq(ClientSearchResponseDTO.PROJECTION),
+			any(Pageable.class)
+		);
+
+		searchResultCacheService.invalidate(1L, Entity.CLIENT);
+		clientService.getClients(new PaginatedClientRequestDTO("John", null, null, null, null));
+		verify(clientRepository, times(2)).findAllProjected(
+			Mockito.<Specification<Client>>any(),
+			eq(ClientSearchResponseDTO.PROJECTION),
+			any(Pageable.class)
+		);
 	}
 
 	/**
@@ -131,6 +178,7 @@ class ClientServiceTest {
 		assertEquals("john.doe@example.com", createdClient.getEmail());
 
 		verify(clientRepository, times(1)).create(any(Client.class));
+		verify(searchResultCacheService, times(1)).invalidate(1L, Entity.CLIENT);
 	}
 
 	/**
@@ -143,9 +191,10 @@ class ClientServiceTest {
 			.lastName("Doe")
 			.email("jane.doe@example.com")
 			.phone("987654321")
+			.version(2L)
 			.build();
 
-		when(clientRepository.update(any(Client.class)))
+		when(clientRepository.update(any(Client.class), eq(1L)))
 			.thenAnswer(invocation -> invocation.getArgument(0));
 
 		Client updatedClient = clientService.updateClient(requestDto);
@@ -155,7 +204,8 @@ class ClientServiceTest {
 		assertEquals(requestDto.getLastName(), updatedClient.getLastName());
 		assertEquals(requestDto.getEmail(), updatedClient.getEmail());
 
-		verify(clientRepository, times(1)).update(any(Client.class));
+		verify(clientRepository, times(1)).update(any(Client.class), eq(1L));
+		verify(searchResultCacheService, times(1)).invalidate(1L, Entity.CLIENT);
 	}
 
 	/**
@@ -168,38 +218,66 @@ class ClientServiceTest {
 			.lastName("Doe")
 			.email("john.doe@example.com")
 			.phone("987654321")
+			.version(2L)
 			.build();
 
-		when(clientRepository.update(any(Client.class))).thenThrow(RepositoryException.class);
+		when(clientRepository.update(any(Client.class), eq(1L))).thenThrow(RepositoryException.class);
 
 		assertThrows(RepositoryException.class, () -> clientService.updateClient(requestDto));
 
-		verify(clientRepository, times(1)).update(any(Client.class));
+		verify(clientRepository, times(1)).update(any(Client.class), eq(1L));
 	}
 
 	/**
-	 * Tests the deleteClient method when the client exists.
+	 * Tests the updateClient method when the request carries no version.
+	 */
+	@Test
+	void updateClientWithoutVersionTest() {
+		ClientRequestDTO requestDto = ClientRequestDTO.builder()
+			.id(1L)
+			.firstName("Jane")
+			.lastName("Doe")
+			.build();
+
+		InvalidStateException exception = assertThrows(
+			InvalidStateException.class,
+			() -> clientService.updateClient(requestDto)
+		);
+
+		assertEquals("Client version is required for an update.", exception.getMessage());
+		verify(clientRepository, never()).update(any(Client.class), any());
+		verify(searchResultCacheService, never()).invalidate(any(), any());
+	}
+
+	/**
+	 * Tests the deleteClient method when all clients exist within the firm.
+	 * Duplicate IDs are collapsed and the delete is scoped to the user's firm.
 	 */
 	@Test
 	void deleteClientTest() {
-		Long clientId = 1L;
-		when(clientRepository.existsById(clientId)).thenReturn(true);
-		clientService.deleteClient(clientId);
-		verify(clientRepository, times(1)).deleteById(clientId);
+		Long firmId = securityContextService.getAuthUserFirm().getId();
+		when(clientRepository.deleteByFirmIdAndIdIn(firmId, Set.of(1L, 2L))).thenReturn(2);
+
+		clientService.deleteClient(List.of(1L, 2L, 2L));
+
+		verify(clientRepository, times(1)).deleteByFirmIdAndIdIn(firmId, Set.of(1L, 2L));
+		verify(clientRepository, never()).existsById(anyLong());
+		verify(clientRepository, never()).deleteById(anyLong());
+		verify(searchResultCacheService, times(1)).invalidate(firmId, Entity.CLIENT);
 	}
 
 	/**
-	 * Tests the deleteClient method when the client doesn't exist.
+	 * Tests the deleteClient method when a client doesn't exist within the firm.
 	 */
 	@Test
 	void deleteClientNotFoundTest() {
-		Long clientId = 1L;
-		when(clientRepository.existsById(clientId)).thenReturn(false);
+		Long firmId = securityContextService.getAuthUserFirm().getId();
+		when(clientRepository.deleteByFirmIdAndIdIn(firmId, Set.of(1L, 2L))).thenReturn(1);
 
 		EntityNotFoundException thrownException = assertThrows(EntityNotFoundException.class, () ->
-			clientService.deleteClient(clientId));
+			clientService.deleteClient(List.of(1L, 2L)));
 
 		assertEquals("Client not found", thrownException.getMessage());
-		verify(clientRepository, never()).deleteById(clientId);
+		verify(searchResultCacheService, never()).invalidate(any(), any());
 	}
 }
@@ -0,0 +1,155 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.dto.request.ExchangeRateDTO;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.model.ExchangeRate;
+import com.sinergy.chronosync.model.Firm;
+import com.sinergy.chronosync.model.appointmentType.Currency;
+import com.sinergy.chronosync.repository.AppointmentTypeRepository;
+import com.sinergy.chronosync.repository.ExchangeRateRepository;
+import com.sinergy.chronosync.repository.ExchangeRateRepository.ExchangeRateRow;
+import com.sinergy.chronosync.service.impl.ExchangeRateServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link ExchangeRateServiceImpl}.
+ */
+class ExchangeRateServiceTest {
+
+	@Mock
+	private ExchangeRateRepository exchangeRateRepository;
+	@Mock
+	private AppointmentTypeRepository appointmentTypeRepository;
+	@Mock
+	private SecurityContextService securityContextService;
+
+	private ExchangeRateServiceImpl exchangeRateService;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		exchangeRateService = new ExchangeRateServiceImpl(
+			exchangeRateRepository,
+			appointmentTypeRepository,
+			securityContextService,
+			100,
+			Duration.ofHours(1)
+		);
+
+		Firm firm = new Firm();
+		firm.setId(1L);
+		when(securityContextService.getAuthUserFirm()).thenReturn(firm);
+	}
+
+	/**
+	 * Tests that the rates into a currency are read once per firm and cached, and that the
+	 * target currency converts into itself.
+	 */
+	@Test
+	void getRatesIntoTest() {
+		List<ExchangeRateRow> rows = List.of(
+			row(Currency.CHF, Currency.EUR, "1.05"),
+			row(Currency.CHF, Currency.USD, "1.13"),
+			row(Currency.GBP, Currency.EUR, "1.17")
+		);
+		when(exchangeRateRepository.findRowsByFirmId(1L)).thenReturn(rows);
+		when(appointmentTypeRepository.findCurrenciesByFirmId(1L)).thenReturn(List.of(Currency.CHF, Currency.EUR));
+
+		Map<Currency, BigDecimal> rates = exchangeRateService.getRatesInto(1L, Currency.EUR);
+		exchangeRateService.getRatesInto(1L, Currency.EUR);
+
+		assertThat(rates).containsOnly(
+			Map.entry(Currency.CHF, new BigDecimal("1.05")),
+			Map.entry(Currency.GBP, new BigDecimal("1.17")),
+			Map.entry(Currency.EUR, BigDecimal.ONE)
+		);
+		verify(exchangeRateRepository, times(1)).findRowsByFirmId(1L);
+	}
+
+	/**
+	 * Tests that a currency of the firm's appointment types without a rate into the target
+	 * is rejected.
+	 */
+	@Test
+	void getRatesIntoMissingRateTest() {
+		List<ExchangeRateRow> rows = List.of(row(Currency.CHF, Currency.EUR, "1.05"));
+		when(exchangeRateRepository.findRowsByFirmId(1L)).thenReturn(rows);
+		when(appointmentTypeRepository.findCurrenciesByFirmId(1L)).thenReturn(List.of(Currency.CHF, Currency.BAM));
+
+		assertThatThrownBy(() -> exchangeRateService.getRatesInto(1L, Currency.EUR))
+			.isInstanceOf(InvalidStateException.class)
+			.hasMessage("No exchange rate from BAM into EUR.");
+	}
+
+	/**
+	 * Tests that replacing the rates deletes the old table, stores the new one and reads
+	 * the firm's rates again afterwards.
+	 */
+	@Test
+	@SuppressWarnings("unchecked")
+	void replaceExchangeRatesTest() {
+		List<ExchangeRateRow> rows = List.of();
+		when(exchangeRateRepository.findRowsByFirmId(1L)).thenReturn(rows);
+		exchangeRateService.getRatesInto(1L, Currency.EUR);
+
+		List<ExchangeRateDTO> stored = exchangeRateService.replaceExchangeRates(List.of(
+			new ExchangeRateDTO(Currency.USD, Currency.EUR, new BigDecimal("0.92")),
+			new ExchangeRateDTO(Currency.CHF, Currency.EUR, new BigDecimal("1.05"))
+		));
+		exchangeRateService.getRatesInto(1L, Currency.EUR);
+
+		assertThat(stored).extracting(ExchangeRateDTO::getCurrency).containsExactly(Currency.CHF, Currency.USD);
+		ArgumentCaptor<List<ExchangeRate>> saved = ArgumentCaptor.forClass(List.class);
+		verify(exchangeRateRepository).deleteByFirmId(1L);
+		verify(exchangeRateRepository).saveAll(saved.capture());
+		assertThat(saved.getValue()).extracting(rate -> rate.getFirm().getId()).containsOnly(1L);
+		verify(exchangeRateRepository, times(2)).findRowsByFirmId(1L);
+	}
+
+	/**
+	 * Tests that invalid rates are rejected before anything is written.
+	 */
+	@Test
+	void replaceExchangeRatesInvalidTest() {
+		List<List<ExchangeRateDTO>> invalid = List.of(
+			List.of(new ExchangeRateDTO(Currency.EUR, Currency.EUR, BigDecimal.ONE)),
+			List.of(new ExchangeRateDTO(Currency.EUR, null, BigDecimal.ONE)),
+			List.of(new ExchangeRateDTO(Currency.EUR, Currency.USD, BigDecimal.ZERO)),
+			List.of(new ExchangeRateDTO(Currency.EUR, Currency.USD, new BigDecimal("1.123456789"))),
+			List.of(
+				new ExchangeRateDTO(Currency.EUR, Currency.USD, BigDecimal.ONE),
+				new ExchangeRateDTO(Currency.EUR, Currency.USD, BigDecimal.TWO)
+			)
+		);
+
+		for (List<ExchangeRateDTO> rates : invalid) {
+			assertThatThrownBy(() -> exchangeRateService.replaceExchangeRates(rates))
+				.isInstanceOf(InvalidStateException.class);
+		}
+		verify(exchangeRateRepository, never()).deleteByFirmId(anyLong());
+		verify(exchangeRateRepository, never()).saveAll(any());
+	}
+
+	private static ExchangeRateRow row(Currency currency, Currency targetCurrency, String rate) {
+		ExchangeRateRow row = mock(ExchangeRateRow.class);
+		when(row.getCurrency()).thenReturn(currency);
+		when(row.getTargetCurrency()).thenReturn(targetCurrency);
+		when(row.getRate()).thenReturn(new BigDecimal(rate));
+		return row;
+	}
+}
@@ -0,0 +1,100 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.dto.request.FirmTimeZoneDTO;
+import com.sinergy.chronosync.exception.EntityNotFoundException;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.model.Firm;
+import com.sinergy.chronosync.repository.FirmRepository;
+import com.sinergy.chronosync.service.impl.FirmServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link FirmServiceImpl}.
+ */
+class FirmServiceTest {
+
+	@Mock
+	private FirmRepository firmRepository;
+	@Mock
+	private SecurityContextService securityContextService;
+	@Mock
+	private ReferenceDataCacheService referenceDataCacheService;
+
+	@InjectMocks
+	private FirmServiceImpl firmService;
+
+	private Firm firm;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		Firm authFirm = new Firm();
+		authFirm.setId(1L);
+		when(securityContextService.getAuthUserFirm()).thenReturn(authFirm);
+
+		firm = new Firm();
+		firm.setId(1L);
+		firm.setTimeZone("Europe/Sarajevo");
+		when(firmRepository.findById(1L)).thenReturn(Optional.of(firm));
+	}
+
+	/**
+	 * Tests that the time zone of the current user's firm is read from the database.
+	 */
+	@Test
+	void getTimeZoneTest() {
+		assertThat(firmService.getTimeZone().getTimeZone()).isEqualTo("Europe/Sarajevo");
+	}
+
+	/**
+	 * Tests that a valid time zone is stored and the cached firm evicted.
+	 */
+	@Test
+	void updateTimeZoneTest() {
+		FirmTimeZoneDTO result = firmService.updateTimeZone(new FirmTimeZoneDTO("America/New_York"));
+
+		assertThat(result.getTimeZone()).isEqualTo("America/New_York");
+		assertThat(firm.getTimeZone()).isEqualTo("America/New_York");
+		verify(firmRepository).save(firm);
+		verify(referenceDataCacheService).evictFirm(1L);
+	}
+
+	/**
+	 * Tests that a missing or unknown time zone is rejected without touching the firm.
+	 */
+	@Test
+	void updateTimeZoneInvalidTest() {
+		assertThatThrownBy(() -> firmService.updateTimeZone(new FirmTimeZoneDTO(null)))
+			.isInstanceOf(InvalidStateException.class);
+		assertThatThrownBy(() -> firmService.updateTimeZone(new FirmTimeZoneDTO("Europe/Atlantis")))
+			.isInstanceOf(InvalidStateException.class);
+		assertThatThrownBy(() -> firmService.updateTimeZone(new FirmTimeZoneDTO("not a zone")))
+			.isInstanceOf(InvalidStateException.class);
+
+		assertThat(firm.getTimeZone()).isEqualTo("Europe/Sarajevo");
+		verify(firmRepository, never()).save(any());
+		verifyNoInteractions(referenceDataCacheService);
+	}
+
+	/**
+	 * Tests that a firm missing from the database is reported as not found.
+	 */
+	@Test
+	void updateTimeZoneFirmNotFoundTest() {
+		when(firmRepository.findById(1L)).thenReturn(Optional.empty());
+
+		assertThatThrownBy(() -> firmService.updateTimeZone(new FirmTimeZoneDTO("UTC")))
+			.isInstanceOf(EntityNotFoundException.class);
+	}
+}
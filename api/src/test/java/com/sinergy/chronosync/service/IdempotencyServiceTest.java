@@ -0,0 +1,132 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.exception.ConflictException;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.model.user.User;
+import com.sinergy.chronosync.service.impl.IdempotencyServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link IdempotencyServiceImpl}.
+ */
+class IdempotencyServiceTest {
+
+	@Mock
+	private SecurityContextService securityContextService;
+
+	private IdempotencyServiceImpl idempotencyService;
+	private AtomicInteger executions;
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		idempotencyService = new IdempotencyServiceImpl(
+			securityContextService, 100, Duration.ofHours(24), Duration.ofSeconds(5)
+		);
+		executions = new AtomicInteger();
+		user = new User();
+		user.setId(7L);
+		when(securityContextService.getAuthUser()).thenAnswer(invocation -> user);
+	}
+
+	/**
+	 * Tests that a retry with the same key is answered with the stored response, marked as
+	 * replayed, while requests without a key or of another user are executed.
+	 */
+	@Test
+	void executeTest() {
+		ResponseEntity<Integer> first = create("key-1", "request");
+		ResponseEntity<Integer> retry = create("key-1", "request");
+		ResponseEntity<Integer> withoutKey = create(null, "request");
+		user = new User();
+		user.setId(8L);
+		ResponseEntity<Integer> otherUser = create("key-1", "request");
+
+		assertThat(first.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+		assertThat(first.getHeaders().containsKey(IdempotencyService.REPLAYED_HEADER)).isFalse();
+		assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+		assertThat(retry.getBody()).isEqualTo(1);
+		assertThat(retry.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER)).isEqualTo("true");
+		assertThat(withoutKey.getBody()).isEqualTo(2);
+		assertThat(otherUser.getBody()).isEqualTo(3);
+	}
+
+	/**
+	 * Tests that a key reused for a different request or longer than allowed is rejected.
+	 */
+	@Test
+	void executeInvalidKeyTest() {
+		create("key-1", "request");
+
+		assertThatThrownBy(() -> create("key-1", "other request")).isInstanceOf(InvalidStateException.class);
+		assertThatThrownBy(() -> create("k".repeat(256), "request")).isInstanceOf(InvalidStateException.class);
+		assertThat(executions.get()).isEqualTo(1);
+	}
+
+	/**
+	 * Tests that a failed execution is not stored, so a retry executes again.
+	 */
+	@Test
+	void executeFailedTest() {
+		assertThatThrownBy(() -> idempotencyService.execute("key-1", "create", "request", () -> {
+			throw new ConflictException("Employee already has an appointment at this time.");
+		})).isInstanceOf(ConflictException.class);
+
+		assertThat(create("key-1", "request").getBody()).isEqualTo(1);
+	}
+
+	/**
+	 * Tests that a concurrent retry waits for the first execution and gets its response.
+	 */
+	@Test
+	void executeConcurrentTest() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		FutureTask<ResponseEntity<Integer>> first = new FutureTask<>(() -> idempotencyService.execute(
+			"key-1", "create", "request", () -> {
+				started.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return ResponseEntity.status(HttpStatus.CREATED).body(executions.incrementAndGet());
+			}
+		));
+		FutureTask<ResponseEntity<Integer>> retry = new FutureTask<>(() -> create("key-1", "request"));
+
+		new Thread(first).start();
+		started.await();
+		Thread waiting = new Thread(retry);
+		waiting.start();
+		while (waiting.getState() != Thread.State.TIMED_WAITING && waiting.getState() != Thread.State.WAITING) {
+			Thread.sleep(1);
+		}
+		release.countDown();
+
+		assertThat(first.get().getBody()).isEqualTo(1);
+		assertThat(retry.get().getBody()).isEqualTo(1);
+		assertThat(executions.get()).isEqualTo(1);
+	}
+
+	private ResponseEntity<Integer> create(String key, Object request) {
+		return idempotencyService.execute(key, "create", request, () ->
+			ResponseEntity.status(HttpStatus.CREATED).body(executions.incrementAndGet())
+		);
+	}
+}
@@ -0,0 +1,131 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.repository.AppointmentRepository;
+import com.sinergy.chronosync.repository.AppointmentRepository.OccurrenceKey;
+import com.sinergy.chronosync.repository.AppointmentSeriesRepository;
+import com.sinergy.chronosync.repository.AppointmentSeriesRepository.SeriesRange;
+import com.sinergy.chronosync.repository.CancelledOccurrenceRepository;
+import com.sinergy.chronosync.service.OccurrenceService.Occurrence;
+import com.sinergy.chronosync.service.OccurrenceService.Recurrence;
+import com.sinergy.chronosync.service.impl.OccurrenceServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link OccurrenceServiceImpl}.
+ */
+class OccurrenceServiceTest {
+
+	private static final LocalDateTime MONDAY = LocalDateTime.parse("2025-01-06T10:00:00");
+
+	@Mock
+	private AppointmentSeriesRepository appointmentSeriesRepository;
+	@Mock
+	private CancelledOccurrenceRepository cancelledOccurrenceRepository;
+	@Mock
+	private AppointmentRepository appointmentRepository;
+
+	@InjectMocks
+	private OccurrenceServiceImpl occurrenceService;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+	}
+
+	/**
+	 * Tests the {@link OccurrenceServiceImpl#findOccurrences} method.
+	 *
+	 * <p>Verifies that the series are merged by start, that an occurrence starting before
+	 * the range but still running is included, and that moved and cancelled occurrences are
+	 * skipped.</p>
+	 */
+	@Test
+	void findOccurrencesTest() {
+		SeriesRange daily = seriesRange(1L, MONDAY, MONDAY.plusHours(2), "FREQ=DAILY");
+		SeriesRange weekly = seriesRange(2L, MONDAY.plusHours(1), MONDAY.plusHours(4), "FREQ=WEEKLY;BYDAY=TU,TH");
+		when(appointmentSeriesRepository.findRanges(List.of(5L), MONDAY.plusDays(1).plusHours(1), MONDAY.plusDays(4)))
+			.thenReturn(List.of(daily, weekly));
+
+		OccurrenceKey cancelled = occurrenceKey(1L, MONDAY.plusDays(2));
+		OccurrenceKey moved = occurrenceKey(2L, MONDAY.plusDays(3).plusHours(1));
+		when(cancelledOccurrenceRepository.findKeys(List.of(1L, 2L), MONDAY.plusDays(1).minusHours(2), MONDAY.plusDays(4)))
+			.thenReturn(List.of(cancelled));
+		when(appointmentRepository.findOccurrenceKeys(List.of(1L, 2L), MONDAY.plusDays(1).minusHours(2), MONDAY.plusDays(4)))
+			.thenReturn(List.of(moved));
+
+		List<Occurrence> occurrences = occurrenceService.findOccurrences(
+			List.of(5L), MONDAY.plusDays(1).plusHours(1), MONDAY.plusDays(4)
+		);
+
+		assertThat(occurrences).containsExactly(
+			new Occurrence(1L, 5L, MONDAY.plusDays(1), MONDAY.plusDays(1).plusHours(2)),
+			new Occurrence(2L, 5L, MONDAY.plusDays(1).plusHours(1), MONDAY.plusDays(1).plusHours(4)),
+			new Occurrence(1L, 5L, MONDAY.plusDays(3), MONDAY.plusDays(3).plusHours(2))
+		);
+	}
+
+	/**
+	 * Tests the {@link OccurrenceServiceImpl#overlapsOccurrence} method.
+	 *
+	 * <p>Verifies that ranges touching an occurrence do not overlap it.</p>
+	 */
+	@Test
+	void overlapsOccurrenceTest() {
+		SeriesRange weekly = seriesRange(1L, MONDAY, MONDAY.plusHours(1), "FREQ=WEEKLY;COUNT=4");
+		when(appointmentSeriesRepository.findRanges(anyCollection(), any(), any())).thenReturn(List.of(weekly));
+
+		assertThat(occurrenceService.overlapsOccurrence(5L, MONDAY.plusWeeks(2).plusMinutes(30), MONDAY.plusWeeks(2).plusHours(2))).isTrue();
+		assertThat(occurrenceService.overlapsOccurrence(5L, MONDAY.plusWeeks(2).plusHours(1), MONDAY.plusWeeks(2).plusHours(2))).isFalse();
+		assertThat(occurrenceService.overlapsOccurrence(5L, MONDAY.plusWeeks(4), MONDAY.plusWeeks(4).plusHours(1))).isFalse();
+	}
+
+	/**
+	 * Tests the {@link OccurrenceServiceImpl#expand} method.
+	 *
+	 * <p>Verifies that no lookups are made without series and that endless series are
+	 * generated only up to the end of the range.</p>
+	 */
+	@Test
+	void expandTest() {
+		assertThat(occurrenceService.expand(List.of(), MONDAY, MONDAY.plusDays(1)).hasNext()).isFalse();
+		verifyNoInteractions(cancelledOccurrenceRepository, appointmentRepository);
+
+		Recurrence recurrence = new Recurrence(1L, null, MONDAY, MONDAY.plusMinutes(30), "FREQ=DAILY");
+		List<Occurrence> occurrences = new ArrayList<>();
+		occurrenceService.expand(List.of(recurrence), MONDAY.plusYears(10), MONDAY.plusYears(10).plusDays(2))
+			.forEachRemaining(occurrences::add);
+
+		assertThat(occurrences).extracting(Occurrence::startDateTime)
+			.containsExactly(MONDAY.plusYears(10), MONDAY.plusYears(10).plusDays(1));
+	}
+
+	private static SeriesRange seriesRange(Long id, LocalDateTime start, LocalDateTime end, String rule) {
+		SeriesRange range = mock(SeriesRange.class);
+		when(range.getId()).thenReturn(id);
+		when(range.getEmployeeId()).thenReturn(5L);
+		when(range.getStartDateTime()).thenReturn(start);
+		when(range.getEndDateTime()).thenReturn(end);
+		when(range.getRecurrenceRule()).thenReturn(rule);
+		return range;
+	}
+
+	private static OccurrenceKey occurrenceKey(Long seriesId, LocalDateTime start) {
+		OccurrenceKey key = mock(OccurrenceKey.class);
+		when(key.getSeriesId()).thenReturn(seriesId);
+		when(key.getOccurrenceStartDateTime()).thenReturn(start);
+		return key;
+	}
+}
@@ -0,0 +1,95 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.config.CacheConfig;
+import com.sinergy.chronosync.model.Firm;
+import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import com.sinergy.chronosync.service.impl.ReferenceDataCacheServiceImpl;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link ReferenceDataCacheServiceImpl}.
+ */
+class ReferenceDataCacheServiceTest {
+
+	@Mock
+	private EntityManagerFactory entityManagerFactory;
+	@Mock
+	private Cache cache;
+	@Mock
+	private SessionFactory sessionFactory;
+	@Mock
+	private org.hibernate.Cache hibernateCache;
+
+	private ReferenceDataCacheServiceImpl referenceDataCacheService;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+
+		// SessionFactory is itself an EntityManagerFactory, so constructor injection is ambiguous
+		referenceDataCacheService = new ReferenceDataCacheServiceImpl(entityManagerFactory);
+
+		when(entityManagerFactory.getCache()).thenReturn(cache);
+		when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+		when(sessionFactory.getCache()).thenReturn(hibernateCache);
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	/**
+	 * Tests that the appointment type and the list query region are evicted immediately
+	 * when no transaction is active.
+	 */
+	@Test
+	void evictAppointmentTypeWithoutTransactionTest() {
+		referenceDataCacheService.evictAppointmentType(1L);
+
+		verify(cache, times(1)).evict(AppointmentType.class, 1L);
+		verify(hibernateCache, times(1)).evictQueryRegion(CacheConfig.APPOINTMENT_TYPE_QUERY_REGION);
+	}
+
+	/**
+	 * Tests that only the list query region is evicted when no appointment type ID is given.
+	 */
+	@Test
+	void evictAppointmentTypeListsTest() {
+		referenceDataCacheService.evictAppointmentType(null);
+
+		verify(cache, never()).evict(eq(AppointmentType.class), any());
+		verify(hibernateCache, times(1)).evictQueryRegion(CacheConfig.APPOINTMENT_TYPE_QUERY_REGION);
+	}
+
+	/**
+	 * Tests that eviction is deferred until the surrounding transaction commits.
+	 */
+	@Test
+	void evictFirmAfterCommitTest() {
+		TransactionSynchronizationManager.initSynchronization();
+
+		referenceDataCacheService.evictFirm(1L);
+
+		verify(cache, never()).evict(Firm.class, 1L);
+
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+		verify(cache, times(1)).evict(Firm.class, 1L);
+	}
+}
@@ -0,0 +1,181 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.config.AdmissionProperties;
+import com.sinergy.chronosync.exception.AdmissionRejectedException;
+import com.sinergy.chronosync.exception.AdmissionRejectedException.Reason;
+import com.sinergy.chronosync.service.RequestAdmissionService.Permit;
+import com.sinergy.chronosync.service.impl.RequestAdmissionServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.FutureTask;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for {@link RequestAdmissionServiceImpl}.
+ */
+class RequestAdmissionServiceTest {
+
+	private SimpleMeterRegistry meterRegistry;
+	private AdmissionProperties properties;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		properties = new AdmissionProperties();
+		properties.setMaxConcurrent(1);
+		properties.setQueueTimeout(Duration.ofSeconds(5));
+		properties.getTiers().put("standard", tier(1000, 1000, 1, 16));
+		properties.getTiers().put("premium", tier(1000, 1000, 3, 16));
+	}
+
+	/**
+	 * Tests that a firm is rejected once its burst is spent, without affecting other firms,
+	 * and that firms with an unknown tier get the default tier.
+	 */
+	@Test
+	void rateLimitTest() {
+		properties.setMaxConcurrent(10);
+		properties.getTiers().put("standard", tier(0.001, 2, 1, 16));
+		RequestAdmissionServiceImpl service = new RequestAdmissionServiceImpl(meterRegistry, properties);
+
+		service.admit(1L, null).close();
+		service.admit(1L, "unknown").close();
+		AdmissionRejectedException rejected = assertThrows(AdmissionRejectedException.class, () -> service.admit(1L, null));
+		service.admit(2L, null).close();
+
+		assertThat(rejected.getReason()).isEqualTo(Reason.RATE_LIMITED);
+		assertThat(rejected.getRetryAfter()).isGreaterThan(Duration.ofSeconds(900));
+		assertThat(rejections("rate_limited", "standard")).isEqualTo(1);
+	}
+
+	/**
+	 * Tests that a request waiting for a slot is rejected after the queue timeout, and that
+	 * a released slot can be taken again.
+	 */
+	@Test
+	void queueTimeoutTest() {
+		properties.setQueueTimeout(Duration.ofMillis(50));
+		RequestAdmissionServiceImpl service = new RequestAdmissionServiceImpl(meterRegistry, properties);
+
+		Permit permit = service.admit(1L, null);
+		AdmissionRejectedException rejected = assertThrows(AdmissionRejectedException.class, () -> service.admit(2L, null));
+		permit.close();
+		permit.close();
+		service.admit(2L, null).close();
+
+		assertThat(rejected.getReason()).isEqualTo(Reason.QUEUE_TIMEOUT);
+		assertThat(rejections("queue_timeout", "standard")).isEqualTo(1);
+		assertThat(meterRegistry.get("admission.in-flight").gauge().value()).isZero();
+		assertThat(meterRegistry.get("admission.queued").gauge().value()).isZero();
+	}
+
+	/**
+	 * Tests that a firm with too many waiting requests is rejected right away.
+	 */
+	@Test
+	void queueFullTest() throws Exception {
+		properties.getTiers().put("standard", tier(1000, 1000, 1, 1));
+		RequestAdmissionServiceImpl service = new RequestAdmissionServiceImpl(meterRegistry, properties);
+
+		Permit permit = service.admit(1L, null);
+		FutureTask<Void> queued = admitLater(service, 2L, null, new ArrayList<>());
+		AdmissionRejectedException rejected = assertThrows(AdmissionRejectedException.class, () -> service.admit(2L, null));
+		permit.close();
+		queued.get();
+
+		assertThat(rejected.getReason()).isEqualTo(Reason.QUEUE_FULL);
+		assertThat(rejections("queue_full", "standard")).isEqualTo(1);
+	}
+
+	/**
+	 * Tests that the state of a firm with a waiting request outlives its eviction from the
+	 * cache, so the firm's queue limit still holds once many other firms were seen.
+	 */
+	@Test
+	void queuedFirmPinnedTest() throws Exception {
+		properties.setMaximumFirms(1);
+		properties.getTiers().put("standard", tier(1000, 1000, 1, 1));
+		properties.getTiers().put("limited", tier(0.001, 0, 1, 1));
+		RequestAdmissionServiceImpl service = new RequestAdmissionServiceImpl(meterRegistry, properties);
+
+		Permit permit = service.admit(1L, null);
+		FutureTask<Void> queued = admitLater(service, 2L, null, new ArrayList<>());
+		for (long firmId = 3; firmId < 1000; firmId++) {
+			long otherFirmId = firmId;
+			assertThrows(AdmissionRejectedException.class, () -> service.admit(otherFirmId, "limited"));
+		}
+		AdmissionRejectedException rejected = assertThrows(AdmissionRejectedException.class, () -> service.admit(2L, null));
+		permit.close();
+		queued.get();
+
+		assertThat(rejected.getReason()).isEqualTo(Reason.QUEUE_FULL);
+		assertThat(meterRegistry.get("admission.queued").gauge().value()).isZero();
+	}
+
+	/**
+	 * Tests that freed slots go to waiting requests by weighted fair queuing: a firm with
+	 * many waiting requests queues behind firms with few, and a firm of a heavier tier
+	 * is served first.
+	 */
+	@Test
+	void weightedFairQueuingTest() throws Exception {
+		RequestAdmissionServiceImpl service = new RequestAdmissionServiceImpl(meterRegistry, properties);
+		List<Long> order = Collections.synchronizedList(new ArrayList<>());
+
+		Permit permit = service.admit(1L, null);
+		List<FutureTask<Void>> requests = List.of(
+			admitLater(service, 1L, null, order),
+			admitLater(service, 1L, null, order),
+			admitLater(service, 1L, null, order),
+			admitLater(service, 2L, "premium", order),
+			admitLater(service, 3L, null, order)
+		);
+		permit.close();
+		for (FutureTask<Void> request : requests) {
+			request.get();
+		}
+
+		assertThat(order).containsExactly(2L, 1L, 3L, 1L, 1L);
+	}
+
+	private FutureTask<Void> admitLater(
+		RequestAdmissionServiceImpl service,
+		Long firmId,
+		String tier,
+		List<Long> order
+	) throws InterruptedException {
+		FutureTask<Void> request = new FutureTask<>(() -> {
+			try (Permit ignored = service.admit(firmId, tier)) {
+				order.add(firmId);
+			}
+			return null;
+		});
+		Thread thread = new Thread(request);
+		thread.start();
+		while (thread.getState() != Thread.State.TIMED_WAITING && thread.getState() != Thread.State.WAITING) {
+			Thread.sleep(1);
+		}
+		return request;
+	}
+
+	private double rejections(String reason, String tier) {
+		return meterRegistry.get("admission.rejections").tag("reason", reason).tag("tier", tier).counter().count();
+	}
+
+	private static AdmissionProperties.Tier tier(double requestsPerSecond, int burst, int weight, int maxQueued) {
+		AdmissionProperties.Tier tier = new AdmissionProperties.Tier();
+		tier.setRequestsPerSecond(requestsPerSecond);
+		tier.setBurst(burst);
+		tier.setWeight(weight);
+		tier.setMaxQueued(maxQueued);
+		return tier;
+	}
+}
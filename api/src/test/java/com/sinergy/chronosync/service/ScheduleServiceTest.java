@@ -0,0 +1,268 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.dto.request.ScheduleExceptionRequestDTO;
+import com.sinergy.chronosync.dto.request.ScheduleRequestDTO;
+import com.sinergy.chronosync.dto.request.TimeOffRequestDTO;
+import com.sinergy.chronosync.dto.request.WorkingHoursRequestDTO;
+import com.sinergy.chronosync.dto.response.EmployeeScheduleDTO;
+import com.sinergy.chronosync.dto.response.TimeSlotDTO;
+import com.sinergy.chronosync.exception.EntityNotFoundException;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.model.Firm;
+import com.sinergy.chronosync.model.schedule.TimeOff;
+import com.sinergy.chronosync.model.schedule.WorkingHours;
+import com.sinergy.chronosync.repository.ScheduleExceptionRepository;
+import com.sinergy.chronosync.repository.ScheduleExceptionRepository.ScheduleExceptionRow;
+import com.sinergy.chronosync.repository.TimeOffRepository;
+import com.sinergy.chronosync.repository.TimeOffRepository.TimeOffRange;
+import com.sinergy.chronosync.repository.UserRepository;
+import com.sinergy.chronosync.repository.WorkingHoursRepository;
+import com.sinergy.chronosync.repository.WorkingHoursRepository.WorkingHoursRow;
+import com.sinergy.chronosync.service.impl.ScheduleServiceImpl;
+import com.sinergy.chronosync.util.SlotBitmap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link ScheduleServiceImpl}.
+ */
+class ScheduleServiceTest {
+
+	private static final LocalDate MONDAY = LocalDate.parse("2025-02-03");
+
+	@Mock
+	private WorkingHoursRepository workingHoursRepository;
+	@Mock
+	private ScheduleExceptionRepository scheduleExceptionRepository;
+	@Mock
+	private TimeOffRepository timeOffRepository;
+	@Mock
+	private UserRepository userRepository;
+	@Mock
+	private SecurityContextService securityContextService;
+
+	private ScheduleServiceImpl scheduleService;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		scheduleService = new ScheduleServiceImpl(
+			workingHoursRepository,
+			scheduleExceptionRepository,
+			timeOffRepository,
+			userRepository,
+			securityContextService,
+			"08:00",
+			"17:00",
+			List.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY, DayOfWeek.THURSDAY, DayOfWeek.FRIDAY),
+			62,
+			200,
+			1000,
+			Duration.ofMinutes(10)
+		);
+
+		Firm firm = new Firm();
+		firm.setId(1L);
+		when(securityContextService.getAuthUserFirm()).thenReturn(firm);
+		when(userRepository.findIdsByFirmIdAndIdIn(1L, List.of(5L))).thenReturn(List.of(5L));
+
+		List<WorkingHoursRow> template = List.of(
+			workingHours(5L, DayOfWeek.MONDAY, "09:00", "12:00"),
+			workingHours(5L, DayOfWeek.MONDAY, "13:00", "17:00"),
+			workingHours(5L, DayOfWeek.TUESDAY, "09:00", "17:00")
+		);
+		when(workingHoursRepository.findRowsByEmployeeIdIn(anyCollection())).thenAnswer(invocation ->
+			template.stream().filter(row -> invocation.<Set<Long>>getArgument(0).contains(row.getEmployeeId())).toList()
+		);
+		List<ScheduleExceptionRow> exceptions = List.of(
+			exception(5L, "2025-02-04", "10:00", "12:00"),
+			exception(5L, "2025-02-04", "14:00", "15:00"),
+			exception(6L, "2025-02-06", null, null)
+		);
+		when(scheduleExceptionRepository.findRows(anyCollection(), any(), any())).thenAnswer(invocation ->
+			exceptions.stream().filter(row -> invocation.<Set<Long>>getArgument(0).contains(row.getEmployeeId())).toList()
+		);
+		List<TimeOffRange> timeOff = List.of(timeOff(6L, "2025-02-04T12:00", "2025-02-05T10:00"));
+		when(timeOffRepository.findRanges(anyCollection(), any(), any())).thenAnswer(invocation ->
+			timeOff.stream().filter(range -> invocation.<Set<Long>>getArgument(0).contains(range.getEmployeeId())).toList()
+		);
+	}
+
+	/**
+	 * Tests that a week is the template, or the default template, with exceptions
+	 * replacing whole days and time off cleared.
+	 */
+	@Test
+	void findWorkingSlotsTest() {
+		Map<Long, SlotBitmap[]> working = scheduleService.findWorkingSlots(List.of(5L, 6L), MONDAY, MONDAY.plusDays(7));
+
+		SlotBitmap[] employee = working.get(5L);
+		assertThat(employee).hasSize(7);
+		assertThat(employee[0]).isEqualTo(new SlotBitmap().set(108, 144).set(156, 204));
+		assertThat(employee[1]).isEqualTo(new SlotBitmap().set(120, 144).set(168, 180));
+		assertThat(employee[2].isEmpty()).isTrue();
+
+		SlotBitmap[] other = working.get(6L);
+		assertThat(other[0]).isEqualTo(new SlotBitmap().set(96, 204));
+		assertThat(other[1]).isEqualTo(new SlotBitmap().set(96, 144));
+		assertThat(other[2]).isEqualTo(new SlotBitmap().set(120, 204));
+		assertThat(other[3].isEmpty()).isTrue();
+		assertThat(other[5].isEmpty()).isTrue();
+
+		verify(workingHoursRepository, times(1)).findRowsByEmployeeIdIn(Set.of(5L, 6L));
+		verify(scheduleExceptionRepository, times(1)).findRows(Set.of(5L, 6L), MONDAY, MONDAY.plusDays(7));
+		verify(timeOffRepository, times(1))
+			.findRanges(Set.of(5L, 6L), MONDAY.atStartOfDay(), MONDAY.plusDays(7).atStartOfDay());
+	}
+
+	/**
+	 * Tests that weeks are served from the cache, and that new time off rebuilds the
+	 * employee's weeks from the cached template.
+	 */
+	@Test
+	void findWorkingSlotsCachedTest() {
+		scheduleService.findWorkingSlots(List.of(5L), MONDAY, MONDAY.plusDays(7));
+		Map<Long, SlotBitmap[]> cached = scheduleService.findWorkingSlots(List.of(5L), MONDAY.plusDays(1), MONDAY.plusDays(3));
+		assertThat(cached.get(5L)).hasSize(2);
+		verify(scheduleExceptionRepository, times(1)).findRows(anyCollection(), any(), any());
+
+		when(timeOffRepository.create(any(TimeOff.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		scheduleService.createTimeOff(TimeOffRequestDTO.builder()
+			.employeeId(5L)
+			.startDateTime(LocalDateTime.parse("2025-02-03T09:00"))
+			.endDateTime(LocalDateTime.parse("2025-02-03T10:00"))
+			.build());
+		scheduleService.findWorkingSlots(List.of(5L), MONDAY, MONDAY.plusDays(1));
+
+		verify(scheduleExceptionRepository, times(2)).findRows(anyCollection(), any(), any());
+		verify(workingHoursRepository, times(1)).findRowsByEmployeeIdIn(anyCollection());
+	}
+
+	/**
+	 * Tests that replacing the working hours stores the new template and rebuilds the cached one.
+	 */
+	@Test
+	void replaceWorkingHoursTest() {
+		scheduleService.findWorkingSlots(List.of(5L), MONDAY, MONDAY.plusDays(1));
+		List<WorkingHoursRequestDTO> workingHours = List.of(
+			new WorkingHoursRequestDTO(DayOfWeek.FRIDAY, LocalTime.parse("08:00"), LocalTime.parse("12:00")),
+			new WorkingHoursRequestDTO(DayOfWeek.MONDAY, LocalTime.parse("10:00"), LocalTime.parse("14:00"))
+		);
+
+		List<WorkingHoursRequestDTO> result = scheduleService.replaceWorkingHours(5L, workingHours);
+		scheduleService.findWorkingSlots(List.of(5L), MONDAY, MONDAY.plusDays(1));
+
+		assertThat(result).extracting(WorkingHoursRequestDTO::getDayOfWeek)
+			.containsExactly(DayOfWeek.MONDAY, DayOfWeek.FRIDAY);
+		ArgumentCaptor<List<WorkingHours>> saved = ArgumentCaptor.forClass(List.class);
+		verify(workingHoursRepository, times(1)).deleteByEmployeeId(5L);
+		verify(workingHoursRepository, times(1)).saveAll(saved.capture());
+		assertThat(saved.getValue()).hasSize(2);
+		verify(workingHoursRepository, times(2)).findRowsByEmployeeIdIn(anyCollection());
+	}
+
+	/**
+	 * Tests that invalid working hours, exceptions and time off are rejected,
+	 * as are employees of other firms.
+	 */
+	@Test
+	void invalidRequestTest() {
+		assertThatThrownBy(() -> scheduleService.replaceWorkingHours(5L, List.of(
+			new WorkingHoursRequestDTO(DayOfWeek.MONDAY, LocalTime.parse("12:00"), LocalTime.parse("10:00"))
+		))).isInstanceOf(InvalidStateException.class);
+		assertThatThrownBy(() -> scheduleService.createScheduleException(ScheduleExceptionRequestDTO.builder()
+			.employeeId(5L)
+			.exceptionDate(MONDAY)
+			.startTime(LocalTime.parse("10:00"))
+			.build())).isInstanceOf(InvalidStateException.class);
+		assertThatThrownBy(() -> scheduleService.createTimeOff(TimeOffRequestDTO.builder()
+			.employeeId(7L)
+			.startDateTime(LocalDateTime.parse("2025-02-03T09:00"))
+			.endDateTime(LocalDateTime.parse("2025-02-03T10:00"))
+			.build())).isInstanceOf(EntityNotFoundException.class);
+
+		verify(workingHoursRepository, never()).saveAll(anyList());
+		verify(scheduleExceptionRepository, never()).create(any());
+		verify(timeOffRepository, never()).create(any());
+	}
+
+	/**
+	 * Tests that time off is deleted in one firm-scoped statement, and rolled back if any is missing.
+	 */
+	@Test
+	void deleteTimeOffTest() {
+		when(timeOffRepository.deleteByFirmIdAndIdIn(1L, Set.of(1L, 2L))).thenReturn(1);
+
+		assertThatThrownBy(() -> scheduleService.deleteTimeOff(List.of(1L, 2L)))
+			.isInstanceOf(EntityNotFoundException.class);
+		verify(timeOffRepository, times(1)).findEmployeeIdsByFirmIdAndIdIn(1L, Set.of(1L, 2L));
+	}
+
+	/**
+	 * Tests that effective schedules are clipped to the requested range.
+	 */
+	@Test
+	void getSchedulesTest() {
+		List<EmployeeScheduleDTO> schedules = scheduleService.getSchedules(ScheduleRequestDTO.builder()
+			.employeeIds(List.of(5L))
+			.from(LocalDateTime.parse("2025-02-03T10:00"))
+			.to(LocalDateTime.parse("2025-02-04T11:00"))
+			.build());
+
+		assertThat(schedules).hasSize(1);
+		assertThat(schedules.get(0).workingHours()).containsExactly(
+			slot("2025-02-03T10:00", "2025-02-03T12:00"),
+			slot("2025-02-03T13:00", "2025-02-03T17:00"),
+			slot("2025-02-04T10:00", "2025-02-04T11:00")
+		);
+	}
+
+	private static TimeSlotDTO slot(String start, String end) {
+		return new TimeSlotDTO(LocalDateTime.parse(start), LocalDateTime.parse(end));
+	}
+
+	private static WorkingHoursRow workingHours(Long employeeId, DayOfWeek dayOfWeek, String start, String end) {
+		WorkingHoursRow row = mock(WorkingHoursRow.class);
+		when(row.getEmployeeId()).thenReturn(employeeId);
+		when(row.getDayOfWeek()).thenReturn(dayOfWeek);
+		when(row.getStartTime()).thenReturn(LocalTime.parse(start));
+		when(row.getEndTime()).thenReturn(LocalTime.parse(end));
+		return row;
+	}
+
+	private static ScheduleExceptionRow exception(Long employeeId, String date, String start, String end) {
+		ScheduleExceptionRow row = mock(ScheduleExceptionRow.class);
+		when(row.getEmployeeId()).thenReturn(employeeId);
+		when(row.getExceptionDate()).thenReturn(LocalDate.parse(date));
+		when(row.getStartTime()).thenReturn(start != null ? LocalTime.parse(start) : null);
+		when(row.getEndTime()).thenReturn(end != null ? LocalTime.parse(end) : null);
+		return row;
+	}
+
+	private static TimeOffRange timeOff(Long employeeId, String start, String end) {
+		TimeOffRange range = mock(TimeOffRange.class);
+		when(range.getEmployeeId()).thenReturn(employeeId);
+		when(range.getStartDateTime()).thenReturn(LocalDateTime.parse(start));
+		when(range.getEndDateTime()).thenReturn(LocalDateTime.parse(end));
+		return range;
+	}
+}
@@ -0,0 +1,188 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.service.SearchResultCacheService.Entity;
+import com.sinergy.chronosync.service.impl.SearchResultCacheServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link SearchResultCacheServiceImpl}.
+ */
+class SearchResultCacheServiceTest {
+
+	private SimpleMeterRegistry meterRegistry;
+	private SearchResultCacheServiceImpl searchResultCacheService;
+	private AtomicInteger searches;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		searchResultCacheService = new SearchResultCacheServiceImpl(
+			meterRegistry, 10, DataSize.ofKilobytes(4), Duration.ofMinutes(5), Duration.ofSeconds(5)
+		);
+		searches = new AtomicInteger();
+	}
+
+	/**
+	 * Tests that a result is cached per firm, endpoint and normalized filter.
+	 */
+	@Test
+	void getTest() {
+		assertThat(search(1L, "clients", Set.of(Entity.CLIENT), "John", 0)).isEqualTo(1);
+		assertThat(search(1L, "clients", Set.of(Entity.CLIENT), "JOHN", 0)).isEqualTo(1);
+		assertThat(search(1L, "clients", Set.of(Entity.CLIENT), "John", 1)).isEqualTo(2);
+		assertThat(search(1L, "appointment-types", Set.of(Entity.APPOINTMENT_TYPE), "John", 0)).isEqualTo(3);
+		assertThat(search(2L, "clients", Set.of(Entity.CLIENT), "John", 0)).isEqualTo(4);
+		assertThat(search(1L, "clients", Set.of(Entity.CLIENT), "", 0))
+			.isEqualTo(search(1L, "clients", Set.of(Entity.CLIENT), null, 0));
+	}
+
+	/**
+	 * Tests that a change discards only the changed firm's results read from the changed
+	 * entity kind.
+	 */
+	@Test
+	void invalidateTest() {
+		search(1L, "appointments", Set.of(Entity.APPOINTMENT, Entity.CLIENT), null, 0);
+		search(1L, "appointment-types", Set.of(Entity.APPOINTMENT_TYPE), null, 0);
+		search(2L, "appointments", Set.of(Entity.APPOINTMENT, Entity.CLIENT), null, 0);
+
+		searchResultCacheService.invalidate(1L, Entity.CLIENT);
+
+		assertThat(search(1L, "appointments", Set.of(Entity.APPOINTMENT, Entity.CLIENT), null, 0)).isEqualTo(4);
+		assertThat(search(1L, "appointment-types", Set.of(Entity.APPOINTMENT_TYPE), null, 0)).isEqualTo(2);
+		assertThat(search(2L, "appointments", Set.of(Entity.APPOINTMENT, Entity.CLIENT), null, 0)).isEqualTo(3);
+	}
+
+	/**
+	 * Tests that a result read while its entity kind changes is not returned afterwards.
+	 */
+	@Test
+	void invalidateDuringSearchTest() {
+		searchResultCacheService.get(1L, "clients", Set.of(Entity.CLIENT), () -> {
+			searchResultCacheService.invalidate(1L, Entity.CLIENT);
+			return List.of("stale");
+		});
+
+		List<String> result = searchResultCacheService.get(1L, "clients", Set.of(Entity.CLIENT), () -> List.of("fresh"));
+
+		assertThat(result).containsExactly("fresh");
+	}
+
+	/**
+	 * Tests that a firm filling its share of the cache keeps only what fits into it, and
+	 * leaves the results of other firms cached.
+	 */
+	@Test
+	void firmMaximumSizeTest() {
+		String large = "x".repeat(1000);
+		searchResultCacheService.get(2L, "clients", Set.of(Entity.CLIENT), () -> List.of("small"));
+		for (int round = 0; round < 2; round++) {
+			for (int page = 0; page < 10; page++) {
+				searchResultCacheService.get(1L, "clients", Set.of(Entity.CLIENT), () -> {
+					searches.incrementAndGet();
+					return List.of(large);
+				}, page);
+			}
+		}
+
+		List<String> other = searchResultCacheService.get(2L, "clients", Set.of(Entity.CLIENT), () -> List.of("evicted"));
+
+		assertThat(searches.get()).isGreaterThanOrEqualTo(18);
+		assertThat(other).containsExactly("small");
+	}
+
+	/**
+	 * Tests that a request for a search another request is running waits for its result
+	 * instead of running the search again.
+	 */
+	@Test
+	void coalesceTest() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		FutureTask<Integer> leader = new FutureTask<>(() -> searchResultCacheService.get(
+			1L, "clients", Set.of(Entity.CLIENT), () -> {
+				started.countDown();
+				await(release);
+				return searches.incrementAndGet();
+			}
+		));
+		FutureTask<Integer> follower = new FutureTask<>(() -> searchResultCacheService.get(
+			1L, "clients", Set.of(Entity.CLIENT), searches::incrementAndGet
+		));
+
+		new Thread(leader).start();
+		started.await();
+		Thread waiting = new Thread(follower);
+		waiting.start();
+		awaitBlocked(waiting);
+		release.countDown();
+
+		assertThat(leader.get()).isEqualTo(1);
+		assertThat(follower.get()).isEqualTo(1);
+		assertThat(requests("search")).isEqualTo(1);
+		assertThat(requests("coalesced")).isEqualTo(1);
+	}
+
+	/**
+	 * Tests that a request stops waiting for a slow search of another request after the
+	 * timeout and runs the search itself.
+	 */
+	@Test
+	void coalesceTimeoutTest() throws Exception {
+		searchResultCacheService = new SearchResultCacheServiceImpl(
+			meterRegistry, 10, DataSize.ofKilobytes(4), Duration.ofMinutes(5), Duration.ofMillis(50)
+		);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		FutureTask<Integer> leader = new FutureTask<>(() -> searchResultCacheService.get(
+			1L, "clients", Set.of(Entity.CLIENT), () -> {
+				started.countDown();
+				await(release);
+				return -1;
+			}, null, 0
+		));
+
+		new Thread(leader).start();
+		started.await();
+		int result = search(1L, "clients", Set.of(Entity.CLIENT), null, 0);
+		release.countDown();
+
+		assertThat(leader.get()).isEqualTo(-1);
+		assertThat(result).isEqualTo(1);
+		assertThat(requests("timeout")).isEqualTo(1);
+	}
+
+	private double requests(String result) {
+		return meterRegistry.get("search.requests").tag("result", result).counter().count();
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void awaitBlocked(Thread thread) throws InterruptedException {
+		while (thread.getState() != Thread.State.TIMED_WAITING && thread.getState() != Thread.State.WAITING) {
+			Thread.sleep(1);
+		}
+	}
+
+	private int search(Long firmId, String endpoint, Set<Entity> entities, String name, int page) {
+		return searchResultCacheService.get(firmId, endpoint, entities, searches::incrementAndGet, name, page);
+	}
+}
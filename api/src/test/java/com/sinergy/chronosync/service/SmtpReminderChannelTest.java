@@ -0,0 +1,141 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.dto.response.AppointmentReminderDTO;
+import com.sinergy.chronosync.service.impl.SmtpReminderChannel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link SmtpReminderChannel}, talking to a scripted local SMTP server.
+ */
+class SmtpReminderChannelTest {
+
+	private ServerSocket server;
+	private SmtpReminderChannel channel;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+		channel = new SmtpReminderChannel(
+			InetAddress.getLoopbackAddress().getHostAddress(),
+			server.getLocalPort(),
+			"reminders@chronosync.local",
+			Duration.ofSeconds(5)
+		);
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		server.close();
+	}
+
+	/**
+	 * Tests that a reminder is mailed to the client in a single SMTP session.
+	 */
+	@Test
+	void deliverTest() throws Exception {
+		CompletableFuture<List<String>> received = serve("250");
+
+		channel.deliver(reminder("ana@example.com", "Massage"));
+
+		List<String> lines = received.get(5, TimeUnit.SECONDS);
+		assertThat(lines).contains(
+			"MAIL FROM:<reminders@chronosync.local>",
+			"RCPT TO:<ana@example.com>",
+			"To: ana@example.com",
+			"Hello Ana,",
+			"QUIT"
+		);
+		assertThat(lines).anyMatch(line -> line.startsWith("Message-ID: <4-60-20250202T124500@"));
+		assertThat(lines).anyMatch(line -> line.contains(" Massage on 2025-02-02 12:45 with Ivo Ivic."));
+	}
+
+	/**
+	 * Tests that a refused recipient fails the delivery, and that clients without a valid
+	 * address are skipped without connecting.
+	 */
+	@Test
+	void deliverRefusedTest() throws Exception {
+		serve("550");
+
+		assertThatThrownBy(() -> channel.deliver(reminder("ana@example.com", "Massage")))
+			.isInstanceOf(IOException.class)
+			.hasMessageContaining("550");
+
+		channel.deliver(reminder(null, "Massage"));
+		channel.deliver(reminder("ana@example.com>\r\nRCPT TO:<eve@example.com", "Massage"));
+	}
+
+	/**
+	 * Accepts one connection and replies to it like an SMTP server, answering the recipient
+	 * with the given code.
+	 *
+	 * @param recipientReply reply code to the recipient
+	 * @return {@link CompletableFuture} of the lines received
+	 */
+	private CompletableFuture<List<String>> serve(String recipientReply) {
+		return CompletableFuture.supplyAsync(() -> {
+			List<String> lines = new ArrayList<>();
+			try (Socket socket = server.accept()) {
+				BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+				PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+				out.print("220-localhost\r\n220 ready\r\n");
+				out.flush();
+				boolean data = false;
+				String line;
+				while ((line = in.readLine()) != null) {
+					lines.add(line);
+					String reply;
+					if (data) {
+						if (!line.equals(".")) {
+							continue;
+						}
+						data = false;
+						reply = "250 queued";
+					} else if (line.startsWith("RCPT")) {
+						reply = recipientReply + " recipient";
+					} else if (line.equals("DATA")) {
+						data = true;
+						reply = "354 go ahead";
+					} else if (line.equals("QUIT")) {
+						reply = "221 bye";
+					} else {
+						reply = "250 ok";
+					}
+					out.print(reply + "\r\n");
+					out.flush();
+				}
+			} catch (IOException e) {
+				throw new IllegalStateException(e);
+			}
+			return lines;
+		});
+	}
+
+	private static AppointmentReminderDTO reminder(String email, String type) {
+		return new AppointmentReminderDTO(
+			4L, 1L, 60L,
+			LocalDateTime.parse("2025-02-02T12:45"), LocalDateTime.parse("2025-02-02T13:45"),
+			null, type, "Ana", "Anic", email, "Ivo", "Ivic"
+		);
+	}
+}
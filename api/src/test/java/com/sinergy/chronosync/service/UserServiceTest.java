@@ -1,8 +1,10 @@
 package com.sinergy.chronosync.service;
 
 import com.sinergy.chronosync.dto.request.UserRequestDTO;
+import com.sinergy.chronosync.model.Firm;
 import com.sinergy.chronosync.model.user.User;
 import com.sinergy.chronosync.repository.UserRepository;
+import com.sinergy.chronosync.service.SearchResultCacheService.Entity;
 import com.sinergy.chronosync.service.impl.UserServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -29,6 +31,9 @@ class UserServiceTest {
 	@Mock
 	private SecurityContextService securityContextService;
 
+	@Mock
+	private SearchResultCacheService searchResultCacheService;
+
 	@InjectMocks
 	private UserServiceImpl userService;
 
@@ -37,12 +42,16 @@ class UserServiceTest {
 		MockitoAnnotations.openMocks(this);
 		User user = new User();
 		when(securityContextService.getAuthUser()).thenReturn(user);
+		Firm firm = new Firm();
+		firm.setId(1L);
+		when(securityContextService.getAuthUserFirm()).thenReturn(firm);
 	}
 
 	/**
 	 * Tests the {@link UserServiceImpl#create(UserRequestDTO)} method.
-	 * Verifies that a user is created successfully and that the correct methods are called
-	 * for encoding the password and saving the user to the repository.
+	 * Verifies that a user is created successfully, that the correct methods are called
+	 * for encoding the password and saving the user to the repository, and that the firm's
+	 * cached appointment searches, which carry employee names, are discarded.
 	 */
 	@Test
 	void createUserTest() {
@@ -62,5 +71,6 @@ class UserServiceTest {
 
 		verify(userRepository, times(1)).save(any(User.class));
 		verify(passwordEncoder, times(1)).encode(request.getPassword());
+		verify(searchResultCacheService, times(1)).invalidate(1L, Entity.APPOINTMENT);
 	}
 }
@@ -0,0 +1,87 @@
+package com.sinergy.chronosync.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sinergy.chronosync.dto.response.AppointmentReminderDTO;
+import com.sinergy.chronosync.service.impl.WebhookReminderChannel;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link WebhookReminderChannel}, posting to a local HTTP server.
+ */
+class WebhookReminderChannelTest {
+
+	private HttpServer server;
+	private final AtomicInteger status = new AtomicInteger(204);
+	private final AtomicReference<String> key = new AtomicReference<>();
+	private final AtomicReference<String> body = new AtomicReference<>();
+
+	private WebhookReminderChannel channel;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/reminders", exchange -> {
+			key.set(exchange.getRequestHeaders().getFirst("Idempotency-Key"));
+			body.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+			exchange.sendResponseHeaders(status.get(), -1);
+			exchange.close();
+		});
+		server.start();
+
+		channel = new WebhookReminderChannel(
+			new ObjectMapper().registerModule(new JavaTimeModule()),
+			URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/reminders"),
+			Duration.ofSeconds(5)
+		);
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.stop(0);
+	}
+
+	/**
+	 * Tests that a reminder is posted as JSON with its key as the idempotency key.
+	 */
+	@Test
+	void deliverTest() throws IOException {
+		channel.deliver(reminder());
+
+		assertThat(key.get()).isEqualTo("4-60-20250202T124500");
+		assertThat(body.get()).contains("\"appointmentId\":4", "\"minutesBefore\":60", "\"clientEmail\":\"ana@example.com\"");
+	}
+
+	/**
+	 * Tests that a response other than a success fails the delivery.
+	 */
+	@Test
+	void deliverRejectedTest() {
+		status.set(503);
+
+		assertThatThrownBy(() -> channel.deliver(reminder())).isInstanceOf(IOException.class);
+	}
+
+	private static AppointmentReminderDTO reminder() {
+		return new AppointmentReminderDTO(
+			4L, 1L, 60L,
+			LocalDateTime.parse("2025-02-02T12:45"), LocalDateTime.parse("2025-02-02T13:45"),
+			null, "Massage", "Ana", "Anic", "ana@example.com", "Ivo", "Ivic"
+		);
+	}
+}
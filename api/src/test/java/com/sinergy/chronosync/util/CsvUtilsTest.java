@@ -0,0 +1,51 @@
+package com.sinergy.chronosync.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit tests for the {@link CsvUtils} class.
+ */
+class CsvUtilsTest {
+
+	/**
+	 * Tests the {@link CsvUtils#escape(Object)} method.
+	 *
+	 * <p>Verifies that null values become empty fields, plain values are written as is,
+	 * and values containing separators, quotes or line breaks are quoted.</p>
+	 */
+	@Test
+	void testEscape() {
+		assertEquals("", CsvUtils.escape(null));
+		assertEquals("plain", CsvUtils.escape("plain"));
+		assertEquals("42", CsvUtils.escape(42));
+		assertEquals("\"a,b\"", CsvUtils.escape("a,b"));
+		assertEquals("\"say \"\"hi\"\"\"", CsvUtils.escape("say \"hi\""));
+		assertEquals("\"line\nbreak\"", CsvUtils.escape("line\nbreak"));
+	}
+
+	/**
+	 * Tests the {@link CsvUtils#parse(Reader)} method.
+	 *
+	 * <p>Verifies that quoted fields keep separators, doubled quotes and line breaks,
+	 * that CRLF and LF endings are accepted, and that blank lines and empty fields are handled.</p>
+	 */
+	@Test
+	void testParse() throws IOException {
+		String csv = "a,b,c\r\n\"x, y\",\"say \"\"hi\"\"\",\"two\nlines\"\n\n1,,3";
+
+		List<List<String>> records = CsvUtils.parse(new StringReader(csv));
+
+		assertEquals(List.of(
+			List.of("a", "b", "c"),
+			List.of("x, y", "say \"hi\"", "two\nlines"),
+			List.of("1", "", "3")
+		), records);
+	}
+}
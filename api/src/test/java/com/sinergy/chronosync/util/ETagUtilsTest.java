@@ -0,0 +1,28 @@
+package com.sinergy.chronosync.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the {@link ETagUtils} class.
+ */
+class ETagUtilsTest {
+
+	/**
+	 * Tests the {@link ETagUtils#matches(String, String)} method.
+	 *
+	 * <p>Verifies that a missing header never matches, that any listed tag matches whether
+	 * weak or strong, and that the wildcard matches every tag.</p>
+	 */
+	@Test
+	void testMatches() {
+		assertFalse(ETagUtils.matches(null, "\"a\""));
+		assertFalse(ETagUtils.matches("", "\"a\""));
+		assertFalse(ETagUtils.matches("\"b\"", "\"a\""));
+		assertTrue(ETagUtils.matches("\"a\"", "\"a\""));
+		assertTrue(ETagUtils.matches("\"b\", W/\"a\"", "\"a\""));
+		assertTrue(ETagUtils.matches("*", "\"a\""));
+	}
+}
@@ -0,0 +1,68 @@
+package com.sinergy.chronosync.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the {@link IcsUtils} class.
+ */
+class IcsUtilsTest {
+
+	/**
+	 * Tests the {@link IcsUtils#escape(String)} method.
+	 *
+	 * <p>Verifies that null values become empty, that backslashes, semicolons and commas
+	 * are escaped, and that every kind of line break becomes {@code \n}.</p>
+	 */
+	@Test
+	void testEscape() {
+		assertEquals("", IcsUtils.escape(null));
+		assertEquals("plain", IcsUtils.escape("plain"));
+		assertEquals("a\\, b\\; c\\\\d", IcsUtils.escape("a, b; c\\d"));
+		assertEquals("one\\ntwo\\nthree\\nfour", IcsUtils.escape("one\r\ntwo\nthree\rfour"));
+	}
+
+	/**
+	 * Tests the {@link IcsUtils#formatUtc(LocalDateTime)} method.
+	 */
+	@Test
+	void testFormatUtc() {
+		assertEquals("20250203T094500Z", IcsUtils.formatUtc(LocalDateTime.parse("2025-02-03T09:45")));
+	}
+
+	/**
+	 * Tests the {@link IcsUtils#writeLine(Writer, String)} method.
+	 *
+	 * <p>Verifies that short lines are written as is, and that long lines are folded into
+	 * lines of at most 75 octets without splitting a multi-byte character.</p>
+	 */
+	@Test
+	void testWriteLine() throws IOException {
+		StringWriter writer = new StringWriter();
+		IcsUtils.writeLine(writer, "SUMMARY:short");
+		assertEquals("SUMMARY:short\r\n", writer.toString());
+
+		String line = "DESCRIPTION:" + "é".repeat(100);
+		writer = new StringWriter();
+		IcsUtils.writeLine(writer, line);
+
+		String[] lines = writer.toString().split("\r\n");
+		StringBuilder unfolded = new StringBuilder(lines[0]);
+		for (int i = 0; i < lines.length; i++) {
+			assertTrue(lines[i].getBytes(StandardCharsets.UTF_8).length <= 75);
+			if (i > 0) {
+				assertTrue(lines[i].startsWith(" "));
+				unfolded.append(lines[i].substring(1));
+			}
+		}
+		assertEquals(line, unfolded.toString());
+	}
+}
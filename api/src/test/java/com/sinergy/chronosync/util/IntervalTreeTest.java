@@ -0,0 +1,94 @@
+package com.sinergy.chronosync.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the {@link IntervalTree} class.
+ */
+class IntervalTreeTest {
+
+	/**
+	 * Tests the {@link IntervalTree#overlaps(Comparable, Comparable, Long)} method.
+	 *
+	 * <p>Verifies that intervals are half-open, so touching intervals do not overlap,
+	 * and that the excluded key is ignored.</p>
+	 */
+	@Test
+	void testOverlaps() {
+		IntervalTree<Integer> tree = new IntervalTree<>();
+		tree.put(1L, 10, 20);
+		tree.put(2L, 30, 40);
+
+		assertTrue(tree.overlaps(15, 16, null));
+		assertTrue(tree.overlaps(5, 11, null));
+		assertTrue(tree.overlaps(19, 31, null));
+		assertTrue(tree.overlaps(0, 100, null));
+		assertFalse(tree.overlaps(20, 30, null));
+		assertFalse(tree.overlaps(0, 10, null));
+		assertFalse(tree.overlaps(40, 50, null));
+		assertFalse(tree.overlaps(12, 18, 1L));
+		assertTrue(tree.overlaps(12, 35, 1L));
+	}
+
+	/**
+	 * Tests the {@link IntervalTree#put(Long, Comparable, Comparable)} and
+	 * {@link IntervalTree#remove(Long)} methods.
+	 *
+	 * <p>Verifies that putting an existing key moves its interval and that removed
+	 * intervals no longer overlap anything.</p>
+	 */
+	@Test
+	void testPutAndRemove() {
+		IntervalTree<Integer> tree = new IntervalTree<>();
+		tree.put(1L, 10, 20);
+		tree.put(1L, 50, 60);
+
+		assertEquals(1, tree.size());
+		assertFalse(tree.overlaps(10, 20, null));
+		assertTrue(tree.overlaps(55, 56, null));
+
+		assertTrue(tree.remove(1L));
+		assertFalse(tree.remove(1L));
+		assertFalse(tree.contains(1L));
+		assertFalse(tree.overlaps(0, 100, null));
+	}
+
+	/**
+	 * Verifies the tree against a brute force check over random inserts, moves and removals,
+	 * which exercises every rebalancing case.
+	 */
+	@Test
+	void testAgainstBruteForce() {
+		Random random = new Random(42);
+		IntervalTree<Integer> tree = new IntervalTree<>();
+		Map<Long, int[]> intervals = new HashMap<>();
+
+		for (int step = 0; step < 5000; step++) {
+			long key = random.nextInt(300);
+			if (random.nextInt(4) == 0) {
+				assertEquals(intervals.remove(key) != null, tree.remove(key));
+			} else {
+				int start = random.nextInt(10000);
+				int end = start + 1 + random.nextInt(50);
+				tree.put(key, start, end);
+				intervals.put(key, new int[]{start, end});
+			}
+
+			int start = random.nextInt(10000);
+			int end = start + 1 + random.nextInt(100);
+			Long exclude = random.nextBoolean() ? (long) random.nextInt(300) : null;
+			boolean expected = intervals.entrySet().stream().anyMatch(e ->
+				!e.getKey().equals(exclude) && e.getValue()[0] < end && e.getValue()[1] > start);
+			assertEquals(expected, tree.overlaps(start, end, exclude));
+			assertEquals(intervals.size(), tree.size());
+		}
+	}
+}
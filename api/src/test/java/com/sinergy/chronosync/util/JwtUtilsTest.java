@@ -1,5 +1,8 @@
 package com.sinergy.chronosync.util;
 
+import com.sinergy.chronosync.model.Firm;
+import com.sinergy.chronosync.model.user.User;
+import com.sinergy.chronosync.model.user.UserRole;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -8,6 +11,9 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.when;
 
@@ -87,4 +93,49 @@ class JwtUtilsTest {
 
 		assertTrue(jwtUtils.isTokenValid(jwtToken, mockUserDetails));
 	}
+
+	/**
+	 * Tests the {@link JwtUtils#extractTimeZone(String)} method.
+	 *
+	 * <p>Verifies that the time zone of the user's firm is carried as a claim, and that a
+	 * token without one or with an invalid one is read as UTC.</p>
+	 */
+	@Test
+	void extractTimeZoneTest() {
+		Firm firm = new Firm();
+		firm.setId(1L);
+		firm.setTimeZone("Europe/Sarajevo");
+		User user = new User();
+		user.setId(2L);
+		user.setUsername("manager");
+		user.setRole(UserRole.MANAGER);
+		user.setFirm(firm);
+
+		assertEquals(ZoneId.of("Europe/Sarajevo"), jwtUtils.extractTimeZone(jwtUtils.generateJWTString(user)));
+		assertEquals(ZoneOffset.UTC, jwtUtils.extractTimeZone(jwtUtils.generateJWTString(mockUserDetails)));
+
+		firm.setTimeZone("Europe/Atlantis");
+		assertEquals(ZoneOffset.UTC, jwtUtils.extractTimeZone(jwtUtils.generateJWTString(user)));
+	}
+
+	/**
+	 * Tests the {@link JwtUtils#extractTier(String)} method.
+	 *
+	 * <p>Verifies that the tier of the user's firm is carried as a claim, and that a token
+	 * without one has no tier.</p>
+	 */
+	@Test
+	void extractTierTest() {
+		Firm firm = new Firm();
+		firm.setId(1L);
+		firm.setTier("premium");
+		User user = new User();
+		user.setId(2L);
+		user.setUsername("manager");
+		user.setRole(UserRole.MANAGER);
+		user.setFirm(firm);
+
+		assertEquals("premium", jwtUtils.extractTier(jwtUtils.generateJWTString(user)));
+		assertNull(jwtUtils.extractTier(jwtUtils.generateJWTString(mockUserDetails)));
+	}
 }
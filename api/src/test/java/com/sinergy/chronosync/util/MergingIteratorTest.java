@@ -0,0 +1,51 @@
+package com.sinergy.chronosync.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for the {@link MergingIterator} class.
+ */
+class MergingIteratorTest {
+
+	/**
+	 * Verifies that sorted sources are merged in order, that equal elements keep the order
+	 * of their sources and that empty sources are skipped.
+	 */
+	@Test
+	void testMerge() {
+		Comparator<String> byLength = Comparator.comparingInt(String::length);
+		MergingIterator<String> merged = new MergingIterator<>(List.of(
+			List.of("b", "bbb").iterator(),
+			List.<String>of().iterator(),
+			List.of("a", "aa", "aaaa").iterator(),
+			List.of("cc").iterator()
+		), byLength);
+
+		List<String> result = new ArrayList<>();
+		merged.forEachRemaining(result::add);
+
+		assertEquals(List.of("b", "a", "aa", "cc", "bbb", "aaaa"), result);
+		assertFalse(merged.hasNext());
+		assertThrows(NoSuchElementException.class, merged::next);
+	}
+
+	/**
+	 * Verifies that merging no sources yields nothing.
+	 */
+	@Test
+	void testNoSources() {
+		MergingIterator<Integer> merged = new MergingIterator<>(List.<Iterator<Integer>>of(), Comparator.naturalOrder());
+
+		assertFalse(merged.hasNext());
+	}
+}
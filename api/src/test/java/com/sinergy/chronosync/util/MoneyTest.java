@@ -0,0 +1,79 @@
+package com.sinergy.chronosync.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sinergy.chronosync.model.appointmentType.Currency;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for the {@link Money} record.
+ */
+class MoneyTest {
+
+	/**
+	 * Tests the {@link Money#of(BigDecimal, Currency)} method with exact and too precise amounts.
+	 */
+	@Test
+	void testOf() {
+		assertEquals(new Money(1999L, Currency.EUR), Money.of(new BigDecimal("19.99"), Currency.EUR));
+		assertEquals(new Money(2000L, Currency.EUR), Money.of(new BigDecimal("20"), Currency.EUR));
+		assertEquals(new Money(2000L, Currency.EUR), Money.of(new BigDecimal("20.000"), Currency.EUR));
+		assertThrows(IllegalArgumentException.class, () -> Money.of(new BigDecimal("19.999"), Currency.EUR));
+		assertThrows(NullPointerException.class, () -> Money.of(BigDecimal.ONE, null));
+	}
+
+	/**
+	 * Tests the {@link Money#ofNullable(Long, Currency)} method.
+	 */
+	@Test
+	void testOfNullable() {
+		assertEquals(new Money(5L, Currency.CHF), Money.ofNullable(5L, Currency.CHF));
+		assertNull(Money.ofNullable(null, Currency.CHF));
+		assertNull(Money.ofNullable(5L, null));
+	}
+
+	/**
+	 * Tests the {@link Money#plus(Money)} method, which adds exactly and refuses other currencies.
+	 */
+	@Test
+	void testPlus() {
+		Money sum = new Money(0L, Currency.EUR);
+		for (int i = 0; i < 10; i++) {
+			sum = sum.plus(new Money(10L, Currency.EUR));
+		}
+
+		Money total = sum;
+
+		assertEquals(new Money(100L, Currency.EUR), total);
+		assertThrows(IllegalArgumentException.class, () -> total.plus(new Money(1L, Currency.USD)));
+		assertThrows(ArithmeticException.class, () -> new Money(Long.MAX_VALUE, Currency.EUR).plus(total));
+	}
+
+	/**
+	 * Tests the {@link Money#convert(Currency, BigDecimal)} method, which rounds half to even.
+	 */
+	@Test
+	void testConvert() {
+		Money amount = new Money(1050L, Currency.EUR);
+
+		assertEquals(new Money(1234L, Currency.CHF), amount.convert(Currency.CHF, new BigDecimal("1.17523810")));
+		assertEquals(new Money(1050L, Currency.USD), amount.convert(Currency.USD, BigDecimal.ONE));
+		assertEquals(new Money(2L, Currency.USD), new Money(5L, Currency.EUR).convert(Currency.USD, new BigDecimal("0.5")));
+		assertEquals(new Money(4L, Currency.USD), new Money(7L, Currency.EUR).convert(Currency.USD, new BigDecimal("0.5")));
+		assertEquals(amount, amount.convert(Currency.EUR, new BigDecimal("2")));
+	}
+
+	/**
+	 * Tests that amounts are written as decimals with the currency's number of decimals.
+	 */
+	@Test
+	void testSerialize() throws Exception {
+		assertEquals("12.50", new ObjectMapper().writeValueAsString(new Money(1250L, Currency.GBP)));
+		assertEquals("12.50 GBP", new Money(1250L, Currency.GBP).toString());
+	}
+}
@@ -0,0 +1,109 @@
+package com.sinergy.chronosync.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the {@link RecurrenceRule} class.
+ */
+class RecurrenceRuleTest {
+
+	private static final LocalDateTime MONDAY = LocalDateTime.of(2025, 1, 6, 10, 0);
+
+	/**
+	 * Tests the {@link RecurrenceRule#parse(String)} method.
+	 *
+	 * <p>Verifies that the prefix and case are ignored, that the rule is formatted in its
+	 * canonical form and that malformed or unsupported rules are rejected.</p>
+	 */
+	@Test
+	void testParse() {
+		assertEquals("FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,TH;COUNT=10",
+			RecurrenceRule.parse("rrule:freq=weekly;byday=th,mo;interval=2;count=10;wkst=mo").toString());
+		assertEquals("FREQ=DAILY;UNTIL=20250110T235959",
+			RecurrenceRule.parse("FREQ=DAILY;UNTIL=20250110").toString());
+
+		assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse(null));
+		assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("INTERVAL=2"));
+		assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=YEARLY"));
+		assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=DAILY;COUNT=0"));
+		assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=DAILY;COUNT=2;UNTIL=20250110"));
+		assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=DAILY;BYDAY=MO"));
+		assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=XX"));
+		assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=WEEKLY;WKST=SU"));
+		assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=WEEKLY;BYMONTH=1"));
+	}
+
+	/**
+	 * Tests the {@link RecurrenceRule#startsFrom(LocalDateTime, LocalDateTime)} method for
+	 * weekly rules.
+	 *
+	 * <p>Verifies that days before the first occurrence are skipped, that the interval is
+	 * applied to whole weeks and that the count ends the rule.</p>
+	 */
+	@Test
+	void testStartsFromWeekly() {
+		RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,WE;COUNT=5");
+		LocalDateTime wednesday = MONDAY.plusDays(2);
+
+		assertEquals(List.of(
+			wednesday, MONDAY.plusWeeks(2), wednesday.plusWeeks(2), MONDAY.plusWeeks(4), wednesday.plusWeeks(4)
+		), take(rule.startsFrom(wednesday, wednesday), 10));
+		assertEquals(List.of(MONDAY.plusWeeks(4), wednesday.plusWeeks(4)),
+			take(rule.startsFrom(wednesday, MONDAY.plusWeeks(3)), 10));
+		assertEquals(wednesday.plusWeeks(4), rule.lastStart(wednesday));
+	}
+
+	/**
+	 * Tests the {@link RecurrenceRule#startsFrom(LocalDateTime, LocalDateTime)} method for
+	 * daily and monthly rules.
+	 *
+	 * <p>Verifies that generation starts at the requested time, that months without the day
+	 * of the first occurrence are skipped and that the until time is inclusive.</p>
+	 */
+	@Test
+	void testStartsFromDailyAndMonthly() {
+		RecurrenceRule daily = RecurrenceRule.parse("FREQ=DAILY;INTERVAL=3");
+		assertEquals(List.of(MONDAY.plusDays(3000), MONDAY.plusDays(3003)),
+			take(daily.startsFrom(MONDAY, MONDAY.plusDays(2998)), 2));
+		assertNull(daily.lastStart(MONDAY));
+
+		LocalDateTime first = LocalDateTime.of(2025, 1, 31, 9, 0);
+		RecurrenceRule monthly = RecurrenceRule.parse("FREQ=MONTHLY;UNTIL=20250531T090000");
+		assertEquals(List.of(first, first.withMonth(3), first.withMonth(5)), take(monthly.startsFrom(first, first), 10));
+		assertEquals(first.withMonth(5), monthly.lastStart(first));
+	}
+
+	/**
+	 * Tests the {@link RecurrenceRule#isOccurrence(LocalDateTime, LocalDateTime)} method.
+	 */
+	@Test
+	void testIsOccurrence() {
+		RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=MO,WE;COUNT=4");
+
+		assertTrue(rule.isOccurrence(MONDAY, MONDAY));
+		assertTrue(rule.isOccurrence(MONDAY, MONDAY.plusDays(9)));
+		assertFalse(rule.isOccurrence(MONDAY, MONDAY.plusDays(1)));
+		assertFalse(rule.isOccurrence(MONDAY, MONDAY.plusHours(1)));
+		assertFalse(rule.isOccurrence(MONDAY, MONDAY.plusWeeks(2)));
+		assertFalse(rule.isOccurrence(MONDAY, MONDAY.minusWeeks(1)));
+	}
+
+	private static List<LocalDateTime> take(Iterator<LocalDateTime> starts, int limit) {
+		List<LocalDateTime> result = new ArrayList<>();
+		while (result.size() < limit && starts.hasNext()) {
+			result.add(starts.next());
+		}
+		return result;
+	}
+}
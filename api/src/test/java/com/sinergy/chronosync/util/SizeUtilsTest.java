@@ -0,0 +1,35 @@
+package com.sinergy.chronosync.util;
+
+import com.sinergy.chronosync.model.appointmentType.Currency;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the {@link SizeUtils} class.
+ */
+class SizeUtilsTest {
+
+	/**
+	 * Tests the {@link SizeUtils#estimate(Object)} method.
+	 *
+	 * <p>Verifies that missing values and enum constants cost nothing, that longer strings
+	 * and larger collections are estimated larger, and that a page counts its rows.</p>
+	 */
+	@Test
+	void testEstimate() {
+		assertEquals(0, SizeUtils.estimate(null));
+		assertEquals(0, SizeUtils.estimate(Currency.EUR));
+		assertTrue(SizeUtils.estimate("a longer string") > SizeUtils.estimate("short"));
+		assertTrue(SizeUtils.estimate(List.of("a", "b")) > SizeUtils.estimate(List.of("a")));
+
+		Money money = new Money(100L, Currency.EUR);
+		long row = SizeUtils.estimate(money);
+		assertTrue(row > 0);
+		assertTrue(SizeUtils.estimate(new PageImpl<>(List.of(money, money))) > 2 * row);
+	}
+}
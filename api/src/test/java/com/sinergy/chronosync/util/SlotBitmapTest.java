@@ -0,0 +1,134 @@
+package com.sinergy.chronosync.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the {@link SlotBitmap} class.
+ */
+class SlotBitmapTest {
+
+	/**
+	 * Tests the {@link SlotBitmap#set(int, int)} method across word boundaries and at
+	 * the end of the day.
+	 */
+	@Test
+	void testSet() {
+		SlotBitmap bitmap = new SlotBitmap().set(60, 130).set(280, 400);
+
+		assertEquals(70 + 8, bitmap.cardinality());
+		assertFalse(bitmap.get(59));
+		assertTrue(bitmap.get(60));
+		assertTrue(bitmap.get(64));
+		assertTrue(bitmap.get(129));
+		assertFalse(bitmap.get(130));
+		assertTrue(bitmap.get(SlotBitmap.SLOTS_PER_DAY - 1));
+		assertTrue(new SlotBitmap().set(5, 5).isEmpty());
+	}
+
+	/**
+	 * Tests the {@link SlotBitmap#clear(int, int)} and {@link SlotBitmap#retain(int, int)} methods.
+	 */
+	@Test
+	void testClearAndRetain() {
+		SlotBitmap bitmap = new SlotBitmap().set(0, SlotBitmap.SLOTS_PER_DAY).clear(60, 130);
+
+		assertEquals(SlotBitmap.SLOTS_PER_DAY - 70, bitmap.cardinality());
+		assertTrue(bitmap.get(59));
+		assertFalse(bitmap.get(60));
+		assertFalse(bitmap.get(129));
+		assertTrue(bitmap.get(130));
+		assertEquals(new SlotBitmap().set(50, 60).set(130, 140), bitmap.retain(50, 140));
+	}
+
+	/**
+	 * Tests the set operations and {@link SlotBitmap#forEachRun(int, SlotBitmap.RunConsumer)}
+	 * against {@link BitSet} on random bitmaps.
+	 */
+	@Test
+	void testOperationsMatchBitSet() {
+		Random random = new Random(42);
+		for (int round = 0; round < 200; round++) {
+			BitSet expectedA = new BitSet();
+			BitSet expectedB = new BitSet();
+			SlotBitmap a = randomBitmap(random, expectedA);
+			SlotBitmap b = randomBitmap(random, expectedB);
+
+			BitSet and = (BitSet) expectedA.clone();
+			and.and(expectedB);
+			BitSet or = (BitSet) expectedA.clone();
+			or.or(expectedB);
+			BitSet andNot = (BitSet) expectedA.clone();
+			andNot.andNot(expectedB);
+
+			assertEquals(runs(and, 1), runs(a.copy().and(b), 1));
+			assertEquals(runs(or, 1), runs(a.copy().or(b), 1));
+			assertEquals(runs(andNot, 3), runs(a.copy().andNot(b), 3));
+			assertEquals(and.cardinality(), a.copy().and(b).cardinality());
+		}
+	}
+
+	/**
+	 * Tests that times are rounded to whole slots and clamped to the day.
+	 */
+	@Test
+	void testSlotRounding() {
+		LocalDate day = LocalDate.parse("2025-02-03");
+
+		assertEquals(96, SlotBitmap.floorSlot(LocalTime.parse("08:04:59")));
+		assertEquals(97, SlotBitmap.ceilSlot(LocalTime.parse("08:00:01")));
+		assertEquals(96, SlotBitmap.ceilSlot(LocalTime.parse("08:00")));
+		assertEquals(0, SlotBitmap.floorSlot(day, LocalDateTime.parse("2025-02-02T23:00")));
+		assertEquals(SlotBitmap.SLOTS_PER_DAY, SlotBitmap.ceilSlot(day, LocalDateTime.parse("2025-02-04T00:00")));
+		assertEquals(LocalDateTime.parse("2025-02-04T00:00"), SlotBitmap.startOf(day, SlotBitmap.SLOTS_PER_DAY));
+
+		SlotBitmap bitmap = new SlotBitmap()
+			.setCovering(day, LocalDateTime.parse("2025-02-03T23:58"), LocalDateTime.parse("2025-02-04T01:00"));
+		assertEquals(1, bitmap.cardinality());
+		assertTrue(bitmap.get(SlotBitmap.SLOTS_PER_DAY - 1));
+	}
+
+	private static SlotBitmap randomBitmap(Random random, BitSet expected) {
+		SlotBitmap bitmap = new SlotBitmap();
+		for (int i = 0; i < 6; i++) {
+			int from = random.nextInt(SlotBitmap.SLOTS_PER_DAY);
+			int to = from + random.nextInt(80);
+			bitmap.set(from, to);
+			expected.set(from, Math.min(to, SlotBitmap.SLOTS_PER_DAY));
+		}
+		return bitmap;
+	}
+
+	private static List<Integer> runs(SlotBitmap bitmap, int minLength) {
+		List<Integer> runs = new ArrayList<>();
+		bitmap.forEachRun(minLength, (from, to) -> {
+			runs.add(from);
+			runs.add(to);
+		});
+		return runs;
+	}
+
+	private static List<Integer> runs(BitSet bits, int minLength) {
+		List<Integer> runs = new ArrayList<>();
+		for (int from = bits.nextSetBit(0); from >= 0; from = bits.nextSetBit(from + 1)) {
+			int to = bits.nextClearBit(from);
+			if (to - from >= minLength) {
+				runs.add(from);
+				runs.add(to);
+			}
+			from = to;
+		}
+		return runs;
+	}
+}
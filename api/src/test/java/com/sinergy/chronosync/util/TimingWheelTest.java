@@ -0,0 +1,111 @@
+package com.sinergy.chronosync.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the {@link TimingWheel} class.
+ */
+class TimingWheelTest {
+
+	/**
+	 * Tests the {@link TimingWheel#advance(long)} method.
+	 *
+	 * <p>Verifies that items placed on every level expire exactly at their deadline,
+	 * whether the wheel advances tick by tick or jumps ahead.</p>
+	 */
+	@Test
+	void testAdvance() {
+		TimingWheel<String> wheel = new TimingWheel<>(4, 3, 10);
+		wheel.schedule("a", 11);
+		wheel.schedule("b", 15);
+		wheel.schedule("c", 27);
+		wheel.schedule("d", 50);
+
+		assertEquals(List.of(), wheel.advance(10));
+		assertEquals(List.of("a"), wheel.advance(11));
+		assertEquals(List.of(), wheel.advance(14));
+		assertEquals(List.of("b"), wheel.advance(15));
+		for (long tick = 16; tick < 27; tick++) {
+			assertEquals(List.of(), wheel.advance(tick));
+		}
+		assertEquals(List.of("c", "d"), wheel.advance(60));
+		assertEquals(0, wheel.size());
+		assertEquals(60, wheel.getCurrentTick());
+	}
+
+	/**
+	 * Tests the {@link TimingWheel#schedule(Object, long)} and {@link TimingWheel#cancel(Object)}
+	 * methods.
+	 *
+	 * <p>Verifies that scheduling an item again moves it, that cancelled items never expire,
+	 * that overdue items expire on the next advance and that deadlines out of reach are
+	 * refused.</p>
+	 */
+	@Test
+	void testScheduleAndCancel() {
+		TimingWheel<String> wheel = new TimingWheel<>(4, 2, 0);
+		wheel.schedule("a", 5);
+		wheel.schedule("a", 3);
+		wheel.schedule("b", 4);
+		wheel.schedule("late", -2);
+
+		assertEquals(3, wheel.size());
+		assertTrue(wheel.cancel("b"));
+		assertFalse(wheel.cancel("b"));
+		assertFalse(wheel.contains("b"));
+		assertEquals(List.of("late", "a"), wheel.advance(10));
+
+		assertEquals(12, wheel.getReach());
+		assertTrue(wheel.schedule("far", 10 + wheel.getReach()));
+		assertFalse(wheel.schedule("beyond", 100));
+		assertFalse(wheel.contains("beyond"));
+	}
+
+	/**
+	 * Tests that random schedules, cancellations and advances expire every remaining item
+	 * exactly once and in deadline order.
+	 */
+	@Test
+	void testRandomSchedules() {
+		Random random = new Random(7);
+		TimingWheel<Integer> wheel = new TimingWheel<>(8, 3, 0);
+		long[] deadlines = new long[500];
+		List<Integer> expected = new ArrayList<>();
+		for (int item = 0; item < deadlines.length; item++) {
+			deadlines[item] = 1 + random.nextInt(400);
+			wheel.schedule(item, deadlines[item]);
+			if (item % 5 != 0) {
+				expected.add(item);
+			}
+		}
+		for (int item = 0; item < deadlines.length; item += 5) {
+			wheel.cancel(item);
+		}
+
+		List<Integer> expired = new ArrayList<>();
+		long tick = 0;
+		while (tick < 400) {
+			tick += 1 + random.nextInt(30);
+			for (Integer item : wheel.advance(tick)) {
+				assertTrue(deadlines[item] <= tick);
+				assertTrue(deadlines[item] > tick - 31);
+				expired.add(item);
+			}
+		}
+
+		expected.sort((left, right) -> Long.compare(deadlines[left], deadlines[right]));
+		assertEquals(expected.size(), expired.size());
+		assertEquals(
+			expected.stream().map(item -> deadlines[item]).toList(),
+			expired.stream().map(item -> deadlines[item]).toList()
+		);
+	}
+}
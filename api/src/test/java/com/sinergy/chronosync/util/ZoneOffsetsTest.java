@@ -0,0 +1,85 @@
+package com.sinergy.chronosync.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Unit tests for the {@link ZoneOffsets} class and the batch conversions of {@link DateTimeUtils}.
+ */
+class ZoneOffsetsTest {
+
+	private static final ZoneId VIENNA = ZoneId.of("Europe/Vienna");
+
+	/**
+	 * Tests the {@link ZoneOffsets#fromUtc(LocalDateTime)} method against
+	 * {@link DateTimeUtils#convertFromUtcToZone(LocalDateTime, ZoneId)} every quarter hour
+	 * of a year, inside and outside the window.
+	 */
+	@Test
+	void testFromUtc() {
+		LocalDateTime from = LocalDateTime.parse("2025-01-01T00:00");
+		ZoneOffsets offsets = ZoneOffsets.covering(VIENNA, from, from.plusMonths(6));
+
+		for (LocalDateTime time = from.minusDays(1); time.isBefore(from.plusYears(1)); time = time.plusMinutes(15)) {
+			assertEquals(DateTimeUtils.convertFromUtcToZone(time, VIENNA), offsets.fromUtc(time), time.toString());
+		}
+		assertNull(offsets.fromUtc(null));
+	}
+
+	/**
+	 * Tests the {@link ZoneOffsets#fromUtc(LocalDateTime)} method at the exact instants of
+	 * the daylight saving changes and for a zone with a fixed offset.
+	 */
+	@Test
+	void testFromUtcAtTransitions() {
+		ZoneOffsets offsets = ZoneOffsets.covering(
+			VIENNA, LocalDateTime.parse("2025-03-01T00:00"), LocalDateTime.parse("2025-11-01T00:00")
+		);
+
+		assertEquals(LocalDateTime.parse("2025-03-30T01:59:59"), offsets.fromUtc(LocalDateTime.parse("2025-03-30T00:59:59")));
+		assertEquals(LocalDateTime.parse("2025-03-30T03:00"), offsets.fromUtc(LocalDateTime.parse("2025-03-30T01:00")));
+		assertEquals(LocalDateTime.parse("2025-10-26T02:59:59"), offsets.fromUtc(LocalDateTime.parse("2025-10-26T00:59:59")));
+		assertEquals(LocalDateTime.parse("2025-10-26T02:00"), offsets.fromUtc(LocalDateTime.parse("2025-10-26T01:00")));
+
+		ZoneOffsets fixed = ZoneOffsets.covering(
+			ZoneOffset.ofHours(-3), LocalDateTime.parse("2025-03-01T00:00"), LocalDateTime.parse("2025-11-01T00:00")
+		);
+		assertEquals(LocalDateTime.parse("2025-05-31T21:00"), fixed.fromUtc(LocalDateTime.parse("2025-06-01T00:00")));
+	}
+
+	/**
+	 * Tests the {@link DateTimeUtils#convertFromUtcToZone(List, ZoneId)} method, which keeps
+	 * the order and {@code null} times of its input.
+	 */
+	@Test
+	void testConvertList() {
+		List<LocalDateTime> utcTimes = Arrays.asList(
+			LocalDateTime.parse("2025-07-01T10:00"), null, LocalDateTime.parse("2025-01-01T10:00")
+		);
+
+		assertEquals(
+			Arrays.asList(LocalDateTime.parse("2025-07-01T12:00"), null, LocalDateTime.parse("2025-01-01T11:00")),
+			DateTimeUtils.convertFromUtcToZone(utcTimes, VIENNA)
+		);
+		assertEquals(Arrays.asList(null, null), DateTimeUtils.convertFromUtcToZone(Arrays.asList(null, null), VIENNA));
+	}
+
+	/**
+	 * Tests the {@link DateTimeUtils#convertFromZoneToUtc(LocalDateTime, ZoneId)} method,
+	 * including local times skipped or repeated by a daylight saving change.
+	 */
+	@Test
+	void testConvertFromZoneToUtc() {
+		assertEquals(LocalDateTime.parse("2025-07-01T08:00"), DateTimeUtils.convertFromZoneToUtc(LocalDateTime.parse("2025-07-01T10:00"), VIENNA));
+		assertEquals(LocalDateTime.parse("2025-03-30T01:30"), DateTimeUtils.convertFromZoneToUtc(LocalDateTime.parse("2025-03-30T02:30"), VIENNA));
+		assertEquals(LocalDateTime.parse("2025-10-26T00:30"), DateTimeUtils.convertFromZoneToUtc(LocalDateTime.parse("2025-10-26T02:30"), VIENNA));
+	}
+}
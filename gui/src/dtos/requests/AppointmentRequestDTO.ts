@@ -8,6 +8,7 @@ import {AppointmentType} from "../../models/appointmentType/AppointmentType";
  */
 export interface AppointmentRequestDTO {
     id: number;
+    version?: number;
     note: string;
     startDateTime: string;
     endDateTime: string;
@@ -4,6 +4,7 @@ import { Currency } from '../../models/appointmentType/Currency';
  * Appointment type request DTO.
  *
  * @property {number} id - The ID of the appointment type
+ * @property {number} [version] - The version of the appointment type being updated
  * @property {string} name - The name of the appointment type
  * @property {number} durationMinutes - The duration of the appointment type in minutes
  * @property {number} price - The price of the appointment type
@@ -12,6 +13,7 @@ import { Currency } from '../../models/appointmentType/Currency';
  */
 export interface AppointmentTypeRequestDTO {
   id: number;
+  version?: number;
   name: string;
   durationMinutes: number;
   price: number;
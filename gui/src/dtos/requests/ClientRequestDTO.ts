@@ -2,6 +2,7 @@
  * Client request DTO.
  *
  * @property {number} id - The ID of the client
+ * @property {number} [version] - The version of the client being updated
  * @property {string} firstName - The first name of the client
  * @property {string} lastName - The last name of the client
  * @property {string} email - The email of the client
@@ -10,6 +11,7 @@
  */
 export interface ClientRequestDTO {
   id: number;
+  version?: number;
   firstName: string;
   lastName: string;
   email: string;
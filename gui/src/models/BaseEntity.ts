@@ -2,9 +2,11 @@
  * Base entity interface with common fields.
  *
  * @property {number} id - The ID of the entity
+ * @property {number} [version] - The version the entity was read at, required to update it
  */
 export interface BaseEntity {
   id: number;
+  version?: number;
 }
 
 /**
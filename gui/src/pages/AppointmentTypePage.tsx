@@ -190,6 +190,7 @@ const AppointmentTypePage: React.FC = () => {
     try {
       const requestData: AppointmentTypeRequestDTO = {
         id: isCreate ? 0 : appointmentType!.id,
+        version: isCreate ? undefined : appointmentType!.version,
         name: formData.name,
         durationMinutes: parseInt(formData.durationMinutes),
         price: parseFloat(formData.price),
@@ -190,6 +190,7 @@ const ClientsPage: React.FC = () => {
     try {
       const requestData: ClientRequestDTO = {
         id: isCreate ? 0 : client!.id,
+        version: isCreate ? undefined : client!.version,
         firstName: formData.firstName,
         lastName: formData.lastName,
         email: formData.email,